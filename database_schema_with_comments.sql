@@ -177,61 +177,55 @@ CREATE TABLE trading_strategies (
 
 -- 8. 백트래킹 결과 테이블
 -- 목적: 백트래킹 실행 결과 및 성과 지표 저장
--- 특징: 포괄적인 성과 분석 지표 포함
+-- 특징: 포괄적인 성과 분석 지표 포함, 자산곡선/거래 내역은 backtest_result_series에 분리 저장
 CREATE TABLE backtest_results (
     backtest_id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '백트래킹 고유 식별자 (자동 증가)',
-    user_id BIGINT NOT NULL COMMENT '백트래킹 실행자 ID (users 테이블 참조)',
-    strategy_id BIGINT NULL COMMENT '사용된 전략 ID (trading_strategies 테이블 참조)',
-    stock_id BIGINT NOT NULL COMMENT '백트래킹 대상 종목 ID (stocks 테이블 참조)',
+    stock_code VARCHAR(20) NOT NULL COMMENT '백트래킹 대상 종목코드',
+    strategy VARCHAR(50) NOT NULL COMMENT '사용된 전략명',
     start_date DATE NOT NULL COMMENT '백트래킹 시작일 (기간 설정)',
     end_date DATE NOT NULL COMMENT '백트래킹 종료일 (기간 설정)',
-    initial_capital DECIMAL(15,2) NOT NULL COMMENT '초기 자본금 (수익률 계산 기준)',
-    final_capital DECIMAL(15,2) NOT NULL COMMENT '최종 자본금 (백트래킹 결과)',
-    total_return DECIMAL(10,4) NOT NULL COMMENT '총 수익률 ((최종-초기)/초기)',
-    annual_return DECIMAL(10,4) COMMENT '연간 수익률 (연율화된 수익률)',
+    initial_capital DECIMAL(20,4) COMMENT '초기 자본금 (수익률 계산 기준)',
+    final_capital DECIMAL(20,4) COMMENT '최종 자본금 (백트래킹 결과)',
+    total_return DECIMAL(20,4) COMMENT '총 손익 (최종-초기)',
+    total_return_percent DECIMAL(12,4) COMMENT '총 수익률 (%)',
+    annualized_return DECIMAL(12,4) COMMENT '연간 수익률 (연율화된 수익률)',
+    max_drawdown DECIMAL(20,4) COMMENT '최대 낙폭 금액 (최고점 대비 최대 하락폭)',
+    max_drawdown_percent DECIMAL(12,4) COMMENT '최대 낙폭률 (%)',
+    sharpe_ratio DECIMAL(12,4) COMMENT '샤프 비율 (위험 대비 수익률)',
+    volatility DECIMAL(12,4) COMMENT '변동성',
     total_trades INT DEFAULT 0 COMMENT '총 거래 횟수 (매수+매도)',
     winning_trades INT DEFAULT 0 COMMENT '수익 거래 횟수 (이익 발생 거래)',
     losing_trades INT DEFAULT 0 COMMENT '손실 거래 횟수 (손실 발생 거래)',
-    win_rate DECIMAL(5,4) COMMENT '승률 (수익거래/총거래)',
-    max_drawdown DECIMAL(10,4) COMMENT '최대 낙폭 (최고점 대비 최대 하락폭)',
-    sharpe_ratio DECIMAL(10,4) COMMENT '샤프 비율 (위험 대비 수익률)',
-    sortino_ratio DECIMAL(10,4) COMMENT '소르티노 비율 (하방 위험 대비 수익률)',
-    profit_factor DECIMAL(10,4) COMMENT '수익 팩터 (총 수익/총 손실)',
-    average_trade DECIMAL(15,2) COMMENT '평균 거래 손익 (거래당 평균 손익)',
-    largest_win DECIMAL(15,2) COMMENT '최대 수익 거래 (단일 거래 최대 수익)',
-    largest_loss DECIMAL(15,2) COMMENT '최대 손실 거래 (단일 거래 최대 손실)',
-    total_commission DECIMAL(15,2) DEFAULT 0.00 COMMENT '총 수수료 (백트래킹 중 발생한 수수료)',
-    parameters JSON COMMENT '백트래킹 파라미터 (전략 설정값)',
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '백트래킹 실행일시',
-    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
-    FOREIGN KEY (strategy_id) REFERENCES trading_strategies(strategy_id) ON DELETE SET NULL,
-    FOREIGN KEY (stock_id) REFERENCES stocks(stock_id) ON DELETE CASCADE,
-    INDEX idx_user_id (user_id),
-    INDEX idx_stock_id (stock_id),
-    INDEX idx_start_date (start_date),
-    INDEX idx_end_date (end_date),
-    INDEX idx_total_return (total_return)
+    win_rate DECIMAL(12,4) COMMENT '승률 (수익거래/총거래)',
+    average_win DECIMAL(20,4) COMMENT '평균 수익 거래 손익',
+    average_loss DECIMAL(20,4) COMMENT '평균 손실 거래 손익',
+    profit_factor DECIMAL(12,4) COMMENT '수익 팩터 (총 수익/총 손실)',
+    total_commission DECIMAL(20,4) COMMENT '위탁 수수료 합계',
+    total_tax DECIMAL(20,4) COMMENT '증권거래세 합계 (매도)',
+    total_slippage DECIMAL(20,4) COMMENT '슬리피지 비용 합계 (기준 가격 대비 체결가 차이)',
+    peak_capital DECIMAL(20,4) COMMENT '최고 자산',
+    peak_date DATE COMMENT '최고 자산일',
+    max_drawdown_date DATE COMMENT '최대 낙폭일',
+    calmar_ratio DECIMAL(12,4) COMMENT '칼마 비율 (수익률/최대 낙폭)',
+    sortino_ratio DECIMAL(12,4) COMMENT '소르티노 비율 (하방 위험 대비 수익률)',
+    information_ratio DECIMAL(12,4) COMMENT '정보 비율',
+    treynor_ratio DECIMAL(12,4) COMMENT '트레이너 비율',
+    point_count INT COMMENT '자산곡선 지점 수',
+    series_bytes INT COMMENT '압축된 자산곡선+거래 내역 크기 (bytes)',
+    created_at DATETIME(6) NOT NULL COMMENT '백트래킹 저장일시',
+    INDEX idx_backtest_results_stock_code (stock_code),
+    INDEX idx_backtest_results_created_at (created_at)
 );
 
--- 9. 백트래킹 거래 내역 테이블
--- 목적: 백트래킹 중 발생한 모든 거래 내역 상세 관리
--- 특징: 백트래킹 결과와 1:N 관계, 누적 손익 추적
-CREATE TABLE backtest_trades (
-    backtest_trade_id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '백트래킹 거래 고유 식별자 (자동 증가)',
-    backtest_id BIGINT NOT NULL COMMENT '연관 백트래킹 ID (backtest_results 테이블 참조)',
-    trade_date DATE NOT NULL COMMENT '거래 발생일 (백트래킹 시뮬레이션 날짜)',
-    trade_type ENUM('BUY', 'SELL') NOT NULL COMMENT '거래 유형 (매수/매도)',
-    quantity INT NOT NULL COMMENT '거래 수량 (주식 개수)',
-    price DECIMAL(10,2) NOT NULL COMMENT '거래 가격 (시뮬레이션 가격)',
-    trade_value DECIMAL(15,2) NOT NULL COMMENT '거래 금액 (수량 * 가격)',
-    commission DECIMAL(10,2) DEFAULT 0.00 COMMENT '수수료 (시뮬레이션 수수료)',
-    cumulative_pnl DECIMAL(15,2) COMMENT '누적 손익 (해당 거래까지의 총 손익)',
-    position_size DECIMAL(10,4) COMMENT '포지션 크기 (전체 자본 대비 비율)',
-    signal_strength DECIMAL(5,4) COMMENT '신호 강도 (매매 신호의 신뢰도)',
-    FOREIGN KEY (backtest_id) REFERENCES backtest_results(backtest_id) ON DELETE CASCADE,
-    INDEX idx_backtest_id (backtest_id),
-    INDEX idx_trade_date (trade_date),
-    INDEX idx_trade_type (trade_type)
+-- 9. 백트래킹 자산곡선/거래 내역 테이블
+-- 목적: 백트래킹 자산곡선과 거래 내역을 열 단위 압축 형태로 저장
+-- 특징: 백트래킹 결과와 1:1 관계, 일자는 차분 인코딩, 금액은 소수 4자리 고정 정수 차분 + Deflate 압축
+CREATE TABLE backtest_result_series (
+    backtest_id BIGINT PRIMARY KEY COMMENT '연관 백트래킹 ID (backtest_results 테이블 참조)',
+    format_version INT NOT NULL COMMENT '저장 형식 버전',
+    equity_data MEDIUMBLOB NOT NULL COMMENT '자산곡선 압축 열 (일자, 현금, 평가금액, 총자산, 수익률, 낙폭, 낙폭률)',
+    trade_data MEDIUMBLOB NOT NULL COMMENT '거래 내역 압축 열 (일자, 구분, 가격, 수량, 금액, 수수료, 잔고, 보유수량, 사유, 거래세, 슬리피지)',
+    FOREIGN KEY (backtest_id) REFERENCES backtest_results(backtest_id) ON DELETE CASCADE
 );
 
 -- 10. 알림 설정 테이블
@@ -297,6 +291,108 @@ CREATE TABLE market_data_cache (
     INDEX idx_close_price (close_price)
 );
 
+-- 13. 자동매매 매매 기록 테이블
+-- 목적: 자동매매/수동 주문의 접수·체결 내역 기록 (TradingRecord 엔티티)
+-- 특징: 국내/해외 주문 공통, price/total_amount/commission은 원화 환산 금액이고
+--       해외 주문의 실제 주문 가격(소수점)과 통화, 주문 시점 환율은 unit_price/currency/exchange_rate에 보관
+CREATE TABLE trading_records (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '매매 기록 고유 식별자 (자동 증가)',
+    order_number VARCHAR(20) NOT NULL COMMENT '증권사 주문번호',
+    account_number VARCHAR(20) NOT NULL COMMENT '계좌번호',
+    stock_code VARCHAR(6) NOT NULL COMMENT '종목코드 (해외는 티커)',
+    stock_name VARCHAR(50) COMMENT '종목명',
+    order_type VARCHAR(10) NOT NULL COMMENT '주문구분 (매수/매도)',
+    quantity INT NOT NULL COMMENT '주문수량',
+    price INT NULL COMMENT '주문가격 (원화 환산, 해외 주문 환율 조회 실패 시 NULL)',
+    unit_price DECIMAL(19,4) COMMENT '주문가격 (주문 통화 기준, 소수점 그대로)',
+    currency VARCHAR(3) COMMENT '주문 통화 (KRW/USD)',
+    exchange_rate DECIMAL(19,4) COMMENT '원화 환산 환율 (해외 주문, 주문 시점)',
+    price_type VARCHAR(10) COMMENT '주문유형 (지정가/시장가)',
+    order_status VARCHAR(20) COMMENT '주문상태',
+    order_category VARCHAR(10) COMMENT '주문구분 (일반/정정/취소)',
+    original_order_number VARCHAR(20) COMMENT '정정/취소 시 원주문번호',
+    executed_quantity INT COMMENT '체결수량',
+    executed_price INT COMMENT '체결가격',
+    execution_time DATETIME(6) COMMENT '체결시간',
+    total_amount BIGINT COMMENT '총 거래금액 (원화 환산)',
+    commission INT COMMENT '수수료 (원화 환산)',
+    order_datetime DATETIME(6) NOT NULL COMMENT '주문일시',
+    created_at DATETIME(6) NOT NULL COMMENT '생성일시',
+    updated_at DATETIME(6) COMMENT '수정일시',
+    error_code VARCHAR(10) COMMENT '에러코드',
+    error_message VARCHAR(500) COMMENT '에러메시지',
+    api_response TEXT COMMENT 'API 응답 전체 JSON',
+    INDEX idx_trading_records_order_number (order_number),
+    INDEX idx_trading_records_account_number (account_number),
+    INDEX idx_trading_records_stock_code (stock_code),
+    INDEX idx_trading_records_order_datetime (order_datetime)
+);
+
+-- =====================================================
+-- 기존 DB 마이그레이션 (이미 운영 중인 DB에만 한 번 실행)
+-- =====================================================
+
+-- trading_records: 해외 주문 소수점 가격/통화/환율 컬럼 추가 (ddl-auto: validate 통과용)
+-- 기존 행은 모두 원화 주문이므로 unit_price는 price, currency는 KRW로 채움
+-- ALTER TABLE trading_records
+--     ADD COLUMN unit_price DECIMAL(19,4) NULL COMMENT '주문가격 (주문 통화 기준, 소수점 그대로)' AFTER price,
+--     ADD COLUMN currency VARCHAR(3) NULL COMMENT '주문 통화 (KRW/USD)' AFTER unit_price,
+--     ADD COLUMN exchange_rate DECIMAL(19,4) NULL COMMENT '원화 환산 환율 (해외 주문, 주문 시점)' AFTER currency;
+-- UPDATE trading_records SET unit_price = price, currency = 'KRW' WHERE currency IS NULL;
+-- 환율을 조회할 수 없었던 해외 주문은 원화 컬럼(price/total_amount/commission)을 비워 두므로 price NULL 허용
+-- ALTER TABLE trading_records MODIFY price INT NULL COMMENT '주문가격 (원화 환산, 해외 주문 환율 조회 실패 시 NULL)';
+
+-- backtest_results: 요약 행 + 압축 열 저장 구조로 변경 (BacktestSummary/BacktestSeries 엔티티, ddl-auto: validate 통과용)
+-- 이전 구조(user_id/stock_id 참조, backtest_trades 1:N)는 컬럼이 호환되지 않으므로 기존 테이블은 _legacy로 보관하고 새로 생성
+-- 이전 결과는 자산곡선이 없어 새 구조로 옮기지 않음 (필요 시 _legacy 테이블에서 조회, 확인 후 DROP)
+-- RENAME TABLE backtest_trades TO backtest_trades_legacy, backtest_results TO backtest_results_legacy;
+-- CREATE TABLE backtest_results (
+--     backtest_id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '백트래킹 고유 식별자 (자동 증가)',
+--     stock_code VARCHAR(20) NOT NULL COMMENT '백트래킹 대상 종목코드',
+--     strategy VARCHAR(50) NOT NULL COMMENT '사용된 전략명',
+--     start_date DATE NOT NULL COMMENT '백트래킹 시작일 (기간 설정)',
+--     end_date DATE NOT NULL COMMENT '백트래킹 종료일 (기간 설정)',
+--     initial_capital DECIMAL(20,4) COMMENT '초기 자본금 (수익률 계산 기준)',
+--     final_capital DECIMAL(20,4) COMMENT '최종 자본금 (백트래킹 결과)',
+--     total_return DECIMAL(20,4) COMMENT '총 손익 (최종-초기)',
+--     total_return_percent DECIMAL(12,4) COMMENT '총 수익률 (%)',
+--     annualized_return DECIMAL(12,4) COMMENT '연간 수익률 (연율화된 수익률)',
+--     max_drawdown DECIMAL(20,4) COMMENT '최대 낙폭 금액 (최고점 대비 최대 하락폭)',
+--     max_drawdown_percent DECIMAL(12,4) COMMENT '최대 낙폭률 (%)',
+--     sharpe_ratio DECIMAL(12,4) COMMENT '샤프 비율 (위험 대비 수익률)',
+--     volatility DECIMAL(12,4) COMMENT '변동성',
+--     total_trades INT DEFAULT 0 COMMENT '총 거래 횟수 (매수+매도)',
+--     winning_trades INT DEFAULT 0 COMMENT '수익 거래 횟수 (이익 발생 거래)',
+--     losing_trades INT DEFAULT 0 COMMENT '손실 거래 횟수 (손실 발생 거래)',
+--     win_rate DECIMAL(12,4) COMMENT '승률 (수익거래/총거래)',
+--     average_win DECIMAL(20,4) COMMENT '평균 수익 거래 손익',
+--     average_loss DECIMAL(20,4) COMMENT '평균 손실 거래 손익',
+--     profit_factor DECIMAL(12,4) COMMENT '수익 팩터 (총 수익/총 손실)',
+--     total_commission DECIMAL(20,4) COMMENT '위탁 수수료 합계',
+--     total_tax DECIMAL(20,4) COMMENT '증권거래세 합계 (매도)',
+--     total_slippage DECIMAL(20,4) COMMENT '슬리피지 비용 합계 (기준 가격 대비 체결가 차이)',
+--     peak_capital DECIMAL(20,4) COMMENT '최고 자산',
+--     peak_date DATE COMMENT '최고 자산일',
+--     max_drawdown_date DATE COMMENT '최대 낙폭일',
+--     calmar_ratio DECIMAL(12,4) COMMENT '칼마 비율 (수익률/최대 낙폭)',
+--     sortino_ratio DECIMAL(12,4) COMMENT '소르티노 비율 (하방 위험 대비 수익률)',
+--     information_ratio DECIMAL(12,4) COMMENT '정보 비율',
+--     treynor_ratio DECIMAL(12,4) COMMENT '트레이너 비율',
+--     point_count INT COMMENT '자산곡선 지점 수',
+--     series_bytes INT COMMENT '압축된 자산곡선+거래 내역 크기 (bytes)',
+--     created_at DATETIME(6) NOT NULL COMMENT '백트래킹 저장일시',
+--     INDEX idx_backtest_results_stock_code (stock_code),
+--     INDEX idx_backtest_results_created_at (created_at)
+-- );
+-- CREATE TABLE backtest_result_series (
+--     backtest_id BIGINT PRIMARY KEY COMMENT '연관 백트래킹 ID (backtest_results 테이블 참조)',
+--     format_version INT NOT NULL COMMENT '저장 형식 버전',
+--     equity_data MEDIUMBLOB NOT NULL COMMENT '자산곡선 압축 열 (일자, 현금, 평가금액, 총자산, 수익률, 낙폭, 낙폭률)',
+--     trade_data MEDIUMBLOB NOT NULL COMMENT '거래 내역 압축 열 (일자, 구분, 가격, 수량, 금액, 수수료, 잔고, 보유수량, 사유, 거래세, 슬리피지)',
+--     FOREIGN KEY (backtest_id) REFERENCES backtest_results(backtest_id) ON DELETE CASCADE
+-- );
+-- DROP TABLE backtest_trades_legacy, backtest_results_legacy;
+
 -- =====================================================
 -- 샘플 데이터 삽입 (주석 포함)
 -- =====================================================
@@ -6,6 +6,7 @@ import org.springframework.stereotype.Component;
 import trade.project.common.dto.ApiResponse;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.HashMap;
 import java.util.Map;
 import com.google.common.util.concurrent.RateLimiter;
@@ -13,6 +14,7 @@ import com.google.common.util.concurrent.RateLimiter;
 /**
  * 해외 주식 API 클라이언트
  * 나스닥, S&P 500 등 해외 주식 시장 API 호출
+ * 현재가와 원화 환율은 KIS 해외주식 현재가 상세(price-detail)를 사용하고, 나머지 조회/주문은 아직 모의 데이터를 반환한다.
  */
 @Slf4j
 @Component
@@ -24,22 +26,54 @@ public class ForeignStockApiClient {
     
     // 해외시장용 초당 5건 제한 (필요시 조정)
     private static final RateLimiter rateLimiter = RateLimiter.create(5.0);
+
+    private static final String DEFAULT_EXCHANGE = "NASDAQ";
+    private static final String FX_REFERENCE_SYMBOL = "AAPL"; // 환율 조회용 기준 종목 (응답의 t_rate 사용)
+    private static final String SUCCESS_CODE = "0";
+
+    // KIS 해외 시세 호출은 KisApiClient의 호출 제한/서킷을 그대로 사용
+    private final KisApiClient kisApiClient;
     
     /**
-     * 해외 주식 현재가 조회
+     * 해외 주식 현재가 조회 (NASDAQ 기준)
      */
     public ApiResponse<Map<String, Object>> getCurrentPrice(String stockCode) {
+        return getCurrentPrice(stockCode, DEFAULT_EXCHANGE);
+    }
+
+    /**
+     * 해외 주식 현재가 조회
+     * 가격은 소수점 그대로 BigDecimal로 반환하고, 당일 원화 환율(exchangeRate)을 함께 담는다.
+     * @param exchange NASDAQ, NYSE, AMEX
+     */
+    public ApiResponse<Map<String, Object>> getCurrentPrice(String stockCode, String exchange) {
         try {
-            rateLimiter.acquire(); // 호출 제한 적용
-            log.info("해외 주식 현재가 조회 요청: {}", stockCode);
-            
-            String url = FOREIGN_STOCK_BASE_URL + "/v1/stock/price/" + stockCode;
-            
-            // 실제 API 호출 (현재는 모의 데이터 반환)
-            Map<String, Object> mockData = createMockPriceData(stockCode);
-            
-            log.info("해외 주식 현재가 조회 성공: {}", stockCode);
-            return ApiResponse.success(mockData);
+            log.debug("해외 주식 현재가 조회 요청: {}", stockCode);
+
+            Map<String, Object> output = fetchPriceDetail(toKisExchangeCode(exchange), stockCode);
+            Map<String, Object> data = new HashMap<>();
+            BigDecimal currentPrice = decimal(output.get("last"));
+            BigDecimal basePrice = decimal(output.get("base"));
+            BigDecimal changeAmount = basePrice.signum() > 0 ? currentPrice.subtract(basePrice) : BigDecimal.ZERO;
+            data.put("stockCode", stockCode);
+            data.put("currentPrice", currentPrice);
+            data.put("changeAmount", changeAmount);
+            data.put("changeRate", basePrice.signum() > 0
+                    ? changeAmount.multiply(BigDecimal.valueOf(100)).divide(basePrice, 2, RoundingMode.HALF_UP)
+                    : BigDecimal.ZERO);
+            data.put("openPrice", decimal(output.get("open")));
+            data.put("highPrice", decimal(output.get("high")));
+            data.put("lowPrice", decimal(output.get("low")));
+            data.put("volume", decimal(output.get("tvol")).longValue());
+            data.put("marketCap", decimal(output.get("tomv")));
+            data.put("currency", output.get("curr") != null && !String.valueOf(output.get("curr")).isBlank()
+                    ? String.valueOf(output.get("curr")) : "USD");
+            data.put("exchange", exchange != null ? exchange : DEFAULT_EXCHANGE);
+            data.put("exchangeRate", decimal(output.get("t_rate")));
+            data.put("timestamp", System.currentTimeMillis());
+
+            log.debug("해외 주식 현재가 조회 성공: {}", stockCode);
+            return ApiResponse.success(data);
             
         } catch (Exception e) {
             log.error("해외 주식 현재가 조회 실패: {}, 에러: {}", stockCode, e.getMessage());
@@ -47,6 +81,18 @@ public class ForeignStockApiClient {
         }
     }
     
+    /**
+     * 당일 USD/KRW 환율 조회 (KIS 해외 현재가 상세 응답의 원화 환산 환율 t_rate)
+     */
+    public BigDecimal getUsdKrwRate() {
+        Map<String, Object> output = fetchPriceDetail(toKisExchangeCode(DEFAULT_EXCHANGE), FX_REFERENCE_SYMBOL);
+        BigDecimal rate = decimal(output.get("t_rate"));
+        if (rate.signum() <= 0) {
+            throw new IllegalStateException("환율 응답이 없습니다");
+        }
+        return rate;
+    }
+
     /**
      * 해외 주식 일자별 시세 조회
      */
@@ -133,23 +179,43 @@ public class ForeignStockApiClient {
     }
     
     /**
-     * 모의 현재가 데이터 생성
+     * KIS 해외 현재가 상세 조회 (오류 응답은 예외)
      */
-    private Map<String, Object> createMockPriceData(String stockCode) {
-        Map<String, Object> data = new HashMap<>();
-        data.put("stockCode", stockCode);
-        data.put("currentPrice", new BigDecimal("150.50"));
-        data.put("changeAmount", new BigDecimal("2.30"));
-        data.put("changeRate", new BigDecimal("1.55"));
-        data.put("openPrice", new BigDecimal("148.20"));
-        data.put("highPrice", new BigDecimal("152.10"));
-        data.put("lowPrice", new BigDecimal("147.80"));
-        data.put("volume", 15000000L);
-        data.put("marketCap", new BigDecimal("2500000000000"));
-        data.put("currency", "USD");
-        data.put("exchange", "NASDAQ");
-        data.put("timestamp", System.currentTimeMillis());
-        return data;
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> fetchPriceDetail(String exchangeCode, String symbol) {
+        Map<String, Object> response = kisApiClient.getOverseasPriceDetail(exchangeCode, symbol);
+        if (response == null || !(response.get("output") instanceof Map)) {
+            throw new IllegalStateException("해외 현재가 응답에 output이 없습니다");
+        }
+        Object rtCd = response.get("rt_cd");
+        if (rtCd != null && !SUCCESS_CODE.equals(String.valueOf(rtCd))) {
+            throw new IllegalStateException("해외 현재가 조회 오류: " + response.get("msg1"));
+        }
+        return (Map<String, Object>) response.get("output");
+    }
+
+    /**
+     * 거래소명을 KIS 거래소 코드로 변환
+     */
+    static String toKisExchangeCode(String exchange) {
+        if (exchange == null) {
+            return "NAS";
+        }
+        return switch (exchange.toUpperCase()) {
+            case "NYSE", "NYS" -> "NYS";
+            case "AMEX", "AMS" -> "AMS";
+            default -> "NAS";
+        };
+    }
+
+    /**
+     * 시세 문자열을 소수점 그대로 변환 (빈 값은 0)
+     */
+    private static BigDecimal decimal(Object value) {
+        if (value == null || String.valueOf(value).isBlank()) {
+            return BigDecimal.ZERO;
+        }
+        return new BigDecimal(String.valueOf(value).trim());
     }
     
     /**
@@ -1,15 +1,19 @@
 package trade.project.api.client;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import trade.project.common.client.BaseRestClient;
+import trade.project.common.client.ResilientCaller;
 import trade.project.common.dto.ApiResponse;
 import trade.project.common.exception.ApiException;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import com.google.common.util.concurrent.RateLimiter;
 
@@ -29,6 +33,10 @@ public class KisApiClient {
     @Value("${kis.api.app-secret}")
     private String appSecret;
 
+    // 현재가 조회 지연 시 헤지 요청 여부
+    @Value("${kis.api.hedge-quotes:true}")
+    private boolean hedgeQuotes;
+
     // 토큰 캐싱을 위한 필드
     private String cachedAccessToken;
     private LocalDateTime tokenExpiryTime;
@@ -37,6 +45,15 @@ public class KisApiClient {
     // 초당 5건 제한 (한국투자증권 OpenAPI 기준, 필요시 조정)
     private static final RateLimiter rateLimiter = RateLimiter.create(5.0);
 
+    // 조회 API 보호 (서킷 브레이커 + 재시도 + 헤지), 시도마다 호출 한도를 사용
+    private final ResilientCaller resilientCaller = new ResilientCaller("KIS", rateLimiter::acquire, rateLimiter::tryAcquire);
+    private static final int MAX_READ_ATTEMPTS = 3;
+    private static final long QUOTE_ATTEMPT_TIMEOUT_MILLIS = 2_000;
+    private static final long READ_ATTEMPT_TIMEOUT_MILLIS = 5_000;
+    private static final ResilientCaller.Policy READ_POLICY =
+            new ResilientCaller.Policy(MAX_READ_ATTEMPTS, READ_ATTEMPT_TIMEOUT_MILLIS, false);
+    private static final int MAX_DAILY_ORDER_PAGES = 10; // 계좌 주문 내역 연속 조회 최대 페이지
+
     // API 엔드포인트 상수
     private static final String OAUTH_TOKEN_ENDPOINT = "/oauth2/tokenP";
     private static final String STOCK_PRICE_ENDPOINT = "/uapi/domestic-stock/v1/quotations/inquire-price";
@@ -45,6 +62,7 @@ public class KisApiClient {
     private static final String ACCOUNT_BALANCE_ENDPOINT = "/uapi/domestic-stock/v1/trading/inquire-balance";
     private static final String STOCK_ORDER_ENDPOINT = "/uapi/domestic-stock/v1/trading/order-cash";
     private static final String ORDER_STATUS_ENDPOINT = "/uapi/domestic-stock/v1/trading/inquire-order";
+    private static final String OVERSEAS_PRICE_DETAIL_ENDPOINT = "/uapi/overseas-price/v1/quotations/price-detail";
 
     // TR ID 상수
     private static final String TR_ID_STOCK_PRICE = "FHKST01010100";
@@ -53,6 +71,7 @@ public class KisApiClient {
     private static final String TR_ID_ACCOUNT_BALANCE = "TTTC8434R";
     private static final String TR_ID_STOCK_ORDER = "TTTC0802U";
     private static final String TR_ID_ORDER_STATUS = "TTTC8001R";
+    private static final String TR_ID_OVERSEAS_PRICE_DETAIL = "HHDFS76200200";
 
     /**
      * 초기화 시 API 키 확인
@@ -139,7 +158,6 @@ public class KisApiClient {
      */
     public Map<String, Object> getStockPrice(String stockCode) {
         try {
-            rateLimiter.acquire(); // 호출 제한 적용
             String url = baseUrl + STOCK_PRICE_ENDPOINT;
             
             Map<String, String> headers = getAuthHeaders();
@@ -151,7 +169,7 @@ public class KisApiClient {
 
             String fullUrl = url + "?" + buildQueryString(queryParams);
             
-            return baseRestClient.get(fullUrl, headers, Map.class);
+            return read(STOCK_PRICE_ENDPOINT, fullUrl, headers, quotePolicy());
         } catch (Exception e) {
             log.error("주식 시세 조회 중 오류 발생: {}", e.getMessage());
             throw new ApiException("주식 시세 조회 실패", e);
@@ -163,7 +181,6 @@ public class KisApiClient {
      */
     public Map<String, Object> getStockDailyPrice(String stockCode, String startDate, String endDate) {
         try {
-            rateLimiter.acquire(); // 호출 제한 적용
             String url = baseUrl + STOCK_DAILY_PRICE_ENDPOINT;
             
             Map<String, String> headers = getAuthHeaders();
@@ -178,13 +195,38 @@ public class KisApiClient {
 
             String fullUrl = url + "?" + buildQueryString(queryParams);
             
-            return baseRestClient.get(fullUrl, headers, Map.class);
+            return read(STOCK_DAILY_PRICE_ENDPOINT, fullUrl, headers, READ_POLICY);
         } catch (Exception e) {
             log.error("주식 일자별 시세 조회 중 오류 발생: {}", e.getMessage());
             throw new ApiException("주식 일자별 시세 조회 실패", e);
         }
     }
 
+    /**
+     * 해외 주식 현재가 상세 조회 (현재가/시고저/거래량 및 당일 원화 환율 t_rate 포함)
+     * @param exchangeCode 거래소 코드 (NAS, NYS, AMS)
+     */
+    public Map<String, Object> getOverseasPriceDetail(String exchangeCode, String symbol) {
+        try {
+            String url = baseUrl + OVERSEAS_PRICE_DETAIL_ENDPOINT;
+
+            Map<String, String> headers = getAuthHeaders();
+            headers.put("tr_id", TR_ID_OVERSEAS_PRICE_DETAIL);
+
+            Map<String, String> queryParams = new HashMap<>();
+            queryParams.put("AUTH", "");
+            queryParams.put("EXCD", exchangeCode);
+            queryParams.put("SYMB", symbol);
+
+            String fullUrl = url + "?" + buildQueryString(queryParams);
+
+            return read(OVERSEAS_PRICE_DETAIL_ENDPOINT, fullUrl, headers, quotePolicy());
+        } catch (Exception e) {
+            log.error("해외 주식 시세 조회 중 오류 발생: {}", e.getMessage());
+            throw new ApiException("해외 주식 시세 조회 실패", e);
+        }
+    }
+
     /**
      * 주식 체결 내역 조회
      */
@@ -204,13 +246,80 @@ public class KisApiClient {
 
             String fullUrl = url + "?" + buildQueryString(queryParams);
             
-            return baseRestClient.get(fullUrl, headers, Map.class);
+            return read(STOCK_TRADE_HISTORY_ENDPOINT, fullUrl, headers, READ_POLICY);
         } catch (Exception e) {
             log.error("주식 체결 내역 조회 중 오류 발생: {}", e.getMessage());
             throw new ApiException("주식 체결 내역 조회 실패", e);
         }
     }
 
+    /**
+     * 계좌 일별 주문/체결 조회 (미체결 포함 계좌 주문 전체를 한 번에, 다음 페이지가 있으면 이어서 조회)
+     * @return 주문별 행 (output1)
+     */
+    @SuppressWarnings("unchecked")
+    public List<Map<String, Object>> getDailyOrderExecutions(String accountNumber, String startDate, String endDate) {
+        try {
+            List<Map<String, Object>> rows = new ArrayList<>();
+            String fk = "";
+            String nk = "";
+            for (int page = 0; page < MAX_DAILY_ORDER_PAGES; page++) {
+                Map<String, String> headers = getAuthHeaders();
+                headers.put("tr_id", TR_ID_TRADE_HISTORY);
+                if (page > 0) {
+                    headers.put("tr_cont", "N"); // 연속 조회
+                }
+
+                Map<String, String> queryParams = new HashMap<>();
+                queryParams.put("CANO", accountNumber);
+                queryParams.put("ACNT_PRDT_CD", "01");
+                queryParams.put("INQR_STRT_DT", startDate);
+                queryParams.put("INQR_END_DT", endDate);
+                queryParams.put("SLL_BUY_DVSN_CD", "00"); // 매도/매수 전체
+                queryParams.put("INQR_DVSN", "00");
+                queryParams.put("PDNO", "");
+                queryParams.put("CCLD_DVSN", "00"); // 체결/미체결 전체
+                queryParams.put("ORD_GNO_BRNO", "");
+                queryParams.put("ODNO", "");
+                queryParams.put("INQR_DVSN_3", "00");
+                queryParams.put("INQR_DVSN_1", "");
+                queryParams.put("CTX_AREA_FK100", fk);
+                queryParams.put("CTX_AREA_NK100", nk);
+
+                String fullUrl = baseUrl + STOCK_TRADE_HISTORY_ENDPOINT + "?" + buildQueryString(queryParams);
+
+                Map<String, Object> response = read(STOCK_TRADE_HISTORY_ENDPOINT, fullUrl, headers, READ_POLICY);
+                if (response == null) {
+                    break;
+                }
+                if (response.containsKey("rt_cd") && !"0".equals(response.get("rt_cd"))) {
+                    throw new ApiException("계좌 주문 내역 조회 실패: " + response.get("msg1"), "KIS_ERROR", 502);
+                }
+                Object output = response.get("output1");
+                if (!(output instanceof List<?> pageRows) || pageRows.isEmpty()) {
+                    break;
+                }
+                for (Object row : pageRows) {
+                    if (row instanceof Map<?, ?>) {
+                        rows.add((Map<String, Object>) row);
+                    }
+                }
+
+                // 다음 페이지 키가 없거나 그대로면 마지막 페이지
+                String nextNk = response.get("ctx_area_nk100") != null ? response.get("ctx_area_nk100").toString().trim() : "";
+                if (nextNk.isEmpty() || nextNk.equals(nk)) {
+                    break;
+                }
+                nk = nextNk;
+                fk = response.get("ctx_area_fk100") != null ? response.get("ctx_area_fk100").toString().trim() : "";
+            }
+            return rows;
+        } catch (Exception e) {
+            log.error("계좌 주문 내역 조회 중 오류 발생: {}", e.getMessage());
+            throw new ApiException("계좌 주문 내역 조회 실패", e);
+        }
+    }
+
     /**
      * 계좌 잔고 조회
      */
@@ -230,7 +339,7 @@ public class KisApiClient {
 
             String fullUrl = url + "?" + buildQueryString(queryParams);
             
-            return baseRestClient.get(fullUrl, headers, Map.class);
+            return read(ACCOUNT_BALANCE_ENDPOINT, fullUrl, headers, READ_POLICY);
         } catch (Exception e) {
             log.error("계좌 잔고 조회 중 오류 발생: {}", e.getMessage());
             throw new ApiException("계좌 잔고 조회 실패", e);
@@ -271,13 +380,37 @@ public class KisApiClient {
 
             String fullUrl = url + "?" + buildQueryString(queryParams);
             
-            return baseRestClient.get(fullUrl, headers, Map.class);
+            return read(ORDER_STATUS_ENDPOINT, fullUrl, headers, READ_POLICY);
         } catch (Exception e) {
             log.error("주문 상태 조회 중 오류 발생: {}", e.getMessage());
             throw new ApiException("주문 상태 조회 실패", e);
         }
     }
 
+    /**
+     * 조회 API 서킷 상태와 호출 통계 (엔드포인트별)
+     */
+    public Map<String, Object> getResilienceStatus() {
+        return resilientCaller.status();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        resilientCaller.shutdown();
+    }
+
+    /**
+     * 멱등 GET 조회 (서킷이 열려 있으면 바로 실패, 일시 장애는 재시도)
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> read(String endpoint, String fullUrl, Map<String, String> headers, ResilientCaller.Policy policy) {
+        return resilientCaller.call(endpoint, policy, () -> baseRestClient.get(fullUrl, headers, Map.class));
+    }
+
+    private ResilientCaller.Policy quotePolicy() {
+        return new ResilientCaller.Policy(MAX_READ_ATTEMPTS, QUOTE_ATTEMPT_TIMEOUT_MILLIS, hedgeQuotes);
+    }
+
     /**
      * 인증 헤더 생성
      */
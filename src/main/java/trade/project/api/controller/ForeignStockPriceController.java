@@ -2,15 +2,27 @@ package trade.project.api.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import trade.project.api.dto.BulkQuoteRequest;
 import trade.project.api.dto.ForeignStockPriceRequest;
 import trade.project.api.dto.ForeignStockPriceResponse;
 import trade.project.common.dto.ApiResponse;
+import trade.project.trading.enums.MarketType;
+import trade.project.api.service.BulkQuoteService;
+import trade.project.api.service.QuotePushService;
 import trade.project.api.service.ForeignStockPriceService;
+import trade.project.api.service.FxRateService;
+import trade.project.trading.engine.UsMarketCalendar;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 해외 주식 시세 조회 컨트롤러
@@ -22,6 +34,9 @@ import jakarta.validation.Valid;
 public class ForeignStockPriceController {
     
     private final ForeignStockPriceService foreignStockPriceService;
+    private final BulkQuoteService bulkQuoteService;
+    private final QuotePushService quotePushService;
+    private final FxRateService fxRateService;
     
     /**
      * 해외 주식 현재가 조회 (POST)
@@ -49,6 +64,35 @@ public class ForeignStockPriceController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * 해외 주식 현재가 일괄 조회 (NDJSON, 종목 결과를 도착 순서대로 한 줄씩 전송)
+     */
+    @PostMapping(value = "/current/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> getCurrentPrices(@RequestBody BulkQuoteRequest request) {
+        List<String> stockCodes = request != null ? request.getStockCodes() : null;
+        log.info("해외 주식 현재가 일괄 조회 요청: {}건", stockCodes != null ? stockCodes.size() : 0);
+        return QuoteStreams.ndjson(stockCodes, bulkQuoteService::fetchForeign);
+    }
+
+    /**
+     * 해외 주식 현재가 일괄 조회 (SSE, 예: /current/stream?codes=AAPL,MSFT)
+     */
+    @GetMapping(value = "/current/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamCurrentPrices(@RequestParam List<String> codes) {
+        log.info("해외 주식 현재가 일괄 조회 요청 (SSE): {}건", codes.size());
+        return QuoteStreams.sse(codes, bulkQuoteService::fetchForeign);
+    }
+
+    /**
+     * 해외 주식 실시간 시세 구독 (SSE, 예: /subscribe?codes=AAPL,MSFT)
+     * 종목당 상위 조회는 구독자 수와 무관하게 한 주기에 한 번이고, 느린 연결은 최신 시세만 받는다.
+     */
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(@RequestParam List<String> codes) {
+        log.info("해외 주식 실시간 시세 구독 요청: {}건", codes.size());
+        return QuoteStreams.subscription(() -> quotePushService.subscribe(MarketType.FOREIGN, codes));
+    }
+
     /**
      * 해외 주식 일자별 시세 조회
      */
@@ -63,6 +107,22 @@ public class ForeignStockPriceController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * 원/달러 환율 (캐시 적중/stale 여부와 경과 시간 포함)
+     */
+    @GetMapping("/fx/usd-krw")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getUsdKrwRate() {
+        return ResponseEntity.ok(ApiResponse.success(fxRateService.status()));
+    }
+    
+    /**
+     * 미국 정규장 세션 (개장 여부, 마감 또는 다음 개장 시각)
+     */
+    @GetMapping("/market/session")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getMarketSession() {
+        return ResponseEntity.ok(ApiResponse.success(UsMarketCalendar.status(Instant.now())));
+    }
+    
     /**
      * 애플 현재가 조회 테스트
      */
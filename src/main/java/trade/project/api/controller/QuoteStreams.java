@@ -0,0 +1,125 @@
+package trade.project.api.controller;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import trade.project.api.dto.BulkQuoteItem;
+import trade.project.api.dto.BulkQuoteSummary;
+import trade.project.common.dto.ApiResponse;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 시세 스트리밍 공통 처리 (국내/해외 시세 컨트롤러 공용: 일괄 조회 NDJSON/SSE, 실시간 구독)
+ * 종목 결과는 도착하는 대로 한 줄(한 이벤트)씩 쓰므로 첫 결과는 가장 빠른 종목 시점에 보인다.
+ */
+@Slf4j
+final class QuoteStreams {
+
+    static final long STREAM_TIMEOUT_MILLIS = 60_000;
+
+    private QuoteStreams() {
+    }
+
+    /**
+     * NDJSON 스트림 (종목 결과 한 줄씩, 모든 종목이 끝나면 종료)
+     */
+    static <T> ResponseEntity<ResponseBodyEmitter> ndjson(
+            List<String> stockCodes,
+            BiFunction<List<String>, Consumer<BulkQuoteItem<T>>, CompletableFuture<BulkQuoteSummary>> fetcher) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(STREAM_TIMEOUT_MILLIS);
+        try {
+            StreamState state = new StreamState();
+            fetcher.apply(stockCodes, item -> state.write(() -> writeLine(emitter, item)))
+                    .whenComplete((summary, error) -> emitter.complete());
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+        } catch (IllegalArgumentException e) {
+            new StreamState().write(() -> writeLine(emitter, ApiResponse.error("VALIDATION_ERROR", e.getMessage())));
+            emitter.complete();
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+        }
+    }
+
+    /**
+     * SSE 스트림 (종목마다 quote 이벤트, 마지막에 complete 이벤트로 요약 전송)
+     * EventSource는 연결이 끊기면 재접속하므로, 클라이언트는 complete 이벤트를 받으면 닫으면 된다.
+     */
+    static <T> ResponseEntity<SseEmitter> sse(
+            List<String> stockCodes,
+            BiFunction<List<String>, Consumer<BulkQuoteItem<T>>, CompletableFuture<BulkQuoteSummary>> fetcher) {
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+        StreamState state = new StreamState();
+        try {
+            fetcher.apply(stockCodes, item -> state.write(() -> emitter.send(SseEmitter.event()
+                            .name("quote")
+                            .id(item.getStockCode())
+                            .data(item, MediaType.APPLICATION_JSON))))
+                    .whenComplete((summary, error) -> {
+                        if (summary != null) {
+                            state.write(() -> emitter.send(SseEmitter.event()
+                                    .name("complete")
+                                    .data(summary, MediaType.APPLICATION_JSON)));
+                        }
+                        emitter.complete();
+                    });
+            return ResponseEntity.ok(emitter);
+        } catch (IllegalArgumentException e) {
+            return sseValidationError(emitter, e.getMessage());
+        }
+    }
+
+    /**
+     * 실시간 시세 구독 (연결은 구독 서비스가 관리, 잘못된 요청은 error 이벤트 후 종료)
+     */
+    static ResponseEntity<SseEmitter> subscription(Supplier<SseEmitter> subscribe) {
+        try {
+            return ResponseEntity.ok(subscribe.get());
+        } catch (IllegalArgumentException e) {
+            return sseValidationError(new SseEmitter(STREAM_TIMEOUT_MILLIS), e.getMessage());
+        }
+    }
+
+    private static ResponseEntity<SseEmitter> sseValidationError(SseEmitter emitter, String message) {
+        new StreamState().write(() -> emitter.send(SseEmitter.event()
+                .name("error")
+                .data(ApiResponse.error("VALIDATION_ERROR", message), MediaType.APPLICATION_JSON)));
+        emitter.complete();
+        return ResponseEntity.badRequest().body(emitter);
+    }
+
+    private static void writeLine(ResponseBodyEmitter emitter, Object value) throws IOException {
+        emitter.send(value, MediaType.APPLICATION_JSON);
+        emitter.send("\n", MediaType.TEXT_PLAIN);
+    }
+
+    @FunctionalInterface
+    private interface StreamWrite {
+        void run() throws IOException;
+    }
+
+    /**
+     * 클라이언트가 먼저 끊으면 이후 쓰기는 건너뜀 (남은 종목 조회는 그대로 끝까지 진행)
+     */
+    private static final class StreamState {
+        private volatile boolean closed;
+
+        void write(StreamWrite write) {
+            if (closed) {
+                return;
+            }
+            try {
+                write.run();
+            } catch (IOException | IllegalStateException e) {
+                closed = true;
+                log.debug("시세 스트림 연결 종료: {}", e.getMessage());
+            }
+        }
+    }
+}
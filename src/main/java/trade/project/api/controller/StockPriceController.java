@@ -2,17 +2,26 @@ package trade.project.api.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import trade.project.api.dto.BulkQuoteRequest;
 import trade.project.api.dto.StockPriceRequest;
 import trade.project.api.dto.StockPriceResponse;
 import trade.project.api.dto.StockDailyPriceRequest;
 import trade.project.api.dto.StockDailyPriceResponse;
+import trade.project.api.service.BulkQuoteService;
+import trade.project.api.service.QuotePushService;
 import trade.project.api.service.StockPriceService;
 import trade.project.common.dto.ApiResponse;
+import trade.project.trading.enums.MarketType;
 
 import jakarta.validation.Valid;
 import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -21,6 +30,8 @@ import jakarta.servlet.http.HttpServletRequest;
 public class StockPriceController {
 
     private final StockPriceService stockPriceService;
+    private final BulkQuoteService bulkQuoteService;
+    private final QuotePushService quotePushService;
 
     /**
      * 주식 현재가 조회
@@ -64,6 +75,59 @@ public class StockPriceController {
         }
     }
 
+    /**
+     * 주식 현재가 일괄 조회 (NDJSON, 종목 결과를 도착 순서대로 한 줄씩 전송)
+     */
+    @PostMapping(value = "/current/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> getCurrentPrices(@RequestBody BulkQuoteRequest request) {
+        List<String> stockCodes = request != null ? request.getStockCodes() : null;
+        log.info("주식 현재가 일괄 조회 요청: {}건", stockCodes != null ? stockCodes.size() : 0);
+        return QuoteStreams.ndjson(stockCodes, bulkQuoteService::fetchDomestic);
+    }
+
+    /**
+     * 주식 현재가 일괄 조회 (SSE, 예: /current/stream?codes=005930,000660)
+     */
+    @GetMapping(value = "/current/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamCurrentPrices(@RequestParam List<String> codes) {
+        log.info("주식 현재가 일괄 조회 요청 (SSE): {}건", codes.size());
+        return QuoteStreams.sse(codes, bulkQuoteService::fetchDomestic);
+    }
+
+    /**
+     * 주식 실시간 시세 구독 (SSE, 예: /subscribe?codes=005930,000660)
+     * 종목당 상위 조회는 구독자 수와 무관하게 한 주기에 한 번이고, 느린 연결은 최신 시세만 받는다.
+     */
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(@RequestParam List<String> codes) {
+        log.info("주식 실시간 시세 구독 요청: {}건", codes.size());
+        return QuoteStreams.subscription(() -> quotePushService.subscribe(MarketType.DOMESTIC, codes));
+    }
+
+    /**
+     * 실시간 시세 구독/배포 현황 (국내·해외 공용)
+     */
+    @GetMapping("/subscribe/status")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getSubscriptionStatus() {
+        return ResponseEntity.ok(ApiResponse.success(quotePushService.status()));
+    }
+
+    /**
+     * 현재가 캐시 현황 (적중/stale/조회 건수, 현재 시간대 유지 시간)
+     */
+    @GetMapping("/cache/status")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getQuoteCacheStatus() {
+        return ResponseEntity.ok(ApiResponse.success(stockPriceService.getQuoteCacheStatus()));
+    }
+
+    /**
+     * KIS 조회 API 상태 (엔드포인트별 서킷 상태, 재시도/헤지 건수, 응답 시간 p50/p95/p99)
+     */
+    @GetMapping("/upstream/status")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getUpstreamStatus() {
+        return ResponseEntity.ok(ApiResponse.success(stockPriceService.getUpstreamStatus()));
+    }
+
     /**
      * 삼성전자 현재가 조회 테스트
      */
@@ -0,0 +1,81 @@
+package trade.project.api.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import trade.project.api.dto.SymbolInfo;
+import trade.project.api.service.SymbolMasterService;
+import trade.project.common.dto.ApiResponse;
+import trade.project.trading.enums.MarketType;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/symbols")
+@RequiredArgsConstructor
+public class SymbolMasterController {
+
+    private final SymbolMasterService symbolMasterService;
+
+    /**
+     * 종목코드로 종목 마스터 조회
+     */
+    @GetMapping("/{stockCode}")
+    public ResponseEntity<ApiResponse<SymbolInfo>> getSymbol(@PathVariable String stockCode) {
+        try {
+            SymbolInfo info = symbolMasterService.findByCode(stockCode);
+            if (info == null) {
+                return ResponseEntity.badRequest()
+                        .body(ApiResponse.error("INVALID_STOCK_CODE", "종목 마스터에 없는 종목코드입니다: " + stockCode));
+            }
+            return ResponseEntity.ok(ApiResponse.success(info));
+        } catch (Exception e) {
+            log.error("종목 마스터 조회 중 오류 발생: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("SYMBOL_QUERY_ERROR", "종목 마스터 조회 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 시장/섹터별 종목 목록
+     */
+    @GetMapping("/sector/{sector}")
+    public ResponseEntity<ApiResponse<List<SymbolInfo>>> getSymbolsBySector(
+            @PathVariable String sector, @RequestParam(defaultValue = "DOMESTIC") String market) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(
+                    symbolMasterService.findBySector(MarketType.fromCode(market.toUpperCase()), sector)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("VALIDATION_ERROR", e.getMessage()));
+        } catch (Exception e) {
+            log.error("섹터별 종목 조회 중 오류 발생: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("SYMBOL_QUERY_ERROR", "섹터별 종목 조회 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 종목 마스터 즉시 갱신 (신규 상장/상장 폐지 반영)
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> refresh() {
+        try {
+            log.info("종목 마스터 갱신 요청");
+            symbolMasterService.refresh();
+            Map<String, Object> status = new HashMap<>();
+            status.put("symbolCount", symbolMasterService.size());
+            status.put("loadedAt", symbolMasterService.getLoadedAt());
+            status.put("refreshCount", symbolMasterService.getRefreshCount());
+            return ResponseEntity.ok(ApiResponse.success(status));
+        } catch (Exception e) {
+            log.error("종목 마스터 갱신 중 오류 발생: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("SYMBOL_REFRESH_ERROR", "종목 마스터 갱신 실패: " + e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package trade.project.api.dto;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * 일괄 시세 조회의 종목 1건 결과 (도착 순서대로 스트리밍)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkQuoteItem<T> {
+    private Integer index;        // 요청 목록에서의 순서 (0부터)
+    private String stockCode;
+    private Boolean success;
+    private T quote;              // 성공 시 시세
+    private String errorCode;     // 실패 시 에러코드
+    private String errorMessage;
+    private Long elapsedMillis;   // 요청 시작부터 이 결과까지 걸린 시간
+}
@@ -0,0 +1,17 @@
+package trade.project.api.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 여러 종목 현재가 일괄 조회 요청
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkQuoteRequest {
+    private List<String> stockCodes; // 종목코드 목록 (중복은 한 번만 조회)
+}
@@ -0,0 +1,20 @@
+package trade.project.api.dto;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * 일괄 시세 조회 완료 요약
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkQuoteSummary {
+    private Integer requested;
+    private Integer succeeded;
+    private Integer failed;
+    private Long elapsedMillis;   // 가장 늦은 종목 기준 전체 소요 시간
+}
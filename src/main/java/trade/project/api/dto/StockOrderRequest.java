@@ -9,6 +9,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 
 @Data
 @Builder
@@ -44,4 +45,7 @@ public class StockOrderRequest {
     private String orderCategory = "일반"; // 일반, 정정, 취소
     
     private String originalOrderNumber; // 정정/취소 시 원주문번호
+    
+    @Size(max = 64, message = "클라이언트 주문 ID는 64자 이하여야 합니다")
+    private String clientOrderId; // 클라이언트 주문 ID (같은 ID로 다시 보내면 새 주문을 내지 않음)
 } 
\ No newline at end of file
@@ -28,4 +28,6 @@ public class StockOrderResponse {
     private String errorCode; // 에러코드
     private String errorMessage; // 에러메시지
     private String orderTime; // 주문시간 (문자열)
+    private Integer executedQuantity; // 누적 체결수량 (상태 조회 시)
+    private Integer executedPrice; // 체결 평균가 (상태 조회 시)
 } 
\ No newline at end of file
@@ -8,7 +8,7 @@ import lombok.AllArgsConstructor;
 import java.time.LocalDateTime;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class StockPriceResponse {
@@ -25,7 +25,10 @@ public class StockPriceResponse {
     private Double changeRate; // 등락률
     private Integer changeAmount; // 등락폭
     private String marketStatus; // 시장상태
-    private LocalDateTime timestamp; // 조회시간
+    private LocalDateTime timestamp; // 조회시간 (상위 API에서 받은 시각)
+    private String cacheStatus; // 캐시 결과 (HIT, STALE, MISS)
+    private Boolean stale; // 유지 시간이 지난 시세 여부 (백그라운드 갱신 중)
+    private Long quoteAgeMillis; // 상위 조회 후 경과 시간 (밀리초)
     private String message; // 응답메시지
     private String errorCode; // 에러코드
     private String errorMessage; // 에러메시지
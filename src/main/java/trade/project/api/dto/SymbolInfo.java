@@ -0,0 +1,25 @@
+package trade.project.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import trade.project.trading.enums.MarketType;
+
+/**
+ * 종목 마스터 항목 (스냅샷 간에 공유되므로 불변)
+ */
+@Getter
+@ToString
+@Builder(toBuilder = true)
+@AllArgsConstructor
+public class SymbolInfo {
+    private final int symbolId;        // 조밀한 정수 ID (갱신 후에도 같은 종목은 같은 ID)
+    private final String stockCode;
+    private final String stockName;    // 국내는 한글 종목명, 해외는 한글 약칭
+    private final String companyName;  // 법인명 (해외는 영문명)
+    private final MarketType marketType;
+    private final String market;       // KOSPI, KOSDAQ, NASDAQ 등
+    private final String sector;
+    private final boolean active;      // 상장 폐지/마스터에서 빠진 종목은 false
+}
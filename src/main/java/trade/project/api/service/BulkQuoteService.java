@@ -0,0 +1,177 @@
+package trade.project.api.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import trade.project.api.dto.BulkQuoteItem;
+import trade.project.api.dto.BulkQuoteSummary;
+import trade.project.api.dto.ForeignStockPriceResponse;
+import trade.project.api.dto.StockPriceRequest;
+import trade.project.api.dto.StockPriceResponse;
+import trade.project.common.dto.ApiResponse;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 여러 종목 현재가 일괄 조회 (제한된 병렬 팬아웃)
+ * 종목마다 단건 조회 경로(StockPriceService/ForeignStockPriceService → API 클라이언트 호출 제한)를
+ * 공유 작업 풀에서 동시에 실행하고, 결과는 도착하는 대로 listener에 넘긴다.
+ * 작업 풀 크기가 전체 동시 조회 수의 상한이라 요청이 몰려도 증권사 API 동시 호출은 늘지 않는다.
+ */
+@Slf4j
+@Service
+public class BulkQuoteService {
+
+    public static final int MAX_CODES = 100;       // 요청 1건당 최대 종목 수
+    static final int MAX_PARALLELISM = 8;          // 전체 동시 조회 수
+    static final long QUOTE_TIMEOUT_SECONDS = 10;  // 종목 1건 조회 제한 시간
+
+    private final StockPriceService stockPriceService;
+    private final ForeignStockPriceService foreignStockPriceService;
+    private final ExecutorService executor;
+
+    @Autowired
+    public BulkQuoteService(StockPriceService stockPriceService, ForeignStockPriceService foreignStockPriceService) {
+        this(stockPriceService, foreignStockPriceService, Executors.newFixedThreadPool(MAX_PARALLELISM, runnable -> {
+            Thread thread = new Thread(runnable, "bulk-quote");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    BulkQuoteService(StockPriceService stockPriceService, ForeignStockPriceService foreignStockPriceService,
+                     ExecutorService executor) {
+        this.stockPriceService = stockPriceService;
+        this.foreignStockPriceService = foreignStockPriceService;
+        this.executor = executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 국내 주식 현재가 일괄 조회
+     */
+    public CompletableFuture<BulkQuoteSummary> fetchDomestic(List<String> stockCodes,
+                                                             Consumer<BulkQuoteItem<StockPriceResponse>> listener) {
+        return fetchAll(stockCodes, stockCode -> {
+            StockPriceResponse response = stockPriceService.getCurrentPrice(
+                    StockPriceRequest.builder().stockCode(stockCode).build(), null);
+            return response.getErrorCode() != null
+                    ? ApiResponse.error(response.getErrorCode(), response.getErrorMessage())
+                    : ApiResponse.success(response);
+        }, listener);
+    }
+
+    /**
+     * 해외 주식 현재가 일괄 조회
+     */
+    public CompletableFuture<BulkQuoteSummary> fetchForeign(List<String> stockCodes,
+                                                            Consumer<BulkQuoteItem<ForeignStockPriceResponse>> listener) {
+        return fetchAll(stockCodes, stockCode -> foreignStockPriceService.getCurrentPriceByCode(stockCode, null), listener);
+    }
+
+    /**
+     * 종목코드 정리 (공백 제거, 대문자, 중복 제거, 순서 유지)
+     */
+    public static List<String> normalizeCodes(List<String> stockCodes) {
+        if (stockCodes == null || stockCodes.isEmpty()) {
+            throw new IllegalArgumentException("조회할 종목코드가 없습니다");
+        }
+        Set<String> codes = new LinkedHashSet<>();
+        for (String stockCode : stockCodes) {
+            if (stockCode != null && !stockCode.isBlank()) {
+                codes.add(stockCode.trim().toUpperCase());
+            }
+        }
+        if (codes.isEmpty()) {
+            throw new IllegalArgumentException("조회할 종목코드가 없습니다");
+        }
+        if (codes.size() > MAX_CODES) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 종목은 최대 " + MAX_CODES + "개입니다");
+        }
+        return new ArrayList<>(codes);
+    }
+
+    /**
+     * 종목별 조회를 작업 풀에 동시에 넣고 완료 순서대로 listener 호출
+     * listener는 한 번에 하나씩만 호출되므로 스트림 쓰기 측에서 따로 동기화할 필요가 없다.
+     * 반환 future는 모든 종목 결과를 넘긴 뒤 요약과 함께 완료된다 (개별 실패는 결과 항목으로 전달).
+     */
+    <T> CompletableFuture<BulkQuoteSummary> fetchAll(List<String> stockCodes, Function<String, ApiResponse<T>> loader,
+                                                     Consumer<BulkQuoteItem<T>> listener) {
+        List<String> codes = normalizeCodes(stockCodes);
+        long startNanos = System.nanoTime();
+        AtomicInteger succeeded = new AtomicInteger();
+        Object listenerLock = new Object();
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[codes.size()];
+        for (int i = 0; i < codes.size(); i++) {
+            int index = i;
+            String stockCode = codes.get(i);
+            futures[i] = CompletableFuture.supplyAsync(() -> loader.apply(stockCode), executor)
+                    .orTimeout(QUOTE_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                    .handle((response, error) -> toItem(index, stockCode, response, error, startNanos))
+                    .thenAccept(item -> {
+                        if (item.getSuccess()) {
+                            succeeded.incrementAndGet();
+                        }
+                        synchronized (listenerLock) {
+                            try {
+                                listener.accept(item);
+                            } catch (Exception e) {
+                                log.warn("일괄 시세 결과 전달 실패: {} - {}", stockCode, e.getMessage());
+                            }
+                        }
+                    });
+        }
+
+        return CompletableFuture.allOf(futures).thenApply(done -> BulkQuoteSummary.builder()
+                .requested(codes.size())
+                .succeeded(succeeded.get())
+                .failed(codes.size() - succeeded.get())
+                .elapsedMillis(elapsedMillis(startNanos))
+                .build());
+    }
+
+    private static <T> BulkQuoteItem<T> toItem(int index, String stockCode, ApiResponse<T> response, Throwable error,
+                                               long startNanos) {
+        BulkQuoteItem.BulkQuoteItemBuilder<T> item = BulkQuoteItem.<T>builder()
+                .index(index)
+                .stockCode(stockCode)
+                .elapsedMillis(elapsedMillis(startNanos));
+        if (error != null) {
+            Throwable cause = error.getCause() != null ? error.getCause() : error;
+            boolean timeout = cause instanceof TimeoutException;
+            return item.success(false)
+                    .errorCode(timeout ? "QUOTE_TIMEOUT" : "PRICE_QUERY_ERROR")
+                    .errorMessage(timeout ? "시세 조회 제한 시간 초과" : cause.getMessage())
+                    .build();
+        }
+        if (response == null || !response.isSuccess()) {
+            return item.success(false)
+                    .errorCode(response != null ? response.getErrorCode() : "PRICE_QUERY_ERROR")
+                    .errorMessage(response != null ? response.getErrorMessage() : "시세 응답이 없습니다")
+                    .build();
+        }
+        return item.success(true).quote(response.getData()).build();
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
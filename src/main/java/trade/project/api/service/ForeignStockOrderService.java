@@ -6,8 +6,10 @@ import org.springframework.stereotype.Service;
 import trade.project.api.client.ForeignStockApiClient;
 import trade.project.api.dto.ForeignStockOrderRequest;
 import trade.project.api.dto.ForeignStockOrderResponse;
+import trade.project.api.dto.SymbolInfo;
 import trade.project.common.dto.ApiResponse;
-import trade.project.trading.enums.TopNasdaqStocks;
+import trade.project.trading.risk.OrderGuard;
+import trade.project.trading.risk.OrderGuardResult;
 import trade.project.trading.service.TradingRecordService;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,6 +28,8 @@ public class ForeignStockOrderService {
     
     private final ForeignStockApiClient foreignStockApiClient;
     private final TradingRecordService tradingRecordService;
+    private final OrderGuard orderGuard; // 킬 스위치/주문 빈도 제한
+    private final SymbolMasterService symbolMasterService;
     
     /**
      * 해외 주식 주문 실행
@@ -34,6 +38,15 @@ public class ForeignStockOrderService {
         try {
             log.info("해외 주식 주문 실행 요청: {}", request);
             
+            // 킬 스위치/주문 빈도 점검 (증권사 호출 직전, 취소 주문은 위험을 줄이므로 점검하지 않음)
+            OrderGuardResult guard = "취소".equals(request.getOrderCategory())
+                    ? OrderGuardResult.ALLOWED
+                    : orderGuard.tryAcquire(request.getAccountNumber(), request.getStockCode());
+            if (!guard.isAllowed()) {
+                log.warn("해외 주식 주문 차단: {} - {}", request.getStockCode(), guard.getDescription());
+                return ApiResponse.error(guard.name(), guard.getDescription());
+            }
+            
             // 주문 요청 데이터 변환
             Map<String, Object> orderRequest = convertToOrderRequest(request);
             
@@ -163,15 +176,15 @@ public class ForeignStockOrderService {
      */
     private ForeignStockOrderResponse convertToOrderResponse(Map<String, Object> data) {
         try {
-            // 종목 정보 가져오기
-            TopNasdaqStocks stock = TopNasdaqStocks.fromStockCode((String) data.get("stockCode"));
+            // 종목 정보 가져오기 (마스터에 없는 종목은 이름 없이 응답)
+            SymbolInfo stock = symbolMasterService.findByCode((String) data.get("stockCode"));
             
             return ForeignStockOrderResponse.builder()
                     .orderNumber((String) data.get("orderNumber"))
                     .accountNumber((String) data.get("accountNumber"))
                     .stockCode((String) data.get("stockCode"))
-                    .companyName(stock.getCompanyName())
-                    .koreanName(stock.getKoreanName())
+                    .companyName(stock != null ? stock.getCompanyName() : null)
+                    .koreanName(stock != null ? stock.getStockName() : null)
                     .orderType((String) data.get("orderType"))
                     .quantity(data.get("quantity") != null ? Integer.parseInt(data.get("quantity").toString()) : null)
                     .price(data.get("price") != null ? new BigDecimal(data.get("price").toString()) : null)
@@ -6,8 +6,8 @@ import org.springframework.stereotype.Service;
 import trade.project.api.client.ForeignStockApiClient;
 import trade.project.api.dto.ForeignStockPriceRequest;
 import trade.project.api.dto.ForeignStockPriceResponse;
+import trade.project.api.dto.SymbolInfo;
 import trade.project.common.dto.ApiResponse;
-import trade.project.trading.enums.TopNasdaqStocks;
 import trade.project.trading.service.PriceQueryRecordService;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,6 +27,7 @@ public class ForeignStockPriceService {
     
     private final ForeignStockApiClient foreignStockApiClient;
     private final PriceQueryRecordService priceQueryRecordService;
+    private final SymbolMasterService symbolMasterService;
     
     /**
      * 해외 주식 현재가 조회
@@ -148,13 +149,13 @@ public class ForeignStockPriceService {
      */
     private ForeignStockPriceResponse convertToPriceResponse(Map<String, Object> data) {
         try {
-            // 종목 정보 가져오기
-            TopNasdaqStocks stock = TopNasdaqStocks.fromStockCode((String) data.get("stockCode"));
+            // 종목 정보 가져오기 (마스터에 없는 종목은 이름 없이 응답)
+            SymbolInfo stock = symbolMasterService.findByCode((String) data.get("stockCode"));
             
             return ForeignStockPriceResponse.builder()
                     .stockCode((String) data.get("stockCode"))
-                    .companyName(stock.getCompanyName())
-                    .koreanName(stock.getKoreanName())
+                    .companyName(stock != null ? stock.getCompanyName() : null)
+                    .koreanName(stock != null ? stock.getStockName() : null)
                     .currentPrice(new BigDecimal(data.get("currentPrice").toString()))
                     .changeAmount(new BigDecimal(data.get("changeAmount").toString()))
                     .changeRate(new BigDecimal(data.get("changeRate").toString()))
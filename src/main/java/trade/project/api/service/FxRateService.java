@@ -0,0 +1,90 @@
+package trade.project.api.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import trade.project.api.client.ForeignStockApiClient;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * USD/KRW 환율 조회
+ * 환율은 하루에도 몇 번 바뀌지 않으므로 5분간 캐시하고, 만료 후 5분은 이전 값을 주면서 백그라운드에서 갱신한다.
+ * 상위 API 장애로 조회가 실패하면 stale 구간이 지난 뒤에도 STALE_IF_ERROR_MILLIS(6시간) 동안 마지막 환율을 stale로 반환한다.
+ */
+@Slf4j
+@Service
+public class FxRateService {
+
+    static final String USD_KRW = "USDKRW";
+    private static final long FRESH_MILLIS = 5 * 60_000L;
+    private static final long STALE_MILLIS = 5 * 60_000L;
+    private static final long STALE_IF_ERROR_MILLIS = 6 * 60 * 60_000L;
+
+    private final Executor refreshExecutor;
+    private final QuoteCache<BigDecimal> rateCache;
+
+    @Autowired
+    public FxRateService(ForeignStockApiClient foreignStockApiClient) {
+        this(foreignStockApiClient::getUsdKrwRate, System::nanoTime,
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "fx-rate-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    FxRateService(Supplier<BigDecimal> usdKrwLoader, LongSupplier nanoClock, Executor refreshExecutor) {
+        this.refreshExecutor = refreshExecutor;
+        QuoteCache.Ttl ttl = new QuoteCache.Ttl(FRESH_MILLIS, STALE_MILLIS, STALE_IF_ERROR_MILLIS);
+        this.rateCache = new QuoteCache<>(pair -> usdKrwLoader.get(), pair -> ttl, refreshExecutor, nanoClock);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 원/달러 환율 (1달러당 원화)
+     * @throws IllegalStateException 환율을 조회할 수 없고 대체할 이전 값도 없는 경우
+     */
+    public BigDecimal usdKrw() {
+        try {
+            return rateCache.get(USD_KRW).value();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.warn("환율 조회 실패: {}", cause.getMessage());
+            throw new IllegalStateException("환율 조회 실패", cause);
+        }
+    }
+
+    /**
+     * 환율과 캐시 현황 (조회 실패 시 error만 담음)
+     */
+    public Map<String, Object> status() {
+        Map<String, Object> status = rateCache.stats();
+        status.put("pair", USD_KRW);
+        status.put("freshMillis", FRESH_MILLIS);
+        status.put("staleIfErrorMillis", STALE_IF_ERROR_MILLIS);
+        try {
+            QuoteCache.Lookup<BigDecimal> lookup = rateCache.get(USD_KRW);
+            status.put("rate", lookup.value());
+            status.put("cacheStatus", lookup.status().name());
+            status.put("ageMillis", lookup.ageMillis());
+        } catch (CompletionException e) {
+            status.put("error", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+        }
+        return status;
+    }
+}
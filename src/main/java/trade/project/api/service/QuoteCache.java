@@ -0,0 +1,161 @@
+package trade.project.api.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 종목별 시세 캐시 (TTL + stale-while-revalidate + 종목당 조회 1건)
+ * - 신선 구간: 캐시 값 그대로 반환 (HIT)
+ * - 만료 후 stale 구간: 이전 값을 바로 반환하고 백그라운드에서 한 번만 갱신 (STALE)
+ * - stale 구간도 지나면 호출 스레드에서 조회 (MISS), 같은 종목 동시 요청은 진행 중인 조회 결과를 함께 기다린다.
+ * 조회 실패는 캐시하지 않는다. 단, stale-if-error 구간 안이면 조회 실패 시 이전 값을 STALE로 반환한다.
+ */
+@Slf4j
+final class QuoteCache<V> {
+
+    enum Status { HIT, STALE, MISS }
+
+    /**
+     * 조회 결과와 캐시 메타데이터
+     */
+    record Lookup<V>(V value, Status status, long ageMillis) {
+    }
+
+    /**
+     * 값별 신선/stale/조회 실패 시 대체 유지 시간 (조회 시점에 결정)
+     */
+    record Ttl(long freshMillis, long staleMillis, long staleIfErrorMillis) {
+
+        Ttl(long freshMillis, long staleMillis) {
+            this(freshMillis, staleMillis, 0);
+        }
+    }
+
+    private record Entry<V>(V value, long loadedNanos, long freshUntilNanos, long staleUntilNanos, long errorUntilNanos) {
+    }
+
+    private final Function<String, V> loader;
+    private final Function<String, Ttl> ttlPolicy;
+    private final Executor refreshExecutor;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Entry<V>>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder(); // 진행 중인 조회에 합류한 요청
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder staleOnError = new LongAdder(); // 조회 실패로 이전 값을 반환한 요청
+
+    QuoteCache(Function<String, V> loader, Function<String, Ttl> ttlPolicy, Executor refreshExecutor, LongSupplier nanoClock) {
+        this.loader = loader;
+        this.ttlPolicy = ttlPolicy;
+        this.refreshExecutor = refreshExecutor;
+        this.nanoClock = nanoClock;
+    }
+
+    Lookup<V> get(String key) {
+        long now = nanoClock.getAsLong();
+        Entry<V> entry = entries.get(key);
+        if (entry != null && now < entry.freshUntilNanos()) {
+            hits.increment();
+            return lookup(entry, Status.HIT, now);
+        }
+        if (entry != null && now < entry.staleUntilNanos()) {
+            staleHits.increment();
+            refreshInBackground(key);
+            return lookup(entry, Status.STALE, now);
+        }
+        misses.increment();
+        try {
+            Entry<V> loaded = load(key).join();
+            return lookup(loaded, Status.MISS, nanoClock.getAsLong());
+        } catch (CompletionException e) {
+            long failedAt = nanoClock.getAsLong();
+            if (entry != null && failedAt < entry.errorUntilNanos()) {
+                staleOnError.increment();
+                return lookup(entry, Status.STALE, failedAt);
+            }
+            throw e;
+        }
+    }
+
+    void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("size", entries.size());
+        stats.put("hits", hits.sum());
+        stats.put("staleHits", staleHits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("coalesced", coalesced.sum());
+        stats.put("loads", loads.sum());
+        stats.put("loadFailures", loadFailures.sum());
+        stats.put("staleOnError", staleOnError.sum());
+        return stats;
+    }
+
+    private void refreshInBackground(String key) {
+        if (inFlight.containsKey(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> load(key).exceptionally(error -> null));
+        } catch (RuntimeException e) {
+            log.warn("시세 캐시 백그라운드 갱신 예약 실패: {} - {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 종목당 조회 1건 (이미 진행 중이면 그 결과를 공유, 실패는 CompletionException으로 전달)
+     */
+    private CompletableFuture<Entry<V>> load(String key) {
+        CompletableFuture<Entry<V>> mine = new CompletableFuture<>();
+        CompletableFuture<Entry<V>> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            return running;
+        }
+        try {
+            loads.increment();
+            V value = loader.apply(key);
+            long loadedAt = nanoClock.getAsLong();
+            Ttl ttl = ttlPolicy.apply(key);
+            Entry<V> entry = new Entry<>(value, loadedAt,
+                    loadedAt + TimeUnit.MILLISECONDS.toNanos(ttl.freshMillis()),
+                    loadedAt + TimeUnit.MILLISECONDS.toNanos(ttl.freshMillis() + ttl.staleMillis()),
+                    loadedAt + TimeUnit.MILLISECONDS.toNanos(ttl.freshMillis() + ttl.staleMillis() + ttl.staleIfErrorMillis()));
+            entries.put(key, entry);
+            mine.complete(entry);
+        } catch (Throwable t) {
+            loadFailures.increment();
+            mine.completeExceptionally(t instanceof CompletionException ? t.getCause() : t);
+        } finally {
+            inFlight.remove(key, mine);
+        }
+        return mine;
+    }
+
+    private static <V> Lookup<V> lookup(Entry<V> entry, Status status, long now) {
+        return new Lookup<>(entry.value(), status, TimeUnit.NANOSECONDS.toMillis(Math.max(now - entry.loadedNanos(), 0)));
+    }
+}
@@ -0,0 +1,310 @@
+package trade.project.api.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import trade.project.api.dto.StockPriceRequest;
+import trade.project.common.dto.ApiResponse;
+import trade.project.trading.enums.MarketType;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * 실시간 시세 푸시 (SSE 구독)
+ * 구독자가 몇 명이든 종목마다 상위 API 조회는 한 주기에 한 번이고,
+ * 자동매매 엔진이 같은 종목을 이미 조회했다면 그 결과를 그대로 배포하고 따로 조회하지 않는다.
+ * 연결마다 종목별 최신 시세 한 칸만 보관하므로(conflation), 느린 구독자는 밀린 시세 대신 최신 시세만 받는다.
+ */
+@Slf4j
+@Service
+public class QuotePushService {
+
+    public static final int MAX_SYMBOLS_PER_SUBSCRIPTION = 50;
+    static final long POLL_INTERVAL_MILLIS = 1_000;          // 종목당 상위 조회 주기
+    static final long SUBSCRIPTION_TIMEOUT_MILLIS = 30 * 60_000L; // 만료 시 EventSource가 재접속
+
+    private final BiFunction<MarketType, String, Object> fetcher;
+    private final Executor fetchExecutor;
+    private final Executor sendExecutor;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Map<String, Published> latest = new ConcurrentHashMap<>();
+    private final Set<String> fetching = ConcurrentHashMap.newKeySet(); // 종목별 조회 1건만 진행
+
+    private final LongAdder upstreamFetches = new LongAdder();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder conflated = new LongAdder();
+
+    private ScheduledExecutorService poller;
+
+    @Autowired
+    public QuotePushService(StockPriceService stockPriceService, ForeignStockPriceService foreignStockPriceService) {
+        this((marketType, stockCode) -> marketType == MarketType.FOREIGN
+                        ? unwrap(foreignStockPriceService.getCurrentPriceByCode(stockCode, null))
+                        : stockPriceService.getCurrentPrice(StockPriceRequest.builder().stockCode(stockCode).build(), null),
+                Executors.newFixedThreadPool(2, daemon("quote-push-fetch")),
+                Executors.newFixedThreadPool(4, daemon("quote-push-send")),
+                System::nanoTime);
+    }
+
+    QuotePushService(BiFunction<MarketType, String, Object> fetcher, Executor fetchExecutor, Executor sendExecutor,
+                     LongSupplier nanoClock) {
+        this.fetcher = fetcher;
+        this.fetchExecutor = fetchExecutor;
+        this.sendExecutor = sendExecutor;
+        this.nanoClock = nanoClock;
+    }
+
+    @PostConstruct
+    public void start() {
+        poller = Executors.newSingleThreadScheduledExecutor(daemon("quote-push-poll"));
+        poller.scheduleWithFixedDelay(this::pollQuietly, POLL_INTERVAL_MILLIS, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+        if (fetchExecutor instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+        if (sendExecutor instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    // ==================== 구독 ====================
+
+    /**
+     * SSE 구독 (종목마다 quote 이벤트, 이미 받은 시세가 있으면 즉시 한 번 전송)
+     */
+    public SseEmitter subscribe(MarketType marketType, List<String> stockCodes) {
+        List<String> codes = BulkQuoteService.normalizeCodes(stockCodes);
+        if (codes.size() > MAX_SYMBOLS_PER_SUBSCRIPTION) {
+            throw new IllegalArgumentException("한 연결에서 구독할 수 있는 종목은 최대 " + MAX_SYMBOLS_PER_SUBSCRIPTION + "개입니다");
+        }
+        SseEmitter emitter = new SseEmitter(SUBSCRIPTION_TIMEOUT_MILLIS);
+        Subscriber subscriber = register(marketType, codes, (stockCode, quote) -> emitter.send(SseEmitter.event()
+                .name("quote")
+                .id(stockCode)
+                .data(quote, MediaType.APPLICATION_JSON)));
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(error -> unregister(subscriber));
+        log.info("시세 구독 시작: {} {}종목", marketType, codes.size());
+        return emitter;
+    }
+
+    /**
+     * 구독자 등록 (연결 종류와 무관한 부분)
+     */
+    Subscriber register(MarketType marketType, List<String> codes, QuoteSink sink) {
+        Subscriber subscriber = new Subscriber(marketType, codes, sink);
+        for (String stockCode : codes) {
+            String key = key(marketType, stockCode);
+            subscribers.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+            Published last = latest.get(key);
+            if (last != null) {
+                subscriber.offer(stockCode, last.quote);
+            }
+        }
+        return subscriber;
+    }
+
+    void unregister(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        for (String stockCode : subscriber.codes) {
+            String key = key(subscriber.marketType, stockCode);
+            subscribers.computeIfPresent(key, (k, set) -> {
+                set.remove(subscriber);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+
+    // ==================== 배포 ====================
+
+    /**
+     * 시세 배포 (엔진/폴러 공용, 구독자가 없어도 최신 시세는 보관해 새 구독자에게 바로 전송)
+     */
+    public void publish(MarketType marketType, String stockCode, Object quote) {
+        if (stockCode == null || quote == null) {
+            return;
+        }
+        String key = key(marketType, stockCode);
+        latest.put(key, new Published(quote, nanoClock.getAsLong()));
+        published.increment();
+        Set<Subscriber> targets = subscribers.get(key);
+        if (targets != null) {
+            for (Subscriber subscriber : targets) {
+                subscriber.offer(stockCode, quote);
+            }
+        }
+    }
+
+    /**
+     * 구독 중인 종목 중 최근 주기 안에 배포된 시세가 없는 종목만 조회
+     */
+    void pollOnce() {
+        long now = nanoClock.getAsLong();
+        long interval = TimeUnit.MILLISECONDS.toNanos(POLL_INTERVAL_MILLIS);
+        for (String key : subscribers.keySet()) {
+            Published last = latest.get(key);
+            if (last != null && now - last.publishedNanos < interval) {
+                continue;
+            }
+            if (!fetching.add(key)) {
+                continue;
+            }
+            int separator = key.indexOf(':');
+            MarketType marketType = MarketType.valueOf(key.substring(0, separator));
+            String stockCode = key.substring(separator + 1);
+            try {
+                fetchExecutor.execute(() -> fetch(key, marketType, stockCode));
+            } catch (RuntimeException e) {
+                fetching.remove(key);
+                log.warn("시세 푸시 조회 예약 실패: {} - {}", key, e.getMessage());
+            }
+        }
+    }
+
+    private void fetch(String key, MarketType marketType, String stockCode) {
+        try {
+            upstreamFetches.increment();
+            publish(marketType, stockCode, fetcher.apply(marketType, stockCode));
+        } catch (Exception e) {
+            log.debug("시세 푸시 조회 실패: {} - {}", key, e.getMessage());
+        } finally {
+            fetching.remove(key);
+        }
+    }
+
+    private void pollQuietly() {
+        try {
+            pollOnce();
+        } catch (Exception e) {
+            log.warn("시세 푸시 폴링 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 구독/배포 현황
+     */
+    public Map<String, Object> status() {
+        Set<Subscriber> connections = ConcurrentHashMap.newKeySet();
+        subscribers.values().forEach(connections::addAll);
+        Map<String, Object> status = new HashMap<>();
+        status.put("connections", connections.size());
+        status.put("subscribedSymbols", subscribers.size());
+        status.put("upstreamFetches", upstreamFetches.sum());
+        status.put("published", published.sum());
+        status.put("delivered", delivered.sum());
+        status.put("conflated", conflated.sum());
+        return status;
+    }
+
+    private static String key(MarketType marketType, String stockCode) {
+        return marketType.name() + ":" + stockCode;
+    }
+
+    private static Object unwrap(ApiResponse<?> response) {
+        if (response == null || !response.isSuccess()) {
+            throw new IllegalStateException(response != null ? response.getErrorMessage() : "시세 응답이 없습니다");
+        }
+        return response.getData();
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Published(Object quote, long publishedNanos) {
+    }
+
+    /**
+     * 연결로 시세 1건 전송
+     */
+    @FunctionalInterface
+    interface QuoteSink {
+        void send(String stockCode, Object quote) throws IOException;
+    }
+
+    /**
+     * 연결 하나 (종목별 대기 시세 한 칸 + 전송 작업은 연결당 최대 1개)
+     */
+    final class Subscriber {
+        private final MarketType marketType;
+        private final List<String> codes;
+        private final QuoteSink sink;
+        private final Map<String, Object> pending = new ConcurrentHashMap<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(MarketType marketType, List<String> codes, QuoteSink sink) {
+            this.marketType = marketType;
+            this.codes = codes;
+            this.sink = sink;
+        }
+
+        void offer(String stockCode, Object quote) {
+            if (closed.get()) {
+                return;
+            }
+            if (pending.put(stockCode, quote) != null) {
+                conflated.increment(); // 아직 못 보낸 이전 시세는 버림
+            }
+            if (draining.compareAndSet(false, true)) {
+                sendExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                for (String stockCode : pending.keySet()) {
+                    Object quote = pending.remove(stockCode);
+                    if (quote == null || closed.get()) {
+                        continue;
+                    }
+                    try {
+                        sink.send(stockCode, quote);
+                        delivered.increment();
+                    } catch (Exception e) {
+                        log.debug("시세 푸시 연결 종료: {}", e.getMessage());
+                        unregister(this);
+                        pending.clear();
+                    }
+                }
+                draining.set(false);
+                // 전송 중 새로 들어온 시세가 있으면 이어서 처리
+            } while (!pending.isEmpty() && !closed.get() && draining.compareAndSet(false, true));
+        }
+    }
+}
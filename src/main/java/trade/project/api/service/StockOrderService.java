@@ -8,10 +8,17 @@ import trade.project.api.dto.StockOrderRequest;
 import trade.project.api.dto.StockOrderResponse;
 import trade.project.api.dto.OrderStatusRequest;
 import trade.project.common.exception.ApiException;
+import trade.project.trading.risk.OrderGuard;
+import trade.project.trading.risk.OrderGuardResult;
 import trade.project.trading.service.TradingRecordService;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -19,8 +26,16 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class StockOrderService {
 
+    // 계좌 주문 내역 기준 주문 상태
+    public static final String STATUS_ACCEPTED = "접수완료";
+    public static final String STATUS_PARTIALLY_FILLED = "부분체결";
+    public static final String STATUS_FILLED = "체결";
+    public static final String STATUS_CANCELLED = "취소";
+    public static final String STATUS_REJECTED = "거부";
+
     private final KisApiClient kisApiClient;
     private final TradingRecordService tradingRecordService;
+    private final OrderGuard orderGuard; // 킬 스위치/주문 빈도 제한
 
     /**
      * 주식 주문 실행
@@ -47,6 +62,28 @@ public class StockOrderService {
                         .build();
             }
             
+            // 킬 스위치/주문 빈도 점검 (증권사 호출 직전, 취소 주문은 위험을 줄이므로 점검하지 않음)
+            OrderGuardResult guard = "취소".equals(request.getOrderCategory())
+                    ? OrderGuardResult.ALLOWED
+                    : orderGuard.tryAcquire(request.getAccountNumber(), request.getStockCode());
+            if (!guard.isAllowed()) {
+                log.warn("주문 차단: {} - {}", request.getStockCode(), guard.getDescription());
+                return StockOrderResponse.builder()
+                        .accountNumber(request.getAccountNumber())
+                        .stockCode(request.getStockCode())
+                        .orderType(request.getOrderType())
+                        .quantity(request.getQuantity())
+                        .price(request.getPrice())
+                        .priceType(request.getPriceType())
+                        .orderCategory(request.getOrderCategory())
+                        .orderDateTime(LocalDateTime.now())
+                        .orderTime(LocalDateTime.now().toString())
+                        .orderStatus("주문 차단")
+                        .errorCode(guard.name())
+                        .errorMessage(guard.getDescription())
+                        .build();
+            }
+            
             // 주문 파라미터 변환
             Map<String, String> orderParams = convertToOrderParams(request);
             
@@ -94,6 +131,27 @@ public class StockOrderService {
         }
     }
 
+    /**
+     * 계좌 일별 주문/체결 내역 조회 (주문번호마다 조회하지 않고 계좌 단위로 한 번에)
+     * @param date 주문일
+     * @return 주문별 체결 현황 (orderStatus는 STATUS_* 값)
+     */
+    public List<StockOrderResponse> getDailyOrderExecutions(String accountNumber, LocalDate date) {
+        try {
+            String day = date.format(DateTimeFormatter.BASIC_ISO_DATE);
+            List<Map<String, Object>> rows = kisApiClient.getDailyOrderExecutions(accountNumber, day, day);
+
+            List<StockOrderResponse> executions = new ArrayList<>(rows.size());
+            for (Map<String, Object> row : rows) {
+                executions.add(convertToExecutionResponse(accountNumber, row));
+            }
+            return executions;
+        } catch (Exception e) {
+            log.error("계좌 주문 내역 조회 중 오류 발생: {}", e.getMessage());
+            throw new ApiException("계좌 주문 내역 조회 실패", e);
+        }
+    }
+
     /**
      * 주문 파라미터 변환
      */
@@ -193,7 +251,9 @@ public class StockOrderService {
                        .orderType(convertOrderType((String) output.get("ORD_DVSN")))
                        .quantity(parseInteger(output.get("ORD_QTY")))
                        .price(parseInteger(output.get("ORD_UNPR")))
-                       .orderStatus((String) output.get("ORD_STAT_NM"));
+                       .orderStatus((String) output.get("ORD_STAT_NM"))
+                       .executedQuantity(parseInteger(output.get("TOT_CCLD_QTY")))
+                       .executedPrice(parseInteger(output.get("AVG_PRVS")));
             }
         }
 
@@ -208,6 +268,44 @@ public class StockOrderService {
         return builder.build();
     }
 
+    /**
+     * 계좌 주문 내역 행 변환 (거부/취소 > 전량 체결 > 일부 체결 > 접수 순으로 상태 판단)
+     */
+    private StockOrderResponse convertToExecutionResponse(String accountNumber, Map<String, Object> row) {
+        Integer quantity = parseInteger(row.get("ORD_QTY"));
+        Integer executed = parseInteger(row.get("TOT_CCLD_QTY"));
+        Integer rejected = parseInteger(row.get("RJCT_QTY"));
+        Integer cancelConfirmed = parseInteger(row.get("CNCL_CFRM_QTY"));
+        int filled = executed != null ? executed : 0;
+
+        String status;
+        if (rejected != null && rejected > 0) {
+            status = STATUS_REJECTED;
+        } else if ("Y".equals(row.get("CNCL_YN")) || (cancelConfirmed != null && cancelConfirmed > 0)) {
+            status = STATUS_CANCELLED;
+        } else if (quantity != null && quantity > 0 && filled >= quantity) {
+            status = STATUS_FILLED;
+        } else if (filled > 0) {
+            status = STATUS_PARTIALLY_FILLED;
+        } else {
+            status = STATUS_ACCEPTED;
+        }
+
+        return StockOrderResponse.builder()
+                .accountNumber(accountNumber)
+                .orderNumber((String) row.get("ODNO"))
+                .stockCode((String) row.get("PDNO"))
+                .stockName((String) row.get("PRDT_NAME"))
+                .orderType("01".equals(row.get("SLL_BUY_DVSN_CD")) ? "매도" : "매수")
+                .quantity(quantity)
+                .price(parseInteger(row.get("ORD_UNPR")))
+                .orderTime((String) row.get("ORD_TMD"))
+                .orderStatus(status)
+                .executedQuantity(filled)
+                .executedPrice(parseInteger(row.get("AVG_PRVS")))
+                .build();
+    }
+
     /**
      * 주문구분 코드를 한글로 변환
      */
@@ -224,7 +322,7 @@ public class StockOrderService {
         if (value == null) return null;
         try {
             if (value instanceof String) {
-                return Integer.parseInt((String) value);
+                return new BigDecimal(((String) value).trim()).intValue(); // 평균가 등 소수 표기 허용
             } else if (value instanceof Number) {
                 return ((Number) value).intValue();
             }
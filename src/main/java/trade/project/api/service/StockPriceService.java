@@ -1,59 +1,186 @@
 package trade.project.api.service;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import trade.project.api.client.KisApiClient;
 import trade.project.api.dto.StockPriceRequest;
 import trade.project.api.dto.StockPriceResponse;
 import trade.project.common.exception.ApiException;
+import trade.project.trading.enums.TradingSchedule;
 import trade.project.trading.service.PriceQueryRecordService;
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongSupplier;
 
+/**
+ * 국내 주식 현재가 조회
+ * 현재가는 종목별 캐시를 거친다 (유지 시간은 TradingSchedule 시간대를 따름, 만료 직후에는 이전 값을 주고 백그라운드 갱신).
+ * 같은 종목 동시 요청은 상위 API 조회 1건을 함께 기다리고, 조회 기록(MongoDB)은 실제로 상위 API를 조회했을 때만 남긴다.
+ * 상위 API 장애(서킷 열림/시간 초과)로 조회가 실패하면 STALE_IF_ERROR_MILLIS 동안은 이전 값을 stale로 반환한다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class StockPriceService {
+    private static final ZoneId DOMESTIC_ZONE = ZoneId.of("Asia/Seoul");
+    private static final String SUCCESS_CODE = "0";
+    private static final long STALE_IF_ERROR_MILLIS = 60_000;
+
     private final KisApiClient kisApiClient;
     private final PriceQueryRecordService priceQueryRecordService;
-    private final StockInfoCacheService stockInfoCacheService;
+    private final SymbolMasterService symbolMasterService;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final QuoteCache<StockPriceResponse> quoteCache;
+
+    @Autowired
+    public StockPriceService(KisApiClient kisApiClient, PriceQueryRecordService priceQueryRecordService,
+                             SymbolMasterService symbolMasterService) {
+        this(kisApiClient, priceQueryRecordService, symbolMasterService, Clock.system(DOMESTIC_ZONE), System::nanoTime,
+                Executors.newFixedThreadPool(2, runnable -> {
+                    Thread thread = new Thread(runnable, "quote-cache-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    StockPriceService(KisApiClient kisApiClient, PriceQueryRecordService priceQueryRecordService,
+                      SymbolMasterService symbolMasterService, Clock clock, LongSupplier nanoClock, Executor refreshExecutor) {
+        this.kisApiClient = kisApiClient;
+        this.priceQueryRecordService = priceQueryRecordService;
+        this.symbolMasterService = symbolMasterService;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+        this.quoteCache = new QuoteCache<>(this::fetchCurrentPrice, stockCode -> quoteTtl(), refreshExecutor, nanoClock);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
 
+    /**
+     * 주식 현재가 조회 (캐시 경유, 응답마다 캐시 결과/경과 시간 표시)
+     * 상위 API가 오류를 주면 캐시하지 않고 errorCode/errorMessage를 담아 반환한다.
+     */
     public StockPriceResponse getCurrentPrice(StockPriceRequest request, HttpServletRequest httpRequest) {
         try {
-            log.info("주식 현재가 조회 요청: {}", request.getStockCode());
-            Map<String, Object> apiResponse = kisApiClient.getStockPrice(request.getStockCode());
-            StockPriceResponse response;
-            if (apiResponse != null && apiResponse.containsKey("output")) {
-                Map<String, Object> output = (Map<String, Object>) apiResponse.get("output");
-                log.info("output response : {}", output);
-                response = StockPriceResponse.builder()
-                        .stockCode(request.getStockCode())
-                        .stockName(stockInfoCacheService.getStockName(request.getStockCode()))
-                        .currentPrice(parseInteger(output.get("stck_prpr")))
-                        .changeAmount(parseInteger(output.get("prdy_vrss")))
-                        .changeRate(parseDouble(output.get("prdy_ctrt")))
-                        .highPrice(parseInteger(output.get("stck_hgpr")))
-                        .lowPrice(parseInteger(output.get("stck_lwpr")))
-                        .openPrice(parseInteger(output.get("stck_oprc")))
-                        .build();
-            } else {
-                response = getMockStockPrice(request.getStockCode());
-            }
-            // MongoDB 저장 (종목명 포함)
-            try {
-                priceQueryRecordService.saveCurrentPriceRecord(request, response, apiResponse, httpRequest);
-            } catch (Exception e) {
-                log.error("MongoDB 저장 중 오류: {}", e.getMessage());
+            log.debug("주식 현재가 조회 요청: {}", request.getStockCode());
+            QuoteCache.Lookup<StockPriceResponse> lookup = quoteCache.get(request.getStockCode());
+            return lookup.value().toBuilder()
+                    .cacheStatus(lookup.status().name())
+                    .stale(lookup.status() == QuoteCache.Status.STALE)
+                    .quoteAgeMillis(lookup.ageMillis())
+                    .build();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof QuoteRejected rejected) {
+                return rejected.response.toBuilder().build();
             }
-            return response;
+            log.error("주식 현재가 조회 중 오류 발생: {}", e.getCause().getMessage());
+            throw new ApiException("주식 현재가 조회 실패", e.getCause());
         } catch (Exception e) {
             log.error("주식 현재가 조회 중 오류 발생: {}", e.getMessage());
             throw new ApiException("주식 현재가 조회 실패", e);
         }
     }
 
-    // 이하 parseInteger, parseDouble, parseLong, getMockStockPrice 등 기존 유틸 메서드 복구
+    /**
+     * 현재가 캐시 현황
+     */
+    public Map<String, Object> getQuoteCacheStatus() {
+        Map<String, Object> status = quoteCache.stats();
+        TradingSchedule schedule = TradingSchedule.scheduleAt(LocalTime.now(clock));
+        status.put("schedule", schedule.name());
+        status.put("ttlMillis", schedule.getQuoteTtlMillis());
+        return status;
+    }
+
+    /**
+     * 상위 API(KIS) 조회 서킷 상태와 호출 통계
+     */
+    public Map<String, Object> getUpstreamStatus() {
+        return kisApiClient.getResilienceStatus();
+    }
+
+    /**
+     * 시간대별 유지 시간 (만료 후 같은 시간만큼은 이전 값을 주면서 갱신, 조회 실패 시 1분간 이전 값 사용)
+     */
+    QuoteCache.Ttl quoteTtl() {
+        long ttlMillis = TradingSchedule.scheduleAt(LocalTime.now(clock)).getQuoteTtlMillis();
+        return new QuoteCache.Ttl(ttlMillis, ttlMillis, STALE_IF_ERROR_MILLIS);
+    }
+
+    /**
+     * 상위 API 현재가 조회 (캐시 로더, 오류 응답은 QuoteRejected로 전달해 캐시하지 않음)
+     */
+    private StockPriceResponse fetchCurrentPrice(String stockCode) {
+        Map<String, Object> apiResponse = kisApiClient.getStockPrice(stockCode);
+        if (apiResponse == null) {
+            throw new ApiException("주식 현재가 응답이 없습니다");
+        }
+        Object rtCd = apiResponse.get("rt_cd");
+        StockPriceResponse response;
+        boolean success = apiResponse.get("output") instanceof Map && (rtCd == null || SUCCESS_CODE.equals(String.valueOf(rtCd)));
+        if (success) {
+            Map<String, Object> output = (Map<String, Object>) apiResponse.get("output");
+            response = StockPriceResponse.builder()
+                    .stockCode(stockCode)
+                    .stockName(symbolMasterService.getStockName(stockCode))
+                    .currentPrice(parseInteger(output.get("stck_prpr")))
+                    .changeAmount(parseInteger(output.get("prdy_vrss")))
+                    .changeRate(parseDouble(output.get("prdy_ctrt")))
+                    .highPrice(parseInteger(output.get("stck_hgpr")))
+                    .lowPrice(parseInteger(output.get("stck_lwpr")))
+                    .openPrice(parseInteger(output.get("stck_oprc")))
+                    .timestamp(LocalDateTime.now(clock))
+                    .build();
+        } else {
+            response = StockPriceResponse.builder()
+                    .stockCode(stockCode)
+                    .timestamp(LocalDateTime.now(clock))
+                    .errorCode(rtCd != null ? String.valueOf(rtCd) : "INVALID_RESPONSE")
+                    .errorMessage(apiResponse.get("msg1") != null ? String.valueOf(apiResponse.get("msg1")) : "현재가 응답에 output이 없습니다")
+                    .cacheStatus(QuoteCache.Status.MISS.name())
+                    .stale(false)
+                    .quoteAgeMillis(0L)
+                    .build();
+        }
+        // MongoDB 저장 (상위 API를 실제로 조회한 경우만)
+        try {
+            priceQueryRecordService.saveCurrentPriceRecord(StockPriceRequest.builder().stockCode(stockCode).build(),
+                    response, apiResponse, null);
+        } catch (Exception e) {
+            log.error("MongoDB 저장 중 오류: {}", e.getMessage());
+        }
+        if (!success) {
+            throw new QuoteRejected(response);
+        }
+        return response;
+    }
+
+    /**
+     * 상위 API 오류 응답 (캐시하지 않고 동시 요청자에게 그대로 전달)
+     */
+    private static final class QuoteRejected extends RuntimeException {
+        private final StockPriceResponse response;
+
+        private QuoteRejected(StockPriceResponse response) {
+            super(response.getErrorMessage(), null, false, false);
+            this.response = response;
+        }
+    }
+
     private Integer parseInteger(Object value) {
         if (value == null) return null;
         try {
@@ -93,16 +220,4 @@ public class StockPriceService {
         }
         return null;
     }
-    private StockPriceResponse getMockStockPrice(String stockCode) {
-        return StockPriceResponse.builder()
-                .stockCode(stockCode)
-                .stockName(stockInfoCacheService.getStockName(stockCode))
-                .currentPrice(10000)
-                .changeAmount(0)
-                .changeRate(0.0)
-                .highPrice(10000)
-                .lowPrice(10000)
-                .openPrice(10000)
-                .build();
-    }
 } 
\ No newline at end of file
@@ -0,0 +1,361 @@
+package trade.project.api.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import trade.project.api.dto.SymbolInfo;
+import trade.project.api.entity.Stock;
+import trade.project.api.repository.StockRepository;
+import trade.project.trading.enums.MarketType;
+import trade.project.trading.enums.TopKospiStocks;
+import trade.project.trading.enums.TopNasdaqStocks;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 종목 마스터 (국내/해외)
+ * 종목코드/종목명/섹터 조회를 불변 스냅샷의 해시 맵으로 O(1) 처리하고,
+ * 갱신은 새 스냅샷을 만든 뒤 volatile 참조 하나만 바꾸므로 조회 경로에는 락이 없다.
+ * - 기동 시 상위 종목 Enum을 기본값으로 싣고 DB(stocks) 내용으로 덮어씀
+ * - 주기 갱신(10분) + 수동 갱신(refresh)
+ * - 마스터에 없는 코드는 DB 단건 조회로 즉시 추가 (신규 상장 종목을 재시작 없이 인식, 없는 코드는 잠시 음성 캐시)
+ * 종목 ID는 처음 본 순서대로 0부터 부여하고 갱신 후에도 유지하므로 배열 인덱스로 쓸 수 있다.
+ */
+@Slf4j
+@Service
+public class SymbolMasterService {
+
+    static final long REFRESH_INTERVAL_MINUTES = 10;
+    static final long NEGATIVE_CACHE_MILLIS = 60_000; // 없는 코드 재조회 간격
+    private static final int MAX_NEGATIVE_ENTRIES = 10_000;
+    private static final ZoneId DOMESTIC_ZONE = ZoneId.of("Asia/Seoul");
+    private static final Set<String> DOMESTIC_MARKETS = Set.of("DOMESTIC", "KOSPI", "KOSDAQ", "KONEX", "KRX");
+    private static final Set<String> FOREIGN_MARKETS = Set.of("FOREIGN", "NASDAQ", "NYSE", "AMEX", "NAS", "NYS", "AMS");
+
+    private final StockRepository stockRepository;
+    private final Clock clock;
+    private volatile Snapshot snapshot;
+    private final Map<String, Long> missedUntil = new ConcurrentHashMap<>(); // 코드 -> 재조회 가능 시각 (ms)
+    private final AtomicLong refreshCount = new AtomicLong();
+    private ScheduledExecutorService refresher;
+
+    public SymbolMasterService(StockRepository stockRepository) {
+        this(stockRepository, Clock.systemUTC());
+    }
+
+    SymbolMasterService(StockRepository stockRepository, Clock clock) {
+        this.stockRepository = stockRepository;
+        this.clock = clock;
+        this.snapshot = Snapshot.of(List.of(), null);
+    }
+
+    @PostConstruct
+    public void start() {
+        refresh();
+        refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "symbol-master-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresher.scheduleWithFixedDelay(this::refreshQuietly, REFRESH_INTERVAL_MINUTES, REFRESH_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    // ==================== 조회 (락 없음) ====================
+
+    /**
+     * 종목코드로 조회 (마스터에 없으면 DB 단건 조회 후 추가, 그래도 없으면 null)
+     */
+    public SymbolInfo findByCode(String stockCode) {
+        if (stockCode == null) return null;
+        SymbolInfo info = snapshot.byCode.get(stockCode);
+        return info != null ? info : loadMissing(stockCode);
+    }
+
+    /**
+     * 조밀한 종목 ID로 조회
+     */
+    public SymbolInfo findById(int symbolId) {
+        SymbolInfo[] byId = snapshot.byId;
+        return symbolId >= 0 && symbolId < byId.length ? byId[symbolId] : null;
+    }
+
+    /**
+     * 종목 ID (모르는 코드면 -1)
+     */
+    public int symbolIdOf(String stockCode) {
+        SymbolInfo info = findByCode(stockCode);
+        return info != null ? info.getSymbolId() : -1;
+    }
+
+    /**
+     * 종목명으로 조회 (해외는 한글 약칭과 영문명 모두 가능)
+     */
+    public SymbolInfo findByName(MarketType marketType, String name) {
+        return name != null ? snapshot.byName.get(marketType).get(name) : null;
+    }
+
+    /**
+     * 시장/섹터별 상장 종목 (종목 ID 순)
+     */
+    public List<SymbolInfo> findBySector(MarketType marketType, String sector) {
+        return sector != null ? snapshot.bySector.get(marketType).getOrDefault(sector, List.of()) : List.of();
+    }
+
+    public List<String> getSectors(MarketType marketType) {
+        return snapshot.sectors.get(marketType);
+    }
+
+    /**
+     * 종목명 (모르는 코드면 코드 그대로)
+     */
+    public String getStockName(String stockCode) {
+        SymbolInfo info = findByCode(stockCode);
+        return info != null && info.getStockName() != null ? info.getStockName() : stockCode;
+    }
+
+    public int size() {
+        return snapshot.byId.length;
+    }
+
+    public LocalDateTime getLoadedAt() {
+        return snapshot.loadedAt;
+    }
+
+    public long getRefreshCount() {
+        return refreshCount.get();
+    }
+
+    // ==================== 갱신 ====================
+
+    /**
+     * 전체 갱신: Enum 기본값 + DB 전체를 합쳐 새 스냅샷으로 교체 (DB 실패 시 기존 스냅샷 유지)
+     * @return 갱신 후 종목 수
+     */
+    public synchronized int refresh() {
+        Map<String, SymbolInfo> latest = new LinkedHashMap<>();
+        for (TopKospiStocks stock : TopKospiStocks.values()) {
+            SymbolInfo info = fromKospi(stock);
+            latest.put(info.getStockCode(), info);
+        }
+        for (TopNasdaqStocks stock : TopNasdaqStocks.values()) {
+            SymbolInfo info = fromNasdaq(stock);
+            latest.put(info.getStockCode(), info);
+        }
+        try {
+            for (Stock stock : stockRepository.findAll()) {
+                if (stock.getStockCode() != null) {
+                    latest.put(stock.getStockCode(), fromStock(stock));
+                }
+            }
+        } catch (Exception e) {
+            log.error("종목 마스터 DB 조회 실패, 기존 마스터 유지: {}", e.getMessage());
+            if (snapshot.byId.length > 0) {
+                return snapshot.byId.length;
+            }
+        }
+
+        Snapshot current = snapshot;
+        List<SymbolInfo> merged = new ArrayList<>(current.byId.length + latest.size());
+        for (SymbolInfo existing : current.byId) {
+            SymbolInfo updated = latest.remove(existing.getStockCode());
+            // 기존 ID 유지, 이번 갱신에 없는 종목은 비활성으로 남김
+            merged.add(updated != null
+                    ? updated.toBuilder().symbolId(existing.getSymbolId()).build()
+                    : existing.toBuilder().active(false).build());
+        }
+        for (SymbolInfo added : latest.values()) {
+            merged.add(added.toBuilder().symbolId(merged.size()).build());
+        }
+
+        snapshot = Snapshot.of(merged, LocalDateTime.now(clock.withZone(DOMESTIC_ZONE)));
+        missedUntil.clear();
+        refreshCount.incrementAndGet();
+        log.info("종목 마스터 갱신 완료: {}개 (신규 {}개)", merged.size(), merged.size() - current.byId.length);
+        return merged.size();
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("종목 마스터 주기 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 마스터에 없는 코드를 DB에서 단건 조회해 추가 (없으면 음성 캐시)
+     */
+    private SymbolInfo loadMissing(String stockCode) {
+        long now = clock.millis();
+        Long until = missedUntil.get(stockCode);
+        if (until != null && until > now) {
+            return null;
+        }
+        Optional<Stock> stock;
+        try {
+            stock = stockRepository.findByStockCode(stockCode);
+        } catch (Exception e) {
+            log.warn("종목 마스터 단건 조회 실패: {} - {}", stockCode, e.getMessage());
+            return null;
+        }
+        if (stock.isEmpty()) {
+            if (missedUntil.size() >= MAX_NEGATIVE_ENTRIES) {
+                missedUntil.clear();
+            }
+            missedUntil.put(stockCode, now + NEGATIVE_CACHE_MILLIS);
+            return null;
+        }
+        return append(fromStock(stock.get()));
+    }
+
+    private synchronized SymbolInfo append(SymbolInfo info) {
+        Snapshot current = snapshot;
+        SymbolInfo existing = current.byCode.get(info.getStockCode());
+        if (existing != null) {
+            return existing; // 다른 스레드가 먼저 추가
+        }
+        List<SymbolInfo> merged = new ArrayList<>(current.byId.length + 1);
+        Collections.addAll(merged, current.byId);
+        SymbolInfo added = info.toBuilder().symbolId(merged.size()).build();
+        merged.add(added);
+        snapshot = Snapshot.of(merged, current.loadedAt);
+        log.info("종목 마스터 신규 종목 추가: {} {}", added.getStockCode(), added.getStockName());
+        return added;
+    }
+
+    // ==================== 변환 ====================
+
+    private SymbolInfo fromStock(Stock stock) {
+        MarketType marketType = marketTypeOf(stock.getMarketType(), stock.getStockCode());
+        LocalDate today = LocalDate.now(clock.withZone(DOMESTIC_ZONE));
+        boolean delisted = Boolean.FALSE.equals(stock.getIsActive())
+                || (stock.getDelistingDate() != null && !stock.getDelistingDate().isAfter(today));
+        return SymbolInfo.builder()
+                .stockCode(stock.getStockCode())
+                .stockName(stock.getStockName())
+                .companyName(stock.getCompanyName() != null ? stock.getCompanyName() : stock.getStockName())
+                .marketType(marketType)
+                .market(stock.getMarketType())
+                .sector(stock.getSector())
+                .active(!delisted)
+                .build();
+    }
+
+    private static SymbolInfo fromKospi(TopKospiStocks stock) {
+        return SymbolInfo.builder()
+                .stockCode(stock.getStockCode())
+                .stockName(stock.getStockName())
+                .companyName(stock.getStockName())
+                .marketType(MarketType.DOMESTIC)
+                .market("KOSPI")
+                .sector(stock.getSector())
+                .active(true)
+                .build();
+    }
+
+    private static SymbolInfo fromNasdaq(TopNasdaqStocks stock) {
+        return SymbolInfo.builder()
+                .stockCode(stock.getStockCode())
+                .stockName(stock.getKoreanName())
+                .companyName(stock.getCompanyName())
+                .marketType(MarketType.FOREIGN)
+                .market("NASDAQ")
+                .sector(stock.getSector())
+                .active(true)
+                .build();
+    }
+
+    /**
+     * 시장 구분 문자열 우선, 없으면 코드에 숫자가 있으면 국내
+     */
+    static MarketType marketTypeOf(String market, String stockCode) {
+        if (market != null) {
+            String normalized = market.trim().toUpperCase();
+            if (DOMESTIC_MARKETS.contains(normalized)) return MarketType.DOMESTIC;
+            if (FOREIGN_MARKETS.contains(normalized)) return MarketType.FOREIGN;
+        }
+        return stockCode.chars().anyMatch(Character::isDigit) ? MarketType.DOMESTIC : MarketType.FOREIGN;
+    }
+
+    /**
+     * 불변 조회 스냅샷 (한 번 만들면 수정하지 않음)
+     */
+    private static final class Snapshot {
+
+        final SymbolInfo[] byId;
+        final Map<String, SymbolInfo> byCode;
+        final Map<MarketType, Map<String, SymbolInfo>> byName;
+        final Map<MarketType, Map<String, List<SymbolInfo>>> bySector;
+        final Map<MarketType, List<String>> sectors;
+        final LocalDateTime loadedAt;
+
+        private Snapshot(SymbolInfo[] byId, Map<String, SymbolInfo> byCode,
+                         Map<MarketType, Map<String, SymbolInfo>> byName,
+                         Map<MarketType, Map<String, List<SymbolInfo>>> bySector,
+                         Map<MarketType, List<String>> sectors, LocalDateTime loadedAt) {
+            this.byId = byId;
+            this.byCode = byCode;
+            this.byName = byName;
+            this.bySector = bySector;
+            this.sectors = sectors;
+            this.loadedAt = loadedAt;
+        }
+
+        static Snapshot of(List<SymbolInfo> symbols, LocalDateTime loadedAt) {
+            Map<String, SymbolInfo> byCode = new HashMap<>(symbols.size() * 2);
+            Map<MarketType, Map<String, SymbolInfo>> byName = new EnumMap<>(MarketType.class);
+            Map<MarketType, Map<String, List<SymbolInfo>>> bySector = new EnumMap<>(MarketType.class);
+            for (MarketType marketType : MarketType.values()) {
+                byName.put(marketType, new HashMap<>());
+                bySector.put(marketType, new LinkedHashMap<>());
+            }
+            for (SymbolInfo info : symbols) {
+                byCode.put(info.getStockCode(), info);
+                Map<String, SymbolInfo> names = byName.get(info.getMarketType());
+                if (info.getStockName() != null) names.putIfAbsent(info.getStockName(), info);
+                if (info.getCompanyName() != null) names.putIfAbsent(info.getCompanyName(), info);
+                if (info.isActive() && info.getSector() != null) {
+                    bySector.get(info.getMarketType()).computeIfAbsent(info.getSector(), k -> new ArrayList<>()).add(info);
+                }
+            }
+
+            Map<MarketType, Map<String, SymbolInfo>> frozenNames = new EnumMap<>(MarketType.class);
+            Map<MarketType, Map<String, List<SymbolInfo>>> frozenSectors = new EnumMap<>(MarketType.class);
+            Map<MarketType, List<String>> sectors = new EnumMap<>(MarketType.class);
+            for (MarketType marketType : MarketType.values()) {
+                frozenNames.put(marketType, Map.copyOf(byName.get(marketType)));
+                Map<String, List<SymbolInfo>> sectorMap = new LinkedHashMap<>();
+                bySector.get(marketType).forEach((sector, list) -> sectorMap.put(sector, List.copyOf(list)));
+                frozenSectors.put(marketType, Collections.unmodifiableMap(sectorMap));
+                sectors.put(marketType, List.copyOf(sectorMap.keySet()));
+            }
+            return new Snapshot(symbols.toArray(new SymbolInfo[0]), Map.copyOf(byCode),
+                    frozenNames, frozenSectors, sectors, loadedAt);
+        }
+    }
+}
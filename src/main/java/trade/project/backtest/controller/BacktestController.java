@@ -5,7 +5,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 import trade.project.backtest.dto.BackTestResult;
+import trade.project.backtest.dto.CustomStrategyRequest;
+import trade.project.backtest.dto.OptimizationRequest;
+import trade.project.backtest.dto.OptimizationResult;
+import trade.project.backtest.dto.WalkForwardRequest;
+import trade.project.backtest.dto.WalkForwardResult;
+import trade.project.backtest.engine.EquityCurveDownsampler;
 import trade.project.backtest.service.BacktestService;
+import trade.project.backtest.service.StrategyOptimizerService;
+import trade.project.backtest.service.WalkForwardService;
 import trade.project.common.dto.ApiResponse;
 import trade.project.backtest.dto.BackTestRequest;
 
@@ -21,18 +29,23 @@ import java.util.Map;
 public class BacktestController {
     
     private final BacktestService backtestService;
+    private final WalkForwardService walkForwardService;
+    private final StrategyOptimizerService strategyOptimizerService;
     
     /**
      * 백트래킹을 실행합니다.
      * @param request 백트래킹 요청
+     * @param maxPoints 자산곡선 최대 지점 수 (LTTB 축소, 0이면 전체)
      * @return 백트래킹 결과
      */
     @PostMapping("/run")
-    public ApiResponse<BackTestResult> runBacktest(@RequestBody BackTestRequest request) {
+    public ApiResponse<BackTestResult> runBacktest(
+            @RequestBody BackTestRequest request,
+            @RequestParam(defaultValue = "" + EquityCurveDownsampler.DEFAULT_MAX_POINTS) int maxPoints) {
         try {
             log.info("백트래킹 요청: {}", request);
             BackTestResult result = backtestService.runBacktest(request);
-            return ApiResponse.success(result);
+            return ApiResponse.success(EquityCurveDownsampler.withMaxPoints(result, maxPoints));
         } catch (IllegalArgumentException e) {
             log.warn("백트래킹 요청 유효성 검사 실패: {}", e.getMessage());
             return ApiResponse.error("VALIDATION_ERROR", e.getMessage());
@@ -49,6 +62,7 @@ public class BacktestController {
      * @param endDate 종료 날짜
      * @param strategy 전략
      * @param initialCapital 초기 자본금
+     * @param maxPoints 자산곡선 최대 지점 수 (LTTB 축소, 0이면 전체)
      * @return 백트래킹 결과
      */
     @GetMapping("/run")
@@ -57,7 +71,8 @@ public class BacktestController {
             @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
             @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
             @RequestParam(defaultValue = "SMA") String strategy,
-            @RequestParam(defaultValue = "10000000") BigDecimal initialCapital) {
+            @RequestParam(defaultValue = "10000000") BigDecimal initialCapital,
+            @RequestParam(defaultValue = "" + EquityCurveDownsampler.DEFAULT_MAX_POINTS) int maxPoints) {
         
         try {
             BackTestRequest request = BackTestRequest.builder()
@@ -68,13 +83,51 @@ public class BacktestController {
                     .initialCapital(initialCapital)
                     .build();
             
-            return runBacktest(request);
+            return runBacktest(request, maxPoints);
         } catch (Exception e) {
             log.error("간단한 백트래킹 실행 중 오류 발생: {}", e.getMessage(), e);
             return ApiResponse.error("BACKTEST_ERROR", e.getMessage());
         }
     }
     
+    /**
+     * 워크포워드 분석을 실행합니다. (구간별 파라미터 최적화 후 표본 외 성과 연결)
+     * @param request 워크포워드 요청
+     * @return 워크포워드 결과
+     */
+    @PostMapping("/walk-forward")
+    public ApiResponse<WalkForwardResult> runWalkForward(@RequestBody WalkForwardRequest request) {
+        try {
+            log.info("워크포워드 요청: {}", request.getBaseRequest() != null ? request.getBaseRequest().getStockCode() : null);
+            return ApiResponse.success(walkForwardService.runWalkForward(request));
+        } catch (IllegalArgumentException e) {
+            log.warn("워크포워드 요청 유효성 검사 실패: {}", e.getMessage());
+            return ApiResponse.error("VALIDATION_ERROR", e.getMessage());
+        } catch (Exception e) {
+            log.error("워크포워드 실행 중 오류 발생: {}", e.getMessage(), e);
+            return ApiResponse.error("BACKTEST_ERROR", e.getMessage());
+        }
+    }
+    
+    /**
+     * 유전 알고리즘으로 전략 파라미터를 최적화합니다. (수익률/낙폭 등 다중 기준 파레토 순위)
+     * @param request 최적화 요청
+     * @return 파레토 최전선과 실행 통계
+     */
+    @PostMapping("/optimize")
+    public ApiResponse<OptimizationResult> optimize(@RequestBody OptimizationRequest request) {
+        try {
+            log.info("파라미터 최적화 요청: {}", request.getBaseRequest() != null ? request.getBaseRequest().getStockCode() : null);
+            return ApiResponse.success(strategyOptimizerService.optimize(request));
+        } catch (IllegalArgumentException e) {
+            log.warn("파라미터 최적화 요청 유효성 검사 실패: {}", e.getMessage());
+            return ApiResponse.error("VALIDATION_ERROR", e.getMessage());
+        } catch (Exception e) {
+            log.error("파라미터 최적화 중 오류 발생: {}", e.getMessage(), e);
+            return ApiResponse.error("BACKTEST_ERROR", e.getMessage());
+        }
+    }
+    
     /**
      * 사용 가능한 전략 목록을 반환합니다.
      * @return 전략 목록
@@ -90,6 +143,70 @@ public class BacktestController {
         }
     }
     
+    /**
+     * 규칙식 기반 사용자 전략을 등록합니다. (재배포 없이 즉시 사용 가능)
+     * @param request 사용자 전략 요청
+     * @return 등록된 전략 정보
+     */
+    @PostMapping("/strategies/custom")
+    public ApiResponse<Map<String, String>> registerCustomStrategy(@RequestBody CustomStrategyRequest request) {
+        try {
+            log.info("사용자 전략 등록 요청: {}", request.getName());
+            return ApiResponse.success(backtestService.registerCustomStrategy(request));
+        } catch (IllegalArgumentException e) {
+            log.warn("사용자 전략 등록 실패: {}", e.getMessage());
+            return ApiResponse.error("VALIDATION_ERROR", e.getMessage());
+        } catch (Exception e) {
+            log.error("사용자 전략 등록 중 오류 발생: {}", e.getMessage(), e);
+            return ApiResponse.error("STRATEGY_ERROR", e.getMessage());
+        }
+    }
+    
+    /**
+     * 사용자 전략을 제거합니다.
+     * @param name 전략 이름
+     * @return 처리 결과
+     */
+    @DeleteMapping("/strategies/custom/{name}")
+    public ApiResponse<String> removeCustomStrategy(@PathVariable String name) {
+        try {
+            backtestService.removeCustomStrategy(name);
+            return ApiResponse.success("전략이 제거되었습니다.");
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.error("VALIDATION_ERROR", e.getMessage());
+        } catch (Exception e) {
+            log.error("사용자 전략 제거 중 오류 발생: {}", e.getMessage(), e);
+            return ApiResponse.error("STRATEGY_ERROR", e.getMessage());
+        }
+    }
+    
+    /**
+     * 백트래킹 결과 캐시 통계를 반환합니다.
+     * @return 캐시 통계
+     */
+    @GetMapping("/cache")
+    public ApiResponse<Map<String, Object>> getCacheStatistics() {
+        return ApiResponse.success(backtestService.getCacheStatistics());
+    }
+    
+    /**
+     * 종목의 백트래킹 결과 캐시를 무효화합니다. (수정주가 반영 등)
+     * @param stockCode 종목코드
+     * @return 처리 결과
+     */
+    @DeleteMapping("/cache/{stockCode}")
+    public ApiResponse<String> invalidateCache(@PathVariable String stockCode) {
+        try {
+            backtestService.invalidateCache(stockCode);
+            return ApiResponse.success("캐시가 무효화되었습니다.");
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.error("VALIDATION_ERROR", e.getMessage());
+        } catch (Exception e) {
+            log.error("백트래킹 캐시 무효화 중 오류 발생: {}", e.getMessage(), e);
+            return ApiResponse.error("CACHE_ERROR", e.getMessage());
+        }
+    }
+    
     /**
      * 백트래킹 요청의 유효성을 검사합니다.
      * @param request 백트래킹 요청
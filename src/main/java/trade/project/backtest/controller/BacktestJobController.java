@@ -0,0 +1,125 @@
+package trade.project.backtest.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import trade.project.backtest.dto.BackTestRequest;
+import trade.project.backtest.dto.BackTestResult;
+import trade.project.backtest.dto.BacktestJobStatus;
+import trade.project.backtest.engine.EquityCurveDownsampler;
+import trade.project.backtest.service.BacktestJobService;
+import trade.project.common.dto.ApiResponse;
+
+import java.util.List;
+import java.util.Locale;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/backtest/jobs")
+@RequiredArgsConstructor
+public class BacktestJobController {
+
+    private final BacktestJobService backtestJobService;
+
+    /**
+     * 백트래킹 작업을 제출합니다. (즉시 작업 ID 반환)
+     * @param request 백트래킹 요청
+     * @param priority 우선순위 (LOW, NORMAL, HIGH)
+     * @return 작업 상태
+     */
+    @PostMapping
+    public ApiResponse<BacktestJobStatus> submit(@RequestBody BackTestRequest request,
+                                                 @RequestParam(defaultValue = "NORMAL") String priority) {
+        try {
+            BacktestJobStatus.Priority jobPriority = BacktestJobStatus.Priority.valueOf(priority.toUpperCase(Locale.ROOT));
+            return ApiResponse.success(backtestJobService.submit(request, jobPriority));
+        } catch (IllegalArgumentException e) {
+            log.warn("백트래킹 작업 제출 실패: {}", e.getMessage());
+            return ApiResponse.error("VALIDATION_ERROR", e.getMessage());
+        } catch (IllegalStateException e) {
+            log.warn("백트래킹 작업 대기열 초과: {}", e.getMessage());
+            return ApiResponse.error("QUEUE_FULL", e.getMessage());
+        } catch (Exception e) {
+            log.error("백트래킹 작업 제출 중 오류 발생: {}", e.getMessage(), e);
+            return ApiResponse.error("JOB_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * 진행 중이거나 최근 종료된 작업 목록을 조회합니다.
+     * @return 작업 상태 목록
+     */
+    @GetMapping
+    public ApiResponse<List<BacktestJobStatus>> getJobs() {
+        return ApiResponse.success(backtestJobService.getJobs());
+    }
+
+    /**
+     * 작업 상태를 조회합니다.
+     * @param jobId 작업 ID
+     * @return 작업 상태
+     */
+    @GetMapping("/{jobId}")
+    public ApiResponse<BacktestJobStatus> getStatus(@PathVariable String jobId) {
+        try {
+            return ApiResponse.success(backtestJobService.getStatus(jobId));
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.error("JOB_NOT_FOUND", e.getMessage());
+        } catch (Exception e) {
+            log.error("백트래킹 작업 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ApiResponse.error("JOB_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * 완료된 작업의 결과를 조회합니다.
+     * @param jobId 작업 ID
+     * @param maxPoints 자산곡선 최대 지점 수 (LTTB 축소, 0이면 전체)
+     * @return 백트래킹 결과
+     */
+    @GetMapping("/{jobId}/result")
+    public ApiResponse<BackTestResult> getResult(
+            @PathVariable String jobId,
+            @RequestParam(defaultValue = "" + EquityCurveDownsampler.DEFAULT_MAX_POINTS) int maxPoints) {
+        try {
+            return ApiResponse.success(EquityCurveDownsampler.withMaxPoints(backtestJobService.getResult(jobId), maxPoints));
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.error("JOB_NOT_FOUND", e.getMessage());
+        } catch (IllegalStateException e) {
+            return ApiResponse.error("JOB_NOT_COMPLETED", e.getMessage());
+        } catch (Exception e) {
+            log.error("백트래킹 작업 결과 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ApiResponse.error("JOB_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * 작업을 취소합니다.
+     * @param jobId 작업 ID
+     * @return 작업 상태
+     */
+    @DeleteMapping("/{jobId}")
+    public ApiResponse<BacktestJobStatus> cancel(@PathVariable String jobId) {
+        try {
+            return ApiResponse.success(backtestJobService.cancel(jobId));
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.error("VALIDATION_ERROR", e.getMessage());
+        } catch (Exception e) {
+            log.error("백트래킹 작업 취소 중 오류 발생: {}", e.getMessage(), e);
+            return ApiResponse.error("JOB_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * 작업 진행 상황과 부분 자산곡선을 스트리밍합니다. (Server-Sent Events)
+     * 이벤트: progress (진행 중), completed / failed / cancelled (종료)
+     * @param jobId 작업 ID
+     * @return SSE 스트림
+     */
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable String jobId) {
+        return backtestJobService.subscribe(jobId);
+    }
+}
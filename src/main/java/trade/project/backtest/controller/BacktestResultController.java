@@ -0,0 +1,128 @@
+package trade.project.backtest.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+import trade.project.backtest.dto.BackTestRequest;
+import trade.project.backtest.dto.BackTestResult;
+import trade.project.backtest.engine.EquityCurveDownsampler;
+import trade.project.backtest.entity.BacktestSummary;
+import trade.project.backtest.service.BacktestResultStorageService;
+import trade.project.backtest.service.BacktestService;
+import trade.project.common.dto.ApiResponse;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/backtest/results")
+@RequiredArgsConstructor
+public class BacktestResultController {
+
+    private final BacktestService backtestService;
+    private final BacktestResultStorageService backtestResultStorageService;
+
+    /**
+     * 백트래킹을 실행하고 결과를 저장합니다.
+     * @param request 백트래킹 요청
+     * @return 저장된 결과 요약
+     */
+    @PostMapping
+    public ApiResponse<BacktestSummary> runAndSave(@RequestBody BackTestRequest request) {
+        try {
+            backtestService.validateRequest(request);
+            BackTestResult result = backtestService.runBacktest(request);
+            return ApiResponse.success(backtestResultStorageService.save(result));
+        } catch (IllegalArgumentException e) {
+            log.warn("백트래킹 요청 검증 실패: {}", e.getMessage());
+            return ApiResponse.error("VALIDATION_ERROR", e.getMessage());
+        } catch (Exception e) {
+            log.error("백트래킹 결과 저장 중 오류 발생: {}", e.getMessage(), e);
+            return ApiResponse.error("STORAGE_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 결과 요약 목록을 조회합니다. (최신순)
+     * @param stockCode 종목코드 (선택)
+     * @param limit 최대 건수
+     * @return 결과 요약 목록
+     */
+    @GetMapping
+    public ApiResponse<List<BacktestSummary>> getSummaries(@RequestParam(required = false) String stockCode,
+                                                          @RequestParam(defaultValue = "100") int limit) {
+        return ApiResponse.success(backtestResultStorageService.getSummaries(stockCode, limit));
+    }
+
+    /**
+     * 저장된 결과 전체를 조회합니다. (자산곡선/거래 내역 포함)
+     * @param backtestId 결과 ID
+     * @return 백트래킹 결과
+     */
+    @GetMapping("/{backtestId}")
+    public ApiResponse<BackTestResult> getResult(@PathVariable Long backtestId) {
+        try {
+            return ApiResponse.success(backtestResultStorageService.load(backtestId));
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.error("RESULT_NOT_FOUND", e.getMessage());
+        } catch (Exception e) {
+            log.error("백트래킹 결과 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ApiResponse.error("STORAGE_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * 축소된 자산곡선을 조회합니다. (LTTB)
+     * @param backtestId 결과 ID
+     * @param maxPoints 최대 지점 수 (0이면 전체)
+     * @return 자산곡선
+     */
+    @GetMapping("/{backtestId}/equity")
+    public ApiResponse<List<BackTestResult.PortfolioSnapshot>> getEquityCurve(
+            @PathVariable Long backtestId,
+            @RequestParam(defaultValue = "" + EquityCurveDownsampler.DEFAULT_MAX_POINTS) int maxPoints) {
+        try {
+            return ApiResponse.success(backtestResultStorageService.getEquityCurve(backtestId, maxPoints));
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.error("RESULT_NOT_FOUND", e.getMessage());
+        } catch (Exception e) {
+            log.error("자산곡선 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ApiResponse.error("STORAGE_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * 거래 내역을 조회합니다.
+     * @param backtestId 결과 ID
+     * @return 거래 내역
+     */
+    @GetMapping("/{backtestId}/trades")
+    public ApiResponse<List<BackTestResult.TradeRecord>> getTrades(@PathVariable Long backtestId) {
+        try {
+            return ApiResponse.success(backtestResultStorageService.getTrades(backtestId));
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.error("RESULT_NOT_FOUND", e.getMessage());
+        } catch (Exception e) {
+            log.error("거래 내역 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ApiResponse.error("STORAGE_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 결과를 삭제합니다.
+     * @param backtestId 결과 ID
+     * @return 처리 결과
+     */
+    @DeleteMapping("/{backtestId}")
+    public ApiResponse<String> delete(@PathVariable Long backtestId) {
+        try {
+            backtestResultStorageService.delete(backtestId);
+            return ApiResponse.success("삭제되었습니다.");
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.error("RESULT_NOT_FOUND", e.getMessage());
+        } catch (Exception e) {
+            log.error("백트래킹 결과 삭제 중 오류 발생: {}", e.getMessage(), e);
+            return ApiResponse.error("STORAGE_ERROR", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package trade.project.backtest.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+import trade.project.backtest.document.DailyPrice;
+import trade.project.backtest.dto.DailyPriceBackfillRequest;
+import trade.project.backtest.dto.DailyPriceBackfillStatus;
+import trade.project.backtest.service.DailyPriceBackfillService;
+import trade.project.common.dto.ApiResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/backtest/backfill")
+@RequiredArgsConstructor
+public class DailyPriceBackfillController {
+
+    private final DailyPriceBackfillService dailyPriceBackfillService;
+
+    /**
+     * 과거 일봉 적재 작업을 제출합니다. (즉시 작업 ID 반환)
+     * @param request 종목코드 목록과 기간
+     * @return 작업 상태
+     */
+    @PostMapping
+    public ApiResponse<DailyPriceBackfillStatus> submit(@RequestBody DailyPriceBackfillRequest request) {
+        try {
+            return ApiResponse.success(dailyPriceBackfillService.submit(request));
+        } catch (IllegalArgumentException e) {
+            log.warn("과거 시세 적재 작업 제출 실패: {}", e.getMessage());
+            return ApiResponse.error("VALIDATION_ERROR", e.getMessage());
+        } catch (Exception e) {
+            log.error("과거 시세 적재 작업 제출 중 오류 발생: {}", e.getMessage(), e);
+            return ApiResponse.error("BACKFILL_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * 진행 중이거나 최근 종료된 작업 목록을 조회합니다.
+     * @return 작업 상태 목록
+     */
+    @GetMapping
+    public ApiResponse<List<DailyPriceBackfillStatus>> getJobs() {
+        return ApiResponse.success(dailyPriceBackfillService.getJobs());
+    }
+
+    /**
+     * 작업 상태를 조회합니다.
+     * @param jobId 작업 ID
+     * @return 작업 상태
+     */
+    @GetMapping("/{jobId}")
+    public ApiResponse<DailyPriceBackfillStatus> getStatus(@PathVariable String jobId) {
+        try {
+            return ApiResponse.success(dailyPriceBackfillService.getStatus(jobId));
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.error("JOB_NOT_FOUND", e.getMessage());
+        }
+    }
+
+    /**
+     * 종료된 작업을 같은 조건으로 재개합니다. (완료된 구간은 건너뜀)
+     * @param jobId 작업 ID
+     * @return 새 작업 상태
+     */
+    @PostMapping("/{jobId}/resume")
+    public ApiResponse<DailyPriceBackfillStatus> resume(@PathVariable String jobId) {
+        try {
+            return ApiResponse.success(dailyPriceBackfillService.resume(jobId));
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.error("JOB_NOT_FOUND", e.getMessage());
+        } catch (IllegalStateException e) {
+            return ApiResponse.error("JOB_RUNNING", e.getMessage());
+        }
+    }
+
+    /**
+     * 작업을 취소합니다.
+     * @param jobId 작업 ID
+     * @return 작업 상태
+     */
+    @DeleteMapping("/{jobId}")
+    public ApiResponse<DailyPriceBackfillStatus> cancel(@PathVariable String jobId) {
+        try {
+            return ApiResponse.success(dailyPriceBackfillService.cancel(jobId));
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.error("JOB_NOT_FOUND", e.getMessage());
+        }
+    }
+
+    /**
+     * 적재된 일봉을 조회합니다.
+     * @param stockCode 종목코드
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜
+     * @return 날짜순 일봉 목록
+     */
+    @GetMapping("/prices/{stockCode}")
+    public ApiResponse<List<DailyPrice>> getDailyPrices(
+            @PathVariable String stockCode,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ApiResponse.success(dailyPriceBackfillService.getDailyPrices(stockCode, startDate, endDate));
+    }
+}
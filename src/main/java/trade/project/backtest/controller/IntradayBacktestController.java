@@ -0,0 +1,57 @@
+package trade.project.backtest.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+import trade.project.backtest.document.IntradayPrice;
+import trade.project.backtest.dto.IntradayBacktestRequest;
+import trade.project.backtest.dto.IntradayBacktestResult;
+import trade.project.backtest.service.IntradayBacktestService;
+import trade.project.common.dto.ApiResponse;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/backtest/intraday")
+@RequiredArgsConstructor
+public class IntradayBacktestController {
+
+    private final IntradayBacktestService intradayBacktestService;
+
+    /**
+     * 분봉/틱 백트래킹을 실행합니다.
+     * @param request 분봉 백트래킹 요청
+     * @return 분봉 백트래킹 결과
+     */
+    @PostMapping("/run")
+    public ApiResponse<IntradayBacktestResult> runIntradayBacktest(@RequestBody IntradayBacktestRequest request) {
+        try {
+            log.info("분봉 백트래킹 요청: {}", request.getBaseRequest() != null ? request.getBaseRequest().getStockCode() : null);
+            return ApiResponse.success(intradayBacktestService.runIntradayBacktest(request));
+        } catch (IllegalArgumentException e) {
+            log.warn("분봉 백트래킹 요청 유효성 검사 실패: {}", e.getMessage());
+            return ApiResponse.error("VALIDATION_ERROR", e.getMessage());
+        } catch (Exception e) {
+            log.error("분봉 백트래킹 실행 중 오류 발생: {}", e.getMessage(), e);
+            return ApiResponse.error("BACKTEST_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * 분봉/체결 시세를 저장합니다. (백트래킹 입력)
+     * @param prices 시세 목록
+     * @return 저장 건수
+     */
+    @PostMapping("/prices")
+    public ApiResponse<Integer> importPrices(@RequestBody List<IntradayPrice> prices) {
+        try {
+            return ApiResponse.success(intradayBacktestService.importPrices(prices));
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.error("VALIDATION_ERROR", e.getMessage());
+        } catch (Exception e) {
+            log.error("분봉/체결 시세 저장 중 오류 발생: {}", e.getMessage(), e);
+            return ApiResponse.error("STORAGE_ERROR", e.getMessage());
+        }
+    }
+}
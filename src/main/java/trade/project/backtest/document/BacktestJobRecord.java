@@ -0,0 +1,31 @@
+package trade.project.backtest.document;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import trade.project.backtest.dto.BackTestResult;
+import trade.project.backtest.dto.BacktestJobStatus;
+
+import java.time.LocalDateTime;
+
+@Document(collection = "backtest_jobs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacktestJobRecord {
+    
+    @Id
+    private String jobId; // 작업 ID
+    
+    private BacktestJobStatus status; // 종료 시점 상태
+    
+    private BackTestResult result; // 백트래킹 결과 (완료 시)
+    
+    @Indexed
+    private LocalDateTime finishedAt; // 종료일시
+}
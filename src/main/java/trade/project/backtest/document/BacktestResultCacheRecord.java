@@ -0,0 +1,38 @@
+package trade.project.backtest.document;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import trade.project.backtest.dto.BackTestResult;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Document(collection = "backtest_result_cache")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacktestResultCacheRecord {
+    
+    @Id
+    private String cacheKey; // 요청 정규화 해시 (SHA-256)
+    
+    @Indexed
+    private String stockCode; // 종목코드
+    
+    private LocalDate lastBarDate; // 계산에 사용한 마지막 봉 일자 (데이터 버전)
+    
+    private boolean openRange; // 종료일이 오늘 이후라 새 봉이 추가될 수 있는 요청 여부
+    
+    private LocalDateTime createdAt; // 생성일시
+    
+    @Indexed(expireAfterSeconds = 0)
+    private LocalDateTime expiresAt; // 만료일시 (MongoIndexConfig가 만드는 TTL 인덱스로 자동 삭제)
+    
+    private BackTestResult result; // 백트래킹 결과
+}
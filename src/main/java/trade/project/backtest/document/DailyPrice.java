@@ -0,0 +1,40 @@
+package trade.project.backtest.document;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일봉 시세 (과거 시세 적재 결과)
+ * ID가 종목코드:일자이므로 같은 일자를 다시 적재하면 덮어쓴다.
+ */
+@Document(collection = "daily_prices")
+@CompoundIndex(name = "stock_date", def = "{'stockCode': 1, 'date': 1}")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyPrice {
+    
+    @Id
+    private String id; // 종목코드:yyyyMMdd
+    
+    private String stockCode; // 종목코드
+    
+    private LocalDate date; // 영업일
+    
+    private Integer open; // 시가
+    private Integer high; // 고가
+    private Integer low; // 저가
+    private Integer close; // 종가
+    private Long volume; // 거래량
+    
+    private LocalDateTime fetchedAt; // 적재일시
+}
@@ -0,0 +1,35 @@
+package trade.project.backtest.document;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 과거 시세 적재 체크포인트 (종목별 조회 구간 완료 기록)
+ * 이미 지난 구간만 기록하므로, 같은 기간을 다시 적재하면 기록된 구간은 조회하지 않는다.
+ */
+@Document(collection = "daily_price_checkpoints")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyPriceCheckpoint {
+    
+    @Id
+    private String id; // 종목코드:구간 시작일(yyyyMMdd)
+    
+    private String stockCode; // 종목코드
+    
+    private LocalDate startDate; // 구간 시작일
+    private LocalDate endDate; // 구간 종료일
+    
+    private Integer barCount; // 적재된 일봉 수
+    
+    private LocalDateTime completedAt; // 완료일시
+}
@@ -0,0 +1,37 @@
+package trade.project.backtest.document;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분봉/체결 시세 (분봉 백트래킹 입력)
+ * 분봉은 시가/고가/저가를 함께 저장하고, 체결(틱)은 price와 volume만 저장한다.
+ */
+@Document(collection = "intraday_prices")
+@CompoundIndex(name = "stock_timestamp", def = "{'stockCode': 1, 'timestamp': 1}")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IntradayPrice {
+    
+    @Id
+    private String id;
+    
+    private String stockCode; // 종목코드
+    
+    private LocalDateTime timestamp; // 체결/봉 시각 (한국 시간)
+    
+    private Integer open; // 시가 (틱이면 null)
+    private Integer high; // 고가 (틱이면 null)
+    private Integer low; // 저가 (틱이면 null)
+    private Integer price; // 종가/체결가
+    private Long volume; // 거래량
+}
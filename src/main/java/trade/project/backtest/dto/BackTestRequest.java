@@ -5,6 +5,7 @@ import lombok.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 @Getter
 @Setter
@@ -13,6 +14,9 @@ import java.time.LocalDate;
 @AllArgsConstructor
 public class BackTestRequest {
     
+    public static final String FILL_AT_NEXT_OPEN = "NEXT_OPEN";
+    public static final String FILL_AT_CLOSE = "CLOSE";
+    
     // 기본 설정
     private String stockCode;           // 주식 코드
     private LocalDate startDate;        // 시작 날짜
@@ -45,7 +49,19 @@ public class BackTestRequest {
     // 거래 설정
     private BigDecimal minTradeAmount;  // 최소 거래 금액
     private Boolean reinvestDividends;  // 배당금 재투자 여부
-    private Boolean includeTax;         // 세금 포함 여부
+    private Boolean includeTax;         // 세금 포함 여부 (매도 시 증권거래세)
+    
+    // 체결 설정
+    private String fillTiming;          // 체결 시점 (NEXT_OPEN: 신호 다음 봉 시가, CLOSE: 신호 봉 종가 / 기본값: NEXT_OPEN)
+    private List<CommissionTier> commissionTiers; // 체결 금액 구간별 수수료 (없으면 commission 단일 요율)
+    private BigDecimal minimumCommission; // 최소 수수료 (원)
+    private BigDecimal slippageBps;     // 반 스프레드 슬리피지 (bp, 기본값: 5)
+    private BigDecimal marketImpact;    // 시장 충격 계수 (충격 = 계수 × √(주문 수량 / 거래량), 기본값: 0.02)
+    private BigDecimal maxParticipationRate; // 봉 거래량 대비 최대 체결 비율 (기본값: 0.1)
+    
+    // 강건성 분석 설정
+    private Integer monteCarloPaths;    // 몬테카를로 경로 수 (0이면 분석 생략, 기본값: 10000)
+    private Long monteCarloSeed;        // 몬테카를로 난수 시드 (재현용, 미지정 시 임의)
     
     // 기본값 설정
     public static BackTestRequest getDefault() {
@@ -66,6 +82,11 @@ public class BackTestRequest {
                 .minTradeAmount(new BigDecimal("100000"))
                 .reinvestDividends(true)
                 .includeTax(true)
+                .fillTiming(FILL_AT_NEXT_OPEN)
+                .slippageBps(new BigDecimal("5"))
+                .marketImpact(new BigDecimal("0.02"))
+                .maxParticipationRate(new BigDecimal("0.1"))
+                .monteCarloPaths(10000)
                 .build();
     }
     
@@ -97,6 +118,28 @@ public class BackTestRequest {
                 .minTradeAmount(this.minTradeAmount != null ? this.minTradeAmount : defaultRequest.getMinTradeAmount())
                 .reinvestDividends(this.reinvestDividends != null ? this.reinvestDividends : defaultRequest.getReinvestDividends())
                 .includeTax(this.includeTax != null ? this.includeTax : defaultRequest.getIncludeTax())
+                .fillTiming(this.fillTiming != null ? this.fillTiming.toUpperCase() : defaultRequest.getFillTiming())
+                .commissionTiers(this.commissionTiers)
+                .minimumCommission(this.minimumCommission)
+                .slippageBps(this.slippageBps != null ? this.slippageBps : defaultRequest.getSlippageBps())
+                .marketImpact(this.marketImpact != null ? this.marketImpact : defaultRequest.getMarketImpact())
+                .maxParticipationRate(this.maxParticipationRate != null ? this.maxParticipationRate : defaultRequest.getMaxParticipationRate())
+                .monteCarloPaths(this.monteCarloPaths != null ? this.monteCarloPaths : defaultRequest.getMonteCarloPaths())
+                .monteCarloSeed(this.monteCarloSeed)
                 .build();
     }
-} 
\ No newline at end of file
+    
+    /**
+     * 수수료 구간 (체결 금액이 minAmount 이상인 가장 높은 구간 적용)
+     */
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CommissionTier {
+        private BigDecimal minAmount;   // 구간 시작 금액 (원)
+        private BigDecimal rate;        // 요율 (0.00015 = 0.015%)
+        private BigDecimal fixedFee;    // 정액 수수료 (원)
+    }
+}
@@ -10,7 +10,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class BackTestResult {
@@ -43,6 +43,11 @@ public class BackTestResult {
     private BigDecimal averageLoss;
     private BigDecimal profitFactor;
     
+    // 거래 비용 정보
+    private BigDecimal totalCommission; // 위탁 수수료 합계
+    private BigDecimal totalTax;        // 증권거래세 합계
+    private BigDecimal totalSlippage;   // 기준 가격 대비 체결가 차이로 발생한 비용 합계
+    
     // 포트폴리오 정보
     private BigDecimal peakCapital;
     private LocalDate peakDate;
@@ -58,6 +63,9 @@ public class BackTestResult {
     private BigDecimal informationRatio;
     private BigDecimal treynorRatio;
     
+    // 강건성 분석 (몬테카를로 신뢰구간)
+    private MonteCarloResult monteCarlo;
+    
     @Data
     @Builder
     @NoArgsConstructor
@@ -69,6 +77,8 @@ public class BackTestResult {
         private Integer quantity;
         private BigDecimal amount;
         private BigDecimal commission;
+        private BigDecimal tax;        // 증권거래세 (매도)
+        private BigDecimal slippage;   // 기준 가격 대비 체결가 차이 비용
         private BigDecimal balance;
         private BigDecimal position;
         private String reason; // 전략 신호
@@ -0,0 +1,22 @@
+package trade.project.backtest.dto;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 백트래킹 작업 진행 이벤트 (SSE)
+ * equity에는 직전 이벤트 이후 새로 생긴 스냅샷만 담긴다. (구독 직후 첫 이벤트는 그때까지의 전체)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacktestJobProgress {
+    
+    private BacktestJobStatus status;
+    private List<BackTestResult.PortfolioSnapshot> equity;
+}
@@ -0,0 +1,59 @@
+package trade.project.backtest.dto;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacktestJobStatus {
+    
+    private String jobId;
+    private State state;
+    private Priority priority;
+    
+    // 요청 요약
+    private String stockCode;
+    private String strategy;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    
+    // 진행 상황
+    private Integer processedBars;
+    private Integer totalBars;
+    private BigDecimal progressPercent;
+    
+    // 결과 요약 (완료 시)
+    private BigDecimal totalReturnPercent;
+    private Integer totalTrades;
+    private String errorMessage;
+    
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    
+    /**
+     * 작업 상태
+     */
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED;
+        
+        public boolean isFinished() {
+            return this == COMPLETED || this == FAILED || this == CANCELLED;
+        }
+    }
+    
+    /**
+     * 작업 우선순위 (높은 순서로 실행, 같으면 먼저 제출한 작업부터)
+     */
+    public enum Priority {
+        LOW, NORMAL, HIGH
+    }
+}
@@ -0,0 +1,16 @@
+package trade.project.backtest.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomStrategyRequest {
+    
+    private String name;            // 전략 이름 (대소문자 구분 없음)
+    private String description;     // 전략 설명
+    private String buyRule;         // 매수 규칙식 (예: RSI(14) < 30 AND CROSS_UP(SMA(5), SMA(20)))
+    private String sellRule;        // 매도 규칙식 (예: RSI(14) > 70 OR CROSS_DOWN(SMA(5), SMA(20)))
+}
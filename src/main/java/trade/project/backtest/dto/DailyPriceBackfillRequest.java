@@ -0,0 +1,18 @@
+package trade.project.backtest.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyPriceBackfillRequest {
+    
+    private List<String> stockCodes; // 종목코드 목록
+    private LocalDate startDate;     // 시작 날짜
+    private LocalDate endDate;       // 종료 날짜 (없으면 오늘)
+}
@@ -0,0 +1,53 @@
+package trade.project.backtest.dto;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 과거 시세 적재 작업 상태
+ * 구간 수는 종목 × 조회 구간 기준이며, 체크포인트가 있는 구간은 skippedChunks로 집계된다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyPriceBackfillStatus {
+    
+    private String jobId;
+    private State state;
+    
+    // 요청 요약
+    private List<String> stockCodes;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    
+    // 진행 상황
+    private Integer totalChunks;
+    private Integer skippedChunks;   // 체크포인트로 건너뛴 구간
+    private Integer completedChunks; // 이번 작업에서 조회한 구간
+    private Integer failedChunks;    // 재시도 후에도 실패한 구간
+    private Long savedBars;
+    private BigDecimal progressPercent;
+    private List<String> failures;   // 실패 구간 (종목코드:시작일~종료일 - 사유)
+    
+    private LocalDateTime submittedAt;
+    private LocalDateTime finishedAt;
+    
+    /**
+     * 작업 상태 (PARTIAL: 일부 구간 실패, 같은 작업을 재개하면 실패 구간만 다시 조회)
+     */
+    public enum State {
+        RUNNING, COMPLETED, PARTIAL, CANCELLED;
+        
+        public boolean isFinished() {
+            return this != RUNNING;
+        }
+    }
+}
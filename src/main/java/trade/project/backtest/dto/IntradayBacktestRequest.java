@@ -0,0 +1,29 @@
+package trade.project.backtest.dto;
+
+import lombok.*;
+import trade.project.backtest.engine.IntradaySession;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IntradayBacktestRequest {
+    
+    // 기본 백트래킹 설정 (종목, 전략, 자본금, 수수료, 파라미터 / 일자 범위는 사용하지 않음)
+    private BackTestRequest baseRequest;
+    
+    // 기간 설정
+    private LocalDateTime startDateTime; // 시작 시각
+    private LocalDateTime endDateTime;   // 종료 시각
+    
+    // 봉 설정
+    private Integer barMinutes;          // 봉 길이 (분, 기본값: 1 / 0이면 시세 한 건을 한 봉으로 처리 - 틱 모드)
+    
+    // 시간대 설정
+    private Set<IntradaySession> noEntrySessions; // 신규 매수를 하지 않는 시간대 (기본값: MARKET_OPEN, LUNCH_BREAK, MARKET_CLOSE)
+    private Boolean flattenAtClose;      // 매일 마지막 봉에서 보유 수량 청산 여부 (기본값: true)
+}
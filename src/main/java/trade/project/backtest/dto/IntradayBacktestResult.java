@@ -0,0 +1,72 @@
+package trade.project.backtest.dto;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import trade.project.backtest.engine.IntradaySession;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IntradayBacktestResult {
+    
+    // 기본 정보
+    private String stockCode;
+    private String strategy;
+    private LocalDateTime startDateTime;
+    private LocalDateTime endDateTime;
+    private Integer barMinutes;
+    
+    // 성과 정보
+    private BigDecimal initialCapital;
+    private BigDecimal finalCapital;
+    private BigDecimal totalReturnPercent;
+    private BigDecimal maxDrawdownPercent; // 봉 단위로 측정한 최대 낙폭 (%)
+    
+    // 거래 정보
+    private Integer totalTrades;
+    private Integer winningTrades;
+    private BigDecimal winRate;
+    private Integer blockedEntries;      // 신규 매수 금지 시간대라 무시한 매수 신호 수
+    private Integer forcedExits;         // 장 마감 청산 횟수
+    private Map<IntradaySession, Integer> tradesBySession; // 시간대별 거래 수
+    
+    // 처리 정보
+    private Long eventCount;             // 읽은 시세 수
+    private Long skippedEventCount;      // 정규장 밖이거나 가격이 없어 제외한 시세 수
+    private Long barCount;               // 처리한 봉 수
+    private Integer tradingDays;
+    private Long elapsedMillis;
+    private Long eventsPerSecond;
+    
+    // 거래 내역 (최대 보관 건수 초과 시 이후 거래는 집계에만 반영)
+    private List<IntradayTrade> trades;
+    private boolean tradesTruncated;
+    
+    // 일별 자산곡선 (각 거래일 마지막 봉 기준)
+    private List<BackTestResult.PortfolioSnapshot> equityCurve;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class IntradayTrade {
+        private LocalDateTime dateTime;
+        private IntradaySession session;
+        private String action; // BUY, SELL
+        private BigDecimal price;
+        private Long quantity;
+        private BigDecimal amount;
+        private BigDecimal commission;
+        private BigDecimal cash;   // 거래 후 현금
+        private BigDecimal profit; // 매도 시 실현 손익 (수수료 포함)
+        private String reason;     // 전략 신호 / 장 마감 청산
+    }
+}
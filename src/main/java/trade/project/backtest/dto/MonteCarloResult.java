@@ -0,0 +1,51 @@
+package trade.project.backtest.dto;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonteCarloResult {
+    
+    // 시뮬레이션 설정
+    private Integer paths;              // 시뮬레이션 경로 수
+    private Integer blockSize;          // 일별 수익률 블록 부트스트랩 블록 길이
+    private Integer returnCount;        // 원본 일별 수익률 수
+    private Integer tradeCount;         // 원본 왕복 거래 수
+    private Long seed;                  // 재현용 시드
+    private BigDecimal ruinLossPercent; // 파산 기준 손실률 (%)
+    
+    // 일별 수익률 블록 부트스트랩 결과
+    private Interval returnPercent;
+    private Interval maxDrawdownPercent;
+    private Interval sharpeRatio;
+    private BigDecimal ruinProbability; // 파산 기준 손실 도달 확률 (%)
+    
+    // 거래 순서 재표집 결과 (거래가 없으면 null)
+    private Interval tradeReturnPercent;
+    private Interval tradeMaxDrawdownPercent;
+    private Interval winRate;
+    private BigDecimal tradeRuinProbability;
+    
+    private Long elapsedMillis;
+    
+    /**
+     * 분포 요약 (5/50/95 백분위와 평균)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Interval {
+        private BigDecimal lower;       // 5 백분위
+        private BigDecimal median;      // 50 백분위
+        private BigDecimal upper;       // 95 백분위
+        private BigDecimal mean;
+    }
+}
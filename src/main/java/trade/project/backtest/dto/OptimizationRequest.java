@@ -0,0 +1,43 @@
+package trade.project.backtest.dto;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OptimizationRequest {
+    
+    // 기본 백트래킹 설정 (종목, 기간, 전략, 자본금, 고정 파라미터)
+    private BackTestRequest baseRequest;
+    
+    // 탐색 범위 (예: shortPeriod → {min: 3, max: 30, step: 1}, stopLoss → {min: 0.02, max: 0.15, step: 0.01})
+    private Map<String, ParameterRange> parameterRanges;
+    
+    // 최적화 기준 (RETURN, MAX_DRAWDOWN, SHARPE, CALMAR / 기본값: RETURN, MAX_DRAWDOWN)
+    // 둘 이상이면 파레토 순위로 비교
+    private List<String> objectives;
+    
+    // 진화 설정
+    private Integer populationSize;     // 세대당 개체 수 (기본값: 40)
+    private Integer generations;        // 세대 수 (기본값: 25)
+    private Double crossoverRate;       // 교차 확률 (기본값: 0.9)
+    private Double mutationRate;        // 유전자별 변이 확률 (기본값: 1 / 파라미터 수)
+    private Integer stallGenerations;   // 파레토 최전선이 개선되지 않으면 조기 종료할 세대 수 (기본값: 8, 0이면 사용 안 함)
+    private Long seed;                  // 난수 시드 (같은 시드면 같은 탐색 경로)
+    
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ParameterRange {
+        private Double min;
+        private Double max;
+        private Double step;            // 탐색 간격 (기본값: 정수 파라미터 1, 비율 파라미터 0.01)
+    }
+}
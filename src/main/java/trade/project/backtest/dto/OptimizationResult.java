@@ -0,0 +1,63 @@
+package trade.project.backtest.dto;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OptimizationResult {
+    
+    // 기본 정보
+    private String stockCode;
+    private String strategy;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<String> objectives;
+    
+    // 최적화 결과
+    private Candidate best;                // 첫 번째 기준으로 고른 파레토 최전선의 대표 해
+    private List<Candidate> paretoFront;   // 서로 우열이 없는 해 목록
+    
+    // 실행 정보
+    private Long searchSpaceSize;          // 전수 탐색 시 필요한 실행 수
+    private Integer evaluatedRuns;         // 실제 백트래킹 실행 수 (캐시 적중 제외)
+    private Integer cacheHits;             // 이미 평가한 유전자 재사용 횟수
+    private Integer generations;           // 실제 진행한 세대 수
+    private boolean stoppedEarly;
+    private Long elapsedMillis;
+    private List<GenerationStat> history;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Candidate {
+        private Map<String, Number> parameters;
+        private Integer rank;              // 파레토 순위 (0이 최전선)
+        private BigDecimal totalReturnPercent;
+        private BigDecimal maxDrawdownPercent;
+        private BigDecimal sharpeRatio;
+        private BigDecimal calmarRatio;
+        private Integer totalTrades;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GenerationStat {
+        private Integer generation;
+        private Integer evaluatedRuns;     // 누적 실행 수
+        private Integer paretoSize;
+        private BigDecimal bestScore;      // 첫 번째 기준의 최고 값
+    }
+}
@@ -0,0 +1,26 @@
+package trade.project.backtest.dto;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WalkForwardRequest {
+    
+    // 기본 백트래킹 설정 (종목, 전체 기간, 전략, 자본금, 고정 파라미터)
+    private BackTestRequest baseRequest;
+    
+    // 구간 설정 (거래일 기준 봉 수)
+    private Integer trainDays;          // 최적화(학습) 구간 길이 (기본값: 252)
+    private Integer testDays;           // 검증(표본 외) 구간 길이 (기본값: 63)
+    private Integer stepDays;           // 구간 이동 간격 (기본값: testDays)
+    
+    // 최적화 설정
+    private String objective;           // 최적화 기준 (SHARPE, RETURN, CALMAR / 기본값: SHARPE)
+    private Map<String, List<Integer>> parameterGrid; // 파라미터 후보 (예: shortPeriod → [5, 10], longPeriod → [20, 60])
+}
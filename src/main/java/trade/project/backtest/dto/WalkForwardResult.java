@@ -0,0 +1,72 @@
+package trade.project.backtest.dto;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WalkForwardResult {
+    
+    // 기본 정보
+    private String stockCode;
+    private String strategy;
+    private String objective;
+    private LocalDate startDate;        // 첫 검증 구간 시작일
+    private LocalDate endDate;          // 마지막 검증 구간 종료일
+    
+    // 표본 외 성과 (검증 구간을 이어 붙인 결과)
+    private BigDecimal initialCapital;
+    private BigDecimal finalCapital;
+    private BigDecimal totalReturnPercent;
+    private BigDecimal maxDrawdownPercent;
+    private BigDecimal averageInSampleReturnPercent;
+    private BigDecimal averageOutOfSampleReturnPercent;
+    private BigDecimal walkForwardEfficiency; // 표본 외 / 표본 내 일평균 수익률 비율
+    
+    // 실행 정보
+    private Integer windowCount;
+    private Integer parameterCombinations;
+    private Integer evaluatedRuns;
+    private Long elapsedMillis;
+    
+    private List<WindowResult> windows;
+    private List<EquityPoint> equityCurve;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class WindowResult {
+        private Integer index;
+        private LocalDate trainStartDate;
+        private LocalDate trainEndDate;
+        private LocalDate testStartDate;
+        private LocalDate testEndDate;
+        private Map<String, Integer> bestParameters;
+        private BigDecimal inSampleScore;
+        private BigDecimal inSampleReturnPercent;
+        private BigDecimal outOfSampleReturnPercent;
+        private BigDecimal outOfSampleMaxDrawdownPercent;
+        private Integer outOfSampleTrades;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EquityPoint {
+        private LocalDate date;
+        private BigDecimal totalValue;
+        private BigDecimal returnPercent;
+        private BigDecimal drawdownPercent;
+    }
+}
@@ -4,6 +4,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import trade.project.backtest.dto.*;
+import trade.project.backtest.execution.ExecutionModel;
+import trade.project.backtest.execution.KrxExecutionModel;
+import trade.project.backtest.pipeline.IndicatorGraph;
+import trade.project.backtest.pipeline.PipelineContext;
+import trade.project.backtest.pipeline.PipelineSpec;
+import trade.project.backtest.pipeline.ReportIndicators;
+import trade.project.backtest.pipeline.StrategyPipeline;
+import trade.project.backtest.pipeline.StrategyPipelineCompiler;
+import trade.project.backtest.strategy.PipelineTradingStrategy;
 import trade.project.backtest.strategy.StrategyFactory;
 import trade.project.backtest.strategy.TradingStrategy;
 import trade.project.backtest.util.TechnicalIndicatorCalculator;
@@ -14,6 +23,7 @@ import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 
 @Slf4j
 @Component
@@ -29,15 +39,65 @@ public class BacktestEngine {
      * @return 백트래킹 결과
      */
     public BackTestResult runBacktest(BackTestRequest request, List<StockData> stockDataList) {
+        return runBacktest(request, stockDataList, 0);
+    }
+    
+    /**
+     * 앞쪽 warmupBars개 봉은 지표만 갱신하고 거래/스냅샷 없이 백트래킹을 실행합니다.
+     * @param request 백트래킹 요청
+     * @param stockDataList 주식 데이터 리스트 (워밍업 구간 포함)
+     * @param warmupBars 지표 워밍업 봉 수
+     * @return 백트래킹 결과 (워밍업 이후 구간)
+     */
+    public BackTestResult runBacktest(BackTestRequest request, List<StockData> stockDataList, int warmupBars) {
+        return runBacktest(request, stockDataList, warmupBars, null);
+    }
+    
+    /**
+     * 진행 상황을 알리며 백트래킹을 실행합니다. (취소 요청 시 CancellationException)
+     * @param request 백트래킹 요청
+     * @param stockDataList 주식 데이터 리스트 (워밍업 구간 포함)
+     * @param warmupBars 지표 워밍업 봉 수
+     * @param listener 진행 상황 수신자 (null 가능)
+     * @return 백트래킹 결과 (워밍업 이후 구간)
+     */
+    public BackTestResult runBacktest(BackTestRequest request, List<StockData> stockDataList, int warmupBars,
+                                      BacktestProgressListener listener) {
+        // null 체크
+        if (request == null) {
+            throw new IllegalArgumentException("백트래킹 요청이 null입니다");
+        }
+        return runBacktest(request, stockDataList, warmupBars, listener, KrxExecutionModel.from(request));
+    }
+    
+    /**
+     * 지정한 체결 비용 모델로 백트래킹을 실행합니다.
+     * @param request 백트래킹 요청
+     * @param stockDataList 주식 데이터 리스트 (워밍업 구간 포함)
+     * @param warmupBars 지표 워밍업 봉 수
+     * @param listener 진행 상황 수신자 (null 가능)
+     * @param executionModel 체결 가격/수수료/세금 모델
+     * @return 백트래킹 결과 (워밍업 이후 구간)
+     */
+    public BackTestResult runBacktest(BackTestRequest request, List<StockData> stockDataList, int warmupBars,
+                                      BacktestProgressListener listener, ExecutionModel executionModel) {
         // null 체크
         if (request == null) {
             throw new IllegalArgumentException("백트래킹 요청이 null입니다");
         }
         
+        if (executionModel == null) {
+            throw new IllegalArgumentException("체결 비용 모델이 null입니다");
+        }
+        
         if (stockDataList == null || stockDataList.isEmpty()) {
             throw new IllegalArgumentException("주식 데이터가 비어있습니다");
         }
         
+        if (warmupBars < 0 || warmupBars >= stockDataList.size()) {
+            throw new IllegalArgumentException("워밍업 구간이 데이터 범위를 벗어났습니다: " + warmupBars);
+        }
+        
         log.info("백트래킹 시작: {} - {} to {}", request.getStockCode(), request.getStartDate(), request.getEndDate());
         
         // 전략 가져오기
@@ -53,23 +113,66 @@ public class BacktestEngine {
         List<BackTestResult.TradeRecord> trades = new ArrayList<>();
         List<BackTestResult.PortfolioSnapshot> portfolioHistory = new ArrayList<>();
         
+        // 지표 파이프라인 컴파일 (리포트 지표 포함) - 봉마다 증분 갱신
+        PipelineTradingStrategy pipelineStrategy = strategy instanceof PipelineTradingStrategy p ? p : null;
+        PipelineSpec spec = (pipelineStrategy != null
+                ? pipelineStrategy.getPipelineSpec(request)
+                : PipelineSpec.fromBackTestRequest(PipelineSpec.Type.NONE, request))
+                .toBuilder().reportIndicators(true).build();
+        StrategyPipeline pipeline = StrategyPipelineCompiler.compile(spec);
+        ReportIndicators reportIndicators = ReportIndicators.of(pipeline, spec);
+        IndicatorGraph graph = pipeline.newGraph();
+        PipelineContext context = new PipelineContext();
+        
+        // 다음 봉 시가 체결 시 직전 봉의 신호
+        String pendingSignal = null;
+        
         // 각 날짜별로 백트래킹 실행
         for (int i = 0; i < stockDataList.size(); i++) {
             StockData currentData = stockDataList.get(i);
-            List<StockData> historicalData = stockDataList.subList(0, i + 1);
             
-            // 기술적 지표 계산
-            calculateTechnicalIndicators(currentData, historicalData, request);
+            // 취소 요청 확인
+            if (listener != null && listener.isCancelled()) {
+                throw new CancellationException("백트래킹이 취소되었습니다");
+            }
+            
+            // 기술적 지표 갱신
+            updateTechnicalIndicators(graph, reportIndicators, currentData, i > 0 ? stockDataList.get(i - 1) : null);
+            if (i < warmupBars) {
+                if (listener != null) {
+                    listener.onProgress(i + 1, stockDataList.size(), null);
+                }
+                continue;
+            }
+            
+            // 직전 봉 신호를 이번 봉 시가에 체결
+            if (pendingSignal != null) {
+                executeTrade(state, executionModel, currentData, pendingSignal, openPriceOf(currentData), trades);
+                pendingSignal = null;
+            }
             
             // 거래 신호 생성
-            String signal = strategy.generateSignal(currentData, historicalData, request);
+            String signal;
+            if (pipelineStrategy != null) {
+                signal = pipeline.evaluate(context.reset(graph, currentData.getClose().doubleValue(),
+                        state.getPosition().doubleValue(), 0, Double.NaN));
+            } else {
+                signal = strategy.generateSignal(currentData, stockDataList.subList(0, i + 1), request);
+            }
             currentData.setSignal(signal);
             
-            // 거래 실행
-            executeTrade(state, currentData, signal, trades);
+            // 거래 실행 (다음 봉 시가 체결이면 신호만 보관)
+            if (executionModel.fillsAtNextOpen()) {
+                pendingSignal = signal;
+            } else {
+                executeTrade(state, executionModel, currentData, signal, currentData.getClose().doubleValue(), trades);
+            }
             
             // 포트폴리오 스냅샷 생성
             createPortfolioSnapshot(state, currentData, portfolioHistory);
+            if (listener != null) {
+                listener.onProgress(i + 1, stockDataList.size(), portfolioHistory.get(portfolioHistory.size() - 1));
+            }
         }
         
         // 백트래킹 결과 계산
@@ -82,106 +185,116 @@ public class BacktestEngine {
     }
     
     /**
-     * 기술적 지표를 계산합니다.
+     * 기술적 지표를 갱신합니다. (봉당 O(1))
      */
-    private void calculateTechnicalIndicators(StockData currentData, List<StockData> historicalData, BackTestRequest request) {
-        // 이동평균선 계산
-        currentData.setSma5(TechnicalIndicatorCalculator.calculateSMA(historicalData, 5));
-        currentData.setSma10(TechnicalIndicatorCalculator.calculateSMA(historicalData, 10));
-        currentData.setSma20(TechnicalIndicatorCalculator.calculateSMA(historicalData, 20));
-        currentData.setSma50(TechnicalIndicatorCalculator.calculateSMA(historicalData, 50));
-        currentData.setSma200(TechnicalIndicatorCalculator.calculateSMA(historicalData, 200));
-        
-        // RSI 계산
-        currentData.setRsi(TechnicalIndicatorCalculator.calculateRSI(historicalData, 
-                request.getRsiPeriod() != null ? request.getRsiPeriod() : 14));
-        
-        // MACD 계산
-        TechnicalIndicatorCalculator.MACDResult macdResult = TechnicalIndicatorCalculator.calculateMACD(historicalData, 
-                request.getMacdFastPeriod() != null ? request.getMacdFastPeriod() : 12,
-                request.getMacdSlowPeriod() != null ? request.getMacdSlowPeriod() : 26,
-                request.getMacdSignalPeriod() != null ? request.getMacdSignalPeriod() : 9);
-        
-        if (macdResult != null) {
-            currentData.setEma12(macdResult.getEma12());
-            currentData.setEma26(macdResult.getEma26());
-            currentData.setMacd(macdResult.getMacd());
-            currentData.setMacdSignal(macdResult.getMacdSignal());
-            currentData.setMacdHistogram(macdResult.getMacdHistogram());
-        }
-        
-        // 볼린저 밴드 계산
-        TechnicalIndicatorCalculator.BollingerBandsResult bbResult = TechnicalIndicatorCalculator.calculateBollingerBands(historicalData, 20, 2.0);
-        if (bbResult != null) {
-            currentData.setBollingerUpper(bbResult.getUpper());
-            currentData.setBollingerMiddle(bbResult.getMiddle());
-            currentData.setBollingerLower(bbResult.getLower());
-        }
+    private void updateTechnicalIndicators(IndicatorGraph graph, ReportIndicators reportIndicators,
+                                           StockData currentData, StockData previousData) {
+        double close = currentData.getClose().doubleValue();
+        graph.update(close,
+                currentData.getHigh() != null ? currentData.getHigh().doubleValue() : close,
+                currentData.getLow() != null ? currentData.getLow().doubleValue() : close);
+        reportIndicators.apply(graph, currentData);
         
         // 일일 수익률 계산
-        if (historicalData.size() > 1) {
-            currentData.setDailyReturn(TechnicalIndicatorCalculator.calculateDailyReturn(currentData, historicalData.get(historicalData.size() - 2)));
+        if (previousData != null) {
+            currentData.setDailyReturn(TechnicalIndicatorCalculator.calculateDailyReturn(currentData, previousData));
         }
     }
     
+    /**
+     * 시가 (없으면 종가)
+     */
+    private static double openPriceOf(StockData data) {
+        return (data.getOpen() != null ? data.getOpen() : data.getClose()).doubleValue();
+    }
+    
     /**
      * 거래를 실행합니다.
+     * 체결가/수수료/세금은 체결 비용 모델이 원시 타입으로 계산하고, 거래 기록에만 BigDecimal을 사용합니다.
+     * @param referencePrice 기준 가격 (신호 봉 종가 또는 다음 봉 시가)
      */
-    private void executeTrade(BacktestState state, StockData currentData, String signal, List<BackTestResult.TradeRecord> trades) {
-        BigDecimal currentPrice = currentData.getClose();
-        BigDecimal commission = state.getRequest().getCommission();
+    private void executeTrade(BacktestState state, ExecutionModel executionModel, StockData currentData, String signal,
+                              double referencePrice, List<BackTestResult.TradeRecord> trades) {
+        long barVolume = currentData.getVolume() != null ? currentData.getVolume() : 0L;
         
         if ("BUY".equals(signal) && state.getPosition().compareTo(BigDecimal.ZERO) == 0) {
-            // 매수 실행
-            BigDecimal availableCapital = state.getCapital().multiply(state.getRequest().getMaxPositionSize());
-            BigDecimal maxQuantity = availableCapital.divide(currentPrice, 0, RoundingMode.DOWN);
+            // 매수 실행 (봉 거래량 참여율 제한)
+            double capital = state.getCapital().doubleValue();
+            double budget = capital * state.getRequest().getMaxPositionSize().doubleValue();
+            long quantity = Math.min((long) Math.floor(budget / referencePrice), executionModel.maxQuantity(barVolume));
+            if (quantity <= 0) {
+                return;
+            }
             
-            if (maxQuantity.compareTo(BigDecimal.ZERO) > 0) {
-                BigDecimal tradeAmount = maxQuantity.multiply(currentPrice);
-                BigDecimal commissionAmount = tradeAmount.multiply(commission);
-                BigDecimal totalCost = tradeAmount.add(commissionAmount);
-                
-                if (totalCost.compareTo(state.getCapital()) <= 0) {
-                    state.setPosition(maxQuantity);
-                    state.setCapital(state.getCapital().subtract(totalCost));
-                    
-                    trades.add(BackTestResult.TradeRecord.builder()
-                            .date(currentData.getDate())
-                            .action("BUY")
-                            .price(currentPrice)
-                            .quantity(maxQuantity.intValue())
-                            .amount(tradeAmount)
-                            .commission(commissionAmount)
-                            .balance(state.getCapital())
-                            .position(state.getPosition())
-                            .reason(signal)
-                            .build());
-                    
-                    log.debug("매수 실행: {}주 @ {}, 수수료: {}", maxQuantity, currentPrice, commissionAmount);
-                }
+            // 충격이 반영된 체결가로 수량을 다시 맞추고 수수료까지 자본 안에 들어오도록 줄임
+            double fillPrice = executionModel.fillPrice(true, referencePrice, quantity, barVolume);
+            quantity = Math.min(quantity, (long) Math.floor(budget / fillPrice));
+            double commissionAmount = executionModel.commission(quantity * fillPrice);
+            while (quantity > 0 && quantity * fillPrice + commissionAmount > capital) {
+                quantity--;
+                commissionAmount = executionModel.commission(quantity * fillPrice);
+            }
+            if (quantity <= 0) {
+                return;
             }
+            
+            BigDecimal price = BigDecimal.valueOf(fillPrice);
+            BigDecimal tradeAmount = price.multiply(BigDecimal.valueOf(quantity));
+            BigDecimal commission = BigDecimal.valueOf(commissionAmount);
+            BigDecimal slippage = BigDecimal.valueOf((fillPrice - referencePrice) * quantity);
+            
+            state.setPosition(BigDecimal.valueOf(quantity));
+            state.setCapital(state.getCapital().subtract(tradeAmount).subtract(commission));
+            state.addCosts(commission, BigDecimal.ZERO, slippage);
+            
+            trades.add(BackTestResult.TradeRecord.builder()
+                    .date(currentData.getDate())
+                    .action("BUY")
+                    .price(price)
+                    .quantity((int) quantity)
+                    .amount(tradeAmount)
+                    .commission(commission)
+                    .tax(BigDecimal.ZERO)
+                    .slippage(slippage)
+                    .balance(state.getCapital())
+                    .position(state.getPosition())
+                    .reason(signal)
+                    .build());
+            
+            log.debug("매수 실행: {}주 @ {}, 수수료: {}", quantity, fillPrice, commissionAmount);
         } else if ("SELL".equals(signal) && state.getPosition().compareTo(BigDecimal.ZERO) > 0) {
-            // 매도 실행
-            BigDecimal tradeAmount = state.getPosition().multiply(currentPrice);
-            BigDecimal commissionAmount = tradeAmount.multiply(commission);
-            BigDecimal netAmount = tradeAmount.subtract(commissionAmount);
+            // 매도 실행 (전량 청산, 시장 충격만 반영)
+            long quantity = state.getPosition().longValue();
+            double fillPrice = executionModel.fillPrice(false, referencePrice, quantity, barVolume);
+            double amount = quantity * fillPrice;
+            double commissionAmount = executionModel.commission(amount);
+            double taxAmount = executionModel.tax(false, amount, currentData.getDate());
+            
+            BigDecimal price = BigDecimal.valueOf(fillPrice);
+            BigDecimal tradeAmount = price.multiply(state.getPosition());
+            BigDecimal commission = BigDecimal.valueOf(commissionAmount);
+            BigDecimal tax = BigDecimal.valueOf(taxAmount);
+            BigDecimal slippage = BigDecimal.valueOf((referencePrice - fillPrice) * quantity);
             
-            state.setCapital(state.getCapital().add(netAmount));
+            state.setCapital(state.getCapital().add(tradeAmount).subtract(commission).subtract(tax));
             state.setPosition(BigDecimal.ZERO);
+            state.addCosts(commission, tax, slippage);
             
             trades.add(BackTestResult.TradeRecord.builder()
                     .date(currentData.getDate())
                     .action("SELL")
-                    .price(currentPrice)
-                    .quantity(state.getPosition().intValue())
+                    .price(price)
+                    .quantity((int) quantity)
                     .amount(tradeAmount)
-                    .commission(commissionAmount)
+                    .commission(commission)
+                    .tax(tax)
+                    .slippage(slippage)
                     .balance(state.getCapital())
                     .position(BigDecimal.ZERO)
                     .reason(signal)
                     .build());
             
-            log.debug("매도 실행: {}주 @ {}, 수수료: {}", state.getPosition(), currentPrice, commissionAmount);
+            log.debug("매도 실행: {}주 @ {}, 수수료: {}, 거래세: {}", quantity, fillPrice, commissionAmount, taxAmount);
         }
     }
     
@@ -264,7 +377,8 @@ public class BacktestEngine {
                 
                 BigDecimal profit = sell.getAmount().subtract(buy.getAmount())
                         .subtract(buy.getCommission())
-                        .subtract(sell.getCommission());
+                        .subtract(sell.getCommission())
+                        .subtract(sell.getTax() != null ? sell.getTax() : BigDecimal.ZERO);
                 
                 if (profit.compareTo(BigDecimal.ZERO) > 0) {
                     winningTrades++;
@@ -314,6 +428,9 @@ public class BacktestEngine {
                 .averageWin(averageWin)
                 .averageLoss(averageLoss)
                 .profitFactor(profitFactor)
+                .totalCommission(state.getTotalCommission())
+                .totalTax(state.getTotalTax())
+                .totalSlippage(state.getTotalSlippage())
                 .peakCapital(state.getPeakCapital())
                 .peakDate(state.getPeakDate())
                 .maxDrawdownDate(state.getMaxDrawdownDate())
@@ -363,6 +480,9 @@ public class BacktestEngine {
         private BigDecimal maxDrawdown;
         private BigDecimal maxDrawdownPercent;
         private LocalDate maxDrawdownDate;
+        private BigDecimal totalCommission = BigDecimal.ZERO;
+        private BigDecimal totalTax = BigDecimal.ZERO;
+        private BigDecimal totalSlippage = BigDecimal.ZERO;
         
         public BacktestState(BackTestRequest request) {
             this.request = request;
@@ -391,5 +511,14 @@ public class BacktestEngine {
         public void setMaxDrawdownPercent(BigDecimal maxDrawdownPercent) { this.maxDrawdownPercent = maxDrawdownPercent; }
         public LocalDate getMaxDrawdownDate() { return maxDrawdownDate; }
         public void setMaxDrawdownDate(LocalDate maxDrawdownDate) { this.maxDrawdownDate = maxDrawdownDate; }
+        public BigDecimal getTotalCommission() { return totalCommission; }
+        public BigDecimal getTotalTax() { return totalTax; }
+        public BigDecimal getTotalSlippage() { return totalSlippage; }
+        
+        public void addCosts(BigDecimal commission, BigDecimal tax, BigDecimal slippage) {
+            this.totalCommission = totalCommission.add(commission);
+            this.totalTax = totalTax.add(tax);
+            this.totalSlippage = totalSlippage.add(slippage);
+        }
     }
 } 
\ No newline at end of file
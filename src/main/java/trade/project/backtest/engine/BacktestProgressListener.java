@@ -0,0 +1,25 @@
+package trade.project.backtest.engine;
+
+import trade.project.backtest.dto.BackTestResult;
+
+/**
+ * 백트래킹 진행 상황 수신
+ * 봉마다 엔진 스레드에서 호출되므로 구현은 가볍게 유지해야 한다.
+ */
+public interface BacktestProgressListener {
+    
+    /**
+     * 봉 하나를 처리한 뒤 호출 (워밍업 구간은 스냅샷 없이 진행률만 전달)
+     * @param processedBars 처리한 봉 수
+     * @param totalBars 전체 봉 수
+     * @param snapshot 이번 봉의 포트폴리오 스냅샷 (워밍업 구간이면 null)
+     */
+    void onProgress(int processedBars, int totalBars, BackTestResult.PortfolioSnapshot snapshot);
+    
+    /**
+     * 취소 요청 여부 (true면 엔진이 다음 봉에서 중단)
+     */
+    default boolean isCancelled() {
+        return false;
+    }
+}
@@ -0,0 +1,116 @@
+package trade.project.backtest.engine;
+
+import trade.project.backtest.dto.BackTestResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * 자산곡선 축소 (LTTB: Largest-Triangle-Three-Buckets)
+ * 첫/마지막 지점을 고정하고, 각 구간에서 직전 선택 지점과 다음 구간 평균이 이루는
+ * 삼각형 넓이가 가장 큰 지점을 고른다. 데이터는 앞에서 뒤로 한 번만 훑는다.
+ */
+public final class EquityCurveDownsampler {
+
+    public static final int DEFAULT_MAX_POINTS = 500;
+    private static final int MIN_POINTS = 3;
+
+    private EquityCurveDownsampler() {
+    }
+
+    /**
+     * 선택할 지점의 위치 계산
+     * @param size 전체 지점 수
+     * @param maxPoints 최대 지점 수 (0 이하이거나 전체보다 크면 전체)
+     * @param x 위치별 x 값 (일자 등, 오름차순)
+     * @param y 위치별 y 값 (총자산 등)
+     * @return 오름차순 위치 배열
+     */
+    public static int[] selectIndices(int size, int maxPoints, IntToDoubleFunction x, IntToDoubleFunction y) {
+        if (maxPoints <= 0 || size <= maxPoints || size <= MIN_POINTS) {
+            int[] all = new int[size];
+            for (int i = 0; i < size; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        int threshold = Math.max(MIN_POINTS, maxPoints);
+        int[] selected = new int[threshold];
+        double bucketSize = (double) (size - 2) / (threshold - 2);
+
+        int previous = 0;
+        selected[0] = 0;
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            // 다음 구간 평균 (마지막 구간은 마지막 지점)
+            int nextStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, size);
+            double averageX = 0;
+            double averageY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                averageX += x.applyAsDouble(i);
+                averageY += y.applyAsDouble(i);
+            }
+            int nextCount = nextEnd - nextStart;
+            averageX /= nextCount;
+            averageY /= nextCount;
+
+            // 현재 구간에서 삼각형 넓이가 최대인 지점
+            int start = (int) Math.floor(bucket * bucketSize) + 1;
+            int end = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            double previousX = x.applyAsDouble(previous);
+            double previousY = y.applyAsDouble(previous);
+            double maxArea = -1;
+            int chosen = start;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((previousX - averageX) * (y.applyAsDouble(i) - previousY)
+                        - (previousX - x.applyAsDouble(i)) * (averageY - previousY));
+                if (area > maxArea) {
+                    maxArea = area;
+                    chosen = i;
+                }
+            }
+            selected[bucket + 1] = chosen;
+            previous = chosen;
+        }
+        selected[threshold - 1] = size - 1;
+        return selected;
+    }
+
+    /**
+     * 포트폴리오 스냅샷 목록 축소 (x: 일자, y: 총자산)
+     * @param history 전체 스냅샷
+     * @param maxPoints 최대 지점 수 (0 이하이면 전체)
+     * @return 축소된 스냅샷 (축소가 필요 없으면 원본)
+     */
+    public static List<BackTestResult.PortfolioSnapshot> downsample(List<BackTestResult.PortfolioSnapshot> history,
+                                                                   int maxPoints) {
+        if (history == null || maxPoints <= 0 || history.size() <= maxPoints) {
+            return history;
+        }
+        int[] indices = selectIndices(history.size(), maxPoints,
+                i -> history.get(i).getDate().toEpochDay(),
+                i -> history.get(i).getTotalValue() != null ? history.get(i).getTotalValue().doubleValue() : 0);
+        List<BackTestResult.PortfolioSnapshot> points = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            points.add(history.get(index));
+        }
+        return points;
+    }
+
+    /**
+     * 자산곡선만 축소한 결과 사본 (캐시된 원본 결과는 변경하지 않음)
+     * @param result 백트래킹 결과
+     * @param maxPoints 최대 지점 수 (0 이하이면 전체)
+     */
+    public static BackTestResult withMaxPoints(BackTestResult result, int maxPoints) {
+        if (result == null || result.getPortfolioHistory() == null
+                || maxPoints <= 0 || result.getPortfolioHistory().size() <= maxPoints) {
+            return result;
+        }
+        return result.toBuilder()
+                .portfolioHistory(downsample(result.getPortfolioHistory(), maxPoints))
+                .build();
+    }
+}
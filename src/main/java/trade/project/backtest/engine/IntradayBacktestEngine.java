@@ -0,0 +1,334 @@
+package trade.project.backtest.engine;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import trade.project.backtest.document.IntradayPrice;
+import trade.project.backtest.dto.BackTestRequest;
+import trade.project.backtest.dto.BackTestResult;
+import trade.project.backtest.dto.IntradayBacktestRequest;
+import trade.project.backtest.dto.IntradayBacktestResult;
+import trade.project.backtest.pipeline.IndicatorGraph;
+import trade.project.backtest.pipeline.PipelineContext;
+import trade.project.backtest.pipeline.StrategyPipeline;
+import trade.project.backtest.pipeline.StrategyPipelineCompiler;
+import trade.project.backtest.strategy.PipelineTradingStrategy;
+import trade.project.backtest.strategy.StrategyFactory;
+import trade.project.backtest.strategy.TradingStrategy;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 분봉/틱 백트래킹 엔진
+ * 시간순 시세를 한 건씩 읽어 봉으로 묶고, 봉이 닫힐 때마다 전략 파이프라인을 평가한다.
+ * 시세를 목록으로 모으지 않으므로 수천만 건도 일정한 메모리로 처리하며,
+ * 봉마다 실행되는 계산은 원시 타입으로 하고 BigDecimal은 결과 변환에만 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IntradayBacktestEngine {
+
+    public static final int MAX_RECORDED_TRADES = 10_000;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final String FORCED_EXIT_REASON = "장 마감 청산";
+
+    private final StrategyFactory strategyFactory;
+
+    /**
+     * 분봉 백트래킹 실행
+     * @param request 기본값이 적용된 분봉 백트래킹 요청
+     * @param prices 시간순 시세 (스트리밍)
+     * @return 분봉 백트래킹 결과
+     */
+    public IntradayBacktestResult run(IntradayBacktestRequest request, Iterator<IntradayPrice> prices) {
+        long started = System.currentTimeMillis();
+        BackTestRequest base = request.getBaseRequest();
+
+        TradingStrategy strategy = strategyFactory.getStrategy(base.getStrategy());
+        if (!(strategy instanceof PipelineTradingStrategy pipelineStrategy)) {
+            throw new IllegalArgumentException("분봉 백트래킹을 지원하지 않는 전략입니다: " + base.getStrategy());
+        }
+        StrategyPipeline pipeline = StrategyPipelineCompiler.compile(pipelineStrategy.getPipelineSpec(base));
+
+        Run run = new Run(request, pipeline);
+        while (prices.hasNext()) {
+            run.accept(prices.next());
+        }
+        run.finish();
+
+        IntradayBacktestResult result = run.toResult(System.currentTimeMillis() - started);
+        log.info("분봉 백트래킹 완료: {} - 시세 {}건, 봉 {}개, 거래 {}회, 수익률 {}%, {}건/초",
+                base.getStockCode(), result.getEventCount(), result.getBarCount(), result.getTotalTrades(),
+                result.getTotalReturnPercent(), result.getEventsPerSecond());
+        return result;
+    }
+
+    /**
+     * 한 번의 실행 상태 (봉 집계 + 계좌)
+     */
+    private static final class Run {
+
+        private final IntradayBacktestRequest request;
+        private final StrategyPipeline pipeline;
+        private final IndicatorGraph graph;
+        private final PipelineContext context = new PipelineContext();
+        private final int barMinutes;
+        private final Set<IntradaySession> noEntrySessions;
+        private final boolean flattenAtClose;
+        private final double initialCapital;
+        private final double commissionRate;
+        private final double maxPositionSize;
+
+        // 계좌
+        private double cash;
+        private long shares;
+        private double averagePrice;
+        private double entryCost; // 매수 금액 + 수수료
+        private double peakValue;
+        private double maxDrawdownPercent;
+
+        // 집계 중인 봉
+        private boolean barOpen;
+        private long barKey = Long.MIN_VALUE;
+        private long barDay;
+        private double barHigh;
+        private double barLow;
+        private double barClose;
+        private LocalDateTime barTime;
+        private IntradaySession barSession;
+        private double previousClose = Double.NaN;
+
+        // 통계
+        private long eventCount;
+        private long skippedEventCount;
+        private long barCount;
+        private int tradingDays;
+        private int totalTrades;
+        private int winningTrades;
+        private int sellTrades;
+        private int blockedEntries;
+        private int forcedExits;
+        private final Map<IntradaySession, Integer> tradesBySession = new EnumMap<>(IntradaySession.class);
+        private final List<IntradayBacktestResult.IntradayTrade> trades = new ArrayList<>();
+        private boolean tradesTruncated;
+        private final List<BackTestResult.PortfolioSnapshot> equityCurve = new ArrayList<>();
+
+        Run(IntradayBacktestRequest request, StrategyPipeline pipeline) {
+            BackTestRequest base = request.getBaseRequest();
+            this.request = request;
+            this.pipeline = pipeline;
+            this.graph = pipeline.newGraph();
+            this.barMinutes = request.getBarMinutes();
+            this.noEntrySessions = request.getNoEntrySessions().isEmpty()
+                    ? EnumSet.noneOf(IntradaySession.class)
+                    : EnumSet.copyOf(request.getNoEntrySessions());
+            this.flattenAtClose = Boolean.TRUE.equals(request.getFlattenAtClose());
+            this.initialCapital = base.getInitialCapital().doubleValue();
+            this.commissionRate = base.getCommission().doubleValue();
+            this.maxPositionSize = base.getMaxPositionSize().doubleValue();
+            this.cash = initialCapital;
+            this.peakValue = initialCapital;
+        }
+
+        /**
+         * 시세 한 건 반영 (정규장 밖이거나 가격이 없는 시세는 제외)
+         */
+        void accept(IntradayPrice price) {
+            eventCount++;
+            LocalDateTime timestamp = price.getTimestamp();
+            Integer close = price.getPrice();
+            if (timestamp == null || close == null || close <= 0) {
+                skippedEventCount++;
+                return;
+            }
+            int minuteOfDay = timestamp.getHour() * 60 + timestamp.getMinute();
+            IntradaySession session = IntradaySession.ofMinute(minuteOfDay);
+            if (!session.isRegular()) {
+                skippedEventCount++;
+                return;
+            }
+
+            long day = timestamp.toLocalDate().toEpochDay();
+            long key = barMinutes == 0
+                    ? eventCount
+                    : day * MINUTES_PER_DAY + (minuteOfDay / barMinutes) * barMinutes;
+            if (barOpen && key != barKey) {
+                closeBar(day != barDay);
+            }
+
+            double high = price.getHigh() != null ? price.getHigh() : close;
+            double low = price.getLow() != null ? price.getLow() : close;
+            if (!barOpen) {
+                barOpen = true;
+                barKey = key;
+                barDay = day;
+                barHigh = high;
+                barLow = low;
+                barSession = session;
+            } else {
+                barHigh = Math.max(barHigh, high);
+                barLow = Math.min(barLow, low);
+            }
+            barClose = close;
+            barTime = timestamp;
+        }
+
+        void finish() {
+            if (barOpen) {
+                closeBar(true);
+            }
+        }
+
+        /**
+         * 봉 마감: 지표 갱신 → 신호 평가 → 주문 → 평가금액 갱신
+         * @param lastOfDay 해당 거래일의 마지막 봉 여부
+         */
+        private void closeBar(boolean lastOfDay) {
+            barOpen = false;
+            barCount++;
+            graph.update(barClose, barHigh, barLow);
+            String signal = pipeline.evaluate(context.reset(graph, barClose, shares, averagePrice, previousClose));
+            previousClose = barClose;
+
+            if (lastOfDay && flattenAtClose && shares > 0) {
+                sell(FORCED_EXIT_REASON);
+                forcedExits++;
+            } else if (StrategyPipeline.BUY.equals(signal) && shares == 0) {
+                if (noEntrySessions.contains(barSession)) {
+                    blockedEntries++;
+                } else {
+                    buy(signal);
+                }
+            } else if (StrategyPipeline.SELL.equals(signal) && shares > 0) {
+                // 청산은 시간대와 관계없이 허용
+                sell(signal);
+            }
+
+            double totalValue = cash + shares * barClose;
+            if (totalValue > peakValue) {
+                peakValue = totalValue;
+            }
+            double drawdownPercent = (peakValue - totalValue) / peakValue * 100;
+            if (drawdownPercent > maxDrawdownPercent) {
+                maxDrawdownPercent = drawdownPercent;
+            }
+
+            if (lastOfDay) {
+                tradingDays++;
+                equityCurve.add(BackTestResult.PortfolioSnapshot.builder()
+                        .date(LocalDate.ofEpochDay(barDay))
+                        .capital(money(cash))
+                        .position(BigDecimal.valueOf(shares))
+                        .totalValue(money(totalValue))
+                        .returnPercent(percent((totalValue - initialCapital) / initialCapital * 100))
+                        .drawdown(money(peakValue - totalValue))
+                        .drawdownPercent(percent(drawdownPercent))
+                        .build());
+            }
+        }
+
+        private void buy(String reason) {
+            long quantity = (long) Math.floor(cash * maxPositionSize / barClose);
+            if (quantity <= 0) {
+                return;
+            }
+            double amount = quantity * barClose;
+            double commission = amount * commissionRate;
+            if (amount + commission > cash) {
+                return;
+            }
+            cash -= amount + commission;
+            shares = quantity;
+            averagePrice = barClose;
+            entryCost = amount + commission;
+            record("BUY", quantity, amount, commission, Double.NaN, reason);
+        }
+
+        private void sell(String reason) {
+            long quantity = shares;
+            double amount = quantity * barClose;
+            double commission = amount * commissionRate;
+            double profit = amount - commission - entryCost;
+            cash += amount - commission;
+            shares = 0;
+            averagePrice = 0;
+            entryCost = 0;
+            sellTrades++;
+            if (profit > 0) {
+                winningTrades++;
+            }
+            record("SELL", quantity, amount, commission, profit, reason);
+        }
+
+        private void record(String action, long quantity, double amount, double commission, double profit, String reason) {
+            totalTrades++;
+            tradesBySession.merge(barSession, 1, Integer::sum);
+            if (trades.size() >= MAX_RECORDED_TRADES) {
+                tradesTruncated = true;
+                return;
+            }
+            trades.add(IntradayBacktestResult.IntradayTrade.builder()
+                    .dateTime(barTime)
+                    .session(barSession)
+                    .action(action)
+                    .price(money(barClose))
+                    .quantity(quantity)
+                    .amount(money(amount))
+                    .commission(money(commission))
+                    .cash(money(cash))
+                    .profit(Double.isNaN(profit) ? null : money(profit))
+                    .reason(reason)
+                    .build());
+        }
+
+        IntradayBacktestResult toResult(long elapsedMillis) {
+            BackTestRequest base = request.getBaseRequest();
+            double finalValue = cash + shares * (Double.isNaN(previousClose) ? 0 : previousClose);
+            return IntradayBacktestResult.builder()
+                    .stockCode(base.getStockCode())
+                    .strategy(base.getStrategy())
+                    .startDateTime(request.getStartDateTime())
+                    .endDateTime(request.getEndDateTime())
+                    .barMinutes(barMinutes)
+                    .initialCapital(base.getInitialCapital())
+                    .finalCapital(money(finalValue))
+                    .totalReturnPercent(percent((finalValue - initialCapital) / initialCapital * 100))
+                    .maxDrawdownPercent(percent(maxDrawdownPercent))
+                    .totalTrades(totalTrades)
+                    .winningTrades(winningTrades)
+                    .winRate(sellTrades > 0 ? percent((double) winningTrades / sellTrades * 100) : BigDecimal.ZERO)
+                    .blockedEntries(blockedEntries)
+                    .forcedExits(forcedExits)
+                    .tradesBySession(tradesBySession)
+                    .eventCount(eventCount)
+                    .skippedEventCount(skippedEventCount)
+                    .barCount(barCount)
+                    .tradingDays(tradingDays)
+                    .elapsedMillis(elapsedMillis)
+                    .eventsPerSecond(elapsedMillis > 0 ? eventCount * 1000 / elapsedMillis : eventCount)
+                    .trades(trades)
+                    .tradesTruncated(tradesTruncated)
+                    .equityCurve(equityCurve)
+                    .build();
+        }
+
+        private static BigDecimal money(double value) {
+            return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+        }
+
+        private static BigDecimal percent(double value) {
+            return BigDecimal.valueOf(value).setScale(4, RoundingMode.HALF_UP);
+        }
+    }
+}
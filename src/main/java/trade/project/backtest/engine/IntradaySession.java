@@ -0,0 +1,65 @@
+package trade.project.backtest.engine;
+
+import java.time.LocalTime;
+
+/**
+ * 정규장 시간대 구분 (자동매매 스케줄과 같은 구간)
+ * 구간은 [시작, 종료) 이고, 정규장 밖의 시세는 분봉 백트래킹에서 제외된다.
+ */
+public enum IntradaySession {
+    
+    PRE_MARKET(LocalTime.MIN, LocalTime.of(9, 0), false),              // 장 시작 전
+    MARKET_OPEN(LocalTime.of(9, 0), LocalTime.of(9, 30), true),         // 장 시작 직후 - 급등락 주의
+    MORNING_SESSION(LocalTime.of(9, 30), LocalTime.of(11, 30), true),   // 오전 거래
+    LUNCH_BREAK(LocalTime.of(11, 30), LocalTime.of(13, 0), true),       // 점심시간 - 거래량 감소
+    AFTERNOON_SESSION(LocalTime.of(13, 0), LocalTime.of(14, 30), true), // 오후 거래
+    MARKET_CLOSE(LocalTime.of(14, 30), LocalTime.of(15, 30), true),     // 장 마감 직전 (동시호가 포함)
+    AFTER_HOURS(LocalTime.of(15, 30), LocalTime.MAX, false);            // 장 마감 후
+    
+    private static final IntradaySession[] BY_MINUTE = new IntradaySession[24 * 60];
+    
+    static {
+        for (int minute = 0; minute < BY_MINUTE.length; minute++) {
+            LocalTime time = LocalTime.of(minute / 60, minute % 60);
+            for (IntradaySession session : values()) {
+                if (!time.isBefore(session.startTime) && time.isBefore(session.endTime)) {
+                    BY_MINUTE[minute] = session;
+                    break;
+                }
+            }
+        }
+    }
+    
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    private final boolean regular; // 정규장 여부
+    
+    IntradaySession(LocalTime startTime, LocalTime endTime, boolean regular) {
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.regular = regular;
+    }
+    
+    /**
+     * 하루 중 분(0~1439)에 해당하는 시간대 (봉마다 호출되므로 미리 계산한 표 사용)
+     */
+    public static IntradaySession ofMinute(int minuteOfDay) {
+        return BY_MINUTE[minuteOfDay];
+    }
+    
+    public static IntradaySession of(LocalTime time) {
+        return ofMinute(time.getHour() * 60 + time.getMinute());
+    }
+    
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+    
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+    
+    public boolean isRegular() {
+        return regular;
+    }
+}
@@ -0,0 +1,242 @@
+package trade.project.backtest.engine;
+
+import trade.project.backtest.dto.BackTestResult;
+import trade.project.backtest.dto.MonteCarloResult;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * 백트래킹 결과 강건성 분석 (몬테카를로)
+ * 일별 수익률은 원형 블록 부트스트랩으로, 왕복 거래 수익률은 복원 추출로 재표집해
+ * 수익률/최대 낙폭/샤프 비율의 신뢰구간과 파산 확률을 구한다.
+ * 경로는 작업 단위로 나눠 병렬 실행하며, 작업마다 시드에서 분할한 난수 생성기를 사용하므로
+ * 같은 시드면 스레드 수와 관계없이 같은 결과가 나온다.
+ */
+public class MonteCarloAnalyzer {
+
+    public static final int DEFAULT_PATHS = 10000;
+    public static final int MAX_PATHS = 200000;
+    private static final double RUIN_LOSS = 0.5;        // 자본 50% 손실을 파산으로 간주
+    private static final int PATHS_PER_TASK = 512;
+    private static final double TRADING_DAYS = 252;
+    private static final double LOWER_QUANTILE = 0.05;
+    private static final double UPPER_QUANTILE = 0.95;
+
+    /**
+     * 백트래킹 결과를 분석합니다.
+     * @param result 백트래킹 결과
+     * @param paths 시뮬레이션 경로 수
+     * @param seed 난수 시드 (null이면 임의 생성)
+     * @return 분석 결과 (일별 수익률이 2개 미만이면 null)
+     */
+    public MonteCarloResult analyze(BackTestResult result, int paths, Long seed) {
+        if (paths < 1 || paths > MAX_PATHS) {
+            throw new IllegalArgumentException("몬테카를로 경로 수는 1 이상 " + MAX_PATHS + " 이하여야 합니다: " + paths);
+        }
+        double[] returns = dailyReturns(result.getPortfolioHistory());
+        if (returns.length < 2) {
+            return null;
+        }
+
+        long started = System.nanoTime();
+        long usedSeed = seed != null ? seed : ThreadLocalRandom.current().nextLong();
+        SplittableRandom root = new SplittableRandom(usedSeed);
+        double[] tradeReturns = tradeReturns(result.getTrades());
+        int blockSize = blockSize(returns.length);
+
+        Paths daily = simulate(returns, blockSize, paths, root.split());
+        Paths trades = tradeReturns.length > 0 ? simulate(tradeReturns, 1, paths, root.split()) : null;
+
+        return MonteCarloResult.builder()
+                .paths(paths)
+                .blockSize(blockSize)
+                .returnCount(returns.length)
+                .tradeCount(tradeReturns.length)
+                .seed(usedSeed)
+                .ruinLossPercent(percent(RUIN_LOSS))
+                .returnPercent(interval(daily.totalReturns, 100))
+                .maxDrawdownPercent(interval(daily.maxDrawdowns, 100))
+                .sharpeRatio(interval(daily.sharpeRatios, 1))
+                .ruinProbability(percent((double) daily.ruinCount() / paths))
+                .tradeReturnPercent(trades != null ? interval(trades.totalReturns, 100) : null)
+                .tradeMaxDrawdownPercent(trades != null ? interval(trades.maxDrawdowns, 100) : null)
+                .winRate(trades != null ? interval(trades.winRates, 100) : null)
+                .tradeRuinProbability(trades != null ? percent((double) trades.ruinCount() / paths) : null)
+                .elapsedMillis((System.nanoTime() - started) / 1_000_000)
+                .build();
+    }
+
+    /**
+     * 경로를 작업 단위로 나눠 병렬 시뮬레이션 (작업별 난수 생성기는 실행 전에 순서대로 분할)
+     */
+    static Paths simulate(double[] samples, int blockSize, int paths, SplittableRandom random) {
+        Paths result = new Paths(paths);
+        int tasks = (paths + PATHS_PER_TASK - 1) / PATHS_PER_TASK;
+        SplittableRandom[] randoms = new SplittableRandom[tasks];
+        for (int task = 0; task < tasks; task++) {
+            randoms[task] = random.split();
+        }
+        IntStream.range(0, tasks).parallel().forEach(task -> simulateRange(samples, blockSize,
+                task * PATHS_PER_TASK, Math.min(paths, (task + 1) * PATHS_PER_TASK), randoms[task], result));
+        return result;
+    }
+
+    private static void simulateRange(double[] samples, int blockSize, int from, int to,
+                                      SplittableRandom random, Paths result) {
+        int n = samples.length;
+        for (int path = from; path < to; path++) {
+            double equity = 1;
+            double peak = 1;
+            double maxDrawdown = 0;
+            double sum = 0;
+            double sumOfSquares = 0;
+            int wins = 0;
+            boolean ruined = false;
+
+            int produced = 0;
+            while (produced < n) {
+                int index = random.nextInt(n);
+                for (int k = 0; k < blockSize && produced < n; k++, produced++) {
+                    double r = samples[index];
+                    if (++index == n) {
+                        index = 0; // 원형 블록
+                    }
+                    equity *= 1 + r;
+                    sum += r;
+                    sumOfSquares += r * r;
+                    if (r > 0) {
+                        wins++;
+                    }
+                    if (equity > peak) {
+                        peak = equity;
+                    } else if (1 - equity / peak > maxDrawdown) {
+                        maxDrawdown = 1 - equity / peak;
+                    }
+                    if (equity <= 1 - RUIN_LOSS) {
+                        ruined = true;
+                    }
+                }
+            }
+
+            double mean = sum / n;
+            double variance = sumOfSquares / n - mean * mean;
+            result.totalReturns[path] = equity - 1;
+            result.maxDrawdowns[path] = maxDrawdown;
+            result.sharpeRatios[path] = variance > 0 ? mean / Math.sqrt(variance) * Math.sqrt(TRADING_DAYS) : 0;
+            result.winRates[path] = (double) wins / n;
+            result.ruined[path] = ruined;
+        }
+    }
+
+    /**
+     * 포트폴리오 히스토리 → 일별 수익률
+     */
+    static double[] dailyReturns(List<BackTestResult.PortfolioSnapshot> history) {
+        if (history == null || history.size() < 2) {
+            return new double[0];
+        }
+        double[] returns = new double[history.size() - 1];
+        double previous = history.get(0).getTotalValue().doubleValue();
+        for (int i = 1; i < history.size(); i++) {
+            double current = history.get(i).getTotalValue().doubleValue();
+            returns[i - 1] = previous > 0 ? current / previous - 1 : 0;
+            previous = current;
+        }
+        return returns;
+    }
+
+    /**
+     * 매수/매도 쌍 → 거래 직전 자산 대비 왕복 손익률 (수수료 포함)
+     */
+    static double[] tradeReturns(List<BackTestResult.TradeRecord> trades) {
+        if (trades == null) {
+            return new double[0];
+        }
+        double[] returns = new double[trades.size() / 2];
+        int count = 0;
+        for (int i = 0; i + 1 < trades.size(); i += 2) {
+            BackTestResult.TradeRecord buy = trades.get(i);
+            BackTestResult.TradeRecord sell = trades.get(i + 1);
+            if (!"BUY".equals(buy.getAction()) || !"SELL".equals(sell.getAction())) {
+                continue;
+            }
+            double cost = buy.getAmount().doubleValue() + buy.getCommission().doubleValue();
+            double equityBefore = buy.getBalance().doubleValue() + cost;
+            double profit = sell.getAmount().doubleValue() - sell.getCommission().doubleValue() - cost;
+            returns[count++] = equityBefore > 0 ? profit / equityBefore : 0;
+        }
+        return Arrays.copyOf(returns, count);
+    }
+
+    /**
+     * 블록 길이 (표본 수의 세제곱근 - 자기상관 보존과 다양성의 절충)
+     */
+    static int blockSize(int sampleCount) {
+        return Math.max(1, (int) Math.round(Math.cbrt(sampleCount)));
+    }
+
+    private static MonteCarloResult.Interval interval(double[] values, double scale) {
+        double mean = Arrays.stream(values).sum() / values.length;
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return MonteCarloResult.Interval.builder()
+                .lower(decimal(quantile(sorted, LOWER_QUANTILE) * scale))
+                .median(decimal(quantile(sorted, 0.5) * scale))
+                .upper(decimal(quantile(sorted, UPPER_QUANTILE) * scale))
+                .mean(decimal(mean * scale))
+                .build();
+    }
+
+    /**
+     * 선형 보간 백분위 (정렬된 배열)
+     */
+    static double quantile(double[] sorted, double q) {
+        double position = q * (sorted.length - 1);
+        int lower = (int) Math.floor(position);
+        int upper = Math.min(lower + 1, sorted.length - 1);
+        return sorted[lower] + (sorted[upper] - sorted[lower]) * (position - lower);
+    }
+
+    private static BigDecimal percent(double ratio) {
+        return decimal(ratio * 100);
+    }
+
+    private static BigDecimal decimal(double value) {
+        return BigDecimal.valueOf(value).setScale(4, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 경로별 결과 (기본형 배열)
+     */
+    static final class Paths {
+        final double[] totalReturns;
+        final double[] maxDrawdowns;
+        final double[] sharpeRatios;
+        final double[] winRates;
+        final boolean[] ruined;
+
+        Paths(int paths) {
+            this.totalReturns = new double[paths];
+            this.maxDrawdowns = new double[paths];
+            this.sharpeRatios = new double[paths];
+            this.winRates = new double[paths];
+            this.ruined = new boolean[paths];
+        }
+
+        int ruinCount() {
+            int count = 0;
+            for (boolean value : ruined) {
+                if (value) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
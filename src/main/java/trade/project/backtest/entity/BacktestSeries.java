@@ -0,0 +1,35 @@
+package trade.project.backtest.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * 백트래킹 자산곡선/거래 내역 압축 열 (ColumnarSeriesCodec 형식)
+ * 요약 목록 조회 시 읽히지 않도록 별도 테이블에 둔다.
+ */
+@Entity
+@Table(name = "backtest_result_series")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacktestSeries {
+    
+    @Id
+    @Column(name = "backtest_id")
+    private Long backtestId; // backtest_results.backtest_id
+    
+    @Column(name = "format_version", nullable = false)
+    private Integer formatVersion; // 저장 형식 버전
+    
+    @Lob
+    @Column(name = "equity_data", nullable = false, length = 16777215)
+    private byte[] equityData; // 자산곡선 압축 열
+    
+    @Lob
+    @Column(name = "trade_data", nullable = false, length = 16777215)
+    private byte[] tradeData; // 거래 내역 압축 열
+}
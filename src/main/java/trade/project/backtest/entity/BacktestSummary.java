@@ -0,0 +1,135 @@
+package trade.project.backtest.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 백트래킹 결과 요약 (자산곡선/거래 내역은 backtest_result_series에 열 단위로 압축 저장)
+ */
+@Entity
+@Table(name = "backtest_results", indexes = {
+        @Index(name = "idx_backtest_results_stock_code", columnList = "stock_code"),
+        @Index(name = "idx_backtest_results_created_at", columnList = "created_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacktestSummary {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "backtest_id")
+    private Long id;
+    
+    @Column(name = "stock_code", nullable = false, length = 20)
+    private String stockCode; // 종목코드
+    
+    @Column(name = "strategy", nullable = false, length = 50)
+    private String strategy; // 전략명
+    
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate; // 시작일
+    
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate; // 종료일
+    
+    @Column(name = "initial_capital", precision = 20, scale = 4)
+    private BigDecimal initialCapital; // 초기 자본금
+    
+    @Column(name = "final_capital", precision = 20, scale = 4)
+    private BigDecimal finalCapital; // 최종 자본금
+    
+    @Column(name = "total_return", precision = 20, scale = 4)
+    private BigDecimal totalReturn; // 총 손익
+    
+    @Column(name = "total_return_percent", precision = 12, scale = 4)
+    private BigDecimal totalReturnPercent; // 총 수익률 (%)
+    
+    @Column(name = "annualized_return", precision = 12, scale = 4)
+    private BigDecimal annualizedReturn; // 연환산 수익률
+    
+    @Column(name = "max_drawdown", precision = 20, scale = 4)
+    private BigDecimal maxDrawdown; // 최대 낙폭 (금액)
+    
+    @Column(name = "max_drawdown_percent", precision = 12, scale = 4)
+    private BigDecimal maxDrawdownPercent; // 최대 낙폭 (%)
+    
+    @Column(name = "sharpe_ratio", precision = 12, scale = 4)
+    private BigDecimal sharpeRatio; // 샤프 비율
+    
+    @Column(name = "volatility", precision = 12, scale = 4)
+    private BigDecimal volatility; // 변동성
+    
+    @Column(name = "total_trades")
+    private Integer totalTrades; // 총 거래 횟수
+    
+    @Column(name = "winning_trades")
+    private Integer winningTrades; // 수익 거래 횟수
+    
+    @Column(name = "losing_trades")
+    private Integer losingTrades; // 손실 거래 횟수
+    
+    @Column(name = "win_rate", precision = 12, scale = 4)
+    private BigDecimal winRate; // 승률
+    
+    @Column(name = "average_win", precision = 20, scale = 4)
+    private BigDecimal averageWin; // 평균 수익
+    
+    @Column(name = "average_loss", precision = 20, scale = 4)
+    private BigDecimal averageLoss; // 평균 손실
+    
+    @Column(name = "profit_factor", precision = 12, scale = 4)
+    private BigDecimal profitFactor; // 수익 팩터
+    
+    @Column(name = "total_commission", precision = 20, scale = 4)
+    private BigDecimal totalCommission; // 위탁 수수료 합계
+    
+    @Column(name = "total_tax", precision = 20, scale = 4)
+    private BigDecimal totalTax; // 증권거래세 합계
+    
+    @Column(name = "total_slippage", precision = 20, scale = 4)
+    private BigDecimal totalSlippage; // 슬리피지 비용 합계
+    
+    @Column(name = "peak_capital", precision = 20, scale = 4)
+    private BigDecimal peakCapital; // 최고 자산
+    
+    @Column(name = "peak_date")
+    private LocalDate peakDate; // 최고 자산일
+    
+    @Column(name = "max_drawdown_date")
+    private LocalDate maxDrawdownDate; // 최대 낙폭일
+    
+    @Column(name = "calmar_ratio", precision = 12, scale = 4)
+    private BigDecimal calmarRatio; // 칼마 비율
+    
+    @Column(name = "sortino_ratio", precision = 12, scale = 4)
+    private BigDecimal sortinoRatio; // 소르티노 비율
+    
+    @Column(name = "information_ratio", precision = 12, scale = 4)
+    private BigDecimal informationRatio; // 정보 비율
+    
+    @Column(name = "treynor_ratio", precision = 12, scale = 4)
+    private BigDecimal treynorRatio; // 트레이너 비율
+    
+    @Column(name = "point_count")
+    private Integer pointCount; // 자산곡선 지점 수
+    
+    @Column(name = "series_bytes")
+    private Integer seriesBytes; // 압축된 자산곡선+거래 내역 크기 (bytes)
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt; // 생성일시
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,73 @@
+package trade.project.backtest.execution;
+
+import trade.project.backtest.dto.BackTestRequest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 위탁 수수료 구간표
+ * 체결 금액이 속한 구간의 요율과 정액 수수료를 적용한다. (구간이 없으면 요청의 commission 단일 요율)
+ */
+public final class CommissionSchedule {
+
+    private final double[] minAmounts; // 구간 시작 금액 (오름차순)
+    private final double[] rates;
+    private final double[] fixedFees;
+    private final double minimumFee;
+
+    private CommissionSchedule(double[] minAmounts, double[] rates, double[] fixedFees, double minimumFee) {
+        this.minAmounts = minAmounts;
+        this.rates = rates;
+        this.fixedFees = fixedFees;
+        this.minimumFee = minimumFee;
+    }
+
+    /**
+     * 단일 요율
+     */
+    public static CommissionSchedule flat(double rate) {
+        return new CommissionSchedule(new double[]{0}, new double[]{rate}, new double[]{0}, 0);
+    }
+
+    /**
+     * 요청의 수수료 설정으로 구간표 생성
+     */
+    public static CommissionSchedule from(BackTestRequest request) {
+        List<BackTestRequest.CommissionTier> tiers = request.getCommissionTiers();
+        if (tiers == null || tiers.isEmpty()) {
+            return flat(request.getCommission().doubleValue());
+        }
+        List<BackTestRequest.CommissionTier> sorted = new ArrayList<>(tiers);
+        sorted.sort(Comparator.comparing(tier -> tier.getMinAmount() != null ? tier.getMinAmount() : BigDecimal.ZERO));
+        double[] minAmounts = new double[sorted.size()];
+        double[] rates = new double[sorted.size()];
+        double[] fixedFees = new double[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            BackTestRequest.CommissionTier tier = sorted.get(i);
+            minAmounts[i] = tier.getMinAmount() != null ? tier.getMinAmount().doubleValue() : 0;
+            rates[i] = tier.getRate() != null ? tier.getRate().doubleValue() : 0;
+            fixedFees[i] = tier.getFixedFee() != null ? tier.getFixedFee().doubleValue() : 0;
+        }
+        double minimumFee = request.getMinimumCommission() != null ? request.getMinimumCommission().doubleValue() : 0;
+        return new CommissionSchedule(minAmounts, rates, fixedFees, minimumFee);
+    }
+
+    /**
+     * 체결 금액에 대한 수수료 (원 단위 절사)
+     */
+    public double commission(double amount) {
+        if (amount <= 0) {
+            return 0;
+        }
+        int tier = 0;
+        while (tier + 1 < minAmounts.length && amount >= minAmounts[tier + 1]) {
+            tier++;
+        }
+        double fee = Math.floor(amount * rates[tier] + fixedFees[tier]);
+        return Math.max(fee, minimumFee);
+    }
+
+}
@@ -0,0 +1,44 @@
+package trade.project.backtest.execution;
+
+import java.time.LocalDate;
+
+/**
+ * 체결 비용 모델
+ * 엔진이 매 거래마다 호출하므로 원시 타입만 주고받고 객체를 만들지 않는다.
+ */
+public interface ExecutionModel {
+
+    /**
+     * 체결 가격 (호가 스프레드와 시장 충격 반영, 호가 단위로 맞춤)
+     * @param buy 매수 여부
+     * @param referencePrice 기준 가격 (종가 또는 다음 봉 시가)
+     * @param quantity 주문 수량
+     * @param barVolume 해당 봉 거래량 (0이면 시장 충격 생략)
+     */
+    double fillPrice(boolean buy, double referencePrice, long quantity, long barVolume);
+
+    /**
+     * 한 봉에서 체결 가능한 최대 수량 (거래량 참여율 제한)
+     * @param barVolume 해당 봉 거래량 (0이면 제한 없음)
+     */
+    long maxQuantity(long barVolume);
+
+    /**
+     * 위탁 수수료
+     * @param amount 체결 금액
+     */
+    double commission(double amount);
+
+    /**
+     * 거래세 (매도 시에만 부과)
+     * @param buy 매수 여부
+     * @param amount 체결 금액
+     * @param date 체결일
+     */
+    double tax(boolean buy, double amount, LocalDate date);
+
+    /**
+     * 다음 봉 시가 체결 여부 (false면 신호가 나온 봉의 종가 체결)
+     */
+    boolean fillsAtNextOpen();
+}
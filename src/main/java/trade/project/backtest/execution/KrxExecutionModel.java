@@ -0,0 +1,84 @@
+package trade.project.backtest.execution;
+
+import trade.project.backtest.dto.BackTestRequest;
+
+import java.time.LocalDate;
+
+/**
+ * 국내 주식 체결 비용 모델
+ * - 체결가: 기준 가격 × (1 ± (반 스프레드 + 충격계수 × √(주문 수량 / 봉 거래량))), 호가 단위로 불리하게 맞춤
+ * - 수량: 봉 거래량 × 최대 참여율까지만 체결
+ * - 수수료: 구간별 요율 + 정액, 거래세: 매도 시 체결일 기준 세율 (includeTax가 false면 생략)
+ */
+public final class KrxExecutionModel implements ExecutionModel {
+
+    private static final double BASIS_POINT = 0.0001;
+
+    private final CommissionSchedule commissionSchedule;
+    private final boolean includeTax;
+    private final boolean nextOpen;
+    private final double halfSpread;
+    private final double impactCoefficient;
+    private final double maxParticipationRate;
+
+    KrxExecutionModel(CommissionSchedule commissionSchedule, boolean includeTax, boolean nextOpen,
+                      double slippageBps, double impactCoefficient, double maxParticipationRate) {
+        this.commissionSchedule = commissionSchedule;
+        this.includeTax = includeTax;
+        this.nextOpen = nextOpen;
+        this.halfSpread = slippageBps * BASIS_POINT;
+        this.impactCoefficient = impactCoefficient;
+        this.maxParticipationRate = maxParticipationRate;
+    }
+
+    /**
+     * 기본값이 적용된 요청으로 모델 생성 (실행마다 한 번)
+     */
+    public static KrxExecutionModel from(BackTestRequest request) {
+        return new KrxExecutionModel(
+                CommissionSchedule.from(request),
+                Boolean.TRUE.equals(request.getIncludeTax()),
+                !BackTestRequest.FILL_AT_CLOSE.equalsIgnoreCase(request.getFillTiming()),
+                request.getSlippageBps() != null ? request.getSlippageBps().doubleValue() : 0,
+                request.getMarketImpact() != null ? request.getMarketImpact().doubleValue() : 0,
+                request.getMaxParticipationRate() != null ? request.getMaxParticipationRate().doubleValue() : 1);
+    }
+
+    @Override
+    public double fillPrice(boolean buy, double referencePrice, long quantity, long barVolume) {
+        double impact = halfSpread;
+        if (impactCoefficient > 0 && barVolume > 0 && quantity > 0) {
+            impact += impactCoefficient * Math.sqrt((double) quantity / barVolume);
+        }
+        if (impact <= 0) {
+            return referencePrice;
+        }
+        return buy
+                ? KrxTickSize.roundUp(referencePrice * (1 + impact))
+                : KrxTickSize.roundDown(referencePrice * (1 - impact));
+    }
+
+    @Override
+    public long maxQuantity(long barVolume) {
+        if (barVolume <= 0 || maxParticipationRate >= 1) {
+            return Long.MAX_VALUE;
+        }
+        return (long) Math.floor(barVolume * maxParticipationRate);
+    }
+
+    @Override
+    public double commission(double amount) {
+        return commissionSchedule.commission(amount);
+    }
+
+    @Override
+    public double tax(boolean buy, double amount, LocalDate date) {
+        return !buy && includeTax ? KrxTransactionTax.tax(amount, date) : 0;
+    }
+
+    @Override
+    public boolean fillsAtNextOpen() {
+        return nextOpen;
+    }
+
+}
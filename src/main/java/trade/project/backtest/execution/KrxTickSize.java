@@ -0,0 +1,42 @@
+package trade.project.backtest.execution;
+
+/**
+ * 국내 주식 호가 단위 (2023년 개편 기준, 코스피/코스닥 공통)
+ */
+public final class KrxTickSize {
+
+    private static final double[] PRICE_LIMITS = {2_000, 5_000, 20_000, 50_000, 200_000, 500_000};
+    private static final double[] TICKS = {1, 5, 10, 50, 100, 500};
+    private static final double TOP_TICK = 1_000;
+
+    private KrxTickSize() {
+    }
+
+    /**
+     * 가격대의 호가 단위
+     */
+    public static double tickOf(double price) {
+        for (int i = 0; i < PRICE_LIMITS.length; i++) {
+            if (price < PRICE_LIMITS[i]) {
+                return TICKS[i];
+            }
+        }
+        return TOP_TICK;
+    }
+
+    /**
+     * 호가 단위로 올림 (매수 체결가)
+     */
+    public static double roundUp(double price) {
+        double tick = tickOf(price);
+        return Math.ceil(price / tick - 1e-9) * tick;
+    }
+
+    /**
+     * 호가 단위로 내림 (매도 체결가)
+     */
+    public static double roundDown(double price) {
+        double tick = tickOf(price);
+        return Math.floor(price / tick + 1e-9) * tick;
+    }
+}
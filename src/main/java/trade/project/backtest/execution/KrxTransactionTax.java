@@ -0,0 +1,40 @@
+package trade.project.backtest.execution;
+
+import java.time.LocalDate;
+
+/**
+ * 국내 주식 매도 시 증권거래세 (농어촌특별세 포함 합산 세율)
+ * 코스피/코스닥 합산 세율이 같아진 연도 기준으로 체결일에 따라 세율을 고른다.
+ */
+public final class KrxTransactionTax {
+
+    private static final LocalDate[] EFFECTIVE_FROM = {
+            LocalDate.of(2021, 1, 1),
+            LocalDate.of(2023, 1, 1),
+            LocalDate.of(2024, 1, 1),
+            LocalDate.of(2025, 1, 1)
+    };
+    private static final double[] RATES = {0.0023, 0.0020, 0.0018, 0.0015};
+    private static final double RATE_BEFORE_2021 = 0.0025;
+
+    private KrxTransactionTax() {
+    }
+
+    /**
+     * 체결일의 매도 세율
+     */
+    public static double rate(LocalDate date) {
+        double rate = RATE_BEFORE_2021;
+        for (int i = 0; i < EFFECTIVE_FROM.length && !date.isBefore(EFFECTIVE_FROM[i]); i++) {
+            rate = RATES[i];
+        }
+        return rate;
+    }
+
+    /**
+     * 매도 금액에 대한 거래세 (원 단위 절사)
+     */
+    public static double tax(double amount, LocalDate date) {
+        return Math.floor(amount * rate(date));
+    }
+}
@@ -0,0 +1,28 @@
+package trade.project.backtest.pipeline;
+
+/**
+ * 증분 계산 지표 노드
+ * 봉(또는 시세) 하나가 들어올 때마다 update가 호출되며, 준비되지 않은 값은 NaN을 반환한다.
+ */
+public interface Indicator {
+
+    /**
+     * 새 봉 반영
+     */
+    void update(double close, double high, double low);
+
+    /**
+     * 현재 값 사용 가능 여부
+     */
+    boolean isReady();
+
+    /**
+     * 현재 값 (미준비 시 NaN)
+     */
+    double value();
+
+    /**
+     * 직전 봉 기준 값 (없으면 NaN)
+     */
+    double previous();
+}
@@ -0,0 +1,52 @@
+package trade.project.backtest.pipeline;
+
+/**
+ * 컴파일된 파이프라인의 지표 상태
+ * 노드는 의존 순서(선행 지표가 앞)로 정렬되어 있어 봉마다 한 번씩 순서대로 갱신된다.
+ */
+public class IndicatorGraph {
+
+    private final Indicator[] nodes;
+    private int barCount;
+    private double lastClose = Double.NaN;
+    private double previousClose = Double.NaN;
+
+    IndicatorGraph(Indicator[] nodes) {
+        this.nodes = nodes;
+    }
+
+    /**
+     * 새 봉 반영
+     */
+    public void update(double close, double high, double low) {
+        for (Indicator node : nodes) {
+            node.update(close, high, low);
+        }
+        previousClose = lastClose;
+        lastClose = close;
+        barCount++;
+    }
+
+    public int getBarCount() {
+        return barCount;
+    }
+
+    /**
+     * 직전 봉 종가 (없으면 NaN)
+     */
+    public double getPreviousClose() {
+        return previousClose;
+    }
+
+    public double value(int node) {
+        return nodes[node].value();
+    }
+
+    public double previous(int node) {
+        return nodes[node].previous();
+    }
+
+    public boolean isReady(int node) {
+        return nodes[node].isReady();
+    }
+}
@@ -0,0 +1,309 @@
+package trade.project.backtest.pipeline;
+
+/**
+ * 증분 지표 구현 모음
+ * 모든 지표는 봉 하나당 O(1)(롤링 최고/최저는 분할상환 O(1))로 갱신된다.
+ */
+public final class IndicatorNodes {
+
+    private IndicatorNodes() {
+    }
+
+    /**
+     * 현재/직전 값 관리 공통 클래스
+     */
+    abstract static class BaseIndicator implements Indicator {
+        private double value = Double.NaN;
+        private double previous = Double.NaN;
+        private boolean ready;
+
+        protected void publish(double newValue) {
+            previous = value;
+            value = newValue;
+            ready = true;
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public double value() {
+            return value;
+        }
+
+        @Override
+        public double previous() {
+            return previous;
+        }
+    }
+
+    /**
+     * 단순이동평균 (링버퍼 + 누적합)
+     */
+    static final class Sma extends BaseIndicator {
+        private final double[] window;
+        private double sum;
+        private long count;
+
+        Sma(int period) {
+            this.window = new double[period];
+        }
+
+        @Override
+        public void update(double close, double high, double low) {
+            int slot = (int) (count % window.length);
+            if (count >= window.length) {
+                sum -= window[slot];
+            }
+            window[slot] = close;
+            sum += close;
+            count++;
+            if (count >= window.length) {
+                publish(sum / window.length);
+            }
+        }
+    }
+
+    /**
+     * 지수이동평균 (초기값 SMA), source가 있으면 해당 지표 값을 입력으로 사용
+     */
+    static final class Ema extends BaseIndicator {
+        private final int period;
+        private final double k;
+        private final Indicator source;
+        private double seedSum;
+        private int seedCount;
+        private double ema;
+
+        Ema(int period, Indicator source) {
+            this.period = period;
+            this.k = 2.0 / (period + 1);
+            this.source = source;
+        }
+
+        @Override
+        public void update(double close, double high, double low) {
+            if (source != null && !source.isReady()) {
+                return;
+            }
+            double x = source != null ? source.value() : close;
+            if (seedCount < period) {
+                seedSum += x;
+                seedCount++;
+                if (seedCount == period) {
+                    ema = seedSum / period;
+                    publish(ema);
+                }
+                return;
+            }
+            ema = (x - ema) * k + ema;
+            publish(ema);
+        }
+    }
+
+    /**
+     * RSI - Wilder 평활
+     */
+    static final class WilderRsi extends BaseIndicator {
+        private final int period;
+        private double prevClose = Double.NaN;
+        private int changes;
+        private double avgGain;
+        private double avgLoss;
+
+        WilderRsi(int period) {
+            this.period = period;
+        }
+
+        @Override
+        public void update(double close, double high, double low) {
+            if (Double.isNaN(prevClose)) {
+                prevClose = close;
+                return;
+            }
+            double change = close - prevClose;
+            prevClose = close;
+            double gain = Math.max(change, 0);
+            double loss = Math.max(-change, 0);
+            changes++;
+            if (changes <= period) {
+                avgGain += gain / period;
+                avgLoss += loss / period;
+                if (changes < period) {
+                    return;
+                }
+            } else {
+                avgGain = (avgGain * (period - 1) + gain) / period;
+                avgLoss = (avgLoss * (period - 1) + loss) / period;
+            }
+            publish(toRsi(avgGain, avgLoss));
+        }
+    }
+
+    /**
+     * RSI - 최근 기간 단순평균 (기존 백테스트 계산 방식)
+     */
+    static final class SimpleRsi extends BaseIndicator {
+        private final double[] changes;
+        private double prevClose = Double.NaN;
+        private double gainSum;
+        private double lossSum;
+        private long count;
+
+        SimpleRsi(int period) {
+            this.changes = new double[period];
+        }
+
+        @Override
+        public void update(double close, double high, double low) {
+            if (Double.isNaN(prevClose)) {
+                prevClose = close;
+                return;
+            }
+            double change = close - prevClose;
+            prevClose = close;
+            int slot = (int) (count % changes.length);
+            if (count >= changes.length) {
+                double old = changes[slot];
+                if (old > 0) gainSum -= old; else lossSum += old;
+            }
+            changes[slot] = change;
+            if (change > 0) gainSum += change; else lossSum -= change;
+            count++;
+            if (count >= changes.length) {
+                publish(toRsi(gainSum, lossSum));
+            }
+        }
+    }
+
+    private static double toRsi(double gain, double loss) {
+        if (gain + loss == 0) return 50;
+        if (loss == 0) return 100;
+        return 100 - 100 / (1 + gain / loss);
+    }
+
+    /**
+     * 두 지표의 차 (MACD 라인 등)
+     */
+    static final class Difference extends BaseIndicator {
+        private final Indicator left;
+        private final Indicator right;
+
+        Difference(Indicator left, Indicator right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public void update(double close, double high, double low) {
+            if (left.isReady() && right.isReady()) {
+                publish(left.value() - right.value());
+            }
+        }
+    }
+
+    /**
+     * 표준편차 (링버퍼 + 누적합/제곱합), sample이면 n-1 보정
+     */
+    static final class StdDev extends BaseIndicator {
+        private final double[] window;
+        private final boolean sample;
+        private double sum;
+        private double sumSq;
+        private long count;
+
+        StdDev(int period, boolean sample) {
+            this.window = new double[period];
+            this.sample = sample;
+        }
+
+        @Override
+        public void update(double close, double high, double low) {
+            int slot = (int) (count % window.length);
+            if (count >= window.length) {
+                sum -= window[slot];
+                sumSq -= window[slot] * window[slot];
+            }
+            window[slot] = close;
+            sum += close;
+            sumSq += close * close;
+            count++;
+            if (count >= window.length) {
+                int n = window.length;
+                int divisor = sample && n > 1 ? n - 1 : n;
+                double variance = (sumSq - sum * sum / n) / divisor;
+                publish(Math.sqrt(Math.max(variance, 0)));
+            }
+        }
+    }
+
+    /**
+     * 중심선 ± 배수 * 편차 (볼린저 밴드)
+     */
+    static final class BandOffset extends BaseIndicator {
+        private final Indicator center;
+        private final Indicator deviation;
+        private final double multiplier;
+
+        BandOffset(Indicator center, Indicator deviation, double multiplier) {
+            this.center = center;
+            this.deviation = deviation;
+            this.multiplier = multiplier;
+        }
+
+        @Override
+        public void update(double close, double high, double low) {
+            if (center.isReady() && deviation.isReady()) {
+                publish(center.value() + multiplier * deviation.value());
+            }
+        }
+    }
+
+    /**
+     * 기간 내 최고가/최저가 (단조 덱)
+     * 기간이 채워지기 전에는 들어온 봉 범위에서 계산한다.
+     */
+    static final class RollingExtreme extends BaseIndicator {
+        private final int period;
+        private final boolean highest;
+        private final long[] indexes;
+        private final double[] values;
+        private int head;
+        private int size;
+        private long count;
+
+        RollingExtreme(int period, boolean highest) {
+            this.period = period;
+            this.highest = highest;
+            this.indexes = new long[period];
+            this.values = new double[period];
+        }
+
+        @Override
+        public void update(double close, double high, double low) {
+            double x = highest ? high : low;
+            // 윈도우를 벗어나는 앞쪽 제거
+            while (size > 0 && indexes[head] <= count - period) {
+                head = (head + 1) % period;
+                size--;
+            }
+            // 새 값보다 불리한 뒤쪽 제거
+            while (size > 0) {
+                int back = (head + size - 1) % period;
+                if (highest ? values[back] <= x : values[back] >= x) {
+                    size--;
+                } else {
+                    break;
+                }
+            }
+            int slot = (head + size) % period;
+            indexes[slot] = count;
+            values[slot] = x;
+            size++;
+            count++;
+            publish(values[head]);
+        }
+    }
+}
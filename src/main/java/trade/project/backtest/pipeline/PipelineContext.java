@@ -0,0 +1,64 @@
+package trade.project.backtest.pipeline;
+
+/**
+ * 규칙 평가 컨텍스트
+ * 지표 상태와 현재가/보유 상태를 묶어 규칙에 전달한다. 엔진 루프에서 재사용한다.
+ */
+public class PipelineContext {
+
+    private IndicatorGraph graph;
+    private double price;
+    private double position;
+    private double averagePrice;
+    private double referencePrice = Double.NaN; // 직전 관측가 (트레일링 스탑 기준)
+
+    /**
+     * 평가 입력 설정
+     */
+    public PipelineContext reset(IndicatorGraph graph, double price, double position, double averagePrice, double referencePrice) {
+        this.graph = graph;
+        this.price = price;
+        this.position = position;
+        this.averagePrice = averagePrice;
+        this.referencePrice = referencePrice;
+        return this;
+    }
+
+    public IndicatorGraph getGraph() {
+        return graph;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    public double value(int node) {
+        return graph.value(node);
+    }
+
+    public double previous(int node) {
+        return graph.previous(node);
+    }
+
+    public boolean hasPosition() {
+        return position > 0;
+    }
+
+    /**
+     * 평균 매수가 대비 수익률 (%)
+     */
+    public double profitRate() {
+        double base = averagePrice == 0 ? 1 : averagePrice;
+        return (price - averagePrice) / base * 100;
+    }
+
+    /**
+     * 직전 관측가 대비 하락률 (%), 기준이 없으면 NaN
+     */
+    public double dropFromReference() {
+        if (Double.isNaN(referencePrice) || referencePrice <= 0) {
+            return Double.NaN;
+        }
+        return (referencePrice - price) / referencePrice * 100;
+    }
+}
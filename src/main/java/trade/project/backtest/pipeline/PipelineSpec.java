@@ -0,0 +1,87 @@
+package trade.project.backtest.pipeline;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import trade.project.backtest.dto.BackTestRequest;
+
+/**
+ * 전략 파이프라인 정의
+ * 같은 정의는 한 번만 컴파일되어 실시간 엔진과 백테스트 엔진이 함께 사용한다.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class PipelineSpec {
+
+    /**
+     * 규칙 유형
+     */
+    public enum Type {
+        MULTI_FACTOR, // RSI + MACD + 이동평균 + 볼린저밴드 + 고가/저가 (자동매매 엔진 규칙)
+        SMA_CROSS,    // 이동평균 골든/데드 크로스
+        RSI_REVERSAL, // RSI 과매수/과매도
+        MACD_CROSS,   // MACD 시그널 크로스
+        DSL,          // 사용자 정의 규칙식
+        NONE          // 지표만 계산 (신호 없음)
+    }
+
+    private Type type;
+
+    private int rsiPeriod;
+    private double rsiOversold;
+    private double rsiOverbought;
+
+    private int macdFastPeriod;
+    private int macdSlowPeriod;
+    private int macdSignalPeriod;
+
+    private int smaShortPeriod;
+    private int smaLongPeriod;
+
+    private int bollingerPeriod;
+    private double bollingerSigma;
+    private int extremePeriod; // 최근 고가/저가 기간
+
+    // 리스크 규칙 (%), NaN이면 사용하지 않음
+    private double profitTarget;
+    private double stopLoss;
+    private double trailingStop;
+
+    private int minHistory; // 지표 기반 신호에 필요한 최소 봉 수
+
+    // 사용자 정의 규칙식 (DSL 유형), 예: RSI(14) < 30 AND CROSS_UP(SMA(5), SMA(20))
+    private String buyExpression;
+    private String sellExpression;
+
+    private boolean reportIndicators; // 백테스트 리포트용 표준 지표 포함 여부
+
+    /**
+     * 백테스트 요청 기반 정의 생성 (기존 전략 기본값 적용)
+     */
+    public static PipelineSpec fromBackTestRequest(Type type, BackTestRequest request) {
+        return PipelineSpec.builder()
+                .type(type)
+                .rsiPeriod(valueOrDefault(request.getRsiPeriod(), 14))
+                .rsiOversold(valueOrDefault(request.getRsiOversold(), 30))
+                .rsiOverbought(valueOrDefault(request.getRsiOverbought(), 70))
+                .macdFastPeriod(valueOrDefault(request.getMacdFastPeriod(), 12))
+                .macdSlowPeriod(valueOrDefault(request.getMacdSlowPeriod(), 26))
+                .macdSignalPeriod(valueOrDefault(request.getMacdSignalPeriod(), 9))
+                .smaShortPeriod(valueOrDefault(request.getShortPeriod(), 5))
+                .smaLongPeriod(valueOrDefault(request.getLongPeriod(), 20))
+                .bollingerPeriod(20)
+                .bollingerSigma(2.0)
+                .extremePeriod(20)
+                .profitTarget(Double.NaN)
+                .stopLoss(Double.NaN)
+                .trailingStop(Double.NaN)
+                .build();
+    }
+
+    private static int valueOrDefault(Integer value, int defaultValue) {
+        return value != null && value > 0 ? value : defaultValue;
+    }
+}
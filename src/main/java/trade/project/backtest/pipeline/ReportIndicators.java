@@ -0,0 +1,103 @@
+package trade.project.backtest.pipeline;
+
+import trade.project.backtest.dto.StockData;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 백테스트 리포트용 표준 지표 (StockData 지표 필드)
+ * 컴파일된 파이프라인에서 노드 번호를 미리 찾아 두고 봉마다 값만 옮긴다.
+ */
+public final class ReportIndicators {
+
+    static final int[] SMA_PERIODS = {5, 10, 20, 50, 200};
+    static final int BOLLINGER_PERIOD = 20;
+    static final double BOLLINGER_SIGMA = 2.0;
+
+    private final int sma5;
+    private final int sma10;
+    private final int sma20;
+    private final int sma50;
+    private final int sma200;
+    private final int rsi;
+    private final int emaFast;
+    private final int emaSlow;
+    private final int macd;
+    private final int macdSignal;
+    private final int bollingerUpper;
+    private final int bollingerMiddle;
+    private final int bollingerLower;
+
+    private ReportIndicators(StrategyPipeline pipeline, PipelineSpec spec) {
+        this.sma5 = require(pipeline, StrategyPipeline.smaKey(5));
+        this.sma10 = require(pipeline, StrategyPipeline.smaKey(10));
+        this.sma20 = require(pipeline, StrategyPipeline.smaKey(20));
+        this.sma50 = require(pipeline, StrategyPipeline.smaKey(50));
+        this.sma200 = require(pipeline, StrategyPipeline.smaKey(200));
+        this.rsi = require(pipeline, StrategyPipeline.simpleRsiKey(spec.getRsiPeriod()));
+        this.emaFast = require(pipeline, StrategyPipeline.emaKey(spec.getMacdFastPeriod()));
+        this.emaSlow = require(pipeline, StrategyPipeline.emaKey(spec.getMacdSlowPeriod()));
+        this.macd = require(pipeline, StrategyPipeline.macdKey(spec.getMacdFastPeriod(), spec.getMacdSlowPeriod()));
+        this.macdSignal = require(pipeline, StrategyPipeline.macdSignalKey(
+                spec.getMacdFastPeriod(), spec.getMacdSlowPeriod(), spec.getMacdSignalPeriod()));
+        this.bollingerUpper = require(pipeline, StrategyPipeline.bollingerKey("BB_UPPER", BOLLINGER_PERIOD, BOLLINGER_SIGMA, false));
+        this.bollingerMiddle = require(pipeline, StrategyPipeline.smaKey(BOLLINGER_PERIOD));
+        this.bollingerLower = require(pipeline, StrategyPipeline.bollingerKey("BB_LOWER", BOLLINGER_PERIOD, BOLLINGER_SIGMA, false));
+    }
+
+    /**
+     * 리포트 지표를 포함해 컴파일된 파이프라인에서 노드 번호 조회
+     */
+    public static ReportIndicators of(StrategyPipeline pipeline, PipelineSpec spec) {
+        return new ReportIndicators(pipeline, spec);
+    }
+
+    /**
+     * 현재 지표 값을 StockData에 기록 (미준비 지표는 null 유지)
+     */
+    public void apply(IndicatorGraph graph, StockData data) {
+        data.setSma5(decimal(graph, sma5, 2));
+        data.setSma10(decimal(graph, sma10, 2));
+        data.setSma20(decimal(graph, sma20, 2));
+        data.setSma50(decimal(graph, sma50, 2));
+        data.setSma200(decimal(graph, sma200, 2));
+        data.setRsi(decimal(graph, rsi, 2));
+        data.setEma12(decimal(graph, emaFast, 4));
+        data.setEma26(decimal(graph, emaSlow, 4));
+        data.setMacd(decimal(graph, macd, 4));
+        data.setMacdSignal(decimal(graph, macdSignal, 4));
+        if (graph.isReady(macd) && graph.isReady(macdSignal)) {
+            data.setMacdHistogram(BigDecimal.valueOf(graph.value(macd) - graph.value(macdSignal))
+                    .setScale(4, RoundingMode.HALF_UP));
+        }
+        data.setBollingerUpper(decimal(graph, bollingerUpper, 4));
+        data.setBollingerMiddle(decimal(graph, bollingerMiddle, 2));
+        data.setBollingerLower(decimal(graph, bollingerLower, 4));
+    }
+
+    static void register(StrategyPipeline.Builder builder, PipelineSpec spec) {
+        for (int period : SMA_PERIODS) {
+            builder.sma(period);
+        }
+        builder.simpleRsi(spec.getRsiPeriod());
+        builder.macdSignal(spec.getMacdFastPeriod(), spec.getMacdSlowPeriod(), spec.getMacdSignalPeriod());
+        builder.bollingerUpper(BOLLINGER_PERIOD, BOLLINGER_SIGMA, false);
+        builder.bollingerLower(BOLLINGER_PERIOD, BOLLINGER_SIGMA, false);
+    }
+
+    private static BigDecimal decimal(IndicatorGraph graph, int node, int scale) {
+        if (!graph.isReady(node)) {
+            return null;
+        }
+        return BigDecimal.valueOf(graph.value(node)).setScale(scale, RoundingMode.HALF_UP);
+    }
+
+    private static int require(StrategyPipeline pipeline, String key) {
+        int index = pipeline.nodeIndex(key);
+        if (index < 0) {
+            throw new IllegalStateException("리포트 지표가 컴파일되지 않았습니다: " + key);
+        }
+        return index;
+    }
+}
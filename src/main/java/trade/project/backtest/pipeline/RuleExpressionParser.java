@@ -0,0 +1,361 @@
+package trade.project.backtest.pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 전략 규칙식 파서
+ * 규칙식을 파싱하면서 바로 지표 노드를 빌더에 등록하고 규칙 트리를 만든다.
+ * 평가 시에는 캡처된 노드 번호/상수만 사용하므로 객체 생성이나 해석 비용이 없다.
+ *
+ * <pre>
+ * expr       := and (OR and)*
+ * and        := unary (AND unary)*
+ * unary      := NOT unary | '(' expr ')' | CROSS_UP(operand, operand) | CROSS_DOWN(operand, operand)
+ *             | HAS_POSITION | operand (&lt; | &lt;= | &gt; | &gt;=) operand
+ * operand    := number | PRICE | PROFIT | SMA(n) | EMA(n) | RSI(n) | MACD(f, s) | MACD_SIGNAL(f, s, g)
+ *             | BB_UPPER(n[, k]) | BB_LOWER(n[, k]) | HIGHEST(n) | LOWEST(n)
+ * </pre>
+ */
+final class RuleExpressionParser {
+
+    private static final double DEFAULT_BOLLINGER_SIGMA = 2.0;
+    private static final Set<String> INDICATORS = Set.of(
+            "SMA", "EMA", "RSI", "MACD", "MACD_SIGNAL", "BB_UPPER", "BB_LOWER", "HIGHEST", "LOWEST");
+
+    private final String source;
+    private final List<Token> tokens;
+    private final StrategyPipeline.Builder builder;
+    private int position;
+
+    private RuleExpressionParser(String source, StrategyPipeline.Builder builder) {
+        this.source = source;
+        this.tokens = tokenize(source);
+        this.builder = builder;
+    }
+
+    /**
+     * 규칙식 파싱 (지표 노드는 builder에 등록됨)
+     */
+    static SignalRule parse(String expression, StrategyPipeline.Builder builder) {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("전략 규칙식이 비어있습니다");
+        }
+        RuleExpressionParser parser = new RuleExpressionParser(expression, builder);
+        SignalRule rule = parser.parseOr();
+        if (!parser.peek().is(TokenType.END)) {
+            throw parser.error("예상하지 못한 토큰 '" + parser.peek().text + "'");
+        }
+        return rule;
+    }
+
+    private SignalRule parseOr() {
+        SignalRule rule = parseAnd();
+        while (acceptKeyword("OR")) {
+            rule = rule.or(parseAnd());
+        }
+        return rule;
+    }
+
+    private SignalRule parseAnd() {
+        SignalRule rule = parseUnary();
+        while (acceptKeyword("AND")) {
+            rule = rule.and(parseUnary());
+        }
+        return rule;
+    }
+
+    private SignalRule parseUnary() {
+        if (acceptKeyword("NOT")) {
+            return parseUnary().negate();
+        }
+        if (accept(TokenType.LPAREN)) {
+            SignalRule rule = parseOr();
+            expect(TokenType.RPAREN);
+            return rule;
+        }
+        Token token = peek();
+        if (token.is(TokenType.IDENT)) {
+            switch (token.upper()) {
+                case "CROSS_UP" -> {
+                    position++;
+                    Operand[] operands = parseOperandPair();
+                    return crossUp(operands[0], operands[1]);
+                }
+                case "CROSS_DOWN" -> {
+                    position++;
+                    Operand[] operands = parseOperandPair();
+                    return crossUp(operands[1], operands[0]);
+                }
+                case "HAS_POSITION" -> {
+                    position++;
+                    return SignalRules.hasPosition();
+                }
+                default -> {
+                }
+            }
+        }
+        return parseComparison();
+    }
+
+    private SignalRule parseComparison() {
+        Operand left = parseOperand();
+        Token operator = peek();
+        if (!operator.is(TokenType.OPERATOR)) {
+            throw error("비교 연산자가 필요합니다");
+        }
+        position++;
+        Operand right = parseOperand();
+        return switch (operator.text) {
+            case "<" -> context -> left.value(context) < right.value(context);
+            case "<=" -> context -> left.value(context) <= right.value(context);
+            case ">" -> context -> left.value(context) > right.value(context);
+            case ">=" -> context -> left.value(context) >= right.value(context);
+            default -> throw error("지원하지 않는 연산자 '" + operator.text + "'");
+        };
+    }
+
+    private Operand[] parseOperandPair() {
+        expect(TokenType.LPAREN);
+        Operand first = parseOperand();
+        expect(TokenType.COMMA);
+        Operand second = parseOperand();
+        expect(TokenType.RPAREN);
+        return new Operand[]{first, second};
+    }
+
+    private Operand parseOperand() {
+        Token token = peek();
+        if (token.is(TokenType.NUMBER)) {
+            position++;
+            return constant(Double.parseDouble(token.text));
+        }
+        if (!token.is(TokenType.IDENT)) {
+            throw error("지표 또는 숫자가 필요합니다");
+        }
+        position++;
+        String name = token.upper();
+        if (name.equals("PRICE")) {
+            return new Operand() {
+                @Override
+                public double value(PipelineContext context) {
+                    return context.getPrice();
+                }
+
+                @Override
+                public double previous(PipelineContext context) {
+                    return context.getGraph().getPreviousClose();
+                }
+            };
+        }
+        if (name.equals("PROFIT")) {
+            return new Operand() {
+                @Override
+                public double value(PipelineContext context) {
+                    return context.hasPosition() ? context.profitRate() : Double.NaN;
+                }
+
+                @Override
+                public double previous(PipelineContext context) {
+                    return Double.NaN;
+                }
+            };
+        }
+        if (!INDICATORS.contains(name)) {
+            position--;
+            throw error("지원하지 않는 지표 '" + token.text + "'");
+        }
+        double[] args = parseArguments(name);
+        int node = switch (name) {
+            case "SMA" -> builder.sma(period(name, args, 0, 1));
+            case "EMA" -> builder.ema(period(name, args, 0, 1));
+            case "RSI" -> builder.wilderRsi(period(name, args, 0, 1));
+            case "MACD" -> builder.macd(period(name, args, 0, 2), period(name, args, 1, 2));
+            case "MACD_SIGNAL" -> builder.macdSignal(period(name, args, 0, 3), period(name, args, 1, 3), period(name, args, 2, 3));
+            case "BB_UPPER" -> builder.bollingerUpper(period(name, args, 0, 1, 2), sigma(args), true);
+            case "BB_LOWER" -> builder.bollingerLower(period(name, args, 0, 1, 2), sigma(args), true);
+            case "HIGHEST" -> builder.highest(period(name, args, 0, 1));
+            case "LOWEST" -> builder.lowest(period(name, args, 0, 1));
+            default -> throw error("지원하지 않는 지표 '" + token.text + "'");
+        };
+        return indicator(node);
+    }
+
+    private double[] parseArguments(String name) {
+        if (!accept(TokenType.LPAREN)) {
+            throw error(name + " 지표에는 괄호와 기간이 필요합니다");
+        }
+        List<Double> values = new ArrayList<>();
+        do {
+            Token token = peek();
+            if (!token.is(TokenType.NUMBER)) {
+                throw error(name + " 지표 인자는 숫자여야 합니다");
+            }
+            position++;
+            values.add(Double.parseDouble(token.text));
+        } while (accept(TokenType.COMMA));
+        expect(TokenType.RPAREN);
+        return values.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    private int period(String name, double[] args, int index, int... allowedCounts) {
+        boolean countOk = false;
+        for (int count : allowedCounts) {
+            countOk |= args.length == count;
+        }
+        if (!countOk) {
+            throw error(name + " 지표 인자 수가 올바르지 않습니다");
+        }
+        double value = args[index];
+        if (value != Math.rint(value) || value <= 0) {
+            throw error(name + " 지표 기간은 양의 정수여야 합니다");
+        }
+        return (int) value;
+    }
+
+    private double sigma(double[] args) {
+        return args.length > 1 ? args[1] : DEFAULT_BOLLINGER_SIGMA;
+    }
+
+    private static SignalRule crossUp(Operand left, Operand right) {
+        return context -> left.previous(context) <= right.previous(context)
+                && left.value(context) > right.value(context);
+    }
+
+    private static Operand constant(double constant) {
+        return new Operand() {
+            @Override
+            public double value(PipelineContext context) {
+                return constant;
+            }
+
+            @Override
+            public double previous(PipelineContext context) {
+                return constant;
+            }
+        };
+    }
+
+    private static Operand indicator(int node) {
+        return new Operand() {
+            @Override
+            public double value(PipelineContext context) {
+                return context.value(node);
+            }
+
+            @Override
+            public double previous(PipelineContext context) {
+                return context.previous(node);
+            }
+        };
+    }
+
+    private Token peek() {
+        return tokens.get(position);
+    }
+
+    private boolean accept(TokenType type) {
+        if (peek().is(type)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean acceptKeyword(String keyword) {
+        Token token = peek();
+        if (token.is(TokenType.IDENT) && token.upper().equals(keyword)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(TokenType type) {
+        if (!accept(type)) {
+            throw error(type.description + "이(가) 필요합니다");
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("전략 규칙식 오류 (위치 " + (peek().offset + 1) + "): " + message + " - " + source);
+    }
+
+    private static List<Token> tokenize(String source) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(') {
+                tokens.add(new Token(TokenType.LPAREN, "(", i++));
+            } else if (c == ')') {
+                tokens.add(new Token(TokenType.RPAREN, ")", i++));
+            } else if (c == ',') {
+                tokens.add(new Token(TokenType.COMMA, ",", i++));
+            } else if (c == '<' || c == '>') {
+                boolean withEquals = i + 1 < source.length() && source.charAt(i + 1) == '=';
+                tokens.add(new Token(TokenType.OPERATOR, withEquals ? c + "=" : String.valueOf(c), i));
+                i += withEquals ? 2 : 1;
+            } else if (Character.isDigit(c) || c == '.' || (c == '-' && i + 1 < source.length() && Character.isDigit(source.charAt(i + 1)))) {
+                int start = i++;
+                while (i < source.length() && (Character.isDigit(source.charAt(i)) || source.charAt(i) == '.')) {
+                    i++;
+                }
+                tokens.add(new Token(TokenType.NUMBER, source.substring(start, i), start));
+            } else if (Character.isLetter(c) || c == '_') {
+                int start = i;
+                while (i < source.length() && (Character.isLetterOrDigit(source.charAt(i)) || source.charAt(i) == '_')) {
+                    i++;
+                }
+                tokens.add(new Token(TokenType.IDENT, source.substring(start, i), start));
+            } else {
+                throw new IllegalArgumentException("전략 규칙식 오류 (위치 " + (i + 1) + "): 알 수 없는 문자 '" + c + "' - " + source);
+            }
+        }
+        tokens.add(new Token(TokenType.END, "<끝>", source.length()));
+        return tokens;
+    }
+
+    /**
+     * 비교/교차 대상 값
+     */
+    private interface Operand {
+        double value(PipelineContext context);
+
+        double previous(PipelineContext context);
+    }
+
+    private enum TokenType {
+        IDENT("식별자"), NUMBER("숫자"), OPERATOR("연산자"), LPAREN("'('"), RPAREN("')'"), COMMA("','"), END("식의 끝");
+
+        private final String description;
+
+        TokenType(String description) {
+            this.description = description;
+        }
+    }
+
+    private static final class Token {
+        private final TokenType type;
+        private final String text;
+        private final int offset;
+
+        Token(TokenType type, String text, int offset) {
+            this.type = type;
+            this.text = text;
+            this.offset = offset;
+        }
+
+        boolean is(TokenType expected) {
+            return type == expected;
+        }
+
+        String upper() {
+            return text.toUpperCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package trade.project.backtest.pipeline;
+
+/**
+ * 매매 규칙 (컴파일된 평가 트리의 노드)
+ */
+@FunctionalInterface
+public interface SignalRule {
+
+    boolean test(PipelineContext context);
+
+    default SignalRule and(SignalRule other) {
+        return context -> test(context) && other.test(context);
+    }
+
+    default SignalRule or(SignalRule other) {
+        return context -> test(context) || other.test(context);
+    }
+
+    default SignalRule negate() {
+        return context -> !test(context);
+    }
+}
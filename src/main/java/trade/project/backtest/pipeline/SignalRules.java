@@ -0,0 +1,113 @@
+package trade.project.backtest.pipeline;
+
+/**
+ * 기본 규칙 생성 유틸리티
+ * 지표 값이 NaN(미준비)이면 비교 결과는 항상 false가 된다.
+ */
+public final class SignalRules {
+
+    private SignalRules() {
+    }
+
+    public static SignalRule never() {
+        return context -> false;
+    }
+
+    public static SignalRule always() {
+        return context -> true;
+    }
+
+    /**
+     * 최소 봉 수 확보 여부
+     */
+    public static SignalRule warmedUp(int bars) {
+        return context -> context.getGraph().getBarCount() >= bars;
+    }
+
+    public static SignalRule hasPosition() {
+        return PipelineContext::hasPosition;
+    }
+
+    public static SignalRule greater(int left, int right) {
+        return context -> context.value(left) > context.value(right);
+    }
+
+    public static SignalRule less(int left, int right) {
+        return context -> context.value(left) < context.value(right);
+    }
+
+    public static SignalRule atMost(int node, double level) {
+        return context -> context.value(node) <= level;
+    }
+
+    public static SignalRule atLeast(int node, double level) {
+        return context -> context.value(node) >= level;
+    }
+
+    /**
+     * left가 right를 상향 돌파
+     */
+    public static SignalRule crossAbove(int left, int right) {
+        return context -> context.previous(left) <= context.previous(right)
+                && context.value(left) > context.value(right);
+    }
+
+    /**
+     * left가 right를 하향 돌파
+     */
+    public static SignalRule crossBelow(int left, int right) {
+        return context -> context.previous(left) >= context.previous(right)
+                && context.value(left) < context.value(right);
+    }
+
+    /**
+     * 지표가 기준값을 상향 돌파
+     */
+    public static SignalRule crossAboveLevel(int node, double level) {
+        return context -> context.previous(node) <= level && context.value(node) > level;
+    }
+
+    /**
+     * 지표가 기준값을 하향 돌파
+     */
+    public static SignalRule crossBelowLevel(int node, double level) {
+        return context -> context.previous(node) >= level && context.value(node) < level;
+    }
+
+    public static SignalRule priceAbove(int node) {
+        return context -> context.getPrice() > context.value(node);
+    }
+
+    public static SignalRule priceBelow(int node) {
+        return context -> context.getPrice() < context.value(node);
+    }
+
+    public static SignalRule priceAtMost(int node) {
+        return context -> context.getPrice() <= context.value(node);
+    }
+
+    public static SignalRule priceAtLeast(int node) {
+        return context -> context.getPrice() >= context.value(node);
+    }
+
+    /**
+     * 수익률이 목표(%) 이상 (보유 시)
+     */
+    public static SignalRule profitAtLeast(double percent) {
+        return context -> context.hasPosition() && context.profitRate() >= percent;
+    }
+
+    /**
+     * 손실률이 기준(%) 이상 (보유 시)
+     */
+    public static SignalRule lossAtLeast(double percent) {
+        return context -> context.hasPosition() && context.profitRate() <= -percent;
+    }
+
+    /**
+     * 직전 관측가 대비 하락률이 기준(%) 이상
+     */
+    public static SignalRule dropAtLeast(double percent) {
+        return context -> context.dropFromReference() >= percent;
+    }
+}
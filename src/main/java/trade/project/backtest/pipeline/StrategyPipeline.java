@@ -0,0 +1,223 @@
+package trade.project.backtest.pipeline;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 컴파일된 전략 파이프라인 (지표 그래프 정의 + 매매 규칙)
+ * 불변 객체로 여러 엔진/스레드에서 공유하며, 상태는 {@link #newGraph()}로 만든 그래프가 가진다.
+ */
+public class StrategyPipeline {
+
+    public static final String BUY = "BUY";
+    public static final String SELL = "SELL";
+    public static final String HOLD = "HOLD";
+
+    private final String name;
+    private final List<Function<Indicator[], Indicator>> factories;
+    private final Map<String, Integer> nodeIndex;
+    private final SignalRule buyRule;
+    private final SignalRule sellRule;
+    private final int lookbackBars;
+
+    private StrategyPipeline(Builder builder, String name) {
+        this.name = name;
+        this.factories = List.copyOf(builder.factories);
+        this.nodeIndex = Collections.unmodifiableMap(new HashMap<>(builder.nodeIndex));
+        this.buyRule = builder.buyRule;
+        this.sellRule = builder.sellRule;
+        this.lookbackBars = builder.lookbackBars;
+    }
+
+    /**
+     * 새 지표 상태 생성
+     */
+    public IndicatorGraph newGraph() {
+        Indicator[] nodes = new Indicator[factories.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = factories.get(i).apply(nodes);
+        }
+        return new IndicatorGraph(nodes);
+    }
+
+    /**
+     * 매매 신호 평가 (BUY 우선)
+     */
+    public String evaluate(PipelineContext context) {
+        if (buyRule.test(context)) return BUY;
+        if (sellRule.test(context)) return SELL;
+        return HOLD;
+    }
+
+    /**
+     * 지표 키로 노드 번호 조회 (없으면 -1)
+     */
+    public int nodeIndex(String key) {
+        Integer index = nodeIndex.get(key);
+        return index != null ? index : -1;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getNodeCount() {
+        return factories.size();
+    }
+
+    /**
+     * 모든 지표가 첫 값을 내는 데 필요한 봉 수 (가장 긴 지표 기간 기준)
+     */
+    public int getLookbackBars() {
+        return lookbackBars;
+    }
+
+    // 지표 키 (같은 키는 한 노드로 공유)
+    static String smaKey(int period) {
+        return "SMA:" + period;
+    }
+
+    static String emaKey(int period) {
+        return "EMA:" + period;
+    }
+
+    static String wilderRsiKey(int period) {
+        return "RSI:" + period;
+    }
+
+    static String simpleRsiKey(int period) {
+        return "SIMPLE_RSI:" + period;
+    }
+
+    static String macdKey(int fastPeriod, int slowPeriod) {
+        return "MACD:" + fastPeriod + ":" + slowPeriod;
+    }
+
+    static String macdSignalKey(int fastPeriod, int slowPeriod, int signalPeriod) {
+        return "MACD_SIGNAL:" + fastPeriod + ":" + slowPeriod + ":" + signalPeriod;
+    }
+
+    static String bollingerKey(String band, int period, double sigma, boolean sample) {
+        return band + ":" + period + ":" + sigma + ":" + sample;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 파이프라인 빌더
+     * 같은 키의 지표는 한 번만 등록되어 여러 규칙이 공유한다.
+     */
+    public static final class Builder {
+        private final List<Function<Indicator[], Indicator>> factories = new ArrayList<>();
+        private final Map<String, Integer> nodeIndex = new HashMap<>();
+        private SignalRule buyRule = SignalRules.never();
+        private SignalRule sellRule = SignalRules.never();
+        private int lookbackBars;
+
+        private Builder() {
+        }
+
+        // bars: 해당 지표가 첫 값을 내는 데 필요한 봉 수
+        private int node(String key, int bars, Function<Indicator[], Indicator> factory) {
+            lookbackBars = Math.max(lookbackBars, bars);
+            Integer existing = nodeIndex.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            int index = factories.size();
+            factories.add(factory);
+            nodeIndex.put(key, index);
+            return index;
+        }
+
+        public int sma(int period) {
+            requirePositive(period, "SMA");
+            return node(smaKey(period), period, nodes -> new IndicatorNodes.Sma(period));
+        }
+
+        public int ema(int period) {
+            requirePositive(period, "EMA");
+            return node(emaKey(period), period, nodes -> new IndicatorNodes.Ema(period, null));
+        }
+
+        public int wilderRsi(int period) {
+            requirePositive(period, "RSI");
+            return node(wilderRsiKey(period), period + 1, nodes -> new IndicatorNodes.WilderRsi(period));
+        }
+
+        public int simpleRsi(int period) {
+            requirePositive(period, "RSI");
+            return node(simpleRsiKey(period), period + 1, nodes -> new IndicatorNodes.SimpleRsi(period));
+        }
+
+        public int macd(int fastPeriod, int slowPeriod) {
+            int fast = ema(fastPeriod);
+            int slow = ema(slowPeriod);
+            return node(macdKey(fastPeriod, slowPeriod), Math.max(fastPeriod, slowPeriod),
+                    nodes -> new IndicatorNodes.Difference(nodes[fast], nodes[slow]));
+        }
+
+        public int macdSignal(int fastPeriod, int slowPeriod, int signalPeriod) {
+            requirePositive(signalPeriod, "MACD_SIGNAL");
+            int macd = macd(fastPeriod, slowPeriod);
+            return node(macdSignalKey(fastPeriod, slowPeriod, signalPeriod),
+                    Math.max(fastPeriod, slowPeriod) + signalPeriod - 1,
+                    nodes -> new IndicatorNodes.Ema(signalPeriod, nodes[macd]));
+        }
+
+        public int stdDev(int period, boolean sample) {
+            requirePositive(period, "STDDEV");
+            return node("STDDEV:" + period + ":" + sample, period, nodes -> new IndicatorNodes.StdDev(period, sample));
+        }
+
+        public int bollingerUpper(int period, double sigma, boolean sample) {
+            int center = sma(period);
+            int deviation = stdDev(period, sample);
+            return node(bollingerKey("BB_UPPER", period, sigma, sample), period,
+                    nodes -> new IndicatorNodes.BandOffset(nodes[center], nodes[deviation], sigma));
+        }
+
+        public int bollingerLower(int period, double sigma, boolean sample) {
+            int center = sma(period);
+            int deviation = stdDev(period, sample);
+            return node(bollingerKey("BB_LOWER", period, sigma, sample), period,
+                    nodes -> new IndicatorNodes.BandOffset(nodes[center], nodes[deviation], -sigma));
+        }
+
+        public int highest(int period) {
+            requirePositive(period, "HIGHEST");
+            return node("HIGHEST:" + period, period, nodes -> new IndicatorNodes.RollingExtreme(period, true));
+        }
+
+        public int lowest(int period) {
+            requirePositive(period, "LOWEST");
+            return node("LOWEST:" + period, period, nodes -> new IndicatorNodes.RollingExtreme(period, false));
+        }
+
+        public Builder buy(SignalRule rule) {
+            this.buyRule = rule;
+            return this;
+        }
+
+        public Builder sell(SignalRule rule) {
+            this.sellRule = rule;
+            return this;
+        }
+
+        public StrategyPipeline build(String name) {
+            return new StrategyPipeline(this, name);
+        }
+
+        private static void requirePositive(int period, String indicator) {
+            if (period <= 0) {
+                throw new IllegalArgumentException(indicator + " 기간은 0보다 커야 합니다: " + period);
+            }
+        }
+    }
+}
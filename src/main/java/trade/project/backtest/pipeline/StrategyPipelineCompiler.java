@@ -0,0 +1,159 @@
+package trade.project.backtest.pipeline;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static trade.project.backtest.pipeline.SignalRules.*;
+
+/**
+ * 전략 정의를 지표 그래프 + 규칙으로 컴파일
+ * 같은 정의는 캐시된 파이프라인을 재사용하므로 실시간/백테스트 엔진이 동일한 규칙 객체를 공유한다.
+ */
+@Slf4j
+public final class StrategyPipelineCompiler {
+
+    private static final int MAX_CACHE_SIZE = 256;
+    private static final double TRAILING_STOP_PERCENT = 3.0; // 자동매매 엔진 기본 트레일링 스탑
+
+    // 최근 사용 순 LRU: 파라미터 탐색으로 정의가 늘어나도 자주 쓰는 실시간 전략 파이프라인은 남음
+    private static final Map<PipelineSpec, StrategyPipeline> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<PipelineSpec, StrategyPipeline> eldest) {
+            return size() > MAX_CACHE_SIZE;
+        }
+    };
+
+    private StrategyPipelineCompiler() {
+    }
+
+    /**
+     * 파이프라인 컴파일 (캐시 사용)
+     */
+    public static StrategyPipeline compile(PipelineSpec spec) {
+        if (spec == null || spec.getType() == null) {
+            throw new IllegalArgumentException("파이프라인 정의가 없습니다");
+        }
+        synchronized (CACHE) {
+            StrategyPipeline cached = CACHE.get(spec);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        // 정의 객체가 이후 변경되어도 캐시 키가 깨지지 않도록 복사본을 키로 사용
+        PipelineSpec key = spec.toBuilder().build();
+        StrategyPipeline compiled = doCompile(key);
+        synchronized (CACHE) {
+            StrategyPipeline existing = CACHE.putIfAbsent(key, compiled);
+            return existing != null ? existing : compiled;
+        }
+    }
+
+    private static StrategyPipeline doCompile(PipelineSpec spec) {
+        StrategyPipeline.Builder builder = StrategyPipeline.builder();
+        switch (spec.getType()) {
+            case MULTI_FACTOR -> compileMultiFactor(builder, spec);
+            case SMA_CROSS -> compileSmaCross(builder, spec);
+            case RSI_REVERSAL -> compileRsiReversal(builder, spec);
+            case MACD_CROSS -> compileMacdCross(builder, spec);
+            case DSL -> compileDsl(builder, spec);
+            case NONE -> { }
+        }
+        if (spec.isReportIndicators()) {
+            ReportIndicators.register(builder, spec);
+        }
+        log.debug("전략 파이프라인 컴파일: {}", spec);
+        return builder.build(spec.getType().name());
+    }
+
+    /**
+     * 다중 지표 조합 (RSI, MACD, 이동평균, 볼린저밴드, 고가/저가) + 익절/손절/트레일링 스탑
+     */
+    private static void compileMultiFactor(StrategyPipeline.Builder builder, PipelineSpec spec) {
+        int rsi = builder.wilderRsi(spec.getRsiPeriod());
+        int macd = builder.macd(spec.getMacdFastPeriod(), spec.getMacdSlowPeriod());
+        int signal = builder.macdSignal(spec.getMacdFastPeriod(), spec.getMacdSlowPeriod(), spec.getMacdSignalPeriod());
+        int smaShort = builder.sma(spec.getSmaShortPeriod());
+        int smaLong = builder.sma(spec.getSmaLongPeriod());
+        int bbUpper = builder.bollingerUpper(spec.getBollingerPeriod(), spec.getBollingerSigma(), true);
+        int bbLower = builder.bollingerLower(spec.getBollingerPeriod(), spec.getBollingerSigma(), true);
+        int highest = builder.highest(spec.getExtremePeriod());
+        int lowest = builder.lowest(spec.getExtremePeriod());
+
+        SignalRule ready = warmedUp(spec.getMinHistory());
+        SignalRule buy = ready
+                .and(atMost(rsi, spec.getRsiOversold()))
+                .and(greater(macd, signal))
+                .and(greater(smaShort, smaLong))
+                .and(priceAtMost(bbLower))
+                .and(priceAtMost(lowest));
+        SignalRule indicatorSell = ready
+                .and(atLeast(rsi, spec.getRsiOverbought()))
+                .and(less(macd, signal))
+                .and(less(smaShort, smaLong))
+                .and(priceAtLeast(bbUpper))
+                .and(priceAtLeast(highest));
+        double trailingStop = Double.isNaN(spec.getTrailingStop()) ? TRAILING_STOP_PERCENT : spec.getTrailingStop();
+        SignalRule sell = hasPosition().and(indicatorSell
+                .or(profitAtLeast(spec.getProfitTarget()))
+                .or(lossAtLeast(spec.getStopLoss()))
+                .or(dropAtLeast(trailingStop)));
+        builder.buy(buy).sell(sell);
+    }
+
+    /**
+     * 이동평균 골든/데드 크로스 (추세 지속 포함)
+     */
+    private static void compileSmaCross(StrategyPipeline.Builder builder, PipelineSpec spec) {
+        int smaShort = builder.sma(spec.getSmaShortPeriod());
+        int smaLong = builder.sma(spec.getSmaLongPeriod());
+        builder.buy(crossAbove(smaShort, smaLong).or(greater(smaShort, smaLong).and(priceAbove(smaShort))))
+                .sell(crossBelow(smaShort, smaLong).or(less(smaShort, smaLong).and(priceBelow(smaShort))));
+    }
+
+    /**
+     * RSI 과매도 탈출/과매수 이탈
+     */
+    private static void compileRsiReversal(StrategyPipeline.Builder builder, PipelineSpec spec) {
+        int rsi = builder.simpleRsi(spec.getRsiPeriod());
+        SignalRule reboundUp = crossAboveLevel(rsi, spec.getRsiOversold());
+        SignalRule reboundDown = crossBelowLevel(rsi, spec.getRsiOverbought());
+        // 반등/하락 전환 신호가 구간 신호보다 우선
+        builder.buy(reboundUp.or(reboundDown.negate().and(atMost(rsi, spec.getRsiOversold()))))
+                .sell(reboundDown.or(atLeast(rsi, spec.getRsiOverbought())));
+    }
+
+    /**
+     * MACD 라인과 시그널 라인 교차
+     */
+    private static void compileMacdCross(StrategyPipeline.Builder builder, PipelineSpec spec) {
+        int macd = builder.macd(spec.getMacdFastPeriod(), spec.getMacdSlowPeriod());
+        int signal = builder.macdSignal(spec.getMacdFastPeriod(), spec.getMacdSlowPeriod(), spec.getMacdSignalPeriod());
+        builder.buy(crossAbove(macd, signal)).sell(crossBelow(macd, signal));
+    }
+
+    /**
+     * 사용자 정의 규칙식 + 설정된 익절/손절/트레일링 스탑
+     */
+    private static void compileDsl(StrategyPipeline.Builder builder, PipelineSpec spec) {
+        SignalRule buy = RuleExpressionParser.parse(spec.getBuyExpression(), builder);
+        SignalRule sell = spec.getSellExpression() == null || spec.getSellExpression().isBlank()
+                ? never()
+                : RuleExpressionParser.parse(spec.getSellExpression(), builder);
+        if (spec.getMinHistory() > 0) {
+            buy = warmedUp(spec.getMinHistory()).and(buy);
+        }
+        SignalRule risk = never();
+        if (!Double.isNaN(spec.getProfitTarget())) {
+            risk = risk.or(profitAtLeast(spec.getProfitTarget()));
+        }
+        if (!Double.isNaN(spec.getStopLoss())) {
+            risk = risk.or(lossAtLeast(spec.getStopLoss()));
+        }
+        if (!Double.isNaN(spec.getTrailingStop())) {
+            risk = risk.or(hasPosition().and(dropAtLeast(spec.getTrailingStop())));
+        }
+        builder.buy(buy).sell(sell.or(risk));
+    }
+}
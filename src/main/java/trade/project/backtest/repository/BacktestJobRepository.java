@@ -0,0 +1,9 @@
+package trade.project.backtest.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+import trade.project.backtest.document.BacktestJobRecord;
+
+@Repository
+public interface BacktestJobRepository extends MongoRepository<BacktestJobRecord, String> {
+}
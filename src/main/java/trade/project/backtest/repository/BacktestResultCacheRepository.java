@@ -0,0 +1,19 @@
+package trade.project.backtest.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+import trade.project.backtest.document.BacktestResultCacheRecord;
+
+@Repository
+public interface BacktestResultCacheRepository extends MongoRepository<BacktestResultCacheRecord, String> {
+    
+    /**
+     * 종목의 캐시 전체 삭제
+     */
+    void deleteByStockCode(String stockCode);
+    
+    /**
+     * 종목의 진행 중 구간 캐시 삭제 (새 봉 도착 시)
+     */
+    void deleteByStockCodeAndOpenRangeTrue(String stockCode);
+}
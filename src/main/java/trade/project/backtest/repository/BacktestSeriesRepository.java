@@ -0,0 +1,9 @@
+package trade.project.backtest.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import trade.project.backtest.entity.BacktestSeries;
+
+@Repository
+public interface BacktestSeriesRepository extends JpaRepository<BacktestSeries, Long> {
+}
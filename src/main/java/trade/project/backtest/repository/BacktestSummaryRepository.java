@@ -0,0 +1,22 @@
+package trade.project.backtest.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import trade.project.backtest.entity.BacktestSummary;
+
+import java.util.List;
+
+@Repository
+public interface BacktestSummaryRepository extends JpaRepository<BacktestSummary, Long> {
+    
+    /**
+     * 종목별 결과 요약 조회 (최신순)
+     */
+    List<BacktestSummary> findByStockCodeOrderByCreatedAtDesc(String stockCode, Pageable pageable);
+    
+    /**
+     * 전체 결과 요약 조회 (최신순)
+     */
+    List<BacktestSummary> findAllByOrderByCreatedAtDesc(Pageable pageable);
+}
@@ -0,0 +1,9 @@
+package trade.project.backtest.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+import trade.project.backtest.document.DailyPriceCheckpoint;
+
+@Repository
+public interface DailyPriceCheckpointRepository extends MongoRepository<DailyPriceCheckpoint, String> {
+}
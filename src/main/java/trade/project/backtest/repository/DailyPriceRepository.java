@@ -0,0 +1,17 @@
+package trade.project.backtest.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+import trade.project.backtest.document.DailyPrice;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyPriceRepository extends MongoRepository<DailyPrice, String> {
+    
+    /**
+     * 종목/기간별 일봉 (날짜순)
+     */
+    List<DailyPrice> findByStockCodeAndDateBetweenOrderByDateAsc(String stockCode, LocalDate startDate, LocalDate endDate);
+}
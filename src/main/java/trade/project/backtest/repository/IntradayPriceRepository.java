@@ -0,0 +1,23 @@
+package trade.project.backtest.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+import trade.project.backtest.document.IntradayPrice;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+@Repository
+public interface IntradayPriceRepository extends MongoRepository<IntradayPrice, String> {
+    
+    /**
+     * 분봉 백트래킹용: 종목/기간별 시세를 시간순으로 스트리밍 (커서 기반)
+     */
+    Stream<IntradayPrice> streamByStockCodeAndTimestampBetweenOrderByTimestampAsc(
+            String stockCode, LocalDateTime startDateTime, LocalDateTime endDateTime);
+    
+    /**
+     * 종목/기간별 시세 개수
+     */
+    long countByStockCodeAndTimestampBetween(String stockCode, LocalDateTime startDateTime, LocalDateTime endDateTime);
+}
@@ -0,0 +1,237 @@
+package trade.project.backtest.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import trade.project.backtest.dto.BackTestRequest;
+import trade.project.backtest.dto.BackTestResult;
+import trade.project.backtest.dto.BacktestJobProgress;
+import trade.project.backtest.dto.BacktestJobStatus;
+import trade.project.backtest.engine.BacktestProgressListener;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 비동기 백트래킹 작업 상태
+ * 진행 이벤트는 최소 간격으로 묶어서 보내고, 각 이벤트에는 직전 이벤트 이후의 스냅샷만 담는다.
+ * 상태 변경/전송은 작업 단위로 동기화해 늦게 구독한 클라이언트도 스냅샷을 빠짐없이 한 번씩 받는다.
+ */
+@Slf4j
+class BacktestJob implements Runnable, Comparable<BacktestJob>, BacktestProgressListener {
+
+    private static final long PROGRESS_INTERVAL_MILLIS = 250;
+
+    private final String jobId;
+    private final long sequence;
+    private final BackTestRequest request;
+    private final BacktestJobStatus.Priority priority;
+    private final BacktestJobService service;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final List<BackTestResult.PortfolioSnapshot> equity = new ArrayList<>();
+
+    private volatile BacktestJobStatus.State state = BacktestJobStatus.State.QUEUED;
+    private volatile boolean cancelRequested;
+    private volatile int processedBars;
+    private volatile int totalBars;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private BackTestResult result;
+    private String errorMessage;
+    private int sentEquityCount;
+    private long lastSentMillis;
+
+    BacktestJob(String jobId, long sequence, BackTestRequest request, BacktestJobStatus.Priority priority,
+                BacktestJobService service) {
+        this.jobId = jobId;
+        this.sequence = sequence;
+        this.request = request;
+        this.priority = priority;
+        this.service = service;
+    }
+
+    @Override
+    public void run() {
+        synchronized (this) {
+            if (state != BacktestJobStatus.State.QUEUED) {
+                return; // 대기 중 취소됨
+            }
+            state = BacktestJobStatus.State.RUNNING;
+            startedAt = LocalDateTime.now();
+            publish(true);
+        }
+
+        try {
+            BackTestResult completed = service.execute(this);
+            finish(cancelRequested ? BacktestJobStatus.State.CANCELLED : BacktestJobStatus.State.COMPLETED,
+                    cancelRequested ? null : completed, null);
+        } catch (RuntimeException e) {
+            if (cancelRequested) {
+                finish(BacktestJobStatus.State.CANCELLED, null, null);
+            } else {
+                log.warn("백트래킹 작업 실패: {} - {}", jobId, e.getMessage());
+                finish(BacktestJobStatus.State.FAILED, null, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void onProgress(int processedBars, int totalBars, BackTestResult.PortfolioSnapshot snapshot) {
+        this.processedBars = processedBars;
+        this.totalBars = totalBars;
+        synchronized (this) {
+            if (snapshot != null) {
+                equity.add(snapshot);
+            }
+            long now = System.currentTimeMillis();
+            if (now - lastSentMillis >= PROGRESS_INTERVAL_MILLIS) {
+                publish(false);
+            }
+        }
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelRequested;
+    }
+
+    /**
+     * 취소 요청 (대기 중이면 즉시 취소, 실행 중이면 엔진이 다음 봉에서 중단)
+     * @return 대기 중 바로 취소되었으면 true
+     */
+    boolean cancel() {
+        synchronized (this) {
+            if (state.isFinished()) {
+                throw new IllegalArgumentException("이미 종료된 작업입니다: " + jobId);
+            }
+            cancelRequested = true;
+            if (state != BacktestJobStatus.State.QUEUED) {
+                return false;
+            }
+        }
+        finish(BacktestJobStatus.State.CANCELLED, null, null);
+        return true;
+    }
+
+    /**
+     * SSE 구독 (그동안 전송된 스냅샷 전체를 먼저 보내고, 이미 끝난 작업이면 바로 종료)
+     */
+    synchronized void subscribe(SseEmitter emitter) {
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(error -> emitters.remove(emitter));
+        BacktestJobProgress initial = BacktestJobProgress.builder()
+                .status(status())
+                .equity(List.copyOf(equity.subList(0, sentEquityCount)))
+                .build();
+        if (!send(emitter, eventName(), initial)) {
+            return;
+        }
+        if (state.isFinished()) {
+            emitter.complete();
+        } else {
+            emitters.add(emitter);
+        }
+    }
+
+    synchronized BacktestJobStatus status() {
+        int total = totalBars;
+        int processed = processedBars;
+        return BacktestJobStatus.builder()
+                .jobId(jobId)
+                .state(state)
+                .priority(priority)
+                .stockCode(request.getStockCode())
+                .strategy(request.getStrategy())
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .processedBars(processed)
+                .totalBars(total)
+                .progressPercent(state == BacktestJobStatus.State.COMPLETED ? BigDecimal.valueOf(100)
+                        : total > 0 ? BigDecimal.valueOf(processed * 100L).divide(BigDecimal.valueOf(total), 2, RoundingMode.HALF_UP)
+                        : BigDecimal.ZERO)
+                .totalReturnPercent(result != null ? result.getTotalReturnPercent() : null)
+                .totalTrades(result != null ? result.getTotalTrades() : null)
+                .errorMessage(errorMessage)
+                .submittedAt(submittedAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+
+    String getJobId() {
+        return jobId;
+    }
+
+    BackTestRequest getRequest() {
+        return request;
+    }
+
+    synchronized BackTestResult getResult() {
+        return result;
+    }
+
+    BacktestJobStatus.State getState() {
+        return state;
+    }
+
+    @Override
+    public int compareTo(BacktestJob other) {
+        int byPriority = other.priority.compareTo(priority);
+        return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+    }
+
+    private void finish(BacktestJobStatus.State finalState, BackTestResult finalResult, String error) {
+        synchronized (this) {
+            state = finalState;
+            result = finalResult;
+            errorMessage = error;
+            finishedAt = LocalDateTime.now();
+            publish(true);
+            emitters.forEach(SseEmitter::complete);
+            emitters.clear();
+        }
+        service.onFinished(this);
+    }
+
+    /**
+     * 구독자에게 진행 이벤트 전송 (호출자가 this 잠금 보유)
+     */
+    private void publish(boolean force) {
+        if (emitters.isEmpty() && !force) {
+            return;
+        }
+        BacktestJobProgress progress = BacktestJobProgress.builder()
+                .status(status())
+                .equity(List.copyOf(equity.subList(sentEquityCount, equity.size())))
+                .build();
+        sentEquityCount = equity.size();
+        lastSentMillis = System.currentTimeMillis();
+        String name = eventName();
+        for (SseEmitter emitter : emitters) {
+            if (!send(emitter, name, progress)) {
+                emitters.remove(emitter);
+            }
+        }
+    }
+
+    private String eventName() {
+        return state.isFinished() ? state.name().toLowerCase() : "progress";
+    }
+
+    private boolean send(SseEmitter emitter, String name, BacktestJobProgress progress) {
+        try {
+            emitter.send(SseEmitter.event().name(name).id(jobId + "-" + sentEquityCount).data(progress));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패 (구독 해제): {} - {}", jobId, e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package trade.project.backtest.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import trade.project.backtest.document.BacktestJobRecord;
+import trade.project.backtest.dto.BackTestRequest;
+import trade.project.backtest.dto.BackTestResult;
+import trade.project.backtest.dto.BacktestJobProgress;
+import trade.project.backtest.dto.BacktestJobStatus;
+import trade.project.backtest.repository.BacktestJobRepository;
+import trade.project.common.dto.ApiResponse;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비동기 백트래킹 작업 관리
+ * 제출된 작업은 우선순위 큐를 가진 고정 크기 작업 풀에서 실행되고,
+ * 종료된 작업은 결과와 함께 MongoDB에 저장된다. (메모리에는 최근 작업만 유지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BacktestJobService {
+
+    private static final int WORKER_COUNT = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+    private static final int MAX_QUEUED_JOBS = 100;
+    private static final int MAX_RETAINED_JOBS = 200;
+    private static final long SSE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+    private final BacktestService backtestService;
+    private final BacktestJobRepository backtestJobRepository;
+
+    private final Map<String, BacktestJob> jobs = new ConcurrentHashMap<>();
+    private final Queue<String> finishedJobIds = new ConcurrentLinkedQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ThreadPoolExecutor executor = createExecutor();
+
+    /**
+     * 백트래킹 작업을 제출합니다.
+     * @param request 백트래킹 요청
+     * @param priority 우선순위
+     * @return 작업 상태 (작업 ID 포함)
+     */
+    public BacktestJobStatus submit(BackTestRequest request, BacktestJobStatus.Priority priority) {
+        if (request == null) {
+            throw new IllegalArgumentException("백트래킹 요청이 null입니다");
+        }
+        backtestService.validateRequest(request);
+        if (executor.getQueue().size() >= MAX_QUEUED_JOBS) {
+            throw new IllegalStateException("대기 중인 백트래킹 작업이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        BacktestJob job = new BacktestJob(UUID.randomUUID().toString(), sequence.incrementAndGet(),
+                request, priority != null ? priority : BacktestJobStatus.Priority.NORMAL, this);
+        jobs.put(job.getJobId(), job);
+        executor.execute(job); // 우선순위 큐 정렬을 위해 submit 대신 execute 사용
+        log.info("백트래킹 작업 제출: {} ({}, {})", job.getJobId(), request.getStockCode(), priority);
+        return job.status();
+    }
+
+    /**
+     * 작업 상태를 조회합니다. (메모리에 없으면 저장된 기록 조회)
+     */
+    public BacktestJobStatus getStatus(String jobId) {
+        BacktestJob job = jobs.get(jobId);
+        if (job != null) {
+            return job.status();
+        }
+        return findRecord(jobId).getStatus();
+    }
+
+    /**
+     * 진행 중이거나 최근 종료된 작업 목록 (제출 순)
+     */
+    public List<BacktestJobStatus> getJobs() {
+        return jobs.values().stream()
+                .map(BacktestJob::status)
+                .sorted(Comparator.comparing(BacktestJobStatus::getSubmittedAt))
+                .toList();
+    }
+
+    /**
+     * 완료된 작업의 결과를 조회합니다.
+     */
+    public BackTestResult getResult(String jobId) {
+        BacktestJob job = jobs.get(jobId);
+        BacktestJobStatus status = job != null ? job.status() : findRecord(jobId).getStatus();
+        if (status.getState() != BacktestJobStatus.State.COMPLETED) {
+            throw new IllegalStateException("완료되지 않은 작업입니다: " + jobId + " (" + status.getState() + ")");
+        }
+        return job != null ? job.getResult() : findRecord(jobId).getResult();
+    }
+
+    /**
+     * 작업을 취소합니다.
+     */
+    public BacktestJobStatus cancel(String jobId) {
+        BacktestJob job = jobs.get(jobId);
+        if (job == null) {
+            findRecord(jobId);
+            throw new IllegalArgumentException("이미 종료된 작업입니다: " + jobId);
+        }
+        if (job.cancel()) {
+            executor.remove(job);
+        }
+        log.info("백트래킹 작업 취소 요청: {}", jobId);
+        return job.status();
+    }
+
+    /**
+     * 작업 진행 이벤트를 구독합니다. (SSE)
+     */
+    public SseEmitter subscribe(String jobId) {
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MILLIS);
+        BacktestJob job = jobs.get(jobId);
+        if (job != null) {
+            job.subscribe(emitter);
+            return emitter;
+        }
+
+        // 저장된 작업은 최종 상태만 보내고 종료
+        try {
+            Optional<BacktestJobRecord> record = backtestJobRepository.findById(jobId);
+            if (record.isPresent()) {
+                BacktestJobStatus status = record.get().getStatus();
+                emitter.send(SseEmitter.event()
+                        .name(status.getState().name().toLowerCase())
+                        .data(BacktestJobProgress.builder().status(status).equity(List.of()).build()));
+            } else {
+                emitter.send(SseEmitter.event()
+                        .name("error")
+                        .data(ApiResponse.error("JOB_NOT_FOUND", "작업을 찾을 수 없습니다: " + jobId)));
+            }
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 작업 스레드에서 백트래킹 실행
+     */
+    BackTestResult execute(BacktestJob job) {
+        return backtestService.runBacktest(job.getRequest(), job);
+    }
+
+    /**
+     * 종료된 작업 저장 및 오래된 작업 정리
+     */
+    void onFinished(BacktestJob job) {
+        BacktestJobStatus status = job.status();
+        log.info("백트래킹 작업 종료: {} ({})", job.getJobId(), status.getState());
+        try {
+            backtestJobRepository.save(BacktestJobRecord.builder()
+                    .jobId(job.getJobId())
+                    .status(status)
+                    .result(job.getResult())
+                    .finishedAt(status.getFinishedAt())
+                    .build());
+        } catch (Exception e) {
+            log.error("백트래킹 작업 결과 저장 실패: {} - {}", job.getJobId(), e.getMessage(), e);
+            return; // 저장에 실패한 작업은 메모리에서 제거하지 않음
+        }
+
+        finishedJobIds.add(job.getJobId());
+        while (finishedJobIds.size() > MAX_RETAINED_JOBS) {
+            String oldest = finishedJobIds.poll();
+            if (oldest != null) {
+                jobs.remove(oldest);
+            }
+        }
+    }
+
+    private BacktestJobRecord findRecord(String jobId) {
+        Optional<BacktestJobRecord> record = backtestJobRepository.findById(jobId);
+        return record.orElseThrow(() -> new IllegalArgumentException("작업을 찾을 수 없습니다: " + jobId));
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(WORKER_COUNT, WORKER_COUNT, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "backtest-job-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
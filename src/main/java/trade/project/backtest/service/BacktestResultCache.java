@@ -0,0 +1,299 @@
+package trade.project.backtest.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import trade.project.backtest.document.BacktestResultCacheRecord;
+import trade.project.backtest.dto.BackTestRequest;
+import trade.project.backtest.dto.BackTestResult;
+import trade.project.backtest.repository.BacktestResultCacheRepository;
+import trade.project.backtest.strategy.PipelineTradingStrategy;
+import trade.project.backtest.strategy.StrategyFactory;
+import trade.project.backtest.strategy.TradingStrategy;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 백트래킹 결과 캐시 (메모리 LRU + MongoDB)
+ * 키는 기본값이 적용된 요청과 전략 정의를 정규화한 문자열의 SHA-256 해시이고,
+ * 데이터 버전은 계산에 사용한 마지막 봉 일자다.
+ * 종료일이 지난 구간은 봉이 바뀌지 않으므로 만료 시각(30일)까지 유효하고,
+ * 종료일이 오늘 이후인 구간은 같은 종목의 새 봉이 관측되거나 유효 시간이 지나면 무효가 된다.
+ * 거래/일별 기록이 많아 MongoDB 문서 크기 한도(16MB)를 넘을 수 있는 결과는 메모리에만 캐시한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BacktestResultCache {
+
+    private static final String KEY_VERSION = "v2";
+    private static final int MAX_MEMORY_ENTRIES = 500;
+    private static final Duration OPEN_RANGE_TTL = Duration.ofMinutes(5);
+    private static final Duration CLOSED_RANGE_TTL = Duration.ofDays(30);
+    // 거래 + 일별 포트폴리오 기록 수 상한 (기록당 약 300바이트, 문서 한도 16MB의 절반 이하로 유지)
+    static final int MAX_PERSISTED_ROWS = 25_000;
+
+    private final BacktestResultCacheRepository backtestResultCacheRepository;
+    private final StrategyFactory strategyFactory;
+
+    private final Map<String, BacktestResultCacheRecord> memory = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, BacktestResultCacheRecord> eldest) {
+            return size() > MAX_MEMORY_ENTRIES;
+        }
+    };
+    private final Map<String, LocalDate> latestBarDates = new ConcurrentHashMap<>();
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong persistentHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * 캐시 키 계산 (기본값이 적용된 요청 기준)
+     * @param request 기본값이 적용된 백트래킹 요청
+     * @return SHA-256 16진 문자열
+     */
+    public String keyOf(BackTestRequest request) {
+        TradingStrategy strategy = strategyFactory.getStrategy(request.getStrategy());
+        // 사용자 전략은 같은 이름으로 다시 등록될 수 있으므로 규칙 정의까지 키에 포함
+        String strategyDefinition = strategy instanceof PipelineTradingStrategy pipelineStrategy
+                ? pipelineStrategy.getPipelineSpec(request).toString()
+                : strategy != null ? strategy.getClass().getName() : "";
+
+        StringBuilder canonical = new StringBuilder(KEY_VERSION);
+        append(canonical, "stockCode", request.getStockCode());
+        append(canonical, "startDate", request.getStartDate());
+        append(canonical, "endDate", request.getEndDate());
+        append(canonical, "initialCapital", request.getInitialCapital());
+        append(canonical, "commission", request.getCommission());
+        append(canonical, "strategy", request.getStrategy() != null ? request.getStrategy().toUpperCase() : null);
+        append(canonical, "strategyDefinition", strategyDefinition);
+        append(canonical, "shortPeriod", request.getShortPeriod());
+        append(canonical, "longPeriod", request.getLongPeriod());
+        append(canonical, "rsiPeriod", request.getRsiPeriod());
+        append(canonical, "rsiOverbought", request.getRsiOverbought());
+        append(canonical, "rsiOversold", request.getRsiOversold());
+        append(canonical, "macdFastPeriod", request.getMacdFastPeriod());
+        append(canonical, "macdSlowPeriod", request.getMacdSlowPeriod());
+        append(canonical, "macdSignalPeriod", request.getMacdSignalPeriod());
+        append(canonical, "stopLoss", request.getStopLoss());
+        append(canonical, "takeProfit", request.getTakeProfit());
+        append(canonical, "maxPositionSize", request.getMaxPositionSize());
+        append(canonical, "minTradeAmount", request.getMinTradeAmount());
+        append(canonical, "reinvestDividends", request.getReinvestDividends());
+        append(canonical, "includeTax", request.getIncludeTax());
+        append(canonical, "fillTiming", request.getFillTiming());
+        append(canonical, "commissionTiers", canonicalTiers(request.getCommissionTiers()));
+        append(canonical, "minimumCommission", request.getMinimumCommission());
+        append(canonical, "slippageBps", request.getSlippageBps());
+        append(canonical, "marketImpact", request.getMarketImpact());
+        append(canonical, "maxParticipationRate", request.getMaxParticipationRate());
+        append(canonical, "monteCarloPaths", request.getMonteCarloPaths());
+        append(canonical, "monteCarloSeed", request.getMonteCarloSeed());
+        return sha256(canonical.toString());
+    }
+
+    /**
+     * 캐시 조회 (메모리 → MongoDB 순, 무효 항목은 삭제)
+     * @param key 캐시 키
+     * @return 캐시된 결과 (없거나 무효면 null)
+     */
+    public BackTestResult get(String key) {
+        BacktestResultCacheRecord record;
+        synchronized (memory) {
+            record = memory.get(key);
+        }
+        if (record != null) {
+            if (isValid(record)) {
+                memoryHits.incrementAndGet();
+                return record.getResult();
+            }
+            evict(key);
+        }
+
+        Optional<BacktestResultCacheRecord> stored = findStored(key);
+        if (stored.isPresent() && isValid(stored.get())) {
+            synchronized (memory) {
+                memory.put(key, stored.get());
+            }
+            persistentHits.incrementAndGet();
+            return stored.get().getResult();
+        }
+        stored.ifPresent(invalid -> evict(key));
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * 결과 저장
+     * @param key 캐시 키
+     * @param request 기본값이 적용된 백트래킹 요청
+     * @param result 백트래킹 결과
+     * @param lastBarDate 계산에 사용한 마지막 봉 일자
+     */
+    public void put(String key, BackTestRequest request, BackTestResult result, LocalDate lastBarDate) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean openRange = !request.getEndDate().isBefore(LocalDate.now());
+        BacktestResultCacheRecord record = BacktestResultCacheRecord.builder()
+                .cacheKey(key)
+                .stockCode(request.getStockCode())
+                .lastBarDate(lastBarDate)
+                .openRange(openRange)
+                .createdAt(now)
+                .expiresAt(now.plus(openRange ? OPEN_RANGE_TTL : CLOSED_RANGE_TTL))
+                .result(result)
+                .build();
+        synchronized (memory) {
+            memory.put(key, record);
+        }
+        int rows = rowCount(result);
+        if (rows > MAX_PERSISTED_ROWS) {
+            log.info("백트래킹 결과가 커서 메모리에만 캐시: {} ({}건)", request.getStockCode(), rows);
+            return;
+        }
+        try {
+            backtestResultCacheRepository.save(record);
+        } catch (Exception e) {
+            log.warn("백트래킹 결과 캐시 저장 실패 (메모리 캐시만 사용): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 종목의 최신 봉 일자 관측 (새 봉이면 해당 종목의 진행 중 구간 캐시 무효화)
+     * @param stockCode 종목코드
+     * @param barDate 관측된 마지막 봉 일자
+     */
+    public void observeLatestBar(String stockCode, LocalDate barDate) {
+        if (stockCode == null || barDate == null) {
+            return;
+        }
+        LocalDate previous = latestBarDates.get(stockCode);
+        LocalDate latest = latestBarDates.merge(stockCode, barDate, (a, b) -> a.isAfter(b) ? a : b);
+        if (previous != null && latest.isAfter(previous)) {
+            log.info("새 봉 도착으로 캐시 무효화: {} ({} → {})", stockCode, previous, latest);
+            synchronized (memory) {
+                memory.values().removeIf(record -> record.isOpenRange() && stockCode.equals(record.getStockCode()));
+            }
+            try {
+                backtestResultCacheRepository.deleteByStockCodeAndOpenRangeTrue(stockCode);
+            } catch (Exception e) {
+                log.warn("백트래킹 결과 캐시 삭제 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 종목의 캐시 전체 무효화 (수정주가 반영 등)
+     * @param stockCode 종목코드
+     */
+    public void invalidate(String stockCode) {
+        synchronized (memory) {
+            memory.values().removeIf(record -> stockCode.equals(record.getStockCode()));
+        }
+        backtestResultCacheRepository.deleteByStockCode(stockCode);
+        log.info("백트래킹 결과 캐시 무효화: {}", stockCode);
+    }
+
+    /**
+     * 캐시 통계
+     */
+    public Map<String, Object> getStatistics() {
+        int size;
+        synchronized (memory) {
+            size = memory.size();
+        }
+        return Map.of(
+                "memoryEntries", size,
+                "memoryHits", memoryHits.get(),
+                "persistentHits", persistentHits.get(),
+                "misses", misses.get()
+        );
+    }
+
+    private boolean isValid(BacktestResultCacheRecord record) {
+        // TTL 인덱스 삭제는 지연될 수 있으므로 만료 시각을 직접 확인
+        if (record.getExpiresAt() != null && !record.getExpiresAt().isAfter(LocalDateTime.now())) {
+            return false;
+        }
+        if (!record.isOpenRange()) {
+            return true;
+        }
+        LocalDate latest = latestBarDates.get(record.getStockCode());
+        if (latest != null && record.getLastBarDate() != null && latest.isAfter(record.getLastBarDate())) {
+            return false;
+        }
+        return record.getCreatedAt().plus(OPEN_RANGE_TTL).isAfter(LocalDateTime.now());
+    }
+
+    private static int rowCount(BackTestResult result) {
+        int trades = result.getTrades() != null ? result.getTrades().size() : 0;
+        int history = result.getPortfolioHistory() != null ? result.getPortfolioHistory().size() : 0;
+        return trades + history;
+    }
+
+    private Optional<BacktestResultCacheRecord> findStored(String key) {
+        try {
+            return backtestResultCacheRepository.findById(key);
+        } catch (Exception e) {
+            log.warn("백트래킹 결과 캐시 조회 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void evict(String key) {
+        synchronized (memory) {
+            memory.remove(key);
+        }
+        try {
+            backtestResultCacheRepository.deleteById(key);
+        } catch (Exception e) {
+            log.warn("백트래킹 결과 캐시 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 수수료 구간을 시작 금액 순서의 고정 문자열로 변환
+     */
+    private static String canonicalTiers(List<BackTestRequest.CommissionTier> tiers) {
+        if (tiers == null || tiers.isEmpty()) {
+            return null;
+        }
+        StringBuilder canonical = new StringBuilder();
+        tiers.stream()
+                .sorted(Comparator.comparing(tier -> tier.getMinAmount() != null ? tier.getMinAmount() : BigDecimal.ZERO))
+                .forEach(tier -> {
+                    append(canonical, "minAmount", tier.getMinAmount());
+                    append(canonical, "rate", tier.getRate());
+                    append(canonical, "fixedFee", tier.getFixedFee());
+                });
+        return canonical.toString();
+    }
+
+    private static void append(StringBuilder canonical, String name, Object value) {
+        // BigDecimal은 0.10과 0.1이 같은 키가 되도록 정규화
+        Object normalized = value instanceof BigDecimal decimal ? decimal.stripTrailingZeros().toPlainString() : value;
+        canonical.append('|').append(name).append('=').append(normalized);
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
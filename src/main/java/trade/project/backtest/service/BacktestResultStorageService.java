@@ -0,0 +1,218 @@
+package trade.project.backtest.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import trade.project.backtest.dto.BackTestResult;
+import trade.project.backtest.entity.BacktestSeries;
+import trade.project.backtest.entity.BacktestSummary;
+import trade.project.backtest.repository.BacktestSeriesRepository;
+import trade.project.backtest.repository.BacktestSummaryRepository;
+import trade.project.backtest.storage.ColumnarSeriesCodec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 백트래킹 결과 저장소
+ * 성과 지표는 MySQL 요약 행(backtest_results)에, 자산곡선과 거래 내역은
+ * 열 단위 압축 바이트(backtest_result_series)로 저장해 대량 스윕 결과도 작은 용량으로 보관한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BacktestResultStorageService {
+
+    private static final int MAX_SUMMARY_LIMIT = 1000;
+
+    private final BacktestSummaryRepository backtestSummaryRepository;
+    private final BacktestSeriesRepository backtestSeriesRepository;
+
+    /**
+     * 백트래킹 결과 저장
+     * @param result 백트래킹 결과
+     * @return 저장된 요약
+     */
+    @Transactional
+    public BacktestSummary save(BackTestResult result) {
+        return saveAll(List.of(result)).get(0);
+    }
+
+    /**
+     * 백트래킹 결과 일괄 저장 (파라미터 스윕 등)
+     * @param results 백트래킹 결과 목록
+     * @return 저장된 요약 목록
+     */
+    @Transactional
+    public List<BacktestSummary> saveAll(List<BackTestResult> results) {
+        if (results == null || results.isEmpty()) {
+            throw new IllegalArgumentException("저장할 백트래킹 결과가 없습니다");
+        }
+
+        List<BacktestSummary> summaries = new ArrayList<>(results.size());
+        List<byte[]> equityData = new ArrayList<>(results.size());
+        List<byte[]> tradeData = new ArrayList<>(results.size());
+        for (BackTestResult result : results) {
+            byte[] equity = ColumnarSeriesCodec.encodeEquity(result.getPortfolioHistory());
+            byte[] trades = ColumnarSeriesCodec.encodeTrades(result.getTrades());
+            equityData.add(equity);
+            tradeData.add(trades);
+            summaries.add(toSummary(result, equity.length + trades.length));
+        }
+
+        List<BacktestSummary> saved = backtestSummaryRepository.saveAll(summaries);
+        List<BacktestSeries> series = new ArrayList<>(saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            series.add(BacktestSeries.builder()
+                    .backtestId(saved.get(i).getId())
+                    .formatVersion(ColumnarSeriesCodec.FORMAT_VERSION)
+                    .equityData(equityData.get(i))
+                    .tradeData(tradeData.get(i))
+                    .build());
+        }
+        backtestSeriesRepository.saveAll(series);
+
+        log.info("백트래킹 결과 저장 완료: {}건", saved.size());
+        return saved;
+    }
+
+    /**
+     * 결과 요약 목록 조회 (최신순, 자산곡선은 읽지 않음)
+     * @param stockCode 종목코드 (null이면 전체)
+     * @param limit 최대 건수
+     */
+    public List<BacktestSummary> getSummaries(String stockCode, int limit) {
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(limit, MAX_SUMMARY_LIMIT)));
+        return stockCode != null && !stockCode.isBlank()
+                ? backtestSummaryRepository.findByStockCodeOrderByCreatedAtDesc(stockCode, page)
+                : backtestSummaryRepository.findAllByOrderByCreatedAtDesc(page);
+    }
+
+    /**
+     * 저장된 결과 전체 복원
+     * @param backtestId 결과 ID
+     */
+    public BackTestResult load(Long backtestId) {
+        BacktestSummary summary = findSummary(backtestId);
+        BacktestSeries series = findSeries(backtestId);
+        BackTestResult result = toResult(summary);
+        result.setPortfolioHistory(ColumnarSeriesCodec.decodeEquity(series.getEquityData()).toSnapshots());
+        result.setTrades(ColumnarSeriesCodec.decodeTrades(series.getTradeData()));
+        return result;
+    }
+
+    /**
+     * 자산곡선 조회 (LTTB로 maxPoints 이하 축소)
+     * @param backtestId 결과 ID
+     * @param maxPoints 최대 지점 수 (0 이하이면 전체)
+     */
+    public List<BackTestResult.PortfolioSnapshot> getEquityCurve(Long backtestId, int maxPoints) {
+        BacktestSeries series = findSeries(backtestId);
+        return ColumnarSeriesCodec.decodeEquity(series.getEquityData()).downsample(maxPoints);
+    }
+
+    /**
+     * 거래 내역 조회
+     * @param backtestId 결과 ID
+     */
+    public List<BackTestResult.TradeRecord> getTrades(Long backtestId) {
+        return ColumnarSeriesCodec.decodeTrades(findSeries(backtestId).getTradeData());
+    }
+
+    /**
+     * 저장된 결과 삭제
+     * @param backtestId 결과 ID
+     */
+    @Transactional
+    public void delete(Long backtestId) {
+        findSummary(backtestId);
+        backtestSeriesRepository.deleteById(backtestId);
+        backtestSummaryRepository.deleteById(backtestId);
+        log.info("백트래킹 결과 삭제: {}", backtestId);
+    }
+
+    private BacktestSummary findSummary(Long backtestId) {
+        return backtestSummaryRepository.findById(backtestId)
+                .orElseThrow(() -> new IllegalArgumentException("백트래킹 결과를 찾을 수 없습니다: " + backtestId));
+    }
+
+    private BacktestSeries findSeries(Long backtestId) {
+        return backtestSeriesRepository.findById(backtestId)
+                .orElseThrow(() -> new IllegalArgumentException("백트래킹 결과를 찾을 수 없습니다: " + backtestId));
+    }
+
+    private static BacktestSummary toSummary(BackTestResult result, int seriesBytes) {
+        return BacktestSummary.builder()
+                .stockCode(result.getStockCode())
+                .strategy(result.getStrategy())
+                .startDate(result.getStartDate())
+                .endDate(result.getEndDate())
+                .initialCapital(result.getInitialCapital())
+                .finalCapital(result.getFinalCapital())
+                .totalReturn(result.getTotalReturn())
+                .totalReturnPercent(result.getTotalReturnPercent())
+                .annualizedReturn(result.getAnnualizedReturn())
+                .maxDrawdown(result.getMaxDrawdown())
+                .maxDrawdownPercent(result.getMaxDrawdownPercent())
+                .sharpeRatio(result.getSharpeRatio())
+                .volatility(result.getVolatility())
+                .totalTrades(result.getTotalTrades())
+                .winningTrades(result.getWinningTrades())
+                .losingTrades(result.getLosingTrades())
+                .winRate(result.getWinRate())
+                .averageWin(result.getAverageWin())
+                .averageLoss(result.getAverageLoss())
+                .profitFactor(result.getProfitFactor())
+                .totalCommission(result.getTotalCommission())
+                .totalTax(result.getTotalTax())
+                .totalSlippage(result.getTotalSlippage())
+                .peakCapital(result.getPeakCapital())
+                .peakDate(result.getPeakDate())
+                .maxDrawdownDate(result.getMaxDrawdownDate())
+                .calmarRatio(result.getCalmarRatio())
+                .sortinoRatio(result.getSortinoRatio())
+                .informationRatio(result.getInformationRatio())
+                .treynorRatio(result.getTreynorRatio())
+                .pointCount(result.getPortfolioHistory() != null ? result.getPortfolioHistory().size() : 0)
+                .seriesBytes(seriesBytes)
+                .build();
+    }
+
+    private static BackTestResult toResult(BacktestSummary summary) {
+        return BackTestResult.builder()
+                .stockCode(summary.getStockCode())
+                .strategy(summary.getStrategy())
+                .startDate(summary.getStartDate())
+                .endDate(summary.getEndDate())
+                .initialCapital(summary.getInitialCapital())
+                .finalCapital(summary.getFinalCapital())
+                .totalReturn(summary.getTotalReturn())
+                .totalReturnPercent(summary.getTotalReturnPercent())
+                .annualizedReturn(summary.getAnnualizedReturn())
+                .maxDrawdown(summary.getMaxDrawdown())
+                .maxDrawdownPercent(summary.getMaxDrawdownPercent())
+                .sharpeRatio(summary.getSharpeRatio())
+                .volatility(summary.getVolatility())
+                .totalTrades(summary.getTotalTrades())
+                .winningTrades(summary.getWinningTrades())
+                .losingTrades(summary.getLosingTrades())
+                .winRate(summary.getWinRate())
+                .averageWin(summary.getAverageWin())
+                .averageLoss(summary.getAverageLoss())
+                .profitFactor(summary.getProfitFactor())
+                .totalCommission(summary.getTotalCommission())
+                .totalTax(summary.getTotalTax())
+                .totalSlippage(summary.getTotalSlippage())
+                .peakCapital(summary.getPeakCapital())
+                .peakDate(summary.getPeakDate())
+                .maxDrawdownDate(summary.getMaxDrawdownDate())
+                .calmarRatio(summary.getCalmarRatio())
+                .sortinoRatio(summary.getSortinoRatio())
+                .informationRatio(summary.getInformationRatio())
+                .treynorRatio(summary.getTreynorRatio())
+                .build();
+    }
+}
@@ -7,16 +7,20 @@ import trade.project.api.client.KisApiClient;
 import trade.project.backtest.dto.BackTestRequest;
 import trade.project.backtest.dto.BackTestRequest;
 import trade.project.backtest.dto.BackTestResult;
+import trade.project.backtest.dto.CustomStrategyRequest;
 import trade.project.backtest.dto.StockData;
 import trade.project.backtest.engine.BacktestEngine;
+import trade.project.backtest.engine.BacktestProgressListener;
+import trade.project.backtest.engine.MonteCarloAnalyzer;
+import trade.project.backtest.strategy.DslTradingStrategy;
 import trade.project.backtest.strategy.StrategyFactory;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
 
 @Slf4j
 @Service
@@ -26,6 +30,8 @@ public class BacktestService {
     private final BacktestEngine backtestEngine;
     private final StrategyFactory strategyFactory;
     private final KisApiClient kisApiClient;
+    private final BacktestResultCache backtestResultCache;
+    private final MonteCarloAnalyzer monteCarloAnalyzer = new MonteCarloAnalyzer();
     
     /**
      * 백트래킹을 실행합니다.
@@ -33,6 +39,16 @@ public class BacktestService {
      * @return 백트래킹 결과
      */
     public BackTestResult runBacktest(BackTestRequest request) {
+        return runBacktest(request, null);
+    }
+    
+    /**
+     * 진행 상황을 알리며 백트래킹을 실행합니다. (비동기 작업용, 취소 시 CancellationException)
+     * @param request 백트래킹 요청
+     * @param listener 진행 상황 수신자 (null 가능)
+     * @return 백트래킹 결과
+     */
+    public BackTestResult runBacktest(BackTestRequest request, BacktestProgressListener listener) {
         log.info("백트래킹 서비스 시작: {}", request.getStockCode());
         
         try {
@@ -42,21 +58,56 @@ public class BacktestService {
             // 기본값 적용
             BackTestRequest processedRequest = request.applyDefaults();
             
-            // 주식 데이터 조회
-            List<StockData> stockDataList = getStockData(processedRequest);
+            // 같은 요청의 결과가 캐시에 있으면 시세 조회 없이 반환
+            String cacheKey = backtestResultCache.keyOf(processedRequest);
+            BackTestResult cached = backtestResultCache.get(cacheKey);
+            if (cached != null) {
+                log.info("백트래킹 캐시 적중: {}", processedRequest.getStockCode());
+                return cached;
+            }
+            
+            // 주식 데이터 조회 (샘플 데이터로 대체된 결과는 캐시하지 않음)
+            List<StockData> stockDataList;
+            boolean cacheable = true;
+            try {
+                stockDataList = fetchStockData(processedRequest);
+            } catch (Exception e) {
+                log.error("주식 데이터 조회 중 오류 발생: {}", e.getMessage(), e);
+                stockDataList = generateSampleData(processedRequest);
+                cacheable = false;
+            }
             
             if (stockDataList.isEmpty()) {
                 throw new RuntimeException("주식 데이터를 찾을 수 없습니다: " + processedRequest.getStockCode());
             }
+            LocalDate lastBarDate = stockDataList.get(stockDataList.size() - 1).getDate();
+            if (cacheable) {
+                backtestResultCache.observeLatestBar(processedRequest.getStockCode(), lastBarDate);
+            }
             
             // 백트래킹 실행
-            BackTestResult result = backtestEngine.runBacktest(processedRequest, stockDataList);
+            BackTestResult result = listener != null
+                    ? backtestEngine.runBacktest(processedRequest, stockDataList, 0, listener)
+                    : backtestEngine.runBacktest(processedRequest, stockDataList);
+            
+            // 강건성 분석 (거래 순서/일별 수익률 재표집)
+            if (processedRequest.getMonteCarloPaths() > 0) {
+                result.setMonteCarlo(monteCarloAnalyzer.analyze(
+                        result, processedRequest.getMonteCarloPaths(), processedRequest.getMonteCarloSeed()));
+            }
+            
+            if (cacheable) {
+                backtestResultCache.put(cacheKey, processedRequest, result, lastBarDate);
+            }
             
             log.info("백트래킹 완료: 수익률 = {}%, 거래 횟수 = {}", 
                     result.getTotalReturnPercent(), result.getTotalTrades());
             
             return result;
             
+        } catch (CancellationException e) {
+            log.info("백트래킹 취소: {}", request.getStockCode());
+            throw e;
         } catch (Exception e) {
             log.error("백트래킹 실행 중 오류 발생: {}", e.getMessage(), e);
             throw new RuntimeException("백트래킹 실행 실패: " + e.getMessage(), e);
@@ -64,81 +115,38 @@ public class BacktestService {
     }
     
     /**
-     * 주식 데이터를 조회합니다.
+     * 주식 데이터를 조회합니다. (워크포워드 분석에서도 한 번 조회한 데이터를 재사용)
      * @param request 백트래킹 요청
      * @return 주식 데이터 리스트
      */
-    private List<StockData> getStockData(BackTestRequest request) {
-        List<StockData> stockDataList = new ArrayList<>();
-        
+    List<StockData> getStockData(BackTestRequest request) {
         try {
-            // 한국투자증권 API에서 일자별 시세 조회
-            String startDate = request.getStartDate().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            String endDate = request.getEndDate().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            
-            Map<String, Object> response = kisApiClient.getStockDailyPrice(
-                    request.getStockCode(), startDate, endDate);
-            
-            // 응답 데이터 파싱
-            if (response != null && response.containsKey("output")) {
-                Map<String, Object> output = (Map<String, Object>) response.get("output");
-                
-                if (output.containsKey("output1")) {
-                    List<Map<String, Object>> dataList = (List<Map<String, Object>>) output.get("output1");
-                    
-                    for (Map<String, Object> data : dataList) {
-                        StockData stockData = parseStockData(data);
-                        if (stockData != null) {
-                            stockDataList.add(stockData);
-                        }
-                    }
-                }
-            }
-            
-            // 날짜순으로 정렬
-            stockDataList.sort((a, b) -> a.getDate().compareTo(b.getDate()));
-            
-            log.info("주식 데이터 조회 완료: {}개 데이터", stockDataList.size());
-            
+            return fetchStockData(request);
         } catch (Exception e) {
             log.error("주식 데이터 조회 중 오류 발생: {}", e.getMessage(), e);
             // 실제 API 호출이 실패할 경우를 대비해 샘플 데이터 생성
-            stockDataList = generateSampleData(request);
+            return generateSampleData(request);
         }
-        
-        return stockDataList;
     }
     
     /**
-     * API 응답을 StockData로 파싱합니다.
-     * @param data API 응답 데이터
-     * @return StockData 객체
+     * 한국투자증권 API에서 일자별 시세를 조회합니다.
+     * 응답당 건수 제한이 있으므로 긴 기간은 구간별로 나눠 조회한 뒤 일자 기준으로 합칩니다.
+     * (여러 종목/수년치는 DailyPriceBackfillService 적재 작업 사용)
+     * @param request 백트래킹 요청
+     * @return 날짜순 주식 데이터 리스트
      */
-    private StockData parseStockData(Map<String, Object> data) {
-        try {
-            String dateStr = (String) data.get("stck_bsop_date");
-            LocalDate date = LocalDate.parse(dateStr, DateTimeFormatter.ofPattern("yyyyMMdd"));
-            
-            BigDecimal open = new BigDecimal((String) data.get("stck_oprc"));
-            BigDecimal high = new BigDecimal((String) data.get("stck_hgpr"));
-            BigDecimal low = new BigDecimal((String) data.get("stck_lwpr"));
-            BigDecimal close = new BigDecimal((String) data.get("stck_prpr"));
-            Long volume = Long.parseLong((String) data.get("cntg_vol"));
-            
-            return StockData.builder()
-                    .date(date)
-                    .open(open)
-                    .high(high)
-                    .low(low)
-                    .close(close)
-                    .volume(volume)
-                    .adjustedClose(close) // 수정주가는 종가로 대체
-                    .build();
-                    
-        } catch (Exception e) {
-            log.warn("주식 데이터 파싱 실패: {}", e.getMessage());
-            return null;
+    private List<StockData> fetchStockData(BackTestRequest request) {
+        List<List<StockData>> parts = new ArrayList<>();
+        for (DailyPriceChunks.Chunk chunk : DailyPriceChunks.split(request.getStartDate(), request.getEndDate())) {
+            Map<String, Object> response = kisApiClient.getStockDailyPrice(
+                    request.getStockCode(), chunk.start(), chunk.end());
+            parts.add(DailyPriceChunks.parse(response));
         }
+        List<StockData> stockDataList = DailyPriceChunks.mergeByDate(parts);
+        
+        log.info("주식 데이터 조회 완료: {}개 데이터 ({}개 구간)", stockDataList.size(), parts.size());
+        return stockDataList;
     }
     
     /**
@@ -202,6 +210,53 @@ public class BacktestService {
                 .collect(java.util.stream.Collectors.toList());
     }
     
+    /**
+     * 규칙식 기반 사용자 전략을 등록합니다.
+     * @param request 사용자 전략 요청
+     * @return 등록된 전략 정보
+     */
+    public Map<String, String> registerCustomStrategy(CustomStrategyRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("전략 요청이 null입니다.");
+        }
+        DslTradingStrategy strategy = new DslTradingStrategy(
+                request.getName(), request.getDescription(), request.getBuyRule(), request.getSellRule());
+        strategyFactory.registerStrategy(strategy);
+        return Map.of(
+                "name", strategy.getStrategyName(),
+                "description", strategy.getStrategyDescription()
+        );
+    }
+    
+    /**
+     * 사용자 전략을 제거합니다.
+     * @param strategyName 전략 이름
+     */
+    public void removeCustomStrategy(String strategyName) {
+        if (!strategyFactory.unregisterStrategy(strategyName)) {
+            throw new IllegalArgumentException("등록된 사용자 전략이 아닙니다: " + strategyName);
+        }
+    }
+    
+    /**
+     * 백트래킹 결과 캐시 통계를 반환합니다.
+     * @return 캐시 통계
+     */
+    public Map<String, Object> getCacheStatistics() {
+        return backtestResultCache.getStatistics();
+    }
+    
+    /**
+     * 종목의 백트래킹 결과 캐시를 무효화합니다.
+     * @param stockCode 종목코드
+     */
+    public void invalidateCache(String stockCode) {
+        if (stockCode == null || stockCode.isBlank()) {
+            throw new IllegalArgumentException("주식 코드는 필수입니다.");
+        }
+        backtestResultCache.invalidate(stockCode);
+    }
+    
     /**
      * 백트래킹 요청의 유효성을 검사합니다.
      * @param request 백트래킹 요청
@@ -234,5 +289,26 @@ public class BacktestService {
         if (strategyFactory.getStrategy(request.getStrategy()) == null) {
             throw new IllegalArgumentException("지원하지 않는 전략입니다: " + request.getStrategy());
         }
+        
+        if (request.getMonteCarloPaths() != null
+                && (request.getMonteCarloPaths() < 0 || request.getMonteCarloPaths() > MonteCarloAnalyzer.MAX_PATHS)) {
+            throw new IllegalArgumentException("몬테카를로 경로 수는 0 이상 " + MonteCarloAnalyzer.MAX_PATHS + " 이하여야 합니다.");
+        }
+        
+        if (request.getFillTiming() != null
+                && !BackTestRequest.FILL_AT_NEXT_OPEN.equalsIgnoreCase(request.getFillTiming())
+                && !BackTestRequest.FILL_AT_CLOSE.equalsIgnoreCase(request.getFillTiming())) {
+            throw new IllegalArgumentException("지원하지 않는 체결 시점입니다: " + request.getFillTiming());
+        }
+        
+        if (request.getMaxParticipationRate() != null
+                && (request.getMaxParticipationRate().signum() <= 0 || request.getMaxParticipationRate().compareTo(BigDecimal.ONE) > 0)) {
+            throw new IllegalArgumentException("최대 체결 비율은 0보다 크고 1 이하여야 합니다.");
+        }
+        
+        if ((request.getSlippageBps() != null && request.getSlippageBps().signum() < 0)
+                || (request.getMarketImpact() != null && request.getMarketImpact().signum() < 0)) {
+            throw new IllegalArgumentException("슬리피지와 시장 충격 계수는 0 이상이어야 합니다.");
+        }
     }
 } 
\ No newline at end of file
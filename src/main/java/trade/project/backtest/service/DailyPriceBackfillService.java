@@ -0,0 +1,395 @@
+package trade.project.backtest.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import trade.project.api.client.KisApiClient;
+import trade.project.backtest.document.DailyPrice;
+import trade.project.backtest.document.DailyPriceCheckpoint;
+import trade.project.backtest.dto.DailyPriceBackfillRequest;
+import trade.project.backtest.dto.DailyPriceBackfillStatus;
+import trade.project.backtest.dto.StockData;
+import trade.project.backtest.repository.DailyPriceCheckpointRepository;
+import trade.project.backtest.repository.DailyPriceRepository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 과거 일봉 적재 작업 (여러 종목 × 수년치를 한 작업으로)
+ * 기간을 고정 격자 구간(DailyPriceChunks)으로 나눠 작업 풀에서 동시에 조회하고,
+ * 일봉은 종목코드:일자 ID로 저장해 중복 없이 합친다. 다 지난 구간은 체크포인트를 남기므로
+ * 실패/재시작 후 같은 기간을 다시 적재하면 남은 구간만 조회한다.
+ * 동시 조회 수는 작업 풀 크기로 제한되고, 초당 호출 수는 KisApiClient 호출 제한을 그대로 따른다.
+ */
+@Slf4j
+@Service
+public class DailyPriceBackfillService {
+
+    static final int MAX_SYMBOLS = 50;
+    static final int MAX_YEARS = 20;
+    static final int MAX_ATTEMPTS = 3; // 구간당 조회 시도 횟수
+    private static final int FETCH_PARALLELISM = 4;
+    private static final int MAX_RETAINED_JOBS = 50;
+    private static final int MAX_REPORTED_FAILURES = 20;
+    private static final long RETRY_BACKOFF_MILLIS = 500;
+    private static final ZoneId DOMESTIC_ZONE = ZoneId.of("Asia/Seoul");
+
+    /**
+     * 일자별 시세 조회 (KisApiClient.getStockDailyPrice)
+     */
+    @FunctionalInterface
+    interface DailyPriceSource {
+        Map<String, Object> fetch(String stockCode, String startDate, String endDate);
+    }
+
+    private final DailyPriceSource source;
+    private final DailyPriceRepository dailyPriceRepository;
+    private final DailyPriceCheckpointRepository checkpointRepository;
+    private final ExecutorService executor;
+    private final Clock clock;
+    private final long retryBackoffMillis;
+
+    private final Map<String, BackfillJob> jobs = new ConcurrentHashMap<>();
+    private final Queue<String> finishedJobIds = new ConcurrentLinkedQueue<>();
+
+    @Autowired
+    public DailyPriceBackfillService(KisApiClient kisApiClient, DailyPriceRepository dailyPriceRepository,
+                                     DailyPriceCheckpointRepository checkpointRepository) {
+        this(kisApiClient::getStockDailyPrice, dailyPriceRepository, checkpointRepository,
+                Executors.newFixedThreadPool(FETCH_PARALLELISM, daemon()), Clock.system(DOMESTIC_ZONE), RETRY_BACKOFF_MILLIS);
+    }
+
+    DailyPriceBackfillService(DailyPriceSource source, DailyPriceRepository dailyPriceRepository,
+                              DailyPriceCheckpointRepository checkpointRepository, ExecutorService executor,
+                              Clock clock, long retryBackoffMillis) {
+        this.source = source;
+        this.dailyPriceRepository = dailyPriceRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.executor = executor;
+        this.clock = clock;
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 적재 작업 제출 (체크포인트가 있는 구간은 건너뛰고 즉시 작업 상태 반환)
+     */
+    public DailyPriceBackfillStatus submit(DailyPriceBackfillRequest request) {
+        LocalDate today = LocalDate.now(clock);
+        List<String> stockCodes = validate(request, today);
+        LocalDate endDate = request.getEndDate() != null ? request.getEndDate() : today;
+
+        // 오늘 이후 구간은 조회하지 않음
+        List<DailyPriceChunks.Chunk> chunks = DailyPriceChunks.aligned(request.getStartDate(), endDate.isAfter(today) ? today : endDate);
+        List<String> ids = new ArrayList<>();
+        for (String stockCode : stockCodes) {
+            for (DailyPriceChunks.Chunk chunk : chunks) {
+                ids.add(checkpointId(stockCode, chunk));
+            }
+        }
+        Set<String> done = new HashSet<>();
+        checkpointRepository.findAllById(ids).forEach(checkpoint -> done.add(checkpoint.getId()));
+
+        BackfillJob job = new BackfillJob(UUID.randomUUID().toString(), stockCodes, request.getStartDate(), endDate,
+                ids.size(), done.size());
+        jobs.put(job.jobId, job);
+        log.info("과거 시세 적재 작업 제출: {} ({}종목, {}구간, 체크포인트 {}구간)",
+                job.jobId, stockCodes.size(), ids.size(), done.size());
+
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (String stockCode : stockCodes) {
+            for (DailyPriceChunks.Chunk chunk : chunks) {
+                if (!done.contains(checkpointId(stockCode, chunk))) {
+                    tasks.add(CompletableFuture.runAsync(() -> backfillChunk(job, stockCode, chunk, today), executor));
+                }
+            }
+        }
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, error) -> onFinished(job));
+        return job.status();
+    }
+
+    /**
+     * 같은 요청으로 다시 적재 (앞 작업에서 끝난 구간은 체크포인트로 건너뜀)
+     */
+    public DailyPriceBackfillStatus resume(String jobId) {
+        BackfillJob job = find(jobId);
+        if (!job.state.isFinished()) {
+            throw new IllegalStateException("진행 중인 작업입니다: " + jobId);
+        }
+        return submit(DailyPriceBackfillRequest.builder()
+                .stockCodes(job.stockCodes)
+                .startDate(job.startDate)
+                .endDate(job.endDate)
+                .build());
+    }
+
+    /**
+     * 작업 취소 (조회 중인 구간은 마저 끝내고, 남은 구간은 조회하지 않음)
+     */
+    public DailyPriceBackfillStatus cancel(String jobId) {
+        BackfillJob job = find(jobId);
+        if (job.state.isFinished()) {
+            throw new IllegalArgumentException("이미 종료된 작업입니다: " + jobId);
+        }
+        job.cancelRequested = true;
+        log.info("과거 시세 적재 작업 취소 요청: {}", jobId);
+        return job.status();
+    }
+
+    public DailyPriceBackfillStatus getStatus(String jobId) {
+        return find(jobId).status();
+    }
+
+    /**
+     * 진행 중이거나 최근 종료된 작업 목록 (제출 순)
+     */
+    public List<DailyPriceBackfillStatus> getJobs() {
+        return jobs.values().stream()
+                .map(BackfillJob::status)
+                .sorted(Comparator.comparing(DailyPriceBackfillStatus::getSubmittedAt))
+                .toList();
+    }
+
+    /**
+     * 적재된 일봉 조회 (날짜순)
+     */
+    public List<DailyPrice> getDailyPrices(String stockCode, LocalDate startDate, LocalDate endDate) {
+        // 파생 쿼리의 Between은 양 끝을 제외하므로 하루씩 넓혀 조회
+        return dailyPriceRepository.findByStockCodeAndDateBetweenOrderByDateAsc(
+                stockCode.trim().toUpperCase(Locale.ROOT), startDate.minusDays(1), endDate.plusDays(1));
+    }
+
+    /**
+     * 종목 구간 하나 조회/저장 (실패 시 간격을 늘려 재시도, 다 지난 구간만 체크포인트 기록)
+     */
+    void backfillChunk(BackfillJob job, String stockCode, DailyPriceChunks.Chunk chunk, LocalDate today) {
+        if (job.cancelRequested) {
+            return;
+        }
+        LocalDate fetchEnd = chunk.endDate().isAfter(today) ? today : chunk.endDate();
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                Map<String, Object> response = source.fetch(stockCode, chunk.start(), fetchEnd.format(DailyPriceChunks.BASIC_DATE));
+                if (response != null && response.get("rt_cd") != null && !"0".equals(String.valueOf(response.get("rt_cd")))) {
+                    throw new IllegalStateException(String.valueOf(response.get("msg1")));
+                }
+                List<DailyPrice> bars = toDailyPrices(stockCode, chunk, DailyPriceChunks.parse(response));
+                if (!bars.isEmpty()) {
+                    dailyPriceRepository.saveAll(bars);
+                }
+                if (chunk.endDate().isBefore(today)) {
+                    checkpointRepository.save(DailyPriceCheckpoint.builder()
+                            .id(checkpointId(stockCode, chunk))
+                            .stockCode(stockCode)
+                            .startDate(chunk.startDate())
+                            .endDate(chunk.endDate())
+                            .barCount(bars.size())
+                            .completedAt(LocalDateTime.now(clock))
+                            .build());
+                }
+                job.completedChunks.incrementAndGet();
+                job.savedBars.addAndGet(bars.size());
+                return;
+            } catch (RuntimeException e) {
+                if (attempt == MAX_ATTEMPTS || job.cancelRequested) {
+                    log.warn("과거 시세 구간 적재 실패: {} {}~{} - {}", stockCode, chunk.start(), chunk.end(), e.getMessage());
+                    job.failed(stockCode + ":" + chunk.start() + "~" + chunk.end() + " - " + e.getMessage());
+                    return;
+                }
+                sleep(retryBackoffMillis * attempt);
+            }
+        }
+    }
+
+    private List<DailyPrice> toDailyPrices(String stockCode, DailyPriceChunks.Chunk chunk, List<StockData> parsed) {
+        LocalDateTime fetchedAt = LocalDateTime.now(clock);
+        List<DailyPrice> bars = new ArrayList<>();
+        for (StockData data : DailyPriceChunks.mergeByDate(List.of(parsed))) {
+            if (!chunk.contains(data.getDate())) {
+                continue; // 구간 밖 일자는 해당 구간 작업이 저장
+            }
+            bars.add(DailyPrice.builder()
+                    .id(stockCode + ":" + data.getDate().format(DailyPriceChunks.BASIC_DATE))
+                    .stockCode(stockCode)
+                    .date(data.getDate())
+                    .open(data.getOpen().intValue())
+                    .high(data.getHigh().intValue())
+                    .low(data.getLow().intValue())
+                    .close(data.getClose().intValue())
+                    .volume(data.getVolume())
+                    .fetchedAt(fetchedAt)
+                    .build());
+        }
+        return bars;
+    }
+
+    private void onFinished(BackfillJob job) {
+        job.finish(LocalDateTime.now(clock));
+        DailyPriceBackfillStatus status = job.status();
+        log.info("과거 시세 적재 작업 종료: {} ({}, 조회 {}구간, 실패 {}구간, 일봉 {}건)", job.jobId, status.getState(),
+                status.getCompletedChunks(), status.getFailedChunks(), status.getSavedBars());
+        finishedJobIds.add(job.jobId);
+        while (finishedJobIds.size() > MAX_RETAINED_JOBS) {
+            String oldest = finishedJobIds.poll();
+            if (oldest != null) {
+                jobs.remove(oldest);
+            }
+        }
+    }
+
+    private static List<String> validate(DailyPriceBackfillRequest request, LocalDate today) {
+        if (request == null || request.getStockCodes() == null) {
+            throw new IllegalArgumentException("종목코드 목록은 필수입니다");
+        }
+        Set<String> codes = new LinkedHashSet<>();
+        for (String code : request.getStockCodes()) {
+            if (code != null && !code.isBlank()) {
+                codes.add(code.trim().toUpperCase(Locale.ROOT));
+            }
+        }
+        if (codes.isEmpty()) {
+            throw new IllegalArgumentException("종목코드 목록은 필수입니다");
+        }
+        if (codes.size() > MAX_SYMBOLS) {
+            throw new IllegalArgumentException("한 작업에서 적재할 수 있는 종목은 최대 " + MAX_SYMBOLS + "개입니다");
+        }
+        LocalDate startDate = request.getStartDate();
+        LocalDate endDate = request.getEndDate() != null ? request.getEndDate() : today;
+        if (startDate == null) {
+            throw new IllegalArgumentException("시작 날짜는 필수입니다");
+        }
+        if (startDate.isAfter(endDate) || startDate.isAfter(today)) {
+            throw new IllegalArgumentException("시작 날짜는 종료 날짜와 오늘보다 이전이어야 합니다");
+        }
+        if (startDate.plusYears(MAX_YEARS).isBefore(endDate)) {
+            throw new IllegalArgumentException("적재 기간은 최대 " + MAX_YEARS + "년입니다");
+        }
+        return new ArrayList<>(codes);
+    }
+
+    private BackfillJob find(String jobId) {
+        BackfillJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new IllegalArgumentException("작업을 찾을 수 없습니다: " + jobId);
+        }
+        return job;
+    }
+
+    private static String checkpointId(String stockCode, DailyPriceChunks.Chunk chunk) {
+        return stockCode + ":" + chunk.start();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("적재 작업 중단", e);
+        }
+    }
+
+    private static ThreadFactory daemon() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "daily-backfill-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 적재 작업 진행 상태 (구간 작업들이 동시에 갱신)
+     */
+    static final class BackfillJob {
+        private final String jobId;
+        private final List<String> stockCodes;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final int totalChunks;
+        private final int skippedChunks;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final AtomicInteger completedChunks = new AtomicInteger();
+        private final AtomicInteger failedChunks = new AtomicInteger();
+        private final AtomicLong savedBars = new AtomicLong();
+        private final Queue<String> failures = new ConcurrentLinkedQueue<>();
+
+        private volatile boolean cancelRequested;
+        private volatile DailyPriceBackfillStatus.State state = DailyPriceBackfillStatus.State.RUNNING;
+        private volatile LocalDateTime finishedAt;
+
+        private BackfillJob(String jobId, List<String> stockCodes, LocalDate startDate, LocalDate endDate,
+                            int totalChunks, int skippedChunks) {
+            this.jobId = jobId;
+            this.stockCodes = List.copyOf(stockCodes);
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.totalChunks = totalChunks;
+            this.skippedChunks = skippedChunks;
+        }
+
+        private void failed(String failure) {
+            failedChunks.incrementAndGet();
+            if (failures.size() < MAX_REPORTED_FAILURES) {
+                failures.add(failure);
+            }
+        }
+
+        private void finish(LocalDateTime at) {
+            finishedAt = at;
+            state = cancelRequested ? DailyPriceBackfillStatus.State.CANCELLED
+                    : failedChunks.get() > 0 ? DailyPriceBackfillStatus.State.PARTIAL
+                    : DailyPriceBackfillStatus.State.COMPLETED;
+        }
+
+        DailyPriceBackfillStatus status() {
+            int processed = skippedChunks + completedChunks.get() + failedChunks.get();
+            return DailyPriceBackfillStatus.builder()
+                    .jobId(jobId)
+                    .state(state)
+                    .stockCodes(stockCodes)
+                    .startDate(startDate)
+                    .endDate(endDate)
+                    .totalChunks(totalChunks)
+                    .skippedChunks(skippedChunks)
+                    .completedChunks(completedChunks.get())
+                    .failedChunks(failedChunks.get())
+                    .savedBars(savedBars.get())
+                    .progressPercent(totalChunks > 0
+                            ? BigDecimal.valueOf(processed * 100L).divide(BigDecimal.valueOf(totalChunks), 2, RoundingMode.HALF_UP)
+                            : BigDecimal.valueOf(100))
+                    .failures(List.copyOf(failures))
+                    .submittedAt(submittedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package trade.project.backtest.service;
+
+import lombok.extern.slf4j.Slf4j;
+import trade.project.backtest.dto.StockData;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 일자별 시세 조회 구간 분할/응답 파싱 (백트래킹 조회와 과거 시세 적재 공용)
+ * inquire-daily-price는 응답당 최대 30건이므로 긴 기간은 42일(평일 30일) 단위로 나눠 조회한다.
+ */
+@Slf4j
+final class DailyPriceChunks {
+
+    static final int CHUNK_DAYS = 42; // 6주 = 평일 30일 (응답 최대 건수)
+    static final DateTimeFormatter BASIC_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    /**
+     * 조회 구간 (양 끝 포함)
+     */
+    record Chunk(LocalDate startDate, LocalDate endDate) {
+
+        String start() {
+            return startDate.format(BASIC_DATE);
+        }
+
+        String end() {
+            return endDate.format(BASIC_DATE);
+        }
+
+        boolean contains(LocalDate date) {
+            return !date.isBefore(startDate) && !date.isAfter(endDate);
+        }
+    }
+
+    private DailyPriceChunks() {
+    }
+
+    /**
+     * 시작일부터 CHUNK_DAYS씩 분할 (마지막 구간은 종료일까지)
+     */
+    static List<Chunk> split(LocalDate startDate, LocalDate endDate) {
+        List<Chunk> chunks = new ArrayList<>();
+        for (LocalDate from = startDate; !from.isAfter(endDate); from = from.plusDays(CHUNK_DAYS)) {
+            LocalDate to = from.plusDays(CHUNK_DAYS - 1);
+            chunks.add(new Chunk(from, to.isAfter(endDate) ? endDate : to));
+        }
+        return chunks;
+    }
+
+    /**
+     * 고정 격자(1970-01-01 기준 CHUNK_DAYS 간격)로 분할 (요청 기간이 달라도 같은 구간 체크포인트를 재사용)
+     */
+    static List<Chunk> aligned(LocalDate startDate, LocalDate endDate) {
+        List<Chunk> chunks = new ArrayList<>();
+        long first = Math.floorDiv(startDate.toEpochDay(), CHUNK_DAYS) * CHUNK_DAYS;
+        for (long from = first; from <= endDate.toEpochDay(); from += CHUNK_DAYS) {
+            chunks.add(new Chunk(LocalDate.ofEpochDay(from), LocalDate.ofEpochDay(from + CHUNK_DAYS - 1)));
+        }
+        return chunks;
+    }
+
+    /**
+     * 일자별 시세 응답 파싱 (output 배열, output.output1, output2 형식 모두 지원)
+     */
+    static List<StockData> parse(Map<String, Object> response) {
+        List<StockData> result = new ArrayList<>();
+        for (Map<String, Object> row : rows(response)) {
+            StockData stockData = parseRow(row);
+            if (stockData != null) {
+                result.add(stockData);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 일자 기준 중복 제거 후 날짜순 정렬 (같은 일자는 나중에 받은 값 사용)
+     */
+    static List<StockData> mergeByDate(Collection<List<StockData>> parts) {
+        TreeMap<LocalDate, StockData> byDate = new TreeMap<>();
+        for (List<StockData> part : parts) {
+            for (StockData stockData : part) {
+                byDate.put(stockData.getDate(), stockData);
+            }
+        }
+        return new ArrayList<>(byDate.values());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> rows(Map<String, Object> response) {
+        if (response == null) {
+            return List.of();
+        }
+        Object output = response.get("output");
+        if (output instanceof List) {
+            return (List<Map<String, Object>>) output;
+        }
+        if (output instanceof Map && ((Map<String, Object>) output).get("output1") instanceof List) {
+            return (List<Map<String, Object>>) ((Map<String, Object>) output).get("output1");
+        }
+        if (response.get("output2") instanceof List) {
+            return (List<Map<String, Object>>) response.get("output2");
+        }
+        return List.of();
+    }
+
+    private static StockData parseRow(Map<String, Object> data) {
+        try {
+            LocalDate date = LocalDate.parse(text(data, "stck_bsop_date"), BASIC_DATE);
+            BigDecimal close = new BigDecimal(text(data, data.containsKey("stck_clpr") ? "stck_clpr" : "stck_prpr"));
+            String volume = text(data, data.containsKey("acml_vol") ? "acml_vol" : "cntg_vol");
+
+            return StockData.builder()
+                    .date(date)
+                    .open(new BigDecimal(text(data, "stck_oprc")))
+                    .high(new BigDecimal(text(data, "stck_hgpr")))
+                    .low(new BigDecimal(text(data, "stck_lwpr")))
+                    .close(close)
+                    .volume(Long.parseLong(volume))
+                    .adjustedClose(close) // 수정주가는 종가로 대체
+                    .build();
+        } catch (Exception e) {
+            log.warn("주식 데이터 파싱 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String text(Map<String, Object> data, String key) {
+        Object value = data.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException(key + " 없음");
+        }
+        return String.valueOf(value).trim();
+    }
+}
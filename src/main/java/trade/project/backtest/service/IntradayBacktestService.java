@@ -0,0 +1,115 @@
+package trade.project.backtest.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import trade.project.backtest.document.IntradayPrice;
+import trade.project.backtest.dto.BackTestRequest;
+import trade.project.backtest.dto.IntradayBacktestRequest;
+import trade.project.backtest.dto.IntradayBacktestResult;
+import trade.project.backtest.engine.IntradayBacktestEngine;
+import trade.project.backtest.engine.IntradaySession;
+import trade.project.backtest.repository.IntradayPriceRepository;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 분봉/틱 백트래킹 서비스
+ * 시세는 MongoDB 커서로 스트리밍해 엔진에 바로 넘기므로 기간이 길어도 메모리에 올리지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IntradayBacktestService {
+
+    private static final int DEFAULT_BAR_MINUTES = 1;
+    private static final int MAX_BAR_MINUTES = 390; // 정규장 전체 (09:00 ~ 15:30)
+    private static final int MAX_IMPORT_SIZE = 100_000;
+
+    private final BacktestService backtestService;
+    private final IntradayBacktestEngine intradayBacktestEngine;
+    private final IntradayPriceRepository intradayPriceRepository;
+
+    /**
+     * 분봉 백트래킹을 실행합니다.
+     * @param request 분봉 백트래킹 요청
+     * @return 분봉 백트래킹 결과
+     */
+    public IntradayBacktestResult runIntradayBacktest(IntradayBacktestRequest request) {
+        IntradayBacktestRequest processed = applyDefaults(validateRequest(request));
+        BackTestRequest base = processed.getBaseRequest();
+
+        log.info("분봉 백트래킹 시작: {} ({} ~ {}, {}분봉)", base.getStockCode(),
+                processed.getStartDateTime(), processed.getEndDateTime(), processed.getBarMinutes());
+        try (Stream<IntradayPrice> prices = intradayPriceRepository
+                .streamByStockCodeAndTimestampBetweenOrderByTimestampAsc(
+                        base.getStockCode(), processed.getStartDateTime(), processed.getEndDateTime())) {
+            IntradayBacktestResult result = intradayBacktestEngine.run(processed, prices.iterator());
+            if (result.getBarCount() == 0) {
+                throw new IllegalArgumentException("해당 기간의 분봉/체결 데이터가 없습니다: " + base.getStockCode());
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 분봉/체결 시세를 저장합니다.
+     * @param prices 시세 목록
+     * @return 저장 건수
+     */
+    public int importPrices(List<IntradayPrice> prices) {
+        if (prices == null || prices.isEmpty()) {
+            throw new IllegalArgumentException("저장할 시세가 없습니다.");
+        }
+        if (prices.size() > MAX_IMPORT_SIZE) {
+            throw new IllegalArgumentException("한 번에 저장할 수 있는 시세는 " + MAX_IMPORT_SIZE + "건 이하입니다.");
+        }
+        for (IntradayPrice price : prices) {
+            if (price.getStockCode() == null || price.getStockCode().isBlank()
+                    || price.getTimestamp() == null || price.getPrice() == null || price.getPrice() <= 0) {
+                throw new IllegalArgumentException("종목코드, 시각, 가격은 필수입니다.");
+            }
+        }
+        intradayPriceRepository.saveAll(prices);
+        log.info("분봉/체결 시세 저장 완료: {}건", prices.size());
+        return prices.size();
+    }
+
+    private IntradayBacktestRequest validateRequest(IntradayBacktestRequest request) {
+        if (request == null || request.getBaseRequest() == null) {
+            throw new IllegalArgumentException("백트래킹 기본 설정은 필수입니다.");
+        }
+        if (request.getStartDateTime() == null || request.getEndDateTime() == null) {
+            throw new IllegalArgumentException("시작/종료 시각은 필수입니다.");
+        }
+        if (!request.getStartDateTime().isBefore(request.getEndDateTime())) {
+            throw new IllegalArgumentException("시작 시각은 종료 시각보다 이전이어야 합니다.");
+        }
+        if (request.getBarMinutes() != null
+                && (request.getBarMinutes() < 0 || request.getBarMinutes() > MAX_BAR_MINUTES)) {
+            throw new IllegalArgumentException("봉 길이는 0 이상 " + MAX_BAR_MINUTES + "분 이하여야 합니다.");
+        }
+
+        // 일자 범위는 시각 범위에서 채워 공통 검증을 재사용
+        BackTestRequest base = request.getBaseRequest();
+        base.setStartDate(request.getStartDateTime().toLocalDate());
+        base.setEndDate(request.getEndDateTime().toLocalDate());
+        backtestService.validateRequest(base);
+        return request;
+    }
+
+    private static IntradayBacktestRequest applyDefaults(IntradayBacktestRequest request) {
+        return IntradayBacktestRequest.builder()
+                .baseRequest(request.getBaseRequest().applyDefaults())
+                .startDateTime(request.getStartDateTime())
+                .endDateTime(request.getEndDateTime())
+                .barMinutes(request.getBarMinutes() != null ? request.getBarMinutes() : DEFAULT_BAR_MINUTES)
+                .noEntrySessions(request.getNoEntrySessions() != null
+                        ? request.getNoEntrySessions()
+                        : EnumSet.of(IntradaySession.MARKET_OPEN, IntradaySession.LUNCH_BREAK, IntradaySession.MARKET_CLOSE))
+                .flattenAtClose(request.getFlattenAtClose() != null ? request.getFlattenAtClose() : Boolean.TRUE)
+                .build();
+    }
+}
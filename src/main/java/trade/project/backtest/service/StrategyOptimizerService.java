@@ -0,0 +1,668 @@
+package trade.project.backtest.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import trade.project.backtest.dto.BackTestRequest;
+import trade.project.backtest.dto.BackTestResult;
+import trade.project.backtest.dto.OptimizationRequest;
+import trade.project.backtest.dto.OptimizationResult;
+import trade.project.backtest.dto.StockData;
+import trade.project.backtest.engine.BacktestEngine;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 유전 알고리즘 파라미터 최적화 서비스 (NSGA-II 방식)
+ * 파라미터 범위를 간격 단위로 나눈 유전자를 토너먼트 선택/균등 교차/변이로 진화시키고,
+ * 부모와 자식을 합쳐 파레토 순위와 밀집 거리로 다음 세대를 고른다 (엘리트 보존).
+ * 적합도는 백트래킹 엔진으로 코어 수만큼 병렬 평가하며, 이미 평가한 유전자는 다시 실행하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StrategyOptimizerService {
+
+    private static final int DEFAULT_POPULATION_SIZE = 40;
+    private static final int DEFAULT_GENERATIONS = 25;
+    private static final double DEFAULT_CROSSOVER_RATE = 0.9;
+    private static final int DEFAULT_STALL_GENERATIONS = 8;
+    private static final int MAX_POPULATION_SIZE = 500;
+    private static final int MAX_GENERATIONS = 200;
+    private static final int MAX_GENE_VALUES = 10_000;
+    private static final List<String> DEFAULT_OBJECTIVES = List.of("RETURN", "MAX_DRAWDOWN");
+    private static final List<String> SUPPORTED_OBJECTIVES = List.of("RETURN", "MAX_DRAWDOWN", "SHARPE", "CALMAR");
+    private static final List<String> INTEGER_KEYS = List.of(
+            "shortPeriod", "longPeriod", "rsiPeriod", "rsiOverbought", "rsiOversold",
+            "macdFastPeriod", "macdSlowPeriod", "macdSignalPeriod");
+    private static final List<String> DECIMAL_KEYS = List.of("stopLoss", "takeProfit", "maxPositionSize");
+
+    private final BacktestService backtestService;
+    private final BacktestEngine backtestEngine;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors()), new WorkerThreadFactory());
+
+    /**
+     * 파라미터 최적화를 실행합니다.
+     * @param request 최적화 요청
+     * @return 파레토 최전선과 실행 통계
+     */
+    public OptimizationResult optimize(OptimizationRequest request) {
+        long started = System.currentTimeMillis();
+        validateRequest(request);
+
+        BackTestRequest base = request.getBaseRequest().applyDefaults();
+        List<Gene> genes = buildGenes(request.getParameterRanges());
+        List<String> objectives = request.getObjectives() != null && !request.getObjectives().isEmpty()
+                ? request.getObjectives().stream().map(objective -> objective.toUpperCase(Locale.ROOT)).toList()
+                : DEFAULT_OBJECTIVES;
+        int populationSize = request.getPopulationSize() != null ? request.getPopulationSize() : DEFAULT_POPULATION_SIZE;
+        int generations = request.getGenerations() != null ? request.getGenerations() : DEFAULT_GENERATIONS;
+        double crossoverRate = request.getCrossoverRate() != null ? request.getCrossoverRate() : DEFAULT_CROSSOVER_RATE;
+        double mutationRate = request.getMutationRate() != null ? request.getMutationRate() : 1.0 / genes.size();
+        int stallLimit = request.getStallGenerations() != null ? request.getStallGenerations() : DEFAULT_STALL_GENERATIONS;
+        Random random = request.getSeed() != null ? new Random(request.getSeed()) : new Random();
+
+        // 가격 데이터는 한 번만 조회해 모든 평가에서 재사용
+        List<StockData> prices = backtestService.getStockData(base);
+        if (prices.isEmpty()) {
+            throw new IllegalArgumentException("최적화에 사용할 가격 데이터가 없습니다: " + base.getStockCode());
+        }
+        Evaluator evaluator = new Evaluator(base, genes, objectives, prices);
+        long searchSpaceSize = searchSpaceSize(genes);
+        log.info("파라미터 최적화 시작: {} - 유전자 {}개, 탐색 공간 {}, 개체 {} x 세대 {}",
+                base.getStockCode(), genes.size(), searchSpaceSize, populationSize, generations);
+
+        // 초기 세대: 기본 요청의 파라미터 + 무작위 개체
+        List<int[]> initial = new ArrayList<>();
+        initial.add(seedGenome(base, genes));
+        while (initial.size() < populationSize) {
+            initial.add(randomGenome(genes, random));
+        }
+        List<Individual> population = evaluator.evaluate(initial);
+        rank(population);
+
+        List<OptimizationResult.GenerationStat> history = new ArrayList<>();
+        Set<String> front = frontOutcomes(population);
+        int stalled = 0;
+        int generation = 0;
+        boolean stoppedEarly = false;
+        while (generation < generations) {
+            generation++;
+
+            // 자식 세대 생성 → 부모와 합쳐 상위 개체 선택
+            List<int[]> offspring = new ArrayList<>(populationSize);
+            while (offspring.size() < populationSize) {
+                int[] first = tournament(population, random).genome;
+                int[] second = tournament(population, random).genome;
+                int[][] children = crossover(first, second, crossoverRate, random);
+                for (int[] child : children) {
+                    if (offspring.size() < populationSize) {
+                        mutate(child, genes, mutationRate, random);
+                        offspring.add(child);
+                    }
+                }
+            }
+            List<Individual> merged = new ArrayList<>(population);
+            merged.addAll(evaluator.evaluate(offspring));
+            population = survivors(merged, populationSize);
+
+            Set<String> nextFront = frontOutcomes(population);
+            stalled = nextFront.equals(front) ? stalled + 1 : 0;
+            front = nextFront;
+            history.add(OptimizationResult.GenerationStat.builder()
+                    .generation(generation)
+                    .evaluatedRuns(evaluator.runs.get())
+                    .paretoSize(front.size())
+                    .bestScore(scale(population.stream()
+                            .mapToDouble(individual -> individual.scores[0]).max().orElse(Double.NaN)))
+                    .build());
+            if (stallLimit > 0 && stalled >= stallLimit) {
+                stoppedEarly = true;
+                break;
+            }
+        }
+
+        Set<String> reported = new HashSet<>();
+        List<Individual> paretoFront = population.stream()
+                .filter(individual -> individual.rank == 0 && individual.evaluation.feasible())
+                .filter(individual -> reported.add(Arrays.toString(individual.scores)))
+                .sorted(Comparator.comparingDouble((Individual individual) -> individual.scores[0]).reversed())
+                .toList();
+        OptimizationResult result = OptimizationResult.builder()
+                .stockCode(base.getStockCode())
+                .strategy(base.getStrategy())
+                .startDate(base.getStartDate())
+                .endDate(base.getEndDate())
+                .objectives(objectives)
+                .best(paretoFront.isEmpty() ? null : toCandidate(paretoFront.get(0), genes))
+                .paretoFront(paretoFront.stream().map(individual -> toCandidate(individual, genes)).toList())
+                .searchSpaceSize(searchSpaceSize)
+                .evaluatedRuns(evaluator.runs.get())
+                .cacheHits(evaluator.cacheHits)
+                .generations(generation)
+                .stoppedEarly(stoppedEarly)
+                .elapsedMillis(System.currentTimeMillis() - started)
+                .history(history)
+                .build();
+
+        log.info("파라미터 최적화 완료: 실행 {}회 (탐색 공간 {}), 캐시 적중 {}회, 파레토 {}개, {}ms",
+                result.getEvaluatedRuns(), searchSpaceSize, result.getCacheHits(),
+                paretoFront.size(), result.getElapsedMillis());
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 파레토 순위와 밀집 거리 계산 (비지배 정렬)
+     */
+    static void rank(List<Individual> population) {
+        int size = population.size();
+        List<List<Integer>> dominated = new ArrayList<>(size);
+        int[] dominatedBy = new int[size];
+        List<Integer> current = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            dominated.add(new ArrayList<>());
+        }
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                double[] a = population.get(i).scores;
+                double[] b = population.get(j).scores;
+                if (dominates(a, b)) {
+                    dominated.get(i).add(j);
+                    dominatedBy[j]++;
+                } else if (dominates(b, a)) {
+                    dominated.get(j).add(i);
+                    dominatedBy[i]++;
+                }
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (dominatedBy[i] == 0) {
+                current.add(i);
+            }
+        }
+
+        int rank = 0;
+        while (!current.isEmpty()) {
+            List<Individual> front = new ArrayList<>(current.size());
+            List<Integer> next = new ArrayList<>();
+            for (int i : current) {
+                population.get(i).rank = rank;
+                front.add(population.get(i));
+                for (int j : dominated.get(i)) {
+                    if (--dominatedBy[j] == 0) {
+                        next.add(j);
+                    }
+                }
+            }
+            assignCrowding(front);
+            current = next;
+            rank++;
+        }
+    }
+
+    /**
+     * a가 b를 지배하는지 (모든 기준에서 같거나 좋고, 하나 이상에서 더 좋음 / 값이 클수록 좋음)
+     */
+    static boolean dominates(double[] a, double[] b) {
+        boolean better = false;
+        for (int k = 0; k < a.length; k++) {
+            if (a[k] < b[k]) {
+                return false;
+            }
+            if (a[k] > b[k]) {
+                better = true;
+            }
+        }
+        return better;
+    }
+
+    private static void assignCrowding(List<Individual> front) {
+        front.forEach(individual -> individual.crowding = 0);
+        int objectives = front.get(0).scores.length;
+        for (int k = 0; k < objectives; k++) {
+            int objective = k;
+            List<Individual> sorted = new ArrayList<>(front);
+            sorted.sort(Comparator.comparingDouble(individual -> individual.scores[objective]));
+            sorted.get(0).crowding = Double.POSITIVE_INFINITY;
+            sorted.get(sorted.size() - 1).crowding = Double.POSITIVE_INFINITY;
+            double range = sorted.get(sorted.size() - 1).scores[k] - sorted.get(0).scores[k];
+            if (!Double.isFinite(range) || range == 0) {
+                continue;
+            }
+            for (int i = 1; i < sorted.size() - 1; i++) {
+                sorted.get(i).crowding += (sorted.get(i + 1).scores[k] - sorted.get(i - 1).scores[k]) / range;
+            }
+        }
+    }
+
+    /**
+     * 다음 세대 선택: 순위 → 밀집 거리 순으로 자르되, 같은 유전자나 같은 성과를 낸 개체는 뒤로 미룸
+     * (결과에 영향이 없는 파라미터만 다른 개체가 최전선을 채우는 것을 방지)
+     */
+    private static List<Individual> survivors(List<Individual> merged, int populationSize) {
+        rank(merged);
+        List<Individual> ordered = new ArrayList<>(merged);
+        ordered.sort(SURVIVAL_ORDER);
+
+        Set<String> genomes = new HashSet<>();
+        Set<String> outcomes = new HashSet<>();
+        List<Individual> next = new ArrayList<>(populationSize);
+        List<Individual> duplicates = new ArrayList<>();
+        for (Individual individual : ordered) {
+            if (!genomes.add(individual.key)) {
+                continue;
+            }
+            if (outcomes.add(Arrays.toString(individual.scores)) && next.size() < populationSize) {
+                next.add(individual);
+            } else {
+                duplicates.add(individual);
+            }
+        }
+        for (int i = 0; next.size() < populationSize && i < duplicates.size(); i++) {
+            next.add(duplicates.get(i));
+        }
+        // 다양성이 부족하면 같은 유전자로 채움
+        for (int i = 0; next.size() < populationSize && i < ordered.size(); i++) {
+            next.add(ordered.get(i));
+        }
+        rank(next);
+        return next;
+    }
+
+    private static final Comparator<Individual> SURVIVAL_ORDER = Comparator
+            .comparingInt((Individual individual) -> individual.rank)
+            .thenComparing(Comparator.comparingDouble((Individual individual) -> individual.crowding).reversed());
+
+    private static Individual tournament(List<Individual> population, Random random) {
+        Individual a = population.get(random.nextInt(population.size()));
+        Individual b = population.get(random.nextInt(population.size()));
+        return SURVIVAL_ORDER.compare(a, b) <= 0 ? a : b;
+    }
+
+    /**
+     * 균등 교차 (유전자마다 어느 부모에게서 받을지 무작위)
+     */
+    private static int[][] crossover(int[] first, int[] second, double crossoverRate, Random random) {
+        int[] a = first.clone();
+        int[] b = second.clone();
+        if (random.nextDouble() < crossoverRate) {
+            for (int i = 0; i < a.length; i++) {
+                if (random.nextBoolean()) {
+                    int swap = a[i];
+                    a[i] = b[i];
+                    b[i] = swap;
+                }
+            }
+        }
+        return new int[][]{a, b};
+    }
+
+    /**
+     * 변이: 대부분은 가까운 값으로 이동하고 가끔 범위 안의 임의 값으로 재설정
+     */
+    private static void mutate(int[] genome, List<Gene> genes, double mutationRate, Random random) {
+        for (int i = 0; i < genome.length; i++) {
+            if (random.nextDouble() >= mutationRate) {
+                continue;
+            }
+            int count = genes.get(i).count;
+            if (random.nextDouble() < 0.2) {
+                genome[i] = random.nextInt(count);
+            } else {
+                int shift = (int) Math.round(random.nextGaussian() * Math.max(1.0, count * 0.1));
+                genome[i] = Math.max(0, Math.min(count - 1, genome[i] + (shift == 0 ? (random.nextBoolean() ? 1 : -1) : shift)));
+            }
+        }
+    }
+
+    private static int[] randomGenome(List<Gene> genes, Random random) {
+        int[] genome = new int[genes.size()];
+        for (int i = 0; i < genome.length; i++) {
+            genome[i] = random.nextInt(genes.get(i).count);
+        }
+        return genome;
+    }
+
+    /**
+     * 기본 요청의 파라미터에 가장 가까운 유전자 (최적화 결과가 기본값보다 나빠지지 않도록 초기 세대에 포함)
+     */
+    private static int[] seedGenome(BackTestRequest base, List<Gene> genes) {
+        int[] genome = new int[genes.size()];
+        for (int i = 0; i < genome.length; i++) {
+            Gene gene = genes.get(i);
+            Number current = currentValue(base, gene.key);
+            double value = current != null ? current.doubleValue() : gene.min;
+            genome[i] = (int) Math.max(0, Math.min(gene.count - 1, Math.round((value - gene.min) / gene.step)));
+        }
+        return genome;
+    }
+
+    /**
+     * 최전선의 성과 집합 (같은 성과를 내는 다른 유전자로 바뀐 것은 개선으로 보지 않음)
+     */
+    private static Set<String> frontOutcomes(List<Individual> population) {
+        Set<String> outcomes = new HashSet<>();
+        for (Individual individual : population) {
+            if (individual.rank == 0) {
+                outcomes.add(Arrays.toString(individual.scores));
+            }
+        }
+        return outcomes;
+    }
+
+    private static List<Gene> buildGenes(Map<String, OptimizationRequest.ParameterRange> ranges) {
+        List<Gene> genes = new ArrayList<>();
+        ranges.forEach((key, range) -> {
+            boolean integer = INTEGER_KEYS.contains(key);
+            double step = range.getStep() != null ? range.getStep() : integer ? 1 : 0.01;
+            if (integer) {
+                step = Math.max(1, Math.round(step));
+            }
+            int count = (int) Math.floor((range.getMax() - range.getMin()) / step + 1e-9) + 1;
+            genes.add(new Gene(key, range.getMin(), step, count, integer));
+        });
+        return genes;
+    }
+
+    private static long searchSpaceSize(List<Gene> genes) {
+        long size = 1;
+        for (Gene gene : genes) {
+            if (size > Long.MAX_VALUE / gene.count) {
+                return Long.MAX_VALUE;
+            }
+            size *= gene.count;
+        }
+        return size;
+    }
+
+    private static OptimizationResult.Candidate toCandidate(Individual individual, List<Gene> genes) {
+        Map<String, Number> parameters = new LinkedHashMap<>();
+        for (int i = 0; i < genes.size(); i++) {
+            parameters.put(genes.get(i).key, genes.get(i).value(individual.genome[i]));
+        }
+        Evaluation evaluation = individual.evaluation;
+        return OptimizationResult.Candidate.builder()
+                .parameters(parameters)
+                .rank(individual.rank)
+                .totalReturnPercent(evaluation.totalReturnPercent())
+                .maxDrawdownPercent(evaluation.maxDrawdownPercent())
+                .sharpeRatio(evaluation.sharpeRatio())
+                .calmarRatio(evaluation.calmarRatio())
+                .totalTrades(evaluation.totalTrades())
+                .build();
+    }
+
+    private static Number currentValue(BackTestRequest request, String key) {
+        return switch (key) {
+            case "shortPeriod" -> request.getShortPeriod();
+            case "longPeriod" -> request.getLongPeriod();
+            case "rsiPeriod" -> request.getRsiPeriod();
+            case "rsiOverbought" -> request.getRsiOverbought();
+            case "rsiOversold" -> request.getRsiOversold();
+            case "macdFastPeriod" -> request.getMacdFastPeriod();
+            case "macdSlowPeriod" -> request.getMacdSlowPeriod();
+            case "macdSignalPeriod" -> request.getMacdSignalPeriod();
+            case "stopLoss" -> request.getStopLoss();
+            case "takeProfit" -> request.getTakeProfit();
+            case "maxPositionSize" -> request.getMaxPositionSize();
+            default -> null;
+        };
+    }
+
+    private static void applyParameter(BackTestRequest request, String key, Number value) {
+        switch (key) {
+            case "shortPeriod" -> request.setShortPeriod(value.intValue());
+            case "longPeriod" -> request.setLongPeriod(value.intValue());
+            case "rsiPeriod" -> request.setRsiPeriod(value.intValue());
+            case "rsiOverbought" -> request.setRsiOverbought(value.intValue());
+            case "rsiOversold" -> request.setRsiOversold(value.intValue());
+            case "macdFastPeriod" -> request.setMacdFastPeriod(value.intValue());
+            case "macdSlowPeriod" -> request.setMacdSlowPeriod(value.intValue());
+            case "macdSignalPeriod" -> request.setMacdSignalPeriod(value.intValue());
+            case "stopLoss" -> request.setStopLoss((BigDecimal) value);
+            case "takeProfit" -> request.setTakeProfit((BigDecimal) value);
+            case "maxPositionSize" -> request.setMaxPositionSize((BigDecimal) value);
+            default -> throw new IllegalArgumentException("지원하지 않는 최적화 파라미터입니다: " + key);
+        }
+    }
+
+    private static BigDecimal scale(double value) {
+        return Double.isFinite(value) ? BigDecimal.valueOf(value).setScale(4, RoundingMode.HALF_UP) : null;
+    }
+
+    /**
+     * 최적화 요청의 유효성을 검사합니다.
+     */
+    private void validateRequest(OptimizationRequest request) {
+        if (request == null || request.getBaseRequest() == null) {
+            throw new IllegalArgumentException("백트래킹 기본 설정은 필수입니다.");
+        }
+        backtestService.validateRequest(request.getBaseRequest());
+
+        if (request.getParameterRanges() == null || request.getParameterRanges().isEmpty()) {
+            throw new IllegalArgumentException("최적화할 파라미터 범위는 필수입니다.");
+        }
+        request.getParameterRanges().forEach((key, range) -> {
+            if (!INTEGER_KEYS.contains(key) && !DECIMAL_KEYS.contains(key)) {
+                throw new IllegalArgumentException("지원하지 않는 최적화 파라미터입니다: " + key);
+            }
+            if (range == null || range.getMin() == null || range.getMax() == null
+                    || range.getMin() <= 0 || range.getMin() > range.getMax()) {
+                throw new IllegalArgumentException("파라미터 범위는 0 < 최소값 <= 최대값이어야 합니다: " + key);
+            }
+            if (DECIMAL_KEYS.contains(key) && range.getMax() > 1) {
+                throw new IllegalArgumentException("비율 파라미터는 1 이하여야 합니다: " + key);
+            }
+            if (range.getStep() != null && range.getStep() <= 0) {
+                throw new IllegalArgumentException("탐색 간격은 0보다 커야 합니다: " + key);
+            }
+            double step = range.getStep() != null ? range.getStep() : INTEGER_KEYS.contains(key) ? 1 : 0.01;
+            if ((range.getMax() - range.getMin()) / step >= MAX_GENE_VALUES) {
+                throw new IllegalArgumentException("파라미터 후보는 " + MAX_GENE_VALUES + "개 이하여야 합니다: " + key);
+            }
+        });
+
+        if (request.getObjectives() != null) {
+            Set<String> objectives = new LinkedHashSet<>();
+            for (String objective : request.getObjectives()) {
+                if (objective == null || !SUPPORTED_OBJECTIVES.contains(objective.toUpperCase(Locale.ROOT))) {
+                    throw new IllegalArgumentException("지원하지 않는 최적화 기준입니다: " + objective);
+                }
+                if (!objectives.add(objective.toUpperCase(Locale.ROOT))) {
+                    throw new IllegalArgumentException("최적화 기준이 중복되었습니다: " + objective);
+                }
+            }
+        }
+        if (request.getPopulationSize() != null
+                && (request.getPopulationSize() < 4 || request.getPopulationSize() > MAX_POPULATION_SIZE)) {
+            throw new IllegalArgumentException("개체 수는 4 이상 " + MAX_POPULATION_SIZE + " 이하여야 합니다.");
+        }
+        if (request.getGenerations() != null
+                && (request.getGenerations() < 1 || request.getGenerations() > MAX_GENERATIONS)) {
+            throw new IllegalArgumentException("세대 수는 1 이상 " + MAX_GENERATIONS + " 이하여야 합니다.");
+        }
+        if (request.getCrossoverRate() != null && (request.getCrossoverRate() < 0 || request.getCrossoverRate() > 1)) {
+            throw new IllegalArgumentException("교차 확률은 0 이상 1 이하여야 합니다.");
+        }
+        if (request.getMutationRate() != null && (request.getMutationRate() < 0 || request.getMutationRate() > 1)) {
+            throw new IllegalArgumentException("변이 확률은 0 이상 1 이하여야 합니다.");
+        }
+        if (request.getStallGenerations() != null && request.getStallGenerations() < 0) {
+            throw new IllegalArgumentException("조기 종료 세대 수는 0 이상이어야 합니다.");
+        }
+    }
+
+    /**
+     * 적합도 평가기 (유전자별 결과 캐시 + 병렬 실행)
+     */
+    private final class Evaluator {
+        private final BackTestRequest base;
+        private final List<Gene> genes;
+        private final List<String> objectives;
+        private final List<StockData> prices;
+        private final Map<String, CompletableFuture<Evaluation>> cache = new HashMap<>();
+        private final AtomicInteger runs = new AtomicInteger();
+        private int cacheHits;
+
+        private Evaluator(BackTestRequest base, List<Gene> genes, List<String> objectives, List<StockData> prices) {
+            this.base = base;
+            this.genes = genes;
+            this.objectives = objectives;
+            this.prices = prices;
+        }
+
+        /**
+         * 한 세대를 평가합니다. (처음 보는 유전자만 병렬 실행)
+         */
+        private List<Individual> evaluate(List<int[]> genomes) {
+            List<String> keys = new ArrayList<>(genomes.size());
+            List<CompletableFuture<Evaluation>> futures = new ArrayList<>(genomes.size());
+            for (int[] genome : genomes) {
+                String key = Arrays.toString(genome);
+                CompletableFuture<Evaluation> future = cache.get(key);
+                if (future != null) {
+                    cacheHits++;
+                } else {
+                    future = CompletableFuture.supplyAsync(() -> run(genome), executor);
+                    cache.put(key, future);
+                }
+                keys.add(key);
+                futures.add(future);
+            }
+
+            List<Individual> individuals = new ArrayList<>(genomes.size());
+            try {
+                for (int i = 0; i < genomes.size(); i++) {
+                    Evaluation evaluation = futures.get(i).join();
+                    individuals.add(new Individual(genomes.get(i), keys.get(i), evaluation, evaluation.scores()));
+                }
+            } catch (CompletionException e) {
+                futures.forEach(future -> future.cancel(true));
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                throw new RuntimeException("파라미터 최적화 실행 실패: " + cause.getMessage(), cause);
+            }
+            return individuals;
+        }
+
+        private Evaluation run(int[] genome) {
+            BackTestRequest request = base.applyDefaults();
+            request.setMonteCarloPaths(0); // 적합도 평가에는 강건성 분석 생략
+            for (int i = 0; i < genes.size(); i++) {
+                applyParameter(request, genes.get(i).key, genes.get(i).value(genome[i]));
+            }
+            if (request.getShortPeriod() >= request.getLongPeriod()
+                    || request.getMacdFastPeriod() >= request.getMacdSlowPeriod()
+                    || request.getRsiOversold() >= request.getRsiOverbought()) {
+                return Evaluation.infeasible(objectives.size());
+            }
+
+            runs.incrementAndGet();
+            BackTestResult result = backtestEngine.runBacktest(request,
+                    WalkForwardService.copyRange(prices, 0, prices.size()));
+            double[] scores = new double[objectives.size()];
+            for (int k = 0; k < scores.length; k++) {
+                scores[k] = score(result, objectives.get(k));
+            }
+            return new Evaluation(true, scores, result.getTotalReturnPercent(), result.getMaxDrawdownPercent(),
+                    result.getSharpeRatio(), result.getCalmarRatio(), result.getTotalTrades());
+        }
+    }
+
+    /**
+     * 최적화 기준 값 (클수록 좋음, 낙폭은 부호를 바꿔 비교 / 값이 없으면 최저)
+     */
+    private static double score(BackTestResult result, String objective) {
+        BigDecimal value = switch (objective) {
+            case "RETURN" -> result.getTotalReturnPercent();
+            case "MAX_DRAWDOWN" -> result.getMaxDrawdownPercent() != null ? result.getMaxDrawdownPercent().negate() : null;
+            case "CALMAR" -> result.getCalmarRatio();
+            default -> result.getSharpeRatio();
+        };
+        return value != null ? value.doubleValue() : Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * 파라미터 하나의 탐색 범위 (min + index * step)
+     */
+    private record Gene(String key, double min, double step, int count, boolean integer) {
+        private Number value(int index) {
+            double value = min + index * step;
+            return integer
+                    ? Integer.valueOf((int) Math.round(value))
+                    : BigDecimal.valueOf(value).setScale(4, RoundingMode.HALF_UP).stripTrailingZeros();
+        }
+    }
+
+    /**
+     * 유전자별 평가 결과 (자산곡선은 보관하지 않음)
+     */
+    private record Evaluation(boolean feasible, double[] scores, BigDecimal totalReturnPercent,
+                              BigDecimal maxDrawdownPercent, BigDecimal sharpeRatio, BigDecimal calmarRatio,
+                              Integer totalTrades) {
+        private static Evaluation infeasible(int objectives) {
+            double[] scores = new double[objectives];
+            Arrays.fill(scores, Double.NEGATIVE_INFINITY);
+            return new Evaluation(false, scores, null, null, null, null, 0);
+        }
+    }
+
+    /**
+     * 개체 (유전자 + 평가 결과 + 세대 내 순위)
+     */
+    static final class Individual {
+        private final int[] genome;
+        private final String key;
+        private final Evaluation evaluation;
+        final double[] scores;
+        int rank;
+        double crowding;
+
+        private Individual(int[] genome, String key, Evaluation evaluation, double[] scores) {
+            this.genome = genome;
+            this.key = key;
+            this.evaluation = evaluation;
+            this.scores = scores;
+        }
+    }
+
+    /**
+     * 데몬 작업 스레드 (애플리케이션 종료를 막지 않음)
+     */
+    private static final class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "optimizer-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,425 @@
+package trade.project.backtest.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import trade.project.backtest.dto.BackTestRequest;
+import trade.project.backtest.dto.BackTestResult;
+import trade.project.backtest.dto.StockData;
+import trade.project.backtest.dto.WalkForwardRequest;
+import trade.project.backtest.dto.WalkForwardResult;
+import trade.project.backtest.engine.BacktestEngine;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 워크포워드 분석 서비스
+ * 학습 구간에서 파라미터 조합을 병렬로 최적화하고, 바로 다음 검증 구간(표본 외)에 적용한 결과를
+ * 하나의 자산곡선으로 이어 붙인다. 가격 데이터는 한 번만 조회해 모든 구간에서 재사용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WalkForwardService {
+
+    private static final int DEFAULT_TRAIN_DAYS = 252; // 약 1년
+    private static final int DEFAULT_TEST_DAYS = 63;   // 약 3개월
+    private static final int MAX_COMBINATIONS = 1000;
+    private static final List<String> GRID_KEYS = List.of(
+            "shortPeriod", "longPeriod", "rsiPeriod", "rsiOverbought", "rsiOversold",
+            "macdFastPeriod", "macdSlowPeriod", "macdSignalPeriod");
+
+    private final BacktestService backtestService;
+    private final BacktestEngine backtestEngine;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors()), new WorkerThreadFactory());
+
+    /**
+     * 워크포워드 분석을 실행합니다.
+     * @param request 워크포워드 요청
+     * @return 구간별 결과와 표본 외 자산곡선
+     */
+    public WalkForwardResult runWalkForward(WalkForwardRequest request) {
+        long started = System.currentTimeMillis();
+        validateRequest(request);
+
+        BackTestRequest base = request.getBaseRequest().applyDefaults();
+        int trainDays = request.getTrainDays() != null ? request.getTrainDays() : DEFAULT_TRAIN_DAYS;
+        int testDays = request.getTestDays() != null ? request.getTestDays() : DEFAULT_TEST_DAYS;
+        int stepDays = request.getStepDays() != null ? request.getStepDays() : testDays;
+        String objective = request.getObjective() != null ? request.getObjective().toUpperCase(Locale.ROOT) : "SHARPE";
+        List<Map<String, Integer>> combinations = expandGrid(base, request.getParameterGrid());
+
+        // 가격 데이터는 전체 기간에 대해 한 번만 조회
+        List<StockData> prices = backtestService.getStockData(base);
+        List<int[]> windows = buildWindows(prices.size(), trainDays, testDays, stepDays);
+        if (windows.isEmpty()) {
+            throw new IllegalArgumentException("워크포워드에 필요한 데이터가 부족합니다: 필요 "
+                    + (trainDays + 1) + "일 이상, 조회 " + prices.size() + "일");
+        }
+        log.info("워크포워드 시작: {} - 구간 {}개, 파라미터 조합 {}개", base.getStockCode(), windows.size(), combinations.size());
+
+        // 구간별로 학습 구간 조합 평가가 끝나는 즉시 최적 조합을 검증 구간에 적용 (구간끼리는 병렬)
+        List<CompletableFuture<WindowRun>> runs = new ArrayList<>();
+        for (int index = 0; index < windows.size(); index++) {
+            int[] window = windows.get(index);
+            int windowIndex = index;
+            List<CompletableFuture<BackTestResult>> inSample = new ArrayList<>();
+            for (Map<String, Integer> parameters : combinations) {
+                inSample.add(CompletableFuture.supplyAsync(() -> backtestEngine.runBacktest(
+                        requestFor(base, parameters, prices, window[0], window[1]),
+                        copyRange(prices, window[0], window[1])), executor));
+            }
+            runs.add(CompletableFuture.allOf(inSample.toArray(new CompletableFuture[0]))
+                    .thenApplyAsync(ignored -> runOutOfSample(windowIndex, window, base, prices,
+                            combinations, inSample, objective), executor));
+        }
+
+        List<WindowRun> windowRuns = new ArrayList<>();
+        try {
+            for (CompletableFuture<WindowRun> run : runs) {
+                windowRuns.add(run.join());
+            }
+        } catch (CompletionException e) {
+            runs.forEach(run -> run.cancel(true));
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof IllegalArgumentException illegalArgument) {
+                throw illegalArgument;
+            }
+            throw new RuntimeException("워크포워드 실행 실패: " + cause.getMessage(), cause);
+        }
+
+        WalkForwardResult result = stitch(base, objective, trainDays, testDays, windowRuns);
+        result.setParameterCombinations(combinations.size());
+        result.setEvaluatedRuns(windows.size() * (combinations.size() + 1));
+        result.setElapsedMillis(System.currentTimeMillis() - started);
+
+        log.info("워크포워드 완료: 표본 외 수익률 = {}%, 실행 {}회, {}ms",
+                result.getTotalReturnPercent(), result.getEvaluatedRuns(), result.getElapsedMillis());
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 학습 구간 최고 점수 조합을 골라 검증 구간에 적용합니다. (학습 구간은 지표 워밍업으로만 사용)
+     */
+    private WindowRun runOutOfSample(int index, int[] window, BackTestRequest base, List<StockData> prices,
+                                     List<Map<String, Integer>> combinations,
+                                     List<CompletableFuture<BackTestResult>> inSample, String objective) {
+        int best = 0;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < inSample.size(); i++) {
+            double score = score(inSample.get(i).join(), objective);
+            if (score > bestScore) {
+                best = i;
+                bestScore = score;
+            }
+        }
+
+        Map<String, Integer> parameters = combinations.get(best);
+        BackTestResult outOfSample = backtestEngine.runBacktest(
+                requestFor(base, parameters, prices, window[1], window[2]),
+                copyRange(prices, window[0], window[2]),
+                window[1] - window[0]);
+        return new WindowRun(index, window, prices, parameters, inSample.get(best).join(),
+                Double.isFinite(bestScore) ? bestScore : 0, outOfSample);
+    }
+
+    /**
+     * 검증 구간 결과를 수익률 기준으로 연결해 하나의 자산곡선을 만듭니다.
+     */
+    private WalkForwardResult stitch(BackTestRequest base, String objective, int trainDays, int testDays,
+                                     List<WindowRun> windowRuns) {
+        BigDecimal initialCapital = base.getInitialCapital();
+        BigDecimal capital = initialCapital;
+        BigDecimal peak = initialCapital;
+        BigDecimal maxDrawdownPercent = BigDecimal.ZERO;
+        BigDecimal inSampleSum = BigDecimal.ZERO;
+        BigDecimal outOfSampleSum = BigDecimal.ZERO;
+        List<WalkForwardResult.EquityPoint> equityCurve = new ArrayList<>();
+        List<WalkForwardResult.WindowResult> windows = new ArrayList<>();
+
+        for (WindowRun run : windowRuns) {
+            BigDecimal windowCapital = capital;
+            for (BackTestResult.PortfolioSnapshot snapshot : run.outOfSample.getPortfolioHistory()) {
+                BigDecimal value = windowCapital.multiply(snapshot.getTotalValue())
+                        .divide(initialCapital, 2, RoundingMode.HALF_UP);
+                if (value.compareTo(peak) > 0) {
+                    peak = value;
+                }
+                BigDecimal drawdownPercent = percentOf(peak.subtract(value), peak);
+                maxDrawdownPercent = maxDrawdownPercent.max(drawdownPercent);
+                equityCurve.add(WalkForwardResult.EquityPoint.builder()
+                        .date(snapshot.getDate())
+                        .totalValue(value)
+                        .returnPercent(percentOf(value.subtract(initialCapital), initialCapital))
+                        .drawdownPercent(drawdownPercent)
+                        .build());
+                capital = value;
+            }
+
+            inSampleSum = inSampleSum.add(run.inSample.getTotalReturnPercent());
+            outOfSampleSum = outOfSampleSum.add(run.outOfSample.getTotalReturnPercent());
+            windows.add(WalkForwardResult.WindowResult.builder()
+                    .index(run.index)
+                    .trainStartDate(run.trainStartDate)
+                    .trainEndDate(run.trainEndDate)
+                    .testStartDate(run.testStartDate)
+                    .testEndDate(run.testEndDate)
+                    .bestParameters(run.parameters)
+                    .inSampleScore(BigDecimal.valueOf(run.score).setScale(4, RoundingMode.HALF_UP))
+                    .inSampleReturnPercent(run.inSample.getTotalReturnPercent())
+                    .outOfSampleReturnPercent(run.outOfSample.getTotalReturnPercent())
+                    .outOfSampleMaxDrawdownPercent(run.outOfSample.getMaxDrawdownPercent())
+                    .outOfSampleTrades(run.outOfSample.getTotalTrades())
+                    .build());
+        }
+
+        BigDecimal windowCount = BigDecimal.valueOf(windowRuns.size());
+        BigDecimal averageInSample = inSampleSum.divide(windowCount, 4, RoundingMode.HALF_UP);
+        BigDecimal averageOutOfSample = outOfSampleSum.divide(windowCount, 4, RoundingMode.HALF_UP);
+
+        // 일평균 수익률 비율 (표본 내 수익이 없으면 의미가 없어 null)
+        BigDecimal efficiency = null;
+        if (averageInSample.signum() > 0) {
+            efficiency = averageOutOfSample.multiply(BigDecimal.valueOf(trainDays))
+                    .divide(averageInSample.multiply(BigDecimal.valueOf(testDays)), 4, RoundingMode.HALF_UP);
+        }
+
+        return WalkForwardResult.builder()
+                .stockCode(base.getStockCode())
+                .strategy(base.getStrategy())
+                .objective(objective)
+                .startDate(windowRuns.get(0).testStartDate)
+                .endDate(windowRuns.get(windowRuns.size() - 1).testEndDate)
+                .initialCapital(initialCapital)
+                .finalCapital(capital)
+                .totalReturnPercent(percentOf(capital.subtract(initialCapital), initialCapital))
+                .maxDrawdownPercent(maxDrawdownPercent)
+                .averageInSampleReturnPercent(averageInSample)
+                .averageOutOfSampleReturnPercent(averageOutOfSample)
+                .walkForwardEfficiency(efficiency)
+                .windowCount(windowRuns.size())
+                .windows(windows)
+                .equityCurve(equityCurve)
+                .build();
+    }
+
+    /**
+     * 최적화 기준 점수 (값이 없으면 최저 점수)
+     */
+    private double score(BackTestResult result, String objective) {
+        BigDecimal value = switch (objective) {
+            case "RETURN" -> result.getTotalReturnPercent();
+            case "CALMAR" -> {
+                BigDecimal drawdown = result.getMaxDrawdownPercent();
+                yield drawdown == null || drawdown.signum() == 0 || result.getAnnualizedReturn() == null
+                        ? result.getAnnualizedReturn()
+                        : result.getAnnualizedReturn().divide(drawdown, 4, RoundingMode.HALF_UP);
+            }
+            default -> result.getSharpeRatio();
+        };
+        return value != null ? value.doubleValue() : Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * [학습 시작, 검증 시작, 검증 끝) 인덱스 구간 목록 (마지막 검증 구간은 남은 데이터만큼 짧아질 수 있음)
+     */
+    static List<int[]> buildWindows(int size, int trainDays, int testDays, int stepDays) {
+        List<int[]> windows = new ArrayList<>();
+        for (int start = 0; start + trainDays < size; start += stepDays) {
+            int testStart = start + trainDays;
+            windows.add(new int[]{start, testStart, Math.min(testStart + testDays, size)});
+        }
+        return windows;
+    }
+
+    /**
+     * 파라미터 후보의 모든 조합 (단기 ≥ 장기처럼 의미 없는 조합은 제외)
+     */
+    private List<Map<String, Integer>> expandGrid(BackTestRequest base, Map<String, List<Integer>> grid) {
+        List<Map<String, Integer>> combinations = new ArrayList<>();
+        combinations.add(new LinkedHashMap<>());
+        if (grid != null) {
+            for (Map.Entry<String, List<Integer>> entry : grid.entrySet()) {
+                if (entry.getValue() == null || entry.getValue().isEmpty()) {
+                    continue;
+                }
+                List<Map<String, Integer>> expanded = new ArrayList<>();
+                for (Map<String, Integer> combination : combinations) {
+                    for (Integer value : entry.getValue()) {
+                        Map<String, Integer> next = new LinkedHashMap<>(combination);
+                        next.put(entry.getKey(), value);
+                        expanded.add(next);
+                    }
+                }
+                if (expanded.size() > MAX_COMBINATIONS) {
+                    throw new IllegalArgumentException("파라미터 조합은 최대 " + MAX_COMBINATIONS + "개까지 가능합니다.");
+                }
+                combinations = expanded;
+            }
+        }
+
+        List<Map<String, Integer>> valid = combinations.stream()
+                .filter(combination -> isValidCombination(base, combination))
+                .toList();
+        if (valid.isEmpty()) {
+            throw new IllegalArgumentException("유효한 파라미터 조합이 없습니다.");
+        }
+        return valid;
+    }
+
+    private boolean isValidCombination(BackTestRequest base, Map<String, Integer> combination) {
+        BackTestRequest request = base.applyDefaults();
+        applyParameters(request, combination);
+        return request.getShortPeriod() < request.getLongPeriod()
+                && request.getMacdFastPeriod() < request.getMacdSlowPeriod()
+                && request.getRsiOversold() < request.getRsiOverbought();
+    }
+
+    private BackTestRequest requestFor(BackTestRequest base, Map<String, Integer> parameters,
+                                       List<StockData> prices, int from, int to) {
+        BackTestRequest request = base.applyDefaults();
+        request.setStartDate(prices.get(from).getDate());
+        request.setEndDate(prices.get(to - 1).getDate());
+        applyParameters(request, parameters);
+        return request;
+    }
+
+    private static void applyParameters(BackTestRequest request, Map<String, Integer> parameters) {
+        parameters.forEach((key, value) -> {
+            switch (key) {
+                case "shortPeriod" -> request.setShortPeriod(value);
+                case "longPeriod" -> request.setLongPeriod(value);
+                case "rsiPeriod" -> request.setRsiPeriod(value);
+                case "rsiOverbought" -> request.setRsiOverbought(value);
+                case "rsiOversold" -> request.setRsiOversold(value);
+                case "macdFastPeriod" -> request.setMacdFastPeriod(value);
+                case "macdSlowPeriod" -> request.setMacdSlowPeriod(value);
+                case "macdSignalPeriod" -> request.setMacdSignalPeriod(value);
+                default -> throw new IllegalArgumentException("지원하지 않는 최적화 파라미터입니다: " + key);
+            }
+        });
+    }
+
+    /**
+     * 엔진이 지표 필드를 기록하므로 실행마다 가격 필드만 복사해 사용합니다.
+     */
+    static List<StockData> copyRange(List<StockData> prices, int from, int to) {
+        List<StockData> copy = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            StockData source = prices.get(i);
+            copy.add(StockData.builder()
+                    .date(source.getDate())
+                    .open(source.getOpen())
+                    .high(source.getHigh())
+                    .low(source.getLow())
+                    .close(source.getClose())
+                    .volume(source.getVolume())
+                    .adjustedClose(source.getAdjustedClose())
+                    .build());
+        }
+        return copy;
+    }
+
+    private static BigDecimal percentOf(BigDecimal value, BigDecimal base) {
+        return value.divide(base, 6, RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100))
+                .setScale(4, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 워크포워드 요청의 유효성을 검사합니다.
+     */
+    private void validateRequest(WalkForwardRequest request) {
+        if (request == null || request.getBaseRequest() == null) {
+            throw new IllegalArgumentException("백트래킹 기본 설정은 필수입니다.");
+        }
+        backtestService.validateRequest(request.getBaseRequest());
+
+        if (request.getTrainDays() != null && request.getTrainDays() <= 0) {
+            throw new IllegalArgumentException("학습 구간은 0보다 커야 합니다.");
+        }
+        if (request.getTestDays() != null && request.getTestDays() <= 0) {
+            throw new IllegalArgumentException("검증 구간은 0보다 커야 합니다.");
+        }
+        int testDays = request.getTestDays() != null ? request.getTestDays() : DEFAULT_TEST_DAYS;
+        if (request.getStepDays() != null && request.getStepDays() < testDays) {
+            throw new IllegalArgumentException("이동 간격은 검증 구간 이상이어야 합니다. (검증 구간 중복 방지)");
+        }
+        if (request.getObjective() != null
+                && !List.of("SHARPE", "RETURN", "CALMAR").contains(request.getObjective().toUpperCase(Locale.ROOT))) {
+            throw new IllegalArgumentException("지원하지 않는 최적화 기준입니다: " + request.getObjective());
+        }
+        if (request.getParameterGrid() != null) {
+            request.getParameterGrid().forEach((key, values) -> {
+                if (!GRID_KEYS.contains(key)) {
+                    throw new IllegalArgumentException("지원하지 않는 최적화 파라미터입니다: " + key);
+                }
+                if (values != null && values.stream().anyMatch(value -> value == null || value <= 0)) {
+                    throw new IllegalArgumentException("최적화 파라미터 값은 0보다 커야 합니다: " + key);
+                }
+            });
+        }
+    }
+
+    /**
+     * 구간별 실행 결과
+     */
+    private static final class WindowRun {
+        private final int index;
+        private final LocalDate trainStartDate;
+        private final LocalDate trainEndDate;
+        private final LocalDate testStartDate;
+        private final LocalDate testEndDate;
+        private final Map<String, Integer> parameters;
+        private final BackTestResult inSample;
+        private final double score;
+        private final BackTestResult outOfSample;
+
+        private WindowRun(int index, int[] window, List<StockData> prices, Map<String, Integer> parameters,
+                          BackTestResult inSample, double score, BackTestResult outOfSample) {
+            this.index = index;
+            this.trainStartDate = prices.get(window[0]).getDate();
+            this.trainEndDate = prices.get(window[1] - 1).getDate();
+            this.testStartDate = prices.get(window[1]).getDate();
+            this.testEndDate = prices.get(window[2] - 1).getDate();
+            this.parameters = parameters;
+            this.inSample = inSample;
+            this.score = score;
+            this.outOfSample = outOfSample;
+        }
+    }
+
+    /**
+     * 데몬 작업 스레드 (애플리케이션 종료를 막지 않음)
+     */
+    private static final class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "walk-forward-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
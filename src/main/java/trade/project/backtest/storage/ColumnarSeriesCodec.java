@@ -0,0 +1,397 @@
+package trade.project.backtest.storage;
+
+import trade.project.backtest.dto.BackTestResult;
+import trade.project.backtest.engine.EquityCurveDownsampler;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 백트래킹 자산곡선/거래 내역의 열 단위 압축 코덱
+ * 일자는 epoch day 차분, 금액/비율은 소수 4자리 고정 정수의 차분을 zigzag varint로 쓰고
+ * 문자열은 사전 인덱스로 바꾼 뒤 전체를 Deflate로 압축한다.
+ * (소수 4자리 미만은 반올림되며, null 금액은 0으로 저장된다)
+ * 형식 버전 2부터 거래 내역에 거래세/슬리피지 열이 추가되며, 버전 1 데이터도 읽을 수 있다.
+ */
+public final class ColumnarSeriesCodec {
+
+    public static final int FORMAT_VERSION = 2;
+    private static final int MIN_READABLE_VERSION = 1;
+    public static final int SCALE = 4;
+
+    private ColumnarSeriesCodec() {
+    }
+
+    /**
+     * 자산곡선 인코딩 (일자, 현금, 평가금액, 총자산, 수익률, 낙폭, 낙폭률)
+     */
+    public static byte[] encodeEquity(List<BackTestResult.PortfolioSnapshot> history) {
+        int size = history != null ? history.size() : 0;
+        ColumnWriter writer = new ColumnWriter(size);
+
+        long previousDay = 0;
+        for (int i = 0; i < size; i++) {
+            long day = history.get(i).getDate().toEpochDay();
+            writer.writeSigned(day - previousDay);
+            previousDay = day;
+        }
+        writer.writeDecimalColumn(history, size, BackTestResult.PortfolioSnapshot::getCapital);
+        writer.writeDecimalColumn(history, size, BackTestResult.PortfolioSnapshot::getPosition);
+        writer.writeDecimalColumn(history, size, BackTestResult.PortfolioSnapshot::getTotalValue);
+        writer.writeDecimalColumn(history, size, BackTestResult.PortfolioSnapshot::getReturnPercent);
+        writer.writeDecimalColumn(history, size, BackTestResult.PortfolioSnapshot::getDrawdown);
+        writer.writeDecimalColumn(history, size, BackTestResult.PortfolioSnapshot::getDrawdownPercent);
+        return writer.toCompressedBytes();
+    }
+
+    /**
+     * 자산곡선 디코딩 (객체 생성 없이 원시 배열로 복원)
+     */
+    public static EquityColumns decodeEquity(byte[] data) {
+        ColumnReader reader = new ColumnReader(data);
+        int size = reader.size();
+        long[] epochDays = new long[size];
+        long day = 0;
+        for (int i = 0; i < size; i++) {
+            day += reader.readSigned();
+            epochDays[i] = day;
+        }
+        return new EquityColumns(epochDays,
+                reader.readDeltaColumn(size),
+                reader.readDeltaColumn(size),
+                reader.readDeltaColumn(size),
+                reader.readDeltaColumn(size),
+                reader.readDeltaColumn(size),
+                reader.readDeltaColumn(size));
+    }
+
+    /**
+     * 거래 내역 인코딩 (일자, 구분, 가격, 수량, 금액, 수수료, 잔고, 보유수량, 사유, 거래세, 슬리피지)
+     */
+    public static byte[] encodeTrades(List<BackTestResult.TradeRecord> trades) {
+        int size = trades != null ? trades.size() : 0;
+        ColumnWriter writer = new ColumnWriter(size);
+
+        long previousDay = 0;
+        for (int i = 0; i < size; i++) {
+            long day = trades.get(i).getDate().toEpochDay();
+            writer.writeSigned(day - previousDay);
+            previousDay = day;
+        }
+        writer.writeStringColumn(trades, size, BackTestResult.TradeRecord::getAction);
+        writer.writeDecimalColumn(trades, size, BackTestResult.TradeRecord::getPrice);
+        for (int i = 0; i < size; i++) {
+            Integer quantity = trades.get(i).getQuantity();
+            writer.writeSigned(quantity != null ? quantity : 0);
+        }
+        writer.writeDecimalColumn(trades, size, BackTestResult.TradeRecord::getAmount);
+        writer.writeDecimalColumn(trades, size, BackTestResult.TradeRecord::getCommission);
+        writer.writeDecimalColumn(trades, size, BackTestResult.TradeRecord::getBalance);
+        writer.writeDecimalColumn(trades, size, BackTestResult.TradeRecord::getPosition);
+        writer.writeStringColumn(trades, size, BackTestResult.TradeRecord::getReason);
+        writer.writeDecimalColumn(trades, size, BackTestResult.TradeRecord::getTax);
+        writer.writeDecimalColumn(trades, size, BackTestResult.TradeRecord::getSlippage);
+        return writer.toCompressedBytes();
+    }
+
+    /**
+     * 거래 내역 디코딩
+     */
+    public static List<BackTestResult.TradeRecord> decodeTrades(byte[] data) {
+        ColumnReader reader = new ColumnReader(data);
+        int size = reader.size();
+        long[] epochDays = new long[size];
+        long day = 0;
+        for (int i = 0; i < size; i++) {
+            day += reader.readSigned();
+            epochDays[i] = day;
+        }
+        String[] actions = reader.readStringColumn(size);
+        long[] prices = reader.readDeltaColumn(size);
+        long[] quantities = new long[size];
+        for (int i = 0; i < size; i++) {
+            quantities[i] = reader.readSigned();
+        }
+        long[] amounts = reader.readDeltaColumn(size);
+        long[] commissions = reader.readDeltaColumn(size);
+        long[] balances = reader.readDeltaColumn(size);
+        long[] positions = reader.readDeltaColumn(size);
+        String[] reasons = reader.readStringColumn(size);
+        long[] taxes = reader.version() >= 2 ? reader.readDeltaColumn(size) : null;
+        long[] slippages = reader.version() >= 2 ? reader.readDeltaColumn(size) : null;
+
+        List<BackTestResult.TradeRecord> trades = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            trades.add(BackTestResult.TradeRecord.builder()
+                    .date(LocalDate.ofEpochDay(epochDays[i]))
+                    .action(actions[i])
+                    .price(toDecimal(prices[i]))
+                    .quantity((int) quantities[i])
+                    .amount(toDecimal(amounts[i]))
+                    .commission(toDecimal(commissions[i]))
+                    .tax(taxes != null ? toDecimal(taxes[i]) : null)
+                    .slippage(slippages != null ? toDecimal(slippages[i]) : null)
+                    .balance(toDecimal(balances[i]))
+                    .position(toDecimal(positions[i]))
+                    .reason(reasons[i])
+                    .build());
+        }
+        return trades;
+    }
+
+    static long toScaled(BigDecimal value) {
+        return value != null ? value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact() : 0L;
+    }
+
+    static BigDecimal toDecimal(long scaled) {
+        return BigDecimal.valueOf(scaled, SCALE);
+    }
+
+    /**
+     * 디코딩된 자산곡선 열 (소수 4자리 고정 정수)
+     */
+    public static final class EquityColumns {
+        private final long[] epochDays;
+        private final long[] capital;
+        private final long[] position;
+        private final long[] totalValue;
+        private final long[] returnPercent;
+        private final long[] drawdown;
+        private final long[] drawdownPercent;
+
+        EquityColumns(long[] epochDays, long[] capital, long[] position, long[] totalValue,
+                      long[] returnPercent, long[] drawdown, long[] drawdownPercent) {
+            this.epochDays = epochDays;
+            this.capital = capital;
+            this.position = position;
+            this.totalValue = totalValue;
+            this.returnPercent = returnPercent;
+            this.drawdown = drawdown;
+            this.drawdownPercent = drawdownPercent;
+        }
+
+        public int size() {
+            return epochDays.length;
+        }
+
+        /**
+         * 지정한 위치의 스냅샷 생성
+         */
+        public BackTestResult.PortfolioSnapshot snapshotAt(int index) {
+            return BackTestResult.PortfolioSnapshot.builder()
+                    .date(LocalDate.ofEpochDay(epochDays[index]))
+                    .capital(toDecimal(capital[index]))
+                    .position(toDecimal(position[index]))
+                    .totalValue(toDecimal(totalValue[index]))
+                    .returnPercent(toDecimal(returnPercent[index]))
+                    .drawdown(toDecimal(drawdown[index]))
+                    .drawdownPercent(toDecimal(drawdownPercent[index]))
+                    .build();
+        }
+
+        /**
+         * 전체 스냅샷 목록
+         */
+        public List<BackTestResult.PortfolioSnapshot> toSnapshots() {
+            List<BackTestResult.PortfolioSnapshot> snapshots = new ArrayList<>(size());
+            for (int i = 0; i < size(); i++) {
+                snapshots.add(snapshotAt(i));
+            }
+            return snapshots;
+        }
+
+        /**
+         * LTTB로 축소한 스냅샷 목록 (첫/마지막 지점 포함, 최대 maxPoints개)
+         */
+        public List<BackTestResult.PortfolioSnapshot> downsample(int maxPoints) {
+            int[] indices = EquityCurveDownsampler.selectIndices(size(), maxPoints,
+                    i -> epochDays[i], i -> totalValue[i]);
+            List<BackTestResult.PortfolioSnapshot> points = new ArrayList<>(indices.length);
+            for (int index : indices) {
+                points.add(snapshotAt(index));
+            }
+            return points;
+        }
+    }
+
+    /**
+     * 열 쓰기 버퍼
+     */
+    private static final class ColumnWriter {
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        ColumnWriter(int size) {
+            buffer.write(FORMAT_VERSION);
+            writeUnsigned(size);
+        }
+
+        <T> void writeDecimalColumn(List<T> rows, int size, Function<T, BigDecimal> getter) {
+            long previous = 0;
+            for (int i = 0; i < size; i++) {
+                long scaled = toScaled(getter.apply(rows.get(i)));
+                writeSigned(scaled - previous);
+                previous = scaled;
+            }
+        }
+
+        <T> void writeStringColumn(List<T> rows, int size, Function<T, String> getter) {
+            // 사전: 0은 null, 1부터 등장 순서
+            Map<String, Integer> dictionary = new HashMap<>();
+            List<String> values = new ArrayList<>();
+            int[] indices = new int[size];
+            for (int i = 0; i < size; i++) {
+                String value = getter.apply(rows.get(i));
+                if (value != null) {
+                    Integer index = dictionary.get(value);
+                    if (index == null) {
+                        values.add(value);
+                        index = values.size();
+                        dictionary.put(value, index);
+                    }
+                    indices[i] = index;
+                }
+            }
+            writeUnsigned(values.size());
+            for (String value : values) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeUnsigned(bytes.length);
+                buffer.write(bytes, 0, bytes.length);
+            }
+            for (int index : indices) {
+                writeUnsigned(index);
+            }
+        }
+
+        void writeSigned(long value) {
+            writeUnsigned((value << 1) ^ (value >> 63));
+        }
+
+        void writeUnsigned(long value) {
+            while ((value & ~0x7FL) != 0) {
+                buffer.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.write((int) value);
+        }
+
+        byte[] toCompressedBytes() {
+            byte[] raw = buffer.toByteArray();
+            Deflater deflater = new Deflater();
+            try {
+                deflater.setInput(raw);
+                deflater.finish();
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, raw.length / 2));
+                byte[] chunk = new byte[8192];
+                while (!deflater.finished()) {
+                    int length = deflater.deflate(chunk);
+                    compressed.write(chunk, 0, length);
+                }
+                return compressed.toByteArray();
+            } finally {
+                deflater.end();
+            }
+        }
+    }
+
+    /**
+     * 열 읽기 버퍼
+     */
+    private static final class ColumnReader {
+        private final byte[] data;
+        private final int version;
+        private final int size;
+        private int position;
+
+        ColumnReader(byte[] compressed) {
+            this.data = inflate(compressed);
+            this.version = data[position++];
+            if (version < MIN_READABLE_VERSION || version > FORMAT_VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 저장 형식 버전입니다: " + version);
+            }
+            this.size = (int) readUnsigned();
+        }
+
+        int version() {
+            return version;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long[] readDeltaColumn(int count) {
+            long[] values = new long[count];
+            long value = 0;
+            for (int i = 0; i < count; i++) {
+                value += readSigned();
+                values[i] = value;
+            }
+            return values;
+        }
+
+        String[] readStringColumn(int count) {
+            int dictionarySize = (int) readUnsigned();
+            String[] dictionary = new String[dictionarySize + 1];
+            for (int i = 1; i <= dictionarySize; i++) {
+                int length = (int) readUnsigned();
+                dictionary[i] = new String(data, position, length, StandardCharsets.UTF_8);
+                position += length;
+            }
+            String[] values = new String[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = dictionary[(int) readUnsigned()];
+            }
+            return values;
+        }
+
+        long readSigned() {
+            long raw = readUnsigned();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        long readUnsigned() {
+            long value = 0;
+            int shift = 0;
+            while (true) {
+                byte b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+                shift += 7;
+            }
+        }
+
+        private static byte[] inflate(byte[] compressed) {
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(compressed);
+                ByteArrayOutputStream raw = new ByteArrayOutputStream(compressed.length * 4);
+                byte[] chunk = new byte[8192];
+                while (!inflater.finished()) {
+                    int length = inflater.inflate(chunk);
+                    if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        throw new IllegalArgumentException("손상된 압축 데이터입니다");
+                    }
+                    raw.write(chunk, 0, length);
+                }
+                return raw.toByteArray();
+            } catch (DataFormatException e) {
+                throw new IllegalArgumentException("손상된 압축 데이터입니다", e);
+            } finally {
+                inflater.end();
+            }
+        }
+    }
+}
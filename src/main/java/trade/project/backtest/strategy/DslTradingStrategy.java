@@ -0,0 +1,55 @@
+package trade.project.backtest.strategy;
+
+import trade.project.backtest.dto.BackTestRequest;
+import trade.project.backtest.pipeline.PipelineSpec;
+import trade.project.backtest.pipeline.StrategyPipelineCompiler;
+
+/**
+ * 규칙식으로 정의한 사용자 전략
+ * 등록 시점에 규칙식을 컴파일해 구문 오류를 바로 알려주고, 이후에는 캐시된 파이프라인을 사용한다.
+ */
+public class DslTradingStrategy implements PipelineTradingStrategy {
+
+    private final String name;
+    private final String description;
+    private final String buyExpression;
+    private final String sellExpression;
+
+    public DslTradingStrategy(String name, String description, String buyExpression, String sellExpression) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("전략 이름은 필수입니다.");
+        }
+        this.name = name.trim().toUpperCase();
+        this.description = description;
+        this.buyExpression = buyExpression;
+        this.sellExpression = sellExpression;
+        // 구문 검증 (오류 시 IllegalArgumentException)
+        StrategyPipelineCompiler.compile(getPipelineSpec(BackTestRequest.getDefault()));
+    }
+
+    @Override
+    public PipelineSpec getPipelineSpec(BackTestRequest request) {
+        return PipelineSpec.fromBackTestRequest(PipelineSpec.Type.DSL, request).toBuilder()
+                .buyExpression(buyExpression)
+                .sellExpression(sellExpression)
+                .build();
+    }
+
+    @Override
+    public String getStrategyName() {
+        return name;
+    }
+
+    @Override
+    public String getStrategyDescription() {
+        return description != null ? description : "매수: " + buyExpression + " / 매도: " + sellExpression;
+    }
+
+    public String getBuyExpression() {
+        return buyExpression;
+    }
+
+    public String getSellExpression() {
+        return sellExpression;
+    }
+}
@@ -0,0 +1,44 @@
+package trade.project.backtest.strategy;
+
+import trade.project.backtest.dto.BackTestRequest;
+import trade.project.backtest.dto.StockData;
+import trade.project.backtest.pipeline.IndicatorGraph;
+import trade.project.backtest.pipeline.PipelineContext;
+import trade.project.backtest.pipeline.PipelineSpec;
+import trade.project.backtest.pipeline.StrategyPipeline;
+import trade.project.backtest.pipeline.StrategyPipelineCompiler;
+
+import java.util.List;
+
+/**
+ * 컴파일된 파이프라인으로 신호를 만드는 전략
+ * 백테스트 엔진은 파이프라인 상태를 봉마다 증분 갱신하므로 generateSignal은 단건 호출용이다.
+ */
+public interface PipelineTradingStrategy extends TradingStrategy {
+
+    /**
+     * 요청 파라미터 기반 파이프라인 정의
+     */
+    PipelineSpec getPipelineSpec(BackTestRequest request);
+
+    /**
+     * 과거 데이터를 처음부터 재생해 현재 신호 계산 (O(n))
+     */
+    @Override
+    default String generateSignal(StockData currentData, List<StockData> historicalData, BackTestRequest request) {
+        if (currentData == null || historicalData == null || historicalData.isEmpty()) {
+            return StrategyPipeline.HOLD;
+        }
+        StrategyPipeline pipeline = StrategyPipelineCompiler.compile(getPipelineSpec(request));
+        IndicatorGraph graph = pipeline.newGraph();
+        for (StockData data : historicalData) {
+            double close = data.getClose().doubleValue();
+            graph.update(close,
+                    data.getHigh() != null ? data.getHigh().doubleValue() : close,
+                    data.getLow() != null ? data.getLow().doubleValue() : close);
+        }
+        PipelineContext context = new PipelineContext()
+                .reset(graph, currentData.getClose().doubleValue(), 0, 0, Double.NaN);
+        return pipeline.evaluate(context);
+    }
+}
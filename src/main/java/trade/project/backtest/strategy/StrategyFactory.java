@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import jakarta.annotation.PostConstruct;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -19,6 +20,9 @@ public class StrategyFactory {
     
     private final Map<String, TradingStrategy> strategyMap = new ConcurrentHashMap<>();
     
+    // 런타임에 등록된 사용자 전략 (재배포 없이 추가/제거)
+    private final Map<String, TradingStrategy> customStrategies = new ConcurrentHashMap<>();
+    
     /**
      * 전략 맵을 초기화합니다.
      */
@@ -54,7 +58,49 @@ public class StrategyFactory {
      * @return 전략 목록
      */
     public List<TradingStrategy> getAvailableStrategies() {
-        return strategies;
+        if (customStrategies.isEmpty()) {
+            return strategies;
+        }
+        List<TradingStrategy> available = new ArrayList<>(strategies);
+        available.addAll(customStrategies.values());
+        return available;
+    }
+    
+    /**
+     * 사용자 전략을 런타임에 등록합니다.
+     * @param strategy 등록할 전략
+     */
+    public void registerStrategy(TradingStrategy strategy) {
+        if (strategy == null || strategy.getStrategyName() == null) {
+            throw new IllegalArgumentException("전략 이름은 필수입니다.");
+        }
+        String strategyName = strategy.getStrategyName().toUpperCase();
+        TradingStrategy existing = strategyMap.get(strategyName);
+        if (existing != null && !customStrategies.containsKey(strategyName)) {
+            throw new IllegalArgumentException("기본 전략은 덮어쓸 수 없습니다: " + strategyName);
+        }
+        customStrategies.put(strategyName, strategy);
+        strategyMap.put(strategyName, strategy);
+        log.info("사용자 전략 등록: {} - {}", strategyName, strategy.getStrategyDescription());
+    }
+    
+    /**
+     * 런타임에 등록된 사용자 전략을 제거합니다.
+     * @param strategyName 전략 이름
+     * @return 제거 여부
+     */
+    public boolean unregisterStrategy(String strategyName) {
+        if (strategyName == null) {
+            return false;
+        }
+        String key = strategyName.toUpperCase();
+        TradingStrategy removed = customStrategies.remove(key);
+        if (removed == null) {
+            return false;
+        }
+        strategyMap.remove(key, removed);
+        log.info("사용자 전략 제거: {}", key);
+        return true;
     }
     
     /**
@@ -0,0 +1,132 @@
+package trade.project.common.client;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 엔드포인트별 서킷 브레이커 (최근 호출 N건 기준 실패율)
+ * - CLOSED: 최근 WINDOW_SIZE건 중 최소 MIN_CALLS건 이상이고 실패율이 기준 이상이면 OPEN
+ * - OPEN: 대기 시간 동안 호출하지 않고 바로 거절
+ * - HALF_OPEN: 대기 시간이 지나면 시험 호출 1건만 허용, 성공하면 CLOSED, 실패하면 다시 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    static final int WINDOW_SIZE = 20;
+    static final int MIN_CALLS = 10;
+    static final double FAILURE_RATE_THRESHOLD = 0.5;
+    static final long OPEN_MILLIS = 10_000;
+
+    private final LongSupplier nanoClock;
+    private final boolean[] outcomes = new boolean[WINDOW_SIZE]; // true = 실패
+    private int recorded;
+    private int next;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private boolean probeInFlight;
+    private long rejected;
+    private long opened;
+
+    public CircuitBreaker(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 호출 허용 여부 (허용되면 결과를 onSuccess/onFailure로 반드시 알려야 함)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAtNanos < TimeUnit.MILLISECONDS.toNanos(OPEN_MILLIS)) {
+                rejected++;
+                return false;
+            }
+            state = State.HALF_OPEN;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                rejected++;
+                return false;
+            }
+            probeInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            reset(State.CLOSED);
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (recorded >= MIN_CALLS && (double) failures / recorded >= FAILURE_RATE_THRESHOLD) {
+            open();
+        }
+    }
+
+    /**
+     * 결과를 집계하지 않고 허용만 반납 (호출 자체를 하지 못한 경우)
+     */
+    public synchronized void release() {
+        probeInFlight = false;
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAtNanos >= TimeUnit.MILLISECONDS.toNanos(OPEN_MILLIS)) {
+            return State.HALF_OPEN; // 다음 호출에서 시험 호출
+        }
+        return state;
+    }
+
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("state", getState().name());
+        status.put("windowCalls", recorded);
+        status.put("windowFailures", failures);
+        status.put("failureRate", recorded > 0 ? Math.round(failures * 1000.0 / recorded) / 10.0 : 0.0);
+        status.put("rejected", rejected);
+        status.put("opened", opened);
+        return status;
+    }
+
+    private void record(boolean failed) {
+        if (recorded == WINDOW_SIZE) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failed;
+        if (failed) {
+            failures++;
+        }
+        next = (next + 1) % WINDOW_SIZE;
+    }
+
+    private void open() {
+        reset(State.OPEN);
+        openedAtNanos = nanoClock.getAsLong();
+        opened++;
+    }
+
+    private void reset(State newState) {
+        state = newState;
+        probeInFlight = false;
+        recorded = 0;
+        next = 0;
+        failures = 0;
+    }
+}
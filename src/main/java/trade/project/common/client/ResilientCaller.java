@@ -0,0 +1,320 @@
+package trade.project.common.client;
+
+import lombok.extern.slf4j.Slf4j;
+import trade.project.common.exception.ApiException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 조회 호출 보호 (엔드포인트별 서킷 브레이커 + 재시도 + 헤지 요청)
+ * - 서킷이 열려 있으면 호출하지 않고 CIRCUIT_OPEN으로 바로 실패
+ * - 시도마다 제한 시간을 두고, 일시 장애(타임아웃/5xx/429/네트워크)만 지수 백오프 + 지터로 재시도
+ * - 헤지 정책이면 응답이 최근 p95보다 늦을 때 같은 요청을 한 번 더 보내 먼저 성공한 결과를 사용
+ * 멱등인 GET 조회에만 사용한다. (주문 등 POST는 재시도하면 중복 실행될 수 있음)
+ */
+@Slf4j
+public class ResilientCaller {
+
+    /**
+     * 호출 정책
+     * @param maxAttempts 최대 시도 횟수 (첫 시도 포함)
+     * @param attemptTimeoutMillis 시도당 제한 시간
+     * @param hedged 지연 시 헤지 요청 여부
+     */
+    public record Policy(int maxAttempts, long attemptTimeoutMillis, boolean hedged) {
+    }
+
+    static final long BASE_BACKOFF_MILLIS = 100;
+    static final long MAX_BACKOFF_MILLIS = 1_000;
+    static final int LATENCY_SAMPLES = 128;
+    static final int MIN_HEDGE_SAMPLES = 20;
+    static final long MIN_HEDGE_DELAY_MILLIS = 50;
+
+    private final String name;
+    private final Runnable acquirePermit;
+    private final BooleanSupplier tryAcquirePermit;
+    private final ExecutorService executor;
+    private final LongSupplier nanoClock;
+    private final long baseBackoffMillis;
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * @param name 로그/스레드 이름
+     * @param acquirePermit 시도마다 호출 한도 획득 (대기)
+     * @param tryAcquirePermit 헤지 요청용 호출 한도 획득 (대기 없이, 한도가 없으면 헤지 생략)
+     */
+    public ResilientCaller(String name, Runnable acquirePermit, BooleanSupplier tryAcquirePermit) {
+        this(name, acquirePermit, tryAcquirePermit, Executors.newCachedThreadPool(threadFactory(name)),
+                System::nanoTime, BASE_BACKOFF_MILLIS);
+    }
+
+    ResilientCaller(String name, Runnable acquirePermit, BooleanSupplier tryAcquirePermit,
+                    ExecutorService executor, LongSupplier nanoClock, long baseBackoffMillis) {
+        this.name = name;
+        this.acquirePermit = acquirePermit;
+        this.tryAcquirePermit = tryAcquirePermit;
+        this.executor = executor;
+        this.nanoClock = nanoClock;
+        this.baseBackoffMillis = baseBackoffMillis;
+    }
+
+    /**
+     * 정책에 따라 호출합니다.
+     * @param endpoint 서킷/통계 구분 키
+     * @param policy 호출 정책
+     * @param call 실제 호출 (호출 스레드가 아닌 작업 스레드에서 실행, 시간 초과 시 인터럽트)
+     * @return 호출 결과
+     */
+    public <T> T call(String endpoint, Policy policy, Supplier<T> call) {
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, key -> new Endpoint(new CircuitBreaker(nanoClock)));
+        stats.calls.increment();
+
+        for (int attempt = 1; ; attempt++) {
+            if (!stats.breaker.tryAcquire()) {
+                throw new ApiException(name + " " + endpoint + " 서킷 열림 (호출 생략)", "CIRCUIT_OPEN", 503);
+            }
+            long startedAt = nanoClock.getAsLong();
+            try {
+                acquirePermit.run();
+                stats.attempts.increment();
+                T result = policy.hedged() ? hedged(stats, policy, call) : single(policy, call);
+                stats.breaker.onSuccess();
+                stats.recordLatency(TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - startedAt));
+                return result;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stats.breaker.release();
+                throw new ApiException(name + " " + endpoint + " 호출 중단", e);
+            } catch (Exception e) {
+                if (!isTransient(e)) {
+                    stats.breaker.onSuccess(); // 상대 서버는 응답함 (요청 오류)
+                    throw asApiException(e);
+                }
+                stats.breaker.onFailure();
+                stats.failures.increment();
+                if (e instanceof ApiException apiException && "TIMEOUT".equals(apiException.getErrorCode())) {
+                    stats.timeouts.increment();
+                }
+                if (attempt >= policy.maxAttempts()) {
+                    log.warn("{} {} 호출 실패 ({}회 시도): {}", name, endpoint, attempt, e.getMessage());
+                    throw asApiException(e);
+                }
+                stats.retries.increment();
+                if (!backoff(attempt)) {
+                    throw asApiException(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 엔드포인트별 서킷 상태와 호출 통계
+     */
+    public Map<String, Object> status() {
+        Map<String, Object> status = new TreeMap<>();
+        endpoints.forEach((endpoint, stats) -> status.put(endpoint, stats.status()));
+        return status;
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T single(Policy policy, Supplier<T> call) throws Exception {
+        Future<T> future = executor.submit(call::get);
+        try {
+            return future.get(policy.attemptTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw timeout(policy);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } finally {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * 헤지 요청: 첫 요청이 p95 안에 끝나지 않으면 같은 요청을 한 번 더 보내 먼저 성공한 쪽을 사용
+     */
+    private <T> T hedged(Endpoint stats, Policy policy, Supplier<T> call) throws Exception {
+        long hedgeDelayMillis = stats.hedgeDelayMillis(policy.attemptTimeoutMillis());
+        if (hedgeDelayMillis < 0) {
+            return single(policy, call); // 지연 분포를 알기 전에는 헤지하지 않음
+        }
+
+        ExecutorCompletionService<T> completion = new ExecutorCompletionService<>(executor);
+        List<Future<T>> futures = new ArrayList<>(2);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(policy.attemptTimeoutMillis());
+        futures.add(completion.submit(call::get));
+        try {
+            Future<T> done = completion.poll(hedgeDelayMillis, TimeUnit.MILLISECONDS);
+            if (done == null && tryAcquirePermit.getAsBoolean()) {
+                futures.add(completion.submit(call::get));
+                stats.hedges.increment();
+            }
+
+            Exception lastError = null;
+            for (int pending = futures.size(); pending > 0; pending--) {
+                if (done == null) {
+                    done = completion.poll(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+                    if (done == null) {
+                        throw timeout(policy);
+                    }
+                }
+                try {
+                    T result = done.get();
+                    if (done != futures.get(0)) {
+                        stats.hedgeWins.increment();
+                    }
+                    return result;
+                } catch (ExecutionException e) {
+                    lastError = unwrap(e);
+                }
+                done = null;
+            }
+            throw lastError;
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * 전체 지터 지수 백오프 (false면 대기 중 인터럽트)
+     */
+    private boolean backoff(int attempt) {
+        long cap = Math.min(baseBackoffMillis << (attempt - 1), MAX_BACKOFF_MILLIS);
+        if (cap <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 일시 장애 여부 (HTTP 4xx 중 408/429를 제외한 요청 오류는 재시도하지 않음)
+     */
+    static boolean isTransient(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ApiException apiException && "HTTP_ERROR".equals(apiException.getErrorCode())) {
+                int status = apiException.getStatusCode();
+                return status >= 500 || status == 408 || status == 429;
+            }
+            if (cause instanceof IllegalArgumentException) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ApiException timeout(Policy policy) {
+        return new ApiException(name + " 응답 시간 초과 (" + policy.attemptTimeoutMillis() + "ms)", "TIMEOUT", 504);
+    }
+
+    private static Exception unwrap(ExecutionException e) {
+        return e.getCause() instanceof Exception cause ? cause : e;
+    }
+
+    private static ApiException asApiException(Exception e) {
+        return e instanceof ApiException apiException ? apiException : new ApiException(e.getMessage(), e);
+    }
+
+    private static ThreadFactory threadFactory(String name) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name.toLowerCase() + "-call-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 엔드포인트별 서킷과 통계
+     */
+    private static final class Endpoint {
+
+        private final CircuitBreaker breaker;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder hedges = new LongAdder();
+        private final LongAdder hedgeWins = new LongAdder();
+
+        private final long[] latencies = new long[LATENCY_SAMPLES]; // 최근 성공 응답 시간 (ms)
+        private int latencyCount;
+        private int latencyNext;
+
+        private Endpoint(CircuitBreaker breaker) {
+            this.breaker = breaker;
+        }
+
+        private synchronized void recordLatency(long millis) {
+            latencies[latencyNext] = millis;
+            latencyNext = (latencyNext + 1) % LATENCY_SAMPLES;
+            latencyCount = Math.min(latencyCount + 1, LATENCY_SAMPLES);
+        }
+
+        private synchronized long percentile(double quantile) {
+            if (latencyCount == 0) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(latencies, latencyCount);
+            Arrays.sort(sorted);
+            return sorted[Math.min((int) Math.ceil(quantile * latencyCount) - 1, latencyCount - 1)];
+        }
+
+        /**
+         * 헤지 대기 시간 (p95, 표본이 부족하면 -1)
+         */
+        private long hedgeDelayMillis(long attemptTimeoutMillis) {
+            synchronized (this) {
+                if (latencyCount < MIN_HEDGE_SAMPLES) {
+                    return -1;
+                }
+            }
+            return Math.min(Math.max(percentile(0.95), MIN_HEDGE_DELAY_MILLIS), attemptTimeoutMillis / 2);
+        }
+
+        private Map<String, Object> status() {
+            Map<String, Object> status = new HashMap<>(breaker.status());
+            status.put("calls", calls.sum());
+            status.put("attempts", attempts.sum());
+            status.put("failures", failures.sum());
+            status.put("timeouts", timeouts.sum());
+            status.put("retries", retries.sum());
+            status.put("hedges", hedges.sum());
+            status.put("hedgeWins", hedgeWins.sum());
+            status.put("p50Millis", percentile(0.5));
+            status.put("p95Millis", percentile(0.95));
+            status.put("p99Millis", percentile(0.99));
+            return status;
+        }
+    }
+}
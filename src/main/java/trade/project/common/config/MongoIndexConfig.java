@@ -0,0 +1,40 @@
+package trade.project.common.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Component;
+import trade.project.backtest.document.BacktestResultCacheRecord;
+
+import java.time.Duration;
+
+/**
+ * MongoDB 인덱스 생성
+ * auto-index-creation이 꺼져 있어 @Indexed만으로는 인덱스가 만들어지지 않으므로
+ * TTL 등 동작에 필요한 인덱스는 시작 시 직접 생성한다. (이미 있으면 그대로 둠)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoIndexConfig implements CommandLineRunner {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(String... args) {
+        try {
+            IndexOperations backtestResultCache = mongoTemplate.indexOps(BacktestResultCacheRecord.class);
+            // expiresAt 시각이 지나면 MongoDB가 자동 삭제
+            backtestResultCache.ensureIndex(new Index("expiresAt", Sort.Direction.ASC).expire(Duration.ZERO));
+            backtestResultCache.ensureIndex(new Index("stockCode", Sort.Direction.ASC));
+            log.info("MongoDB 인덱스 확인 완료: backtest_result_cache");
+        } catch (Exception e) {
+            // 인덱스가 없어도 조회 시 만료 시각을 확인하므로 결과는 정확하고 저장 공간만 늘어남
+            log.warn("MongoDB 인덱스 생성 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -4,12 +4,34 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import trade.project.api.dto.StockOrderRequest;
 import trade.project.common.dto.ApiResponse;
 import trade.project.trading.dto.AutoTradingStrategy;
+import trade.project.trading.dto.KillSwitchRequest;
+import trade.project.trading.dto.ManagedOrderStatus;
+import trade.project.trading.dto.MarketScanResult;
+import trade.project.trading.dto.OrderGuardStatus;
+import trade.project.trading.dto.OrderThrottleRequest;
+import trade.project.trading.dto.ReplayRequest;
+import trade.project.trading.dto.ReplayResult;
+import trade.project.trading.dto.RiskLedgerSnapshot;
+import trade.project.trading.dto.RiskLimitRequest;
+import trade.project.trading.dto.ScanCandidate;
+import trade.project.trading.dto.ScannerCriteriaRequest;
 import trade.project.trading.engine.AutoTradingEngine;
+import trade.project.trading.engine.ReplayEngine;
+import trade.project.trading.enums.MarketType;
 import trade.project.trading.enums.TopKospiStocks;
 import trade.project.trading.enums.TopNasdaqStocks;
 import trade.project.trading.enums.TradingSchedule;
+import trade.project.trading.order.ManagedOrder;
+import trade.project.trading.order.OrderListener;
+import trade.project.trading.order.OrderManager;
+import trade.project.trading.risk.OrderGuard;
+import trade.project.trading.risk.PreTradeRiskEngine;
+import trade.project.trading.scanner.MarketScanner;
+
+import jakarta.validation.Valid;
 
 import java.util.Arrays;
 import java.util.List;
@@ -23,6 +45,11 @@ import java.util.stream.Collectors;
 public class AutoTradingController {
 
     private final AutoTradingEngine autoTradingEngine;
+    private final ReplayEngine replayEngine;
+    private final PreTradeRiskEngine preTradeRiskEngine;
+    private final OrderGuard orderGuard;
+    private final MarketScanner marketScanner;
+    private final OrderManager orderManager;
 
     /**
      * 국내 자동매매 엔진 초기화
@@ -366,6 +393,21 @@ public class AutoTradingController {
         }
     }
 
+    /**
+     * 섹터별 스캐너 후보 종목 조회 (최근 스캔 기준 점수 순)
+     */
+    @GetMapping("/stocks/sector/{sector}/candidates")
+    public ResponseEntity<ApiResponse<List<ScanCandidate>>> getSectorCandidates(@PathVariable String sector) {
+        try {
+            log.info("섹터별 스캐너 후보 조회 요청: {}", sector);
+            return ResponseEntity.ok(ApiResponse.success(marketScanner.getCandidates(MarketType.DOMESTIC, sector)));
+        } catch (Exception e) {
+            log.error("섹터별 스캐너 후보 조회 중 오류 발생: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("SCANNER_ERROR", "섹터별 스캐너 후보 조회 실패: " + e.getMessage()));
+        }
+    }
+
     /**
      * 섹터 목록 조회
      */
@@ -462,6 +504,21 @@ public class AutoTradingController {
         }
     }
     
+    /**
+     * 해외 섹터별 스캐너 후보 종목 조회 (최근 스캔 기준 점수 순)
+     */
+    @GetMapping("/stocks/foreign-sector/{sector}/candidates")
+    public ResponseEntity<ApiResponse<List<ScanCandidate>>> getForeignSectorCandidates(@PathVariable String sector) {
+        try {
+            log.info("섹터별 스캐너 후보 조회 요청 (해외): {}", sector);
+            return ResponseEntity.ok(ApiResponse.success(marketScanner.getCandidates(MarketType.FOREIGN, sector)));
+        } catch (Exception e) {
+            log.error("해외 섹터별 스캐너 후보 조회 중 오류 발생: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("SCANNER_ERROR", "해외 섹터별 스캐너 후보 조회 실패: " + e.getMessage()));
+        }
+    }
+
     /**
      * 섹터 목록 조회 (해외)
      */
@@ -479,4 +536,224 @@ public class AutoTradingController {
                     .body(ApiResponse.error("FOREIGN_SECTOR_LIST_ERROR", "섹터 목록 조회 실패 (해외): " + e.getMessage()));
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 기록된 시세 리플레이 (가상 시계로 자동매매 로직 재실행)
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<ApiResponse<ReplayResult>> replay(@RequestBody ReplayRequest request) {
+        try {
+            log.info("리플레이 요청: {} ~ {}", request.getStartDateTime(), request.getEndDateTime());
+            
+            ReplayResult result = replayEngine.replay(request);
+            
+            return ResponseEntity.ok(ApiResponse.success(result));
+        } catch (Exception e) {
+            log.error("리플레이 실행 중 오류 발생: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("REPLAY_ERROR", "리플레이 실행 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 주문 전 리스크 원장 현황 (전략/계좌 노출, 거절 사유별 건수, 평균 점검 시간)
+     */
+    @GetMapping("/risk")
+    public ResponseEntity<ApiResponse<RiskLedgerSnapshot>> getRiskLedger() {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(preTradeRiskEngine.snapshot()));
+        } catch (Exception e) {
+            log.error("리스크 원장 조회 중 오류 발생: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("RISK_LEDGER_ERROR", "리스크 원장 조회 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 주문 전 리스크 공통 한도 변경 (계좌 노출, 주문 최대 수량, 가격 괴리)
+     */
+    @PutMapping("/risk/limits")
+    public ResponseEntity<ApiResponse<RiskLedgerSnapshot>> updateRiskLimits(@RequestBody RiskLimitRequest request) {
+        try {
+            log.info("리스크 한도 변경 요청");
+            preTradeRiskEngine.updateLimits(request);
+            return ResponseEntity.ok(ApiResponse.success(preTradeRiskEngine.snapshot()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("VALIDATION_ERROR", e.getMessage()));
+        } catch (Exception e) {
+            log.error("리스크 한도 변경 중 오류 발생: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("RISK_LIMIT_ERROR", "리스크 한도 변경 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 킬 스위치 작동 (국내/해외, 수동/자동 주문 모두 즉시 차단)
+     */
+    @PostMapping("/kill-switch")
+    public ResponseEntity<ApiResponse<OrderGuardStatus>> engageKillSwitch(@RequestBody(required = false) KillSwitchRequest request) {
+        try {
+            String reason = request != null ? request.getReason() : null;
+            log.warn("킬 스위치 작동 요청: {}", reason);
+            if (!orderGuard.engageKillSwitch(reason)) {
+                log.info("킬 스위치가 이미 작동 중입니다.");
+            }
+            return ResponseEntity.ok(ApiResponse.success(orderGuard.status()));
+        } catch (Exception e) {
+            log.error("킬 스위치 작동 중 오류 발생: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("KILL_SWITCH_ERROR", "킬 스위치 작동 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 킬 스위치 해제
+     */
+    @DeleteMapping("/kill-switch")
+    public ResponseEntity<ApiResponse<OrderGuardStatus>> releaseKillSwitch() {
+        try {
+            log.info("킬 스위치 해제 요청");
+            if (!orderGuard.releaseKillSwitch()) {
+                log.info("킬 스위치가 작동 중이 아닙니다.");
+            }
+            return ResponseEntity.ok(ApiResponse.success(orderGuard.status()));
+        } catch (Exception e) {
+            log.error("킬 스위치 해제 중 오류 발생: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("KILL_SWITCH_ERROR", "킬 스위치 해제 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 킬 스위치/주문 빈도 제한 현황
+     */
+    @GetMapping("/order-guard")
+    public ResponseEntity<ApiResponse<OrderGuardStatus>> getOrderGuardStatus() {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(orderGuard.status()));
+        } catch (Exception e) {
+            log.error("주문 관문 현황 조회 중 오류 발생: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("ORDER_GUARD_ERROR", "주문 관문 현황 조회 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 계좌/종목별 주문 빈도 한도 변경
+     */
+    @PutMapping("/order-guard/throttle")
+    public ResponseEntity<ApiResponse<OrderGuardStatus>> updateOrderThrottle(@RequestBody OrderThrottleRequest request) {
+        try {
+            log.info("주문 빈도 한도 변경 요청");
+            orderGuard.updateThrottle(request);
+            return ResponseEntity.ok(ApiResponse.success(orderGuard.status()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("VALIDATION_ERROR", e.getMessage()));
+        } catch (Exception e) {
+            log.error("주문 빈도 한도 변경 중 오류 발생: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("ORDER_THROTTLE_ERROR", "주문 빈도 한도 변경 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 시장 스캐너 최근 결과 조회 (전 섹터)
+     */
+    @GetMapping("/scanner")
+    public ResponseEntity<ApiResponse<MarketScanResult>> getScanResult(@RequestParam(defaultValue = "DOMESTIC") String market) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(marketScanner.getLatest(MarketType.fromCode(market.toUpperCase()))));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("VALIDATION_ERROR", e.getMessage()));
+        } catch (Exception e) {
+            log.error("시장 스캐너 결과 조회 중 오류 발생: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("SCANNER_ERROR", "시장 스캐너 결과 조회 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 시장 스캐너 즉시 실행
+     */
+    @PostMapping("/scanner/scan")
+    public ResponseEntity<ApiResponse<MarketScanResult>> scanNow(@RequestParam(defaultValue = "DOMESTIC") String market) {
+        try {
+            log.info("시장 스캐너 즉시 실행 요청: {}", market);
+            return ResponseEntity.ok(ApiResponse.success(marketScanner.scan(MarketType.fromCode(market.toUpperCase()))));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("VALIDATION_ERROR", e.getMessage()));
+        } catch (Exception e) {
+            log.error("시장 스캐너 실행 중 오류 발생: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("SCANNER_ERROR", "시장 스캐너 실행 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 시장 스캐너 필터 기준 변경 (다음 스캔부터 적용)
+     */
+    @PutMapping("/scanner/criteria")
+    public ResponseEntity<ApiResponse<ScannerCriteriaRequest>> updateScannerCriteria(@RequestBody ScannerCriteriaRequest request) {
+        try {
+            log.info("시장 스캐너 기준 변경 요청");
+            marketScanner.updateCriteria(request);
+            return ResponseEntity.ok(ApiResponse.success(marketScanner.getCriteria()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("VALIDATION_ERROR", e.getMessage()));
+        } catch (Exception e) {
+            log.error("시장 스캐너 기준 변경 중 오류 발생: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("SCANNER_ERROR", "시장 스캐너 기준 변경 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 주문 비동기 제출 (clientOrderId가 같으면 새 주문 없이 기존 주문 현황 반환)
+     */
+    @PostMapping("/orders")
+    public ResponseEntity<ApiResponse<ManagedOrderStatus>> submitOrder(@Valid @RequestBody StockOrderRequest request) {
+        try {
+            log.info("주문 제출 요청: {}", request);
+            ManagedOrder order = orderManager.submit(OrderManager.MANUAL_STRATEGY, request, OrderListener.NONE);
+            return ResponseEntity.ok(ApiResponse.success(order.toStatus()));
+        } catch (Exception e) {
+            log.error("주문 제출 중 오류 발생: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("ORDER_SUBMIT_ERROR", "주문 제출 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 관리 주문 목록 (진행 중 + 최근 종료, 최근 제출 순)
+     */
+    @GetMapping("/orders")
+    public ResponseEntity<ApiResponse<List<ManagedOrderStatus>>> getOrders() {
+        return ResponseEntity.ok(ApiResponse.success(orderManager.getOrders()));
+    }
+
+    /**
+     * 관리 주문 파이프라인 통계 (제출/중복/접수/거부/체결 반영/체결 조회 건수)
+     */
+    @GetMapping("/orders/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getOrderStats() {
+        return ResponseEntity.ok(ApiResponse.success(orderManager.stats()));
+    }
+
+    /**
+     * 관리 주문 조회 (클라이언트 주문 ID)
+     */
+    @GetMapping("/orders/{clientOrderId}")
+    public ResponseEntity<ApiResponse<ManagedOrderStatus>> getOrder(@PathVariable String clientOrderId) {
+        ManagedOrder order = orderManager.getOrder(clientOrderId);
+        if (order == null) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("ORDER_NOT_FOUND", "주문을 찾을 수 없습니다: " + clientOrderId));
+        }
+        return ResponseEntity.ok(ApiResponse.success(order.toStatus()));
+    }
+}
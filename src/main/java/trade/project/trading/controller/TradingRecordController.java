@@ -10,10 +10,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import trade.project.common.dto.ApiResponse;
 import trade.project.trading.entity.TradingRecord;
+import trade.project.trading.order.OrderReconciler;
 import trade.project.trading.service.TradingRecordService;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -22,6 +24,7 @@ import java.util.List;
 public class TradingRecordController {
 
     private final TradingRecordService tradingRecordService;
+    private final OrderReconciler orderReconciler;
 
     /**
      * 주문번호로 매매 기록 조회
@@ -333,4 +336,27 @@ public class TradingRecordController {
                     .body(ApiResponse.error("TRADING_RECORD_QUERY_ERROR", "매매 기록 조회 실패: " + e.getMessage()));
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 오늘 미체결 매매 기록 즉시 대사 (계좌별 주문 내역 한 번 조회 후 변경분 일괄 저장)
+     */
+    @PostMapping("/reconcile")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> reconcile() {
+        try {
+            log.info("매매 기록 대사 요청");
+            return ResponseEntity.ok(ApiResponse.success(orderReconciler.reconcile()));
+        } catch (Exception e) {
+            log.error("매매 기록 대사 중 오류 발생: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("TRADING_RECORD_RECONCILE_ERROR", "매매 기록 대사 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 매매 기록 대사 현황 (실행/계좌 조회/반영 건수)
+     */
+    @GetMapping("/reconcile/status")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getReconcileStatus() {
+        return ResponseEntity.ok(ApiResponse.success(orderReconciler.stats()));
+    }
+}
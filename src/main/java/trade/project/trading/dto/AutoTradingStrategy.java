@@ -68,9 +68,14 @@ public class AutoTradingStrategy {
     private int smaShortPeriod; // 단기 이동평균 기간
     private int smaLongPeriod; // 장기 이동평균 기간
     
+    // 사용자 규칙식 (설정 시 기본 다중 지표 규칙 대신 사용), 예: RSI(14) < 30 AND CROSS_UP(SMA(5), SMA(20))
+    private String buyRule; // 매수 규칙식
+    private String sellRule; // 매도 규칙식 (익절/손절/트레일링 스탑은 별도로 적용)
+    
     // 시간 설정
     private boolean tradeDuringMarketHours; // 장 시간에만 거래
     private boolean tradeDuringHighFrequency; // 고빈도 시간에만 거래
+    private boolean fastPollingAllowed; // 장 시작 직후/마감 직전 등 고빈도 시간대에 기본 주기보다 짧은 조회 허용
     private int priceCheckInterval; // 시세 조회 주기 (초)
     
     // 리스크 관리
@@ -130,6 +135,7 @@ public class AutoTradingStrategy {
                 .smaLongPeriod(20)
                 .tradeDuringMarketHours(true)
                 .tradeDuringHighFrequency(true)
+                .fastPollingAllowed(true)
                 .priceCheckInterval(60) // 1분
                 .maxDailyLoss(new BigDecimal("2")) // 2%
                 .maxDrawdown(new BigDecimal("10")) // 10%
@@ -174,6 +180,7 @@ public class AutoTradingStrategy {
                 .smaLongPeriod(30)
                 .tradeDuringMarketHours(true)
                 .tradeDuringHighFrequency(false)
+                .fastPollingAllowed(false)
                 .priceCheckInterval(300) // 5분
                 .maxDailyLoss(new BigDecimal("1")) // 1%
                 .maxDrawdown(new BigDecimal("5")) // 5%
@@ -218,6 +225,7 @@ public class AutoTradingStrategy {
                 .smaLongPeriod(10)
                 .tradeDuringMarketHours(true)
                 .tradeDuringHighFrequency(true)
+                .fastPollingAllowed(true)
                 .priceCheckInterval(30) // 30초
                 .maxDailyLoss(new BigDecimal("3")) // 3%
                 .maxDrawdown(new BigDecimal("15")) // 15%
@@ -262,6 +270,7 @@ public class AutoTradingStrategy {
                 .smaLongPeriod(20)
                 .tradeDuringMarketHours(true)
                 .tradeDuringHighFrequency(true)
+                .fastPollingAllowed(true)
                 .priceCheckInterval(60)
                 .maxDailyLoss(new BigDecimal("2"))
                 .maxDrawdown(new BigDecimal("10"))
@@ -306,6 +315,7 @@ public class AutoTradingStrategy {
                 .smaLongPeriod(30)
                 .tradeDuringMarketHours(true)
                 .tradeDuringHighFrequency(false)
+                .fastPollingAllowed(false)
                 .priceCheckInterval(300)
                 .maxDailyLoss(new BigDecimal("1"))
                 .maxDrawdown(new BigDecimal("5"))
@@ -350,6 +360,7 @@ public class AutoTradingStrategy {
                 .smaLongPeriod(10)
                 .tradeDuringMarketHours(true)
                 .tradeDuringHighFrequency(true)
+                .fastPollingAllowed(true)
                 .priceCheckInterval(30)
                 .maxDailyLoss(new BigDecimal("3"))
                 .maxDrawdown(new BigDecimal("15"))
@@ -0,0 +1,15 @@
+package trade.project.trading.dto;
+
+import lombok.*;
+
+/**
+ * 킬 스위치 작동 요청
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KillSwitchRequest {
+    private String reason; // 작동 사유 (로그/현황에 남김)
+}
@@ -0,0 +1,35 @@
+package trade.project.trading.dto;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 관리 주문 현황 (클라이언트 주문 ID 기준)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ManagedOrderStatus {
+
+    private String clientOrderId;   // 클라이언트 주문 ID (중복 전송 방지 키)
+    private String strategyId;      // 주문한 전략 (수동 주문은 MANUAL)
+    private String accountNumber;
+    private String stockCode;
+    private String orderType;       // 매수/매도
+    private Integer quantity;       // 주문 수량
+    private Integer price;          // 주문 가격
+    private String state;           // NEW/UNKNOWN/ACCEPTED/PARTIALLY_FILLED/FILLED/REJECTED/CANCELLED/EXPIRED
+    private String orderNumber;     // 증권사 주문번호 (접수 후)
+    private Integer filledQuantity; // 누적 체결 수량
+    private BigDecimal averageFillPrice; // 체결 평균가
+    private String errorCode;
+    private String errorMessage;
+    private LocalDateTime submittedAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,28 @@
+package trade.project.trading.dto;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시장 스캐너 한 틱의 결과 (섹터별 후보 순위)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MarketScanResult {
+    private String marketType;                          // DOMESTIC, FOREIGN
+    private LocalDateTime scannedAt;
+    private Long scanCount;                             // 누적 스캔 횟수
+    private Integer universeSize;                       // 유니버스 종목 수
+    private Integer readySymbols;                       // 장기 이동평균까지 계산 가능한 종목 수
+    private Integer newBars;                            // 이번 틱에 반영한 일자별 기록 수
+    private Long elapsedMicros;                         // 스캔 소요 시간
+    private Map<String, List<ScanCandidate>> sectors;   // 섹터 → 점수 순 후보 목록
+}
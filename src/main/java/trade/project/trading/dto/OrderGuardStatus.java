@@ -0,0 +1,33 @@
+package trade.project.trading.dto;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 킬 스위치/주문 빈도 제한 현황
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderGuardStatus {
+
+    // 킬 스위치
+    private Boolean killSwitchEngaged;
+    private String killSwitchReason;
+    private LocalDateTime killSwitchEngagedAt;
+
+    // 주문 빈도 한도 (0이면 제한 없음)
+    private Integer accountLimit; // 계좌당 윈도우 내 최대 주문 수
+    private Integer symbolLimit;  // 종목당 윈도우 내 최대 주문 수
+    private Long windowMillis;
+
+    // 누적 통계
+    private Long allowedOrders;
+    private Long blockedOrders;   // 킬 스위치로 차단
+    private Long throttledOrders; // 빈도 한도로 거절
+}
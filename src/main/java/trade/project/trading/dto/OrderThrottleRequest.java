@@ -0,0 +1,17 @@
+package trade.project.trading.dto;
+
+import lombok.*;
+
+/**
+ * 주문 빈도 한도 변경 요청 (null인 항목은 유지)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderThrottleRequest {
+    private Integer accountLimit; // 계좌당 윈도우 내 최대 주문 수 (0이면 제한 없음)
+    private Integer symbolLimit;  // 종목당 윈도우 내 최대 주문 수 (0이면 제한 없음)
+    private Long windowMillis;    // 슬라이딩 윈도우 길이 (ms)
+}
@@ -0,0 +1,22 @@
+package trade.project.trading.dto;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기록된 시세 리플레이 요청
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplayRequest {
+
+    private AutoTradingStrategy strategy; // 리플레이할 전략 (종목코드 포함)
+    private LocalDateTime startDateTime; // 리플레이 시작 시각
+    private LocalDateTime endDateTime; // 리플레이 종료 시각
+}
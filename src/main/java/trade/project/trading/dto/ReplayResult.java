@@ -0,0 +1,61 @@
+package trade.project.trading.dto;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 기록된 시세 리플레이 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplayResult {
+
+    // 기본 정보
+    private String strategyId;
+    private String stockCode;
+    private LocalDateTime startDateTime;
+    private LocalDateTime endDateTime;
+
+    // 처리 정보
+    private Integer quoteCount; // 처리한 시세 수
+    private Long elapsedMillis; // 실제 소요 시간
+
+    // 거래 결과
+    private Integer totalTrades;
+    private Integer buyCount;
+    private Integer sellCount;
+    private Integer riskRejectedCount; // 주문 전 리스크 점검에서 거절된 신호 수
+    private BigDecimal realizedPnL; // 실현 손익
+    private BigDecimal finalPosition; // 종료 시 보유 수량
+    private BigDecimal averagePrice; // 종료 시 평균 매수가
+    private BigDecimal lastPrice; // 마지막 시세
+
+    // 리스크 관리
+    private boolean haltedByRisk; // 손실 한도/낙폭으로 전략 중지 여부
+    private LocalDateTime haltedAt;
+    private String haltReason; // 중지 사유
+
+    // 거래 내역
+    private List<ReplayTrade> trades;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReplayTrade {
+        private LocalDateTime dateTime;
+        private String action; // BUY, SELL
+        private BigDecimal price;
+        private Integer quantity;
+        private BigDecimal profit; // 매도 시 실현 손익
+        private BigDecimal position; // 거래 후 보유 수량
+    }
+}
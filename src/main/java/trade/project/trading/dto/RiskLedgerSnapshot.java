@@ -0,0 +1,76 @@
+package trade.project.trading.dto;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 전 리스크 원장 현황
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RiskLedgerSnapshot {
+
+    private LocalDateTime snapshotTime;
+
+    // 점검 통계
+    private Long totalChecks;
+    private Long rejectedChecks;
+    private Map<String, Long> rejectionsByReason; // 거절 사유별 건수
+    private Long averageCheckNanos; // 점검 1건 평균 소요 시간 (ns)
+
+    // 공통 한도
+    private Long maxOrderQuantity; // 주문 1건 최대 수량
+    private BigDecimal priceBandPercent; // 직전 시세 대비 주문 가격 허용 괴리 (%)
+
+    private List<AccountExposure> accounts;
+    private List<StrategyExposure> strategies;
+
+    /**
+     * 시장(계좌)별 노출
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AccountExposure {
+        private String marketType;
+        private BigDecimal exposure; // 보유 원가 + 체결 대기 매수 금액
+        private BigDecimal exposureLimit; // 0이면 제한 없음
+    }
+
+    /**
+     * 전략별 포지션/손익
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StrategyExposure {
+        private String strategyId;
+        private String marketType;
+        private Long position;
+        private BigDecimal averagePrice;
+        private BigDecimal lastPrice;
+        private BigDecimal exposure;
+        private BigDecimal positionLimit;
+        private BigDecimal pendingBuyAmount;
+        private Long pendingSellQuantity;
+        private Integer dailyTrades;
+        private Integer maxDailyTrades;
+        private BigDecimal dailyPnL; // 일일 실현 + 미실현
+        private BigDecimal dailyLossLimit;
+        private BigDecimal realizedPnL;
+        private BigDecimal drawdownPercent;
+        private BigDecimal maxDrawdownPercent;
+        private String lastRejection;
+    }
+}
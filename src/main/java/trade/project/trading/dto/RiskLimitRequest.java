@@ -0,0 +1,20 @@
+package trade.project.trading.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * 주문 전 리스크 공통 한도 변경 요청 (null인 항목은 유지)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RiskLimitRequest {
+    private BigDecimal domesticExposureLimit; // 국내 계좌 노출 한도 (원, 0이면 제한 없음)
+    private BigDecimal foreignExposureLimit;  // 해외 계좌 노출 한도 (달러, 0이면 제한 없음)
+    private Long maxOrderQuantity;            // 주문 1건 최대 수량
+    private BigDecimal priceBandPercent;      // 직전 시세 대비 주문 가격 허용 괴리 (%)
+}
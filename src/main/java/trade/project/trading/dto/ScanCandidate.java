@@ -0,0 +1,29 @@
+package trade.project.trading.dto;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 시장 스캐너 후보 종목
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScanCandidate {
+    private Integer rank;          // 섹터 내 순위 (1부터)
+    private String stockCode;
+    private String stockName;
+    private String sector;
+    private Double closePrice;     // 마지막 반영 봉 종가
+    private Double rsi;
+    private Double smaShort;
+    private Double smaLong;
+    private Double volumeRatio;    // 직전 구간 평균 대비 거래량 배율
+    private List<String> signals;  // ScanSignal 이름
+    private Double score;          // 순위 점수 (높을수록 신호 강함)
+}
@@ -0,0 +1,18 @@
+package trade.project.trading.dto;
+
+import lombok.*;
+
+/**
+ * 시장 스캐너 필터 기준 변경 요청 (null인 항목은 유지)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScannerCriteriaRequest {
+    private Double rsiOversold;       // RSI 과매도 기준 (기본 30)
+    private Double rsiOverbought;     // RSI 과매수 기준 (기본 70)
+    private Double volumeSpikeRatio;  // 거래량 급증 배율 (기본 2.0)
+    private Integer topN;             // 섹터별 최대 후보 수 (기본 5)
+}
@@ -3,70 +3,111 @@ package trade.project.trading.engine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import trade.project.api.dto.ForeignStockOrderRequest;
+import trade.project.api.dto.ForeignStockOrderResponse;
+import trade.project.api.dto.ForeignStockPriceResponse;
 import trade.project.api.dto.StockPriceRequest;
 import trade.project.api.dto.StockPriceResponse;
 import trade.project.api.dto.StockOrderRequest;
-import trade.project.api.dto.StockOrderResponse;
 import trade.project.api.service.StockPriceService;
-import trade.project.api.service.StockOrderService;
 import trade.project.api.service.ForeignStockPriceService;
 import trade.project.api.service.ForeignStockOrderService;
+import trade.project.api.service.QuotePushService;
 import trade.project.backtest.util.TechnicalIndicatorCalculator;
+import trade.project.common.dto.ApiResponse;
 import trade.project.trading.document.PriceQueryRecord;
 import trade.project.trading.dto.AutoTradingStrategy;
 import trade.project.trading.enums.TopKospiStocks;
 import trade.project.trading.enums.TopNasdaqStocks;
 import trade.project.trading.enums.TradingSchedule;
 import trade.project.trading.enums.MarketType;
+import trade.project.trading.order.ManagedOrder;
+import trade.project.trading.order.OrderListener;
+import trade.project.trading.order.OrderManager;
+import trade.project.trading.order.OrderState;
+import trade.project.trading.risk.OrderGuard;
+import trade.project.trading.risk.PreTradeRiskEngine;
+import trade.project.trading.risk.RiskCheckResult;
 import trade.project.trading.service.TradingRecordService;
 import trade.project.trading.service.PriceQueryRecordService;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 자동매매 엔진
  * 전문적인 트레이딩 관점에서 최적화된 자동매매 시스템
+ * 해외 전략은 미국 정규장(UsMarketCalendar) 시간에만 시세를 조회하고, 장 밖에서는 다음 개장 시각까지 대기한다.
+ * 해외 시세/주문 가격은 달러 소수점 그대로 다루고, 해외 전략의 투자금/한도도 달러이므로 리스크 원장에도 달러 가격을 쓴다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AutoTradingEngine {
 
+    private static final ZoneId DOMESTIC_ZONE = ZoneId.of("Asia/Seoul");
+
     private final StockPriceService stockPriceService;
-    private final StockOrderService stockOrderService;
     private final PriceQueryRecordService priceQueryRecordService; // [1] 과거 가격 데이터 서비스 주입
+    private final PreTradeRiskEngine preTradeRiskEngine; // 주문 전 리스크 점검/포지션 원장
+    private final OrderGuard orderGuard; // 킬 스위치/주문 빈도 제한
+    private final QuotePushService quotePushService; // 조회한 시세를 구독자에게 배포 (같은 종목 중복 조회 방지)
+    private final OrderManager orderManager; // 주문 비동기 전송/체결 추적
+    private final ForeignStockPriceService foreignStockPriceService;
+    private final ForeignStockOrderService foreignStockOrderService;
 
     // 국내/해외 전략, 상태, 스케줄러 분리
     private final Map<String, AutoTradingStrategy> domesticStrategies = new ConcurrentHashMap<>();
     private final Map<String, AutoTradingStrategy> foreignStrategies = new ConcurrentHashMap<>();
     private final Map<String, TradingStatus> domesticStatuses = new ConcurrentHashMap<>();
     private final Map<String, TradingStatus> foreignStatuses = new ConcurrentHashMap<>();
+    // 타이밍 휠 tick 전용 단일 스레드 (블로킹 작업을 올리지 않음)와 만료된 조회/점검 작업을 실행하는 작업 스레드 풀
     private ScheduledExecutorService domesticScheduler;
     private ScheduledExecutorService foreignScheduler;
+    private ExecutorService domesticWorkers;
+    private ExecutorService foreignWorkers;
     private final AtomicBoolean domesticRunning = new AtomicBoolean(false);
     private final AtomicBoolean foreignRunning = new AtomicBoolean(false);
+    // 종료 요청 즉시 내려서 스케줄러 종료를 기다리는 동안 실행 중인 전략 체크도 주문하지 않도록 함
+    private volatile boolean domesticOrdersEnabled;
+    private volatile boolean foreignOrdersEnabled;
+
+    // 전략별 시세 조회 타이머 (타이밍 휠 기반, 전략 ID -> 다음 조회 핸들)
+    private static final long WHEEL_TICK_MILLIS = 100;
+    private static final int WHEEL_SIZE = 512;
+    private static final double POLL_JITTER_RATIO = 0.1; // 조회 시점 분산용 ±10% 지터
+    private static final long INITIAL_STAGGER_MILLIS = 1000; // 초기 등록 시 전략 간 간격
+    private static final int DOMESTIC_WORKER_THREADS = 2;
+    private static final int FOREIGN_WORKER_THREADS = 3;
+    private static final long OPEN_STAGGER_MAX_MILLIS = 30_000; // 개장 직후 해외 전략 조회 분산 범위
+    private volatile HashedTimingWheel domesticWheel;
+    private volatile HashedTimingWheel foreignWheel;
+    private final Map<String, HashedTimingWheel.Timeout> domesticPollTimeouts = new ConcurrentHashMap<>();
+    private final Map<String, HashedTimingWheel.Timeout> foreignPollTimeouts = new ConcurrentHashMap<>();
     
-    /**
-     * 거래 상태 클래스
-     */
-    private static class TradingStatus {
-        private BigDecimal currentPosition = BigDecimal.ZERO; // 현재 보유 수량
-        private BigDecimal averagePrice = BigDecimal.ZERO; // 평균 매수가
-        private BigDecimal dailyPnL = BigDecimal.ZERO; // 일일 손익
-        private int dailyTradeCount = 0; // 일일 거래 횟수
-        private LocalDateTime lastTradeTime; // 마지막 거래 시간
-        private BigDecimal lastPrice; // 마지막 가격
-        private LocalDateTime lastUpdateTime; // 마지막 업데이트 시간
-    }
+    // 전략별 진행 중 주문 (전략 ID -> 체결/종료 전 주문)
+    private final Map<String, ManagedOrder> workingOrders = new ConcurrentHashMap<>();
+    // 전략별 체결 확인 전 해외 주문 (해외 주문 API는 체결 통보가 없어 전략 조회 주기마다 주문 상태를 조회)
+    private final Map<String, ForeignWorkingOrder> foreignWorkingOrders = new ConcurrentHashMap<>();
+    
+    // 지표/신호 판단 로직 (리플레이 엔진과 공유)
+    private final TradingSignalEvaluator signalEvaluator = new TradingSignalEvaluator();
     
     // ==================== 국내 자동매매 ====================
     public synchronized boolean initializeDomestic() {
@@ -75,10 +116,10 @@ public class AutoTradingEngine {
             return false;
         }
         log.info("국내 자동매매 엔진 초기화 시작");
-        domesticScheduler = Executors.newScheduledThreadPool(1);
         domesticStrategies.clear();
         domesticStatuses.clear();
         registerDomesticDefaultStrategies();
+        domesticOrdersEnabled = true;
         startDomesticScheduling();
         domesticRunning.set(true);
         log.info("국내 자동매매 엔진 초기화 완료");
@@ -96,36 +137,54 @@ public class AutoTradingEngine {
     public void registerDomesticStrategy(AutoTradingStrategy strategy) {
         domesticStrategies.put(strategy.getStrategyId(), strategy);
         domesticStatuses.put(strategy.getStrategyId(), new TradingStatus());
+        preTradeRiskEngine.register(strategy);
+        if (domesticWheel != null) {
+            scheduleDomesticPoll(strategy.getStrategyId(), 0);
+        }
         log.info("국내 전략 등록: {} - {}", strategy.getStrategyId(), strategy.getStrategyName());
     }
     private void startDomesticScheduling() {
-        if (domesticScheduler == null || domesticScheduler.isShutdown() || domesticScheduler.isTerminated()) {
-            domesticScheduler = Executors.newScheduledThreadPool(1);
+        domesticScheduler = Executors.newSingleThreadScheduledExecutor(daemon("domestic-wheel-tick"));
+        domesticWorkers = Executors.newFixedThreadPool(DOMESTIC_WORKER_THREADS, daemon("domestic-strategy"));
+        // 전략별 조회 주기는 타이밍 휠로 관리, 스케줄러는 tick만 구동하고 만료된 조회는 작업 스레드 풀에서 실행
+        domesticWheel = new HashedTimingWheel(WHEEL_TICK_MILLIS, WHEEL_SIZE, domesticWorkers, System.currentTimeMillis());
+        HashedTimingWheel wheel = domesticWheel;
+        domesticScheduler.scheduleAtFixedRate(() -> wheel.advance(System.currentTimeMillis()), 0, WHEEL_TICK_MILLIS, TimeUnit.MILLISECONDS);
+        int idx = 0;
+        for (String strategyId : domesticStrategies.keySet()) {
+            scheduleDomesticPoll(strategyId, idx++ * INITIAL_STAGGER_MILLIS);
         }
-        // 전략별로 분산 실행: 1분 내 전략 개수만큼 분할, 최소 1초 간격 보장
-        domesticScheduler.scheduleAtFixedRate(this::scheduleDomesticStrategiesSequentially, 0, 1, TimeUnit.MINUTES);
-        domesticScheduler.scheduleAtFixedRate(this::checkDomesticRiskManagement, 0, 5, TimeUnit.MINUTES);
-        domesticScheduler.scheduleAtFixedRate(this::generateDomesticStatusReport, 0, 1, TimeUnit.HOURS);
+        ExecutorService workers = domesticWorkers;
+        domesticScheduler.scheduleAtFixedRate(() -> workers.execute(this::checkDomesticRiskManagement), 0, 5, TimeUnit.MINUTES);
+        domesticScheduler.scheduleAtFixedRate(() -> workers.execute(this::generateDomesticStatusReport), 0, 1, TimeUnit.HOURS);
         log.info("국내 자동매매 스케줄러 시작");
     }
 
-    // 전략별로 1분 내 분산 실행 (최대 초당 10건 제한)
-    private void scheduleDomesticStrategiesSequentially() {
-        int strategyCount = (int) domesticStrategies.values().stream().filter(AutoTradingStrategy::isEnabled).count();
-        if (strategyCount == 0) return;
-        int intervalSec = Math.max(6, 60 / strategyCount); // 최소 6초 간격(10개면 6초, 5개면 12초)
-        int idx = 0;
-        for (AutoTradingStrategy strategy : domesticStrategies.values()) {
-            if (!strategy.isEnabled()) continue;
-            int delay = idx * intervalSec;
-            domesticScheduler.schedule(() -> {
-                try {
-                    checkStrategy(strategy, domesticStatuses);
-                } catch (Exception e) {
-                    log.error("국내 전략 분산 체크 중 오류: {} - {}", strategy.getStrategyId(), e.getMessage());
-                }
-            }, delay, TimeUnit.SECONDS);
-            idx++;
+    // 전략별 다음 조회 등록 (기존 타이머는 취소)
+    private void scheduleDomesticPoll(String strategyId, long delayMillis) {
+        HashedTimingWheel wheel = domesticWheel;
+        if (wheel == null) return;
+        HashedTimingWheel.Timeout timeout = wheel.newTimeout(() -> runDomesticPoll(strategyId), delayMillis, System.currentTimeMillis());
+        HashedTimingWheel.Timeout previous = domesticPollTimeouts.put(strategyId, timeout);
+        if (previous != null) previous.cancel();
+    }
+
+    // 전략 체크 후 현재 시간대 기준 주기로 재등록 (비활성 전략도 재활성화 대비 주기만 유지)
+    private void runDomesticPoll(String strategyId) {
+        AutoTradingStrategy strategy = domesticStrategies.get(strategyId);
+        if (strategy == null) return;
+        try {
+            if (strategy.isEnabled()) {
+                checkStrategy(strategy, domesticStatuses);
+            }
+        } catch (Exception e) {
+            log.error("국내 전략 체크 중 오류: {} - {}", strategyId, e.getMessage());
+        } finally {
+            if (domesticStrategies.containsKey(strategyId)) {
+                TradingSchedule schedule = TradingSchedule.getCurrentSchedule();
+                int intervalSec = schedule.adjustInterval(strategy.getPriceCheckInterval(), strategy.isFastPollingAllowed());
+                scheduleDomesticPoll(strategyId, withJitter(intervalSec * 1000L));
+            }
         }
     }
     private void checkDomesticRiskManagement() {
@@ -133,8 +192,8 @@ public class AutoTradingEngine {
             if (!strategy.isEnabled()) continue;
             TradingStatus status = domesticStatuses.get(strategy.getStrategyId());
             if (status == null) continue;
-            BigDecimal dailyLossRate = status.dailyPnL.divide(strategy.getTotalInvestment(), 4, BigDecimal.ROUND_HALF_UP).multiply(new BigDecimal("100"));
-            if (dailyLossRate.compareTo(strategy.getMaxDailyLoss().negate()) <= 0) {
+            BigDecimal dailyLossRate = signalEvaluator.calculateDailyLossRate(strategy, status);
+            if (signalEvaluator.isDailyLossLimitExceeded(strategy, dailyLossRate)) {
                 log.warn("국내 일일 손실 한도 초과: {} - {}%", strategy.getStrategyId(), dailyLossRate);
                 strategy.setEnabled(false);
             }
@@ -157,10 +216,13 @@ public class AutoTradingEngine {
             return false;
         }
         log.info("국내 자동매매 엔진 종료 중...");
-        if (domesticScheduler != null && !domesticScheduler.isShutdown()) {
-            domesticScheduler.shutdown();
-            try { if (!domesticScheduler.awaitTermination(60, TimeUnit.SECONDS)) domesticScheduler.shutdownNow(); } catch (InterruptedException e) { domesticScheduler.shutdownNow(); Thread.currentThread().interrupt(); }
-        }
+        domesticOrdersEnabled = false;
+        shutdownAndAwait(domesticScheduler);
+        shutdownAndAwait(domesticWorkers);
+        domesticWheel = null;
+        domesticPollTimeouts.values().forEach(HashedTimingWheel.Timeout::cancel);
+        domesticPollTimeouts.clear();
+        domesticStrategies.keySet().forEach(preTradeRiskEngine::unregister);
         domesticStrategies.clear();
         domesticStatuses.clear();
         domesticRunning.set(false);
@@ -176,10 +238,10 @@ public class AutoTradingEngine {
             return false;
         }
         log.info("해외 자동매매 엔진 초기화 시작");
-        foreignScheduler = Executors.newScheduledThreadPool(3);
         foreignStrategies.clear();
         foreignStatuses.clear();
         registerForeignDefaultStrategies();
+        foreignOrdersEnabled = true;
         startForeignScheduling();
         foreignRunning.set(true);
         log.info("해외 자동매매 엔진 초기화 완료");
@@ -195,37 +257,89 @@ public class AutoTradingEngine {
     public void registerForeignStrategy(AutoTradingStrategy strategy) {
         foreignStrategies.put(strategy.getStrategyId(), strategy);
         foreignStatuses.put(strategy.getStrategyId(), new TradingStatus());
+        preTradeRiskEngine.register(strategy);
+        if (foreignWheel != null) {
+            scheduleForeignPoll(strategy.getStrategyId(), 0);
+        }
         log.info("해외 전략 등록: {} - {}", strategy.getStrategyId(), strategy.getStrategyName());
     }
     private void startForeignScheduling() {
-        if (foreignScheduler == null || foreignScheduler.isShutdown() || foreignScheduler.isTerminated()) {
-            foreignScheduler = Executors.newScheduledThreadPool(3);
+        foreignScheduler = Executors.newSingleThreadScheduledExecutor(daemon("foreign-wheel-tick"));
+        foreignWorkers = Executors.newFixedThreadPool(FOREIGN_WORKER_THREADS, daemon("foreign-strategy"));
+        // 해외 전략도 타이밍 휠로 전략별 주기 관리 (국내 시간대 조정 대신 미국 정규장 시간만 조회)
+        foreignWheel = new HashedTimingWheel(WHEEL_TICK_MILLIS, WHEEL_SIZE, foreignWorkers, System.currentTimeMillis());
+        HashedTimingWheel wheel = foreignWheel;
+        foreignScheduler.scheduleAtFixedRate(() -> wheel.advance(System.currentTimeMillis()), 0, WHEEL_TICK_MILLIS, TimeUnit.MILLISECONDS);
+        int idx = 0;
+        for (String strategyId : foreignStrategies.keySet()) {
+            scheduleForeignPoll(strategyId, idx++ * INITIAL_STAGGER_MILLIS);
         }
-        // 해외 전략도 국내와 동일하게 분산 실행: 1분 내 전략 개수만큼 분할, 최소 6초 간격 보장
-        foreignScheduler.scheduleAtFixedRate(this::scheduleForeignStrategiesSequentially, 0, 1, TimeUnit.MINUTES);
-        foreignScheduler.scheduleAtFixedRate(this::checkForeignRiskManagement, 0, 5, TimeUnit.MINUTES);
-        foreignScheduler.scheduleAtFixedRate(this::generateForeignStatusReport, 0, 1, TimeUnit.HOURS);
+        ExecutorService workers = foreignWorkers;
+        foreignScheduler.scheduleAtFixedRate(() -> workers.execute(this::checkForeignRiskManagement), 0, 5, TimeUnit.MINUTES);
+        foreignScheduler.scheduleAtFixedRate(() -> workers.execute(this::generateForeignStatusReport), 0, 1, TimeUnit.HOURS);
         log.info("해외 자동매매 스케줄러 시작");
     }
-    // 해외 전략 분산 실행 (최대 초당 10건 제한)
-    private void scheduleForeignStrategiesSequentially() {
-        int strategyCount = (int) foreignStrategies.values().stream().filter(AutoTradingStrategy::isEnabled).count();
-        if (strategyCount == 0) return;
-        int intervalSec = Math.max(6, 60 / strategyCount); // 최소 6초 간격(10개면 6초, 5개면 12초)
-        int idx = 0;
-        for (AutoTradingStrategy strategy : foreignStrategies.values()) {
-            if (!strategy.isEnabled()) continue;
-            int delay = idx * intervalSec;
-            foreignScheduler.schedule(() -> {
-                try {
-                    checkStrategy(strategy, foreignStatuses);
-                } catch (Exception e) {
-                    log.error("해외 전략 분산 체크 중 오류: {} - {}", strategy.getStrategyId(), e.getMessage());
-                }
-            }, delay, TimeUnit.SECONDS);
-            idx++;
+    // 해외 전략별 다음 조회 등록 (기존 타이머는 취소)
+    private void scheduleForeignPoll(String strategyId, long delayMillis) {
+        HashedTimingWheel wheel = foreignWheel;
+        if (wheel == null) return;
+        HashedTimingWheel.Timeout timeout = wheel.newTimeout(() -> runForeignPoll(strategyId), delayMillis, System.currentTimeMillis());
+        HashedTimingWheel.Timeout previous = foreignPollTimeouts.put(strategyId, timeout);
+        if (previous != null) previous.cancel();
+    }
+
+    // 정규장이면 전략 체크 후 전략 주기로, 장 밖이면 체크 없이 다음 개장 시각으로 재등록
+    private void runForeignPoll(String strategyId) {
+        AutoTradingStrategy strategy = foreignStrategies.get(strategyId);
+        if (strategy == null) return;
+        Instant now = Instant.now();
+        if (!UsMarketCalendar.isOpen(now)) {
+            long untilOpen = UsMarketCalendar.millisUntilOpen(now);
+            log.debug("미국 정규장 외 시간 - 해외 전략 대기: {} ({}분 후 개장)", strategyId, untilOpen / 60_000);
+            scheduleForeignPoll(strategyId, untilOpen + ThreadLocalRandom.current().nextLong(OPEN_STAGGER_MAX_MILLIS));
+            return;
+        }
+        try {
+            refreshForeignWorkingOrder(strategy, now);
+            if (strategy.isEnabled()) {
+                checkStrategy(strategy, foreignStatuses);
+            }
+        } catch (Exception e) {
+            log.error("해외 전략 체크 중 오류: {} - {}", strategyId, e.getMessage());
+        } finally {
+            if (foreignStrategies.containsKey(strategyId)) {
+                int intervalSec = strategy.getPriceCheckInterval() > 0 ? strategy.getPriceCheckInterval() : 60;
+                scheduleForeignPoll(strategyId, withJitter(intervalSec * 1000L));
+            }
         }
     }
+
+    // tick 스레드부터 멈춰 새 작업 투입을 막은 뒤 실행 중인 작업 종료를 기다림
+    private static void shutdownAndAwait(ExecutorService executor) {
+        if (executor == null || executor.isShutdown()) return;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(60, TimeUnit.SECONDS)) executor.shutdownNow();
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // 동일 주기 전략들이 같은 tick에 몰리지 않도록 ±10% 지터 적용
+    private long withJitter(long intervalMillis) {
+        long range = (long) (intervalMillis * POLL_JITTER_RATIO);
+        if (range <= 0) return intervalMillis;
+        return intervalMillis + ThreadLocalRandom.current().nextLong(-range, range + 1);
+    }
     private void checkAllForeignStrategies() {
         for (AutoTradingStrategy strategy : foreignStrategies.values()) {
             if (!strategy.isEnabled()) continue;
@@ -239,8 +353,8 @@ public class AutoTradingEngine {
             if (!strategy.isEnabled()) continue;
             TradingStatus status = foreignStatuses.get(strategy.getStrategyId());
             if (status == null) continue;
-            BigDecimal dailyLossRate = status.dailyPnL.divide(strategy.getTotalInvestment(), 4, BigDecimal.ROUND_HALF_UP).multiply(new BigDecimal("100"));
-            if (dailyLossRate.compareTo(strategy.getMaxDailyLoss().negate()) <= 0) {
+            BigDecimal dailyLossRate = signalEvaluator.calculateDailyLossRate(strategy, status);
+            if (signalEvaluator.isDailyLossLimitExceeded(strategy, dailyLossRate)) {
                 log.warn("해외 일일 손실 한도 초과: {} - {}%", strategy.getStrategyId(), dailyLossRate);
                 strategy.setEnabled(false);
             }
@@ -263,10 +377,13 @@ public class AutoTradingEngine {
             return false;
         }
         log.info("해외 자동매매 엔진 종료 중...");
-        if (foreignScheduler != null && !foreignScheduler.isShutdown()) {
-            foreignScheduler.shutdown();
-            try { if (!foreignScheduler.awaitTermination(60, TimeUnit.SECONDS)) foreignScheduler.shutdownNow(); } catch (InterruptedException e) { foreignScheduler.shutdownNow(); Thread.currentThread().interrupt(); }
-        }
+        foreignOrdersEnabled = false;
+        shutdownAndAwait(foreignScheduler);
+        shutdownAndAwait(foreignWorkers);
+        foreignWheel = null;
+        foreignPollTimeouts.values().forEach(HashedTimingWheel.Timeout::cancel);
+        foreignPollTimeouts.clear();
+        foreignStrategies.keySet().forEach(preTradeRiskEngine::unregister);
         foreignStrategies.clear();
         foreignStatuses.clear();
         foreignRunning.set(false);
@@ -280,6 +397,7 @@ public class AutoTradingEngine {
      * 전략 등록 (국내/해외 자동 분류)
      */
     public void registerStrategy(AutoTradingStrategy strategy) {
+        signalEvaluator.validate(strategy);
         if (strategy.getMarketType() == MarketType.FOREIGN) {
             registerForeignStrategy(strategy);
         } else {
@@ -294,16 +412,24 @@ public class AutoTradingEngine {
         if (foreignStrategies.containsKey(strategyId)) {
             foreignStrategies.remove(strategyId);
             foreignStatuses.remove(strategyId);
+            signalEvaluator.evict(strategyId);
+            preTradeRiskEngine.unregister(strategyId);
+            HashedTimingWheel.Timeout timeout = foreignPollTimeouts.remove(strategyId);
+            if (timeout != null) timeout.cancel();
             log.info("해외 전략 제거: {}", strategyId);
         } else if (domesticStrategies.containsKey(strategyId)) {
             domesticStrategies.remove(strategyId);
             domesticStatuses.remove(strategyId);
+            signalEvaluator.evict(strategyId);
+            preTradeRiskEngine.unregister(strategyId);
+            HashedTimingWheel.Timeout timeout = domesticPollTimeouts.remove(strategyId);
+            if (timeout != null) timeout.cancel();
             log.info("국내 전략 제거: {}", strategyId);
         }
     }
 
     /**
-     * 개별 전략 체크 (국내용)
+     * 개별 전략 체크 (국내/해외 공통, 시세 조회와 주문만 시장별로 다름)
      */
     private void checkStrategy(AutoTradingStrategy strategy, Map<String, TradingStatus> statuses) {
         String strategyId = strategy.getStrategyId();
@@ -313,39 +439,65 @@ public class AutoTradingEngine {
             status = new TradingStatus();
             statuses.put(strategyId, status);
         }
+        // 시장 기준 거래일이 바뀌면 일일 손익/거래 횟수 초기화 (리스크 원장과 같은 기준)
+        status.rollover(LocalDate.now(strategy.getMarketType() == MarketType.FOREIGN ? UsMarketCalendar.ZONE : DOMESTIC_ZONE));
         
         // 시세 조회
-        StockPriceResponse priceResponse = getCurrentPrice(strategy.getStockCode());
-        if (priceResponse == null) {
-            log.warn("시세 조회 실패: {}", strategy.getStockCode());
+        BigDecimal currentPrice = strategy.getMarketType() == MarketType.FOREIGN
+                ? getForeignCurrentPrice(strategy.getStockCode())
+                : getCurrentPrice(strategy.getStockCode());
+        if (currentPrice == null) {
+            log.warn("사용할 시세 없음 (조회 실패 또는 유지 시간 초과) - 전략 체크 생략: {}", strategy.getStockCode());
             return;
         }
         
-        status.lastPrice = new BigDecimal(priceResponse.getCurrentPrice());
-        status.lastUpdateTime = LocalDateTime.now();
+        BigDecimal referencePrice = status.lastPrice; // 트레일링 스탑 기준 (갱신 전 직전 관측가)
+        status.updatePrice(currentPrice, LocalDateTime.now());
+        
+        // 시세마다 손실 한도 점검 (신규 매수는 주문 전 점검에서 막히고, 보유 물량이 없으면 전략 중지)
+        RiskCheckResult breach = preTradeRiskEngine.onPrice(strategyId, currentPrice.doubleValue());
+        if (!breach.isApproved() && status.currentPosition.signum() == 0) {
+            log.warn("리스크 한도 초과로 전략 중지: {} - {}", strategyId, breach.getDescription());
+            strategy.setEnabled(false);
+            return;
+        }
         
-        // 기술적 지표 계산
-        Map<String, BigDecimal> indicators = calculateTechnicalIndicators(strategy, priceResponse);
+        // 기술적 지표 갱신 (새 일자별 기록만 반영)
+        List<PriceQueryRecord> priceHistory = priceQueryRecordService.findByStockCodeAndQueryType(strategy.getStockCode(), "daily");
+        TradingSignalEvaluator.SignalState signalState = signalEvaluator.stateFor(strategy);
+        signalState.syncNewestFirst(priceHistory);
         
         // 매매 신호 확인
-        TradingSignal signal = analyzeTradingSignal(strategy, priceResponse, indicators, status);
+        TradingSignal signal = signalEvaluator.analyze(signalState, currentPrice, status, referencePrice);
         
         // 매매 실행
         if (signal != TradingSignal.HOLD) {
-            executeTrade(strategy, signal, priceResponse, status);
+            executeTrade(strategy, signal, currentPrice, status);
         }
     }
     
     /**
-     * 현재가 조회
+     * 현재가 조회 (국내, 원 단위)
+     * 캐시 유지 시간이 지난 시세(STALE, 갱신 중이거나 조회 실패로 이전 값 사용)는 구독자에게만 배포하고
+     * 리스크 점검/신호/주문 가격에는 쓰지 않도록 null을 반환한다. (이번 조회는 건너뜀)
      */
-    private StockPriceResponse getCurrentPrice(String stockCode) {
+    BigDecimal getCurrentPrice(String stockCode) {
         try {
             StockPriceRequest request = StockPriceRequest.builder()
                     .stockCode(stockCode)
                     .build();
             
-            return stockPriceService.getCurrentPrice(request, null);
+            StockPriceResponse response = stockPriceService.getCurrentPrice(request, null);
+            if (response.getErrorCode() != null || response.getCurrentPrice() == null) {
+                log.warn("현재가 응답 오류: {} - {} {}", stockCode, response.getErrorCode(), response.getErrorMessage());
+                return null;
+            }
+            quotePushService.publish(MarketType.DOMESTIC, stockCode, response);
+            if (Boolean.TRUE.equals(response.getStale())) {
+                log.debug("유지 시간이 지난 시세: {} ({}ms 경과)", stockCode, response.getQuoteAgeMillis());
+                return null;
+            }
+            return new BigDecimal(response.getCurrentPrice());
         } catch (Exception e) {
             log.error("현재가 조회 실패: {} - {}", stockCode, e.getMessage());
             return null;
@@ -353,356 +505,356 @@ public class AutoTradingEngine {
     }
     
     /**
-     * 기술적 지표 계산 (실전 트레이딩 표준)
+     * 현재가 조회 (해외, 달러 소수점 그대로)
      */
-    private Map<String, BigDecimal> calculateTechnicalIndicators(AutoTradingStrategy strategy, StockPriceResponse priceResponse) {
-        List<PriceQueryRecord> priceHistory = priceQueryRecordService.findByStockCodeAndQueryType(
-            strategy.getStockCode(), "daily");
-        if (priceHistory.size() < 30) {
-            return getFallbackIndicators(priceResponse);
-        }
-        List<PriceQueryRecord> recent = priceHistory.subList(0, Math.min(50, priceHistory.size()));
-        List<BigDecimal> closes = recent.stream().map(r -> new BigDecimal(r.getCurrentPrice())).toList();
-        List<BigDecimal> highs = recent.stream().map(r -> new BigDecimal(r.getHighPrice())).toList();
-        List<BigDecimal> lows = recent.stream().map(r -> new BigDecimal(r.getLowPrice())).toList();
-
-        Map<String, BigDecimal> indicators = new HashMap<>();
-        // RSI(14) - Wilders Smoothing
-        indicators.put("RSI", calculateRSI_Wilders(closes, 14));
-        // EMA(12,26)
-        List<BigDecimal> emaFastSeries = calculateEMA_Series(closes, 12);
-        List<BigDecimal> emaSlowSeries = calculateEMA_Series(closes, 26);
-        // MACD 시계열 및 Signal
-        List<BigDecimal> macdSeries = new java.util.ArrayList<>();
-        for (int i = 0; i < Math.min(emaFastSeries.size(), emaSlowSeries.size()); i++) {
-            macdSeries.add(emaFastSeries.get(i).subtract(emaSlowSeries.get(i)));
-        }
-        List<BigDecimal> signalSeries = calculateEMA_Series(macdSeries, 9);
-        // 최신값만 저장
-        indicators.put("MACD", macdSeries.isEmpty() ? BigDecimal.ZERO : macdSeries.get(0));
-        indicators.put("MACD_SIGNAL", signalSeries.isEmpty() ? BigDecimal.ZERO : signalSeries.get(0));
-        // SMA/EMA(5,20)
-        indicators.put("SMA_SHORT", calculateSMA(closes, 5));
-        indicators.put("SMA_LONG", calculateSMA(closes, 20));
-        indicators.put("EMA_SHORT", emaFastSeries.isEmpty() ? closes.get(0) : emaFastSeries.get(0));
-        indicators.put("EMA_LONG", emaSlowSeries.isEmpty() ? closes.get(0) : emaSlowSeries.get(0));
-        // 볼린저밴드(20,2) - bias correction, 중심선 EMA 옵션
-        BigDecimal[] bb = calculateBollingerBands(closes, 20, 2, true, true);
-        indicators.put("BB_UPPER", bb[0]);
-        indicators.put("BB_LOWER", bb[1]);
-        // 최근 고가/저가
-        indicators.put("HIGH_20", highs.subList(0, Math.min(20, highs.size())).stream().max(BigDecimal::compareTo).orElse(BigDecimal.ZERO));
-        indicators.put("LOW_20", lows.subList(0, Math.min(20, lows.size())).stream().min(BigDecimal::compareTo).orElse(BigDecimal.ZERO));
-        return indicators;
-    }
-    // 임시값 반환 (데이터 부족 시)
-    private Map<String, BigDecimal> getFallbackIndicators(StockPriceResponse priceResponse) {
-        Map<String, BigDecimal> indicators = new HashMap<>();
-        indicators.put("RSI", new BigDecimal("50"));
-        indicators.put("MACD", new BigDecimal("0"));
-        indicators.put("MACD_SIGNAL", new BigDecimal("0"));
-        indicators.put("SMA_SHORT", new BigDecimal(priceResponse.getCurrentPrice()));
-        indicators.put("SMA_LONG", new BigDecimal(priceResponse.getCurrentPrice()));
-        indicators.put("BB_UPPER", new BigDecimal(priceResponse.getHighPrice()));
-        indicators.put("BB_LOWER", new BigDecimal(priceResponse.getLowPrice()));
-        indicators.put("HIGH_20", new BigDecimal(priceResponse.getHighPrice()));
-        indicators.put("LOW_20", new BigDecimal(priceResponse.getLowPrice()));
-        return indicators;
-    }
-    // RSI (Wilders Smoothing)
-    private BigDecimal calculateRSI_Wilders(List<BigDecimal> closes, int period) {
-        if (closes.size() < period + 1) return new BigDecimal("50");
-        List<BigDecimal> deltas = new java.util.ArrayList<>();
-        for (int i = closes.size() - 1; i > 0; i--) {
-            deltas.add(closes.get(i - 1).subtract(closes.get(i)));
-        }
-        BigDecimal gain = BigDecimal.ZERO, loss = BigDecimal.ZERO;
-        for (int i = 0; i < period; i++) {
-            BigDecimal d = deltas.get(i);
-            if (d.compareTo(BigDecimal.ZERO) > 0) gain = gain.add(d);
-            else loss = loss.add(d.abs());
-        }
-        gain = gain.divide(BigDecimal.valueOf(period), 6, BigDecimal.ROUND_HALF_UP);
-        loss = loss.divide(BigDecimal.valueOf(period), 6, BigDecimal.ROUND_HALF_UP);
-        for (int i = period; i < deltas.size(); i++) {
-            BigDecimal d = deltas.get(i);
-            if (d.compareTo(BigDecimal.ZERO) > 0) {
-                gain = (gain.multiply(BigDecimal.valueOf(period - 1)).add(d)).divide(BigDecimal.valueOf(period), 6, BigDecimal.ROUND_HALF_UP);
-                loss = (loss.multiply(BigDecimal.valueOf(period - 1))).divide(BigDecimal.valueOf(period), 6, BigDecimal.ROUND_HALF_UP);
-            } else {
-                gain = (gain.multiply(BigDecimal.valueOf(period - 1))).divide(BigDecimal.valueOf(period), 6, BigDecimal.ROUND_HALF_UP);
-                loss = (loss.multiply(BigDecimal.valueOf(period - 1)).add(d.abs())).divide(BigDecimal.valueOf(period), 6, BigDecimal.ROUND_HALF_UP);
+    private BigDecimal getForeignCurrentPrice(String stockCode) {
+        try {
+            ApiResponse<ForeignStockPriceResponse> response = foreignStockPriceService.getCurrentPriceByCode(stockCode, null);
+            if (response == null || !response.isSuccess() || response.getData() == null
+                    || response.getData().getCurrentPrice() == null) {
+                log.warn("해외 현재가 응답 오류: {} - {}", stockCode, response != null ? response.getErrorMessage() : null);
+                return null;
             }
+            quotePushService.publish(MarketType.FOREIGN, stockCode, response.getData());
+            return response.getData().getCurrentPrice();
+        } catch (Exception e) {
+            log.error("해외 현재가 조회 실패: {} - {}", stockCode, e.getMessage());
+            return null;
         }
-        if (gain.add(loss).compareTo(BigDecimal.ZERO) == 0) return new BigDecimal("50");
-        BigDecimal rs = gain.divide(loss.equals(BigDecimal.ZERO) ? BigDecimal.ONE : loss, 6, BigDecimal.ROUND_HALF_UP);
-        return new BigDecimal(100).subtract(new BigDecimal(100).divide(rs.add(BigDecimal.ONE), 2, BigDecimal.ROUND_HALF_UP));
-    }
-    // SMA
-    private BigDecimal calculateSMA(List<BigDecimal> closes, int period) {
-        if (closes.size() < period) return closes.get(0);
-        return closes.subList(0, period).stream().reduce(BigDecimal.ZERO, BigDecimal::add)
-                .divide(BigDecimal.valueOf(period), 2, BigDecimal.ROUND_HALF_UP);
-    }
-    // EMA 시계열 (초기값 SMA, 이후 k-factor)
-    private List<BigDecimal> calculateEMA_Series(List<BigDecimal> closes, int period) {
-        List<BigDecimal> emaSeries = new java.util.ArrayList<>();
-        if (closes.size() < period) {
-            emaSeries.add(closes.get(0));
-            return emaSeries;
-        }
-        BigDecimal k = new BigDecimal(2.0 / (period + 1));
-        // 초기값: SMA
-        BigDecimal prevEma = calculateSMA(closes, period);
-        emaSeries.add(prevEma);
-        for (int i = period; i < closes.size(); i++) {
-            BigDecimal price = closes.get(i);
-            prevEma = price.subtract(prevEma).multiply(k).add(prevEma);
-            emaSeries.add(0, prevEma.setScale(2, BigDecimal.ROUND_HALF_UP)); // 최신값이 앞에 오도록
-        }
-        return emaSeries;
-    }
-    // 볼린저밴드 (bias correction, 중심선 EMA 옵션, 신뢰구간 파라미터화)
-    private BigDecimal[] calculateBollingerBands(List<BigDecimal> closes, int period, int sigma, boolean biasCorrection, boolean useEMA) {
-        if (closes.size() < period) return new BigDecimal[]{closes.get(0), closes.get(0)};
-        List<BigDecimal> window = closes.subList(0, period);
-        BigDecimal center = useEMA ? calculateEMA_Series(window, period).get(0) : calculateSMA(window, period);
-        // 분산(bias correction)
-        BigDecimal variance = window.stream().map(c -> c.subtract(center).pow(2)).reduce(BigDecimal.ZERO, BigDecimal::add)
-                .divide(BigDecimal.valueOf(biasCorrection ? period - 1 : period), 6, BigDecimal.ROUND_HALF_UP);
-        BigDecimal std = new BigDecimal(Math.sqrt(variance.doubleValue())).setScale(2, BigDecimal.ROUND_HALF_UP);
-        return new BigDecimal[]{center.add(std.multiply(BigDecimal.valueOf(sigma))), center.subtract(std.multiply(BigDecimal.valueOf(sigma)))};
     }
     
     /**
-     * 매매 신호 분석 (고급화)
+     * 매매 실행
      */
-    private TradingSignal analyzeTradingSignal(AutoTradingStrategy strategy, StockPriceResponse priceResponse, 
-                                             Map<String, BigDecimal> indicators, TradingStatus status) {
-        BigDecimal currentPrice = new BigDecimal(priceResponse.getCurrentPrice());
-        BigDecimal rsi = indicators.get("RSI");
-        BigDecimal macd = indicators.get("MACD");
-        BigDecimal macdSignal = indicators.get("MACD_SIGNAL");
-        BigDecimal smaShort = indicators.get("SMA_SHORT");
-        BigDecimal smaLong = indicators.get("SMA_LONG");
-        BigDecimal bbUpper = indicators.get("BB_UPPER");
-        BigDecimal bbLower = indicators.get("BB_LOWER");
-        BigDecimal high20 = indicators.get("HIGH_20");
-        BigDecimal low20 = indicators.get("LOW_20");
-
-        // 다중 지표 조합: RSI, MACD, 이동평균, 볼린저밴드, 고가/저가 돌파
-        boolean buySignal = rsi.compareTo(strategy.getRsiOversold()) <= 0
-                && macd.compareTo(macdSignal) > 0
-                && smaShort.compareTo(smaLong) > 0
-                && currentPrice.compareTo(bbLower) <= 0
-                && currentPrice.compareTo(low20) <= 0;
-        // 매도 신호: 보유 수량이 0 이하이면 무조건 HOLD
-        if (status.currentPosition == null || status.currentPosition.compareTo(BigDecimal.ZERO) <= 0) {
-            if (buySignal) return TradingSignal.BUY;
-            return TradingSignal.HOLD;
-        }
-        boolean sellSignal = rsi.compareTo(strategy.getRsiOverbought()) >= 0
-                && macd.compareTo(macdSignal) < 0
-                && smaShort.compareTo(smaLong) < 0
-                && currentPrice.compareTo(bbUpper) >= 0
-                && currentPrice.compareTo(high20) >= 0;
-
-        // 리스크 관리: 익절/손절/트레일링스탑
-        BigDecimal profitRate = currentPrice.subtract(status.averagePrice)
-                .divide(status.averagePrice.equals(BigDecimal.ZERO) ? BigDecimal.ONE : status.averagePrice, 4, BigDecimal.ROUND_HALF_UP)
-                .multiply(new BigDecimal("100"));
-        boolean profitTargetReached = profitRate.compareTo(strategy.getProfitTarget()) >= 0;
-        boolean stopLossTriggered = profitRate.compareTo(strategy.getStopLoss().negate()) <= 0;
-        // 트레일링 스탑(최근 고점 대비 일정 % 하락 시 매도)
-        boolean trailingStop = false;
-        if (status.lastPrice != null && status.lastPrice.compareTo(BigDecimal.ZERO) > 0) {
-            BigDecimal drop = status.lastPrice.subtract(currentPrice)
-                    .divide(status.lastPrice, 4, BigDecimal.ROUND_HALF_UP)
-                    .multiply(new BigDecimal("100"));
-            trailingStop = drop.compareTo(new BigDecimal("3")) >= 0; // 3% 이상 하락 시
-        }
-        if (buySignal) return TradingSignal.BUY;
-        if (sellSignal || profitTargetReached || stopLossTriggered || trailingStop) return TradingSignal.SELL;
-        return TradingSignal.HOLD;
+    private void executeTrade(AutoTradingStrategy strategy, TradingSignal signal, 
+                            BigDecimal price, TradingStatus status) {
+        try {
+            if (signal == TradingSignal.BUY) {
+                executeBuyOrder(strategy, price, status);
+            } else if (signal == TradingSignal.SELL) {
+                executeSellOrder(strategy, price, status);
+            }
+        } catch (Exception e) {
+            log.error("매매 실행 중 오류 발생: {} - {}", strategy.getStrategyId(), e.getMessage());
+        }
     }
     
     /**
-     * 매수 신호 확인
+     * 킬 스위치 작동 중이거나 해당 시장 엔진이 종료 중이면 주문하지 않음 (리스크 예약 전 빠른 경로)
      */
-    private boolean shouldBuy(AutoTradingStrategy strategy, BigDecimal currentPrice, BigDecimal rsi, 
-                            BigDecimal macd, BigDecimal macdSignal, BigDecimal smaShort, BigDecimal smaLong, 
-                            TradingStatus status) {
-        // 보유 수량이 최대 포지션 크기를 초과하면 매수하지 않음
-        BigDecimal maxPosition = strategy.getTotalInvestment().multiply(strategy.getMaxPositionSize());
-        if (status.currentPosition.compareTo(maxPosition) >= 0) {
+    private boolean ordersAllowed(AutoTradingStrategy strategy) {
+        if (orderGuard.isKillSwitchEngaged()) {
+            log.warn("킬 스위치 작동 중 - 주문 생략: {}", strategy.getStrategyId());
             return false;
         }
-        
-        // 일일 거래 횟수 제한 확인
-        if (status.dailyTradeCount >= strategy.getMaxDailyTrades()) {
-            return false;
+        boolean enabled = strategy.getMarketType() == MarketType.FOREIGN ? foreignOrdersEnabled : domesticOrdersEnabled;
+        if (!enabled) {
+            log.warn("엔진 종료 중 - 주문 생략: {}", strategy.getStrategyId());
+        }
+        return enabled;
+    }
+    
+    /**
+     * 매수 주문 제출 (주문 전 리스크 점검 통과 시에만, 체결은 주문 관리자가 알려줌)
+     */
+    void executeBuyOrder(AutoTradingStrategy strategy, BigDecimal price, TradingStatus status) {
+        if (!ordersAllowed(strategy) || hasWorkingOrder(strategy)) return;
+        int quantity = strategy.getBuyQuantity();
+        RiskCheckResult risk = preTradeRiskEngine.checkAndReserve(strategy.getStrategyId(), true, quantity, price.doubleValue());
+        if (!risk.isApproved()) {
+            log.warn("매수 주문 리스크 거절: {} - {}", strategy.getStockCode(), risk.getDescription());
+            return;
         }
         
-        // RSI 과매도 조건
-        boolean rsiOversold = rsi.compareTo(strategy.getRsiOversold()) <= 0;
-        
-        // MACD 상승 신호
-        boolean macdBullish = macd.compareTo(macdSignal) > 0;
-        
-        // 이동평균 상승 신호
-        boolean smaBullish = smaShort.compareTo(smaLong) > 0;
-        
-        // 가격 제한 확인
-        boolean priceLimitOk = strategy.getBuyPriceLimit().compareTo(BigDecimal.ZERO) == 0 || 
-                              currentPrice.compareTo(strategy.getBuyPriceLimit()) <= 0;
-        
-        return rsiOversold && macdBullish && smaBullish && priceLimitOk;
+        if (strategy.getMarketType() == MarketType.FOREIGN) {
+            submitForeignOrder(strategy, true, foreignOrderRequest(strategy, "매수", quantity, price, strategy.getBuyPriceType()), status);
+            return;
+        }
+        StockOrderRequest orderRequest = StockOrderRequest.builder()
+                .accountNumber("1234567890") // 실제 계좌번호로 변경 필요
+                .stockCode(strategy.getStockCode())
+                .orderType("매수")
+                .quantity(quantity)
+                .price(price.intValue())
+                .priceType(strategy.getBuyPriceType())
+                .orderCategory("일반")
+                .build();
+        submitOrder(strategy, true, orderRequest, price, status);
     }
     
     /**
-     * 매도 신호 확인
+     * 매도 주문 제출 (주문 전 리스크 점검 통과 시에만, 체결은 주문 관리자가 알려줌)
      */
-    private boolean shouldSell(AutoTradingStrategy strategy, BigDecimal currentPrice, BigDecimal rsi, 
-                             BigDecimal macd, BigDecimal macdSignal, BigDecimal smaShort, BigDecimal smaLong, 
-                             TradingStatus status) {
-        // 보유 수량이 없으면 매도하지 않음
-        if (status.currentPosition.compareTo(BigDecimal.ZERO) <= 0) {
-            return false;
+    private void executeSellOrder(AutoTradingStrategy strategy, BigDecimal price, TradingStatus status) {
+        if (!ordersAllowed(strategy) || hasWorkingOrder(strategy)) return;
+        int quantity = status.currentPosition.intValue();
+        RiskCheckResult risk = preTradeRiskEngine.checkAndReserve(strategy.getStrategyId(), false, quantity, price.doubleValue());
+        if (!risk.isApproved()) {
+            log.warn("매도 주문 리스크 거절: {} - {}", strategy.getStockCode(), risk.getDescription());
+            return;
         }
         
-        // 일일 거래 횟수 제한 확인
-        if (status.dailyTradeCount >= strategy.getMaxDailyTrades()) {
+        if (strategy.getMarketType() == MarketType.FOREIGN) {
+            submitForeignOrder(strategy, false, foreignOrderRequest(strategy, "매도", quantity, price, "시장가"), status);
+            return;
+        }
+        StockOrderRequest orderRequest = StockOrderRequest.builder()
+                .accountNumber("1234567890") // 실제 계좌번호로 변경 필요
+                .stockCode(strategy.getStockCode())
+                .orderType("매도")
+                .quantity(quantity)
+                .price(price.intValue())
+                .priceType("시장가")
+                .orderCategory("일반")
+                .build();
+        submitOrder(strategy, false, orderRequest, price, status);
+    }
+    
+    /**
+     * 전략당 진행 중 주문은 하나 (체결/종료 전에는 같은 신호로 다시 주문하지 않음)
+     */
+    boolean hasWorkingOrder(AutoTradingStrategy strategy) {
+        ForeignWorkingOrder foreign = foreignWorkingOrders.get(strategy.getStrategyId());
+        if (foreign != null) {
+            log.debug("체결 확인 전 해외 주문이 있어 주문 생략: {} - {}", strategy.getStrategyId(), foreign.orderNumber);
+            return true;
+        }
+        ManagedOrder working = workingOrders.get(strategy.getStrategyId());
+        if (working == null) return false;
+        if (working.getState().isTerminal()) {
+            workingOrders.remove(strategy.getStrategyId(), working);
             return false;
         }
-        
-        // RSI 과매수 조건
-        boolean rsiOverbought = rsi.compareTo(strategy.getRsiOverbought()) >= 0;
-        
-        // MACD 하락 신호
-        boolean macdBearish = macd.compareTo(macdSignal) < 0;
-        
-        // 이동평균 하락 신호
-        boolean smaBearish = smaShort.compareTo(smaLong) < 0;
-        
-        // 수익 목표 달성
-        BigDecimal profitRate = currentPrice.subtract(status.averagePrice)
-                .divide(status.averagePrice, 4, BigDecimal.ROUND_HALF_UP)
-                .multiply(new BigDecimal("100"));
-        boolean profitTargetReached = profitRate.compareTo(strategy.getProfitTarget()) >= 0;
-        
-        // 손절 조건
-        boolean stopLossTriggered = profitRate.compareTo(strategy.getStopLoss().negate()) <= 0;
-        
-        // 가격 제한 확인
-        boolean priceLimitOk = strategy.getSellPriceLimit().compareTo(BigDecimal.ZERO) == 0 || 
-                              currentPrice.compareTo(strategy.getSellPriceLimit()) >= 0;
-        
-        return (rsiOverbought && macdBearish && smaBearish) || profitTargetReached || stopLossTriggered || priceLimitOk;
+        log.debug("진행 중 주문이 있어 주문 생략: {} - {} ({})", strategy.getStrategyId(), working.getClientOrderId(), working.getState());
+        return true;
     }
     
     /**
-     * 매매 실행
+     * 주문 관리자에 제출 (증권사 응답을 기다리지 않음, 제출 실패 시 예약 해제)
      */
-    private void executeTrade(AutoTradingStrategy strategy, TradingSignal signal, 
-                            StockPriceResponse priceResponse, TradingStatus status) {
+    private void submitOrder(AutoTradingStrategy strategy, boolean buy, StockOrderRequest orderRequest,
+                             BigDecimal price, TradingStatus status) {
+        String strategyId = strategy.getStrategyId();
         try {
-            if (signal == TradingSignal.BUY) {
-                executeBuyOrder(strategy, priceResponse, status);
-            } else if (signal == TradingSignal.SELL) {
-                executeSellOrder(strategy, priceResponse, status);
+            ManagedOrder order = orderManager.submit(strategyId, orderRequest, new StrategyOrderListener(strategy, buy, price, status));
+            workingOrders.put(strategyId, order);
+            if (order.getState().isTerminal()) {
+                workingOrders.remove(strategyId, order);
             }
+            log.info("{} 주문 제출: {} - {}주 @ {} ({})", buy ? "매수" : "매도", strategy.getStockCode(),
+                    orderRequest.getQuantity(), price, order.getClientOrderId());
         } catch (Exception e) {
-            log.error("매매 실행 중 오류 발생: {} - {}", strategy.getStrategyId(), e.getMessage());
+            log.error("{} 주문 제출 실패: {} - {}", buy ? "매수" : "매도", strategy.getStockCode(), e.getMessage());
+            preTradeRiskEngine.release(strategyId, buy, orderRequest.getQuantity(), price.doubleValue());
         }
     }
     
-    /**
-     * 매수 주문 실행
-     */
-    private void executeBuyOrder(AutoTradingStrategy strategy, StockPriceResponse priceResponse, TradingStatus status) {
-        StockOrderRequest orderRequest = StockOrderRequest.builder()
-                .accountNumber("1234567890") // 실제 계좌번호로 변경 필요
+    private ForeignStockOrderRequest foreignOrderRequest(AutoTradingStrategy strategy, String orderType, int quantity,
+                                                         BigDecimal price, String priceType) {
+        return ForeignStockOrderRequest.builder()
+                .accountNumber("FOREIGN123456") // 실제 계좌번호로 변경 필요
                 .stockCode(strategy.getStockCode())
-                .orderType("매수")
-                .quantity(strategy.getBuyQuantity())
-                .price(priceResponse.getCurrentPrice())
-                .priceType(strategy.getBuyPriceType())
+                .orderType(orderType)
+                .quantity(quantity)
+                .price(price)
+                .priceType(priceType)
                 .orderCategory("일반")
                 .build();
-        
+    }
+    
+    /**
+     * 해외 주문 전송
+     * 접수 응답에 체결 수량이 있으면 그만큼만 반영하고, 나머지는 체결 확인 전 주문으로 두어 전략 조회 때마다 주문 상태를 확인한다.
+     * 리스크 원장은 주문 가격(달러)으로 예약했으므로 정산도 주문 가격 기준
+     */
+    private void submitForeignOrder(AutoTradingStrategy strategy, boolean buy, ForeignStockOrderRequest orderRequest,
+                                    TradingStatus status) {
+        String strategyId = strategy.getStrategyId();
+        int quantity = orderRequest.getQuantity();
+        BigDecimal price = orderRequest.getPrice();
         try {
-            StockOrderResponse orderResponse = stockOrderService.executeOrder(orderRequest);
-            
-            if ("성공".equals(orderResponse.getOrderStatus())) {
-                // 상태 업데이트
-                status.currentPosition = status.currentPosition.add(new BigDecimal(strategy.getBuyQuantity()));
-                status.averagePrice = calculateNewAveragePrice(status.averagePrice, status.currentPosition, 
-                                                           new BigDecimal(priceResponse.getCurrentPrice()), 
-                                                           new BigDecimal(strategy.getBuyQuantity()));
-                status.dailyTradeCount++;
-                status.lastTradeTime = LocalDateTime.now();
-                
-                log.info("매수 주문 성공: {} - {}주 @ {}", strategy.getStockCode(), 
-                        strategy.getBuyQuantity(), priceResponse.getCurrentPrice());
+            ApiResponse<ForeignStockOrderResponse> response = foreignStockOrderService.executeOrder(orderRequest, null);
+            if (response == null || !response.isSuccess() || response.getData() == null
+                    || response.getData().getOrderNumber() == null) {
+                log.warn("해외 {} 주문 실패: {} - {}", buy ? "매수" : "매도", strategy.getStockCode(),
+                        response != null ? response.getErrorMessage() : null);
+                preTradeRiskEngine.release(strategyId, buy, quantity, price.doubleValue());
+                return;
             }
+            ForeignStockOrderResponse order = response.getData();
+            Instant now = Instant.now();
+            ForeignWorkingOrder working = new ForeignWorkingOrder(order.getOrderNumber(), orderRequest.getAccountNumber(),
+                    buy, quantity, price, sessionClose(now));
+            foreignWorkingOrders.put(strategyId, working);
+            log.info("해외 {} 주문 접수: {} - {}주 @ {} ({})", buy ? "매수" : "매도", strategy.getStockCode(),
+                    quantity, price, order.getOrderNumber());
+            applyForeignOrderStatus(strategy, working, order, status, now);
         } catch (Exception e) {
-            log.error("매수 주문 실패: {} - {}", strategy.getStockCode(), e.getMessage());
+            log.error("해외 {} 주문 제출 실패: {} - {}", buy ? "매수" : "매도", strategy.getStockCode(), e.getMessage());
+            preTradeRiskEngine.release(strategyId, buy, quantity, price.doubleValue());
         }
     }
     
     /**
-     * 매도 주문 실행
+     * 체결 확인 전 해외 주문 상태 조회 (지난 세션 주문은 다음 세션 첫 조회 때 체결 반영 후 정리)
      */
-    private void executeSellOrder(AutoTradingStrategy strategy, StockPriceResponse priceResponse, TradingStatus status) {
-        StockOrderRequest orderRequest = StockOrderRequest.builder()
-                .accountNumber("1234567890") // 실제 계좌번호로 변경 필요
-                .stockCode(strategy.getStockCode())
-                .orderType("매도")
-                .quantity(status.currentPosition.intValue())
-                .price(priceResponse.getCurrentPrice())
-                .priceType("시장가")
-                .orderCategory("일반")
-                .build();
-        
+    void refreshForeignWorkingOrder(AutoTradingStrategy strategy, Instant now) {
+        ForeignWorkingOrder working = foreignWorkingOrders.get(strategy.getStrategyId());
+        if (working == null) return;
+        TradingStatus status = foreignStatuses.computeIfAbsent(strategy.getStrategyId(), id -> new TradingStatus());
+        ForeignStockOrderResponse order = null;
         try {
-            StockOrderResponse orderResponse = stockOrderService.executeOrder(orderRequest);
-            
-            if ("성공".equals(orderResponse.getOrderStatus())) {
-                // 손익 계산
-                BigDecimal currentPrice = new BigDecimal(priceResponse.getCurrentPrice());
-                BigDecimal profit = currentPrice.subtract(status.averagePrice)
-                        .multiply(status.currentPosition);
-                status.dailyPnL = status.dailyPnL.add(profit);
-                
-                // 상태 업데이트
-                status.currentPosition = BigDecimal.ZERO;
-                status.averagePrice = BigDecimal.ZERO;
-                status.dailyTradeCount++;
-                status.lastTradeTime = LocalDateTime.now();
-                
-                log.info("매도 주문 성공: {} - {}주 @ {} (손익: {})", strategy.getStockCode(), 
-                        status.currentPosition, priceResponse.getCurrentPrice(), profit);
+            ApiResponse<ForeignStockOrderResponse> response =
+                    foreignStockOrderService.getOrderStatus(working.accountNumber, working.orderNumber, null);
+            if (response != null && response.isSuccess()) {
+                order = response.getData();
+            } else {
+                log.warn("해외 주문 상태 조회 실패: {} - {}", working.orderNumber, response != null ? response.getErrorMessage() : null);
             }
         } catch (Exception e) {
-            log.error("매도 주문 실패: {} - {}", strategy.getStockCode(), e.getMessage());
+            log.warn("해외 주문 상태 조회 실패: {} - {}", working.orderNumber, e.getMessage());
+        }
+        applyForeignOrderStatus(strategy, working, order, status, now);
+    }
+    
+    /**
+     * 해외 주문 누적 체결 반영
+     * 늘어난 체결 수량만 원장/전략 상태에 반영하고, 전량 체결·취소·거부되거나 주문한 정규장이 끝나면
+     * 미체결 잔량 예약을 해제하고 주문 추적을 끝낸다.
+     * @param order 주문 상태 응답 (조회 실패 시 null)
+     */
+    private void applyForeignOrderStatus(AutoTradingStrategy strategy, ForeignWorkingOrder working,
+                                         ForeignStockOrderResponse order, TradingStatus status, Instant now) {
+        String strategyId = strategy.getStrategyId();
+        boolean closed = false;
+        synchronized (working) {
+            if (order != null) {
+                int executed = order.getExecutedQuantity() != null ? Math.min(order.getExecutedQuantity(), working.quantity) : 0;
+                if (executed > working.filledQuantity) {
+                    int delta = executed - working.filledQuantity;
+                    BigDecimal fillPrice = working.fillPrice(order.getExecutedPrice(), executed, delta);
+                    working.filledQuantity = executed;
+                    applyFill(strategy, working.buy, working.orderPrice, status, delta, fillPrice, working.orderNumber);
+                }
+                String orderStatus = order.getOrderStatus();
+                closed = orderStatus != null && (orderStatus.contains("취소") || orderStatus.contains("거부"));
+            }
+            if (working.filledQuantity >= working.quantity) {
+                closed = true;
+            } else if (!now.isBefore(working.sessionClose)) {
+                log.info("해외 주문 세션 종료로 미체결 잔량 소멸: {} ({}/{})", working.orderNumber, working.filledQuantity, working.quantity);
+                closed = true;
+            }
+            if (!closed || !foreignWorkingOrders.remove(strategyId, working)) {
+                return;
+            }
+            int unfilled = working.quantity - working.filledQuantity;
+            if (working.filledQuantity == 0) {
+                preTradeRiskEngine.release(strategyId, working.buy, working.quantity, working.orderPrice.doubleValue());
+            } else if (unfilled > 0) {
+                preTradeRiskEngine.releaseRemainder(strategyId, working.buy, unfilled, working.orderPrice.doubleValue());
+            }
         }
     }
     
     /**
-     * 새로운 평균가 계산
+     * 주문이 걸리는 정규장 마감 시각 (해외 주문은 당일 주문으로 보고 마감 후 잔량을 정리, 장 밖에서 접수되면 다음 정규장 기준)
      */
-    private BigDecimal calculateNewAveragePrice(BigDecimal currentAverage, BigDecimal currentPosition, 
-                                             BigDecimal newPrice, BigDecimal newQuantity) {
-        BigDecimal totalValue = currentAverage.multiply(currentPosition).add(newPrice.multiply(newQuantity));
-        BigDecimal totalQuantity = currentPosition.add(newQuantity);
-        return totalValue.divide(totalQuantity, 2, BigDecimal.ROUND_HALF_UP);
+    private static Instant sessionClose(Instant submittedAt) {
+        LocalDate date = UsMarketCalendar.nextOpen(submittedAt).atZone(UsMarketCalendar.ZONE).toLocalDate();
+        return ZonedDateTime.of(date, UsMarketCalendar.closeTime(date), UsMarketCalendar.ZONE).toInstant();
     }
     
     /**
-     * 매매 신호 Enum
+     * 체결 반영 (원장은 예약한 주문 가격 기준, 전략 상태는 실제 체결가 기준)
      */
-    private enum TradingSignal {
-        BUY, SELL, HOLD
+    private void applyFill(AutoTradingStrategy strategy, boolean buy, BigDecimal reservedPrice, TradingStatus status,
+                           int quantity, BigDecimal price, String orderRef) {
+        preTradeRiskEngine.onFill(strategy.getStrategyId(), buy, quantity, reservedPrice.doubleValue());
+        if (buy) {
+            status.applyBuyFill(quantity, price, LocalDateTime.now());
+            log.info("매수 체결: {} - {}주 @ {} ({})", strategy.getStockCode(), quantity, price, orderRef);
+        } else {
+            BigDecimal profit = status.applySellFill(quantity, price, LocalDateTime.now());
+            log.info("매도 체결: {} - {}주 @ {} (손익: {}, {})", strategy.getStockCode(), quantity, price, profit, orderRef);
+        }
+    }
+    
+    /**
+     * 전략 주문 체결 반영 (원장은 예약한 주문 가격 기준, 전략 상태는 실제 체결가 기준)
+     */
+    private final class StrategyOrderListener implements OrderListener {
+        private final AutoTradingStrategy strategy;
+        private final boolean buy;
+        private final BigDecimal reservedPrice;
+        private final TradingStatus status;
+        
+        private StrategyOrderListener(AutoTradingStrategy strategy, boolean buy, BigDecimal reservedPrice, TradingStatus status) {
+            this.strategy = strategy;
+            this.buy = buy;
+            this.reservedPrice = reservedPrice;
+            this.status = status;
+        }
+        
+        @Override
+        public void onFill(ManagedOrder order, int quantity, BigDecimal price) {
+            applyFill(strategy, buy, reservedPrice, status, quantity, price, order.getClientOrderId());
+        }
+        
+        @Override
+        public void onClosed(ManagedOrder order) {
+            int unfilled = order.getQuantity() - order.getFilledQuantity();
+            if (order.getFilledQuantity() == 0) {
+                preTradeRiskEngine.release(strategy.getStrategyId(), buy, order.getQuantity(), reservedPrice.doubleValue());
+            } else if (unfilled > 0) {
+                preTradeRiskEngine.releaseRemainder(strategy.getStrategyId(), buy, unfilled, reservedPrice.doubleValue());
+            }
+            workingOrders.remove(strategy.getStrategyId(), order);
+            if (order.getState() != OrderState.FILLED) {
+                log.warn("주문 종료: {} - {} {} (체결 {}/{})", strategy.getStockCode(), order.getClientOrderId(),
+                        order.getState(), order.getFilledQuantity(), order.getQuantity());
+            }
+        }
+    }
+    
+    /**
+     * 체결 확인 전 해외 주문 (누적 체결 수량/평균가 추적)
+     */
+    private static final class ForeignWorkingOrder {
+        private final String orderNumber;
+        private final String accountNumber;
+        private final boolean buy;
+        private final int quantity;
+        private final BigDecimal orderPrice; // 주문 가격 (달러, 리스크 원장 예약 가격)
+        private final Instant sessionClose;
+        private int filledQuantity;
+        private BigDecimal averageFillPrice;
+        
+        private ForeignWorkingOrder(String orderNumber, String accountNumber, boolean buy, int quantity,
+                                    BigDecimal orderPrice, Instant sessionClose) {
+            this.orderNumber = orderNumber;
+            this.accountNumber = accountNumber;
+            this.buy = buy;
+            this.quantity = quantity;
+            this.orderPrice = orderPrice;
+            this.sessionClose = sessionClose;
+        }
+        
+        /**
+         * 이번 체결분 평균가 (누적 평균가 차이로 계산, 평균가가 없으면 주문 가격)
+         */
+        private BigDecimal fillPrice(BigDecimal newAverage, int filled, int delta) {
+            if (newAverage == null || newAverage.signum() <= 0) {
+                return orderPrice;
+            }
+            BigDecimal price = filledQuantity == 0 || averageFillPrice == null
+                    ? newAverage
+                    : newAverage.multiply(BigDecimal.valueOf(filled))
+                            .subtract(averageFillPrice.multiply(BigDecimal.valueOf(filledQuantity)))
+                            .divide(BigDecimal.valueOf(delta), 4, RoundingMode.HALF_UP);
+            averageFillPrice = newAverage;
+            return price;
+        }
     }
     
     // ==================== 해외 주식 관련 메서드 ====================
@@ -0,0 +1,230 @@
+package trade.project.trading.engine;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 해시드 타이밍 휠
+ * 전략별 시세 조회 타이머를 O(1)로 등록/취소하기 위한 경량 스케줄러.
+ * 외부 스케줄러가 tick 주기로 {@link #advance(long)}를 호출하면 만료된 작업을 executor로 넘긴다.
+ */
+@Slf4j
+public class HashedTimingWheel {
+
+    private final long tickMillis;
+    private final int mask;
+    private final Bucket[] wheel;
+    private final Executor executor;
+    private final long startMillis;
+
+    // 등록/취소는 다른 스레드에서 들어오므로 큐에 모아 두었다가 advance 스레드에서 반영
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger activeCount = new AtomicInteger();
+
+    private long tick = 0; // 다음에 처리할 tick (advance 스레드 전용)
+
+    public HashedTimingWheel(long tickMillis, int ticksPerWheel, Executor executor, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis는 0보다 커야 합니다");
+        }
+        if (ticksPerWheel <= 0) {
+            throw new IllegalArgumentException("ticksPerWheel은 0보다 커야 합니다");
+        }
+        int size = ticksPerWheel == 1 ? 1 : Integer.highestOneBit(ticksPerWheel - 1) << 1; // 2의 거듭제곱으로 정규화
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.executor = executor;
+        this.startMillis = startMillis;
+    }
+
+    /**
+     * 작업 등록 (O(1))
+     */
+    public Timeout newTimeout(Runnable task, long delayMillis, long nowMillis) {
+        long deadline = nowMillis - startMillis + Math.max(0, delayMillis);
+        Timeout timeout = new Timeout(this, task, deadline);
+        activeCount.incrementAndGet();
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 현재 시각까지 도래한 tick을 모두 처리하고 실행된 작업 수를 반환
+     */
+    public int advance(long nowMillis) {
+        long targetTick = (nowMillis - startMillis) / tickMillis;
+        int expired = 0;
+        while (tick <= targetTick) {
+            transferPendingTimeouts();
+            removeCancelledTimeouts();
+            expired += wheel[(int) (tick & mask)].expireTimeouts((tick + 1) * tickMillis);
+            tick++;
+        }
+        return expired;
+    }
+
+    /**
+     * 대기 중인(만료/취소되지 않은) 작업 수
+     */
+    public int size() {
+        return activeCount.get();
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    private void transferPendingTimeouts() {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.state.get() == Timeout.ST_CANCELLED) {
+                continue;
+            }
+            long calculated = timeout.deadline / tickMillis;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            long ticks = Math.max(calculated, tick); // 이미 지난 deadline은 현재 tick에서 처리
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void execute(Timeout timeout) {
+        activeCount.decrementAndGet();
+        try {
+            executor.execute(timeout.task);
+        } catch (Exception e) {
+            log.error("타이밍 휠 작업 실행 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 등록된 작업 핸들
+     */
+    public static final class Timeout {
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private final HashedTimingWheel timer;
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+        private long remainingRounds;
+
+        // 버킷 내 이중 연결 리스트 (advance 스레드 전용)
+        private Timeout next;
+        private Timeout prev;
+        private Bucket bucket;
+
+        private Timeout(HashedTimingWheel timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * 작업 취소 (O(1), 실제 버킷 제거는 다음 tick에서 수행)
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            timer.activeCount.decrementAndGet();
+            timer.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == ST_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == ST_EXPIRED;
+        }
+
+        private boolean expire() {
+            if (!state.compareAndSet(ST_INIT, ST_EXPIRED)) {
+                return false;
+            }
+            timer.execute(this);
+            return true;
+        }
+    }
+
+    /**
+     * 휠의 슬롯 하나
+     */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        int expireTimeouts(long tickDeadline) {
+            int expired = 0;
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    if (timeout.deadline <= tickDeadline && timeout.expire()) {
+                        expired++;
+                    }
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+            return expired;
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = timeout.next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
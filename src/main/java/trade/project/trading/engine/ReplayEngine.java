@@ -0,0 +1,241 @@
+package trade.project.trading.engine;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import trade.project.backtest.pipeline.PipelineSpec;
+import trade.project.backtest.pipeline.StrategyPipeline;
+import trade.project.backtest.pipeline.StrategyPipelineCompiler;
+import trade.project.trading.document.PriceQueryRecord;
+import trade.project.trading.dto.AutoTradingStrategy;
+import trade.project.trading.dto.ReplayRequest;
+import trade.project.trading.dto.ReplayResult;
+import trade.project.trading.enums.MarketType;
+import trade.project.trading.risk.PreTradeRiskEngine;
+import trade.project.trading.risk.RiskCheckResult;
+import trade.project.trading.service.PriceQueryRecordService;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 기록된 시세 리플레이 엔진
+ * price_query_records에 저장된 현재가 기록을 가상 시계로 재생하며
+ * 실시간 엔진과 동일한 지표/신호/리스크 로직으로 발생했을 거래를 계산한다.
+ * 주문 전 점검은 리플레이마다 가상 시계 기준의 별도 PreTradeRiskEngine 원장으로 수행하고 (실계좌 원장과 분리),
+ * 가상 날짜가 바뀌면 실시간 엔진과 같이 일일 손익/거래 횟수를 초기화한다.
+ * 승인된 주문은 기록된 시세로 즉시 체결된 것으로 가정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReplayEngine {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final Duration RISK_CHECK_INTERVAL = Duration.ofMinutes(5); // 실시간 엔진의 리스크 점검 주기
+    static final int WARMUP_BARS = 50; // EMA/RSI 평활값이 수렴하도록 최장 지표 기간 외에 더 읽는 일자별 기록 수
+    private static final int HOLIDAY_MARGIN_DAYS = 10; // 주말 외 휴장일 여유
+
+    private final PriceQueryRecordService priceQueryRecordService;
+
+    private final TradingSignalEvaluator signalEvaluator = new TradingSignalEvaluator();
+
+    /**
+     * 리플레이 실행
+     */
+    public ReplayResult replay(ReplayRequest request) {
+        validateRequest(request);
+        long startedAt = System.currentTimeMillis();
+
+        AutoTradingStrategy strategy = request.getStrategy();
+        String stockCode = strategy.getStockCode();
+        VirtualClock clock = new VirtualClock(request.getStartDateTime(), ZONE);
+        TradingStatus status = new TradingStatus();
+        ZoneId marketZone = strategy.getMarketType() == MarketType.FOREIGN ? UsMarketCalendar.ZONE : ZONE;
+        PreTradeRiskEngine riskEngine = PreTradeRiskEngine.withClock(clock);
+        riskEngine.register(strategy);
+        String strategyId = strategy.getStrategyId();
+        PipelineSpec spec = TradingSignalEvaluator.toPipelineSpec(strategy);
+        StrategyPipeline pipeline = StrategyPipelineCompiler.compile(spec);
+        // 전체 이력 대신 시작 시점 이전 지표 계산에 필요한 구간만 조회
+        LocalDateTime historyStart = historyStart(request.getStartDateTime(), Math.max(pipeline.getLookbackBars(), spec.getMinHistory()));
+        DailyHistory history = new DailyHistory(
+                priceQueryRecordService.findByStockCodeAndQueryTypeBetweenAsc(stockCode, "daily", historyStart, request.getEndDateTime()),
+                new TradingSignalEvaluator.SignalState(spec, pipeline));
+
+        List<ReplayResult.ReplayTrade> trades = new ArrayList<>();
+        BigDecimal realizedPnL = BigDecimal.ZERO;
+        int quoteCount = 0;
+        int buyCount = 0;
+        int sellCount = 0;
+        int riskRejectedCount = 0;
+        LocalDateTime haltedAt = null;
+        String haltReason = null;
+        LocalDateTime nextRiskCheck = request.getStartDateTime();
+
+        try (Stream<PriceQueryRecord> quotes = priceQueryRecordService.streamSuccessRecordsAsc(
+                stockCode, "current", request.getStartDateTime(), request.getEndDateTime())) {
+            Iterator<PriceQueryRecord> iterator = quotes.iterator();
+            while (iterator.hasNext() && haltedAt == null) {
+                PriceQueryRecord quote = iterator.next();
+                if (quote.getCurrentPrice() == null || quote.getQueryDateTime() == null) continue;
+                clock.advanceTo(quote.getQueryDateTime());
+                LocalDateTime now = clock.now();
+                quoteCount++;
+
+                // 실시간 엔진과 동일하게 거래일 전환, 현재가 반영, 손실 한도 점검 후 지표/신호 판단
+                status.rollover(LocalDate.ofInstant(clock.instant(), marketZone));
+                BigDecimal price = new BigDecimal(quote.getCurrentPrice());
+                BigDecimal referencePrice = status.lastPrice;
+                status.updatePrice(price, now);
+                RiskCheckResult breach = riskEngine.onPrice(strategyId, price.doubleValue());
+                if (!breach.isApproved() && status.currentPosition.signum() == 0) {
+                    log.info("리플레이 리스크 한도 초과로 전략 중지: {} - {} ({})", strategyId, breach.getDescription(), now);
+                    haltedAt = now;
+                    haltReason = breach.getDescription();
+                    break;
+                }
+                history.advanceTo(now);
+                TradingSignal signal = signalEvaluator.analyze(history.state, price, status, referencePrice);
+
+                if (signal == TradingSignal.BUY) {
+                    int quantity = strategy.getBuyQuantity();
+                    if (reserve(riskEngine, strategyId, true, quantity, price)) {
+                        status.applyBuyFill(quantity, price, now);
+                        trades.add(toTrade(now, "BUY", price, quantity, null, status));
+                        buyCount++;
+                    } else {
+                        riskRejectedCount++;
+                    }
+                } else if (signal == TradingSignal.SELL) {
+                    int quantity = status.currentPosition.intValue();
+                    if (reserve(riskEngine, strategyId, false, quantity, price)) {
+                        BigDecimal profit = status.applySellFill(quantity, price, now);
+                        realizedPnL = realizedPnL.add(profit);
+                        trades.add(toTrade(now, "SELL", price, quantity, profit, status));
+                        sellCount++;
+                    } else {
+                        riskRejectedCount++;
+                    }
+                }
+
+                // 리스크 점검 (실시간 엔진의 5분 주기를 가상 시간으로 재현)
+                if (!now.isBefore(nextRiskCheck)) {
+                    BigDecimal dailyLossRate = signalEvaluator.calculateDailyLossRate(strategy, status);
+                    if (signalEvaluator.isDailyLossLimitExceeded(strategy, dailyLossRate)) {
+                        log.info("리플레이 일일 손실 한도 초과: {} - {}% ({})", strategyId, dailyLossRate, now);
+                        haltedAt = now;
+                        haltReason = "일일 손실 한도 초과";
+                    }
+                    nextRiskCheck = now.plus(RISK_CHECK_INTERVAL);
+                }
+            }
+        }
+
+        long elapsed = System.currentTimeMillis() - startedAt;
+        log.info("리플레이 완료: {} - 시세 {}건, 거래 {}건, 리스크 거절 {}건, 소요 {}ms",
+                strategyId, quoteCount, trades.size(), riskRejectedCount, elapsed);
+
+        return ReplayResult.builder()
+                .strategyId(strategyId)
+                .stockCode(stockCode)
+                .startDateTime(request.getStartDateTime())
+                .endDateTime(request.getEndDateTime())
+                .quoteCount(quoteCount)
+                .elapsedMillis(elapsed)
+                .totalTrades(trades.size())
+                .buyCount(buyCount)
+                .sellCount(sellCount)
+                .riskRejectedCount(riskRejectedCount)
+                .realizedPnL(realizedPnL)
+                .finalPosition(status.currentPosition)
+                .averagePrice(status.averagePrice)
+                .lastPrice(status.lastPrice)
+                .haltedByRisk(haltedAt != null)
+                .haltedAt(haltedAt)
+                .haltReason(haltReason)
+                .trades(trades)
+                .build();
+    }
+
+    private void validateRequest(ReplayRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("리플레이 요청이 null입니다");
+        }
+        if (request.getStrategy() == null || request.getStrategy().getStockCode() == null) {
+            throw new IllegalArgumentException("리플레이 전략과 종목코드는 필수입니다");
+        }
+        if (request.getStartDateTime() == null || request.getEndDateTime() == null) {
+            throw new IllegalArgumentException("리플레이 시작/종료 시각은 필수입니다");
+        }
+        if (request.getStartDateTime().isAfter(request.getEndDateTime())) {
+            throw new IllegalArgumentException("시작 시각은 종료 시각보다 이전이어야 합니다");
+        }
+    }
+
+    /**
+     * 지표 워밍업에 필요한 일자별 기록 조회 시작 시각
+     * 필요한 봉 수(최장 지표 기간 + WARMUP_BARS)를 주 5일 거래 기준 달력 일수로 환산하고 휴장일 여유를 더한다.
+     */
+    static LocalDateTime historyStart(LocalDateTime startDateTime, int lookbackBars) {
+        long bars = (long) lookbackBars + WARMUP_BARS;
+        long calendarDays = (bars * 7 + 4) / 5 + HOLIDAY_MARGIN_DAYS;
+        return startDateTime.toLocalDate().minusDays(calendarDays).atStartOfDay();
+    }
+
+    /**
+     * 주문 전 점검 후 승인되면 즉시 체결로 정산 (리플레이는 시세 그대로 전량 체결 가정)
+     */
+    private boolean reserve(PreTradeRiskEngine riskEngine, String strategyId, boolean buy, int quantity, BigDecimal price) {
+        RiskCheckResult risk = riskEngine.checkAndReserve(strategyId, buy, quantity, price.doubleValue());
+        if (!risk.isApproved()) {
+            log.debug("리플레이 {} 리스크 거절: {} - {}", buy ? "매수" : "매도", strategyId, risk.getDescription());
+            return false;
+        }
+        riskEngine.onFill(strategyId, buy, quantity, price.doubleValue());
+        return true;
+    }
+
+    private ReplayResult.ReplayTrade toTrade(LocalDateTime time, String action, BigDecimal price, int quantity,
+                                             BigDecimal profit, TradingStatus status) {
+        return ReplayResult.ReplayTrade.builder()
+                .dateTime(time)
+                .action(action)
+                .price(price)
+                .quantity(quantity)
+                .profit(profit)
+                .position(status.currentPosition)
+                .build();
+    }
+
+    /**
+     * 가상 시각 기준 일자별 기록
+     * 실시간 엔진과 동일하게 해당 시점까지 저장된 기록만 지표 상태에 순서대로 반영한다.
+     */
+    private static class DailyHistory {
+        private final List<PriceQueryRecord> records; // 시간순
+        private final TradingSignalEvaluator.SignalState state;
+        private int nextIndex = 0;
+
+        DailyHistory(List<PriceQueryRecord> records, TradingSignalEvaluator.SignalState state) {
+            this.records = records;
+            this.state = state;
+        }
+
+        void advanceTo(LocalDateTime now) {
+            while (nextIndex < records.size()) {
+                PriceQueryRecord record = records.get(nextIndex);
+                if (record.getQueryDateTime() == null || record.getQueryDateTime().isAfter(now)) break;
+                nextIndex++;
+                state.append(record);
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package trade.project.trading.engine;
+
+/**
+ * 매매 신호 Enum
+ */
+enum TradingSignal {
+    BUY, SELL, HOLD
+}
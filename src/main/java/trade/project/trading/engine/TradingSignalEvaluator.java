@@ -0,0 +1,170 @@
+package trade.project.trading.engine;
+
+import trade.project.backtest.pipeline.IndicatorGraph;
+import trade.project.backtest.pipeline.PipelineContext;
+import trade.project.backtest.pipeline.PipelineSpec;
+import trade.project.backtest.pipeline.StrategyPipeline;
+import trade.project.backtest.pipeline.StrategyPipelineCompiler;
+import trade.project.trading.document.PriceQueryRecord;
+import trade.project.trading.dto.AutoTradingStrategy;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 자동매매 신호/리스크 판단
+ * 백테스트와 같은 컴파일된 파이프라인(MULTI_FACTOR)을 사용하고,
+ * 지표 상태는 전략별로 유지하며 새 일자별 기록만 증분 반영한다.
+ */
+class TradingSignalEvaluator {
+
+    static final int MIN_HISTORY_SIZE = 30; // 지표 기반 신호에 필요한 최소 데이터 수
+    private static final double TRAILING_STOP_PERCENT = 3.0; // 직전 관측가 대비 하락률 (%)
+
+    private final Map<String, SignalState> states = new ConcurrentHashMap<>();
+
+    /**
+     * 자동매매 전략 → 파이프라인 정의 (미설정 값은 기본값 사용)
+     */
+    static PipelineSpec toPipelineSpec(AutoTradingStrategy strategy) {
+        boolean customRule = strategy.getBuyRule() != null && !strategy.getBuyRule().isBlank();
+        return PipelineSpec.builder()
+                .type(customRule ? PipelineSpec.Type.DSL : PipelineSpec.Type.MULTI_FACTOR)
+                .buyExpression(customRule ? strategy.getBuyRule() : null)
+                .sellExpression(customRule ? strategy.getSellRule() : null)
+                .rsiPeriod(positiveOrDefault(strategy.getRsiPeriod(), 14))
+                .rsiOversold(decimalOrDefault(strategy.getRsiOversold(), 30))
+                .rsiOverbought(decimalOrDefault(strategy.getRsiOverbought(), 70))
+                .macdFastPeriod(positiveOrDefault(strategy.getMacdFastPeriod(), 12))
+                .macdSlowPeriod(positiveOrDefault(strategy.getMacdSlowPeriod(), 26))
+                .macdSignalPeriod(positiveOrDefault(strategy.getMacdSignalPeriod(), 9))
+                .smaShortPeriod(positiveOrDefault(strategy.getSmaShortPeriod(), 5))
+                .smaLongPeriod(positiveOrDefault(strategy.getSmaLongPeriod(), 20))
+                .bollingerPeriod(20)
+                .bollingerSigma(2.0)
+                .extremePeriod(20)
+                .profitTarget(decimalOrDefault(strategy.getProfitTarget(), Double.NaN))
+                .stopLoss(decimalOrDefault(strategy.getStopLoss(), Double.NaN))
+                .trailingStop(customRule ? TRAILING_STOP_PERCENT : Double.NaN)
+                .minHistory(MIN_HISTORY_SIZE)
+                .build();
+    }
+
+    /**
+     * 전략별 지표 상태 조회 (전략 파라미터가 바뀌면 새로 생성)
+     * 파이프라인 캐시에서 밀려나 다시 컴파일되어도 정의가 같으면 기존 지표 상태를 유지한다.
+     */
+    SignalState stateFor(AutoTradingStrategy strategy) {
+        PipelineSpec spec = toPipelineSpec(strategy);
+        return states.compute(strategy.getStrategyId(), (id, state) -> state != null && state.spec.equals(spec)
+                ? state
+                : new SignalState(spec, StrategyPipelineCompiler.compile(spec)));
+    }
+
+    /**
+     * 전략 규칙 검증 (규칙식 구문 오류 시 IllegalArgumentException)
+     */
+    void validate(AutoTradingStrategy strategy) {
+        StrategyPipelineCompiler.compile(toPipelineSpec(strategy));
+    }
+
+    /**
+     * 전략 제거 시 상태 정리
+     */
+    void evict(String strategyId) {
+        states.remove(strategyId);
+    }
+
+    /**
+     * 매매 신호 판단
+     * referencePrice는 이번 시세 반영 전 직전 관측가 (트레일링 스탑 기준)
+     */
+    TradingSignal analyze(SignalState state, BigDecimal currentPrice, TradingStatus status, BigDecimal referencePrice) {
+        double position = status.currentPosition != null ? status.currentPosition.doubleValue() : 0;
+        double averagePrice = status.averagePrice != null ? status.averagePrice.doubleValue() : 0;
+        double reference = referencePrice != null ? referencePrice.doubleValue() : Double.NaN;
+        synchronized (state) {
+            PipelineContext context = state.context.reset(state.graph, currentPrice.doubleValue(), position, averagePrice, reference);
+            return TradingSignal.valueOf(state.pipeline.evaluate(context));
+        }
+    }
+
+    /**
+     * 일일 손실률 (%) 계산
+     * 손익과 투자금은 같은 시장 통화 (해외 전략은 둘 다 달러)
+     */
+    BigDecimal calculateDailyLossRate(AutoTradingStrategy strategy, TradingStatus status) {
+        return status.dailyPnL.divide(strategy.getTotalInvestment(), 4, BigDecimal.ROUND_HALF_UP).multiply(new BigDecimal("100"));
+    }
+
+    /**
+     * 일일 손실 한도 초과 여부
+     */
+    boolean isDailyLossLimitExceeded(AutoTradingStrategy strategy, BigDecimal dailyLossRate) {
+        return dailyLossRate.compareTo(strategy.getMaxDailyLoss().negate()) <= 0;
+    }
+
+    private static int positiveOrDefault(int value, int defaultValue) {
+        return value > 0 ? value : defaultValue;
+    }
+
+    private static double decimalOrDefault(BigDecimal value, double defaultValue) {
+        return value != null ? value.doubleValue() : defaultValue;
+    }
+
+    /**
+     * 전략별 지표 상태 (일자별 기록을 시간순으로 한 번씩만 반영)
+     */
+    static final class SignalState {
+        private final PipelineSpec spec;
+        private final StrategyPipeline pipeline;
+        private final IndicatorGraph graph;
+        private final PipelineContext context = new PipelineContext();
+        private LocalDateTime lastAppliedTime;
+
+        SignalState(PipelineSpec spec, StrategyPipeline pipeline) {
+            this.spec = spec;
+            this.pipeline = pipeline;
+            this.graph = pipeline.newGraph();
+        }
+
+        /**
+         * 최신순 기록 목록에서 아직 반영하지 않은 기록만 오래된 순서로 반영
+         */
+        synchronized void syncNewestFirst(List<PriceQueryRecord> newestFirst) {
+            int pending = 0;
+            while (pending < newestFirst.size() && isNewer(newestFirst.get(pending))) {
+                pending++;
+            }
+            for (int i = pending - 1; i >= 0; i--) {
+                append(newestFirst.get(i));
+            }
+        }
+
+        /**
+         * 시간순 기록 하나 반영 (이미 반영한 시각 이전 기록은 무시)
+         */
+        synchronized void append(PriceQueryRecord record) {
+            if (!isNewer(record) || record.getCurrentPrice() == null) {
+                return;
+            }
+            double close = record.getCurrentPrice();
+            graph.update(close,
+                    record.getHighPrice() != null ? record.getHighPrice() : close,
+                    record.getLowPrice() != null ? record.getLowPrice() : close);
+            lastAppliedTime = record.getQueryDateTime();
+        }
+
+        int getBarCount() {
+            return graph.getBarCount();
+        }
+
+        private boolean isNewer(PriceQueryRecord record) {
+            return record.getQueryDateTime() != null
+                    && (lastAppliedTime == null || record.getQueryDateTime().isAfter(lastAppliedTime));
+        }
+    }
+}
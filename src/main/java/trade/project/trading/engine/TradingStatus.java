@@ -0,0 +1,80 @@
+package trade.project.trading.engine;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 전략별 거래 상태 (실시간 엔진/리플레이 엔진 공용)
+ * 전략마다 조회 스레드 하나만 갱신하고 리포트 스레드가 읽으므로 가시성만 보장한다.
+ * 주문 한도/노출 판단은 PreTradeRiskEngine의 원자적 원장을 기준으로 한다.
+ */
+class TradingStatus {
+    volatile BigDecimal currentPosition = BigDecimal.ZERO; // 현재 보유 수량
+    volatile BigDecimal averagePrice = BigDecimal.ZERO; // 평균 매수가
+    volatile BigDecimal dailyPnL = BigDecimal.ZERO; // 일일 손익
+    volatile int dailyTradeCount = 0; // 일일 거래 횟수
+    volatile LocalDateTime lastTradeTime; // 마지막 거래 시간
+    volatile BigDecimal lastPrice; // 마지막 가격
+    volatile LocalDateTime lastUpdateTime; // 마지막 업데이트 시간
+    volatile LocalDate tradingDay; // 일일 손익/거래 횟수 기준 거래일
+
+    /**
+     * 거래일이 바뀌면 일일 손익/거래 횟수 초기화 (보유 수량/평균가는 유지)
+     */
+    void rollover(LocalDate day) {
+        if (day.equals(tradingDay)) return;
+        if (tradingDay != null) {
+            dailyPnL = BigDecimal.ZERO;
+            dailyTradeCount = 0;
+        }
+        tradingDay = day;
+    }
+
+    /**
+     * 시세 반영
+     */
+    void updatePrice(BigDecimal price, LocalDateTime time) {
+        this.lastPrice = price;
+        this.lastUpdateTime = time;
+    }
+
+    /**
+     * 매수 체결 반영
+     */
+    void applyBuyFill(int quantity, BigDecimal price, LocalDateTime time) {
+        BigDecimal qty = new BigDecimal(quantity);
+        BigDecimal totalValue = averagePrice.multiply(currentPosition).add(price.multiply(qty));
+        currentPosition = currentPosition.add(qty);
+        averagePrice = totalValue.divide(currentPosition, 2, BigDecimal.ROUND_HALF_UP);
+        dailyTradeCount++;
+        lastTradeTime = time;
+    }
+
+    /**
+     * 전량 매도 체결 반영 후 실현 손익 반환
+     */
+    BigDecimal applySellFill(BigDecimal price, LocalDateTime time) {
+        return sell(currentPosition, price, time);
+    }
+
+    /**
+     * 매도 체결 반영 후 실현 손익 반환 (보유 수량까지만, 전량 매도 시 평균가 초기화)
+     */
+    BigDecimal applySellFill(int quantity, BigDecimal price, LocalDateTime time) {
+        return sell(new BigDecimal(quantity), price, time);
+    }
+
+    private BigDecimal sell(BigDecimal quantity, BigDecimal price, LocalDateTime time) {
+        BigDecimal qty = quantity.min(currentPosition);
+        BigDecimal profit = price.subtract(averagePrice).multiply(qty);
+        dailyPnL = dailyPnL.add(profit);
+        currentPosition = currentPosition.subtract(qty);
+        if (currentPosition.signum() == 0) {
+            averagePrice = BigDecimal.ZERO;
+        }
+        dailyTradeCount++;
+        lastTradeTime = time;
+        return profit;
+    }
+}
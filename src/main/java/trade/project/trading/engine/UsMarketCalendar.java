@@ -0,0 +1,166 @@
+package trade.project.trading.engine;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 미국 주식 정규장 캘린더 (NASDAQ/NYSE 공통)
+ * - 정규장 09:30~16:00 (뉴욕 시간), 서머타임은 America/New_York 시간대로 처리 (한국 시간 22:30 또는 23:30 개장)
+ * - 휴장일: 신정, 마틴 루터 킹 데이, 대통령의 날, 성금요일, 메모리얼 데이, 준틴스, 독립기념일, 노동절, 추수감사절, 성탄절
+ *   (토요일 휴일은 전날 금요일, 일요일 휴일은 다음 월요일 대체 휴장. 단, 토요일 신정은 대체 휴장 없음)
+ * - 조기 폐장 13:00: 독립기념일 전날(7/3), 추수감사절 다음 날, 성탄 전야(12/24) 중 평일
+ */
+public final class UsMarketCalendar {
+
+    public static final ZoneId ZONE = ZoneId.of("America/New_York");
+    public static final LocalTime OPEN_TIME = LocalTime.of(9, 30);
+    public static final LocalTime CLOSE_TIME = LocalTime.of(16, 0);
+    public static final LocalTime EARLY_CLOSE_TIME = LocalTime.of(13, 0);
+
+    private static final int MAX_SEARCH_DAYS = 14; // 연휴가 길어도 2주 안에는 개장일이 있음
+
+    private UsMarketCalendar() {
+    }
+
+    /**
+     * 정규장 개장일 여부 (뉴욕 날짜 기준)
+     */
+    public static boolean isTradingDay(LocalDate date) {
+        DayOfWeek day = date.getDayOfWeek();
+        return day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY && !isHoliday(date);
+    }
+
+    /**
+     * 휴장일 여부 (대체 휴장 포함, 주말 제외)
+     */
+    public static boolean isHoliday(LocalDate date) {
+        int year = date.getYear();
+        // 신정: 토요일이면 대체일(전년도 12/31)이 다른 해라 자연히 휴장하지 않음
+        return date.equals(observed(LocalDate.of(year, Month.JANUARY, 1)))
+                || date.equals(nthWeekday(year, Month.JANUARY, DayOfWeek.MONDAY, 3))      // 마틴 루터 킹 데이
+                || date.equals(nthWeekday(year, Month.FEBRUARY, DayOfWeek.MONDAY, 3)) // 대통령의 날
+                || date.equals(easterSunday(year).minusDays(2))                         // 성금요일
+                || date.equals(LocalDate.of(year, Month.MAY, 31).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))) // 메모리얼 데이
+                || (year >= 2022 && date.equals(observed(LocalDate.of(year, Month.JUNE, 19)))) // 준틴스
+                || date.equals(observed(LocalDate.of(year, Month.JULY, 4)))              // 독립기념일
+                || date.equals(nthWeekday(year, Month.SEPTEMBER, DayOfWeek.MONDAY, 1))  // 노동절
+                || date.equals(thanksgiving(year))                                       // 추수감사절
+                || date.equals(observed(LocalDate.of(year, Month.DECEMBER, 25)));        // 성탄절
+    }
+
+    /**
+     * 해당 개장일의 정규장 마감 시각 (조기 폐장 반영)
+     */
+    public static LocalTime closeTime(LocalDate date) {
+        boolean earlyClose = date.equals(LocalDate.of(date.getYear(), Month.JULY, 3))
+                || date.equals(thanksgiving(date.getYear()).plusDays(1))
+                || date.equals(LocalDate.of(date.getYear(), Month.DECEMBER, 24));
+        return earlyClose ? EARLY_CLOSE_TIME : CLOSE_TIME;
+    }
+
+    /**
+     * 주어진 시각에 정규장이 열려 있는지 여부
+     */
+    public static boolean isOpen(Instant instant) {
+        ZonedDateTime now = instant.atZone(ZONE);
+        LocalDate date = now.toLocalDate();
+        if (!isTradingDay(date)) {
+            return false;
+        }
+        LocalTime time = now.toLocalTime();
+        return !time.isBefore(OPEN_TIME) && time.isBefore(closeTime(date));
+    }
+
+    /**
+     * 다음 정규장 개장 시각 (장중이면 주어진 시각 그대로)
+     */
+    public static Instant nextOpen(Instant instant) {
+        if (isOpen(instant)) {
+            return instant;
+        }
+        ZonedDateTime now = instant.atZone(ZONE);
+        LocalDate date = now.toLocalDate();
+        if (!isTradingDay(date) || !now.toLocalTime().isBefore(OPEN_TIME)) {
+            date = date.plusDays(1);
+        }
+        for (int i = 0; i < MAX_SEARCH_DAYS && !isTradingDay(date); i++) {
+            date = date.plusDays(1);
+        }
+        return ZonedDateTime.of(date, OPEN_TIME, ZONE).toInstant();
+    }
+
+    /**
+     * 다음 개장까지 남은 시간 (밀리초, 장중이면 0)
+     */
+    public static long millisUntilOpen(Instant instant) {
+        return Duration.between(instant, nextOpen(instant)).toMillis();
+    }
+
+    /**
+     * 현재 세션 정보 (API 응답용)
+     */
+    public static Map<String, Object> status(Instant instant) {
+        ZonedDateTime now = instant.atZone(ZONE);
+        Map<String, Object> status = new HashMap<>();
+        boolean open = isOpen(instant);
+        status.put("open", open);
+        status.put("newYorkTime", now.toLocalDateTime());
+        status.put("tradingDay", isTradingDay(now.toLocalDate()));
+        if (open) {
+            status.put("closesAt", ZonedDateTime.of(now.toLocalDate(), closeTime(now.toLocalDate()), ZONE).toInstant());
+        } else {
+            status.put("nextOpen", nextOpen(instant));
+            status.put("millisUntilOpen", millisUntilOpen(instant));
+        }
+        return status;
+    }
+
+    /**
+     * 주말 휴일 대체 (토요일 → 금요일, 일요일 → 월요일)
+     */
+    private static LocalDate observed(LocalDate holiday) {
+        return switch (holiday.getDayOfWeek()) {
+            case SATURDAY -> holiday.minusDays(1);
+            case SUNDAY -> holiday.plusDays(1);
+            default -> holiday;
+        };
+    }
+
+    private static LocalDate thanksgiving(int year) {
+        return nthWeekday(year, Month.NOVEMBER, DayOfWeek.THURSDAY, 4);
+    }
+
+    private static LocalDate nthWeekday(int year, Month month, DayOfWeek dayOfWeek, int nth) {
+        return LocalDate.of(year, month, 1).with(TemporalAdjusters.dayOfWeekInMonth(nth, dayOfWeek));
+    }
+
+    /**
+     * 부활절 (그레고리력, Anonymous Gregorian algorithm)
+     */
+    static LocalDate easterSunday(int year) {
+        int a = year % 19;
+        int b = year / 100;
+        int c = year % 100;
+        int d = b / 4;
+        int e = b % 4;
+        int f = (b + 8) / 25;
+        int g = (b - f + 1) / 3;
+        int h = (19 * a + b - d - g + 15) % 30;
+        int i = c / 4;
+        int k = c % 4;
+        int l = (32 + 2 * e + 2 * i - h - k) % 7;
+        int m = (a + 11 * h + 22 * l) / 451;
+        int month = (h + l - 7 * m + 114) / 31;
+        int day = ((h + l - 7 * m + 114) % 31) + 1;
+        return LocalDate.of(year, month, day);
+    }
+}
@@ -0,0 +1,50 @@
+package trade.project.trading.engine;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 리플레이용 가상 시계
+ * 기록된 시세 시각으로 직접 이동하며, 실제 시간 대기 없이 진행된다.
+ */
+class VirtualClock extends Clock {
+
+    private final ZoneId zone;
+    private Instant instant;
+
+    VirtualClock(LocalDateTime start, ZoneId zone) {
+        this.zone = zone;
+        this.instant = start.atZone(zone).toInstant();
+    }
+
+    /**
+     * 지정 시각으로 이동 (과거로는 이동하지 않음)
+     */
+    void advanceTo(LocalDateTime time) {
+        Instant target = time.atZone(zone).toInstant();
+        if (target.isAfter(instant)) {
+            instant = target;
+        }
+    }
+
+    LocalDateTime now() {
+        return LocalDateTime.ofInstant(instant, zone);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return new VirtualClock(LocalDateTime.ofInstant(instant, zone), zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
@@ -38,8 +39,17 @@ public class TradingRecord {
     @Column(name = "quantity", nullable = false)
     private Integer quantity; // 주문수량
     
-    @Column(name = "price", nullable = false)
-    private Integer price; // 주문가격
+    @Column(name = "price")
+    private Integer price; // 주문가격 (원화 환산, 해외 주문 환율 조회 실패 시 null)
+    
+    @Column(name = "unit_price", precision = 19, scale = 4)
+    private BigDecimal unitPrice; // 주문가격 (주문 통화 기준, 소수점 그대로)
+    
+    @Column(name = "currency", length = 3)
+    private String currency; // 주문 통화 (KRW/USD)
+    
+    @Column(name = "exchange_rate", precision = 19, scale = 4)
+    private BigDecimal exchangeRate; // 원화 환산 환율 (해외 주문, 주문 시점)
     
     @Column(name = "price_type", length = 10)
     private String priceType; // 주문유형 (지정가/시장가)
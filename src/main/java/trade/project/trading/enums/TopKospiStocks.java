@@ -3,6 +3,12 @@ package trade.project.trading.enums;
 import lombok.Getter;
 import lombok.AllArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * KOSPI 상위 20개 종목 Enum
  * 시가총액 기준 상위 종목들 (2024년 기준)
@@ -39,37 +45,41 @@ public enum TopKospiStocks {
     private final String stockName;
     private final String sector;
     
+    // 코드/종목명/섹터 조회용 인덱스 (클래스 로딩 시 한 번 생성)
+    private static final Map<String, TopKospiStocks> BY_CODE = new HashMap<>();
+    private static final Map<String, TopKospiStocks> BY_NAME = new HashMap<>();
+    private static final Map<String, TopKospiStocks[]> BY_SECTOR = new HashMap<>();
+    
+    static {
+        Map<String, List<TopKospiStocks>> sectors = new LinkedHashMap<>();
+        for (TopKospiStocks stock : values()) {
+            BY_CODE.put(stock.getStockCode(), stock);
+            BY_NAME.put(stock.getStockName(), stock);
+            sectors.computeIfAbsent(stock.getSector(), k -> new ArrayList<>()).add(stock);
+        }
+        sectors.forEach((sector, stocks) -> BY_SECTOR.put(sector, stocks.toArray(new TopKospiStocks[0])));
+    }
+    
     /**
      * 종목코드로 Enum 찾기
      */
     public static TopKospiStocks findByStockCode(String stockCode) {
-        for (TopKospiStocks stock : values()) {
-            if (stock.getStockCode().equals(stockCode)) {
-                return stock;
-            }
-        }
-        return null;
+        return stockCode != null ? BY_CODE.get(stockCode) : null;
     }
     
     /**
      * 종목명으로 Enum 찾기
      */
     public static TopKospiStocks findByStockName(String stockName) {
-        for (TopKospiStocks stock : values()) {
-            if (stock.getStockName().equals(stockName)) {
-                return stock;
-            }
-        }
-        return null;
+        return stockName != null ? BY_NAME.get(stockName) : null;
     }
     
     /**
-     * 섹터별 종목 목록 조회
+     * 섹터별 종목 목록 조회 (호출자가 수정해도 인덱스에 영향이 없도록 복사본 반환)
      */
     public static TopKospiStocks[] findBySector(String sector) {
-        return java.util.Arrays.stream(values())
-                .filter(stock -> stock.getSector().equals(sector))
-                .toArray(TopKospiStocks[]::new);
+        TopKospiStocks[] stocks = sector != null ? BY_SECTOR.get(sector) : null;
+        return stocks != null ? stocks.clone() : new TopKospiStocks[0];
     }
     
     /**
@@ -2,6 +2,12 @@ package trade.project.trading.enums;
 
 import lombok.Getter;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 나스닥 상위 20개 종목 Enum
  * 시가총액 기준 상위 종목들
@@ -55,25 +61,36 @@ public enum TopNasdaqStocks {
         this.description = description;
     }
     
+    // 코드/섹터 조회용 인덱스 (클래스 로딩 시 한 번 생성)
+    private static final Map<String, TopNasdaqStocks> BY_CODE = new HashMap<>();
+    private static final Map<String, TopNasdaqStocks[]> BY_SECTOR = new HashMap<>();
+    
+    static {
+        Map<String, List<TopNasdaqStocks>> sectors = new LinkedHashMap<>();
+        for (TopNasdaqStocks stock : values()) {
+            BY_CODE.put(stock.getStockCode(), stock);
+            sectors.computeIfAbsent(stock.getSector(), k -> new ArrayList<>()).add(stock);
+        }
+        sectors.forEach((sector, stocks) -> BY_SECTOR.put(sector, stocks.toArray(new TopNasdaqStocks[0])));
+    }
+    
     /**
      * 종목코드로 Enum 찾기
      */
     public static TopNasdaqStocks fromStockCode(String stockCode) {
-        for (TopNasdaqStocks stock : values()) {
-            if (stock.getStockCode().equals(stockCode)) {
-                return stock;
-            }
+        TopNasdaqStocks stock = stockCode != null ? BY_CODE.get(stockCode) : null;
+        if (stock == null) {
+            throw new IllegalArgumentException("Unknown stock code: " + stockCode);
         }
-        throw new IllegalArgumentException("Unknown stock code: " + stockCode);
+        return stock;
     }
     
     /**
-     * 섹터별 종목 목록 조회
+     * 섹터별 종목 목록 조회 (호출자가 수정해도 인덱스에 영향이 없도록 복사본 반환)
      */
     public static TopNasdaqStocks[] getBySector(String sector) {
-        return java.util.Arrays.stream(values())
-                .filter(stock -> stock.getSector().equals(sector))
-                .toArray(TopNasdaqStocks[]::new);
+        TopNasdaqStocks[] stocks = sector != null ? BY_SECTOR.get(sector) : null;
+        return stocks != null ? stocks.clone() : new TopNasdaqStocks[0];
     }
     
     /**
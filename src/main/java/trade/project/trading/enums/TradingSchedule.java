@@ -55,15 +55,24 @@ public enum TradingSchedule {
     private final String description;
     private final int intervalSeconds; // 시세 조회 주기 (초)
     private final boolean highFrequency; // 고빈도 모니터링 여부
-    
+
+    private static final int BASE_INTERVAL_SECONDS = 60; // 조정 기준 주기 (오전 거래)
+    private static final int MIN_INTERVAL_SECONDS = 5; // 최소 조회 주기 (API 호출 제한 보호)
+    private static final int QUOTE_TTL_DIVISOR = 20; // 조회 주기 대비 현재가 캐시 유지 비율
+
     /**
      * 현재 시간에 해당하는 스케줄 조회
      */
     public static TradingSchedule getCurrentSchedule() {
-        LocalTime now = LocalTime.now();
-        
+        return scheduleAt(LocalTime.now());
+    }
+
+    /**
+     * 주어진 시간에 해당하는 스케줄 조회
+     */
+    public static TradingSchedule scheduleAt(LocalTime time) {
         for (TradingSchedule schedule : values()) {
-            if (schedule.isInTimeRange(now)) {
+            if (schedule.isInTimeRange(time)) {
                 return schedule;
             }
         }
@@ -115,7 +124,31 @@ public enum TradingSchedule {
     public long getIntervalMillis() {
         return intervalSeconds * 1000L;
     }
+
+    /**
+     * 현재가 캐시 유지 시간 (밀리초)
+     * 조회 주기의 1/20: 장 시작 직후/마감 직전 0.5초, 오전 거래 3초, 긴급 모니터링 9초
+     */
+    public long getQuoteTtlMillis() {
+        return intervalSeconds * 1000L / QUOTE_TTL_DIVISOR;
+    }
     
+    /**
+     * 전략 기본 조회 주기를 현재 시간대에 맞게 조정 (초)
+     * 오전 거래(60초)를 기준으로 비례 조정: 60초 전략은 장 시작 직후 10초, 점심시간 90초
+     * 고빈도 거래를 허용하지 않는 전략은 기본 주기보다 짧아지지 않음
+     */
+    public int adjustInterval(int baseIntervalSeconds, boolean allowHighFrequency) {
+        if (baseIntervalSeconds <= 0) {
+            return intervalSeconds;
+        }
+        long adjusted = (long) baseIntervalSeconds * intervalSeconds / BASE_INTERVAL_SECONDS;
+        if (!allowHighFrequency) {
+            adjusted = Math.max(adjusted, baseIntervalSeconds);
+        }
+        return (int) Math.max(MIN_INTERVAL_SECONDS, adjusted);
+    }
+
     /**
      * 다음 스케줄까지 대기 시간 (밀리초) 계산
      */
@@ -0,0 +1,210 @@
+package trade.project.trading.order;
+
+import lombok.extern.slf4j.Slf4j;
+import trade.project.api.dto.StockOrderRequest;
+import trade.project.trading.dto.ManagedOrderStatus;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+
+/**
+ * 관리 주문 (클라이언트 주문 ID 하나당 한 건)
+ * 상태 전이와 알림은 주문 단위로 직렬화되며, 누적 체결 수량이 늘어난 만큼만 onFill로 알린다.
+ */
+@Slf4j
+public class ManagedOrder {
+
+    private final String clientOrderId;
+    private final String strategyId;
+    private final StockOrderRequest request;
+    private final OrderListener listener;
+    private final LocalDateTime submittedAt;
+
+    private OrderState state = OrderState.NEW;
+    private String orderNumber;
+    private int filledQuantity;
+    private BigDecimal averageFillPrice;
+    private String errorCode;
+    private String errorMessage;
+    private LocalDateTime updatedAt;
+
+    ManagedOrder(String clientOrderId, String strategyId, StockOrderRequest request, OrderListener listener, LocalDateTime submittedAt) {
+        this.clientOrderId = clientOrderId;
+        this.strategyId = strategyId;
+        this.request = request;
+        this.listener = listener;
+        this.submittedAt = submittedAt;
+        this.updatedAt = submittedAt;
+    }
+
+    public String getClientOrderId() {
+        return clientOrderId;
+    }
+
+    public String getStrategyId() {
+        return strategyId;
+    }
+
+    public String getAccountNumber() {
+        return request.getAccountNumber();
+    }
+
+    public int getQuantity() {
+        return request.getQuantity() != null ? request.getQuantity() : 0;
+    }
+
+    public synchronized OrderState getState() {
+        return state;
+    }
+
+    public synchronized String getOrderNumber() {
+        return orderNumber;
+    }
+
+    public synchronized int getFilledQuantity() {
+        return filledQuantity;
+    }
+
+    StockOrderRequest getRequest() {
+        return request;
+    }
+
+    LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public synchronized ManagedOrderStatus toStatus() {
+        return ManagedOrderStatus.builder()
+                .clientOrderId(clientOrderId)
+                .strategyId(strategyId)
+                .accountNumber(request.getAccountNumber())
+                .stockCode(request.getStockCode())
+                .orderType(request.getOrderType())
+                .quantity(request.getQuantity())
+                .price(request.getPrice())
+                .state(state.name())
+                .orderNumber(orderNumber)
+                .filledQuantity(filledQuantity)
+                .averageFillPrice(averageFillPrice)
+                .errorCode(errorCode)
+                .errorMessage(errorMessage)
+                .submittedAt(submittedAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    /**
+     * 증권사 접수 (전송 결과 미확인 주문을 주문 내역에서 찾은 경우 포함)
+     */
+    synchronized void accept(String orderNumber, LocalDateTime at) {
+        if (state != OrderState.NEW && state != OrderState.UNKNOWN) {
+            return;
+        }
+        this.orderNumber = orderNumber;
+        this.state = OrderState.ACCEPTED;
+        this.updatedAt = at;
+    }
+
+    /**
+     * 전송 결과 미확인 (증권사에 접수되었을 수 있으므로 종료하지 않고 리스크 예약도 유지)
+     */
+    synchronized void markUnknown(String errorCode, String errorMessage, LocalDateTime at) {
+        if (state != OrderState.NEW) {
+            return;
+        }
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+        this.state = OrderState.UNKNOWN;
+        this.updatedAt = at;
+    }
+
+    /**
+     * 접수 실패/거부로 종료
+     */
+    synchronized void reject(String errorCode, String errorMessage, LocalDateTime at) {
+        if (state.isTerminal()) {
+            return;
+        }
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+        close(OrderState.REJECTED, at);
+    }
+
+    /**
+     * 장 종료로 미체결 잔량 소멸 (당일 주문, 끝내 주문 내역에서 찾지 못한 미확인 주문 포함)
+     * @return 진행 중이던 주문을 종료했으면 true
+     */
+    synchronized boolean expire(LocalDateTime at) {
+        if (!state.isWorking() && state != OrderState.UNKNOWN) {
+            return false;
+        }
+        close(OrderState.EXPIRED, at);
+        return true;
+    }
+
+    /**
+     * 체결 현황 반영 (누적 체결 수량이 줄어드는 응답은 무시)
+     * @return 상태가 바뀌었으면 true
+     */
+    synchronized boolean apply(OrderFillStatus status, LocalDateTime at) {
+        if (!state.isWorking()) {
+            return false;
+        }
+        boolean changed = false;
+        int quantity = getQuantity();
+        int filled = Math.min(status.filledQuantity(), quantity);
+        if (filled > filledQuantity) {
+            int delta = filled - filledQuantity;
+            BigDecimal fillPrice = fillPrice(status.averagePrice(), filled, delta);
+            averageFillPrice = status.averagePrice() != null && status.averagePrice().signum() > 0
+                    ? status.averagePrice()
+                    : fillPrice;
+            filledQuantity = filled;
+            state = filled == quantity ? OrderState.FILLED : OrderState.PARTIALLY_FILLED;
+            updatedAt = at;
+            changed = true;
+            try {
+                listener.onFill(this, delta, fillPrice);
+            } catch (Exception e) {
+                log.error("주문 체결 알림 처리 실패: {} - {}", clientOrderId, e.getMessage());
+            }
+        }
+        if (state == OrderState.FILLED) {
+            close(OrderState.FILLED, at);
+        } else if (status.rejected()) {
+            errorCode = "BROKER_REJECTED";
+            close(OrderState.REJECTED, at);
+            changed = true;
+        } else if (status.cancelled()) {
+            close(OrderState.CANCELLED, at);
+            changed = true;
+        }
+        return changed;
+    }
+
+    /**
+     * 이번 체결분 평균가 (누적 평균가 차이로 계산, 평균가가 없으면 주문 가격)
+     */
+    private BigDecimal fillPrice(BigDecimal newAverage, int filled, int delta) {
+        if (newAverage == null || newAverage.signum() <= 0) {
+            return request.getPrice() != null ? new BigDecimal(request.getPrice()) : BigDecimal.ZERO;
+        }
+        if (filledQuantity == 0 || averageFillPrice == null) {
+            return newAverage;
+        }
+        BigDecimal newTotal = newAverage.multiply(BigDecimal.valueOf(filled));
+        BigDecimal oldTotal = averageFillPrice.multiply(BigDecimal.valueOf(filledQuantity));
+        return newTotal.subtract(oldTotal).divide(BigDecimal.valueOf(delta), 4, RoundingMode.HALF_UP);
+    }
+
+    private void close(OrderState terminal, LocalDateTime at) {
+        state = terminal;
+        updatedAt = at;
+        try {
+            listener.onClosed(this);
+        } catch (Exception e) {
+            log.error("주문 종료 알림 처리 실패: {} - {}", clientOrderId, e.getMessage());
+        }
+    }
+}
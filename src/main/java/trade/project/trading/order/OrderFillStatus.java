@@ -0,0 +1,13 @@
+package trade.project.trading.order;
+
+import java.math.BigDecimal;
+
+/**
+ * 증권사 기준 주문 체결 현황 (누적 값)
+ * @param filledQuantity 누적 체결 수량
+ * @param averagePrice 체결 평균가 (없으면 null)
+ * @param rejected 증권사 거부 여부
+ * @param cancelled 미체결 잔량 취소 여부
+ */
+public record OrderFillStatus(int filledQuantity, BigDecimal averagePrice, boolean rejected, boolean cancelled) {
+}
@@ -0,0 +1,36 @@
+package trade.project.trading.order;
+
+import trade.project.api.dto.StockOrderRequest;
+import trade.project.api.dto.StockOrderResponse;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 주문 전송/체결 조회 경로
+ */
+public interface OrderGateway {
+
+    /**
+     * 주문 전송 (orderNumber가 있으면 접수, errorCode가 있으면 거부)
+     */
+    StockOrderResponse submit(StockOrderRequest request);
+
+    /**
+     * 계좌의 진행 중 주문 체결 현황을 한 번에 조회
+     * @param accountNumber 계좌번호
+     * @param orderNumbers 조회할 증권사 주문번호
+     * @return 주문번호별 체결 현황 (응답에 없는 주문은 변화 없음으로 간주)
+     */
+    Map<String, OrderFillStatus> fetchStatuses(String accountNumber, Collection<String> orderNumbers);
+
+    /**
+     * 전송 결과를 알 수 없는 주문을 계좌의 당일 주문 내역에서 찾기
+     * 종목/매수·매도/수량이 같고 전송 시각 이후 접수된 주문 중 가장 먼저 접수된 주문
+     * @param submittedAt 주문 전송 시각
+     * @param excludedOrderNumbers 이미 다른 관리 주문에 연결된 주문번호
+     * @return 주문번호 (찾지 못하면 null)
+     */
+    String findOrderNumber(StockOrderRequest request, LocalDateTime submittedAt, Collection<String> excludedOrderNumbers);
+}
@@ -0,0 +1,27 @@
+package trade.project.trading.order;
+
+import java.math.BigDecimal;
+
+/**
+ * 관리 주문 체결/종료 알림 (체결 조회 스레드에서 호출되므로 짧게 처리)
+ */
+public interface OrderListener {
+
+    OrderListener NONE = new OrderListener() {
+    };
+
+    /**
+     * 새로 체결된 수량 반영
+     * @param order 주문
+     * @param quantity 이번에 새로 체결된 수량
+     * @param price 이번 체결분 평균가
+     */
+    default void onFill(ManagedOrder order, int quantity, BigDecimal price) {
+    }
+
+    /**
+     * 주문 종료 (전량 체결/거부/취소, 한 번만 호출)
+     */
+    default void onClosed(ManagedOrder order) {
+    }
+}
@@ -0,0 +1,314 @@
+package trade.project.trading.order;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import trade.project.api.dto.StockOrderRequest;
+import trade.project.api.dto.StockOrderResponse;
+import trade.project.api.service.StockOrderService;
+import trade.project.trading.dto.ManagedOrderStatus;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 관리 파이프라인
+ * - 주문마다 클라이언트 주문 ID를 붙이고, 같은 ID로 다시 제출하면 기존 주문을 돌려준다. (재시도 시 중복 주문 방지)
+ * - 증권사 전송은 전용 스레드 한 개가 큐 순서대로 처리하므로 호출한 쪽(전략 루프)은 증권사 응답을 기다리지 않는다.
+ * - 접수된 주문은 계좌별로 묶어 주기적으로 체결을 조회하고, 체결 수량이 늘어난 만큼 OrderListener로 알린다.
+ * - 주문은 당일 주문이므로 날짜가 바뀐 뒤에도 진행 중인 주문은 EXPIRED로 종료한다. (당일 체결 조회에 더 이상 나오지 않음)
+ * 전송 결과를 알 수 없는 주문(시간 초과, 주문번호 없는 응답)은 다시 보내지 않고 UNKNOWN으로 둔다.
+ * 리스크 예약과 전략의 진행 중 주문은 그대로 유지한 채 체결 조회 때마다 당일 주문 내역에서 같은 주문을 찾아
+ * 찾으면 접수로 이어 추적하고, 찾지 못한 채 날짜가 바뀌면 만료한다.
+ */
+@Slf4j
+@Component
+public class OrderManager {
+
+    public static final String MANUAL_STRATEGY = "MANUAL";
+    static final int MAX_PENDING_SUBMISSIONS = 100;
+    static final long POLL_INTERVAL_MILLIS = 2_000;
+    static final int MAX_CLOSED_ORDERS = 500; // 종료 주문 보관 건수 (중복 제출 판단 범위)
+    private static final ZoneId DOMESTIC_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final OrderGateway gateway;
+    private final Executor submitter;
+    private final ScheduledExecutorService poller;
+    private final Clock clock;
+
+    private final Map<String, ManagedOrder> orders = new ConcurrentHashMap<>();
+    private final Queue<String> closedOrderIds = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder unknown = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder fillUpdates = new LongAdder();
+    private final LongAdder polls = new LongAdder();
+    private final LongAdder pollFailures = new LongAdder();
+
+    @Autowired
+    public OrderManager(StockOrderService stockOrderService) {
+        this(new StockOrderGateway(stockOrderService),
+                new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(MAX_PENDING_SUBMISSIONS), daemon("order-submit")),
+                Executors.newSingleThreadScheduledExecutor(daemon("order-poll")),
+                Clock.system(DOMESTIC_ZONE));
+    }
+
+    /**
+     * @param poller null이면 자동 체결 조회를 하지 않음 (pollOnce 직접 호출)
+     */
+    OrderManager(OrderGateway gateway, Executor submitter, ScheduledExecutorService poller, Clock clock) {
+        this.gateway = gateway;
+        this.submitter = submitter;
+        this.poller = poller;
+        this.clock = clock;
+        if (poller != null) {
+            poller.scheduleWithFixedDelay(this::pollOnce, POLL_INTERVAL_MILLIS, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+        if (submitter instanceof ExecutorService executor) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 주문 제출 (즉시 반환, 전송은 비동기)
+     * @param strategyId 주문한 전략 ID
+     * @param request 주문 (clientOrderId가 없으면 새로 발급)
+     * @param listener 체결/종료 알림
+     * @return 관리 주문 (같은 clientOrderId가 이미 있으면 기존 주문)
+     */
+    public ManagedOrder submit(String strategyId, StockOrderRequest request, OrderListener listener) {
+        String clientOrderId = request.getClientOrderId();
+        if (clientOrderId == null || clientOrderId.isBlank()) {
+            clientOrderId = strategyId + "-" + UUID.randomUUID();
+            request.setClientOrderId(clientOrderId);
+        }
+        ManagedOrder order = new ManagedOrder(clientOrderId, strategyId, request,
+                listener != null ? listener : OrderListener.NONE, LocalDateTime.now(clock));
+        ManagedOrder existing = orders.putIfAbsent(clientOrderId, order);
+        if (existing != null) {
+            duplicates.increment();
+            log.info("중복 주문 제출 무시: {} ({})", clientOrderId, existing.getState());
+            return existing;
+        }
+
+        submitted.increment();
+        try {
+            submitter.execute(() -> send(order));
+        } catch (RejectedExecutionException e) {
+            log.warn("주문 전송 대기열 초과: {}", clientOrderId);
+            rejected.increment();
+            order.reject("QUEUE_FULL", "주문 전송 대기열이 가득 찼습니다.", LocalDateTime.now(clock));
+            retire(order);
+        }
+        return order;
+    }
+
+    public ManagedOrder getOrder(String clientOrderId) {
+        return orders.get(clientOrderId);
+    }
+
+    /**
+     * 관리 중인 주문 현황 (최근 제출 순)
+     */
+    public List<ManagedOrderStatus> getOrders() {
+        return orders.values().stream()
+                .map(ManagedOrder::toStatus)
+                .sorted(Comparator.comparing(ManagedOrderStatus::getSubmittedAt).reversed())
+                .collect(Collectors.toList());
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("tracked", orders.size());
+        stats.put("working", orders.values().stream().filter(order -> !order.getState().isTerminal()).count());
+        stats.put("submitted", submitted.sum());
+        stats.put("duplicates", duplicates.sum());
+        stats.put("accepted", accepted.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("unknown", unknown.sum());
+        stats.put("recovered", recovered.sum());
+        stats.put("unconfirmed", orders.values().stream().filter(order -> order.getState() == OrderState.UNKNOWN).count());
+        stats.put("expired", expired.sum());
+        stats.put("fillUpdates", fillUpdates.sum());
+        stats.put("polls", polls.sum());
+        stats.put("pollFailures", pollFailures.sum());
+        return stats;
+    }
+
+    /**
+     * 접수된 주문 체결 조회 (계좌별 한 번씩)
+     * 전날 이전에 제출된 진행 중/미확인 주문은 조회하지 않고 만료 처리한다.
+     * 장 마감 후에도 조회는 계속되므로 마감 체결분은 날짜가 바뀌기 전에 이미 반영되어 있다.
+     */
+    void pollOnce() {
+        LocalDate today = LocalDate.now(clock);
+        Map<String, Map<String, ManagedOrder>> working = new HashMap<>();
+        List<ManagedOrder> unconfirmed = new ArrayList<>();
+        for (ManagedOrder order : orders.values()) {
+            OrderState state = order.getState();
+            String orderNumber = order.getOrderNumber();
+            if ((state.isWorking() || state == OrderState.UNKNOWN) && order.getSubmittedAt().toLocalDate().isBefore(today)) {
+                expire(order);
+            } else if (state == OrderState.UNKNOWN) {
+                unconfirmed.add(order);
+            } else if (state.isWorking() && orderNumber != null) {
+                working.computeIfAbsent(order.getAccountNumber(), account -> new HashMap<>()).put(orderNumber, order);
+            }
+        }
+        unconfirmed.sort(Comparator.comparing(ManagedOrder::getSubmittedAt));
+        for (ManagedOrder order : unconfirmed) {
+            if (recover(order)) {
+                working.computeIfAbsent(order.getAccountNumber(), account -> new HashMap<>()).put(order.getOrderNumber(), order);
+            }
+        }
+        working.forEach((accountNumber, byOrderNumber) -> {
+            try {
+                polls.increment();
+                Map<String, OrderFillStatus> statuses = gateway.fetchStatuses(accountNumber, new ArrayList<>(byOrderNumber.keySet()));
+                LocalDateTime now = LocalDateTime.now(clock);
+                statuses.forEach((orderNumber, status) -> {
+                    ManagedOrder order = byOrderNumber.get(orderNumber);
+                    if (order == null) {
+                        return;
+                    }
+                    if (order.apply(status, now)) {
+                        fillUpdates.increment();
+                    }
+                    if (order.getState().isTerminal()) {
+                        retire(order);
+                    }
+                });
+            } catch (Exception e) {
+                pollFailures.increment();
+                log.warn("주문 체결 조회 실패: {} - {}", accountNumber, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 증권사 전송 (전송 스레드)
+     */
+    private void send(ManagedOrder order) {
+        try {
+            StockOrderResponse response = gateway.submit(order.getRequest());
+            if (response != null && response.getErrorCode() != null) {
+                rejected.increment();
+                order.reject(response.getErrorCode(), response.getErrorMessage(), LocalDateTime.now(clock));
+                retire(order);
+                return;
+            }
+            if (response == null || response.getOrderNumber() == null) {
+                markUnknown(order, "NO_ORDER_NUMBER", response != null ? response.getMessage() : null);
+                return;
+            }
+            accepted.increment();
+            order.accept(response.getOrderNumber(), LocalDateTime.now(clock));
+            log.info("주문 접수: {} -> {}", order.getClientOrderId(), response.getOrderNumber());
+        } catch (Exception e) {
+            // 증권사 접수 여부를 알 수 없으므로 다시 보내지 않음 (체결 조회 때 증권사 주문 내역으로 확인)
+            log.error("주문 전송 실패: {} - {}", order.getClientOrderId(), e.getMessage());
+            markUnknown(order, "SUBMIT_FAILED", e.getMessage());
+        }
+    }
+
+    private void markUnknown(ManagedOrder order, String errorCode, String errorMessage) {
+        unknown.increment();
+        order.markUnknown(errorCode, errorMessage, LocalDateTime.now(clock));
+        log.warn("주문 전송 결과 미확인: {} ({}) - 주문 내역에서 확인할 때까지 진행 중으로 유지", order.getClientOrderId(), errorCode);
+    }
+
+    /**
+     * 전송 결과 미확인 주문을 당일 주문 내역에서 찾아 접수로 전환
+     * @return 주문번호를 찾았으면 true
+     */
+    private boolean recover(ManagedOrder order) {
+        try {
+            Set<String> linked = orders.values().stream()
+                    .map(ManagedOrder::getOrderNumber)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            String orderNumber = gateway.findOrderNumber(order.getRequest(), order.getSubmittedAt(), linked);
+            if (orderNumber == null) {
+                return false;
+            }
+            order.accept(orderNumber, LocalDateTime.now(clock));
+            recovered.increment();
+            log.info("미확인 주문 접수 확인: {} -> {}", order.getClientOrderId(), orderNumber);
+            return true;
+        } catch (Exception e) {
+            pollFailures.increment();
+            log.warn("미확인 주문 조회 실패: {} - {}", order.getClientOrderId(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 전일 주문 만료 (미체결 잔량은 OrderListener.onClosed로 알림, 주문 내역에서 찾지 못한 미확인 주문 포함)
+     */
+    private void expire(ManagedOrder order) {
+        if (order.expire(LocalDateTime.now(clock))) {
+            expired.increment();
+            log.info("전일 미체결 주문 만료: {} (체결 {}/{})", order.getClientOrderId(), order.getFilledQuantity(), order.getQuantity());
+            retire(order);
+        }
+    }
+
+    /**
+     * 종료 주문 보관 (오래된 종료 주문부터 정리)
+     */
+    private void retire(ManagedOrder order) {
+        closedOrderIds.add(order.getClientOrderId());
+        while (closedOrderIds.size() > MAX_CLOSED_ORDERS) {
+            String oldest = closedOrderIds.poll();
+            if (oldest != null) {
+                orders.remove(oldest);
+            }
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
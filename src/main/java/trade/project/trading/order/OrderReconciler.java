@@ -0,0 +1,204 @@
+package trade.project.trading.order;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import trade.project.api.service.StockOrderService;
+import trade.project.trading.entity.TradingRecord;
+import trade.project.trading.repository.TradingRecordRepository;
+
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 매매 기록 체결 대사
+ * - 오늘 주문 중 미체결(접수완료/부분체결) 매매 기록을 계좌별로 묶어 계좌당 한 번만 증권사 주문 내역을 조회한다.
+ * - 체결 수량/평균가/상태가 달라진 기록만 모아 saveAll 한 번으로 반영한다.
+ * 주문번호마다 상태를 조회하지 않으므로 미체결 주문이 많아도 호출 한도 사용량은 계좌 수만큼이다.
+ */
+@Slf4j
+@Component
+public class OrderReconciler {
+
+    static final long RECONCILE_INTERVAL_MILLIS = 30_000;
+    static final Set<String> OPEN_STATUSES = Set.of(StockOrderService.STATUS_ACCEPTED, StockOrderService.STATUS_PARTIALLY_FILLED);
+    private static final ZoneId DOMESTIC_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final OrderGateway gateway;
+    private final TradingRecordRepository tradingRecordRepository;
+    private final ScheduledExecutorService scheduler;
+    private final Clock clock;
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder accountQueries = new LongAdder();
+    private final LongAdder accountFailures = new LongAdder();
+    private final LongAdder recordsChecked = new LongAdder();
+    private final LongAdder recordsUpdated = new LongAdder();
+    private volatile LocalDateTime lastRunAt;
+
+    @Autowired
+    public OrderReconciler(StockOrderService stockOrderService, TradingRecordRepository tradingRecordRepository) {
+        this(new StockOrderGateway(stockOrderService), tradingRecordRepository,
+                Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "order-reconcile");
+                    thread.setDaemon(true);
+                    return thread;
+                }),
+                Clock.system(DOMESTIC_ZONE));
+    }
+
+    /**
+     * @param scheduler null이면 주기 대사를 하지 않음 (reconcile 직접 호출)
+     */
+    OrderReconciler(OrderGateway gateway, TradingRecordRepository tradingRecordRepository,
+                    ScheduledExecutorService scheduler, Clock clock) {
+        this.gateway = gateway;
+        this.tradingRecordRepository = tradingRecordRepository;
+        this.scheduler = scheduler;
+        this.clock = clock;
+        if (scheduler != null) {
+            scheduler.scheduleWithFixedDelay(this::reconcileQuietly, RECONCILE_INTERVAL_MILLIS, RECONCILE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 미체결 매매 기록 대사 (주기 실행과 수동 실행이 겹치지 않도록 직렬화)
+     * @return 이번 실행 결과 (조회 계좌 수, 점검/반영 기록 수, 실패 계좌)
+     */
+    public synchronized Map<String, Object> reconcile() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime from = LocalDate.now(clock).atStartOfDay();
+        List<TradingRecord> open = tradingRecordRepository
+                .findByOrderStatusInAndErrorCodeIsNullAndOrderDateTimeGreaterThanEqual(OPEN_STATUSES, from);
+
+        Map<String, Map<String, TradingRecord>> byAccount = new LinkedHashMap<>();
+        for (TradingRecord record : open) {
+            if (record.getOrderNumber() != null && record.getAccountNumber() != null) {
+                byAccount.computeIfAbsent(record.getAccountNumber(), account -> new HashMap<>())
+                        .put(record.getOrderNumber(), record);
+            }
+        }
+
+        List<TradingRecord> changed = new ArrayList<>();
+        List<String> failedAccounts = new ArrayList<>();
+        byAccount.forEach((accountNumber, byOrderNumber) -> {
+            try {
+                accountQueries.increment();
+                Map<String, OrderFillStatus> statuses = gateway.fetchStatuses(accountNumber, byOrderNumber.keySet());
+                statuses.forEach((orderNumber, status) -> {
+                    TradingRecord record = byOrderNumber.get(orderNumber);
+                    if (record != null && apply(record, status, now)) {
+                        changed.add(record);
+                    }
+                });
+            } catch (Exception e) {
+                accountFailures.increment();
+                failedAccounts.add(accountNumber);
+                log.warn("매매 기록 대사 실패: {} - {}", accountNumber, e.getMessage());
+            }
+        });
+
+        if (!changed.isEmpty()) {
+            tradingRecordRepository.saveAll(changed);
+            log.info("매매 기록 대사 반영: {}건 (미체결 {}건, 계좌 {}개)", changed.size(), open.size(), byAccount.size());
+        }
+
+        runs.increment();
+        recordsChecked.add(open.size());
+        recordsUpdated.add(changed.size());
+        lastRunAt = now;
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("accounts", byAccount.size());
+        result.put("checked", open.size());
+        result.put("updated", changed.size());
+        result.put("failedAccounts", failedAccounts);
+        return result;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("runs", runs.sum());
+        stats.put("accountQueries", accountQueries.sum());
+        stats.put("accountFailures", accountFailures.sum());
+        stats.put("recordsChecked", recordsChecked.sum());
+        stats.put("recordsUpdated", recordsUpdated.sum());
+        stats.put("lastRunAt", lastRunAt);
+        stats.put("intervalMillis", RECONCILE_INTERVAL_MILLIS);
+        return stats;
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("매매 기록 대사 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 증권사 체결 현황을 매매 기록에 반영 (누적 체결 수량이 줄어드는 응답은 무시)
+     * @return 기록이 바뀌었으면 true
+     */
+    private static boolean apply(TradingRecord record, OrderFillStatus status, LocalDateTime at) {
+        int quantity = record.getQuantity() != null ? record.getQuantity() : 0;
+        int previous = record.getExecutedQuantity() != null ? record.getExecutedQuantity() : 0;
+        int filled = Math.max(previous, Math.min(status.filledQuantity(), quantity));
+
+        String orderStatus;
+        if (status.rejected()) {
+            orderStatus = StockOrderService.STATUS_REJECTED;
+        } else if (status.cancelled()) {
+            orderStatus = StockOrderService.STATUS_CANCELLED;
+        } else if (quantity > 0 && filled >= quantity) {
+            orderStatus = StockOrderService.STATUS_FILLED;
+        } else if (filled > 0) {
+            orderStatus = StockOrderService.STATUS_PARTIALLY_FILLED;
+        } else {
+            orderStatus = StockOrderService.STATUS_ACCEPTED;
+        }
+        Integer executedPrice = record.getExecutedPrice();
+        if (filled > previous && status.averagePrice() != null && status.averagePrice().signum() > 0) {
+            executedPrice = status.averagePrice().setScale(0, RoundingMode.HALF_UP).intValue();
+        }
+
+        boolean changed = filled != previous
+                || !orderStatus.equals(record.getOrderStatus())
+                || !Objects.equals(executedPrice, record.getExecutedPrice());
+        if (!changed) {
+            return false;
+        }
+        if (filled > previous) {
+            record.setExecutionTime(at);
+            if (executedPrice != null) {
+                record.setTotalAmount((long) executedPrice * filled); // 체결 기준 거래금액
+            }
+        }
+        record.setExecutedQuantity(filled);
+        record.setExecutedPrice(executedPrice);
+        record.setOrderStatus(orderStatus);
+        return true;
+    }
+}
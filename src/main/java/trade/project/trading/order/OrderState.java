@@ -0,0 +1,32 @@
+package trade.project.trading.order;
+
+/**
+ * 관리 주문 상태
+ * NEW(전송 대기) -> ACCEPTED(증권사 접수) -> PARTIALLY_FILLED(일부 체결) -> FILLED(전량 체결)
+ * 전송 결과를 알 수 없는 주문(시간 초과 등)은 UNKNOWN으로 두고, 증권사 주문 내역에서 찾으면 ACCEPTED로 이어간다.
+ * 접수 실패/거부는 REJECTED, 미체결 잔량 취소는 CANCELLED, 장 종료로 잔량이 소멸된 당일 주문은 EXPIRED로 종료한다.
+ */
+public enum OrderState {
+    NEW,
+    UNKNOWN,
+    ACCEPTED,
+    PARTIALLY_FILLED,
+    FILLED,
+    REJECTED,
+    CANCELLED,
+    EXPIRED;
+
+    /**
+     * 종료 상태 여부 (이후 상태 변화 없음)
+     */
+    public boolean isTerminal() {
+        return this == FILLED || this == REJECTED || this == CANCELLED || this == EXPIRED;
+    }
+
+    /**
+     * 체결 조회 대상 여부 (증권사에 접수되어 체결을 기다리는 상태)
+     */
+    public boolean isWorking() {
+        return this == ACCEPTED || this == PARTIALLY_FILLED;
+    }
+}
@@ -0,0 +1,93 @@
+package trade.project.trading.order;
+
+import trade.project.api.dto.StockOrderRequest;
+import trade.project.api.dto.StockOrderResponse;
+import trade.project.api.service.StockOrderService;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 국내 주문 경로 (주문 전송은 StockOrderService, 체결 조회는 계좌별 일별 주문 내역 한 번)
+ */
+final class StockOrderGateway implements OrderGateway {
+
+    private static final ZoneId DOMESTIC_ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter ORDER_TIME = DateTimeFormatter.ofPattern("HHmmss"); // ORD_TMD
+    private static final long CLOCK_SKEW_SECONDS = 5; // 서버와 증권사 시계 차이 허용 범위
+
+    private final StockOrderService stockOrderService;
+
+    StockOrderGateway(StockOrderService stockOrderService) {
+        this.stockOrderService = stockOrderService;
+    }
+
+    @Override
+    public StockOrderResponse submit(StockOrderRequest request) {
+        return stockOrderService.executeOrder(request);
+    }
+
+    @Override
+    public Map<String, OrderFillStatus> fetchStatuses(String accountNumber, Collection<String> orderNumbers) {
+        Set<String> wanted = new HashSet<>(orderNumbers);
+        Map<String, OrderFillStatus> statuses = new HashMap<>();
+        for (StockOrderResponse execution : stockOrderService.getDailyOrderExecutions(accountNumber, LocalDate.now(DOMESTIC_ZONE))) {
+            if (wanted.contains(execution.getOrderNumber())) {
+                statuses.put(execution.getOrderNumber(), toFillStatus(execution));
+            }
+        }
+        return statuses;
+    }
+
+    @Override
+    public String findOrderNumber(StockOrderRequest request, LocalDateTime submittedAt, Collection<String> excludedOrderNumbers) {
+        LocalTime earliest = submittedAt.toLocalTime().minusSeconds(CLOCK_SKEW_SECONDS);
+        String found = null;
+        LocalTime foundAt = null;
+        for (StockOrderResponse execution : stockOrderService.getDailyOrderExecutions(request.getAccountNumber(), submittedAt.toLocalDate())) {
+            LocalTime orderTime = parseOrderTime(execution.getOrderTime());
+            if (execution.getOrderNumber() == null || excludedOrderNumbers.contains(execution.getOrderNumber())
+                    || orderTime == null || orderTime.isBefore(earliest)
+                    || !Objects.equals(request.getStockCode(), execution.getStockCode())
+                    || !Objects.equals(request.getOrderType(), execution.getOrderType())
+                    || !Objects.equals(request.getQuantity(), execution.getQuantity())) {
+                continue;
+            }
+            if (foundAt == null || orderTime.isBefore(foundAt)) {
+                found = execution.getOrderNumber();
+                foundAt = orderTime;
+            }
+        }
+        return found;
+    }
+
+    private static LocalTime parseOrderTime(String orderTime) {
+        if (orderTime == null) {
+            return null;
+        }
+        try {
+            return LocalTime.parse(orderTime, ORDER_TIME);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static OrderFillStatus toFillStatus(StockOrderResponse response) {
+        return new OrderFillStatus(
+                response.getExecutedQuantity() != null ? response.getExecutedQuantity() : 0,
+                response.getExecutedPrice() != null ? new BigDecimal(response.getExecutedPrice()) : null,
+                StockOrderService.STATUS_REJECTED.equals(response.getOrderStatus()),
+                StockOrderService.STATUS_CANCELLED.equals(response.getOrderStatus()));
+    }
+}
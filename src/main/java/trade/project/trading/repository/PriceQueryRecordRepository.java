@@ -7,6 +7,7 @@ import trade.project.trading.document.PriceQueryRecord;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface PriceQueryRecordRepository extends MongoRepository<PriceQueryRecord, String> {
@@ -44,6 +45,18 @@ public interface PriceQueryRecordRepository extends MongoRepository<PriceQueryRe
     List<PriceQueryRecord> findByQueryTypeAndQueryDateTimeBetweenOrderByQueryDateTimeDesc(
             String queryType, LocalDateTime startDateTime, LocalDateTime endDateTime);
     
+    /**
+     * 리플레이용: 종목/조회유형/기간별 성공 기록을 시간순으로 스트리밍 (커서 기반)
+     */
+    Stream<PriceQueryRecord> streamByStockCodeAndQueryTypeAndErrorCodeIsNullAndQueryDateTimeBetweenOrderByQueryDateTimeAsc(
+            String stockCode, String queryType, LocalDateTime startDateTime, LocalDateTime endDateTime);
+    
+    /**
+     * 리플레이용: 종목/조회유형/기간별 기록을 시간순으로 조회 (지표 워밍업 구간 포함)
+     */
+    List<PriceQueryRecord> findByStockCodeAndQueryTypeAndQueryDateTimeBetweenOrderByQueryDateTimeAsc(
+            String stockCode, String queryType, LocalDateTime startDateTime, LocalDateTime endDateTime);
+    
     /**
      * 에러가 발생한 시세 조회 기록 조회
      */
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 import trade.project.trading.entity.TradingRecord;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -62,6 +63,12 @@ public interface TradingRecordRepository extends JpaRepository<TradingRecord, Lo
     List<TradingRecord> findByStockCodeAndOrderDateTimeBetweenOrderByOrderDateTimeDesc(
             String stockCode, LocalDateTime startDateTime, LocalDateTime endDateTime);
     
+    /**
+     * 특정 시각 이후 주문 중 주어진 상태(미체결 등)인 정상 주문 조회
+     */
+    List<TradingRecord> findByOrderStatusInAndErrorCodeIsNullAndOrderDateTimeGreaterThanEqual(
+            Collection<String> orderStatuses, LocalDateTime fromDateTime);
+    
     /**
      * 에러가 발생한 매매 기록 조회
      */
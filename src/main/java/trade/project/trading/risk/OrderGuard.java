@@ -0,0 +1,168 @@
+package trade.project.trading.risk;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import trade.project.trading.dto.OrderGuardStatus;
+import trade.project.trading.dto.OrderThrottleRequest;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 주문 전송 직전 공통 관문 (킬 스위치 + 계좌/종목별 주문 빈도 제한)
+ * 국내/해외 주문 서비스가 증권사 API를 호출하기 직전에 호출하므로
+ * 수동 주문과 자동매매 주문 모두 같은 관문을 지난다.
+ * 킬 스위치는 volatile 플래그 하나만 읽으므로, 작동 즉시 다음 주문부터 차단된다.
+ */
+@Slf4j
+@Component
+public class OrderGuard {
+
+    public static final int DEFAULT_ACCOUNT_LIMIT = 10; // 계좌당 윈도우 내 최대 주문 수
+    public static final int DEFAULT_SYMBOL_LIMIT = 3;   // 종목당 윈도우 내 최대 주문 수
+    public static final long DEFAULT_WINDOW_MILLIS = 1_000;
+    private static final ZoneId DOMESTIC_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final LongSupplier nanoClock;
+    private final Clock clock;
+
+    // 킬 스위치 (사유/시각을 먼저 쓰고 플래그를 마지막에 써서 함께 보이도록 함)
+    private volatile boolean killSwitchEngaged;
+    private volatile String killSwitchReason;
+    private volatile LocalDateTime killSwitchEngagedAt;
+
+    // 한도 변경 시 통째로 교체
+    private volatile Throttles throttles = new Throttles(
+            new SlidingWindowThrottle(DEFAULT_ACCOUNT_LIMIT, TimeUnit.MILLISECONDS.toNanos(DEFAULT_WINDOW_MILLIS)),
+            new SlidingWindowThrottle(DEFAULT_SYMBOL_LIMIT, TimeUnit.MILLISECONDS.toNanos(DEFAULT_WINDOW_MILLIS)));
+
+    private final LongAdder allowedOrders = new LongAdder();
+    private final LongAdder blockedOrders = new LongAdder();
+    private final LongAdder throttledOrders = new LongAdder();
+
+    public OrderGuard() {
+        this(System::nanoTime, Clock.systemUTC());
+    }
+
+    OrderGuard(LongSupplier nanoClock, Clock clock) {
+        this.nanoClock = nanoClock;
+        this.clock = clock;
+    }
+
+    private record Throttles(SlidingWindowThrottle account, SlidingWindowThrottle symbol) {
+    }
+
+    // ==================== 주문 점검 ====================
+
+    /**
+     * 주문 1건 점검 (허용 시 계좌/종목 윈도우에 기록)
+     */
+    public OrderGuardResult tryAcquire(String accountNumber, String stockCode) {
+        if (killSwitchEngaged) {
+            blockedOrders.increment();
+            return OrderGuardResult.KILL_SWITCH;
+        }
+        Throttles current = throttles;
+        long now = nanoClock.getAsLong();
+        String accountKey = accountNumber != null ? accountNumber : "";
+        String symbolKey = accountKey + ":" + (stockCode != null ? stockCode : "");
+        if (!current.symbol().tryAcquire(symbolKey, now)) {
+            throttledOrders.increment();
+            return OrderGuardResult.SYMBOL_THROTTLED;
+        }
+        if (!current.account().tryAcquire(accountKey, now)) {
+            current.symbol().refund(symbolKey);
+            throttledOrders.increment();
+            return OrderGuardResult.ACCOUNT_THROTTLED;
+        }
+        allowedOrders.increment();
+        return OrderGuardResult.ALLOWED;
+    }
+
+    /**
+     * 자동매매 엔진의 빠른 경로용 (리스크 예약 전에 확인)
+     */
+    public boolean isKillSwitchEngaged() {
+        return killSwitchEngaged;
+    }
+
+    // ==================== 킬 스위치 ====================
+
+    /**
+     * 킬 스위치 작동 (이미 작동 중이면 사유만 유지하고 false)
+     */
+    public synchronized boolean engageKillSwitch(String reason) {
+        if (killSwitchEngaged) {
+            return false;
+        }
+        killSwitchReason = reason != null && !reason.isBlank() ? reason : "수동 작동";
+        killSwitchEngagedAt = LocalDateTime.now(clock.withZone(DOMESTIC_ZONE));
+        killSwitchEngaged = true;
+        log.error("킬 스위치 작동 - 모든 신규 주문 차단: {}", killSwitchReason);
+        return true;
+    }
+
+    /**
+     * 킬 스위치 해제 (작동 중이 아니면 false)
+     */
+    public synchronized boolean releaseKillSwitch() {
+        if (!killSwitchEngaged) {
+            return false;
+        }
+        killSwitchEngaged = false;
+        log.warn("킬 스위치 해제 - 주문 재개 (작동 사유: {}, 작동 시각: {})", killSwitchReason, killSwitchEngagedAt);
+        killSwitchReason = null;
+        killSwitchEngagedAt = null;
+        return true;
+    }
+
+    // ==================== 한도 설정/조회 ====================
+
+    /**
+     * 주문 빈도 한도 변경 (null인 항목은 유지, 0이면 제한 없음, 기존 윈도우 기록은 초기화)
+     */
+    public synchronized void updateThrottle(OrderThrottleRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("주문 빈도 한도 요청이 null입니다");
+        }
+        if ((request.getAccountLimit() != null && request.getAccountLimit() < 0)
+                || (request.getSymbolLimit() != null && request.getSymbolLimit() < 0)) {
+            throw new IllegalArgumentException("주문 빈도 한도는 0 이상이어야 합니다");
+        }
+        if (request.getWindowMillis() != null && request.getWindowMillis() <= 0) {
+            throw new IllegalArgumentException("윈도우 길이는 1ms 이상이어야 합니다");
+        }
+        Throttles current = throttles;
+        int accountLimit = request.getAccountLimit() != null ? request.getAccountLimit() : current.account().getLimit();
+        int symbolLimit = request.getSymbolLimit() != null ? request.getSymbolLimit() : current.symbol().getLimit();
+        long windowNanos = request.getWindowMillis() != null
+                ? TimeUnit.MILLISECONDS.toNanos(request.getWindowMillis())
+                : current.account().getWindowNanos();
+        throttles = new Throttles(new SlidingWindowThrottle(accountLimit, windowNanos),
+                new SlidingWindowThrottle(symbolLimit, windowNanos));
+        log.info("주문 빈도 한도 변경: 계좌 {}건, 종목 {}건 / {}ms",
+                accountLimit, symbolLimit, TimeUnit.NANOSECONDS.toMillis(windowNanos));
+    }
+
+    /**
+     * 킬 스위치/주문 빈도 현황
+     */
+    public OrderGuardStatus status() {
+        Throttles current = throttles;
+        return OrderGuardStatus.builder()
+                .killSwitchEngaged(killSwitchEngaged)
+                .killSwitchReason(killSwitchReason)
+                .killSwitchEngagedAt(killSwitchEngagedAt)
+                .accountLimit(current.account().getLimit())
+                .symbolLimit(current.symbol().getLimit())
+                .windowMillis(TimeUnit.NANOSECONDS.toMillis(current.account().getWindowNanos()))
+                .allowedOrders(allowedOrders.sum())
+                .blockedOrders(blockedOrders.sum())
+                .throttledOrders(throttledOrders.sum())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package trade.project.trading.risk;
+
+import lombok.Getter;
+
+/**
+ * 주문 전송 직전 킬 스위치/주문 빈도 점검 결과
+ */
+@Getter
+public enum OrderGuardResult {
+
+    ALLOWED("허용"),
+    KILL_SWITCH("킬 스위치 작동 중"),
+    ACCOUNT_THROTTLED("계좌 주문 빈도 한도 초과"),
+    SYMBOL_THROTTLED("종목 주문 빈도 한도 초과");
+
+    private final String description;
+
+    OrderGuardResult(String description) {
+        this.description = description;
+    }
+
+    public boolean isAllowed() {
+        return this == ALLOWED;
+    }
+}
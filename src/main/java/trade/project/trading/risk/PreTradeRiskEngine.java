@@ -0,0 +1,378 @@
+package trade.project.trading.risk;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import trade.project.trading.dto.AutoTradingStrategy;
+import trade.project.trading.dto.RiskLedgerSnapshot;
+import trade.project.trading.dto.RiskLimitRequest;
+import trade.project.trading.enums.MarketType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 주문 전 리스크 엔진
+ * 자동매매 엔진이 주문을 보내기 직전에 동기적으로 호출한다.
+ * - 주문 단위: 수량/금액 한도, 직전 시세 대비 가격 괴리 (fat-finger)
+ * - 전략 단위: 일일 거래 횟수, 일일 손실(실현 + 미실현), 최대 낙폭, 포지션 한도
+ * - 계좌 단위: 시장별 총 노출 한도
+ * 승인된 주문은 노출/거래 횟수를 예약하고, 체결(onFill) 또는 실패(release) 시 정산한다.
+ * 원장 금액은 시장 통화 기준이다. (국내 원, 해외 달러: 가격/한도/계좌 노출 모두 같은 통화로 받음)
+ * 원장은 원자 변수만 사용하므로 점검은 락 없이 수 마이크로초 안에 끝난다.
+ */
+@Slf4j
+@Component
+public class PreTradeRiskEngine {
+
+    public static final long DEFAULT_MAX_ORDER_QUANTITY = 10_000;
+    public static final double DEFAULT_PRICE_BAND = 0.05; // 직전 시세 대비 ±5%
+    private static final BigDecimal DEFAULT_DOMESTIC_EXPOSURE = new BigDecimal("100000000"); // 1억원
+    private static final BigDecimal DEFAULT_FOREIGN_EXPOSURE = new BigDecimal("100000"); // $100,000
+    private static final ZoneId DOMESTIC_ZONE = ZoneId.of("Asia/Seoul");
+    private static final ZoneId FOREIGN_ZONE = ZoneId.of("America/New_York");
+    private static final RiskCheckResult[] RESULTS = RiskCheckResult.values();
+
+    private final Clock clock;
+    private final Map<String, StrategyRiskLedger> ledgers = new ConcurrentHashMap<>();
+    private final Map<MarketType, AtomicLong> accountExposure = new EnumMap<>(MarketType.class);
+    private final Map<MarketType, AtomicLong> accountExposureLimit = new EnumMap<>(MarketType.class);
+    private volatile long maxOrderQuantity = DEFAULT_MAX_ORDER_QUANTITY;
+    private volatile double priceBand = DEFAULT_PRICE_BAND;
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder checkNanos = new LongAdder();
+    private final AtomicLongArray rejections = new AtomicLongArray(RESULTS.length);
+
+    public PreTradeRiskEngine() {
+        this(Clock.systemUTC());
+    }
+
+    PreTradeRiskEngine(Clock clock) {
+        this.clock = clock;
+        // 시장 목록은 고정이므로 생성 시 모두 채우고 이후에는 읽기만 함
+        for (MarketType marketType : MarketType.values()) {
+            accountExposure.put(marketType, new AtomicLong());
+            accountExposureLimit.put(marketType, new AtomicLong(RiskLedgerMath.toScaled(
+                    marketType == MarketType.FOREIGN ? DEFAULT_FOREIGN_EXPOSURE : DEFAULT_DOMESTIC_EXPOSURE)));
+        }
+    }
+
+    /**
+     * 지정 시계 기준의 독립 원장 생성 (리플레이 등 가상 시간 시뮬레이션용, 실계좌 원장과 공유하지 않음)
+     */
+    public static PreTradeRiskEngine withClock(Clock clock) {
+        return new PreTradeRiskEngine(clock);
+    }
+
+    // ==================== 전략 등록 ====================
+
+    /**
+     * 전략 원장 등록 (이미 있으면 포지션은 유지하고 한도만 갱신)
+     */
+    public void register(AutoTradingStrategy strategy) {
+        MarketType marketType = marketTypeOf(strategy);
+        RiskLimits limits = RiskLimits.of(strategy);
+        ledgers.compute(strategy.getStrategyId(), (id, existing) -> {
+            if (existing != null && existing.getMarketType() == marketType) {
+                existing.updateLimits(limits);
+                return existing;
+            }
+            if (existing != null) {
+                accountExposure.get(existing.getMarketType()).addAndGet(-existing.exposure());
+            }
+            return new StrategyRiskLedger(id, marketType, limits, tradingDay(marketType));
+        });
+    }
+
+    /**
+     * 전략 원장 제거 (계좌 노출에서 해당 전략 몫을 뺌)
+     */
+    public void unregister(String strategyId) {
+        StrategyRiskLedger ledger = ledgers.remove(strategyId);
+        if (ledger != null) {
+            accountExposure.get(ledger.getMarketType()).addAndGet(-ledger.exposure());
+        }
+    }
+
+    public boolean isRegistered(String strategyId) {
+        return ledgers.containsKey(strategyId);
+    }
+
+    // ==================== 주문 전 점검 ====================
+
+    /**
+     * 주문 전 점검 후 승인 시 노출/거래 횟수 예약
+     * 손실 한도나 낙폭을 넘은 상태에서도 보유 수량 안의 매도는 위험을 줄이므로 허용한다.
+     * @param strategyId 전략 ID
+     * @param buy 매수 여부
+     * @param quantity 주문 수량
+     * @param price 주문 가격
+     * @return 점검 결과 (APPROVED가 아니면 아무것도 예약하지 않음)
+     */
+    public RiskCheckResult checkAndReserve(String strategyId, boolean buy, long quantity, double price) {
+        long startedAt = System.nanoTime();
+        StrategyRiskLedger ledger = ledgers.get(strategyId);
+        RiskCheckResult result = ledger == null
+                ? RiskCheckResult.UNKNOWN_STRATEGY
+                : evaluate(ledger, buy, quantity, price);
+        checks.increment();
+        checkNanos.add(System.nanoTime() - startedAt);
+        if (!result.isApproved()) {
+            rejections.incrementAndGet(result.ordinal());
+            if (ledger != null) {
+                ledger.setLastRejection(result);
+            }
+            log.warn("주문 전 리스크 거절: {} {} {}주 @ {} - {}", strategyId, buy ? "매수" : "매도", quantity, price,
+                    result.getDescription());
+        }
+        return result;
+    }
+
+    private RiskCheckResult evaluate(StrategyRiskLedger ledger, boolean buy, long quantity, double price) {
+        if (quantity <= 0 || !(price > 0)) {
+            return RiskCheckResult.INVALID_ORDER;
+        }
+        if (quantity > maxOrderQuantity) {
+            return RiskCheckResult.ORDER_QUANTITY_LIMIT;
+        }
+        long scaledPrice = RiskLedgerMath.toScaled(price);
+        long amount = scaledPrice * quantity;
+        RiskLimits limits = ledger.getLimits();
+        if (limits.maxOrderAmount() > 0 && amount > limits.maxOrderAmount()) {
+            return RiskCheckResult.ORDER_AMOUNT_LIMIT;
+        }
+        long lastPrice = ledger.getLastPrice();
+        if (lastPrice > 0 && Math.abs(scaledPrice - lastPrice) > lastPrice * priceBand) {
+            return RiskCheckResult.PRICE_BAND;
+        }
+        ledger.rollover(tradingDay(ledger.getMarketType()));
+
+        if (!buy) {
+            if (!ledger.tryReserveSell(quantity)) {
+                return RiskCheckResult.INSUFFICIENT_POSITION;
+            }
+            ledger.countTrade();
+            return RiskCheckResult.APPROVED;
+        }
+
+        RiskCheckResult breach = ledger.lossBreach();
+        if (!breach.isApproved()) {
+            return breach;
+        }
+        if (!ledger.tryReserveTrade()) {
+            return RiskCheckResult.DAILY_TRADE_LIMIT;
+        }
+        if (!ledger.tryReserveBuy(amount)) {
+            ledger.releaseTrade();
+            return RiskCheckResult.POSITION_LIMIT;
+        }
+        if (!tryReserveAccount(ledger.getMarketType(), amount)) {
+            ledger.releaseBuy(amount);
+            ledger.releaseTrade();
+            return RiskCheckResult.ACCOUNT_EXPOSURE_LIMIT;
+        }
+        return RiskCheckResult.APPROVED;
+    }
+
+    private boolean tryReserveAccount(MarketType marketType, long amount) {
+        AtomicLong exposure = accountExposure.get(marketType);
+        long limit = accountExposureLimit.get(marketType).get();
+        while (true) {
+            long current = exposure.get();
+            if (limit > 0 && current + amount > limit) {
+                return false;
+            }
+            if (exposure.compareAndSet(current, current + amount)) {
+                return true;
+            }
+        }
+    }
+
+    // ==================== 정산 ====================
+
+    /**
+     * 승인된 주문의 체결 반영 (주문 가격으로 체결된 것으로 가정)
+     */
+    public void onFill(String strategyId, boolean buy, long quantity, double price) {
+        StrategyRiskLedger ledger = ledgers.get(strategyId);
+        if (ledger == null) return;
+        long amount = RiskLedgerMath.toScaled(price) * quantity;
+        if (buy) {
+            ledger.applyBuyFill(quantity, amount, amount);
+        } else {
+            long releasedCost = ledger.applySellFill(quantity, amount);
+            accountExposure.get(ledger.getMarketType()).addAndGet(-releasedCost);
+        }
+    }
+
+    /**
+     * 승인된 주문이 체결되지 않았을 때 예약 해제
+     */
+    public void release(String strategyId, boolean buy, long quantity, double price) {
+        StrategyRiskLedger ledger = ledgers.get(strategyId);
+        if (ledger == null) return;
+        releaseRemainder(strategyId, buy, quantity, price);
+        ledger.releaseTrade();
+    }
+
+    /**
+     * 일부 체결 후 종료된 주문의 미체결 잔량 예약 해제 (거래 횟수는 유지)
+     */
+    public void releaseRemainder(String strategyId, boolean buy, long quantity, double price) {
+        StrategyRiskLedger ledger = ledgers.get(strategyId);
+        if (ledger == null || quantity <= 0) return;
+        if (buy) {
+            long amount = RiskLedgerMath.toScaled(price) * quantity;
+            ledger.releaseBuy(amount);
+            accountExposure.get(ledger.getMarketType()).addAndGet(-amount);
+        } else {
+            ledger.releaseSell(quantity);
+        }
+    }
+
+    /**
+     * 시세 반영 후 손실 한도 상태 반환 (매 조회마다 호출되어 한도 초과를 즉시 감지)
+     */
+    public RiskCheckResult onPrice(String strategyId, double price) {
+        StrategyRiskLedger ledger = ledgers.get(strategyId);
+        if (ledger == null || !(price > 0)) {
+            return RiskCheckResult.APPROVED;
+        }
+        ledger.rollover(tradingDay(ledger.getMarketType()));
+        ledger.markPrice(RiskLedgerMath.toScaled(price));
+        return ledger.lossBreach();
+    }
+
+    // ==================== 한도 설정/조회 ====================
+
+    /**
+     * 공통 한도 변경
+     */
+    public void updateLimits(RiskLimitRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("리스크 한도 요청이 null입니다");
+        }
+        if (isNegative(request.getDomesticExposureLimit()) || isNegative(request.getForeignExposureLimit())) {
+            throw new IllegalArgumentException("계좌 노출 한도는 0 이상이어야 합니다");
+        }
+        if (request.getMaxOrderQuantity() != null && request.getMaxOrderQuantity() <= 0) {
+            throw new IllegalArgumentException("주문 최대 수량은 1 이상이어야 합니다");
+        }
+        if (request.getPriceBandPercent() != null && request.getPriceBandPercent().signum() <= 0) {
+            throw new IllegalArgumentException("가격 괴리 한도는 0보다 커야 합니다");
+        }
+        if (request.getDomesticExposureLimit() != null) {
+            accountExposureLimit.get(MarketType.DOMESTIC).set(RiskLedgerMath.toScaled(request.getDomesticExposureLimit()));
+        }
+        if (request.getForeignExposureLimit() != null) {
+            accountExposureLimit.get(MarketType.FOREIGN).set(RiskLedgerMath.toScaled(request.getForeignExposureLimit()));
+        }
+        if (request.getMaxOrderQuantity() != null) {
+            maxOrderQuantity = request.getMaxOrderQuantity();
+        }
+        if (request.getPriceBandPercent() != null) {
+            priceBand = request.getPriceBandPercent().doubleValue() / 100;
+        }
+        log.info("주문 전 리스크 한도 변경: 국내 {}, 해외 {}, 최대 수량 {}, 가격 괴리 {}%",
+                request.getDomesticExposureLimit(), request.getForeignExposureLimit(),
+                request.getMaxOrderQuantity(), request.getPriceBandPercent());
+    }
+
+    /**
+     * 원장 현황 조회
+     */
+    public RiskLedgerSnapshot snapshot() {
+        long totalChecks = checks.sum();
+        long rejected = 0;
+        Map<String, Long> rejectionsByReason = new LinkedHashMap<>();
+        for (RiskCheckResult result : RESULTS) {
+            long count = rejections.get(result.ordinal());
+            if (count > 0) {
+                rejectionsByReason.put(result.name(), count);
+                rejected += count;
+            }
+        }
+
+        List<RiskLedgerSnapshot.AccountExposure> accounts = new ArrayList<>();
+        for (MarketType marketType : MarketType.values()) {
+            accounts.add(RiskLedgerSnapshot.AccountExposure.builder()
+                    .marketType(marketType.name())
+                    .exposure(RiskLedgerMath.toDecimal(accountExposure.get(marketType).get()))
+                    .exposureLimit(RiskLedgerMath.toDecimal(accountExposureLimit.get(marketType).get()))
+                    .build());
+        }
+
+        List<RiskLedgerSnapshot.StrategyExposure> strategies = new ArrayList<>();
+        for (StrategyRiskLedger ledger : ledgers.values()) {
+            strategies.add(toStrategyExposure(ledger));
+        }
+
+        return RiskLedgerSnapshot.builder()
+                .snapshotTime(LocalDateTime.now(clock.withZone(DOMESTIC_ZONE)))
+                .totalChecks(totalChecks)
+                .rejectedChecks(rejected)
+                .rejectionsByReason(rejectionsByReason)
+                .averageCheckNanos(totalChecks > 0 ? checkNanos.sum() / totalChecks : 0L)
+                .maxOrderQuantity(maxOrderQuantity)
+                .priceBandPercent(BigDecimal.valueOf(priceBand * 100))
+                .accounts(accounts)
+                .strategies(strategies)
+                .build();
+    }
+
+    private RiskLedgerSnapshot.StrategyExposure toStrategyExposure(StrategyRiskLedger ledger) {
+        StrategyRiskLedger.Holding holding = ledger.getHolding();
+        RiskLimits limits = ledger.getLimits();
+        BigDecimal averagePrice = holding.quantity() > 0
+                ? RiskLedgerMath.toDecimal(holding.costBasis()).divide(BigDecimal.valueOf(holding.quantity()), 4, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+        return RiskLedgerSnapshot.StrategyExposure.builder()
+                .strategyId(ledger.getStrategyId())
+                .marketType(ledger.getMarketType().name())
+                .position(holding.quantity())
+                .averagePrice(averagePrice)
+                .lastPrice(RiskLedgerMath.toDecimal(ledger.getLastPrice()))
+                .exposure(RiskLedgerMath.toDecimal(ledger.exposure()))
+                .positionLimit(RiskLedgerMath.toDecimal(limits.maxPositionValue()))
+                .pendingBuyAmount(RiskLedgerMath.toDecimal(ledger.getPendingBuyAmount()))
+                .pendingSellQuantity(ledger.getPendingSellQuantity())
+                .dailyTrades(ledger.getDailyTrades())
+                .maxDailyTrades(limits.maxDailyTrades())
+                .dailyPnL(RiskLedgerMath.toDecimal(ledger.dailyPnL()))
+                .dailyLossLimit(RiskLedgerMath.toDecimal(limits.maxDailyLoss()))
+                .realizedPnL(RiskLedgerMath.toDecimal(ledger.getRealizedPnL()))
+                .drawdownPercent(BigDecimal.valueOf(ledger.drawdownRatio() * 100).setScale(4, RoundingMode.HALF_UP))
+                .maxDrawdownPercent(BigDecimal.valueOf(limits.maxDrawdownRatio() * 100))
+                .lastRejection(ledger.getLastRejection() != null ? ledger.getLastRejection().name() : null)
+                .build();
+    }
+
+    /**
+     * 시장 현지 기준 거래일 (해외는 뉴욕 날짜 기준이라 한국 자정에 초기화되지 않음)
+     */
+    private long tradingDay(MarketType marketType) {
+        return LocalDate.ofInstant(clock.instant(), marketType == MarketType.FOREIGN ? FOREIGN_ZONE : DOMESTIC_ZONE)
+                .toEpochDay();
+    }
+
+    private static MarketType marketTypeOf(AutoTradingStrategy strategy) {
+        return strategy.getMarketType() == MarketType.FOREIGN ? MarketType.FOREIGN : MarketType.DOMESTIC;
+    }
+
+    private static boolean isNegative(BigDecimal value) {
+        return value != null && value.signum() < 0;
+    }
+}
@@ -0,0 +1,33 @@
+package trade.project.trading.risk;
+
+import lombok.Getter;
+
+/**
+ * 주문 전 리스크 점검 결과
+ */
+@Getter
+public enum RiskCheckResult {
+
+    APPROVED("승인"),
+    UNKNOWN_STRATEGY("리스크 원장에 등록되지 않은 전략"),
+    INVALID_ORDER("수량 또는 가격이 올바르지 않은 주문"),
+    ORDER_QUANTITY_LIMIT("주문 수량 한도 초과"),
+    ORDER_AMOUNT_LIMIT("주문 금액 한도 초과"),
+    PRICE_BAND("직전 시세 대비 주문 가격 괴리 초과"),
+    INSUFFICIENT_POSITION("보유 수량 부족"),
+    DAILY_TRADE_LIMIT("일일 거래 횟수 초과"),
+    DAILY_LOSS_LIMIT("일일 손실 한도 초과"),
+    MAX_DRAWDOWN("최대 낙폭 초과"),
+    POSITION_LIMIT("전략 포지션 한도 초과"),
+    ACCOUNT_EXPOSURE_LIMIT("계좌 노출 한도 초과");
+
+    private final String description;
+
+    RiskCheckResult(String description) {
+        this.description = description;
+    }
+
+    public boolean isApproved() {
+        return this == APPROVED;
+    }
+}
@@ -0,0 +1,28 @@
+package trade.project.trading.risk;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 리스크 원장 금액 변환 (소수 4자리 고정 소수점 long, 원화/달러 공용)
+ */
+final class RiskLedgerMath {
+
+    static final long SCALE = 10_000L;
+    private static final int SCALE_DIGITS = 4;
+
+    private RiskLedgerMath() {
+    }
+
+    static long toScaled(double value) {
+        return Math.round(value * SCALE);
+    }
+
+    static long toScaled(BigDecimal value) {
+        return value != null ? value.setScale(SCALE_DIGITS, RoundingMode.HALF_UP).unscaledValue().longValueExact() : 0L;
+    }
+
+    static BigDecimal toDecimal(long scaled) {
+        return BigDecimal.valueOf(scaled, SCALE_DIGITS);
+    }
+}
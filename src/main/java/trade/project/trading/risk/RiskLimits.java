@@ -0,0 +1,39 @@
+package trade.project.trading.risk;
+
+import trade.project.trading.dto.AutoTradingStrategy;
+
+import java.math.BigDecimal;
+
+/**
+ * 전략별 리스크 한도 (금액은 RiskLedgerMath.SCALE 배율 정수, 0이면 미적용)
+ * 금액은 전략 설정과 같은 시장 통화 (국내 원, 해외 달러)
+ */
+record RiskLimits(long capital, long maxOrderAmount, long maxPositionValue, long maxDailyLoss,
+                  double maxDrawdownRatio, int maxDailyTrades) {
+
+    private static final BigDecimal PERCENT = new BigDecimal("100");
+
+    /**
+     * 자동매매 전략 설정으로 한도 계산
+     * - 포지션 한도: 총 투자금액 × 최대 포지션 비율
+     * - 일일 손실 한도: 총 투자금액 × maxDailyLoss%
+     * - 최대 낙폭: maxDrawdown% (전략 자산 고점 대비)
+     */
+    static RiskLimits of(AutoTradingStrategy strategy) {
+        BigDecimal capital = positiveOrZero(strategy.getTotalInvestment());
+        BigDecimal positionRatio = positiveOrZero(strategy.getMaxPositionSize());
+        BigDecimal dailyLossPercent = positiveOrZero(strategy.getMaxDailyLoss());
+        BigDecimal drawdownPercent = positiveOrZero(strategy.getMaxDrawdown());
+        return new RiskLimits(
+                RiskLedgerMath.toScaled(capital),
+                RiskLedgerMath.toScaled(positiveOrZero(strategy.getMaxOrderAmount())),
+                RiskLedgerMath.toScaled(capital.multiply(positionRatio)),
+                RiskLedgerMath.toScaled(capital.multiply(dailyLossPercent).divide(PERCENT)),
+                drawdownPercent.doubleValue() / 100,
+                Math.max(strategy.getMaxDailyTrades(), 0));
+    }
+
+    private static BigDecimal positiveOrZero(BigDecimal value) {
+        return value != null && value.signum() > 0 ? value : BigDecimal.ZERO;
+    }
+}
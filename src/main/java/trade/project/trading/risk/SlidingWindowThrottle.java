@@ -0,0 +1,86 @@
+package trade.project.trading.risk;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 키(계좌/종목)별 슬라이딩 윈도우 주문 제한
+ * 키마다 최근 허용 시각을 한도 크기의 원형 버퍼에 보관하고,
+ * 가장 오래된 시각이 윈도우를 벗어났을 때만 새 주문을 허용한다 (고정 구간 경계에서 두 배로 몰리는 문제 없음).
+ */
+final class SlidingWindowThrottle {
+
+    private final int limit;
+    private final long windowNanos;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    SlidingWindowThrottle(int limit, long windowNanos) {
+        this.limit = limit;
+        this.windowNanos = windowNanos;
+    }
+
+    /**
+     * 윈도우 안에 여유가 있으면 기록 후 true (한도 0이면 제한 없음)
+     */
+    boolean tryAcquire(String key, long nowNanos) {
+        if (limit <= 0) return true;
+        return windows.computeIfAbsent(key, k -> new Window(limit)).tryAcquire(nowNanos, windowNanos);
+    }
+
+    /**
+     * 뒤따르는 점검에서 거절된 주문의 기록 취소
+     */
+    void refund(String key) {
+        if (limit <= 0) return;
+        Window window = windows.get(key);
+        if (window != null) window.refund();
+    }
+
+    int inFlight(String key, long nowNanos) {
+        Window window = windows.get(key);
+        return window != null ? window.count(nowNanos, windowNanos) : 0;
+    }
+
+    int getLimit() { return limit; }
+    long getWindowNanos() { return windowNanos; }
+
+    /**
+     * 키별 허용 시각 원형 버퍼 (임계 구역이 수십 ns라 키 단위 모니터로 충분)
+     */
+    private static final class Window {
+
+        private final long[] stamps;
+        private int head;
+        private int size;
+
+        Window(int capacity) {
+            this.stamps = new long[capacity];
+        }
+
+        synchronized boolean tryAcquire(long now, long windowNanos) {
+            evict(now, windowNanos);
+            if (size == stamps.length) {
+                return false;
+            }
+            stamps[(head + size) % stamps.length] = now;
+            size++;
+            return true;
+        }
+
+        synchronized void refund() {
+            if (size > 0) size--;
+        }
+
+        synchronized int count(long now, long windowNanos) {
+            evict(now, windowNanos);
+            return size;
+        }
+
+        private void evict(long now, long windowNanos) {
+            while (size > 0 && now - stamps[head] >= windowNanos) {
+                head = (head + 1) % stamps.length;
+                size--;
+            }
+        }
+    }
+}
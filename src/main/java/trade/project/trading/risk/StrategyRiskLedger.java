@@ -0,0 +1,234 @@
+package trade.project.trading.risk;
+
+import trade.project.trading.enums.MarketType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 전략별 포지션/노출 원장
+ * 모든 값은 원자 변수로만 갱신하고 락을 쓰지 않는다.
+ * 보유 수량과 매수 원가는 함께 바뀌어야 하므로 불변 Holding을 CAS로 교체한다.
+ * 주문 전 예약(미체결 매수 금액, 매도 수량, 거래 횟수)은 한도를 넘지 않을 때만 CAS로 올린다.
+ */
+final class StrategyRiskLedger {
+
+    private final String strategyId;
+    private final MarketType marketType;
+    private volatile RiskLimits limits;
+
+    private final AtomicReference<Holding> holding = new AtomicReference<>(Holding.FLAT);
+    private final AtomicLong pendingBuyAmount = new AtomicLong();   // 체결 대기 매수 금액
+    private final AtomicLong pendingSellQuantity = new AtomicLong(); // 체결 대기 매도 수량
+    private final AtomicInteger dailyTrades = new AtomicInteger();
+    private final AtomicLong dailyRealizedPnL = new AtomicLong();
+    private final AtomicLong realizedPnL = new AtomicLong();         // 등록 이후 누적 실현 손익
+    private final AtomicLong lastPrice = new AtomicLong();
+    private final AtomicLong peakEquity = new AtomicLong();
+    private final AtomicLong tradingDay;
+    private volatile RiskCheckResult lastRejection;
+
+    StrategyRiskLedger(String strategyId, MarketType marketType, RiskLimits limits, long tradingDay) {
+        this.strategyId = strategyId;
+        this.marketType = marketType;
+        this.limits = limits;
+        this.peakEquity.set(limits.capital());
+        this.tradingDay = new AtomicLong(tradingDay);
+    }
+
+    /**
+     * 보유 수량과 총 매수 원가 (원가는 SCALE 배율)
+     */
+    record Holding(long quantity, long costBasis) {
+        static final Holding FLAT = new Holding(0, 0);
+    }
+
+    // ==================== 일자/시세 ====================
+
+    /**
+     * 날짜가 바뀌면 일일 거래 횟수와 일일 실현 손익 초기화
+     */
+    void rollover(long day) {
+        long current = tradingDay.get();
+        if (day != current && tradingDay.compareAndSet(current, day)) {
+            dailyTrades.set(0);
+            dailyRealizedPnL.set(0);
+        }
+    }
+
+    /**
+     * 시세 반영 후 자산 고점 갱신
+     */
+    void markPrice(long scaledPrice) {
+        lastPrice.set(scaledPrice);
+        peakEquity.accumulateAndGet(equity(), Math::max);
+    }
+
+    /**
+     * 신규 매수를 막아야 하는 손실 상태 (일일 손실 → 최대 낙폭 순)
+     */
+    RiskCheckResult lossBreach() {
+        RiskLimits current = limits;
+        if (current.maxDailyLoss() > 0 && dailyPnL() <= -current.maxDailyLoss()) {
+            return RiskCheckResult.DAILY_LOSS_LIMIT;
+        }
+        if (current.maxDrawdownRatio() > 0 && drawdownRatio() >= current.maxDrawdownRatio()) {
+            return RiskCheckResult.MAX_DRAWDOWN;
+        }
+        return RiskCheckResult.APPROVED;
+    }
+
+    // ==================== 예약 ====================
+
+    boolean tryReserveTrade() {
+        int maxDailyTrades = limits.maxDailyTrades();
+        while (true) {
+            int trades = dailyTrades.get();
+            if (maxDailyTrades > 0 && trades >= maxDailyTrades) {
+                return false;
+            }
+            if (dailyTrades.compareAndSet(trades, trades + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 위험을 줄이는 매도는 일일 거래 횟수 한도와 무관하게 횟수만 올린다.
+     */
+    void countTrade() {
+        dailyTrades.incrementAndGet();
+    }
+
+    void releaseTrade() {
+        dailyTrades.updateAndGet(trades -> trades > 0 ? trades - 1 : 0);
+    }
+
+    /**
+     * 보유 원가 + 체결 대기 매수 금액이 포지션 한도를 넘지 않으면 예약
+     */
+    boolean tryReserveBuy(long amount) {
+        long maxPositionValue = limits.maxPositionValue();
+        while (true) {
+            long pending = pendingBuyAmount.get();
+            if (maxPositionValue > 0 && holding.get().costBasis() + pending + amount > maxPositionValue) {
+                return false;
+            }
+            if (pendingBuyAmount.compareAndSet(pending, pending + amount)) {
+                return true;
+            }
+        }
+    }
+
+    void releaseBuy(long amount) {
+        pendingBuyAmount.addAndGet(-amount);
+    }
+
+    /**
+     * 체결 대기 매도 수량을 포함해 보유 수량 안에서만 예약
+     */
+    boolean tryReserveSell(long quantity) {
+        while (true) {
+            long pending = pendingSellQuantity.get();
+            if (pending + quantity > holding.get().quantity()) {
+                return false;
+            }
+            if (pendingSellQuantity.compareAndSet(pending, pending + quantity)) {
+                return true;
+            }
+        }
+    }
+
+    void releaseSell(long quantity) {
+        pendingSellQuantity.addAndGet(-quantity);
+    }
+
+    // ==================== 체결 ====================
+
+    /**
+     * 매수 체결 (보유 원가를 먼저 올리고 예약을 내려 노출이 잠시 과대 계산되도록 함)
+     */
+    void applyBuyFill(long quantity, long amount, long reservedAmount) {
+        Holding current;
+        do {
+            current = holding.get();
+        } while (!holding.compareAndSet(current, new Holding(current.quantity() + quantity, current.costBasis() + amount)));
+        pendingBuyAmount.addAndGet(-reservedAmount);
+    }
+
+    /**
+     * 매도 체결 후 해소된 매수 원가 반환
+     */
+    long applySellFill(long quantity, long amount) {
+        Holding current;
+        Holding next;
+        long releasedCost;
+        do {
+            current = holding.get();
+            long remaining = current.quantity() - Math.min(quantity, current.quantity());
+            releasedCost = remaining == 0
+                    ? current.costBasis()
+                    : Math.round((double) current.costBasis() * (current.quantity() - remaining) / current.quantity());
+            next = remaining == 0 ? Holding.FLAT : new Holding(remaining, current.costBasis() - releasedCost);
+        } while (!holding.compareAndSet(current, next));
+        long profit = amount - releasedCost;
+        realizedPnL.addAndGet(profit);
+        dailyRealizedPnL.addAndGet(profit);
+        pendingSellQuantity.addAndGet(-quantity);
+        return releasedCost;
+    }
+
+    void setLastRejection(RiskCheckResult result) {
+        this.lastRejection = result;
+    }
+
+    void updateLimits(RiskLimits limits) {
+        this.limits = limits;
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 미실현 손익 (시세가 없으면 0)
+     */
+    long unrealizedPnL() {
+        long price = lastPrice.get();
+        Holding current = holding.get();
+        return price > 0 && current.quantity() > 0 ? current.quantity() * price - current.costBasis() : 0;
+    }
+
+    /**
+     * 일일 손익 (일일 실현 + 현재 미실현)
+     */
+    long dailyPnL() {
+        return dailyRealizedPnL.get() + unrealizedPnL();
+    }
+
+    long equity() {
+        return limits.capital() + realizedPnL.get() + unrealizedPnL();
+    }
+
+    double drawdownRatio() {
+        long peak = peakEquity.get();
+        return peak > 0 ? Math.max(0, (double) (peak - equity()) / peak) : 0;
+    }
+
+    /**
+     * 계좌 노출에 포함되는 금액 (보유 원가 + 체결 대기 매수)
+     */
+    long exposure() {
+        return holding.get().costBasis() + pendingBuyAmount.get();
+    }
+
+    String getStrategyId() { return strategyId; }
+    MarketType getMarketType() { return marketType; }
+    RiskLimits getLimits() { return limits; }
+    Holding getHolding() { return holding.get(); }
+    long getPendingBuyAmount() { return pendingBuyAmount.get(); }
+    long getPendingSellQuantity() { return pendingSellQuantity.get(); }
+    int getDailyTrades() { return dailyTrades.get(); }
+    long getRealizedPnL() { return realizedPnL.get(); }
+    long getLastPrice() { return lastPrice.get(); }
+    RiskCheckResult getLastRejection() { return lastRejection; }
+}
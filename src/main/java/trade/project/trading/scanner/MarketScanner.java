@@ -0,0 +1,334 @@
+package trade.project.trading.scanner;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import trade.project.trading.document.PriceQueryRecord;
+import trade.project.trading.dto.MarketScanResult;
+import trade.project.trading.dto.ScanCandidate;
+import trade.project.trading.dto.ScannerCriteriaRequest;
+import trade.project.trading.enums.MarketType;
+import trade.project.trading.enums.TopKospiStocks;
+import trade.project.trading.enums.TopNasdaqStocks;
+import trade.project.trading.service.PriceQueryRecordService;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 섹터/유니버스 단위 시장 스캐너
+ * TopKospiStocks/TopNasdaqStocks 전체를 하나의 열 배열(UniverseSeries)로 두고,
+ * 틱마다 새 일자별 기록만 반영한 뒤 한 번의 루프로 RSI 극단/이동평균 교차/거래량 급증을 평가한다.
+ * 결과는 섹터별 점수 순 후보 목록으로 만들어 불변 스냅샷으로 교체 게시한다.
+ */
+@Slf4j
+@Component
+public class MarketScanner {
+
+    public static final int SMA_SHORT_PERIOD = 5;
+    public static final int SMA_LONG_PERIOD = 20;
+    public static final int RSI_PERIOD = 14;
+    public static final int VOLUME_PERIOD = 20;
+    static final long SCAN_INTERVAL_SECONDS = 60;
+    static final int HISTORY_DAYS = 365; // 첫 스캔 시 불러올 일자별 기록 기간
+    private static final String DAILY = "daily";
+
+    private final PriceQueryRecordService priceQueryRecordService;
+    private final Clock clock;
+
+    private final Universe domestic;
+    private final Universe foreign;
+
+    private volatile ScanCriteria criteria = ScanCriteria.DEFAULT;
+    private ScheduledExecutorService scheduler;
+
+    public MarketScanner(PriceQueryRecordService priceQueryRecordService) {
+        this(priceQueryRecordService, Clock.systemDefaultZone());
+    }
+
+    MarketScanner(PriceQueryRecordService priceQueryRecordService, Clock clock) {
+        this.priceQueryRecordService = priceQueryRecordService;
+        this.clock = clock;
+        this.domestic = domesticUniverse();
+        this.foreign = foreignUniverse();
+    }
+
+    /**
+     * 필터 기준 (변경 시 통째로 교체)
+     */
+    record ScanCriteria(double rsiOversold, double rsiOverbought, double volumeSpikeRatio, int topN) {
+        static final ScanCriteria DEFAULT = new ScanCriteria(30, 70, 2.0, 5);
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "market-scanner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::scanAllQuietly, 0, SCAN_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 시장별 최근 스캔 결과 (아직 스캔 전이면 null)
+     */
+    public MarketScanResult getLatest(MarketType marketType) {
+        return universe(marketType).latest;
+    }
+
+    /**
+     * 섹터 후보 목록 (스캔 전이거나 후보가 없으면 빈 목록)
+     */
+    public List<ScanCandidate> getCandidates(MarketType marketType, String sector) {
+        MarketScanResult latest = getLatest(marketType);
+        if (latest == null) {
+            return List.of();
+        }
+        return latest.getSectors().getOrDefault(sector, List.of());
+    }
+
+    /**
+     * 현재 필터 기준
+     */
+    public ScannerCriteriaRequest getCriteria() {
+        ScanCriteria current = criteria;
+        return ScannerCriteriaRequest.builder()
+                .rsiOversold(current.rsiOversold())
+                .rsiOverbought(current.rsiOverbought())
+                .volumeSpikeRatio(current.volumeSpikeRatio())
+                .topN(current.topN())
+                .build();
+    }
+
+    /**
+     * 필터 기준 변경 (다음 스캔부터 적용)
+     */
+    public synchronized void updateCriteria(ScannerCriteriaRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("스캐너 기준 변경 요청이 없습니다");
+        }
+        ScanCriteria current = criteria;
+        double oversold = request.getRsiOversold() != null ? request.getRsiOversold() : current.rsiOversold();
+        double overbought = request.getRsiOverbought() != null ? request.getRsiOverbought() : current.rsiOverbought();
+        double spikeRatio = request.getVolumeSpikeRatio() != null ? request.getVolumeSpikeRatio() : current.volumeSpikeRatio();
+        int topN = request.getTopN() != null ? request.getTopN() : current.topN();
+        if (!(oversold > 0 && oversold < overbought && overbought < 100)) {
+            throw new IllegalArgumentException("RSI 기준은 0 < 과매도 < 과매수 < 100 이어야 합니다");
+        }
+        if (!(spikeRatio > 1)) {
+            throw new IllegalArgumentException("거래량 급증 배율은 1보다 커야 합니다");
+        }
+        if (topN <= 0) {
+            throw new IllegalArgumentException("섹터별 후보 수는 1 이상이어야 합니다");
+        }
+        criteria = new ScanCriteria(oversold, overbought, spikeRatio, topN);
+        log.info("시장 스캐너 기준 변경: RSI {}/{}, 거래량 {}배, 섹터별 {}개", oversold, overbought, spikeRatio, topN);
+    }
+
+    // ==================== 스캔 ====================
+
+    /**
+     * 시장 하나 스캔 (새 일자별 기록 반영 → 전 종목 일괄 평가 → 섹터별 순위 게시)
+     */
+    public MarketScanResult scan(MarketType marketType) {
+        Universe universe = universe(marketType);
+        synchronized (universe) {
+            long startNanos = System.nanoTime();
+            LocalDateTime now = LocalDateTime.now(clock);
+
+            int newBars = 0;
+            for (int i = 0; i < universe.codes.length; i++) {
+                newBars += ingest(universe, i, now);
+            }
+
+            ScanCriteria current = criteria;
+            UniverseSeries series = universe.series;
+            series.evaluate(current.rsiOversold(), current.rsiOverbought(), current.volumeSpikeRatio());
+
+            MarketScanResult result = MarketScanResult.builder()
+                    .marketType(marketType.getCode())
+                    .scannedAt(now)
+                    .scanCount(++universe.scanCount)
+                    .universeSize(series.size())
+                    .readySymbols(countReady(series))
+                    .newBars(newBars)
+                    .sectors(rankBySector(universe, current.topN()))
+                    .elapsedMicros(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos))
+                    .build();
+            universe.latest = result;
+            return result;
+        }
+    }
+
+    private void scanAllQuietly() {
+        for (MarketType marketType : MarketType.values()) {
+            try {
+                scan(marketType);
+            } catch (Exception e) {
+                log.warn("시장 스캔 실패: {} - {}", marketType, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 종목 하나의 아직 반영하지 않은 일자별 기록을 시간순으로 반영
+     */
+    private int ingest(Universe universe, int symbol, LocalDateTime now) {
+        LocalDateTime lastApplied = universe.lastApplied[symbol];
+        LocalDateTime from = lastApplied != null ? lastApplied : now.minusDays(HISTORY_DAYS);
+        int added = 0;
+        try (Stream<PriceQueryRecord> records = priceQueryRecordService.streamSuccessRecordsAsc(
+                universe.codes[symbol], DAILY, from, now)) {
+            if (records == null) {
+                return 0;
+            }
+            Iterator<PriceQueryRecord> iterator = records.iterator();
+            while (iterator.hasNext()) {
+                PriceQueryRecord record = iterator.next();
+                LocalDateTime time = record.getQueryDateTime();
+                if (record.getCurrentPrice() == null || time == null
+                        || (lastApplied != null && !time.isAfter(lastApplied))) {
+                    continue;
+                }
+                double volume = record.getTradingVolume() != null ? record.getTradingVolume() : 0;
+                universe.series.append(symbol, record.getCurrentPrice(), volume);
+                lastApplied = time;
+                added++;
+            }
+        } catch (Exception e) {
+            log.warn("스캐너 시세 기록 반영 실패: {} - {}", universe.codes[symbol], e.getMessage());
+        }
+        universe.lastApplied[symbol] = lastApplied;
+        return added;
+    }
+
+    /**
+     * 신호가 있는 종목만 섹터별로 모아 점수 내림차순 상위 topN개
+     */
+    private static Map<String, List<ScanCandidate>> rankBySector(Universe universe, int topN) {
+        UniverseSeries series = universe.series;
+        Map<String, List<ScanCandidate>> sectors = new LinkedHashMap<>();
+        for (String sector : universe.sectorNames) {
+            List<Integer> hits = new ArrayList<>();
+            for (int i = 0; i < universe.codes.length; i++) {
+                if (universe.sectors[i].equals(sector) && series.flags[i] != 0) {
+                    hits.add(i);
+                }
+            }
+            hits.sort((a, b) -> Double.compare(series.score[b], series.score[a]));
+
+            List<ScanCandidate> candidates = new ArrayList<>();
+            for (int rank = 0; rank < Math.min(topN, hits.size()); rank++) {
+                candidates.add(toCandidate(universe, hits.get(rank), rank + 1));
+            }
+            sectors.put(sector, candidates);
+        }
+        return sectors;
+    }
+
+    private static ScanCandidate toCandidate(Universe universe, int i, int rank) {
+        UniverseSeries series = universe.series;
+        return ScanCandidate.builder()
+                .rank(rank)
+                .stockCode(universe.codes[i])
+                .stockName(universe.names[i])
+                .sector(universe.sectors[i])
+                .closePrice(series.lastClose(i))
+                .rsi(finiteOrNull(series.rsi[i]))
+                .smaShort(finiteOrNull(series.shortSma[i]))
+                .smaLong(finiteOrNull(series.longSma[i]))
+                .volumeRatio(finiteOrNull(series.volumeRatio[i]))
+                .signals(ScanSignal.fromMask(series.flags[i]).stream().map(Enum::name).toList())
+                .score(series.score[i])
+                .build();
+    }
+
+    private static int countReady(UniverseSeries series) {
+        int ready = 0;
+        for (int i = 0; i < series.size(); i++) {
+            if (series.barCount(i) > SMA_LONG_PERIOD) {
+                ready++;
+            }
+        }
+        return ready;
+    }
+
+    private static Double finiteOrNull(double value) {
+        return Double.isFinite(value) ? value : null;
+    }
+
+    private Universe universe(MarketType marketType) {
+        return marketType == MarketType.FOREIGN ? foreign : domestic;
+    }
+
+    // ==================== 유니버스 ====================
+
+    private static Universe domesticUniverse() {
+        TopKospiStocks[] stocks = TopKospiStocks.values();
+        String[] codes = new String[stocks.length];
+        String[] names = new String[stocks.length];
+        String[] sectors = new String[stocks.length];
+        for (int i = 0; i < stocks.length; i++) {
+            codes[i] = stocks[i].getStockCode();
+            names[i] = stocks[i].getStockName();
+            sectors[i] = stocks[i].getSector();
+        }
+        return new Universe(codes, names, sectors, TopKospiStocks.getAllSectors());
+    }
+
+    private static Universe foreignUniverse() {
+        TopNasdaqStocks[] stocks = TopNasdaqStocks.values();
+        String[] codes = new String[stocks.length];
+        String[] names = new String[stocks.length];
+        String[] sectors = new String[stocks.length];
+        for (int i = 0; i < stocks.length; i++) {
+            codes[i] = stocks[i].getStockCode();
+            names[i] = stocks[i].getKoreanName();
+            sectors[i] = stocks[i].getSector();
+        }
+        return new Universe(codes, names, sectors, TopNasdaqStocks.getAllSectors());
+    }
+
+    /**
+     * 시장 하나의 종목 목록과 지표 상태 (스캔은 시장 단위로 직렬화)
+     */
+    private static final class Universe {
+        final String[] codes;
+        final String[] names;
+        final String[] sectors;
+        final String[] sectorNames;
+        final LocalDateTime[] lastApplied;
+        final UniverseSeries series;
+        long scanCount;
+        volatile MarketScanResult latest;
+
+        Universe(String[] codes, String[] names, String[] sectors, String[] sectorNames) {
+            this.codes = codes;
+            this.names = names;
+            this.sectors = sectors;
+            this.sectorNames = sectorNames;
+            this.lastApplied = new LocalDateTime[codes.length];
+            this.series = new UniverseSeries(codes.length, SMA_SHORT_PERIOD, SMA_LONG_PERIOD, RSI_PERIOD, VOLUME_PERIOD);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package trade.project.trading.scanner;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시장 스캐너 필터 신호 (종목별 플래그는 비트마스크로 보관)
+ */
+@Getter
+public enum ScanSignal {
+
+    RSI_OVERSOLD("RSI 과매도"),
+    RSI_OVERBOUGHT("RSI 과매수"),
+    GOLDEN_CROSS("단기 이동평균 상향 돌파"),
+    DEAD_CROSS("단기 이동평균 하향 돌파"),
+    VOLUME_SPIKE("거래량 급증");
+
+    private final String description;
+    private final int mask;
+
+    ScanSignal(String description) {
+        this.description = description;
+        this.mask = 1 << ordinal();
+    }
+
+    /**
+     * 비트마스크에 포함된 신호 목록
+     */
+    public static List<ScanSignal> fromMask(int flags) {
+        List<ScanSignal> signals = new ArrayList<>();
+        for (ScanSignal signal : values()) {
+            if ((flags & signal.mask) != 0) {
+                signals.add(signal);
+            }
+        }
+        return signals;
+    }
+}
@@ -0,0 +1,187 @@
+package trade.project.trading.scanner;
+
+import java.util.Arrays;
+
+/**
+ * 종목 유니버스 전체의 일자별 지표 상태 (종목 인덱스 기준 열 배열)
+ * 종목마다 객체를 두지 않고 지표별 double[]에 종목을 나란히 두어,
+ * 틱마다 evaluate() 한 번의 루프로 전 종목 필터를 계산한다.
+ * 이동평균/거래량 평균은 구간 합, RSI는 Wilder 평활을 증분 갱신하므로 봉 추가는 O(1)이다.
+ */
+final class UniverseSeries {
+
+    private final int size;
+    private final int smaShortPeriod;
+    private final int smaLongPeriod;
+    private final int rsiPeriod;
+    private final int volumePeriod;
+    private final int window; // 링 버퍼 길이 (가장 긴 구간)
+
+    // 링 버퍼: 봉 b의 종목 i 값은 [(b % window) * size + i]
+    private final double[] closes;
+    private final double[] volumes;
+
+    // 종목별 증분 상태
+    private final int[] barCount;
+    private final double[] lastClose;
+    private final double[] lastVolume;
+    private final double[] shortSum;
+    private final double[] longSum;
+    private final double[] volumeSum;
+    private final double[] prevShortSma;   // 마지막 봉 반영 전 단기 이동평균
+    private final double[] prevLongSma;    // 마지막 봉 반영 전 장기 이동평균
+    private final double[] prevVolumeAvg;  // 마지막 봉 이전 구간 평균 거래량
+    private final double[] avgGain;
+    private final double[] avgLoss;
+
+    // evaluate() 결과
+    final double[] rsi;
+    final double[] shortSma;
+    final double[] longSma;
+    final double[] volumeRatio;
+    final double[] score;
+    final int[] flags;
+
+    UniverseSeries(int size, int smaShortPeriod, int smaLongPeriod, int rsiPeriod, int volumePeriod) {
+        this.size = size;
+        this.smaShortPeriod = smaShortPeriod;
+        this.smaLongPeriod = smaLongPeriod;
+        this.rsiPeriod = rsiPeriod;
+        this.volumePeriod = volumePeriod;
+        this.window = Math.max(Math.max(smaShortPeriod, smaLongPeriod), volumePeriod);
+        this.closes = new double[window * size];
+        this.volumes = new double[window * size];
+        this.barCount = new int[size];
+        this.lastClose = new double[size];
+        this.lastVolume = new double[size];
+        this.shortSum = new double[size];
+        this.longSum = new double[size];
+        this.volumeSum = new double[size];
+        this.prevShortSma = new double[size];
+        this.prevLongSma = new double[size];
+        this.prevVolumeAvg = new double[size];
+        this.avgGain = new double[size];
+        this.avgLoss = new double[size];
+        this.rsi = new double[size];
+        this.shortSma = new double[size];
+        this.longSma = new double[size];
+        this.volumeRatio = new double[size];
+        this.score = new double[size];
+        this.flags = new int[size];
+        Arrays.fill(prevShortSma, Double.NaN);
+        Arrays.fill(prevLongSma, Double.NaN);
+        Arrays.fill(prevVolumeAvg, Double.NaN);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int barCount(int symbol) {
+        return barCount[symbol];
+    }
+
+    double lastClose(int symbol) {
+        return lastClose[symbol];
+    }
+
+    /**
+     * 종목 하나에 일자별 봉 추가 (구간에서 빠지는 값은 덮어쓰기 전에 합에서 뺀다)
+     */
+    void append(int symbol, double close, double volume) {
+        int n = barCount[symbol];
+
+        prevShortSma[symbol] = n >= smaShortPeriod ? shortSum[symbol] / smaShortPeriod : Double.NaN;
+        prevLongSma[symbol] = n >= smaLongPeriod ? longSum[symbol] / smaLongPeriod : Double.NaN;
+        prevVolumeAvg[symbol] = n >= volumePeriod ? volumeSum[symbol] / volumePeriod : Double.NaN;
+
+        if (n >= smaShortPeriod) shortSum[symbol] -= closes[slot(n - smaShortPeriod, symbol)];
+        if (n >= smaLongPeriod) longSum[symbol] -= closes[slot(n - smaLongPeriod, symbol)];
+        if (n >= volumePeriod) volumeSum[symbol] -= volumes[slot(n - volumePeriod, symbol)];
+
+        // RSI: 처음 rsiPeriod개 변화량은 단순 평균, 이후 Wilder 평활
+        if (n > 0) {
+            double change = close - lastClose[symbol];
+            double gain = Math.max(change, 0);
+            double loss = Math.max(-change, 0);
+            if (n < rsiPeriod) {
+                avgGain[symbol] += gain;
+                avgLoss[symbol] += loss;
+            } else if (n == rsiPeriod) {
+                avgGain[symbol] = (avgGain[symbol] + gain) / rsiPeriod;
+                avgLoss[symbol] = (avgLoss[symbol] + loss) / rsiPeriod;
+            } else {
+                avgGain[symbol] = (avgGain[symbol] * (rsiPeriod - 1) + gain) / rsiPeriod;
+                avgLoss[symbol] = (avgLoss[symbol] * (rsiPeriod - 1) + loss) / rsiPeriod;
+            }
+        }
+
+        closes[slot(n, symbol)] = close;
+        volumes[slot(n, symbol)] = volume;
+        shortSum[symbol] += close;
+        longSum[symbol] += close;
+        volumeSum[symbol] += volume;
+        lastClose[symbol] = close;
+        lastVolume[symbol] = volume;
+        barCount[symbol] = n + 1;
+    }
+
+    /**
+     * 전 종목 필터 평가 (한 번의 루프, 데이터가 부족한 지표는 NaN이라 비교가 모두 거짓)
+     * 점수 = RSI 이탈 정도 + 이동평균 교차(1) + 거래량 배율(1~3)
+     */
+    void evaluate(double rsiOversold, double rsiOverbought, double volumeSpikeRatio) {
+        int oversoldMask = ScanSignal.RSI_OVERSOLD.getMask();
+        int overboughtMask = ScanSignal.RSI_OVERBOUGHT.getMask();
+        int goldenMask = ScanSignal.GOLDEN_CROSS.getMask();
+        int deadMask = ScanSignal.DEAD_CROSS.getMask();
+        int volumeMask = ScanSignal.VOLUME_SPIKE.getMask();
+
+        for (int i = 0; i < size; i++) {
+            int n = barCount[i];
+            double shortNow = n >= smaShortPeriod ? shortSum[i] / smaShortPeriod : Double.NaN;
+            double longNow = n >= smaLongPeriod ? longSum[i] / smaLongPeriod : Double.NaN;
+            double rsiNow = n > rsiPeriod ? rsiOf(avgGain[i], avgLoss[i]) : Double.NaN;
+            double ratio = prevVolumeAvg[i] > 0 ? lastVolume[i] / prevVolumeAvg[i] : Double.NaN;
+
+            int f = 0;
+            double s = 0;
+            if (rsiNow < rsiOversold) {
+                f |= oversoldMask;
+                s += (rsiOversold - rsiNow) / rsiOversold;
+            } else if (rsiNow > rsiOverbought) {
+                f |= overboughtMask;
+                s += (rsiNow - rsiOverbought) / (100 - rsiOverbought);
+            }
+            if (prevShortSma[i] <= prevLongSma[i] && shortNow > longNow) {
+                f |= goldenMask;
+                s += 1;
+            } else if (prevShortSma[i] >= prevLongSma[i] && shortNow < longNow) {
+                f |= deadMask;
+                s += 1;
+            }
+            if (ratio >= volumeSpikeRatio) {
+                f |= volumeMask;
+                s += Math.min(ratio / volumeSpikeRatio, 3);
+            }
+
+            rsi[i] = rsiNow;
+            shortSma[i] = shortNow;
+            longSma[i] = longNow;
+            volumeRatio[i] = ratio;
+            flags[i] = f;
+            score[i] = s;
+        }
+    }
+
+    private int slot(int bar, int symbol) {
+        return (bar % window) * size + symbol;
+    }
+
+    private static double rsiOf(double gain, double loss) {
+        if (loss == 0) {
+            return gain == 0 ? 50 : 100;
+        }
+        return 100 - 100 / (1 + gain / loss);
+    }
+}
@@ -17,6 +17,7 @@ import trade.project.api.dto.ForeignStockPriceResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -179,6 +180,22 @@ public class PriceQueryRecordService {
         return priceQueryRecordRepository.findByStockCodeAndQueryTypeOrderByQueryDateTimeDesc(stockCode, queryType);
     }
 
+    /**
+     * 종목/조회유형/기간별 성공 기록을 시간순 스트림으로 조회 (호출 측에서 close 필요)
+     */
+    public Stream<PriceQueryRecord> streamSuccessRecordsAsc(String stockCode, String queryType, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        return priceQueryRecordRepository.streamByStockCodeAndQueryTypeAndErrorCodeIsNullAndQueryDateTimeBetweenOrderByQueryDateTimeAsc(
+                stockCode, queryType, startDateTime, endDateTime);
+    }
+
+    /**
+     * 기간 내 종목/조회유형별 기록을 시간순으로 조회
+     */
+    public List<PriceQueryRecord> findByStockCodeAndQueryTypeBetweenAsc(String stockCode, String queryType, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        return priceQueryRecordRepository.findByStockCodeAndQueryTypeAndQueryDateTimeBetweenOrderByQueryDateTimeAsc(
+                stockCode, queryType, startDateTime, endDateTime);
+    }
+
     /**
      * 기간별 시세 조회 기록 조회
      */
@@ -9,9 +9,12 @@ import trade.project.api.dto.StockOrderRequest;
 import trade.project.api.dto.StockOrderResponse;
 import trade.project.api.dto.ForeignStockOrderRequest;
 import trade.project.api.dto.ForeignStockOrderResponse;
+import trade.project.api.service.FxRateService;
 import trade.project.trading.entity.TradingRecord;
 import trade.project.trading.repository.TradingRecordRepository;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -22,6 +25,10 @@ public class TradingRecordService {
 
     private final TradingRecordRepository tradingRecordRepository;
     private final ObjectMapper objectMapper;
+    private final FxRateService fxRateService;
+
+    private static final String DOMESTIC_CURRENCY = "KRW";
+    private static final BigDecimal COMMISSION_RATE = new BigDecimal("0.00015"); // 0.015% 수수료
 
     /**
      * 매매 기록 저장
@@ -36,6 +43,8 @@ public class TradingRecordService {
                     .orderType(request.getOrderType())
                     .quantity(request.getQuantity())
                     .price(request.getPrice())
+                    .unitPrice(request.getPrice() != null ? BigDecimal.valueOf(request.getPrice()) : null)
+                    .currency(DOMESTIC_CURRENCY)
                     .priceType(request.getPriceType())
                     .orderStatus(response.getOrderStatus())
                     .orderCategory(request.getOrderCategory())
@@ -73,14 +82,19 @@ public class TradingRecordService {
     
     /**
      * 해외 주식 매매 기록 저장
+     * 주문가격은 unitPrice에 소수점 그대로 남기고, price/totalAmount/commission은 주문 시점 환율로 환산한 원화 금액으로 저장한다.
+     * 환율을 조회할 수 없으면 원화 컬럼과 exchangeRate는 비워 두고 unitPrice/currency만 저장한다. (달러 금액을 원화 컬럼에 넣지 않음)
      */
     public TradingRecord saveForeignTradingRecord(ForeignStockOrderRequest request, ForeignStockOrderResponse response, String status, HttpServletRequest httpRequest) {
         try {
             String orderNumber = response != null ? response.getOrderNumber() : "UNKNOWN";
-            String executedPrice = response != null && response.getExecutedPrice() != null ? 
-                    response.getExecutedPrice().toString() : "0";
-            String executedQuantity = response != null && response.getExecutedQuantity() != null ? 
-                    response.getExecutedQuantity().toString() : "0";
+            BigDecimal unitPrice = request.getPrice();
+            BigDecimal exchangeRate = currentUsdKrw();
+            BigDecimal orderAmount = unitPrice != null && request.getQuantity() != null
+                    ? unitPrice.multiply(BigDecimal.valueOf(request.getQuantity())) : null;
+            BigDecimal krwPrice = toKrw(unitPrice, exchangeRate);
+            BigDecimal krwAmount = toKrw(orderAmount, exchangeRate);
+            BigDecimal krwCommission = orderAmount != null ? toKrw(orderAmount.multiply(COMMISSION_RATE), exchangeRate) : null;
             
             TradingRecord tradingRecord = TradingRecord.builder()
                     .orderNumber(orderNumber)
@@ -89,13 +103,16 @@ public class TradingRecordService {
                     .stockName(response != null ? response.getCompanyName() : "Unknown")
                     .orderType(request.getOrderType())
                     .quantity(request.getQuantity())
-                    .price(request.getPrice().intValue())
+                    .price(krwPrice != null ? krwPrice.intValue() : null)
+                    .unitPrice(unitPrice)
+                    .currency(request.getCurrency())
+                    .exchangeRate(exchangeRate)
                     .priceType(request.getPriceType())
                     .orderStatus(status)
                     .orderCategory(request.getOrderCategory())
                     .originalOrderNumber(null)
-                    .totalAmount(calculateTotalAmount(request.getQuantity(), request.getPrice().intValue()))
-                    .commission(calculateCommission(request.getQuantity(), request.getPrice().intValue()))
+                    .totalAmount(krwAmount != null ? krwAmount.longValue() : null)
+                    .commission(krwCommission != null ? krwCommission.intValue() : null)
                     .errorCode(status.equals("실패") ? "FOREIGN_ORDER_ERROR" : null)
                     .errorMessage(status.equals("실패") ? "해외 주식 주문 실패" : null)
                     .apiResponse("Foreign Stock Order")
@@ -226,6 +243,28 @@ public class TradingRecordService {
         );
     }
 
+    /**
+     * 주문 시점 원/달러 환율 (조회 불가 시 null)
+     */
+    private BigDecimal currentUsdKrw() {
+        try {
+            return fxRateService.usdKrw();
+        } catch (Exception e) {
+            log.warn("환율 조회 실패로 원화 환산 금액 없이 저장: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 원화 환산 (원 단위 반올림, 금액이나 환율이 없으면 null)
+     */
+    private static BigDecimal toKrw(BigDecimal amount, BigDecimal exchangeRate) {
+        if (amount == null || exchangeRate == null) {
+            return null;
+        }
+        return amount.multiply(exchangeRate).setScale(0, RoundingMode.HALF_UP);
+    }
+
     /**
      * 총 거래금액 계산
      */
@@ -11,6 +11,8 @@ import trade.project.api.dto.StockPriceRequest;
 import trade.project.api.dto.StockPriceResponse;
 import trade.project.api.dto.StockDailyPriceRequest;
 import trade.project.api.dto.StockDailyPriceResponse;
+import trade.project.api.service.BulkQuoteService;
+import trade.project.api.service.QuotePushService;
 import trade.project.api.service.StockPriceService;
 
 import java.time.LocalDate;
@@ -31,6 +33,12 @@ class StockPriceControllerTest {
     @MockBean
     private StockPriceService stockPriceService;
 
+    @MockBean
+    private BulkQuoteService bulkQuoteService;
+
+    @MockBean
+    private QuotePushService quotePushService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -0,0 +1,151 @@
+package trade.project.api.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import trade.project.api.dto.BulkQuoteItem;
+import trade.project.api.dto.BulkQuoteSummary;
+import trade.project.common.dto.ApiResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("일괄 시세 조회 테스트")
+class BulkQuoteServiceTest {
+
+    private static final int POOL_SIZE = 2;
+
+    private BulkQuoteService bulkQuoteService;
+
+    @BeforeEach
+    void setUp() {
+        bulkQuoteService = new BulkQuoteService(null, null, Executors.newFixedThreadPool(POOL_SIZE));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkQuoteService.shutdown();
+    }
+
+    @Test
+    @DisplayName("결과는 요청 순서가 아니라 도착 순서대로 전달")
+    void fetchAll_StreamsInCompletionOrder() throws Exception {
+        // Given: 느린 종목은 빠른 종목 결과가 전달된 뒤에야 끝난다
+        CountDownLatch fastDelivered = new CountDownLatch(1);
+        List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+
+        // When
+        BulkQuoteSummary summary = bulkQuoteService.<String>fetchAll(List.of("SLOW", "FAST"), stockCode -> {
+            if (stockCode.equals("SLOW")) {
+                await(fastDelivered);
+            }
+            return ApiResponse.success(stockCode + "-quote");
+        }, item -> {
+            delivered.add(item.getStockCode());
+            if (item.getStockCode().equals("FAST")) {
+                fastDelivered.countDown();
+            }
+        }).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(List.of("FAST", "SLOW"), delivered);
+        assertEquals(2, summary.getRequested());
+        assertEquals(2, summary.getSucceeded());
+        assertEquals(0, summary.getFailed());
+    }
+
+    @Test
+    @DisplayName("동시 조회 수는 작업 풀 크기를 넘지 않고, 중복 종목은 한 번만 조회")
+    void fetchAll_BoundsParallelismAndDeduplicates() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        AtomicInteger calls = new AtomicInteger();
+        List<BulkQuoteItem<String>> items = new ArrayList<>();
+
+        BulkQuoteSummary summary = bulkQuoteService.<String>fetchAll(
+                Arrays.asList("005930", " 005930 ", "000660", "035420", "aapl", "MSFT", "AAPL", "", null),
+                stockCode -> {
+                    calls.incrementAndGet();
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    sleep(20);
+                    inFlight.decrementAndGet();
+                    return ApiResponse.success(stockCode);
+                }, items::add).get(5, TimeUnit.SECONDS);
+
+        assertEquals(5, summary.getRequested());
+        assertEquals(5, calls.get());
+        assertEquals(5, items.size());
+        assertTrue(maxInFlight.get() <= POOL_SIZE);
+        BulkQuoteItem<String> apple = items.stream().filter(item -> item.getStockCode().equals("AAPL")).findFirst().orElseThrow();
+        assertEquals(3, apple.getIndex());
+        assertEquals("AAPL", apple.getQuote());
+    }
+
+    @Test
+    @DisplayName("종목별 실패는 결과 항목으로 전달하고 나머지 종목은 계속 조회")
+    void fetchAll_ReportsFailuresPerItem() throws Exception {
+        List<BulkQuoteItem<String>> items = Collections.synchronizedList(new ArrayList<>());
+
+        BulkQuoteSummary summary = bulkQuoteService.<String>fetchAll(List.of("005930", "BAD", "ERR"), stockCode -> {
+            if (stockCode.equals("BAD")) {
+                throw new IllegalStateException("응답 형식 오류");
+            }
+            if (stockCode.equals("ERR")) {
+                return ApiResponse.error("FOREIGN_STOCK_API_ERROR", "API 호출 실패");
+            }
+            return ApiResponse.success("70000");
+        }, items::add).get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, summary.getSucceeded());
+        assertEquals(2, summary.getFailed());
+        BulkQuoteItem<String> bad = find(items, "BAD");
+        assertFalse(bad.getSuccess());
+        assertEquals("PRICE_QUERY_ERROR", bad.getErrorCode());
+        assertEquals("응답 형식 오류", bad.getErrorMessage());
+        assertEquals("FOREIGN_STOCK_API_ERROR", find(items, "ERR").getErrorCode());
+        assertTrue(find(items, "005930").getSuccess());
+    }
+
+    @Test
+    @DisplayName("빈 목록/최대 종목 수 초과 요청 거부")
+    void normalizeCodes_InvalidRequests_ThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> BulkQuoteService.normalizeCodes(null));
+        assertThrows(IllegalArgumentException.class, () -> BulkQuoteService.normalizeCodes(List.of(" ")));
+
+        List<String> tooMany = new ArrayList<>();
+        for (int i = 0; i <= BulkQuoteService.MAX_CODES; i++) {
+            tooMany.add(String.format("%06d", i));
+        }
+        assertThrows(IllegalArgumentException.class, () -> BulkQuoteService.normalizeCodes(tooMany));
+    }
+
+    private static BulkQuoteItem<String> find(List<BulkQuoteItem<String>> items, String stockCode) {
+        return items.stream().filter(item -> item.getStockCode().equals(stockCode)).findFirst().orElseThrow();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
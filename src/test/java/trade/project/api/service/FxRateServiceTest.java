@@ -0,0 +1,69 @@
+package trade.project.api.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("환율 조회 테스트")
+class FxRateServiceTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicReference<BigDecimal> upstream = new AtomicReference<>(new BigDecimal("1380.50"));
+    private final List<Runnable> refreshes = new ArrayList<>();
+
+    private final FxRateService fxRateService = new FxRateService(() -> {
+        loads.incrementAndGet();
+        BigDecimal rate = upstream.get();
+        if (rate == null) {
+            throw new IllegalStateException("서킷 열림");
+        }
+        return rate;
+    }, nanos::get, refreshes::add);
+
+    @Test
+    @DisplayName("5분간 캐시하고 이후에는 이전 환율을 주면서 백그라운드 갱신")
+    void usdKrw_CachedThenRefreshedInBackground() {
+        assertEquals(new BigDecimal("1380.50"), fxRateService.usdKrw());
+        advanceMinutes(4);
+        assertEquals(new BigDecimal("1380.50"), fxRateService.usdKrw());
+        assertEquals(1, loads.get());
+
+        upstream.set(new BigDecimal("1392.10"));
+        advanceMinutes(2);
+        assertEquals(new BigDecimal("1380.50"), fxRateService.usdKrw());
+        assertEquals(1, refreshes.size());
+        refreshes.remove(0).run();
+
+        assertEquals(new BigDecimal("1392.10"), fxRateService.usdKrw());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("상위 API 장애 시 6시간까지 마지막 환율 사용, 이후에는 예외")
+    void usdKrw_StaleIfErrorThenFails() {
+        fxRateService.usdKrw();
+        upstream.set(null);
+
+        advanceMinutes(5 * 60);
+        assertEquals(new BigDecimal("1380.50"), fxRateService.usdKrw());
+        assertEquals("STALE", fxRateService.status().get("cacheStatus"));
+
+        advanceMinutes(71); // 신선 5분 + stale 5분 + 6시간 경과
+        assertThrows(IllegalStateException.class, fxRateService::usdKrw);
+        assertNotNull(fxRateService.status().get("error"));
+    }
+
+    private void advanceMinutes(long minutes) {
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(minutes));
+    }
+}
@@ -0,0 +1,182 @@
+package trade.project.api.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import trade.project.trading.enums.TradingSchedule;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("현재가 캐시 테스트")
+class QuoteCacheTest {
+
+    private static final long FRESH_MILLIS = 1_000;
+    private static final long STALE_MILLIS = 1_000;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final List<Runnable> refreshes = new ArrayList<>();
+    private final ExecutorService callers = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("유지 시간 안에는 캐시, 만료 직후에는 이전 값 반환 후 백그라운드 갱신, 그 뒤에는 직접 조회")
+    void get_FreshStaleAndExpired() {
+        // Given: 백그라운드 갱신은 직접 실행할 때까지 보류
+        QuoteCache<String> cache = new QuoteCache<>(code -> code + "@" + loads.incrementAndGet(),
+                code -> new QuoteCache.Ttl(FRESH_MILLIS, STALE_MILLIS), refreshes::add, nanos::get);
+
+        // 첫 조회는 직접 조회
+        QuoteCache.Lookup<String> first = cache.get("005930");
+        assertEquals("005930@1", first.value());
+        assertEquals(QuoteCache.Status.MISS, first.status());
+
+        // 유지 시간 안
+        advance(500);
+        QuoteCache.Lookup<String> hit = cache.get("005930");
+        assertEquals(QuoteCache.Status.HIT, hit.status());
+        assertEquals(500, hit.ageMillis());
+        assertEquals(1, loads.get());
+
+        // 만료 직후: 이전 값을 주고 갱신은 한 번만 예약
+        advance(700);
+        QuoteCache.Lookup<String> stale = cache.get("005930");
+        assertEquals("005930@1", stale.value());
+        assertEquals(QuoteCache.Status.STALE, stale.status());
+        assertEquals(1_200, stale.ageMillis());
+        refreshes.remove(0).run();
+        assertEquals(2, loads.get());
+        assertEquals(QuoteCache.Status.HIT, cache.get("005930").status());
+        assertEquals("005930@2", cache.get("005930").value());
+
+        // stale 구간도 지나면 직접 조회
+        advance(FRESH_MILLIS + STALE_MILLIS);
+        QuoteCache.Lookup<String> expired = cache.get("005930");
+        assertEquals(QuoteCache.Status.MISS, expired.status());
+        assertEquals("005930@3", expired.value());
+        assertEquals(0, expired.ageMillis());
+        assertTrue(refreshes.isEmpty());
+    }
+
+    @Test
+    @DisplayName("같은 종목 동시 요청은 상위 조회 1건을 함께 기다림")
+    void get_ConcurrentMisses_Coalesce() throws Exception {
+        CountDownLatch loaderEntered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        QuoteCache<String> cache = new QuoteCache<>(code -> {
+            loads.incrementAndGet();
+            loaderEntered.countDown();
+            await(release);
+            return code + "-quote";
+        }, code -> new QuoteCache.Ttl(FRESH_MILLIS, STALE_MILLIS), Runnable::run, nanos::get);
+
+        List<Future<QuoteCache.Lookup<String>>> results = new ArrayList<>();
+        results.add(callers.submit(() -> cache.get("005930")));
+        await(loaderEntered);
+        for (int i = 0; i < 7; i++) {
+            results.add(callers.submit(() -> cache.get("005930")));
+        }
+        waitUntil(() -> (Long) cache.stats().get("coalesced") == 7L);
+        release.countDown();
+
+        for (Future<QuoteCache.Lookup<String>> result : results) {
+            assertEquals("005930-quote", result.get(5, TimeUnit.SECONDS).value());
+        }
+        assertEquals(1, loads.get());
+        assertEquals(QuoteCache.Status.HIT, cache.get("005930").status());
+    }
+
+    @Test
+    @DisplayName("조회 실패는 캐시하지 않고 다음 요청에서 다시 조회")
+    void get_FailureNotCached() {
+        QuoteCache<String> cache = new QuoteCache<>(code -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IllegalStateException("API 호출 실패");
+            }
+            return code + "-quote";
+        }, code -> new QuoteCache.Ttl(FRESH_MILLIS, STALE_MILLIS), Runnable::run, nanos::get);
+
+        CompletionException error = assertThrows(CompletionException.class, () -> cache.get("005930"));
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+        assertEquals(0, cache.size());
+
+        assertEquals("005930-quote", cache.get("005930").value());
+        assertEquals(2, loads.get());
+        assertEquals(1L, cache.stats().get("loadFailures"));
+    }
+
+    @Test
+    @DisplayName("상위 장애 시 stale-if-error 구간 안에서는 이전 값을 stale로 반환")
+    void get_LoadFailure_ServesStaleWithinErrorWindow() {
+        // Given: 첫 조회 이후 상위 API 장애
+        long errorMillis = 5_000;
+        QuoteCache<String> cache = new QuoteCache<>(code -> {
+            if (loads.incrementAndGet() > 1) {
+                throw new IllegalStateException("서킷 열림");
+            }
+            return code + "-quote";
+        }, code -> new QuoteCache.Ttl(FRESH_MILLIS, STALE_MILLIS, errorMillis), Runnable::run, nanos::get);
+        cache.get("005930");
+
+        // When: stale 구간이 지난 뒤 조회 실패
+        advance(FRESH_MILLIS + STALE_MILLIS + 1_000);
+        QuoteCache.Lookup<String> fallback = cache.get("005930");
+
+        // Then: 이전 값을 stale로 반환
+        assertEquals("005930-quote", fallback.value());
+        assertEquals(QuoteCache.Status.STALE, fallback.status());
+        assertEquals(FRESH_MILLIS + STALE_MILLIS + 1_000, fallback.ageMillis());
+        assertEquals(1L, cache.stats().get("staleOnError"));
+
+        // 대체 구간도 지나면 실패 전달
+        advance(errorMillis);
+        assertThrows(CompletionException.class, () -> cache.get("005930"));
+    }
+
+    @Test
+    @DisplayName("현재가 유지 시간은 시간대 조회 주기를 따름")
+    void quoteTtl_FollowsTradingSchedule() {
+        assertEquals(TradingSchedule.MARKET_OPEN, TradingSchedule.scheduleAt(LocalTime.of(9, 10)));
+        assertEquals(500, TradingSchedule.scheduleAt(LocalTime.of(9, 10)).getQuoteTtlMillis());
+        assertEquals(3_000, TradingSchedule.scheduleAt(LocalTime.of(10, 0)).getQuoteTtlMillis());
+        assertEquals(9_000, TradingSchedule.scheduleAt(LocalTime.of(21, 0)).getQuoteTtlMillis());
+    }
+
+    private void advance(long millis) {
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(5);
+        }
+    }
+}
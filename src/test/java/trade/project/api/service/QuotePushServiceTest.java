@@ -0,0 +1,194 @@
+package trade.project.api.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import trade.project.trading.enums.MarketType;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("실시간 시세 푸시 테스트")
+class QuotePushServiceTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final ExecutorService sendExecutor = Executors.newFixedThreadPool(2);
+    private QuotePushService quotePushService;
+
+    @BeforeEach
+    void setUp() {
+        // 조회는 호출 스레드에서 바로 실행, 전송은 별도 스레드
+        quotePushService = new QuotePushService((marketType, stockCode) -> stockCode + "@" + fetches.incrementAndGet(),
+                Runnable::run, sendExecutor, nanos::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sendExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("구독자 수와 무관하게 종목당 주기마다 한 번만 조회")
+    void pollOnce_FetchesEachSymbolOncePerInterval() throws Exception {
+        // Given
+        List<Recorder> recorders = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Recorder recorder = new Recorder(1);
+            quotePushService.register(MarketType.DOMESTIC, List.of("005930"), recorder);
+            recorders.add(recorder);
+        }
+        Recorder hynix = new Recorder(1);
+        quotePushService.register(MarketType.DOMESTIC, List.of("000660"), hynix);
+
+        // When
+        quotePushService.pollOnce();
+
+        // Then
+        assertEquals(2, fetches.get());
+        for (Recorder recorder : recorders) {
+            recorder.await();
+            assertTrue(recorder.received.get(0).startsWith("005930@"));
+        }
+        hynix.await();
+
+        quotePushService.pollOnce(); // 주기 안에는 다시 조회하지 않음
+        assertEquals(2, fetches.get());
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(QuotePushService.POLL_INTERVAL_MILLIS));
+        quotePushService.pollOnce();
+        assertEquals(4, fetches.get());
+    }
+
+    @Test
+    @DisplayName("엔진이 방금 배포한 종목은 폴러가 따로 조회하지 않음")
+    void publish_FromEngine_SkipsUpstreamPoll() throws Exception {
+        Recorder recorder = new Recorder(1);
+        quotePushService.register(MarketType.DOMESTIC, List.of("005930"), recorder);
+
+        quotePushService.publish(MarketType.DOMESTIC, "005930", "engine-quote");
+        quotePushService.pollOnce();
+
+        recorder.await();
+        assertEquals(List.of("engine-quote"), recorder.received);
+        assertEquals(0, fetches.get());
+    }
+
+    @Test
+    @DisplayName("느린 구독자는 밀린 시세 대신 최신 시세만 받음")
+    void offer_SlowSubscriber_ReceivesLatestOnly() throws Exception {
+        // Given: 첫 전송에서 막히는 구독자
+        CountDownLatch firstSendStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Recorder slow = new Recorder(2) {
+            @Override
+            public void send(String stockCode, Object quote) throws IOException {
+                if (received.isEmpty()) {
+                    firstSendStarted.countDown();
+                    QuotePushServiceTest.await(release);
+                }
+                super.send(stockCode, quote);
+            }
+        };
+        quotePushService.register(MarketType.FOREIGN, List.of("AAPL"), slow);
+
+        // When
+        quotePushService.publish(MarketType.FOREIGN, "AAPL", "q1");
+        await(firstSendStarted);
+        quotePushService.publish(MarketType.FOREIGN, "AAPL", "q2");
+        quotePushService.publish(MarketType.FOREIGN, "AAPL", "q3");
+        quotePushService.publish(MarketType.FOREIGN, "AAPL", "q4");
+        release.countDown();
+
+        // Then
+        slow.await();
+        assertEquals(List.of("q1", "q4"), slow.received);
+        assertEquals(2L, quotePushService.status().get("conflated"));
+    }
+
+    @Test
+    @DisplayName("새 구독자는 최근 시세를 바로 받고, 전송 실패/해제 후에는 배포 대상에서 빠짐")
+    void register_SendsLatestAndUnregistersClosedConnections() throws Exception {
+        quotePushService.publish(MarketType.DOMESTIC, "005930", "last");
+        Recorder recorder = new Recorder(1);
+        QuotePushService.Subscriber subscriber = quotePushService.register(MarketType.DOMESTIC, List.of("005930"), recorder);
+        recorder.await();
+        assertEquals(List.of("last"), recorder.received);
+
+        CountDownLatch failed = new CountDownLatch(1);
+        quotePushService.register(MarketType.DOMESTIC, List.of("000660"), (stockCode, quote) -> {
+            failed.countDown();
+            throw new IOException("Broken pipe");
+        });
+        quotePushService.publish(MarketType.DOMESTIC, "000660", "q1");
+        await(failed);
+
+        quotePushService.unregister(subscriber);
+        waitUntil(() -> (Integer) quotePushService.status().get("connections") == 0);
+        assertEquals(0, quotePushService.status().get("subscribedSymbols"));
+        quotePushService.pollOnce();
+        assertEquals(0, fetches.get());
+    }
+
+    @Test
+    @DisplayName("구독 종목 수 제한")
+    void subscribe_TooManySymbols_ThrowsException() {
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i <= QuotePushService.MAX_SYMBOLS_PER_SUBSCRIPTION; i++) {
+            codes.add(String.format("%06d", i));
+        }
+        assertThrows(IllegalArgumentException.class, () -> quotePushService.subscribe(MarketType.DOMESTIC, codes));
+        assertThrows(IllegalArgumentException.class, () -> quotePushService.subscribe(MarketType.DOMESTIC, List.of()));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * 받은 시세 기록 (expected건 받으면 await 통과)
+     */
+    private static class Recorder implements QuotePushService.QuoteSink {
+        final List<String> received = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch done;
+
+        Recorder(int expected) {
+            this.done = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void send(String stockCode, Object quote) throws IOException {
+            received.add((String) quote);
+            done.countDown();
+        }
+
+        void await() {
+            QuotePushServiceTest.await(done);
+        }
+    }
+}
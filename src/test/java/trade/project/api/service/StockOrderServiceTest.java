@@ -5,19 +5,26 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import trade.project.api.client.KisApiClient;
 import trade.project.api.dto.StockOrderRequest;
 import trade.project.api.dto.StockOrderResponse;
 import trade.project.api.dto.OrderStatusRequest;
 import trade.project.common.exception.ApiException;
+import trade.project.trading.risk.OrderGuard;
 
+import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +33,9 @@ class StockOrderServiceTest {
     @Mock
     private KisApiClient kisApiClient;
 
+    @Spy
+    private OrderGuard orderGuard = new OrderGuard();
+
     @InjectMocks
     private StockOrderService stockOrderService;
 
@@ -206,6 +216,31 @@ class StockOrderServiceTest {
         assertEquals("주문번호를 찾을 수 없습니다", response.getErrorMessage());
     }
 
+    @Test
+    void getDailyOrderExecutions_OneCallPerAccount_DerivesStatus() {
+        // Given: 계좌 주문 내역 한 번 조회에 주문 4건
+        when(kisApiClient.getDailyOrderExecutions("1234567890", "20240628", "20240628"))
+                .thenReturn(List.of(
+                        executionRow("0001", "10", "10", "70100.0000", "N", "0"),
+                        executionRow("0002", "10", "4", "70050", "N", "0"),
+                        executionRow("0003", "10", "0", "0", "Y", "0"),
+                        executionRow("0004", "10", "0", "0", "N", "10")));
+
+        // When
+        List<StockOrderResponse> executions = stockOrderService.getDailyOrderExecutions("1234567890", LocalDate.of(2024, 6, 28));
+
+        // Then
+        assertEquals(4, executions.size());
+        assertEquals("체결", executions.get(0).getOrderStatus());
+        assertEquals(10, executions.get(0).getExecutedQuantity());
+        assertEquals(70100, executions.get(0).getExecutedPrice());
+        assertEquals("매수", executions.get(0).getOrderType());
+        assertEquals("부분체결", executions.get(1).getOrderStatus());
+        assertEquals("취소", executions.get(2).getOrderStatus());
+        assertEquals("거부", executions.get(3).getOrderStatus());
+        verify(kisApiClient, never()).getOrderStatus(anyString(), anyString());
+    }
+
     @Test
     void executeOrder_CancelOrder_Success() {
         // Given
@@ -269,4 +304,71 @@ class StockOrderServiceTest {
         assertEquals(15, response.getQuantity());
         assertEquals(75000, response.getPrice());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void executeOrder_KillSwitchEngaged_BlocksOrder() {
+        // Given
+        orderGuard.engageKillSwitch("장 시작 이상 체결");
+
+        // When
+        StockOrderResponse response = stockOrderService.executeOrder(buyOrderRequest);
+
+        // Then
+        assertEquals("KILL_SWITCH", response.getErrorCode());
+        assertEquals("주문 차단", response.getOrderStatus());
+        verify(kisApiClient, never()).executeStockOrder(any(Map.class));
+
+        // 해제 후에는 정상 전송
+        orderGuard.releaseKillSwitch();
+        Map<String, Object> mockResponse = new HashMap<>();
+        mockResponse.put("rt_cd", "0");
+        when(kisApiClient.executeStockOrder(any(Map.class))).thenReturn(mockResponse);
+        assertEquals("주문이 정상적으로 접수되었습니다.", stockOrderService.executeOrder(buyOrderRequest).getMessage());
+    }
+
+    @Test
+    void executeOrder_KillSwitchEngaged_AllowsCancelOrder() {
+        // Given
+        orderGuard.engageKillSwitch("장 시작 이상 체결");
+        StockOrderRequest cancelOrderRequest = StockOrderRequest.builder()
+                .accountNumber("1234567890")
+                .stockCode("005930")
+                .orderType("매수")
+                .quantity(10)
+                .price(70000)
+                .priceType("지정가")
+                .orderCategory("취소")
+                .originalOrderNumber("202312010001")
+                .build();
+        Map<String, Object> mockResponse = new HashMap<>();
+        mockResponse.put("rt_cd", "0");
+        when(kisApiClient.executeStockOrder(any(Map.class))).thenReturn(mockResponse);
+
+        // When: 킬 스위치 작동 중에도 종목 빈도 한도(3건)를 넘는 취소 주문까지 모두 전송
+        for (int i = 0; i < OrderGuard.DEFAULT_SYMBOL_LIMIT + 1; i++) {
+            StockOrderResponse response = stockOrderService.executeOrder(cancelOrderRequest);
+            assertNull(response.getErrorCode());
+        }
+
+        // Then
+        verify(kisApiClient, times(OrderGuard.DEFAULT_SYMBOL_LIMIT + 1)).executeStockOrder(any(Map.class));
+        verify(orderGuard, never()).tryAcquire(anyString(), anyString());
+        orderGuard.releaseKillSwitch();
+    }
+
+    private static Map<String, Object> executionRow(String orderNumber, String quantity, String executed,
+                                                    String averagePrice, String cancelled, String rejected) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("ODNO", orderNumber);
+        row.put("PDNO", "005930");
+        row.put("PRDT_NAME", "삼성전자");
+        row.put("SLL_BUY_DVSN_CD", "02");
+        row.put("ORD_QTY", quantity);
+        row.put("ORD_UNPR", "70000");
+        row.put("TOT_CCLD_QTY", executed);
+        row.put("AVG_PRVS", averagePrice);
+        row.put("CNCL_YN", cancelled);
+        row.put("RJCT_QTY", rejected);
+        return row;
+    }
+}
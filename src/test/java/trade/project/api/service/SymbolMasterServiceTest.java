@@ -0,0 +1,196 @@
+package trade.project.api.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import trade.project.api.dto.SymbolInfo;
+import trade.project.api.entity.Stock;
+import trade.project.api.repository.StockRepository;
+import trade.project.trading.enums.MarketType;
+import trade.project.trading.enums.TopKospiStocks;
+import trade.project.trading.enums.TopNasdaqStocks;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SymbolMasterServiceTest {
+
+    private static final int SEED_SIZE = TopKospiStocks.values().length + TopNasdaqStocks.values().length;
+
+    @Mock
+    private StockRepository stockRepository;
+
+    private MutableClock clock;
+    private SymbolMasterService symbolMasterService;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-03-04T00:00:00Z"));
+        symbolMasterService = new SymbolMasterService(stockRepository, clock);
+    }
+
+    @Test
+    void refresh_SeedsTopStocksAndAppliesDatabase() {
+        // Given
+        when(stockRepository.findAll()).thenReturn(List.of(
+                stock("005930", "삼성전자보통주", "KOSPI", "전기전자"),
+                stock("0126Z0", "신규상장", "KOSDAQ", "서비스업")));
+
+        // When
+        int size = symbolMasterService.refresh();
+
+        // Then
+        assertEquals(SEED_SIZE + 1, size);
+        SymbolInfo samsung = symbolMasterService.findByCode("005930");
+        assertEquals(0, samsung.getSymbolId());
+        assertEquals("삼성전자보통주", samsung.getStockName());
+        SymbolInfo listed = symbolMasterService.findByCode("0126Z0");
+        assertEquals(SEED_SIZE, listed.getSymbolId());
+        assertEquals(MarketType.DOMESTIC, listed.getMarketType());
+        assertSame(listed, symbolMasterService.findById(SEED_SIZE));
+        assertSame(listed, symbolMasterService.findByName(MarketType.DOMESTIC, "신규상장"));
+
+        SymbolInfo apple = symbolMasterService.findByCode("AAPL");
+        assertEquals(MarketType.FOREIGN, apple.getMarketType());
+        assertEquals("Apple Inc.", apple.getCompanyName());
+        assertSame(apple, symbolMasterService.findByName(MarketType.FOREIGN, "애플"));
+        assertTrue(symbolMasterService.getSectors(MarketType.FOREIGN).contains("Technology"));
+    }
+
+    @Test
+    void refresh_KeepsSymbolIdsAndDeactivatesRemovedStocks() {
+        // Given
+        when(stockRepository.findAll())
+                .thenReturn(List.of(stock("111111", "상장폐지예정", "KOSDAQ", "바이오")))
+                .thenReturn(List.of(stock("222222", "신규상장", "KOSDAQ", "바이오")));
+        symbolMasterService.refresh();
+        int removedId = symbolMasterService.symbolIdOf("111111");
+
+        // When
+        symbolMasterService.refresh();
+
+        // Then
+        SymbolInfo removed = symbolMasterService.findByCode("111111");
+        assertEquals(removedId, removed.getSymbolId());
+        assertFalse(removed.isActive());
+        assertEquals(removedId + 1, symbolMasterService.symbolIdOf("222222"));
+        assertEquals(0, symbolMasterService.symbolIdOf("005930"));
+        List<SymbolInfo> bio = symbolMasterService.findBySector(MarketType.DOMESTIC, "바이오");
+        assertEquals(1, bio.size());
+        assertEquals("222222", bio.get(0).getStockCode());
+        assertEquals(2, symbolMasterService.getRefreshCount());
+    }
+
+    @Test
+    void findByCode_UnknownCode_LoadsNewListingWithoutRefresh() {
+        // Given
+        when(stockRepository.findAll()).thenReturn(List.of());
+        symbolMasterService.refresh();
+        when(stockRepository.findByStockCode("0126Z0"))
+                .thenReturn(Optional.of(stock("0126Z0", "신규상장", "KOSPI", "전기전자")));
+
+        // When
+        SymbolInfo first = symbolMasterService.findByCode("0126Z0");
+        SymbolInfo second = symbolMasterService.findByCode("0126Z0");
+
+        // Then
+        assertEquals(SEED_SIZE, first.getSymbolId());
+        assertSame(first, second);
+        assertEquals("신규상장", symbolMasterService.getStockName("0126Z0"));
+        verify(stockRepository, times(1)).findByStockCode("0126Z0");
+    }
+
+    @Test
+    void findByCode_MissingCode_IsNegativelyCachedUntilExpiry() {
+        // Given
+        when(stockRepository.findByStockCode("999999")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertNull(symbolMasterService.findByCode("999999"));
+        assertEquals("999999", symbolMasterService.getStockName("999999"));
+        verify(stockRepository, times(1)).findByStockCode("999999");
+
+        clock.advance(Duration.ofMillis(SymbolMasterService.NEGATIVE_CACHE_MILLIS));
+        assertNull(symbolMasterService.findByCode("999999"));
+        verify(stockRepository, times(2)).findByStockCode("999999");
+    }
+
+    @Test
+    void refresh_DatabaseFailure_KeepsCurrentSnapshot() {
+        // Given
+        when(stockRepository.findAll())
+                .thenReturn(List.of(stock("0126Z0", "신규상장", "KOSPI", "전기전자")))
+                .thenThrow(new RuntimeException("DB 연결 실패"));
+        symbolMasterService.refresh();
+
+        // When
+        int size = symbolMasterService.refresh();
+
+        // Then
+        assertEquals(SEED_SIZE + 1, size);
+        assertEquals("신규상장", symbolMasterService.findByCode("0126Z0").getStockName());
+        assertEquals(1, symbolMasterService.getRefreshCount());
+    }
+
+    @Test
+    void marketTypeOf_UsesMarketThenCodeShape() {
+        assertEquals(MarketType.FOREIGN, SymbolMasterService.marketTypeOf("NYSE", "BRK.B"));
+        assertEquals(MarketType.DOMESTIC, SymbolMasterService.marketTypeOf("kosdaq", "0126Z0"));
+        assertEquals(MarketType.DOMESTIC, SymbolMasterService.marketTypeOf(null, "005930"));
+        assertEquals(MarketType.FOREIGN, SymbolMasterService.marketTypeOf(null, "TSLA"));
+    }
+
+    private static Stock stock(String stockCode, String stockName, String marketType, String sector) {
+        return Stock.builder()
+                .stockCode(stockCode)
+                .stockName(stockName)
+                .marketType(marketType)
+                .sector(sector)
+                .isActive(true)
+                .build();
+    }
+
+    /**
+     * 테스트용 수동 시계
+     */
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return Clock.fixed(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
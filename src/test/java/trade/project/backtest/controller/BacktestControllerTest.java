@@ -19,6 +19,7 @@ import trade.project.backtest.service.BacktestService;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -93,6 +94,41 @@ class BacktestControllerTest {
                 .andExpect(jsonPath("$.data.sharpeRatio").value(1.2));
     }
 
+    @Test
+    @DisplayName("백트래킹 실행 - 자산곡선은 요청한 지점 수로 축소, 0이면 전체")
+    void runBacktest_WithMaxPoints_ShouldDownsampleEquityCurve() throws Exception {
+        // Given
+        List<BackTestResult.PortfolioSnapshot> history = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            history.add(BackTestResult.PortfolioSnapshot.builder()
+                    .date(LocalDate.of(2005, 1, 1).plusDays(i))
+                    .totalValue(BigDecimal.valueOf(10000000 + i * (i % 7)))
+                    .build());
+        }
+        BackTestResult expectedResult = BackTestResult.builder()
+                .stockCode("005930")
+                .portfolioHistory(history)
+                .build();
+        when(backtestService.runBacktest(any(BackTestRequest.class))).thenReturn(expectedResult);
+
+        // When & Then
+        mockMvc.perform(get("/api/backtest/run")
+                        .param("stockCode", "005930")
+                        .param("startDate", "2005-01-01")
+                        .param("endDate", "2010-06-23")
+                        .param("maxPoints", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.portfolioHistory.length()").value(100));
+        mockMvc.perform(get("/api/backtest/run")
+                        .param("stockCode", "005930")
+                        .param("startDate", "2005-01-01")
+                        .param("endDate", "2010-06-23")
+                        .param("maxPoints", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.portfolioHistory.length()").value(2000));
+        assertEquals(2000, expectedResult.getPortfolioHistory().size());
+    }
+
     @Test
     @DisplayName("백트래킹 실행 - 기본값이 적용된 요청")
     void runBacktest_WithPartialRequest_ShouldApplyDefaults() throws Exception {
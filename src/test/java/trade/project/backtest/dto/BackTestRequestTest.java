@@ -35,6 +35,7 @@ class BackTestRequestTest {
         assertEquals(new BigDecimal("100000"), defaultRequest.getMinTradeAmount());
         assertTrue(defaultRequest.getReinvestDividends());
         assertTrue(defaultRequest.getIncludeTax());
+        assertEquals(10000, defaultRequest.getMonteCarloPaths());
     }
 
     @Test
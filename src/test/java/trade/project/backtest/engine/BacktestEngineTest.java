@@ -154,6 +154,55 @@ class BacktestEngineTest {
         assertEquals(0, result.getTotalTrades());
     }
 
+    @Test
+    @DisplayName("백트래킹 실행 - 신호 다음 봉 시가에 체결")
+    void runBacktest_NextOpenFill_ShouldExecuteOnFollowingBar() {
+        // Given
+        when(tradingStrategy.generateSignal(any(StockData.class), anyList(), any(BackTestRequest.class)))
+                .thenReturn("BUY", "HOLD", "SELL");
+
+        // When
+        BackTestResult result = backtestEngine.runBacktest(testRequest, testStockData);
+
+        // Then - 마지막 봉의 매도 신호는 다음 봉이 없어 체결되지 않음
+        assertEquals(1, result.getTrades().size());
+        BackTestResult.TradeRecord buy = result.getTrades().get(0);
+        assertEquals(LocalDate.of(2024, 1, 2), buy.getDate());
+        assertEquals(0, new BigDecimal("50500").compareTo(buy.getPrice()));
+        assertEquals(99, buy.getQuantity()); // 5,000,000 / 50,500
+    }
+
+    @Test
+    @DisplayName("백트래킹 실행 - 슬리피지/거래세 반영 시 수익 감소")
+    void runBacktest_WithExecutionCosts_ShouldReduceReturn() {
+        // Given
+        when(tradingStrategy.generateSignal(any(StockData.class), anyList(), any(BackTestRequest.class)))
+                .thenReturn("BUY", "SELL", "HOLD", "BUY", "SELL", "HOLD");
+        testRequest.setFillTiming(BackTestRequest.FILL_AT_CLOSE);
+        testRequest.setIncludeTax(false);
+        BackTestResult frictionless = backtestEngine.runBacktest(testRequest, testStockData);
+
+        testRequest.setIncludeTax(true);
+        testRequest.setSlippageBps(new BigDecimal("5"));
+        testRequest.setMarketImpact(new BigDecimal("0.1"));
+        testRequest.setMaxParticipationRate(new BigDecimal("0.00005")); // 봉 거래량의 0.005%까지만 체결
+
+        // When
+        BackTestResult costed = backtestEngine.runBacktest(testRequest, testStockData);
+
+        // Then
+        assertEquals(2, costed.getTrades().size());
+        assertEquals(50, costed.getTrades().get(0).getQuantity()); // 1,000,000주 × 0.005%
+        assertTrue(costed.getTrades().get(0).getPrice().compareTo(new BigDecimal("50500")) > 0);
+        assertTrue(costed.getTrades().get(1).getPrice().compareTo(new BigDecimal("51500")) < 0);
+        assertEquals(0, new BigDecimal("4626").compareTo(costed.getTotalTax())); // 51,400원 × 50주 × 0.18% (2024년)
+        assertTrue(costed.getTotalSlippage().compareTo(BigDecimal.ZERO) > 0);
+        assertEquals(0, BigDecimal.ZERO.compareTo(frictionless.getTotalTax()));
+        assertTrue(costed.getTotalReturn().compareTo(frictionless.getTotalReturn()) < 0);
+        BigDecimal balance = costed.getTrades().get(1).getBalance();
+        assertEquals(0, balance.compareTo(costed.getFinalCapital()));
+    }
+
     @Test
     @DisplayName("백트래킹 실행 - 빈 주식 데이터")
     void runBacktest_WithEmptyStockData_ShouldThrowException() {
@@ -0,0 +1,76 @@
+package trade.project.backtest.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import trade.project.backtest.dto.BackTestResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("자산곡선 LTTB 축소 테스트")
+class EquityCurveDownsamplerTest {
+
+    @Test
+    @DisplayName("지정한 지점 수로 축소하고 첫/마지막 지점 유지")
+    void selectIndices_KeepsEndpointsInOrder() {
+        int[] indices = EquityCurveDownsampler.selectIndices(5000, 500, i -> i, i -> Math.sin(i / 30.0) * 1000 + i);
+
+        assertEquals(500, indices.length);
+        assertEquals(0, indices[0]);
+        assertEquals(4999, indices[499]);
+        for (int i = 1; i < indices.length; i++) {
+            assertTrue(indices[i] > indices[i - 1]);
+        }
+    }
+
+    @Test
+    @DisplayName("축소가 필요 없으면 전체 반환")
+    void selectIndices_SmallSeries_ReturnsAll() {
+        assertEquals(100, EquityCurveDownsampler.selectIndices(100, 500, i -> i, i -> i).length);
+        assertEquals(100, EquityCurveDownsampler.selectIndices(100, 0, i -> i, i -> i).length);
+    }
+
+    @Test
+    @DisplayName("급락 지점은 축소 후에도 남음")
+    void downsample_KeepsSpike() {
+        List<BackTestResult.PortfolioSnapshot> history = history(5040);
+        history.get(3000).setTotalValue(new BigDecimal("10"));
+
+        List<BackTestResult.PortfolioSnapshot> points = EquityCurveDownsampler.downsample(history, 500);
+
+        assertEquals(500, points.size());
+        assertTrue(points.contains(history.get(3000)));
+    }
+
+    @Test
+    @DisplayName("원본 결과는 변경하지 않고 자산곡선만 축소한 사본 반환")
+    void withMaxPoints_ReturnsCopy() {
+        BackTestResult result = BackTestResult.builder()
+                .stockCode("005930")
+                .portfolioHistory(history(2000))
+                .build();
+
+        BackTestResult downsampled = EquityCurveDownsampler.withMaxPoints(result, 100);
+
+        assertEquals(100, downsampled.getPortfolioHistory().size());
+        assertEquals("005930", downsampled.getStockCode());
+        assertEquals(2000, result.getPortfolioHistory().size());
+        assertSame(result, EquityCurveDownsampler.withMaxPoints(result, 0));
+    }
+
+    private static List<BackTestResult.PortfolioSnapshot> history(int size) {
+        List<BackTestResult.PortfolioSnapshot> history = new ArrayList<>();
+        LocalDate date = LocalDate.of(2005, 1, 1);
+        for (int i = 0; i < size; i++) {
+            history.add(BackTestResult.PortfolioSnapshot.builder()
+                    .date(date.plusDays(i))
+                    .totalValue(BigDecimal.valueOf(10000000 + Math.round(500000 * Math.sin(i / 50.0))))
+                    .build());
+        }
+        return history;
+    }
+}
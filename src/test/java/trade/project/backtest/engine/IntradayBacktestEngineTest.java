@@ -0,0 +1,209 @@
+package trade.project.backtest.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import trade.project.backtest.document.IntradayPrice;
+import trade.project.backtest.dto.BackTestRequest;
+import trade.project.backtest.dto.IntradayBacktestRequest;
+import trade.project.backtest.dto.IntradayBacktestResult;
+import trade.project.backtest.strategy.SMAStrategy;
+import trade.project.backtest.strategy.TradingStrategy;
+import trade.project.backtest.strategy.StrategyFactory;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("분봉 백트래킹 엔진 테스트")
+class IntradayBacktestEngineTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 3, 4);
+    private static final int SESSION_MINUTES = 390; // 09:00 ~ 15:30
+
+    @Mock
+    private StrategyFactory strategyFactory;
+
+    @InjectMocks
+    private IntradayBacktestEngine intradayBacktestEngine;
+
+    private BackTestRequest baseRequest;
+
+    @BeforeEach
+    void setUp() {
+        baseRequest = BackTestRequest.builder()
+                .stockCode("005930")
+                .startDate(FIRST_DAY)
+                .endDate(FIRST_DAY.plusDays(2))
+                .strategy("SMA")
+                .initialCapital(new BigDecimal("10000000"))
+                .commission(new BigDecimal("0.00015"))
+                .shortPeriod(5)
+                .longPeriod(20)
+                .build()
+                .applyDefaults();
+        lenient().when(strategyFactory.getStrategy("SMA")).thenReturn(new SMAStrategy());
+    }
+
+    @Test
+    @DisplayName("정규장 밖 시세 제외 및 1분봉 집계")
+    void run_MinuteBars_ShouldSkipOutOfSessionEvents() {
+        // when
+        IntradayBacktestResult result = intradayBacktestEngine.run(request(1), new MinuteEvents(3, true));
+
+        // then
+        assertEquals(3 * (SESSION_MINUTES + 2), result.getEventCount());
+        assertEquals(3 * 2, result.getSkippedEventCount());
+        assertEquals(3L * SESSION_MINUTES, result.getBarCount());
+        assertEquals(3, result.getTradingDays());
+        assertEquals(3, result.getEquityCurve().size());
+        assertTrue(result.getTotalTrades() > 0);
+    }
+
+    @Test
+    @DisplayName("5분봉 집계")
+    void run_FiveMinuteBars_ShouldAggregateEvents() {
+        // when
+        IntradayBacktestResult result = intradayBacktestEngine.run(request(5), new MinuteEvents(3, false));
+
+        // then
+        assertEquals(3L * SESSION_MINUTES, result.getEventCount());
+        assertEquals(3L * SESSION_MINUTES / 5, result.getBarCount());
+    }
+
+    @Test
+    @DisplayName("틱 모드는 시세 한 건이 한 봉")
+    void run_TickMode_ShouldTreatEachEventAsBar() {
+        // when
+        IntradayBacktestResult result = intradayBacktestEngine.run(request(0), new MinuteEvents(2, false));
+
+        // then
+        assertEquals(2L * SESSION_MINUTES, result.getBarCount());
+        assertEquals(0, result.getBarMinutes());
+    }
+
+    @Test
+    @DisplayName("매수 금지 시간대에는 신규 매수 없음, 장 마감 시 청산")
+    void run_ShouldRespectSessionRules() {
+        // when
+        IntradayBacktestResult result = intradayBacktestEngine.run(request(1), new MinuteEvents(3, false));
+
+        // then
+        assertTrue(result.getBlockedEntries() > 0);
+        assertTrue(result.getForcedExits() <= result.getTradingDays());
+        assertTrue(result.getEquityCurve().stream().allMatch(snapshot -> snapshot.getPosition().signum() == 0));
+        assertTrue(result.getTrades().stream()
+                .filter(trade -> "BUY".equals(trade.getAction()))
+                .noneMatch(trade -> EnumSet.of(IntradaySession.MARKET_OPEN, IntradaySession.LUNCH_BREAK,
+                        IntradaySession.MARKET_CLOSE).contains(trade.getSession())));
+        assertTrue(result.getTrades().stream()
+                .filter(trade -> "장 마감 청산".equals(trade.getReason()))
+                .allMatch(trade -> trade.getDateTime().toLocalTime().equals(LocalTime.of(15, 29))));
+        assertEquals(result.getTotalTrades(),
+                result.getTradesBySession().values().stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    @DisplayName("대량 시세 스트리밍 처리")
+    void run_LargeStream_ShouldProcessWithoutMaterializing() {
+        // given - 약 1년치 1분봉 (약 10만 건)
+        int days = 250;
+
+        // when
+        IntradayBacktestResult result = intradayBacktestEngine.run(request(1), new MinuteEvents(days, false));
+
+        // then
+        assertEquals((long) days * SESSION_MINUTES, result.getBarCount());
+        assertEquals(days, result.getTradingDays());
+        assertTrue(result.getTrades().size() <= IntradayBacktestEngine.MAX_RECORDED_TRADES);
+        assertTrue(result.getFinalCapital().compareTo(BigDecimal.ZERO) > 0);
+    }
+
+    @Test
+    @DisplayName("파이프라인 전략이 아니면 예외")
+    void run_NonPipelineStrategy_ShouldThrowException() {
+        // given
+        when(strategyFactory.getStrategy("SMA")).thenReturn(mock(TradingStrategy.class));
+
+        // when & then
+        assertThrows(IllegalArgumentException.class,
+                () -> intradayBacktestEngine.run(request(1), List.<IntradayPrice>of().iterator()));
+    }
+
+    private IntradayBacktestRequest request(int barMinutes) {
+        return IntradayBacktestRequest.builder()
+                .baseRequest(baseRequest)
+                .startDateTime(FIRST_DAY.atStartOfDay())
+                .endDateTime(FIRST_DAY.plusYears(2).atStartOfDay())
+                .barMinutes(barMinutes)
+                .noEntrySessions(EnumSet.of(IntradaySession.MARKET_OPEN, IntradaySession.LUNCH_BREAK,
+                        IntradaySession.MARKET_CLOSE))
+                .flattenAtClose(true)
+                .build();
+    }
+
+    /**
+     * 1분봉 시세를 필요할 때마다 생성 (목록을 만들지 않음)
+     * 선택적으로 하루에 장 전/장 후 시세를 한 건씩 섞는다.
+     */
+    private static final class MinuteEvents implements Iterator<IntradayPrice> {
+
+        private final int days;
+        private final boolean withOutOfSession;
+        private final int perDay;
+        private int index;
+
+        MinuteEvents(int days, boolean withOutOfSession) {
+            this.days = days;
+            this.withOutOfSession = withOutOfSession;
+            this.perDay = SESSION_MINUTES + (withOutOfSession ? 2 : 0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < days * perDay;
+        }
+
+        @Override
+        public IntradayPrice next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int day = index / perDay;
+            int slot = index % perDay;
+            index++;
+
+            LocalDateTime timestamp;
+            if (withOutOfSession && slot == 0) {
+                timestamp = FIRST_DAY.plusDays(day).atTime(8, 30);
+            } else if (withOutOfSession && slot == perDay - 1) {
+                timestamp = FIRST_DAY.plusDays(day).atTime(15, 40);
+            } else {
+                int minute = withOutOfSession ? slot - 1 : slot;
+                timestamp = FIRST_DAY.plusDays(day).atTime(9, 0).plusMinutes(minute);
+            }
+            int price = (int) (70_000 + 1_500 * Math.sin(index / 37.0) + 400 * Math.sin(index / 7.0));
+            return IntradayPrice.builder()
+                    .stockCode("005930")
+                    .timestamp(timestamp)
+                    .price(price)
+                    .high(price + 50)
+                    .low(price - 50)
+                    .volume(1_000L)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package trade.project.backtest.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import trade.project.backtest.dto.BackTestResult;
+import trade.project.backtest.dto.MonteCarloResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("몬테카를로 분석 테스트")
+class MonteCarloAnalyzerTest {
+
+    private final MonteCarloAnalyzer analyzer = new MonteCarloAnalyzer();
+
+    @Test
+    @DisplayName("같은 시드면 같은 신뢰구간")
+    void analyze_SameSeed_ReturnsSameIntervals() {
+        BackTestResult result = resultWithHistory(randomWalk(500), trades());
+
+        MonteCarloResult first = analyzer.analyze(result, 2000, 7L);
+        MonteCarloResult second = analyzer.analyze(result, 2000, 7L);
+
+        assertEquals(first.getReturnPercent(), second.getReturnPercent());
+        assertEquals(first.getMaxDrawdownPercent(), second.getMaxDrawdownPercent());
+        assertEquals(first.getRuinProbability(), second.getRuinProbability());
+        assertEquals(7L, first.getSeed());
+        assertEquals(2, first.getTradeCount());
+        assertEquals(8, first.getBlockSize()); // 499개 수익률의 세제곱근
+        assertTrue(first.getReturnPercent().getLower().compareTo(first.getReturnPercent().getMedian()) <= 0);
+        assertTrue(first.getReturnPercent().getMedian().compareTo(first.getReturnPercent().getUpper()) <= 0);
+    }
+
+    @Test
+    @DisplayName("일정한 수익률이면 모든 경로가 동일")
+    void analyze_ConstantReturns_CollapsesInterval() {
+        List<Double> values = new ArrayList<>();
+        double value = 1000;
+        for (int i = 0; i < 11; i++) {
+            values.add(value);
+            value *= 1.01;
+        }
+
+        MonteCarloResult result = analyzer.analyze(resultWithHistory(values, List.of()), 1000, 1L);
+
+        assertEquals(result.getReturnPercent().getLower(), result.getReturnPercent().getUpper());
+        assertEquals(0, result.getMaxDrawdownPercent().getUpper().signum());
+        assertEquals(0, result.getRuinProbability().signum());
+        assertNull(result.getWinRate()); // 거래가 없으면 거래 재표집 생략
+    }
+
+    @Test
+    @DisplayName("이력이 부족하면 분석 생략")
+    void analyze_ShortHistory_ReturnsNull() {
+        assertNull(analyzer.analyze(resultWithHistory(List.of(1000.0), List.of()), 100, 1L));
+    }
+
+    @Test
+    @DisplayName("경로 수 범위 검사")
+    void analyze_InvalidPaths_ThrowsException() {
+        BackTestResult result = resultWithHistory(randomWalk(10), List.of());
+
+        assertThrows(IllegalArgumentException.class, () -> analyzer.analyze(result, 0, 1L));
+        assertThrows(IllegalArgumentException.class,
+                () -> analyzer.analyze(result, MonteCarloAnalyzer.MAX_PATHS + 1, 1L));
+    }
+
+    @Test
+    @DisplayName("왕복 거래 손익률 계산 (수수료 포함)")
+    void tradeReturns_UsesEquityBeforeTrade() {
+        double[] returns = MonteCarloAnalyzer.tradeReturns(trades());
+
+        assertEquals(2, returns.length);
+        assertEquals((1100 - 1 - 1001) / 2001.0, returns[0], 1e-12);
+        assertEquals((900 - 1 - 1001) / 2001.0, returns[1], 1e-12);
+    }
+
+    private List<Double> randomWalk(int size) {
+        Random random = new Random(42);
+        List<Double> values = new ArrayList<>();
+        double value = 10000000;
+        for (int i = 0; i < size; i++) {
+            values.add(value);
+            value *= 1 + random.nextGaussian() * 0.01;
+        }
+        return values;
+    }
+
+    private List<BackTestResult.TradeRecord> trades() {
+        return List.of(
+                trade("BUY", 1000, 1000), trade("SELL", 1100, 2099),
+                trade("BUY", 1000, 1000), trade("SELL", 900, 1899),
+                trade("BUY", 1000, 1000)); // 미청산 매수는 제외
+    }
+
+    private BackTestResult.TradeRecord trade(String action, double amount, double balance) {
+        return BackTestResult.TradeRecord.builder()
+                .action(action)
+                .amount(BigDecimal.valueOf(amount))
+                .commission(BigDecimal.ONE)
+                .balance(BigDecimal.valueOf(balance))
+                .build();
+    }
+
+    private BackTestResult resultWithHistory(List<Double> values, List<BackTestResult.TradeRecord> trades) {
+        List<BackTestResult.PortfolioSnapshot> history = new ArrayList<>();
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < values.size(); i++) {
+            history.add(BackTestResult.PortfolioSnapshot.builder()
+                    .date(date.plusDays(i))
+                    .totalValue(BigDecimal.valueOf(values.get(i)))
+                    .build());
+        }
+        return BackTestResult.builder()
+                .portfolioHistory(history)
+                .trades(trades)
+                .build();
+    }
+}
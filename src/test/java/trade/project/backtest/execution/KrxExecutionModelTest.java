@@ -0,0 +1,111 @@
+package trade.project.backtest.execution;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import trade.project.backtest.dto.BackTestRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("국내 주식 체결 비용 모델 테스트")
+class KrxExecutionModelTest {
+
+    @Test
+    @DisplayName("체결일에 따른 증권거래세율")
+    void transactionTax_ShouldFollowEffectiveDate() {
+        assertEquals(0.0025, KrxTransactionTax.rate(LocalDate.of(2020, 12, 31)));
+        assertEquals(0.0023, KrxTransactionTax.rate(LocalDate.of(2021, 1, 1)));
+        assertEquals(0.0020, KrxTransactionTax.rate(LocalDate.of(2023, 6, 1)));
+        assertEquals(0.0018, KrxTransactionTax.rate(LocalDate.of(2024, 12, 31)));
+        assertEquals(0.0015, KrxTransactionTax.rate(LocalDate.of(2025, 1, 2)));
+        assertEquals(1_799, KrxTransactionTax.tax(999_999, LocalDate.of(2024, 3, 4))); // 원 단위 절사
+    }
+
+    @Test
+    @DisplayName("호가 단위 올림/내림")
+    void tickSize_ShouldRoundToPriceBand() {
+        assertEquals(1, KrxTickSize.tickOf(1_999));
+        assertEquals(50, KrxTickSize.tickOf(49_950));
+        assertEquals(100, KrxTickSize.tickOf(70_000));
+        assertEquals(1_000, KrxTickSize.tickOf(500_000));
+        assertEquals(70_100, KrxTickSize.roundUp(70_001));
+        assertEquals(70_000, KrxTickSize.roundDown(70_099));
+        assertEquals(70_000, KrxTickSize.roundUp(70_000));
+    }
+
+    @Test
+    @DisplayName("수수료 구간과 최소 수수료")
+    void commissionSchedule_ShouldPickTierByAmount() {
+        BackTestRequest request = BackTestRequest.builder()
+                .commission(new BigDecimal("0.001"))
+                .commissionTiers(List.of(
+                        tier("10000000", "0.0001", "1000"),
+                        tier("0", "0.0002", "0")))
+                .minimumCommission(new BigDecimal("500"))
+                .build();
+        CommissionSchedule schedule = CommissionSchedule.from(request);
+
+        assertEquals(500, schedule.commission(100_000));           // 20원 → 최소 수수료
+        assertEquals(1_800, schedule.commission(9_000_000));       // 0.02%
+        assertEquals(3_000, schedule.commission(20_000_000));      // 0.01% + 1,000원
+        assertEquals(0, schedule.commission(0));
+        assertEquals(150, CommissionSchedule.flat(0.00015).commission(1_000_000));
+    }
+
+    @Test
+    @DisplayName("거래량 대비 주문이 클수록 체결가가 불리해짐")
+    void fillPrice_ShouldGrowWithParticipation() {
+        KrxExecutionModel model = new KrxExecutionModel(CommissionSchedule.flat(0), true, true, 5, 0.1, 0.1);
+
+        double small = model.fillPrice(true, 70_000, 100, 1_000_000);
+        double large = model.fillPrice(true, 70_000, 100_000, 1_000_000);
+        double sell = model.fillPrice(false, 70_000, 100_000, 1_000_000);
+
+        assertTrue(small > 70_000);
+        assertTrue(large > small);
+        assertTrue(sell < 70_000);
+        assertEquals(0, large % KrxTickSize.tickOf(large));
+        assertEquals(72_300, large); // 70,000 × (1 + 0.0005 + 0.1 × √0.1) → 호가 올림
+        assertEquals(100_000, model.maxQuantity(1_000_000));
+        assertEquals(Long.MAX_VALUE, model.maxQuantity(0));
+    }
+
+    @Test
+    @DisplayName("거래세는 매도이고 includeTax일 때만 부과")
+    void tax_ShouldApplyOnlyToSells() {
+        KrxExecutionModel taxed = KrxExecutionModel.from(BackTestRequest.builder()
+                .commission(new BigDecimal("0.00015")).build().applyDefaults());
+        KrxExecutionModel untaxed = KrxExecutionModel.from(BackTestRequest.builder()
+                .commission(new BigDecimal("0.00015")).includeTax(false).build().applyDefaults());
+        LocalDate date = LocalDate.of(2025, 3, 4);
+
+        assertEquals(1_500, taxed.tax(false, 1_000_000, date));
+        assertEquals(0, taxed.tax(true, 1_000_000, date));
+        assertEquals(0, untaxed.tax(false, 1_000_000, date));
+        assertTrue(taxed.fillsAtNextOpen());
+    }
+
+    @Test
+    @DisplayName("비용 설정이 없으면 기준 가격 그대로 체결")
+    void fillPrice_WithoutCosts_ShouldReturnReferencePrice() {
+        KrxExecutionModel model = KrxExecutionModel.from(BackTestRequest.builder()
+                .commission(new BigDecimal("0.001"))
+                .fillTiming(BackTestRequest.FILL_AT_CLOSE)
+                .build());
+
+        assertEquals(50_500.5, model.fillPrice(true, 50_500.5, 1_000, 10));
+        assertEquals(Long.MAX_VALUE, model.maxQuantity(10));
+        assertFalse(model.fillsAtNextOpen());
+    }
+
+    private static BackTestRequest.CommissionTier tier(String minAmount, String rate, String fixedFee) {
+        return BackTestRequest.CommissionTier.builder()
+                .minAmount(new BigDecimal(minAmount))
+                .rate(new BigDecimal(rate))
+                .fixedFee(new BigDecimal(fixedFee))
+                .build();
+    }
+}
@@ -0,0 +1,171 @@
+package trade.project.backtest.pipeline;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import trade.project.backtest.dto.BackTestRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StrategyPipeline 테스트")
+class StrategyPipelineTest {
+
+    private final PipelineContext context = new PipelineContext();
+
+    @Test
+    @DisplayName("같은 정의는 같은 파이프라인을 공유")
+    void compile_SameSpec_ReturnsCachedPipeline() {
+        BackTestRequest request = BackTestRequest.getDefault();
+
+        StrategyPipeline first = StrategyPipelineCompiler.compile(
+                PipelineSpec.fromBackTestRequest(PipelineSpec.Type.SMA_CROSS, request));
+        StrategyPipeline second = StrategyPipelineCompiler.compile(
+                PipelineSpec.fromBackTestRequest(PipelineSpec.Type.SMA_CROSS, request));
+
+        assertSame(first, second);
+        assertNotSame(first.newGraph(), second.newGraph()); // 지표 상태는 데이터 흐름마다 별도
+    }
+
+    @Test
+    @DisplayName("파라미터 탐색으로 정의가 늘어나도 최근 사용한 파이프라인은 캐시에 유지")
+    void compile_ManySpecs_KeepsRecentlyUsedPipeline() {
+        PipelineSpec live = PipelineSpec.fromBackTestRequest(PipelineSpec.Type.SMA_CROSS, BackTestRequest.getDefault());
+        StrategyPipeline pipeline = StrategyPipelineCompiler.compile(live);
+
+        for (int period = 1; period <= 600; period++) {
+            StrategyPipelineCompiler.compile(PipelineSpec.builder()
+                    .type(PipelineSpec.Type.SMA_CROSS)
+                    .smaShortPeriod(period)
+                    .smaLongPeriod(period + 1)
+                    .build());
+            assertSame(pipeline, StrategyPipelineCompiler.compile(live));
+        }
+    }
+
+    @Test
+    @DisplayName("이동평균 골든/데드 크로스 신호")
+    void evaluate_SmaCross_GeneratesSignals() {
+        StrategyPipeline pipeline = StrategyPipelineCompiler.compile(PipelineSpec.builder()
+                .type(PipelineSpec.Type.SMA_CROSS)
+                .smaShortPeriod(2)
+                .smaLongPeriod(3)
+                .build());
+        IndicatorGraph graph = pipeline.newGraph();
+
+        assertEquals("HOLD", feed(pipeline, graph, 10));
+        assertEquals("HOLD", feed(pipeline, graph, 9));
+        assertEquals("SELL", feed(pipeline, graph, 8)); // 하락 추세
+        assertEquals("SELL", feed(pipeline, graph, 7));
+        assertEquals("HOLD", feed(pipeline, graph, 8));
+        assertEquals("BUY", feed(pipeline, graph, 10)); // 골든 크로스
+        assertEquals(9.0, graph.value(pipeline.nodeIndex("SMA:2")), 1e-9);
+    }
+
+    @Test
+    @DisplayName("MACD 시그널은 MACD 라인의 지수이동평균")
+    void macdSignal_IsEmaOfMacdLine() {
+        StrategyPipeline pipeline = StrategyPipelineCompiler.compile(PipelineSpec.builder()
+                .type(PipelineSpec.Type.MACD_CROSS)
+                .macdFastPeriod(2)
+                .macdSlowPeriod(4)
+                .macdSignalPeriod(3)
+                .build());
+        IndicatorGraph graph = pipeline.newGraph();
+        int macd = pipeline.nodeIndex("MACD:2:4");
+        int signal = pipeline.nodeIndex("MACD_SIGNAL:2:4:3");
+
+        double[] closes = {10, 11, 12, 13, 12, 11, 10, 11, 13};
+        for (double close : closes) {
+            graph.update(close, close, close);
+        }
+
+        assertTrue(graph.isReady(signal));
+        assertNotEquals(graph.value(macd), graph.value(signal), 1e-9);
+    }
+
+    @Test
+    @DisplayName("필요 봉 수는 가장 늦게 값을 내는 지표 기준")
+    void lookbackBars_MatchesSlowestIndicator() {
+        StrategyPipeline pipeline = StrategyPipelineCompiler.compile(PipelineSpec.builder()
+                .type(PipelineSpec.Type.MACD_CROSS)
+                .macdFastPeriod(2)
+                .macdSlowPeriod(4)
+                .macdSignalPeriod(3)
+                .build());
+        IndicatorGraph graph = pipeline.newGraph();
+        int signal = pipeline.nodeIndex("MACD_SIGNAL:2:4:3");
+
+        assertEquals(6, pipeline.getLookbackBars()); // MACD 4봉 + 시그널 3봉 - 1
+        for (int i = 1; i < pipeline.getLookbackBars(); i++) {
+            graph.update(10 + i, 10 + i, 10 + i);
+            assertFalse(graph.isReady(signal));
+        }
+        graph.update(20, 20, 20);
+        assertTrue(graph.isReady(signal));
+    }
+
+    @Test
+    @DisplayName("다중 지표 전략 익절/손절/트레일링 스탑")
+    void evaluate_MultiFactor_RiskRules() {
+        StrategyPipeline pipeline = StrategyPipelineCompiler.compile(PipelineSpec.builder()
+                .type(PipelineSpec.Type.MULTI_FACTOR)
+                .rsiPeriod(14).rsiOversold(30).rsiOverbought(70)
+                .macdFastPeriod(12).macdSlowPeriod(26).macdSignalPeriod(9)
+                .smaShortPeriod(5).smaLongPeriod(20)
+                .bollingerPeriod(20).bollingerSigma(2.0).extremePeriod(20)
+                .profitTarget(5).stopLoss(3).trailingStop(Double.NaN)
+                .minHistory(30)
+                .build());
+        IndicatorGraph graph = pipeline.newGraph();
+
+        // 이력 부족 + 미보유 시 HOLD
+        assertEquals("HOLD", pipeline.evaluate(context.reset(graph, 100, 0, 0, Double.NaN)));
+        // 익절 / 손절
+        assertEquals("SELL", pipeline.evaluate(context.reset(graph, 106, 10, 100, 106)));
+        assertEquals("SELL", pipeline.evaluate(context.reset(graph, 96, 10, 100, 96)));
+        // 직전 관측가 대비 3% 이상 하락
+        assertEquals("SELL", pipeline.evaluate(context.reset(graph, 100, 10, 100, 104)));
+        assertEquals("HOLD", pipeline.evaluate(context.reset(graph, 101, 10, 100, 101)));
+    }
+
+    @Test
+    @DisplayName("규칙식 전략 컴파일 및 신호 생성")
+    void compile_DslExpression_GeneratesSignals() {
+        StrategyPipeline pipeline = StrategyPipelineCompiler.compile(PipelineSpec.builder()
+                .type(PipelineSpec.Type.DSL)
+                .buyExpression("CROSS_UP(SMA(2), sma(3)) AND PRICE > 0")
+                .sellExpression("CROSS_DOWN(SMA(2), SMA(3))")
+                .profitTarget(Double.NaN).stopLoss(Double.NaN).trailingStop(Double.NaN)
+                .build());
+        IndicatorGraph graph = pipeline.newGraph();
+
+        assertEquals(2, pipeline.getNodeCount()); // 같은 지표는 한 노드로 공유
+        assertEquals("HOLD", feed(pipeline, graph, 10));
+        assertEquals("HOLD", feed(pipeline, graph, 9));
+        assertEquals("HOLD", feed(pipeline, graph, 8));
+        assertEquals("HOLD", feed(pipeline, graph, 7));
+        assertEquals("HOLD", feed(pipeline, graph, 8));
+        assertEquals("BUY", feed(pipeline, graph, 10));
+        assertEquals("HOLD", feed(pipeline, graph, 12));
+        assertEquals("HOLD", feed(pipeline, graph, 11));
+        assertEquals("SELL", feed(pipeline, graph, 9));
+    }
+
+    @Test
+    @DisplayName("규칙식 구문 오류 시 위치와 함께 예외")
+    void compile_InvalidDslExpression_ThrowsException() {
+        PipelineSpec spec = PipelineSpec.builder()
+                .type(PipelineSpec.Type.DSL)
+                .buyExpression("FOO(3) > 1")
+                .build();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> StrategyPipelineCompiler.compile(spec));
+        assertTrue(exception.getMessage().contains("위치 1"));
+        assertTrue(exception.getMessage().contains("FOO"));
+    }
+
+    private String feed(StrategyPipeline pipeline, IndicatorGraph graph, double close) {
+        graph.update(close, close, close);
+        return pipeline.evaluate(context.reset(graph, close, 0, 0, Double.NaN));
+    }
+}
@@ -0,0 +1,149 @@
+package trade.project.backtest.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import trade.project.backtest.document.BacktestJobRecord;
+import trade.project.backtest.dto.BackTestRequest;
+import trade.project.backtest.dto.BackTestResult;
+import trade.project.backtest.dto.BacktestJobStatus;
+import trade.project.backtest.engine.BacktestProgressListener;
+import trade.project.backtest.repository.BacktestJobRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("백트래킹 작업 서비스 테스트")
+class BacktestJobServiceTest {
+
+    @Mock
+    private BacktestService backtestService;
+
+    @Mock
+    private BacktestJobRepository backtestJobRepository;
+
+    private BacktestJobService backtestJobService;
+
+    private BackTestRequest request;
+
+    @BeforeEach
+    void setUp() {
+        backtestJobService = new BacktestJobService(backtestService, backtestJobRepository);
+        request = BackTestRequest.builder()
+                .stockCode("005930")
+                .startDate(LocalDate.of(2024, 1, 1))
+                .endDate(LocalDate.of(2024, 1, 31))
+                .strategy("SMA")
+                .initialCapital(new BigDecimal("10000000"))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        backtestJobService.shutdown();
+    }
+
+    @Test
+    @DisplayName("제출한 작업이 완료되면 결과 저장")
+    void submit_CompletesAndPersistsResult() {
+        // Given
+        BackTestResult result = BackTestResult.builder()
+                .stockCode("005930")
+                .totalReturnPercent(new BigDecimal("12.5"))
+                .totalTrades(4)
+                .build();
+        when(backtestService.runBacktest(eq(request), any(BacktestProgressListener.class))).thenAnswer(invocation -> {
+            BacktestProgressListener listener = invocation.getArgument(1);
+            listener.onProgress(1, 2, BackTestResult.PortfolioSnapshot.builder().date(LocalDate.of(2024, 1, 2)).build());
+            listener.onProgress(2, 2, BackTestResult.PortfolioSnapshot.builder().date(LocalDate.of(2024, 1, 3)).build());
+            return result;
+        });
+
+        // When
+        BacktestJobStatus submitted = backtestJobService.submit(request, BacktestJobStatus.Priority.HIGH);
+
+        // Then
+        assertNotNull(submitted.getJobId());
+        verify(backtestJobRepository, timeout(2000)).save(argThat(record ->
+                record.getStatus().getState() == BacktestJobStatus.State.COMPLETED && record.getResult() == result));
+        BacktestJobStatus status = backtestJobService.getStatus(submitted.getJobId());
+        assertEquals(BacktestJobStatus.State.COMPLETED, status.getState());
+        assertEquals(new BigDecimal("100"), status.getProgressPercent());
+        assertEquals(4, status.getTotalTrades());
+        assertSame(result, backtestJobService.getResult(submitted.getJobId()));
+    }
+
+    @Test
+    @DisplayName("실행 중인 작업 취소")
+    void cancel_RunningJob_StopsAtNextBar() throws InterruptedException {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        when(backtestService.runBacktest(eq(request), any(BacktestProgressListener.class))).thenAnswer(invocation -> {
+            BacktestProgressListener listener = invocation.getArgument(1);
+            started.countDown();
+            while (!listener.isCancelled()) {
+                Thread.sleep(5);
+            }
+            throw new CancellationException("백트래킹이 취소되었습니다");
+        });
+        BacktestJobStatus submitted = backtestJobService.submit(request, BacktestJobStatus.Priority.NORMAL);
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+
+        // When
+        backtestJobService.cancel(submitted.getJobId());
+
+        // Then
+        verify(backtestJobRepository, timeout(2000)).save(argThat(record ->
+                record.getStatus().getState() == BacktestJobStatus.State.CANCELLED && record.getResult() == null));
+        assertThrows(IllegalStateException.class, () -> backtestJobService.getResult(submitted.getJobId()));
+        assertThrows(IllegalArgumentException.class, () -> backtestJobService.cancel(submitted.getJobId()));
+    }
+
+    @Test
+    @DisplayName("우선순위가 높은 작업을 먼저, 같으면 먼저 제출한 작업을 먼저 실행")
+    void compareTo_OrdersByPriorityThenSequence() {
+        BacktestJob low = new BacktestJob("a", 1, request, BacktestJobStatus.Priority.LOW, backtestJobService);
+        BacktestJob high = new BacktestJob("b", 2, request, BacktestJobStatus.Priority.HIGH, backtestJobService);
+        BacktestJob laterHigh = new BacktestJob("c", 3, request, BacktestJobStatus.Priority.HIGH, backtestJobService);
+
+        assertTrue(high.compareTo(low) < 0);
+        assertTrue(high.compareTo(laterHigh) < 0);
+        assertTrue(laterHigh.compareTo(low) < 0);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 작업 조회 시 예외")
+    void getStatus_UnknownJob_ThrowsException() {
+        when(backtestJobRepository.findById("missing")).thenReturn(Optional.<BacktestJobRecord>empty());
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> backtestJobService.getStatus("missing"));
+        assertEquals("작업을 찾을 수 없습니다: missing", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 요청은 제출 시점에 거부")
+    void submit_InvalidRequest_ThrowsException() {
+        doThrow(new IllegalArgumentException("주식 코드는 필수입니다."))
+                .when(backtestService).validateRequest(any());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> backtestJobService.submit(request, BacktestJobStatus.Priority.NORMAL));
+        verify(backtestService, never()).runBacktest(any(), any(BacktestProgressListener.class));
+    }
+}
@@ -0,0 +1,177 @@
+package trade.project.backtest.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import trade.project.backtest.document.BacktestResultCacheRecord;
+import trade.project.backtest.dto.BackTestRequest;
+import trade.project.backtest.dto.BackTestResult;
+import trade.project.backtest.repository.BacktestResultCacheRepository;
+import trade.project.backtest.strategy.SMAStrategy;
+import trade.project.backtest.strategy.StrategyFactory;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("백트래킹 결과 캐시 테스트")
+class BacktestResultCacheTest {
+
+    @Mock
+    private BacktestResultCacheRepository backtestResultCacheRepository;
+
+    private BacktestResultCache backtestResultCache;
+
+    private BackTestResult result;
+
+    @BeforeEach
+    void setUp() {
+        StrategyFactory strategyFactory = new StrategyFactory(List.of(new SMAStrategy()));
+        strategyFactory.initializeStrategyMap();
+        backtestResultCache = new BacktestResultCache(backtestResultCacheRepository, strategyFactory);
+        result = BackTestResult.builder()
+                .stockCode("005930")
+                .totalReturnPercent(new BigDecimal("7.5"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("같은 요청은 같은 키, 파라미터가 다르면 다른 키")
+    void keyOf_IsCanonical() {
+        BackTestRequest request = request(LocalDate.of(2024, 12, 31));
+        BackTestRequest sameRequest = request(LocalDate.of(2024, 12, 31));
+        sameRequest.setStrategy("sma");
+        sameRequest.setCommission(new BigDecimal("0.00015000"));
+        BackTestRequest otherRequest = request(LocalDate.of(2024, 12, 31));
+        otherRequest.setShortPeriod(10);
+
+        assertEquals(backtestResultCache.keyOf(request), backtestResultCache.keyOf(sameRequest));
+        assertNotEquals(backtestResultCache.keyOf(request), backtestResultCache.keyOf(otherRequest));
+        assertEquals(64, backtestResultCache.keyOf(request).length());
+    }
+
+    @Test
+    @DisplayName("종료된 구간의 결과는 메모리에서 바로 반환")
+    void get_ClosedRange_ReturnsFromMemory() {
+        BackTestRequest request = request(LocalDate.of(2024, 12, 31));
+        String key = backtestResultCache.keyOf(request);
+
+        backtestResultCache.put(key, request, result, LocalDate.of(2024, 12, 30));
+
+        assertSame(result, backtestResultCache.get(key));
+        verify(backtestResultCacheRepository).save(any(BacktestResultCacheRecord.class));
+        verify(backtestResultCacheRepository, never()).findById(anyString());
+        assertEquals(1L, backtestResultCache.getStatistics().get("memoryHits"));
+    }
+
+    @Test
+    @DisplayName("진행 중 구간은 새 봉이 관측되면 무효화")
+    void observeLatestBar_NewBar_InvalidatesOpenRange() {
+        LocalDate today = LocalDate.now();
+        BackTestRequest request = request(today.plusDays(1));
+        String key = backtestResultCache.keyOf(request);
+        backtestResultCache.observeLatestBar("005930", today.minusDays(1));
+        backtestResultCache.put(key, request, result, today.minusDays(1));
+        assertSame(result, backtestResultCache.get(key));
+
+        // When
+        backtestResultCache.observeLatestBar("005930", today);
+
+        // Then
+        verify(backtestResultCacheRepository).deleteByStockCodeAndOpenRangeTrue("005930");
+        when(backtestResultCacheRepository.findById(key)).thenReturn(Optional.empty());
+        assertNull(backtestResultCache.get(key));
+    }
+
+    @Test
+    @DisplayName("저장소에만 있는 결과는 메모리로 승격")
+    void get_PersistentHit_PromotesToMemory() {
+        BackTestRequest request = request(LocalDate.of(2024, 12, 31));
+        String key = backtestResultCache.keyOf(request);
+        when(backtestResultCacheRepository.findById(key)).thenReturn(Optional.of(BacktestResultCacheRecord.builder()
+                .cacheKey(key)
+                .stockCode("005930")
+                .lastBarDate(LocalDate.of(2024, 12, 30))
+                .openRange(false)
+                .createdAt(LocalDateTime.now().minusDays(1))
+                .result(result)
+                .build()));
+
+        assertSame(result, backtestResultCache.get(key));
+        assertSame(result, backtestResultCache.get(key));
+        verify(backtestResultCacheRepository, times(1)).findById(key);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 저장 결과는 TTL 삭제 전이라도 무효")
+    void get_ExpiredStoredRecord_ReturnsNull() {
+        BackTestRequest request = request(LocalDate.of(2024, 12, 31));
+        String key = backtestResultCache.keyOf(request);
+        when(backtestResultCacheRepository.findById(key)).thenReturn(Optional.of(BacktestResultCacheRecord.builder()
+                .cacheKey(key)
+                .stockCode("005930")
+                .lastBarDate(LocalDate.of(2024, 12, 30))
+                .openRange(false)
+                .createdAt(LocalDateTime.now().minusDays(31))
+                .expiresAt(LocalDateTime.now().minusDays(1))
+                .result(result)
+                .build()));
+
+        assertNull(backtestResultCache.get(key));
+        verify(backtestResultCacheRepository).deleteById(key);
+    }
+
+    @Test
+    @DisplayName("문서 크기 한도를 넘을 수 있는 결과는 메모리에만 캐시")
+    void put_OversizedResult_SkipsRepository() {
+        BackTestRequest request = request(LocalDate.of(2024, 12, 31));
+        String key = backtestResultCache.keyOf(request);
+        BackTestResult largeResult = BackTestResult.builder()
+                .stockCode("005930")
+                .portfolioHistory(Collections.nCopies(BacktestResultCache.MAX_PERSISTED_ROWS + 1,
+                        BackTestResult.PortfolioSnapshot.builder().build()))
+                .build();
+
+        backtestResultCache.put(key, request, largeResult, LocalDate.of(2024, 12, 30));
+
+        assertSame(largeResult, backtestResultCache.get(key));
+        verify(backtestResultCacheRepository, never()).save(any(BacktestResultCacheRecord.class));
+    }
+
+    @Test
+    @DisplayName("종목 캐시 무효화")
+    void invalidate_RemovesStockEntries() {
+        BackTestRequest request = request(LocalDate.of(2024, 12, 31));
+        String key = backtestResultCache.keyOf(request);
+        backtestResultCache.put(key, request, result, LocalDate.of(2024, 12, 30));
+
+        backtestResultCache.invalidate("005930");
+
+        verify(backtestResultCacheRepository).deleteByStockCode("005930");
+        when(backtestResultCacheRepository.findById(key)).thenReturn(Optional.empty());
+        assertNull(backtestResultCache.get(key));
+    }
+
+    private BackTestRequest request(LocalDate endDate) {
+        return BackTestRequest.builder()
+                .stockCode("005930")
+                .startDate(LocalDate.of(2024, 1, 1))
+                .endDate(endDate)
+                .strategy("SMA")
+                .initialCapital(new BigDecimal("10000000"))
+                .commission(new BigDecimal("0.00015"))
+                .build()
+                .applyDefaults();
+    }
+}
@@ -39,6 +39,9 @@ class BacktestServiceTest {
     @Mock
     private KisApiClient kisApiClient;
 
+    @Mock
+    private BacktestResultCache backtestResultCache;
+
     @Mock
     private TradingStrategy tradingStrategy;
 
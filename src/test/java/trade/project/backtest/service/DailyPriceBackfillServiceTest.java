@@ -0,0 +1,238 @@
+package trade.project.backtest.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import trade.project.backtest.document.DailyPrice;
+import trade.project.backtest.document.DailyPriceCheckpoint;
+import trade.project.backtest.dto.DailyPriceBackfillRequest;
+import trade.project.backtest.dto.DailyPriceBackfillStatus;
+import trade.project.backtest.repository.DailyPriceCheckpointRepository;
+import trade.project.backtest.repository.DailyPriceRepository;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("과거 시세 적재 테스트")
+class DailyPriceBackfillServiceTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 28);
+
+    @Mock
+    private DailyPriceRepository dailyPriceRepository;
+
+    @Mock
+    private DailyPriceCheckpointRepository checkpointRepository;
+
+    private final Map<String, DailyPrice> storedBars = new ConcurrentHashMap<>();
+    private final Map<String, DailyPriceCheckpoint> checkpoints = new ConcurrentHashMap<>();
+    private final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+    private final Set<String> failing = ConcurrentHashMap.newKeySet(); // 항상 실패하는 종목:구간 시작일
+
+    private DailyPriceBackfillService backfillService;
+
+    @BeforeEach
+    void setUp() {
+        backfillService = new DailyPriceBackfillService(this::fetch, dailyPriceRepository, checkpointRepository,
+                Executors.newFixedThreadPool(4), Clock.fixed(TODAY.atStartOfDay(ZONE).toInstant(), ZONE), 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        backfillService.shutdown();
+    }
+
+    @Test
+    @DisplayName("긴 기간은 응답 건수 이하 구간으로 나눠 한 번씩 조회하고, 일자별로 중복 없이 저장")
+    void submit_SplitsLongRangeIntoBrokerSizedChunks() throws Exception {
+        stubRepositories();
+
+        // When: 2종목 × 2년
+        DailyPriceBackfillStatus status = awaitFinished(backfillService.submit(request(LocalDate.of(2022, 7, 1), "005930", "000660")));
+
+        // Then
+        assertEquals(DailyPriceBackfillStatus.State.COMPLETED, status.getState());
+        int chunksPerSymbol = DailyPriceChunks.aligned(LocalDate.of(2022, 7, 1), TODAY).size();
+        assertEquals(chunksPerSymbol * 2, status.getTotalChunks());
+        assertEquals(chunksPerSymbol * 2, calls.size());
+        assertEquals(calls.size(), Set.copyOf(calls).size()); // 같은 구간을 두 번 조회하지 않음
+        for (String call : calls) {
+            String[] parts = call.split(":");
+            LocalDate from = LocalDate.parse(parts[1], DailyPriceChunks.BASIC_DATE);
+            LocalDate to = LocalDate.parse(parts[2], DailyPriceChunks.BASIC_DATE);
+            assertTrue(ChronoUnit.DAYS.between(from, to) < DailyPriceChunks.CHUNK_DAYS);
+            assertFalse(to.isAfter(TODAY));
+        }
+
+        // 구간 밖 일자/중복 일자를 섞어 응답해도 평일 하루에 한 건
+        long weekdays = LocalDate.of(2022, 7, 1).datesUntil(TODAY.plusDays(1))
+                .filter(date -> date.getDayOfWeek().getValue() <= 5).count();
+        long savedFrom = storedBars.values().stream()
+                .filter(bar -> bar.getStockCode().equals("005930") && !bar.getDate().isBefore(LocalDate.of(2022, 7, 1)))
+                .count();
+        assertEquals(weekdays, savedFrom);
+
+        // 오늘이 포함된 구간은 체크포인트를 남기지 않음
+        assertEquals(chunksPerSymbol * 2 - 2, checkpoints.size());
+    }
+
+    @Test
+    @DisplayName("실패 구간은 재시도 후 PARTIAL로 남기고, 재개하면 실패/미완료 구간만 다시 조회")
+    void resume_RefetchesOnlyUnfinishedChunks() throws Exception {
+        // Given: 한 구간은 항상 실패
+        stubRepositories();
+        DailyPriceChunks.Chunk broken = DailyPriceChunks.aligned(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 1)).get(0);
+        failing.add("005930:" + broken.start());
+
+        DailyPriceBackfillStatus first = awaitFinished(backfillService.submit(request(LocalDate.of(2022, 1, 1), "005930")));
+        assertEquals(DailyPriceBackfillStatus.State.PARTIAL, first.getState());
+        assertEquals(1, first.getFailedChunks());
+        assertEquals(1, first.getFailures().size());
+        long brokenCalls = calls.stream().filter(call -> call.startsWith("005930:" + broken.start())).count();
+        assertEquals(DailyPriceBackfillService.MAX_ATTEMPTS, brokenCalls);
+
+        // When: 장애 해소 후 재개
+        failing.clear();
+        calls.clear();
+        DailyPriceBackfillStatus resumed = awaitFinished(backfillService.resume(first.getJobId()));
+
+        // Then: 실패 구간과 오늘이 포함된 구간만 조회
+        assertEquals(DailyPriceBackfillStatus.State.COMPLETED, resumed.getState());
+        assertEquals(first.getTotalChunks() - 2, resumed.getSkippedChunks());
+        assertEquals(2, resumed.getCompletedChunks());
+        assertEquals(2, calls.size());
+        assertTrue(calls.stream().anyMatch(call -> call.startsWith("005930:" + broken.start())));
+    }
+
+    @Test
+    @DisplayName("격자 구간은 요청 기간과 무관하게 같은 경계를 사용")
+    void aligned_UsesStableBoundaries() {
+        List<DailyPriceChunks.Chunk> wide = DailyPriceChunks.aligned(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 12, 31));
+        List<DailyPriceChunks.Chunk> narrow = DailyPriceChunks.aligned(LocalDate.of(2020, 5, 10), LocalDate.of(2020, 5, 20));
+
+        assertTrue(wide.containsAll(narrow));
+        assertTrue(wide.get(0).contains(LocalDate.of(2020, 1, 1)));
+        assertTrue(wide.get(wide.size() - 1).contains(LocalDate.of(2020, 12, 31)));
+        for (int i = 1; i < wide.size(); i++) {
+            assertEquals(wide.get(i - 1).endDate().plusDays(1), wide.get(i).startDate());
+        }
+
+        List<DailyPriceChunks.Chunk> split = DailyPriceChunks.split(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31));
+        assertEquals(List.of(new DailyPriceChunks.Chunk(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31))), split);
+    }
+
+    @Test
+    @DisplayName("종목 수/기간 제한")
+    void submit_InvalidRequests_ThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> backfillService.submit(request(LocalDate.of(2024, 1, 1))));
+        assertThrows(IllegalArgumentException.class, () -> backfillService.submit(request(TODAY.plusDays(1), "005930")));
+        assertThrows(IllegalArgumentException.class, () -> backfillService.submit(request(TODAY.minusYears(21), "005930")));
+
+        List<String> tooMany = new ArrayList<>();
+        for (int i = 0; i <= DailyPriceBackfillService.MAX_SYMBOLS; i++) {
+            tooMany.add(String.format("%06d", i));
+        }
+        assertThrows(IllegalArgumentException.class, () -> backfillService.submit(DailyPriceBackfillRequest.builder()
+                .stockCodes(tooMany).startDate(LocalDate.of(2024, 1, 1)).build()));
+    }
+
+    /**
+     * 저장소를 메모리 맵으로 대체 (적재 작업을 실행하는 테스트에서만 사용)
+     */
+    private void stubRepositories() {
+        when(dailyPriceRepository.saveAll(any())).thenAnswer(invocation -> {
+            Iterable<DailyPrice> bars = invocation.getArgument(0);
+            bars.forEach(bar -> storedBars.put(bar.getId(), bar));
+            return bars;
+        });
+        when(checkpointRepository.save(any())).thenAnswer(invocation -> {
+            DailyPriceCheckpoint checkpoint = invocation.getArgument(0);
+            checkpoints.put(checkpoint.getId(), checkpoint);
+            return checkpoint;
+        });
+        when(checkpointRepository.findAllById(any())).thenAnswer(invocation -> {
+            Iterable<String> ids = invocation.getArgument(0);
+            List<DailyPriceCheckpoint> found = new ArrayList<>();
+            ids.forEach(id -> {
+                if (checkpoints.containsKey(id)) {
+                    found.add(checkpoints.get(id));
+                }
+            });
+            return found;
+        });
+    }
+
+    /**
+     * 모의 일자별 시세 (구간 평일마다 한 건 + 구간 앞날 한 건 + 첫날 중복 한 건)
+     */
+    private Map<String, Object> fetch(String stockCode, String startDate, String endDate) {
+        calls.add(stockCode + ":" + startDate + ":" + endDate);
+        if (failing.contains(stockCode + ":" + startDate)) {
+            throw new IllegalStateException("API 호출 실패");
+        }
+        LocalDate from = LocalDate.parse(startDate, DailyPriceChunks.BASIC_DATE);
+        LocalDate to = LocalDate.parse(endDate, DailyPriceChunks.BASIC_DATE);
+        List<Map<String, Object>> rows = new ArrayList<>();
+        rows.add(row(from.minusDays(1)));
+        from.datesUntil(to.plusDays(1))
+                .filter(date -> date.getDayOfWeek().getValue() <= 5)
+                .forEach(date -> rows.add(row(date)));
+        if (rows.size() > 1) {
+            rows.add(rows.get(1));
+        }
+        Map<String, Object> response = new HashMap<>();
+        response.put("rt_cd", "0");
+        response.put("output", rows);
+        return response;
+    }
+
+    private static Map<String, Object> row(LocalDate date) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("stck_bsop_date", date.format(DailyPriceChunks.BASIC_DATE));
+        row.put("stck_oprc", "70000");
+        row.put("stck_hgpr", "71000");
+        row.put("stck_lwpr", "69000");
+        row.put("stck_clpr", "70500");
+        row.put("acml_vol", "1000000");
+        return row;
+    }
+
+    private static DailyPriceBackfillRequest request(LocalDate startDate, String... stockCodes) {
+        return DailyPriceBackfillRequest.builder()
+                .stockCodes(List.of(stockCodes))
+                .startDate(startDate)
+                .build();
+    }
+
+    private DailyPriceBackfillStatus awaitFinished(DailyPriceBackfillStatus submitted) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        DailyPriceBackfillStatus status = backfillService.getStatus(submitted.getJobId());
+        while (!status.getState().isFinished()) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(5);
+            status = backfillService.getStatus(submitted.getJobId());
+        }
+        return status;
+    }
+}
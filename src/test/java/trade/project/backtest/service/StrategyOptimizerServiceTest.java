@@ -0,0 +1,203 @@
+package trade.project.backtest.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import trade.project.backtest.dto.BackTestRequest;
+import trade.project.backtest.dto.OptimizationRequest;
+import trade.project.backtest.dto.OptimizationResult;
+import trade.project.backtest.dto.StockData;
+import trade.project.backtest.engine.BacktestEngine;
+import trade.project.backtest.strategy.SMAStrategy;
+import trade.project.backtest.strategy.StrategyFactory;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("유전 알고리즘 파라미터 최적화 서비스 테스트")
+class StrategyOptimizerServiceTest {
+
+    @Mock
+    private BacktestService backtestService;
+
+    private BacktestEngine engine;
+    private StrategyOptimizerService strategyOptimizerService;
+
+    private List<StockData> prices;
+
+    @BeforeEach
+    void setUp() {
+        StrategyFactory strategyFactory = new StrategyFactory(List.of(new SMAStrategy()));
+        strategyFactory.initializeStrategyMap();
+        engine = new BacktestEngine(strategyFactory);
+        strategyOptimizerService = new StrategyOptimizerService(backtestService, engine);
+
+        // 주기가 다른 두 사인파를 합친 가격 (이동평균 기간에 따라 성과가 달라짐)
+        prices = new ArrayList<>();
+        LocalDate date = LocalDate.of(2020, 1, 1);
+        for (int i = 0; i < 400; i++) {
+            BigDecimal close = BigDecimal.valueOf(50000 + 5000 * Math.sin(i / 15.0) + 1500 * Math.sin(i / 3.0) + i * 10);
+            prices.add(StockData.builder()
+                    .date(date.plusDays(i))
+                    .open(close)
+                    .high(close)
+                    .low(close)
+                    .close(close)
+                    .volume(1000000L)
+                    .adjustedClose(close)
+                    .build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        strategyOptimizerService.shutdown();
+    }
+
+    @Test
+    @DisplayName("전수 탐색보다 적은 실행으로 기본 파라미터 이상의 해를 찾음")
+    void optimize_FindsBetterParametersWithFewerRuns() {
+        // Given
+        when(backtestService.getStockData(any())).thenReturn(prices);
+        OptimizationRequest request = request(List.of("RETURN"), 7L);
+        BackTestRequest defaults = baseRequest().applyDefaults();
+        defaults.setMonteCarloPaths(0);
+        BigDecimal defaultReturn = engine.runBacktest(defaults, WalkForwardService.copyRange(prices, 0, prices.size()))
+                .getTotalReturnPercent();
+
+        // When
+        OptimizationResult result = strategyOptimizerService.optimize(request);
+
+        // Then
+        assertNotNull(result.getBest());
+        assertTrue(result.getBest().getTotalReturnPercent().compareTo(defaultReturn) >= 0);
+        assertTrue((Integer) result.getBest().getParameters().get("shortPeriod")
+                < (Integer) result.getBest().getParameters().get("longPeriod"));
+        assertEquals(29L * 111, result.getSearchSpaceSize());
+        assertTrue(result.getEvaluatedRuns() < result.getSearchSpaceSize() / 4);
+        assertTrue(result.getEvaluatedRuns() <= 20 * (result.getGenerations() + 1));
+        assertTrue(result.getCacheHits() > 0); // 같은 유전자는 다시 실행하지 않음
+        assertEquals(result.getGenerations(), result.getHistory().size());
+        verify(backtestService, times(1)).getStockData(any()); // 데이터는 한 번만 조회
+    }
+
+    @Test
+    @DisplayName("다중 기준: 파레토 최전선은 서로 우열이 없음")
+    void optimize_MultiObjective_ReturnsNonDominatedFront() {
+        // Given
+        when(backtestService.getStockData(any())).thenReturn(prices);
+
+        // When
+        OptimizationResult result = strategyOptimizerService.optimize(request(null, 11L));
+
+        // Then
+        assertEquals(List.of("RETURN", "MAX_DRAWDOWN"), result.getObjectives());
+        List<OptimizationResult.Candidate> front = result.getParetoFront();
+        assertFalse(front.isEmpty());
+        for (OptimizationResult.Candidate a : front) {
+            for (OptimizationResult.Candidate b : front) {
+                boolean dominates = a.getTotalReturnPercent().compareTo(b.getTotalReturnPercent()) >= 0
+                        && a.getMaxDrawdownPercent().compareTo(b.getMaxDrawdownPercent()) <= 0
+                        && (a.getTotalReturnPercent().compareTo(b.getTotalReturnPercent()) > 0
+                        || a.getMaxDrawdownPercent().compareTo(b.getMaxDrawdownPercent()) < 0);
+                assertFalse(dominates, a.getParameters() + " dominates " + b.getParameters());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("같은 시드면 같은 결과")
+    void optimize_SameSeed_IsReproducible() {
+        // Given
+        when(backtestService.getStockData(any())).thenReturn(prices);
+
+        // When
+        OptimizationResult first = strategyOptimizerService.optimize(request(List.of("SHARPE"), 3L));
+        OptimizationResult second = strategyOptimizerService.optimize(request(List.of("SHARPE"), 3L));
+
+        // Then
+        assertEquals(first.getBest().getParameters(), second.getBest().getParameters());
+        assertEquals(first.getEvaluatedRuns(), second.getEvaluatedRuns());
+    }
+
+    @Test
+    @DisplayName("지배 관계 판단")
+    void dominates_ComparesAllObjectives() {
+        assertTrue(StrategyOptimizerService.dominates(new double[]{2, -1}, new double[]{1, -1}));
+        assertFalse(StrategyOptimizerService.dominates(new double[]{2, -3}, new double[]{1, -1}));
+        assertFalse(StrategyOptimizerService.dominates(new double[]{1, -1}, new double[]{1, -1}));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 최적화 파라미터 예외")
+    void optimize_UnknownParameter_ThrowsException() {
+        OptimizationRequest request = OptimizationRequest.builder()
+                .baseRequest(baseRequest())
+                .parameterRanges(Map.of("unknown", range(1, 10)))
+                .build();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> strategyOptimizerService.optimize(request));
+        assertEquals("지원하지 않는 최적화 파라미터입니다: unknown", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("잘못된 범위와 최적화 기준 예외")
+    void optimize_InvalidRangeOrObjective_ThrowsException() {
+        OptimizationRequest invalidRange = OptimizationRequest.builder()
+                .baseRequest(baseRequest())
+                .parameterRanges(Map.of("shortPeriod", range(10, 5)))
+                .build();
+        OptimizationRequest invalidObjective = OptimizationRequest.builder()
+                .baseRequest(baseRequest())
+                .parameterRanges(Map.of("shortPeriod", range(2, 10)))
+                .objectives(List.of("PROFIT"))
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> strategyOptimizerService.optimize(invalidRange));
+        assertThrows(IllegalArgumentException.class, () -> strategyOptimizerService.optimize(invalidObjective));
+    }
+
+    private OptimizationRequest request(List<String> objectives, long seed) {
+        Map<String, OptimizationRequest.ParameterRange> ranges = new LinkedHashMap<>();
+        ranges.put("shortPeriod", range(2, 30));
+        ranges.put("longPeriod", range(10, 120));
+        return OptimizationRequest.builder()
+                .baseRequest(baseRequest())
+                .parameterRanges(ranges)
+                .objectives(objectives)
+                .populationSize(20)
+                .generations(15)
+                .seed(seed)
+                .build();
+    }
+
+    private static OptimizationRequest.ParameterRange range(double min, double max) {
+        return OptimizationRequest.ParameterRange.builder().min(min).max(max).build();
+    }
+
+    private BackTestRequest baseRequest() {
+        return BackTestRequest.builder()
+                .stockCode("005930")
+                .startDate(prices.get(0).getDate())
+                .endDate(prices.get(prices.size() - 1).getDate())
+                .strategy("SMA")
+                .initialCapital(new BigDecimal("10000000"))
+                .build();
+    }
+}
@@ -0,0 +1,138 @@
+package trade.project.backtest.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import trade.project.backtest.dto.BackTestRequest;
+import trade.project.backtest.dto.StockData;
+import trade.project.backtest.dto.WalkForwardRequest;
+import trade.project.backtest.dto.WalkForwardResult;
+import trade.project.backtest.engine.BacktestEngine;
+import trade.project.backtest.strategy.SMAStrategy;
+import trade.project.backtest.strategy.StrategyFactory;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("워크포워드 서비스 테스트")
+class WalkForwardServiceTest {
+
+    @Mock
+    private BacktestService backtestService;
+
+    private WalkForwardService walkForwardService;
+
+    private List<StockData> prices;
+
+    @BeforeEach
+    void setUp() {
+        StrategyFactory strategyFactory = new StrategyFactory(List.of(new SMAStrategy()));
+        strategyFactory.initializeStrategyMap();
+        BacktestEngine engine = new BacktestEngine(strategyFactory);
+        walkForwardService = new WalkForwardService(backtestService, engine);
+
+        // 사인파 가격 (이동평균 교차가 주기적으로 발생)
+        prices = new ArrayList<>();
+        LocalDate date = LocalDate.of(2020, 1, 1);
+        for (int i = 0; i < 300; i++) {
+            BigDecimal close = BigDecimal.valueOf(50000 + 5000 * Math.sin(i / 8.0) + i * 20);
+            prices.add(StockData.builder()
+                    .date(date.plusDays(i))
+                    .open(close)
+                    .high(close)
+                    .low(close)
+                    .close(close)
+                    .volume(1000000L)
+                    .adjustedClose(close)
+                    .build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        walkForwardService.shutdown();
+    }
+
+    @Test
+    @DisplayName("구간별 최적화 후 표본 외 자산곡선 연결")
+    void runWalkForward_StitchesOutOfSampleWindows() {
+        // Given
+        when(backtestService.getStockData(any())).thenReturn(prices);
+        WalkForwardRequest request = WalkForwardRequest.builder()
+                .baseRequest(baseRequest())
+                .trainDays(120)
+                .testDays(60)
+                .objective("return")
+                .parameterGrid(Map.of(
+                        "shortPeriod", List.of(3, 5, 30),
+                        "longPeriod", List.of(10, 20)))
+                .build();
+
+        // When
+        WalkForwardResult result = walkForwardService.runWalkForward(request);
+
+        // Then
+        assertEquals(3, result.getWindowCount());
+        assertEquals(4, result.getParameterCombinations()); // 단기 ≥ 장기 조합 제외
+        assertEquals(15, result.getEvaluatedRuns());
+        assertEquals(180, result.getEquityCurve().size());
+        assertEquals(prices.get(120).getDate(), result.getEquityCurve().get(0).getDate());
+        assertEquals(prices.get(299).getDate(), result.getEndDate());
+        assertEquals(result.getFinalCapital(),
+                result.getEquityCurve().get(result.getEquityCurve().size() - 1).getTotalValue());
+        result.getWindows().forEach(window -> assertTrue(
+                window.getBestParameters().get("shortPeriod") < window.getBestParameters().get("longPeriod")));
+        verify(backtestService, times(1)).getStockData(any()); // 데이터는 한 번만 조회
+        assertNull(prices.get(150).getSignal());
+    }
+
+    @Test
+    @DisplayName("데이터가 학습 구간보다 짧으면 예외")
+    void runWalkForward_InsufficientData_ThrowsException() {
+        when(backtestService.getStockData(any())).thenReturn(prices.subList(0, 100));
+        WalkForwardRequest request = WalkForwardRequest.builder()
+                .baseRequest(baseRequest())
+                .trainDays(120)
+                .testDays(60)
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> walkForwardService.runWalkForward(request));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 최적화 파라미터 예외")
+    void runWalkForward_UnknownParameter_ThrowsException() {
+        WalkForwardRequest request = WalkForwardRequest.builder()
+                .baseRequest(baseRequest())
+                .parameterGrid(Map.of("unknown", List.of(1)))
+                .build();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> walkForwardService.runWalkForward(request));
+        assertEquals("지원하지 않는 최적화 파라미터입니다: unknown", exception.getMessage());
+    }
+
+    private BackTestRequest baseRequest() {
+        return BackTestRequest.builder()
+                .stockCode("005930")
+                .startDate(prices.get(0).getDate())
+                .endDate(prices.get(prices.size() - 1).getDate())
+                .strategy("SMA")
+                .initialCapital(new BigDecimal("10000000"))
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package trade.project.backtest.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import trade.project.backtest.dto.BackTestResult;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("열 단위 압축 코덱 테스트")
+class ColumnarSeriesCodecTest {
+
+    @Test
+    @DisplayName("자산곡선 인코딩 후 디코딩하면 소수 4자리까지 동일")
+    void equity_RoundTrip() {
+        List<BackTestResult.PortfolioSnapshot> history = history(1000);
+
+        byte[] encoded = ColumnarSeriesCodec.encodeEquity(history);
+        List<BackTestResult.PortfolioSnapshot> decoded = ColumnarSeriesCodec.decodeEquity(encoded).toSnapshots();
+
+        assertEquals(history.size(), decoded.size());
+        for (int i = 0; i < history.size(); i++) {
+            BackTestResult.PortfolioSnapshot expected = history.get(i);
+            BackTestResult.PortfolioSnapshot actual = decoded.get(i);
+            assertEquals(expected.getDate(), actual.getDate());
+            assertEquals(0, expected.getCapital().compareTo(actual.getCapital()));
+            assertEquals(0, expected.getPosition().compareTo(actual.getPosition()));
+            assertEquals(0, expected.getTotalValue().compareTo(actual.getTotalValue()));
+            assertEquals(0, expected.getReturnPercent().compareTo(actual.getReturnPercent()));
+            assertEquals(0, expected.getDrawdownPercent().compareTo(actual.getDrawdownPercent()));
+        }
+        // 지점당 수 바이트 수준으로 압축
+        assertTrue(encoded.length < history.size() * 10, "encoded bytes: " + encoded.length);
+    }
+
+    @Test
+    @DisplayName("거래 내역 인코딩 후 디코딩 (null 사유 포함)")
+    void trades_RoundTrip() {
+        List<BackTestResult.TradeRecord> trades = List.of(
+                trade(LocalDate.of(2024, 1, 2), "BUY", "신호"),
+                trade(LocalDate.of(2024, 1, 15), "SELL", null),
+                trade(LocalDate.of(2024, 2, 1), "BUY", "신호"));
+
+        List<BackTestResult.TradeRecord> decoded =
+                ColumnarSeriesCodec.decodeTrades(ColumnarSeriesCodec.encodeTrades(trades));
+
+        assertEquals(3, decoded.size());
+        assertEquals(LocalDate.of(2024, 1, 15), decoded.get(1).getDate());
+        assertEquals("SELL", decoded.get(1).getAction());
+        assertNull(decoded.get(1).getReason());
+        assertEquals("신호", decoded.get(2).getReason());
+        assertEquals(70, decoded.get(0).getQuantity());
+        assertEquals(0, new BigDecimal("745.5").compareTo(decoded.get(0).getCommission()));
+        assertTrue(ColumnarSeriesCodec.decodeTrades(ColumnarSeriesCodec.encodeTrades(null)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("자산곡선 축소 시 첫/마지막 지점과 급락 지점 유지")
+    void downsample_KeepsEndpointsAndExtremes() {
+        List<BackTestResult.PortfolioSnapshot> history = history(1000);
+        history.get(500).setTotalValue(new BigDecimal("1000"));
+        ColumnarSeriesCodec.EquityColumns columns =
+                ColumnarSeriesCodec.decodeEquity(ColumnarSeriesCodec.encodeEquity(history));
+
+        List<BackTestResult.PortfolioSnapshot> points = columns.downsample(100);
+
+        assertTrue(points.size() <= 100);
+        assertEquals(history.get(0).getDate(), points.get(0).getDate());
+        assertEquals(history.get(999).getDate(), points.get(points.size() - 1).getDate());
+        assertTrue(points.stream().anyMatch(point -> point.getDate().equals(history.get(500).getDate())));
+        for (int i = 1; i < points.size(); i++) {
+            assertTrue(points.get(i).getDate().isAfter(points.get(i - 1).getDate()));
+        }
+        assertEquals(1000, columns.downsample(0).size());
+    }
+
+    private static List<BackTestResult.PortfolioSnapshot> history(int size) {
+        List<BackTestResult.PortfolioSnapshot> history = new ArrayList<>();
+        BigDecimal initial = new BigDecimal("10000000");
+        LocalDate date = LocalDate.of(2020, 1, 1);
+        for (int i = 0; i < size; i++) {
+            BigDecimal position = BigDecimal.valueOf(70L * (70000 + Math.round(3000 * Math.sin(i / 10.0))));
+            BigDecimal capital = new BigDecimal("5000123.4567");
+            BigDecimal total = capital.add(position);
+            history.add(BackTestResult.PortfolioSnapshot.builder()
+                    .date(date.plusDays(i))
+                    .capital(capital)
+                    .position(position)
+                    .totalValue(total)
+                    .returnPercent(total.subtract(initial).divide(initial, 4, RoundingMode.HALF_UP)
+                            .multiply(BigDecimal.valueOf(100)))
+                    .drawdown(BigDecimal.ZERO)
+                    .drawdownPercent(BigDecimal.ZERO)
+                    .build());
+        }
+        return history;
+    }
+
+    private static BackTestResult.TradeRecord trade(LocalDate date, String action, String reason) {
+        return BackTestResult.TradeRecord.builder()
+                .date(date)
+                .action(action)
+                .price(new BigDecimal("71000"))
+                .quantity(70)
+                .amount(new BigDecimal("4970000"))
+                .commission(new BigDecimal("745.5"))
+                .balance(new BigDecimal("5029254.5"))
+                .position(BigDecimal.valueOf(70))
+                .reason(reason)
+                .build();
+    }
+}
@@ -205,4 +205,34 @@ class StrategyFactoryTest {
         assertNotNull(smaStrategy);
         assertEquals("Simple Moving Average Strategy", smaStrategy.getStrategyDescription());
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("사용자 전략 런타임 등록/제거")
+    void registerStrategy_CustomStrategy_CanBeFoundAndRemoved() {
+        // Given
+        DslTradingStrategy custom = new DslTradingStrategy("my_rsi", null,
+                "RSI(14) < 30", "RSI(14) > 70");
+
+        // When
+        strategyFactory.registerStrategy(custom);
+
+        // Then
+        assertSame(custom, strategyFactory.getStrategy("MY_RSI"));
+        assertEquals(4, strategyFactory.getAvailableStrategies().size());
+        assertTrue(strategyFactory.getStrategyNames().contains("MY_RSI"));
+
+        assertTrue(strategyFactory.unregisterStrategy("my_rsi"));
+        assertNull(strategyFactory.getStrategy("MY_RSI"));
+        assertEquals(3, strategyFactory.getAvailableStrategies().size());
+    }
+
+    @Test
+    @DisplayName("기본 전략 이름으로 사용자 전략 등록 시 예외")
+    void registerStrategy_WithBuiltInName_ShouldThrowException() {
+        DslTradingStrategy custom = new DslTradingStrategy("SMA", null, "RSI(14) < 30", null);
+
+        assertThrows(IllegalArgumentException.class, () -> strategyFactory.registerStrategy(custom));
+        assertSame(smaStrategy, strategyFactory.getStrategy("SMA"));
+        assertFalse(strategyFactory.unregisterStrategy("SMA"));
+    }
+}
@@ -0,0 +1,146 @@
+package trade.project.common.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import trade.project.common.exception.ApiException;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("외부 API 호출 보호 테스트")
+class ResilientCallerTest {
+
+    private static final String ENDPOINT = "/uapi/domestic-stock/v1/quotations/inquire-price";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger permits = new AtomicInteger();
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    private ResilientCaller caller;
+
+    @BeforeEach
+    void setUp() {
+        caller = new ResilientCaller("KIS", permits::incrementAndGet, () -> true,
+                Executors.newCachedThreadPool(), nanos::get, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        caller.shutdown();
+    }
+
+    @Test
+    @DisplayName("일시 장애는 재시도하고 시도마다 호출 한도를 사용")
+    void call_TransientFailure_Retries() {
+        String result = caller.call(ENDPOINT, new ResilientCaller.Policy(3, 1_000, false), () -> {
+            if (invocations.incrementAndGet() < 3) {
+                throw new ApiException("API 호출 실패 (HTTP 503)", "HTTP_ERROR", 503);
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, invocations.get());
+        assertEquals(3, permits.get());
+        assertEquals(2L, endpointStatus().get("retries"));
+    }
+
+    @Test
+    @DisplayName("요청 오류(4xx)는 재시도하지 않음")
+    void call_ClientError_NotRetried() {
+        ApiException error = assertThrows(ApiException.class, () -> caller.call(ENDPOINT,
+                new ResilientCaller.Policy(3, 1_000, false), () -> {
+                    invocations.incrementAndGet();
+                    throw new ApiException("API 요청 실패", new ApiException("API 호출 실패 (HTTP 400)", "HTTP_ERROR", 400));
+                }));
+
+        assertEquals("API 요청 실패", error.getMessage());
+        assertEquals(1, invocations.get());
+        assertEquals("CLOSED", endpointStatus().get("state"));
+    }
+
+    @Test
+    @DisplayName("실패율이 기준을 넘으면 서킷이 열려 호출 없이 바로 실패하고, 대기 후 시험 호출 성공 시 닫힘")
+    void call_CircuitOpensAndRecovers() {
+        ResilientCaller.Policy policy = new ResilientCaller.Policy(1, 1_000, false);
+        for (int i = 0; i < CircuitBreaker.MIN_CALLS; i++) {
+            assertThrows(ApiException.class, () -> caller.call(ENDPOINT, policy, () -> {
+                invocations.incrementAndGet();
+                throw new IllegalStateException("Connection reset");
+            }));
+        }
+        assertEquals("OPEN", endpointStatus().get("state"));
+
+        // 서킷 열림: 호출하지 않고 CIRCUIT_OPEN
+        ApiException rejected = assertThrows(ApiException.class, () -> caller.call(ENDPOINT, policy, () -> {
+            invocations.incrementAndGet();
+            return "ok";
+        }));
+        assertEquals("CIRCUIT_OPEN", rejected.getErrorCode());
+        assertEquals(CircuitBreaker.MIN_CALLS, invocations.get());
+
+        // 대기 후 시험 호출 성공
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(CircuitBreaker.OPEN_MILLIS));
+        assertEquals("ok", caller.call(ENDPOINT, policy, () -> "ok"));
+        assertEquals("CLOSED", endpointStatus().get("state"));
+    }
+
+    @Test
+    @DisplayName("시도 제한 시간을 넘으면 TIMEOUT으로 실패하고 진행 중인 호출은 인터럽트")
+    void call_AttemptTimeout_InterruptsCall() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        ApiException error = assertThrows(ApiException.class, () -> caller.call(ENDPOINT,
+                new ResilientCaller.Policy(1, 100, false), () -> {
+                    try {
+                        Thread.sleep(5_000);
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                    return "late";
+                }));
+
+        assertEquals("TIMEOUT", error.getErrorCode());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertEquals(1L, endpointStatus().get("timeouts"));
+    }
+
+    @Test
+    @DisplayName("응답이 p95보다 늦으면 헤지 요청을 보내 먼저 성공한 결과를 사용")
+    void call_SlowPrimary_HedgeWins() {
+        ResilientCaller.Policy policy = new ResilientCaller.Policy(1, 2_000, true);
+        for (int i = 0; i < ResilientCaller.MIN_HEDGE_SAMPLES; i++) {
+            caller.call(ENDPOINT, policy, () -> "fast");
+        }
+
+        long startedAt = System.nanoTime();
+        String result = caller.call(ENDPOINT, policy, () -> {
+            if (invocations.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "slow";
+            }
+            return "hedge";
+        });
+
+        assertEquals("hedge", result);
+        assertTrue(System.nanoTime() - startedAt < TimeUnit.SECONDS.toNanos(1));
+        assertEquals(1L, endpointStatus().get("hedges"));
+        assertEquals(1L, endpointStatus().get("hedgeWins"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> endpointStatus() {
+        return (Map<String, Object>) caller.status().get(ENDPOINT);
+    }
+}
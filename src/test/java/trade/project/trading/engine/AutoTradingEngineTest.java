@@ -6,23 +6,43 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import trade.project.api.dto.ForeignStockOrderRequest;
+import trade.project.api.dto.ForeignStockOrderResponse;
+import trade.project.api.dto.ForeignStockPriceResponse;
 import trade.project.api.dto.StockPriceRequest;
 import trade.project.api.dto.StockPriceResponse;
 import trade.project.api.dto.StockOrderRequest;
 import trade.project.api.dto.StockOrderResponse;
+import trade.project.api.service.ForeignStockOrderService;
+import trade.project.api.service.ForeignStockPriceService;
+import trade.project.api.service.QuotePushService;
 import trade.project.api.service.StockPriceService;
 import trade.project.api.service.StockOrderService;
 import trade.project.trading.dto.AutoTradingStrategy;
 import trade.project.trading.enums.TopKospiStocks;
+import trade.project.trading.enums.TopNasdaqStocks;
 import trade.project.trading.enums.TradingSchedule;
+import trade.project.trading.order.OrderManager;
+import trade.project.trading.risk.OrderGuard;
+import trade.project.trading.risk.PreTradeRiskEngine;
+import trade.project.trading.risk.RiskCheckResult;
 import trade.project.trading.service.TradingRecordService;
 import trade.project.trading.service.PriceQueryRecordService;
 import trade.project.backtest.util.TechnicalIndicatorCalculator;
+import trade.project.common.dto.ApiResponse;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -44,6 +64,24 @@ class AutoTradingEngineTest {
     @Mock
     private TechnicalIndicatorCalculator technicalIndicatorCalculator;
 
+    @Mock
+    private PreTradeRiskEngine preTradeRiskEngine;
+
+    @Mock
+    private OrderGuard orderGuard;
+
+    @Mock
+    private QuotePushService quotePushService;
+
+    @Mock
+    private OrderManager orderManager;
+
+    @Mock
+    private ForeignStockPriceService foreignStockPriceService;
+
+    @Mock
+    private ForeignStockOrderService foreignStockOrderService;
+
     @InjectMocks
     private AutoTradingEngine autoTradingEngine;
 
@@ -84,6 +122,7 @@ class AutoTradingEngineTest {
                 .smaLongPeriod(20)
                 .tradeDuringMarketHours(true)
                 .tradeDuringHighFrequency(true)
+                .fastPollingAllowed(true)
                 .priceCheckInterval(60)
                 .maxDailyLoss(new BigDecimal("2"))
                 .maxDrawdown(new BigDecimal("10"))
@@ -119,6 +158,11 @@ class AutoTradingEngineTest {
                 .price(75000)
                 .orderTime(LocalDateTime.now().toString())
                 .build();
+
+        // 스케줄러 스레드의 시세 조회에서 리스크 점검은 통과
+        lenient().when(preTradeRiskEngine.onPrice(any(), anyDouble())).thenReturn(RiskCheckResult.APPROVED);
+        lenient().when(preTradeRiskEngine.checkAndReserve(any(), anyBoolean(), anyLong(), anyDouble()))
+                .thenReturn(RiskCheckResult.APPROVED);
     }
 
     @Test
@@ -130,11 +174,138 @@ class AutoTradingEngineTest {
 
     @Test
     void testInitializeForeign() {
-        when(stockPriceService.getCurrentPrice(any(StockPriceRequest.class), any()))
-                .thenReturn(testPriceResponse);
+        // 해외 전략은 미국 정규장 시간에만 시세를 조회하므로 실행 시각에 따라 호출되지 않을 수 있음
+        lenient().when(foreignStockPriceService.getCurrentPriceByCode(any(), any()))
+                .thenReturn(ApiResponse.success(ForeignStockPriceResponse.builder()
+                        .stockCode("AAPL")
+                        .currentPrice(new BigDecimal("189.37"))
+                        .build()));
         assertDoesNotThrow(() -> autoTradingEngine.initializeForeign());
     }
 
+    @Test
+    void getCurrentPrice_StaleQuote_SkipsTick() {
+        // 유지 시간이 지난 시세는 구독자에게만 배포하고 리스크/신호/주문 가격으로는 쓰지 않음
+        when(stockPriceService.getCurrentPrice(any(StockPriceRequest.class), any()))
+                .thenReturn(testPriceResponse.toBuilder().cacheStatus("STALE").stale(true).quoteAgeMillis(65_000L).build());
+
+        assertNull(autoTradingEngine.getCurrentPrice("005930"));
+        verify(quotePushService).publish(any(), eq("005930"), any());
+    }
+
+    @Test
+    void getCurrentPrice_FreshQuote_ReturnsPrice() {
+        when(stockPriceService.getCurrentPrice(any(StockPriceRequest.class), any()))
+                .thenReturn(testPriceResponse.toBuilder().cacheStatus("HIT").stale(false).build());
+
+        assertEquals(new BigDecimal("75000"), autoTradingEngine.getCurrentPrice("005930"));
+    }
+
+    @Test
+    void executeBuyOrder_ForeignOrder_ReservesAndSettlesInUsd() {
+        // 해외 전략 한도가 달러이므로 원장 예약/정산 모두 달러 주문 가격 기준 (환율 조회 없음)
+        AutoTradingStrategy strategy = foreignStrategy();
+        TradingStatus status = new TradingStatus();
+        when(foreignStockOrderService.executeOrder(any(ForeignStockOrderRequest.class), any()))
+                .thenReturn(ApiResponse.success(foreignOrder("F-1", "체결", 10, "189.40")));
+
+        autoTradingEngine.executeBuyOrder(strategy, new BigDecimal("189.37"), status);
+
+        verify(preTradeRiskEngine).checkAndReserve("DEFAULT_AAPL", true, 10, 189.37);
+        verify(foreignStockOrderService).executeOrder(argThat(request ->
+                new BigDecimal("189.37").equals(request.getPrice())), any());
+        verify(preTradeRiskEngine).onFill("DEFAULT_AAPL", true, 10, 189.37);
+        verify(preTradeRiskEngine, never()).release(any(), anyBoolean(), anyLong(), anyDouble());
+        verify(preTradeRiskEngine, never()).releaseRemainder(any(), anyBoolean(), anyLong(), anyDouble());
+        assertEquals(new BigDecimal("10"), status.currentPosition);
+        assertEquals(new BigDecimal("189.40"), status.averagePrice);
+        assertFalse(autoTradingEngine.hasWorkingOrder(strategy));
+    }
+
+    @Test
+    void executeBuyOrder_ForeignPendingOrder_BlocksNewOrder() {
+        // 체결 확인 전 해외 주문이 있으면 같은 신호로 다시 예약/주문하지 않음
+        AutoTradingStrategy strategy = foreignStrategy();
+        TradingStatus status = new TradingStatus();
+        when(foreignStockOrderService.executeOrder(any(ForeignStockOrderRequest.class), any()))
+                .thenReturn(ApiResponse.success(foreignOrder("F-1", "접수", 0, null)));
+
+        autoTradingEngine.executeBuyOrder(strategy, new BigDecimal("189.37"), status);
+        autoTradingEngine.executeBuyOrder(strategy, new BigDecimal("189.37"), status);
+
+        assertTrue(autoTradingEngine.hasWorkingOrder(strategy));
+        verify(preTradeRiskEngine, times(1)).checkAndReserve(any(), anyBoolean(), anyLong(), anyDouble());
+        verify(foreignStockOrderService, times(1)).executeOrder(any(ForeignStockOrderRequest.class), any());
+        verify(preTradeRiskEngine, never()).onFill(any(), anyBoolean(), anyLong(), anyDouble());
+        assertEquals(BigDecimal.ZERO, status.currentPosition);
+    }
+
+    @Test
+    void refreshForeignWorkingOrder_PartialFills_ApplyOnlyDelta() {
+        AutoTradingStrategy strategy = foreignStrategy();
+        submitPendingForeignBuy(strategy);
+        when(foreignStockOrderService.getOrderStatus(eq("FOREIGN123456"), eq("F-1"), any()))
+                .thenReturn(ApiResponse.success(foreignOrder("F-1", "부분체결", 4, "189.50")))
+                .thenReturn(ApiResponse.success(foreignOrder("F-1", "부분체결", 7, "189.60")))
+                .thenReturn(ApiResponse.success(foreignOrder("F-1", "부분체결", 7, "189.60")));
+
+        autoTradingEngine.refreshForeignWorkingOrder(strategy, Instant.now());
+        autoTradingEngine.refreshForeignWorkingOrder(strategy, Instant.now());
+        autoTradingEngine.refreshForeignWorkingOrder(strategy, Instant.now());
+
+        // 누적 4주 → 7주: 늘어난 수량만 반영하고 같은 누적 수량은 다시 반영하지 않음
+        verify(preTradeRiskEngine).onFill("DEFAULT_AAPL", true, 4, 189.37);
+        verify(preTradeRiskEngine).onFill("DEFAULT_AAPL", true, 3, 189.37);
+        verify(preTradeRiskEngine, times(2)).onFill(any(), anyBoolean(), anyLong(), anyDouble());
+        verify(preTradeRiskEngine, never()).releaseRemainder(any(), anyBoolean(), anyLong(), anyDouble());
+        assertTrue(autoTradingEngine.hasWorkingOrder(strategy));
+    }
+
+    @Test
+    void refreshForeignWorkingOrder_CancelledAfterPartialFill_ReleasesRemainder() {
+        AutoTradingStrategy strategy = foreignStrategy();
+        submitPendingForeignBuy(strategy);
+        when(foreignStockOrderService.getOrderStatus(eq("FOREIGN123456"), eq("F-1"), any()))
+                .thenReturn(ApiResponse.success(foreignOrder("F-1", "취소", 4, "189.50")));
+
+        autoTradingEngine.refreshForeignWorkingOrder(strategy, Instant.now());
+
+        verify(preTradeRiskEngine).onFill("DEFAULT_AAPL", true, 4, 189.37);
+        verify(preTradeRiskEngine).releaseRemainder("DEFAULT_AAPL", true, 6, 189.37);
+        verify(preTradeRiskEngine, never()).release(any(), anyBoolean(), anyLong(), anyDouble());
+        assertFalse(autoTradingEngine.hasWorkingOrder(strategy));
+    }
+
+    @Test
+    void refreshForeignWorkingOrder_RejectedWithoutFill_ReleasesReservation() {
+        AutoTradingStrategy strategy = foreignStrategy();
+        submitPendingForeignBuy(strategy);
+        when(foreignStockOrderService.getOrderStatus(eq("FOREIGN123456"), eq("F-1"), any()))
+                .thenReturn(ApiResponse.success(foreignOrder("F-1", "거부", 0, null)));
+
+        autoTradingEngine.refreshForeignWorkingOrder(strategy, Instant.now());
+
+        // 체결 없이 종료되면 거래 횟수까지 예약 전체 해제
+        verify(preTradeRiskEngine).release("DEFAULT_AAPL", true, 10, 189.37);
+        verify(preTradeRiskEngine, never()).onFill(any(), anyBoolean(), anyLong(), anyDouble());
+        assertFalse(autoTradingEngine.hasWorkingOrder(strategy));
+    }
+
+    @Test
+    void refreshForeignWorkingOrder_SessionClosed_ReleasesRemainder() {
+        AutoTradingStrategy strategy = foreignStrategy();
+        submitPendingForeignBuy(strategy);
+        when(foreignStockOrderService.getOrderStatus(eq("FOREIGN123456"), eq("F-1"), any()))
+                .thenReturn(ApiResponse.success(foreignOrder("F-1", "부분체결", 2, "189.40")));
+
+        // 주문이 걸린 정규장이 끝난 뒤 첫 조회: 마지막 체결까지 반영 후 잔량 예약 해제 (주말/휴장 포함해도 지난 시각)
+        autoTradingEngine.refreshForeignWorkingOrder(strategy, Instant.now().plus(Duration.ofDays(7)));
+
+        verify(preTradeRiskEngine).onFill("DEFAULT_AAPL", true, 2, 189.37);
+        verify(preTradeRiskEngine).releaseRemainder("DEFAULT_AAPL", true, 8, 189.37);
+        assertFalse(autoTradingEngine.hasWorkingOrder(strategy));
+    }
+
     @Test
     void testShutdownDomestic() {
         assertDoesNotThrow(() -> autoTradingEngine.shutdownDomestic());
@@ -409,4 +580,37 @@ class AutoTradingEngineTest {
         assertNotNull(stocks);
         assertEquals(0, stocks.length);
     }
-} 
\ No newline at end of file
+
+    private AutoTradingStrategy foreignStrategy() {
+        AutoTradingStrategy strategy = AutoTradingStrategy.createDefaultStrategy(TopNasdaqStocks.AAPL);
+        strategy.setBuyQuantity(10);
+        ReflectionTestUtils.setField(autoTradingEngine, "foreignOrdersEnabled", true);
+        return strategy;
+    }
+
+    /**
+     * 10주 @ $189.37 매수 주문 접수 (체결 없음)
+     */
+    private void submitPendingForeignBuy(AutoTradingStrategy strategy) {
+        when(foreignStockOrderService.executeOrder(any(ForeignStockOrderRequest.class), any()))
+                .thenReturn(ApiResponse.success(foreignOrder("F-1", "접수", 0, null)));
+        autoTradingEngine.executeBuyOrder(strategy, new BigDecimal("189.37"), new TradingStatus());
+        assertTrue(autoTradingEngine.hasWorkingOrder(strategy));
+    }
+
+    private ForeignStockOrderResponse foreignOrder(String orderNumber, String orderStatus, int executedQuantity,
+                                                   String executedPrice) {
+        return ForeignStockOrderResponse.builder()
+                .orderNumber(orderNumber)
+                .accountNumber("FOREIGN123456")
+                .stockCode("AAPL")
+                .orderType("매수")
+                .quantity(10)
+                .price(new BigDecimal("189.37"))
+                .orderStatus(orderStatus)
+                .executedQuantity(executedQuantity)
+                .executedPrice(executedPrice != null ? new BigDecimal(executedPrice) : null)
+                .currency("USD")
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package trade.project.trading.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import trade.project.trading.enums.TradingSchedule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HashedTimingWheel 테스트")
+class HashedTimingWheelTest {
+
+    private HashedTimingWheel wheel;
+    private List<String> executed;
+
+    @BeforeEach
+    void setUp() {
+        executed = new ArrayList<>();
+        // 동기 실행 executor, 시작 시각 0 기준으로 수동 진행
+        wheel = new HashedTimingWheel(100, 8, Runnable::run, 0);
+    }
+
+    @Test
+    @DisplayName("deadline 도래 시 작업 실행")
+    void advance_ExecutesExpiredTimeouts() {
+        wheel.newTimeout(() -> executed.add("A"), 300, 0);
+        wheel.newTimeout(() -> executed.add("B"), 500, 0);
+
+        assertEquals(0, wheel.advance(200));
+        assertEquals(1, wheel.advance(300));
+        assertEquals(List.of("A"), executed);
+        assertEquals(1, wheel.size());
+
+        assertEquals(1, wheel.advance(600));
+        assertEquals(List.of("A", "B"), executed);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("휠 크기를 넘는 지연은 라운드 수만큼 대기 후 실행")
+    void advance_LongDelay_WaitsForRemainingRounds() {
+        // 휠 한 바퀴 = 8 * 100ms = 800ms
+        wheel.newTimeout(() -> executed.add("LONG"), 2500, 0);
+
+        wheel.advance(2400);
+        assertTrue(executed.isEmpty());
+
+        wheel.advance(2500);
+        assertEquals(List.of("LONG"), executed);
+    }
+
+    @Test
+    @DisplayName("취소된 작업은 실행되지 않음")
+    void cancel_PreventsExecution() {
+        HashedTimingWheel.Timeout timeout = wheel.newTimeout(() -> executed.add("A"), 300, 0);
+        wheel.advance(100);
+
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        assertEquals(0, wheel.size());
+
+        wheel.advance(1000);
+        assertTrue(executed.isEmpty());
+        assertTrue(timeout.isCancelled());
+    }
+
+    @Test
+    @DisplayName("실행 중 재등록한 작업도 다음 주기에 실행")
+    void newTimeout_FromTask_Reschedules() {
+        Runnable[] task = new Runnable[1];
+        task[0] = () -> {
+            executed.add("TICK");
+            if (executed.size() < 3) {
+                wheel.newTimeout(task[0], 200, executed.size() * 200L);
+            }
+        };
+        wheel.newTimeout(task[0], 200, 0);
+
+        wheel.advance(1000);
+        assertEquals(3, executed.size());
+    }
+
+    @Test
+    @DisplayName("시간대별 조회 주기 조정")
+    void adjustInterval_FollowsTradingSchedule() {
+        assertEquals(10, TradingSchedule.MARKET_OPEN.adjustInterval(60, true));
+        assertEquals(90, TradingSchedule.LUNCH_BREAK.adjustInterval(60, true));
+        assertEquals(60, TradingSchedule.MORNING_SESSION.adjustInterval(60, true));
+        // 고빈도 거래 미허용 전략은 기본 주기보다 짧아지지 않음
+        assertEquals(60, TradingSchedule.MARKET_OPEN.adjustInterval(60, false));
+        // 최소 주기 보장
+        assertEquals(5, TradingSchedule.MARKET_OPEN.adjustInterval(10, true));
+        // 주기 미설정 시 시간대 기본 주기 사용
+        assertEquals(90, TradingSchedule.LUNCH_BREAK.adjustInterval(0, true));
+    }
+}
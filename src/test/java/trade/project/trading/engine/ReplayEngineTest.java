@@ -0,0 +1,228 @@
+package trade.project.trading.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import trade.project.trading.document.PriceQueryRecord;
+import trade.project.trading.dto.AutoTradingStrategy;
+import trade.project.trading.dto.ReplayRequest;
+import trade.project.trading.dto.ReplayResult;
+import trade.project.trading.service.PriceQueryRecordService;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplayEngine 테스트")
+class ReplayEngineTest {
+
+    @Mock
+    private PriceQueryRecordService priceQueryRecordService;
+
+    @InjectMocks
+    private ReplayEngine replayEngine;
+
+    private LocalDateTime start;
+    private LocalDateTime end;
+
+    @BeforeEach
+    void setUp() {
+        start = LocalDateTime.of(2024, 1, 2, 9, 0);
+        end = LocalDateTime.of(2024, 1, 2, 15, 30);
+    }
+
+    @Test
+    @DisplayName("기록된 시세를 시간순으로 처리")
+    void replay_ProcessesRecordedQuotes() {
+        // Given
+        when(priceQueryRecordService.findByStockCodeAndQueryTypeBetweenAsc(eq("005930"), eq("daily"), any(), any()))
+                .thenReturn(List.of());
+        when(priceQueryRecordService.streamSuccessRecordsAsc(eq("005930"), eq("current"), any(), any()))
+                .thenReturn(Stream.of(
+                        quote(start.plusMinutes(1), 70000),
+                        quote(start.plusMinutes(2), 70500),
+                        quote(start.plusMinutes(3), null),
+                        quote(start.plusMinutes(4), 71000)));
+
+        ReplayRequest request = ReplayRequest.builder()
+                .strategy(AutoTradingStrategy.createDefaultStrategy())
+                .startDateTime(start)
+                .endDateTime(end)
+                .build();
+
+        // When
+        ReplayResult result = replayEngine.replay(request);
+
+        // Then
+        assertEquals("DEFAULT_SAMSUNG", result.getStrategyId());
+        assertEquals(3, result.getQuoteCount());
+        assertEquals(0, result.getTotalTrades()); // 이력 부족 시 중립 지표로 거래 없음
+        assertEquals(new BigDecimal("71000"), result.getLastPrice());
+        assertEquals(BigDecimal.ZERO, result.getFinalPosition());
+        assertFalse(result.isHaltedByRisk());
+    }
+
+    @Test
+    @DisplayName("일자별 기록은 지표 워밍업에 필요한 구간만 조회")
+    void replay_LoadsBoundedDailyHistory() {
+        // Given
+        when(priceQueryRecordService.findByStockCodeAndQueryTypeBetweenAsc(eq("005930"), eq("daily"), any(), any()))
+                .thenReturn(List.of());
+        when(priceQueryRecordService.streamSuccessRecordsAsc(eq("005930"), eq("current"), any(), any()))
+                .thenReturn(Stream.empty());
+        ReplayRequest request = ReplayRequest.builder()
+                .strategy(AutoTradingStrategy.createDefaultStrategy())
+                .startDateTime(start)
+                .endDateTime(end)
+                .build();
+
+        // When
+        replayEngine.replay(request);
+
+        // Then: 최장 지표(MACD 시그널 26+9-1=34봉) + 워밍업 50봉 = 84봉 → 주 5일 기준 118일 + 휴장 여유 10일
+        ArgumentCaptor<LocalDateTime> historyStart = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(priceQueryRecordService).findByStockCodeAndQueryTypeBetweenAsc(
+                eq("005930"), eq("daily"), historyStart.capture(), eq(end));
+        assertEquals(start.toLocalDate().minusDays(128).atStartOfDay(), historyStart.getValue());
+    }
+
+    @Test
+    @DisplayName("주문 전 리스크 점검 거절 신호는 체결하지 않고 다음 가상 거래일에 한도 초기화")
+    void replay_RiskRejectsSignalsAndRollsOverDailyTradeLimit() {
+        // Given: 매 시세 매수 신호, 일일 거래 2회 한도
+        AutoTradingStrategy strategy = dslStrategy("PRICE > 0", "PRICE < 0");
+        strategy.setMaxDailyTrades(2);
+        LocalDateTime nextDay = start.plusDays(1);
+        when(priceQueryRecordService.findByStockCodeAndQueryTypeBetweenAsc(eq("005930"), eq("daily"), any(), any()))
+                .thenReturn(dailyHistory(70000));
+        when(priceQueryRecordService.streamSuccessRecordsAsc(eq("005930"), eq("current"), any(), any()))
+                .thenReturn(Stream.of(
+                        quote(start.plusMinutes(1), 70000),
+                        quote(start.plusMinutes(2), 70000),
+                        quote(start.plusMinutes(3), 70000),
+                        quote(nextDay.plusMinutes(1), 70000),
+                        quote(nextDay.plusMinutes(2), 70000)));
+
+        // When
+        ReplayResult result = replayEngine.replay(replayRequest(strategy, start, nextDay.plusHours(6)));
+
+        // Then: 첫날 세 번째 매수는 일일 거래 횟수 초과로 거절, 다음 날 다시 2회 체결
+        assertEquals(4, result.getBuyCount());
+        assertEquals(1, result.getRiskRejectedCount());
+        assertEquals(new BigDecimal("4"), result.getFinalPosition());
+        assertFalse(result.isHaltedByRisk());
+    }
+
+    @Test
+    @DisplayName("여러 날 리플레이는 누적 손익이 아닌 가상 거래일별 손익으로 손실 한도 판단")
+    void replay_MultiDayLosses_DoNotHaltOnCumulativePnL() {
+        // Given: 일일 손실 한도 2% (2만원), 매일 1.47% 손실 후 청산
+        AutoTradingStrategy strategy = dslStrategy("NOT HAS_POSITION", "PRICE < 69000");
+        strategy.setTotalInvestment(new BigDecimal("1000000"));
+        strategy.setMaxPositionSize(BigDecimal.ONE);
+        strategy.setBuyQuantity(7);
+        LocalDateTime nextDay = start.plusDays(1);
+        when(priceQueryRecordService.findByStockCodeAndQueryTypeBetweenAsc(eq("005930"), eq("daily"), any(), any()))
+                .thenReturn(dailyHistory(70000));
+        when(priceQueryRecordService.streamSuccessRecordsAsc(eq("005930"), eq("current"), any(), any()))
+                .thenReturn(Stream.of(
+                        quote(start.plusMinutes(10), 70000),
+                        quote(start.plusMinutes(20), 67900),
+                        quote(nextDay.plusMinutes(10), 70000),
+                        quote(nextDay.plusMinutes(20), 67900)));
+
+        // When
+        ReplayResult result = replayEngine.replay(replayRequest(strategy, start, nextDay.plusHours(6)));
+
+        // Then: 누적 손실(2.94%)은 한도를 넘지만 일별 손실(1.47%)은 넘지 않으므로 중지되지 않음
+        assertEquals(2, result.getBuyCount());
+        assertEquals(2, result.getSellCount());
+        assertEquals(new BigDecimal("-29400.00"), result.getRealizedPnL());
+        assertEquals(4, result.getQuoteCount());
+        assertFalse(result.isHaltedByRisk());
+        assertNull(result.getHaltReason());
+    }
+
+    @Test
+    @DisplayName("잘못된 기간 요청 시 예외")
+    void replay_InvalidRange_ThrowsException() {
+        ReplayRequest request = ReplayRequest.builder()
+                .strategy(AutoTradingStrategy.createDefaultStrategy())
+                .startDateTime(end)
+                .endDateTime(start)
+                .build();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> replayEngine.replay(request));
+        assertEquals("시작 시각은 종료 시각보다 이전이어야 합니다", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("전략 누락 시 예외")
+    void replay_WithoutStrategy_ThrowsException() {
+        ReplayRequest request = ReplayRequest.builder()
+                .startDateTime(start)
+                .endDateTime(end)
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> replayEngine.replay(request));
+    }
+
+    private AutoTradingStrategy dslStrategy(String buyRule, String sellRule) {
+        AutoTradingStrategy strategy = AutoTradingStrategy.createDefaultStrategy();
+        strategy.setBuyRule(buyRule);
+        strategy.setSellRule(sellRule);
+        return strategy;
+    }
+
+    private ReplayRequest replayRequest(AutoTradingStrategy strategy, LocalDateTime from, LocalDateTime to) {
+        return ReplayRequest.builder()
+                .strategy(strategy)
+                .startDateTime(from)
+                .endDateTime(to)
+                .build();
+    }
+
+    /**
+     * 규칙식 신호가 나오도록 시작 전 최소 이력(30봉)을 채운 일자별 기록
+     */
+    private List<PriceQueryRecord> dailyHistory(int price) {
+        List<PriceQueryRecord> records = new ArrayList<>();
+        for (int day = 40; day > 0; day--) {
+            records.add(PriceQueryRecord.builder()
+                    .stockCode("005930")
+                    .queryType("daily")
+                    .currentPrice(price)
+                    .highPrice(price)
+                    .lowPrice(price)
+                    .queryDateTime(start.minusDays(day).withHour(15).withMinute(30))
+                    .build());
+        }
+        return records;
+    }
+
+    private PriceQueryRecord quote(LocalDateTime time, Integer price) {
+        return PriceQueryRecord.builder()
+                .stockCode("005930")
+                .queryType("current")
+                .currentPrice(price)
+                .highPrice(price)
+                .lowPrice(price)
+                .queryDateTime(time)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package trade.project.trading.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import trade.project.backtest.pipeline.PipelineSpec;
+import trade.project.backtest.pipeline.StrategyPipelineCompiler;
+import trade.project.trading.document.PriceQueryRecord;
+import trade.project.trading.dto.AutoTradingStrategy;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TradingSignalEvaluator 테스트")
+class TradingSignalEvaluatorTest {
+
+    private final TradingSignalEvaluator evaluator = new TradingSignalEvaluator();
+
+    @Test
+    @DisplayName("파이프라인 캐시가 교체되어도 같은 전략 정의의 지표 상태 유지")
+    void stateFor_PipelineCacheChurn_KeepsState() {
+        AutoTradingStrategy strategy = AutoTradingStrategy.createDefaultStrategy();
+        TradingSignalEvaluator.SignalState state = evaluator.stateFor(strategy);
+        state.append(daily(LocalDateTime.of(2024, 1, 2, 16, 0), 70000));
+
+        // 최적화/워크포워드 탐색으로 캐시 용량 이상의 정의가 컴파일됨
+        for (int period = 1; period <= 600; period++) {
+            StrategyPipelineCompiler.compile(PipelineSpec.builder()
+                    .type(PipelineSpec.Type.SMA_CROSS)
+                    .smaShortPeriod(period)
+                    .smaLongPeriod(period + 1)
+                    .build());
+        }
+
+        assertSame(state, evaluator.stateFor(strategy));
+        assertEquals(1, evaluator.stateFor(strategy).getBarCount());
+    }
+
+    @Test
+    @DisplayName("전략 파라미터가 바뀌면 지표 상태 새로 생성")
+    void stateFor_ChangedParameters_CreatesNewState() {
+        AutoTradingStrategy strategy = AutoTradingStrategy.createDefaultStrategy();
+        TradingSignalEvaluator.SignalState state = evaluator.stateFor(strategy);
+
+        strategy.setSmaLongPeriod(60);
+
+        assertNotSame(state, evaluator.stateFor(strategy));
+    }
+
+    private PriceQueryRecord daily(LocalDateTime time, int price) {
+        return PriceQueryRecord.builder()
+                .stockCode("005930")
+                .queryType("daily")
+                .currentPrice(price)
+                .queryDateTime(time)
+                .build();
+    }
+}
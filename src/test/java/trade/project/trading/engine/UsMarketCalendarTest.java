@@ -0,0 +1,76 @@
+package trade.project.trading.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("미국 정규장 캘린더 테스트")
+class UsMarketCalendarTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Test
+    @DisplayName("서머타임에 따라 한국 시간 개장 시각이 달라짐")
+    void isOpen_FollowsDaylightSaving() {
+        // 여름 (EDT): 한국 시간 22:30 개장
+        assertFalse(UsMarketCalendar.isOpen(seoul(2024, 7, 15, 22, 29)));
+        assertTrue(UsMarketCalendar.isOpen(seoul(2024, 7, 15, 22, 30)));
+        assertFalse(UsMarketCalendar.isOpen(seoul(2024, 7, 16, 5, 0))); // 16:00 ET 마감
+        // 겨울 (EST): 한국 시간 23:30 개장
+        assertFalse(UsMarketCalendar.isOpen(seoul(2024, 1, 16, 22, 30)));
+        assertTrue(UsMarketCalendar.isOpen(seoul(2024, 1, 16, 23, 30)));
+        assertTrue(UsMarketCalendar.isOpen(seoul(2024, 1, 17, 5, 59)));
+    }
+
+    @Test
+    @DisplayName("휴장일과 대체 휴장")
+    void isTradingDay_Holidays() {
+        assertFalse(UsMarketCalendar.isTradingDay(LocalDate.of(2024, 11, 28))); // 추수감사절
+        assertFalse(UsMarketCalendar.isTradingDay(LocalDate.of(2024, 3, 29)));  // 성금요일
+        assertFalse(UsMarketCalendar.isTradingDay(LocalDate.of(2022, 6, 20)));  // 준틴스 (일요일 → 월요일)
+        assertFalse(UsMarketCalendar.isTradingDay(LocalDate.of(2021, 7, 5)));   // 독립기념일 (일요일 → 월요일)
+        assertFalse(UsMarketCalendar.isTradingDay(LocalDate.of(2024, 5, 27)));  // 메모리얼 데이
+        assertTrue(UsMarketCalendar.isTradingDay(LocalDate.of(2021, 12, 31)));  // 토요일 신정은 대체 휴장 없음
+        assertFalse(UsMarketCalendar.isTradingDay(LocalDate.of(2024, 7, 6)));   // 토요일
+        assertTrue(UsMarketCalendar.isTradingDay(LocalDate.of(2024, 7, 3)));
+    }
+
+    @Test
+    @DisplayName("추수감사절 다음 날은 13:00 조기 폐장")
+    void isOpen_EarlyClose() {
+        assertTrue(UsMarketCalendar.isOpen(newYork(2024, 11, 29, 12, 59)));
+        assertFalse(UsMarketCalendar.isOpen(newYork(2024, 11, 29, 13, 0)));
+        assertTrue(UsMarketCalendar.isOpen(newYork(2024, 12, 2, 15, 59)));
+    }
+
+    @Test
+    @DisplayName("다음 개장 시각은 주말과 휴장일을 건너뜀")
+    void nextOpen_SkipsWeekendAndHoliday() {
+        // 목요일 추수감사절 → 금요일 개장
+        assertEquals(newYork(2024, 11, 29, 9, 30), UsMarketCalendar.nextOpen(newYork(2024, 11, 27, 16, 0)));
+        // 금요일 마감 후 → 월요일 개장
+        assertEquals(newYork(2024, 12, 2, 9, 30), UsMarketCalendar.nextOpen(newYork(2024, 11, 29, 13, 0)));
+        // 성금요일 전날 밤 → 다음 주 월요일
+        assertEquals(newYork(2024, 4, 1, 9, 30), UsMarketCalendar.nextOpen(newYork(2024, 3, 28, 20, 0)));
+        // 개장 전 같은 날
+        assertEquals(newYork(2024, 12, 2, 9, 30), UsMarketCalendar.nextOpen(newYork(2024, 12, 2, 4, 0)));
+
+        Instant open = newYork(2024, 12, 2, 10, 0);
+        assertEquals(open, UsMarketCalendar.nextOpen(open));
+        assertEquals(0L, UsMarketCalendar.millisUntilOpen(open));
+    }
+
+    private static Instant seoul(int year, int month, int day, int hour, int minute) {
+        return LocalDateTime.of(year, month, day, hour, minute).atZone(SEOUL).toInstant();
+    }
+
+    private static Instant newYork(int year, int month, int day, int hour, int minute) {
+        return LocalDateTime.of(year, month, day, hour, minute).atZone(UsMarketCalendar.ZONE).toInstant();
+    }
+}
@@ -0,0 +1,309 @@
+package trade.project.trading.order;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import trade.project.api.dto.StockOrderRequest;
+import trade.project.api.dto.StockOrderResponse;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("주문 관리 파이프라인 테스트")
+class OrderManagerTest {
+
+    private final List<Runnable> queued = new ArrayList<>();
+    private final FakeGateway gateway = new FakeGateway();
+    private final RecordingListener listener = new RecordingListener();
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-06-28T01:00:00Z"));
+
+    private OrderManager orderManager;
+
+    @BeforeEach
+    void setUp() {
+        orderManager = new OrderManager(gateway, queued::add, null, clock);
+    }
+
+    @Test
+    @DisplayName("제출은 증권사 응답을 기다리지 않고, 같은 클라이언트 주문 ID는 한 번만 전송")
+    void submit_IsAsyncAndIdempotent() {
+        // When
+        ManagedOrder first = orderManager.submit("S1", request("A1", "C-1", 10), listener);
+        ManagedOrder retry = orderManager.submit("S1", request("A1", "C-1", 10), listener);
+
+        // Then: 전송 전에는 NEW, 재제출은 기존 주문
+        assertSame(first, retry);
+        assertEquals(OrderState.NEW, first.getState());
+        assertEquals(0, gateway.submitted.size());
+        assertEquals(1, queued.size());
+
+        drain();
+        assertEquals(OrderState.ACCEPTED, first.getState());
+        assertEquals("ODNO-1", first.getOrderNumber());
+        assertEquals(1, gateway.submitted.size());
+        assertEquals(1L, orderManager.stats().get("duplicates"));
+    }
+
+    @Test
+    @DisplayName("계좌별로 한 번에 체결을 조회하고 늘어난 체결 수량만큼만 알림")
+    void pollOnce_AppliesIncrementalFills() {
+        ManagedOrder order = orderManager.submit("S1", request("A1", "C-1", 5), listener);
+        ManagedOrder other = orderManager.submit("S2", request("A1", "C-2", 3), listener);
+        orderManager.submit("S3", request("A2", "C-3", 1), listener);
+        drain();
+
+        // 일부 체결
+        gateway.fills.put("ODNO-1", new OrderFillStatus(2, new BigDecimal("100"), false, false));
+        poll();
+        assertEquals(OrderState.PARTIALLY_FILLED, order.getState());
+        assertEquals(List.of("C-1:2@100"), listener.fills);
+        assertEquals(Map.of("A1", Set.of("ODNO-1", "ODNO-2"), "A2", Set.of("ODNO-3")), gateway.lastPolled);
+
+        // 같은 누적 수량은 다시 알리지 않음
+        poll();
+        assertEquals(1, listener.fills.size());
+
+        // 전량 체결: 이번 체결분 가격은 누적 평균가 차이로 계산
+        gateway.fills.put("ODNO-1", new OrderFillStatus(5, new BigDecimal("101"), false, false));
+        poll();
+        BigDecimal expected = new BigDecimal("505").subtract(new BigDecimal("200"))
+                .divide(new BigDecimal("3"), 4, RoundingMode.HALF_UP);
+        assertEquals("C-1:3@" + expected, listener.fills.get(1));
+        assertEquals(OrderState.FILLED, order.getState());
+        assertEquals(List.of("C-1"), listener.closed);
+
+        // 종료된 주문은 더 조회하지 않음
+        poll();
+        assertEquals(Map.of("A1", Set.of("ODNO-2"), "A2", Set.of("ODNO-3")), gateway.lastPolled);
+        assertEquals(OrderState.ACCEPTED, other.getState());
+    }
+
+    @Test
+    @DisplayName("일부 체결 후 잔량 취소, 증권사 거부는 종료 알림 한 번, 전송 실패는 미확인으로 유지")
+    void terminalStates_NotifyClosedOnce() {
+        gateway.rejectIds.add("C-2");
+        gateway.failIds.add("C-3");
+        ManagedOrder cancelled = orderManager.submit("S1", request("A1", "C-1", 5), listener);
+        ManagedOrder rejected = orderManager.submit("S2", request("A1", "C-2", 5), listener);
+        ManagedOrder failed = orderManager.submit("S3", request("A1", "C-3", 5), listener);
+        drain();
+
+        gateway.fills.put("ODNO-1", new OrderFillStatus(2, new BigDecimal("100"), false, true));
+        poll();
+        poll();
+
+        assertEquals(OrderState.CANCELLED, cancelled.getState());
+        assertEquals(2, cancelled.getFilledQuantity());
+        assertEquals(OrderState.REJECTED, rejected.getState());
+        assertEquals("APBK0919", rejected.toStatus().getErrorCode());
+        assertEquals(OrderState.UNKNOWN, failed.getState());
+        assertEquals("SUBMIT_FAILED", failed.toStatus().getErrorCode());
+        assertEquals(List.of("C-2", "C-1"), listener.closed);
+        assertEquals(3, gateway.submitted.size()); // 전송 실패 주문도 다시 보내지 않음
+    }
+
+    @Test
+    @DisplayName("전송 결과 미확인 주문은 종료하지 않고, 당일 주문 내역에서 찾으면 접수로 이어 체결 반영")
+    void pollOnce_UnknownOrder_RecoveredFromOrderHistory() {
+        // 같은 종목/수량 주문이 먼저 접수되어 있어도 이미 연결된 주문번호는 건너뜀
+        ManagedOrder earlier = orderManager.submit("S1", request("A1", "C-1", 5), listener);
+        gateway.timeoutAfterPlacingIds.add("C-2");
+        ManagedOrder timedOut = orderManager.submit("S2", request("A1", "C-2", 5), listener);
+        drain();
+
+        assertEquals(OrderState.UNKNOWN, timedOut.getState());
+        assertTrue(listener.closed.isEmpty()); // 리스크 예약/진행 중 주문 유지
+        assertEquals(1L, orderManager.stats().get("unconfirmed"));
+
+        gateway.fills.put("ODNO-2", new OrderFillStatus(5, new BigDecimal("100"), false, false));
+        poll();
+
+        assertEquals("ODNO-1", earlier.getOrderNumber());
+        assertEquals("ODNO-2", timedOut.getOrderNumber());
+        assertEquals(OrderState.FILLED, timedOut.getState());
+        assertEquals(List.of("C-2:5@100"), listener.fills);
+        assertEquals(2, gateway.submitted.size()); // 다시 보내지 않음
+        assertEquals(1L, orderManager.stats().get("recovered"));
+        assertEquals(0L, orderManager.stats().get("unconfirmed"));
+    }
+
+    @Test
+    @DisplayName("주문 내역에서 찾지 못한 미확인 주문은 날짜가 바뀌면 만료")
+    void pollOnce_UnknownOrderNotFound_ExpiresNextDay() {
+        gateway.failIds.add("C-1");
+        ManagedOrder failed = orderManager.submit("S1", request("A1", "C-1", 5), listener);
+        drain();
+        poll();
+
+        assertEquals(OrderState.UNKNOWN, failed.getState());
+        assertEquals(1, gateway.lookups);
+        assertTrue(listener.closed.isEmpty());
+
+        clock.instant = Instant.parse("2024-07-01T00:30:00Z");
+        poll();
+
+        assertEquals(OrderState.EXPIRED, failed.getState());
+        assertEquals(List.of("C-1"), listener.closed);
+        assertEquals(1, gateway.lookups); // 전날 주문은 더 찾지 않음
+        assertEquals(1, gateway.submitted.size());
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌어 당일 체결 조회에서 빠진 주문은 만료로 종료")
+    void pollOnce_PreviousDayOrders_Expire() {
+        ManagedOrder partial = orderManager.submit("S1", request("A1", "C-1", 5), listener);
+        ManagedOrder untouched = orderManager.submit("S2", request("A1", "C-2", 3), listener);
+        drain();
+        gateway.fills.put("ODNO-1", new OrderFillStatus(2, new BigDecimal("100"), false, false));
+        poll();
+
+        // 다음 거래일: 당일 체결 조회는 전날 주문을 돌려주지 않음
+        clock.instant = Instant.parse("2024-07-01T00:30:00Z");
+        gateway.fills.clear();
+        ManagedOrder today = orderManager.submit("S3", request("A1", "C-3", 1), listener);
+        drain();
+        poll();
+
+        assertEquals(OrderState.EXPIRED, partial.getState());
+        assertEquals(2, partial.getFilledQuantity());
+        assertEquals(OrderState.EXPIRED, untouched.getState());
+        assertEquals(List.of("C-1", "C-2"), listener.closed.stream().sorted().toList());
+        assertEquals(Map.of("A1", Set.of("ODNO-3")), gateway.lastPolled);
+        assertEquals(OrderState.ACCEPTED, today.getState());
+        assertEquals(2L, orderManager.stats().get("expired"));
+        assertEquals(1L, orderManager.stats().get("working"));
+
+        // 이미 만료된 주문은 다시 알리지 않음
+        poll();
+        assertEquals(2, listener.closed.size());
+    }
+
+    private void poll() {
+        gateway.lastPolled.clear();
+        orderManager.pollOnce();
+    }
+
+    private void drain() {
+        while (!queued.isEmpty()) {
+            queued.remove(0).run();
+        }
+    }
+
+    private static StockOrderRequest request(String accountNumber, String clientOrderId, int quantity) {
+        return StockOrderRequest.builder()
+                .accountNumber(accountNumber)
+                .stockCode("005930")
+                .orderType("매수")
+                .quantity(quantity)
+                .price(100)
+                .clientOrderId(clientOrderId)
+                .build();
+    }
+
+    private static final class FakeGateway implements OrderGateway {
+        private final List<String> submitted = new ArrayList<>();
+        private final Map<String, OrderFillStatus> fills = new HashMap<>();
+        private final Map<String, Set<String>> lastPolled = new HashMap<>();
+        private final Set<String> rejectIds = new HashSet<>();
+        private final Set<String> failIds = new HashSet<>();
+        private final Set<String> timeoutAfterPlacingIds = new HashSet<>(); // 증권사 접수 후 응답만 유실
+        private final Map<String, StockOrderRequest> brokerOrders = new LinkedHashMap<>();
+        private int lookups;
+
+        @Override
+        public StockOrderResponse submit(StockOrderRequest request) {
+            submitted.add(request.getClientOrderId());
+            if (failIds.contains(request.getClientOrderId())) {
+                throw new IllegalStateException("Read timed out");
+            }
+            if (rejectIds.contains(request.getClientOrderId())) {
+                return StockOrderResponse.builder().errorCode("APBK0919").errorMessage("주문가능금액 초과").build();
+            }
+            String orderNumber = "ODNO-" + submitted.size();
+            brokerOrders.put(orderNumber, request);
+            if (timeoutAfterPlacingIds.contains(request.getClientOrderId())) {
+                throw new IllegalStateException("Read timed out");
+            }
+            return StockOrderResponse.builder().orderNumber(orderNumber).build();
+        }
+
+        @Override
+        public String findOrderNumber(StockOrderRequest request, LocalDateTime submittedAt, Collection<String> excludedOrderNumbers) {
+            lookups++;
+            for (Map.Entry<String, StockOrderRequest> order : brokerOrders.entrySet()) {
+                StockOrderRequest placed = order.getValue();
+                if (!excludedOrderNumbers.contains(order.getKey())
+                        && placed.getStockCode().equals(request.getStockCode())
+                        && placed.getOrderType().equals(request.getOrderType())
+                        && placed.getQuantity().equals(request.getQuantity())) {
+                    return order.getKey();
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Map<String, OrderFillStatus> fetchStatuses(String accountNumber, Collection<String> orderNumbers) {
+            lastPolled.put(accountNumber, Set.copyOf(orderNumbers));
+            Map<String, OrderFillStatus> statuses = new HashMap<>();
+            for (String orderNumber : orderNumbers) {
+                if (fills.containsKey(orderNumber)) {
+                    statuses.put(orderNumber, fills.get(orderNumber));
+                }
+            }
+            return statuses;
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("Asia/Seoul");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    private static final class RecordingListener implements OrderListener {
+        private final List<String> fills = new ArrayList<>();
+        private final List<String> closed = new ArrayList<>();
+
+        @Override
+        public void onFill(ManagedOrder order, int quantity, BigDecimal price) {
+            fills.add(order.getClientOrderId() + ":" + quantity + "@" + price);
+        }
+
+        @Override
+        public void onClosed(ManagedOrder order) {
+            closed.add(order.getClientOrderId());
+        }
+    }
+}
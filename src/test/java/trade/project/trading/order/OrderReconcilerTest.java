@@ -0,0 +1,155 @@
+package trade.project.trading.order;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import trade.project.api.dto.StockOrderRequest;
+import trade.project.api.dto.StockOrderResponse;
+import trade.project.trading.entity.TradingRecord;
+import trade.project.trading.repository.TradingRecordRepository;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("매매 기록 체결 대사 테스트")
+class OrderReconcilerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 28, 10, 0);
+
+    private final TradingRecordRepository repository = mock(TradingRecordRepository.class);
+    private final Map<String, OrderFillStatus> fills = new HashMap<>();
+    private final List<String> queriedAccounts = new ArrayList<>();
+    private final List<TradingRecord> saved = new ArrayList<>();
+
+    private OrderReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        OrderGateway gateway = new OrderGateway() {
+            @Override
+            public StockOrderResponse submit(StockOrderRequest request) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Map<String, OrderFillStatus> fetchStatuses(String accountNumber, Collection<String> orderNumbers) {
+                queriedAccounts.add(accountNumber);
+                if ("BROKEN".equals(accountNumber)) {
+                    throw new IllegalStateException("서킷 열림");
+                }
+                Map<String, OrderFillStatus> statuses = new HashMap<>();
+                for (String orderNumber : orderNumbers) {
+                    if (fills.containsKey(orderNumber)) {
+                        statuses.put(orderNumber, fills.get(orderNumber));
+                    }
+                }
+                return statuses;
+            }
+
+            @Override
+            public String findOrderNumber(StockOrderRequest request, LocalDateTime submittedAt, Collection<String> excludedOrderNumbers) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+            saved.addAll(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        reconciler = new OrderReconciler(gateway, repository, null,
+                Clock.fixed(Instant.parse("2024-06-28T01:00:00Z"), ZoneId.of("Asia/Seoul")));
+    }
+
+    @Test
+    @DisplayName("계좌당 한 번 조회하고 바뀐 기록만 한 번에 저장")
+    void reconcile_OneQueryPerAccountAndSingleBatchWrite() {
+        // Given: 계좌 A1 미체결 3건, 계좌 A2 미체결 1건
+        TradingRecord filled = record("A1", "0001", 10, null);
+        TradingRecord partial = record("A1", "0002", 10, null);
+        TradingRecord unchanged = record("A1", "0003", 10, null);
+        TradingRecord cancelled = record("A2", "0004", 5, null);
+        openRecords(filled, partial, unchanged, cancelled);
+        fills.put("0001", new OrderFillStatus(10, new BigDecimal("70100"), false, false));
+        fills.put("0002", new OrderFillStatus(4, new BigDecimal("70050.5"), false, false));
+        fills.put("0003", new OrderFillStatus(0, null, false, false));
+        fills.put("0004", new OrderFillStatus(0, null, false, true));
+
+        // When
+        Map<String, Object> result = reconciler.reconcile();
+
+        // Then
+        assertEquals(List.of("A1", "A2"), queriedAccounts);
+        verify(repository, times(1)).saveAll(anyList());
+        assertEquals(List.of(filled, partial, cancelled), sortByOrderNumber(saved));
+        assertEquals(3, result.get("updated"));
+        assertEquals(4, result.get("checked"));
+
+        assertEquals("체결", filled.getOrderStatus());
+        assertEquals(10, filled.getExecutedQuantity());
+        assertEquals(70100, filled.getExecutedPrice());
+        assertEquals(701_000L, filled.getTotalAmount());
+        assertEquals(NOW, filled.getExecutionTime());
+        assertEquals("부분체결", partial.getOrderStatus());
+        assertEquals(70051, partial.getExecutedPrice());
+        assertEquals("접수완료", unchanged.getOrderStatus());
+        assertEquals("취소", cancelled.getOrderStatus());
+    }
+
+    @Test
+    @DisplayName("바뀐 기록이 없으면 저장하지 않고, 조회 실패 계좌는 다음 실행에서 다시 대사")
+    void reconcile_NoChangesAndFailedAccount() {
+        TradingRecord record = record("BROKEN", "0001", 10, null);
+        TradingRecord partial = record("A1", "0002", 10, 4);
+        openRecords(record, partial);
+        fills.put("0002", new OrderFillStatus(3, new BigDecimal("70000"), false, false)); // 늦게 도착한 이전 응답
+
+        Map<String, Object> result = reconciler.reconcile();
+
+        verify(repository, never()).saveAll(any());
+        assertEquals(List.of("BROKEN"), result.get("failedAccounts"));
+        assertEquals(4, partial.getExecutedQuantity());
+        assertEquals(1L, reconciler.stats().get("accountFailures"));
+        assertEquals(2L, reconciler.stats().get("accountQueries"));
+    }
+
+    private void openRecords(TradingRecord... records) {
+        when(repository.findByOrderStatusInAndErrorCodeIsNullAndOrderDateTimeGreaterThanEqual(
+                OrderReconciler.OPEN_STATUSES, NOW.toLocalDate().atStartOfDay()))
+                .thenReturn(List.of(records));
+    }
+
+    private static TradingRecord record(String accountNumber, String orderNumber, int quantity, Integer executedQuantity) {
+        return TradingRecord.builder()
+                .accountNumber(accountNumber)
+                .orderNumber(orderNumber)
+                .stockCode("005930")
+                .orderType("매수")
+                .quantity(quantity)
+                .price(70000)
+                .orderStatus(executedQuantity != null ? "부분체결" : "접수완료")
+                .executedQuantity(executedQuantity)
+                .build();
+    }
+
+    private static List<TradingRecord> sortByOrderNumber(List<TradingRecord> records) {
+        List<TradingRecord> sorted = new ArrayList<>(records);
+        sorted.sort((a, b) -> a.getOrderNumber().compareTo(b.getOrderNumber()));
+        return sorted;
+    }
+}
@@ -0,0 +1,121 @@
+package trade.project.trading.risk;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import trade.project.trading.dto.OrderGuardStatus;
+import trade.project.trading.dto.OrderThrottleRequest;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("킬 스위치/주문 빈도 제한 테스트")
+class OrderGuardTest {
+
+    private static final String ACCOUNT = "1234567890";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private OrderGuard orderGuard;
+
+    @BeforeEach
+    void setUp() {
+        orderGuard = new OrderGuard(nanos::get, Clock.fixed(Instant.parse("2024-03-04T00:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("킬 스위치 작동 시 즉시 차단, 해제 후 재개")
+    void killSwitch_BlocksUntilReleased() {
+        assertTrue(orderGuard.engageKillSwitch("장 시작 이상 체결"));
+        assertFalse(orderGuard.engageKillSwitch("중복 작동"));
+
+        assertTrue(orderGuard.isKillSwitchEngaged());
+        assertEquals(OrderGuardResult.KILL_SWITCH, orderGuard.tryAcquire(ACCOUNT, "005930"));
+        OrderGuardStatus engaged = orderGuard.status();
+        assertEquals("장 시작 이상 체결", engaged.getKillSwitchReason());
+        assertNotNull(engaged.getKillSwitchEngagedAt());
+
+        assertTrue(orderGuard.releaseKillSwitch());
+        assertFalse(orderGuard.releaseKillSwitch());
+
+        assertEquals(OrderGuardResult.ALLOWED, orderGuard.tryAcquire(ACCOUNT, "005930"));
+        OrderGuardStatus status = orderGuard.status();
+        assertFalse(status.getKillSwitchEngaged());
+        assertNull(status.getKillSwitchReason());
+        assertEquals(1L, status.getBlockedOrders());
+        assertEquals(1L, status.getAllowedOrders());
+    }
+
+    @Test
+    @DisplayName("종목 한도는 종목별로 적용되고 윈도우가 지나면 복구")
+    void tryAcquire_SymbolLimit() {
+        for (int i = 0; i < OrderGuard.DEFAULT_SYMBOL_LIMIT; i++) {
+            assertEquals(OrderGuardResult.ALLOWED, orderGuard.tryAcquire(ACCOUNT, "005930"));
+        }
+        assertEquals(OrderGuardResult.SYMBOL_THROTTLED, orderGuard.tryAcquire(ACCOUNT, "005930"));
+        assertEquals(OrderGuardResult.ALLOWED, orderGuard.tryAcquire(ACCOUNT, "000660"));
+
+        advanceMillis(OrderGuard.DEFAULT_WINDOW_MILLIS);
+
+        assertEquals(OrderGuardResult.ALLOWED, orderGuard.tryAcquire(ACCOUNT, "005930"));
+        assertEquals(1L, orderGuard.status().getThrottledOrders());
+    }
+
+    @Test
+    @DisplayName("고정 구간 경계에서도 윈도우 안의 주문 수는 한도를 넘지 않음")
+    void tryAcquire_SlidingWindowAcrossBoundary() {
+        advanceMillis(900);
+        for (int i = 0; i < OrderGuard.DEFAULT_SYMBOL_LIMIT; i++) {
+            assertEquals(OrderGuardResult.ALLOWED, orderGuard.tryAcquire(ACCOUNT, "005930"));
+        }
+
+        advanceMillis(200); // 1.1초: 고정 구간이면 새 구간이지만 최근 1초 안에 3건
+        assertEquals(OrderGuardResult.SYMBOL_THROTTLED, orderGuard.tryAcquire(ACCOUNT, "005930"));
+
+        advanceMillis(800); // 1.9초: 0.9초 주문이 윈도우를 벗어남
+        assertEquals(OrderGuardResult.ALLOWED, orderGuard.tryAcquire(ACCOUNT, "005930"));
+    }
+
+    @Test
+    @DisplayName("계좌 한도 초과 시 종목 윈도우 기록은 취소")
+    void tryAcquire_AccountLimitRefundsSymbol() {
+        orderGuard.updateThrottle(OrderThrottleRequest.builder().accountLimit(1).symbolLimit(1).build());
+
+        assertEquals(OrderGuardResult.ALLOWED, orderGuard.tryAcquire(ACCOUNT, "005930"));
+        advanceMillis(500);
+        assertEquals(OrderGuardResult.ACCOUNT_THROTTLED, orderGuard.tryAcquire(ACCOUNT, "000660"));
+        assertEquals(OrderGuardResult.ALLOWED, orderGuard.tryAcquire("9876543210", "000660")); // 다른 계좌
+
+        advanceMillis(500); // 첫 주문만 윈도우를 벗어남
+        assertEquals(OrderGuardResult.ALLOWED, orderGuard.tryAcquire(ACCOUNT, "000660"));
+    }
+
+    @Test
+    @DisplayName("한도 0이면 제한 없음")
+    void updateThrottle_ZeroDisablesLimit() {
+        orderGuard.updateThrottle(OrderThrottleRequest.builder().accountLimit(0).symbolLimit(0).windowMillis(500L).build());
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(OrderGuardResult.ALLOWED, orderGuard.tryAcquire(ACCOUNT, "005930"));
+        }
+        assertEquals(500L, orderGuard.status().getWindowMillis());
+    }
+
+    @Test
+    @DisplayName("잘못된 주문 빈도 한도 변경 예외")
+    void updateThrottle_InvalidValues_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> orderGuard.updateThrottle(
+                OrderThrottleRequest.builder().accountLimit(-1).build()));
+        assertThrows(IllegalArgumentException.class, () -> orderGuard.updateThrottle(
+                OrderThrottleRequest.builder().windowMillis(0L).build()));
+        assertThrows(IllegalArgumentException.class, () -> orderGuard.updateThrottle(null));
+    }
+
+    private void advanceMillis(long millis) {
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
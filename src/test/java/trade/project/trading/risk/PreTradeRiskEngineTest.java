@@ -0,0 +1,261 @@
+package trade.project.trading.risk;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import trade.project.trading.dto.AutoTradingStrategy;
+import trade.project.trading.dto.RiskLedgerSnapshot;
+import trade.project.trading.dto.RiskLimitRequest;
+import trade.project.trading.enums.MarketType;
+import trade.project.trading.enums.TopNasdaqStocks;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("주문 전 리스크 엔진 테스트")
+class PreTradeRiskEngineTest {
+
+    private MutableClock clock;
+    private PreTradeRiskEngine riskEngine;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-03-04T01:00:00Z")); // 한국 시간 10:00
+        riskEngine = new PreTradeRiskEngine(clock);
+        // 투자금 1,000만원: 포지션 한도 100만원, 주문 한도 50만원, 일일 손실 20만원, 낙폭 10%, 일일 3회
+        riskEngine.register(strategy("S1", new BigDecimal("2"), new BigDecimal("10"), 3));
+    }
+
+    @Test
+    @DisplayName("주문 수량/금액/가격 괴리 한도")
+    void checkAndReserve_FatFingerLimits() {
+        riskEngine.onPrice("S1", 70_000);
+
+        assertEquals(RiskCheckResult.ORDER_QUANTITY_LIMIT,
+                riskEngine.checkAndReserve("S1", true, PreTradeRiskEngine.DEFAULT_MAX_ORDER_QUANTITY + 1, 10));
+        assertEquals(RiskCheckResult.ORDER_AMOUNT_LIMIT, riskEngine.checkAndReserve("S1", true, 8, 70_000));
+        assertEquals(RiskCheckResult.PRICE_BAND, riskEngine.checkAndReserve("S1", true, 1, 77_000));
+        assertEquals(RiskCheckResult.INVALID_ORDER, riskEngine.checkAndReserve("S1", true, 0, 70_000));
+        assertEquals(RiskCheckResult.UNKNOWN_STRATEGY, riskEngine.checkAndReserve("NONE", true, 1, 70_000));
+        assertEquals(RiskCheckResult.APPROVED, riskEngine.checkAndReserve("S1", true, 7, 70_000));
+
+        RiskLedgerSnapshot snapshot = riskEngine.snapshot();
+        assertEquals(5L, snapshot.getRejectedChecks());
+        assertEquals(6L, snapshot.getTotalChecks());
+        assertEquals(1L, snapshot.getRejectionsByReason().get("PRICE_BAND"));
+    }
+
+    @Test
+    @DisplayName("포지션 한도는 보유 원가와 체결 대기 매수를 합산, 해제 시 복구")
+    void checkAndReserve_PositionLimit() {
+        assertEquals(RiskCheckResult.APPROVED, riskEngine.checkAndReserve("S1", true, 7, 70_000));
+        riskEngine.onFill("S1", true, 7, 70_000);
+        assertEquals(RiskCheckResult.APPROVED, riskEngine.checkAndReserve("S1", true, 7, 70_000)); // 98만원 (대기)
+        assertEquals(RiskCheckResult.POSITION_LIMIT, riskEngine.checkAndReserve("S1", true, 1, 70_000));
+
+        riskEngine.release("S1", true, 7, 70_000);
+
+        assertEquals(RiskCheckResult.APPROVED, riskEngine.checkAndReserve("S1", true, 1, 70_000));
+        RiskLedgerSnapshot.StrategyExposure exposure = riskEngine.snapshot().getStrategies().get(0);
+        assertEquals(7L, exposure.getPosition());
+        assertEquals(0, new BigDecimal("560000").compareTo(exposure.getExposure()));
+        assertEquals(2, exposure.getDailyTrades());
+    }
+
+    @Test
+    @DisplayName("일부 체결 후 잔량 해제 시 체결분만 포지션에 남고 거래 횟수는 유지")
+    void releaseRemainder_AfterPartialFill() {
+        assertEquals(RiskCheckResult.APPROVED, riskEngine.checkAndReserve("S1", true, 7, 70_000));
+        riskEngine.onFill("S1", true, 3, 70_000);
+
+        riskEngine.releaseRemainder("S1", true, 4, 70_000);
+
+        assertEquals(RiskCheckResult.APPROVED, riskEngine.checkAndReserve("S1", true, 7, 70_000)); // 21만원 + 49만원
+        RiskLedgerSnapshot.StrategyExposure exposure = riskEngine.snapshot().getStrategies().get(0);
+        assertEquals(3L, exposure.getPosition());
+        assertEquals(0, new BigDecimal("700000").compareTo(exposure.getExposure()));
+        assertEquals(2, exposure.getDailyTrades());
+    }
+
+    @Test
+    @DisplayName("계좌 노출 한도는 전략 합산 기준, 전략 제거 시 해제")
+    void checkAndReserve_AccountExposureLimit() {
+        riskEngine.register(strategy("S2", null, null, 0));
+        riskEngine.updateLimits(RiskLimitRequest.builder().domesticExposureLimit(new BigDecimal("500000")).build());
+
+        assertEquals(RiskCheckResult.APPROVED, riskEngine.checkAndReserve("S1", true, 7, 70_000));
+        riskEngine.onFill("S1", true, 7, 70_000);
+        assertEquals(RiskCheckResult.ACCOUNT_EXPOSURE_LIMIT, riskEngine.checkAndReserve("S2", true, 1, 70_000));
+
+        riskEngine.unregister("S1");
+
+        assertEquals(RiskCheckResult.APPROVED, riskEngine.checkAndReserve("S2", true, 1, 70_000));
+        assertEquals(0, new BigDecimal("70000").compareTo(accountExposure(MarketType.DOMESTIC)));
+    }
+
+    @Test
+    @DisplayName("일일 거래 횟수는 날짜가 바뀌면 초기화")
+    void checkAndReserve_DailyTradeLimitResetsNextDay() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(RiskCheckResult.APPROVED, riskEngine.checkAndReserve("S1", true, 1, 70_000));
+        }
+        assertEquals(RiskCheckResult.DAILY_TRADE_LIMIT, riskEngine.checkAndReserve("S1", true, 1, 70_000));
+
+        clock.advance(Duration.ofDays(1));
+
+        assertEquals(RiskCheckResult.APPROVED, riskEngine.checkAndReserve("S1", true, 1, 70_000));
+    }
+
+    @Test
+    @DisplayName("일일 손실 한도 초과 시 매수만 거절, 보유 물량 매도는 허용")
+    void onPrice_DailyLossBlocksBuysButAllowsExit() {
+        riskEngine.checkAndReserve("S1", true, 7, 70_000);
+        riskEngine.onFill("S1", true, 7, 70_000);
+
+        assertEquals(RiskCheckResult.APPROVED, riskEngine.onPrice("S1", 50_000));     // -14만원
+        assertEquals(RiskCheckResult.DAILY_LOSS_LIMIT, riskEngine.onPrice("S1", 40_000)); // -21만원
+
+        assertEquals(RiskCheckResult.DAILY_LOSS_LIMIT, riskEngine.checkAndReserve("S1", true, 1, 40_000));
+        assertEquals(RiskCheckResult.INSUFFICIENT_POSITION, riskEngine.checkAndReserve("S1", false, 8, 40_000));
+        assertEquals(RiskCheckResult.APPROVED, riskEngine.checkAndReserve("S1", false, 7, 40_000));
+        riskEngine.onFill("S1", false, 7, 40_000);
+
+        RiskLedgerSnapshot.StrategyExposure exposure = riskEngine.snapshot().getStrategies().get(0);
+        assertEquals(0L, exposure.getPosition());
+        assertEquals(0, new BigDecimal("-210000").compareTo(exposure.getRealizedPnL()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(accountExposure(MarketType.DOMESTIC)));
+    }
+
+    @Test
+    @DisplayName("자산 고점 대비 낙폭 초과 시 매수 거절")
+    void onPrice_MaxDrawdownBlocksBuys() {
+        riskEngine.register(strategy("S2", null, new BigDecimal("1"), 0)); // 낙폭 1%, 일일 손실 한도 없음
+        riskEngine.checkAndReserve("S2", true, 7, 70_000);
+        riskEngine.onFill("S2", true, 7, 70_000);
+
+        riskEngine.onPrice("S2", 80_000);   // 고점 1,007만원
+        assertEquals(RiskCheckResult.MAX_DRAWDOWN, riskEngine.onPrice("S2", 65_000)); // 996.5만원 (-1.04%)
+        assertEquals(RiskCheckResult.MAX_DRAWDOWN, riskEngine.checkAndReserve("S2", true, 1, 65_000));
+    }
+
+    @Test
+    @DisplayName("동시 주문에도 포지션 한도를 넘지 않음")
+    void checkAndReserve_ConcurrentReservationsNeverExceedLimit() throws Exception {
+        riskEngine.register(strategy("S2", null, null, 0)); // 포지션 한도 100만원, 일일 횟수 제한 없음
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                int approved = 0;
+                for (int i = 0; i < 1_000; i++) {
+                    if (riskEngine.checkAndReserve("S2", true, 1, 70_000).isApproved()) {
+                        approved++;
+                    }
+                }
+                return approved;
+            }));
+        }
+        start.countDown();
+        int approved = 0;
+        for (Future<Integer> future : futures) {
+            approved += future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(14, approved); // 14 × 70,000 = 98만원
+        assertEquals(0, new BigDecimal("980000").compareTo(accountExposure(MarketType.DOMESTIC)));
+    }
+
+    @Test
+    @DisplayName("해외 기본 전략은 달러 시세로 매수 예약 (한도/계좌 노출 모두 달러)")
+    void checkAndReserve_DefaultNasdaqStrategy_ReservesBuyInUsd() {
+        AutoTradingStrategy aapl = AutoTradingStrategy.createDefaultStrategy(TopNasdaqStocks.AAPL);
+        riskEngine.register(aapl);
+        riskEngine.onPrice(aapl.getStrategyId(), 189.37);
+
+        // 포지션 한도 $1,000 안에서 1주 매수
+        assertEquals(RiskCheckResult.APPROVED, riskEngine.checkAndReserve(aapl.getStrategyId(), true, aapl.getBuyQuantity(), 189.37));
+        assertEquals(0, new BigDecimal("189.37").compareTo(accountExposure(MarketType.FOREIGN)));
+        assertEquals(RiskCheckResult.POSITION_LIMIT, riskEngine.checkAndReserve(aapl.getStrategyId(), true, 5, 189.37));
+    }
+
+    @Test
+    @DisplayName("잘못된 공통 한도 변경 예외")
+    void updateLimits_InvalidValues_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> riskEngine.updateLimits(
+                RiskLimitRequest.builder().maxOrderQuantity(0L).build()));
+        assertThrows(IllegalArgumentException.class, () -> riskEngine.updateLimits(
+                RiskLimitRequest.builder().foreignExposureLimit(new BigDecimal("-1")).build()));
+        assertThrows(IllegalArgumentException.class, () -> riskEngine.updateLimits(null));
+    }
+
+    private BigDecimal accountExposure(MarketType marketType) {
+        return riskEngine.snapshot().getAccounts().stream()
+                .filter(account -> account.getMarketType().equals(marketType.name()))
+                .findFirst()
+                .orElseThrow()
+                .getExposure();
+    }
+
+    private static AutoTradingStrategy strategy(String strategyId, BigDecimal maxDailyLoss, BigDecimal maxDrawdown,
+                                                int maxDailyTrades) {
+        return AutoTradingStrategy.builder()
+                .strategyId(strategyId)
+                .marketType(MarketType.DOMESTIC)
+                .stockCode("005930")
+                .totalInvestment(new BigDecimal("10000000"))
+                .maxPositionSize(new BigDecimal("0.1"))
+                .maxOrderAmount(new BigDecimal("500000"))
+                .maxDailyLoss(maxDailyLoss)
+                .maxDrawdown(maxDrawdown)
+                .maxDailyTrades(maxDailyTrades)
+                .build();
+    }
+
+    /**
+     * 테스트용 수동 시계
+     */
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return Clock.fixed(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
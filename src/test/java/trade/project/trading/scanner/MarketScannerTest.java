@@ -0,0 +1,206 @@
+package trade.project.trading.scanner;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import trade.project.trading.document.PriceQueryRecord;
+import trade.project.trading.dto.MarketScanResult;
+import trade.project.trading.dto.ScanCandidate;
+import trade.project.trading.dto.ScannerCriteriaRequest;
+import trade.project.trading.enums.MarketType;
+import trade.project.trading.enums.TopKospiStocks;
+import trade.project.trading.service.PriceQueryRecordService;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("시장 스캐너 테스트")
+class MarketScannerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 4, 15, 40);
+
+    @Mock
+    private PriceQueryRecordService priceQueryRecordService;
+
+    private final Map<String, List<PriceQueryRecord>> records = new HashMap<>();
+    private MarketScanner marketScanner;
+
+    @BeforeEach
+    void setUp() {
+        marketScanner = new MarketScanner(priceQueryRecordService,
+                Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+        // 요청 구간(시작 제외, 끝 제외)에 맞는 기록만 돌려준다
+        when(priceQueryRecordService.streamSuccessRecordsAsc(anyString(), eq("daily"), any(), any()))
+                .thenAnswer(invocation -> {
+                    String stockCode = invocation.getArgument(0);
+                    LocalDateTime from = invocation.getArgument(2);
+                    LocalDateTime to = invocation.getArgument(3);
+                    return records.getOrDefault(stockCode, List.of()).stream()
+                            .filter(record -> record.getQueryDateTime().isAfter(from) && record.getQueryDateTime().isBefore(to));
+                });
+    }
+
+    @Test
+    @DisplayName("섹터별로 과매도+거래량 급증 종목을 거래량 급증만 있는 종목보다 앞에 둔다")
+    void scan_RanksCandidatesBySector() {
+        // Given: 삼성전자는 연속 하락 후 거래량 급증, SK하이닉스는 보합 후 거래량 급증, LG는 신호 없음
+        addBars("005930", declining(30, 80000, 500), volumes(30, 1000, 4000));
+        addBars("000660", flat(30, 150000), volumes(30, 1000, 4000));
+        addBars("003550", flat(30, 90000), volumes(30, 1000, 1000));
+
+        // When
+        MarketScanResult result = marketScanner.scan(MarketType.DOMESTIC);
+
+        // Then
+        assertEquals("DOMESTIC", result.getMarketType());
+        assertEquals(TopKospiStocks.values().length, result.getUniverseSize());
+        assertEquals(3, result.getReadySymbols());
+        assertEquals(90, result.getNewBars());
+
+        List<ScanCandidate> electronics = result.getSectors().get("전자");
+        assertEquals(2, electronics.size());
+        ScanCandidate first = electronics.get(0);
+        assertEquals("005930", first.getStockCode());
+        assertEquals(1, first.getRank());
+        assertEquals(List.of("RSI_OVERSOLD", "VOLUME_SPIKE"), first.getSignals());
+        assertEquals(0.0, first.getRsi(), 1e-9);
+        assertEquals(4.0, first.getVolumeRatio(), 1e-9);
+        assertEquals(3.0, first.getScore(), 1e-9);
+
+        ScanCandidate second = electronics.get(1);
+        assertEquals("000660", second.getStockCode());
+        assertEquals(List.of("VOLUME_SPIKE"), second.getSignals());
+        assertEquals(50.0, second.getRsi(), 1e-9);
+
+        assertTrue(result.getSectors().get("은행").isEmpty());
+        assertSame(electronics, marketScanner.getCandidates(MarketType.DOMESTIC, "전자"));
+    }
+
+    @Test
+    @DisplayName("다음 틱에는 새 기록만 반영하고 이동평균 상향 돌파를 잡는다")
+    void scan_IngestsOnlyNewBarsAndDetectsGoldenCross() {
+        // Given
+        addBars("005380", zigzag(25, 200000), volumes(25, 1000, 1000));
+        MarketScanResult first = marketScanner.scan(MarketType.DOMESTIC);
+        assertEquals(25, first.getNewBars());
+        assertTrue(first.getSectors().get("운수장비").isEmpty());
+
+        // When: 급등 봉 하나 추가
+        List<PriceQueryRecord> bars = records.get("005380");
+        bars.add(record("005380", NOW.minusHours(1), 230000, 1000L));
+        MarketScanResult second = marketScanner.scan(MarketType.DOMESTIC);
+
+        // Then
+        assertEquals(1, second.getNewBars());
+        assertEquals(2L, second.getScanCount());
+        ScanCandidate candidate = second.getSectors().get("운수장비").get(0);
+        assertEquals("005380", candidate.getStockCode());
+        assertTrue(candidate.getSignals().contains("GOLDEN_CROSS"));
+        assertTrue(candidate.getSmaShort() > candidate.getSmaLong());
+    }
+
+    @Test
+    @DisplayName("이력이 부족한 종목은 후보에서 빠지고 지표는 null")
+    void scan_InsufficientHistory_NoCandidates() {
+        addBars("005930", declining(5, 80000, 500), volumes(5, 1000, 9000));
+
+        MarketScanResult result = marketScanner.scan(MarketType.DOMESTIC);
+
+        assertEquals(0, result.getReadySymbols());
+        assertTrue(result.getSectors().get("전자").isEmpty());
+        assertTrue(marketScanner.getCandidates(MarketType.FOREIGN, "Technology").isEmpty());
+    }
+
+    @Test
+    @DisplayName("스캐너 기준 변경: 섹터별 후보 수 제한과 잘못된 값 거부")
+    void updateCriteria_AppliesTopNAndValidates() {
+        addBars("005930", flat(30, 80000), volumes(30, 1000, 3000));
+        addBars("000660", flat(30, 150000), volumes(30, 1000, 5000));
+        marketScanner.updateCriteria(ScannerCriteriaRequest.builder().topN(1).build());
+
+        List<ScanCandidate> electronics = marketScanner.scan(MarketType.DOMESTIC).getSectors().get("전자");
+
+        assertEquals(1, electronics.size());
+        assertEquals("000660", electronics.get(0).getStockCode());
+        assertEquals(1, marketScanner.getCriteria().getTopN());
+        assertEquals(30.0, marketScanner.getCriteria().getRsiOversold());
+
+        assertThrows(IllegalArgumentException.class, () -> marketScanner.updateCriteria(
+                ScannerCriteriaRequest.builder().rsiOversold(80.0).build()));
+        assertThrows(IllegalArgumentException.class, () -> marketScanner.updateCriteria(
+                ScannerCriteriaRequest.builder().volumeSpikeRatio(1.0).build()));
+        assertThrows(IllegalArgumentException.class, () -> marketScanner.updateCriteria(
+                ScannerCriteriaRequest.builder().topN(0).build()));
+        assertThrows(IllegalArgumentException.class, () -> marketScanner.updateCriteria(null));
+    }
+
+    private void addBars(String stockCode, int[] prices, long[] volumes) {
+        List<PriceQueryRecord> bars = new ArrayList<>();
+        LocalDateTime start = NOW.minusDays(prices.length);
+        for (int i = 0; i < prices.length; i++) {
+            bars.add(record(stockCode, start.plusDays(i), prices[i], volumes[i]));
+        }
+        records.put(stockCode, bars);
+    }
+
+    private static int[] declining(int count, int start, int step) {
+        int[] prices = new int[count];
+        for (int i = 0; i < count; i++) {
+            prices[i] = start - i * step;
+        }
+        return prices;
+    }
+
+    /**
+     * 200 하락, 100 상승을 반복 (RSI 약 33, 과매도 아님)
+     */
+    private static int[] zigzag(int count, int start) {
+        int[] prices = new int[count];
+        for (int i = 0; i < count; i++) {
+            prices[i] = start - (i / 2) * 100 - (i % 2) * 200;
+        }
+        return prices;
+    }
+
+    private static int[] flat(int count, int price) {
+        int[] prices = new int[count];
+        Arrays.fill(prices, price);
+        return prices;
+    }
+
+    /**
+     * 마지막 봉만 lastVolume, 나머지는 baseVolume
+     */
+    private static long[] volumes(int count, long baseVolume, long lastVolume) {
+        long[] volumes = new long[count];
+        Arrays.fill(volumes, baseVolume);
+        volumes[count - 1] = lastVolume;
+        return volumes;
+    }
+
+    private static PriceQueryRecord record(String stockCode, LocalDateTime time, int price, Long volume) {
+        return PriceQueryRecord.builder()
+                .stockCode(stockCode)
+                .queryType("daily")
+                .currentPrice(price)
+                .tradingVolume(volume)
+                .queryDateTime(time)
+                .build();
+    }
+}
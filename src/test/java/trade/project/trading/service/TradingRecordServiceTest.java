@@ -0,0 +1,92 @@
+package trade.project.trading.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import trade.project.api.dto.ForeignStockOrderRequest;
+import trade.project.api.dto.ForeignStockOrderResponse;
+import trade.project.api.service.FxRateService;
+import trade.project.trading.entity.TradingRecord;
+import trade.project.trading.repository.TradingRecordRepository;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TradingRecordServiceTest {
+
+    @Mock
+    private TradingRecordRepository tradingRecordRepository;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @Mock
+    private FxRateService fxRateService;
+
+    @InjectMocks
+    private TradingRecordService tradingRecordService;
+
+    private ForeignStockOrderRequest orderRequest;
+    private ForeignStockOrderResponse orderResponse;
+
+    @BeforeEach
+    void setUp() {
+        orderRequest = ForeignStockOrderRequest.builder()
+                .accountNumber("FOREIGN123456")
+                .stockCode("AAPL")
+                .orderType("매수")
+                .quantity(10)
+                .price(new BigDecimal("189.37"))
+                .priceType("LIMIT")
+                .orderCategory("일반")
+                .currency("USD")
+                .build();
+        orderResponse = ForeignStockOrderResponse.builder()
+                .orderNumber("F-1")
+                .companyName("Apple Inc.")
+                .build();
+        when(tradingRecordRepository.save(any(TradingRecord.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void saveForeignTradingRecord_WithExchangeRate_StoresKrwAmounts() {
+        // Given
+        when(fxRateService.usdKrw()).thenReturn(new BigDecimal("1350"));
+
+        // When
+        TradingRecord record = tradingRecordService.saveForeignTradingRecord(orderRequest, orderResponse, "성공", null);
+
+        // Then: 원화 컬럼은 주문 시점 환율로 환산, 주문 통화 가격은 소수점 그대로
+        assertEquals(255650, record.getPrice());
+        assertEquals(2556495L, record.getTotalAmount());
+        assertEquals(383, record.getCommission());
+        assertEquals(new BigDecimal("189.37"), record.getUnitPrice());
+        assertEquals("USD", record.getCurrency());
+        assertEquals(new BigDecimal("1350"), record.getExchangeRate());
+    }
+
+    @Test
+    void saveForeignTradingRecord_ExchangeRateUnavailable_LeavesKrwColumnsEmpty() {
+        // Given
+        when(fxRateService.usdKrw()).thenThrow(new IllegalStateException("환율 조회 불가"));
+
+        // When
+        TradingRecord record = tradingRecordService.saveForeignTradingRecord(orderRequest, orderResponse, "성공", null);
+
+        // Then: 달러 금액을 원화 컬럼에 넣지 않고 주문 통화 가격/통화만 남김
+        assertNull(record.getPrice());
+        assertNull(record.getTotalAmount());
+        assertNull(record.getCommission());
+        assertNull(record.getExchangeRate());
+        assertEquals(new BigDecimal("189.37"), record.getUnitPrice());
+        assertEquals("USD", record.getCurrency());
+    }
+}